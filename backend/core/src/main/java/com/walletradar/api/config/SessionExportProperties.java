@@ -0,0 +1,22 @@
+package com.walletradar.api.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * NDJSON export ({@code GET /sessions/{id}/.../export}) chunking. Rows in flight per export are
+ * bounded by {@code rowsPerChunk * prefetchChunks}, whatever the export size.
+ */
+@ConfigurationProperties(prefix = "walletradar.api.export")
+@NoArgsConstructor
+@Getter
+@Setter
+public class SessionExportProperties {
+
+    /** Rows encoded into one response buffer (and gzip flush block). */
+    private int rowsPerChunk = 200;
+    /** Encoded chunks requested ahead of the socket; the cursor is only advanced on this demand. */
+    private int prefetchChunks = 2;
+}
@@ -0,0 +1,9 @@
+package com.walletradar.api.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(SessionProgressStreamProperties.class)
+public class SessionProgressStreamConfig {
+}
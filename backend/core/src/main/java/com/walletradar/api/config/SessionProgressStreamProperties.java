@@ -0,0 +1,29 @@
+package com.walletradar.api.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Session progress stream ({@code GET /sessions/{id}/progress-stream}) cadence.
+ */
+@ConfigurationProperties(prefix = "walletradar.api.progress-stream")
+@NoArgsConstructor
+@Getter
+@Setter
+public class SessionProgressStreamProperties {
+
+    /** How often dirty marks are drained and changed views are pushed. */
+    private long tickMs = 1_000L;
+    /** Re-read views that last reported running work, for in-stage progress and marks raised on other nodes. */
+    private long activeRefreshMs = 5_000L;
+    /** Comment frame interval that keeps idle connections open through proxies. */
+    private long keepaliveMs = 15_000L;
+
+    public Duration keepalive() {
+        return Duration.ofMillis(keepaliveMs);
+    }
+}
@@ -2,6 +2,7 @@ package com.walletradar.api.controller;
 
 import com.walletradar.api.costbasis.AssetLedgerBffMapper;
 import com.walletradar.api.dto.SessionAssetLedgerResponse;
+import com.walletradar.api.portfolio.SessionReadETags;
 import com.walletradar.application.costbasis.application.port.AssetLedgerReadPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -9,6 +10,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
 
 /**
  * Session-scoped asset ledger history and debug API.
@@ -20,17 +22,23 @@ public class AssetLedgerController {
 
     private final AssetLedgerReadPort assetLedgerReadPort;
     private final AssetLedgerBffMapper assetLedgerBffMapper;
+    private final SessionReadETags sessionReadETags;
 
     @GetMapping("/{sessionId}/asset-ledger")
     public SessionAssetLedgerResponse getSessionAssetLedger(
             @PathVariable String sessionId,
-            @RequestParam String familyIdentity
+            @RequestParam String familyIdentity,
+            ServerWebExchange exchange
     ) {
         if (familyIdentity == null || familyIdentity.isBlank()) {
             throw new ApiBadRequestException("INVALID_REQUEST", "familyIdentity is required");
         }
+        String normalized = normalizedSessionIdOrThrow(sessionId);
+        if (sessionReadETags.notModified(exchange, normalized, "asset-ledger", familyIdentity.trim())) {
+            return null;
+        }
         return assetLedgerReadPort
-                .findSessionFamilyLedger(normalizedSessionIdOrThrow(sessionId), familyIdentity.trim())
+                .findSessionFamilyLedger(normalized, familyIdentity.trim())
                 .map(assetLedgerBffMapper::toResponse)
                 .orElseThrow(() -> new ApiNotFoundException("SESSION_NOT_FOUND", "Session not found"));
     }
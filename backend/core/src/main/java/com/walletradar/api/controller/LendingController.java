@@ -3,6 +3,7 @@ package com.walletradar.api.controller;
 import com.walletradar.application.lending.view.*;
 import com.walletradar.api.dto.RefreshStatusResponse;
 import com.walletradar.api.dto.SessionLendingResponse;
+import com.walletradar.api.portfolio.SessionReadETags;
 import com.walletradar.application.lending.application.LendingGroupRefreshStateService;
 import com.walletradar.application.lending.application.LendingRefreshOrchestrator;
 import com.walletradar.application.lending.application.SessionLendingQueryService;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
 
 import java.util.Locale;
 
@@ -28,10 +30,15 @@ public class LendingController {
     private final SessionLendingQueryService sessionLendingQueryService;
     private final LendingRefreshOrchestrator refreshOrchestrator;
     private final LendingGroupRefreshStateService refreshStateService;
+    private final SessionReadETags sessionReadETags;
 
     @GetMapping("/{sessionId}/lending")
-    public SessionLendingResponse getSessionLending(@PathVariable String sessionId) {
-        return loadSessionLending(normalizedSessionIdOrThrow(sessionId));
+    public SessionLendingResponse getSessionLending(@PathVariable String sessionId, ServerWebExchange exchange) {
+        String normalized = normalizedSessionIdOrThrow(sessionId);
+        if (sessionReadETags.notModified(exchange, normalized, "lending")) {
+            return null;
+        }
+        return loadSessionLending(normalized);
     }
 
     @GetMapping("/{sessionId}/lending/refresh-status")
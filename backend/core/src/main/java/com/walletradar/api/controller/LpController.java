@@ -2,6 +2,7 @@ package com.walletradar.api.controller;
 
 import com.walletradar.api.dto.RefreshStatusResponse;
 import com.walletradar.api.dto.SessionLpResponse;
+import com.walletradar.api.portfolio.SessionReadETags;
 import com.walletradar.application.liquiditypools.application.LpFieldPrecision;
 import com.walletradar.application.liquiditypools.application.LpPositionRefreshStateService;
 import com.walletradar.application.liquiditypools.application.LpPositionScope;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
 
 @RestController
 @RequestMapping("/api/v1/sessions")
@@ -27,14 +29,20 @@ public class LpController {
     private final SessionLpQueryService sessionLpQueryService;
     private final LpRefreshOrchestrator refreshOrchestrator;
     private final LpPositionRefreshStateService refreshStateService;
+    private final SessionReadETags sessionReadETags;
 
     @GetMapping("/{sessionId}/lp")
     public SessionLpResponse getSessionLp(
             @PathVariable String sessionId,
-            @RequestParam(name = "scope", defaultValue = "active") String scope
+            @RequestParam(name = "scope", defaultValue = "active") String scope,
+            ServerWebExchange exchange
     ) {
         String normalized = normalizedSessionIdOrThrow(sessionId);
-        return sessionLpQueryService.findSessionLp(normalized, LpPositionScope.fromQuery(scope))
+        LpPositionScope positionScope = LpPositionScope.fromQuery(scope);
+        if (sessionReadETags.notModified(exchange, normalized, "lp", positionScope)) {
+            return null;
+        }
+        return sessionLpQueryService.findSessionLp(normalized, positionScope)
                 .map(this::toResponse)
                 .orElseThrow(() -> new ApiNotFoundException("SESSION_NOT_FOUND", "Session not found"));
     }
@@ -43,13 +51,18 @@ public class LpController {
     public SessionLpResponse.Position getSessionLpPosition(
             @PathVariable String sessionId,
             @PathVariable String correlationId,
-            @RequestParam(name = "scope", defaultValue = "active") String scope
+            @RequestParam(name = "scope", defaultValue = "active") String scope,
+            ServerWebExchange exchange
     ) {
         String normalized = normalizedSessionIdOrThrow(sessionId);
+        LpPositionScope positionScope = LpPositionScope.fromQuery(scope);
+        if (sessionReadETags.notModified(exchange, normalized, "lp-position", correlationId, positionScope)) {
+            return null;
+        }
         return sessionLpQueryService.findSessionLpPosition(
                         normalized,
                         correlationId,
-                        LpPositionScope.fromQuery(scope)
+                        positionScope
                 )
                 .map(this::toPosition)
                 .orElseThrow(() -> new ApiNotFoundException("LP_POSITION_NOT_FOUND", "LP position not found for session"));
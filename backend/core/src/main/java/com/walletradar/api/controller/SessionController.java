@@ -19,6 +19,8 @@ import com.walletradar.api.dto.UpsertDzengiIntegrationResponse;
 import com.walletradar.api.dto.TestIntegrationRequest;
 import com.walletradar.api.dto.TestIntegrationResponse;
 import com.walletradar.api.portfolio.SessionPortfolioBffMapper;
+import com.walletradar.api.portfolio.SessionProgressStreamHub;
+import com.walletradar.api.portfolio.SessionReadETags;
 import com.walletradar.domain.common.NetworkId;
 import com.walletradar.application.session.application.SessionCommandService;
 import com.walletradar.application.portfolio.application.port.SessionDashboardReadPort;
@@ -32,6 +34,8 @@ import com.walletradar.application.custody.application.CustodyLedgerQueryService
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -42,6 +46,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
@@ -66,6 +72,8 @@ public class SessionController {
     private final SessionRefreshCommandService sessionRefreshCommandService;
     private final SessionPortfolioBffMapper sessionPortfolioBffMapper;
     private final CustodyLedgerQueryService custodyLedgerQueryService;
+    private final SessionProgressStreamHub sessionProgressStreamHub;
+    private final SessionReadETags sessionReadETags;
 
     @PostMapping
     @ResponseStatus(HttpStatus.ACCEPTED)
@@ -95,6 +103,16 @@ public class SessionController {
                 .orElseThrow(() -> new ApiNotFoundException("SESSION_NOT_FOUND", "Session not found"));
     }
 
+    /**
+     * Server-sent progress events: {@code backfill-status}, {@code lp-refresh-status} and
+     * {@code lending-refresh-status}, each carrying the same body as its polling endpoint.
+     */
+    @GetMapping(value = "/{sessionId}/progress-stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamProgress(@PathVariable String sessionId) {
+        return sessionProgressStreamHub.stream(normalizedSessionIdOrThrow(sessionId))
+                .orElseThrow(() -> new ApiNotFoundException("SESSION_NOT_FOUND", "Session not found"));
+    }
+
     @PostMapping("/{sessionId}/refresh")
     public Mono<SessionRefreshResponse> refreshSession(@PathVariable String sessionId) {
         String normalizedSessionId = normalizedSessionIdOrThrow(sessionId);
@@ -246,15 +264,23 @@ public class SessionController {
      * external custody destinations. Not part of portfolio totals, AVCO, or the accounting universe.
      */
     @GetMapping("/{sessionId}/custody-ledger")
-    public SessionCustodyLedgerResponse getCustodyLedger(@PathVariable String sessionId) {
-        return custodyLedgerQueryService.findSessionCustodyLedger(normalizedSessionIdOrThrow(sessionId))
+    public SessionCustodyLedgerResponse getCustodyLedger(@PathVariable String sessionId, ServerWebExchange exchange) {
+        String normalized = normalizedSessionIdOrThrow(sessionId);
+        if (sessionReadETags.notModified(exchange, normalized, "custody-ledger")) {
+            return null;
+        }
+        return custodyLedgerQueryService.findSessionCustodyLedger(normalized)
                 .map(this::toCustodyLedgerResponse)
                 .orElseThrow(() -> new ApiNotFoundException("SESSION_NOT_FOUND", "Session not found"));
     }
 
     @GetMapping("/{sessionId}/dashboard")
-    public SessionDashboardResponse getDashboard(@PathVariable String sessionId) {
-        return sessionDashboardReadPort.findSessionDashboard(normalizedSessionIdOrThrow(sessionId))
+    public SessionDashboardResponse getDashboard(@PathVariable String sessionId, ServerWebExchange exchange) {
+        String normalized = normalizedSessionIdOrThrow(sessionId);
+        if (sessionReadETags.notModified(exchange, normalized, "dashboard")) {
+            return null;
+        }
+        return sessionDashboardReadPort.findSessionDashboard(normalized)
                 .map(sessionPortfolioBffMapper::toDashboardResponse)
                 .orElseThrow(() -> new ApiNotFoundException("SESSION_NOT_FOUND", "Session not found"));
     }
@@ -274,7 +300,8 @@ public class SessionController {
             @RequestParam(required = false) String search,
             @RequestParam(name = "category", required = false) List<String> categories,
             @RequestParam(name = "walletId", required = false) List<String> walletIds,
-            @RequestParam(name = "networkId", required = false) List<String> networkIds
+            @RequestParam(name = "networkId", required = false) List<String> networkIds,
+            ServerWebExchange exchange
     ) {
         try {
             var query = SessionTransactionsReadPort.normalizeQuery(
@@ -285,7 +312,11 @@ public class SessionController {
                     walletIds,
                     parseNetworkIds(networkIds)
             );
-            return sessionTransactionsReadPort.findSessionTransactions(normalizedSessionIdOrThrow(sessionId), query)
+            String normalized = normalizedSessionIdOrThrow(sessionId);
+            if (sessionReadETags.notModified(exchange, normalized, "transactions", query)) {
+                return null;
+            }
+            return sessionTransactionsReadPort.findSessionTransactions(normalized, query)
                     .map(sessionPortfolioBffMapper::toSessionTransactionsResponse)
                     .orElseThrow(() -> new ApiNotFoundException("SESSION_NOT_FOUND", "Session not found"));
         } catch (IllegalArgumentException exception) {
@@ -387,7 +418,7 @@ public class SessionController {
         );
     }
 
-    private List<NetworkId> parseNetworkIds(List<String> rawNetworkIds) {
+    static List<NetworkId> parseNetworkIds(List<String> rawNetworkIds) {
         if (rawNetworkIds == null || rawNetworkIds.isEmpty()) {
             return List.of();
         }
@@ -404,7 +435,7 @@ public class SessionController {
                 .toList();
     }
 
-    private static String normalizedSessionIdOrThrow(String sessionId) {
+    static String normalizedSessionIdOrThrow(String sessionId) {
         if (sessionId == null || sessionId.isBlank()) {
             throw new ApiBadRequestException("INVALID_SESSION_ID", "sessionId is required");
         }
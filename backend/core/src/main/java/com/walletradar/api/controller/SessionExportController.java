@@ -0,0 +1,136 @@
+package com.walletradar.api.controller;
+
+import com.walletradar.api.costbasis.AssetLedgerBffMapper;
+import com.walletradar.api.portfolio.NdjsonExportWriter;
+import com.walletradar.api.portfolio.SessionPortfolioBffMapper;
+import com.walletradar.application.costbasis.application.port.AssetLedgerExportPort;
+import com.walletradar.application.portfolio.application.port.SessionTransactionsReadPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Streaming NDJSON exports of session transaction and asset ledger history.
+ *
+ * <p>One JSON object per line, oldest first, in the same shape as the paged read endpoints. The
+ * body is written straight from a Mongo cursor with backpressure (see {@link NdjsonExportWriter}),
+ * so memory stays flat however large the export. {@code gzip=true} returns a gzip attachment
+ * instead of plain NDJSON.
+ */
+@RestController
+@RequestMapping("/api/v1/sessions")
+@RequiredArgsConstructor
+public class SessionExportController {
+
+    private static final MediaType APPLICATION_GZIP = MediaType.parseMediaType("application/gzip");
+
+    private final SessionTransactionsReadPort sessionTransactionsReadPort;
+    private final AssetLedgerExportPort assetLedgerExportPort;
+    private final SessionPortfolioBffMapper sessionPortfolioBffMapper;
+    private final AssetLedgerBffMapper assetLedgerBffMapper;
+    private final NdjsonExportWriter ndjsonExportWriter;
+
+    @GetMapping("/{sessionId}/transactions/export")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> exportSessionTransactions(
+            @PathVariable String sessionId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String familyIdentity,
+            @RequestParam(name = "networkId", required = false) List<String> networkIds,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            ServerWebExchange exchange
+    ) {
+        String normalized = SessionController.normalizedSessionIdOrThrow(sessionId);
+        var query = exportQueryOrThrow(() -> SessionTransactionsReadPort.normalizeExportQuery(
+                from,
+                to,
+                familyIdentity,
+                SessionController.parseNetworkIds(networkIds)
+        ));
+        return export(
+                () -> sessionTransactionsReadPort.streamSessionTransactions(normalized, query)
+                        .orElseThrow(() -> new ApiNotFoundException("SESSION_NOT_FOUND", "Session not found")),
+                sessionPortfolioBffMapper::toTransactionItem,
+                "transactions-" + normalized,
+                gzip,
+                exchange
+        );
+    }
+
+    @GetMapping("/{sessionId}/asset-ledger/export")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> exportSessionAssetLedger(
+            @PathVariable String sessionId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String familyIdentity,
+            @RequestParam(name = "networkId", required = false) List<String> networkIds,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            ServerWebExchange exchange
+    ) {
+        String normalized = SessionController.normalizedSessionIdOrThrow(sessionId);
+        var query = exportQueryOrThrow(() -> AssetLedgerExportPort.normalizeExportQuery(
+                from,
+                to,
+                familyIdentity,
+                SessionController.parseNetworkIds(networkIds)
+        ));
+        return export(
+                () -> assetLedgerExportPort.streamSessionLedgerPoints(normalized, query)
+                        .orElseThrow(() -> new ApiNotFoundException("SESSION_NOT_FOUND", "Session not found")),
+                assetLedgerBffMapper::toLedgerPoint,
+                "asset-ledger-" + normalized,
+                gzip,
+                exchange
+        );
+    }
+
+    /**
+     * Opens the cursor off the event loop, so a missing session still maps to 404 before any
+     * byte of the body is committed.
+     */
+    private <T> Mono<ResponseEntity<Flux<DataBuffer>>> export(
+            Callable<Stream<T>> openRows,
+            Function<T, ?> toLine,
+            String fileName,
+            boolean gzip,
+            ServerWebExchange exchange
+    ) {
+        return Mono.fromCallable(openRows)
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(rows -> ResponseEntity.ok()
+                        .contentType(gzip ? APPLICATION_GZIP : MediaType.APPLICATION_NDJSON)
+                        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                                .filename(fileName + (gzip ? ".ndjson.gz" : ".ndjson"))
+                                .build()
+                                .toString())
+                        .body(ndjsonExportWriter.write(rows, toLine, gzip, exchange.getResponse().bufferFactory())));
+    }
+
+    private static <Q> Q exportQueryOrThrow(Supplier<Q> normalize) {
+        try {
+            return normalize.get();
+        } catch (IllegalArgumentException exception) {
+            throw new ApiBadRequestException("INVALID_EXPORT_QUERY", exception.getMessage());
+        }
+    }
+}
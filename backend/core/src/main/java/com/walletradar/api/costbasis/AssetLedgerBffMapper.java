@@ -149,49 +149,53 @@ public class AssetLedgerBffMapper {
                         ))
                         .toList(),
                 view.ledgerPoints().stream()
-                        .map(point -> new SessionAssetLedgerResponse.LedgerPoint(
-                                point.walletAddress(),
-                                point.networkId(),
-                                point.accountingAssetIdentity(),
-                                point.accountingFamilyIdentity(),
-                                point.familyDisplaySymbol(),
-                                point.assetSymbol(),
-                                point.assetContract(),
-                                point.normalizedTransactionId(),
-                                point.txHash(),
-                                point.correlationId(),
-                                point.lifecycleChainId(),
-                                point.matchedCounterparty(),
-                                point.blockTimestamp(),
-                                point.replaySequence(),
-                                point.normalizedType(),
-                                point.lifecycleKind(),
-                                point.lifecycleStage(),
-                                point.basisEffect(),
-                                point.protocolName(),
-                                point.quantityDelta(),
-                                point.costBasisDeltaUsd(),
-                                point.realisedPnlDeltaUsd(),
-                                point.gasDeltaUsd(),
-                                point.quantityBefore(),
-                                point.quantityAfter(),
-                                point.totalCostBasisBeforeUsd(),
-                                point.totalCostBasisAfterUsd(),
-                                point.avcoBeforeUsd(),
-                                point.avcoAfterUsd(),
-                                point.netTotalCostBasisBeforeUsd(),
-                                point.netTotalCostBasisAfterUsd(),
-                                point.netAvcoBeforeUsd(),
-                                point.netAvcoAfterUsd(),
-                                point.basisBackedQuantityAfter(),
-                                point.uncoveredQuantityDelta(),
-                                point.quantityShortfallAfter(),
-                                point.uncoveredQuantityAfter(),
-                                point.hasIncompleteHistoryAfter(),
-                                point.hasUnresolvedFlagsAfter(),
-                                point.unresolvedFlagCountAfter()
-                        ))
+                        .map(this::toLedgerPoint)
                         .toList()
         );
     }
+
+    public SessionAssetLedgerResponse.LedgerPoint toLedgerPoint(AssetLedgerQueryService.LedgerPointView point) {
+        return new SessionAssetLedgerResponse.LedgerPoint(
+                point.walletAddress(),
+                point.networkId(),
+                point.accountingAssetIdentity(),
+                point.accountingFamilyIdentity(),
+                point.familyDisplaySymbol(),
+                point.assetSymbol(),
+                point.assetContract(),
+                point.normalizedTransactionId(),
+                point.txHash(),
+                point.correlationId(),
+                point.lifecycleChainId(),
+                point.matchedCounterparty(),
+                point.blockTimestamp(),
+                point.replaySequence(),
+                point.normalizedType(),
+                point.lifecycleKind(),
+                point.lifecycleStage(),
+                point.basisEffect(),
+                point.protocolName(),
+                point.quantityDelta(),
+                point.costBasisDeltaUsd(),
+                point.realisedPnlDeltaUsd(),
+                point.gasDeltaUsd(),
+                point.quantityBefore(),
+                point.quantityAfter(),
+                point.totalCostBasisBeforeUsd(),
+                point.totalCostBasisAfterUsd(),
+                point.avcoBeforeUsd(),
+                point.avcoAfterUsd(),
+                point.netTotalCostBasisBeforeUsd(),
+                point.netTotalCostBasisAfterUsd(),
+                point.netAvcoBeforeUsd(),
+                point.netAvcoAfterUsd(),
+                point.basisBackedQuantityAfter(),
+                point.uncoveredQuantityDelta(),
+                point.quantityShortfallAfter(),
+                point.uncoveredQuantityAfter(),
+                point.hasIncompleteHistoryAfter(),
+                point.hasUnresolvedFlagsAfter(),
+                point.unresolvedFlagCountAfter()
+        );
+    }
 }
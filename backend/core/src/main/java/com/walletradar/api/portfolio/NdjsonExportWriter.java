@@ -0,0 +1,122 @@
+package com.walletradar.api.portfolio;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.walletradar.api.config.SessionExportProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Turns a cursor-backed row stream into an NDJSON response body, optionally gzip-compressed.
+ *
+ * <p>Rows are pulled from the stream only on downstream demand: the socket requests at most
+ * {@code prefetchChunks} encoded chunks of {@code rowsPerChunk} lines each, so a slow client holds
+ * the Mongo cursor instead of buffering the export in memory. Iteration runs on the
+ * bounded-elastic scheduler because advancing the cursor blocks. The stream is closed on
+ * completion, error and client cancel.
+ */
+@Component
+@RequiredArgsConstructor
+public class NdjsonExportWriter {
+
+    private static final byte NEWLINE = '\n';
+
+    private final ObjectMapper objectMapper;
+    private final SessionExportProperties properties;
+
+    public <T> Flux<DataBuffer> write(
+            Stream<T> rows,
+            Function<T, ?> toLine,
+            boolean gzip,
+            DataBufferFactory bufferFactory
+    ) {
+        int rowsPerChunk = Math.max(1, properties.getRowsPerChunk());
+        int prefetchChunks = Math.max(1, properties.getPrefetchChunks());
+        Flux<byte[]> chunks = Flux.fromStream(rows)
+                .map(toLine)
+                .buffer(rowsPerChunk)
+                .map(this::encodeLines)
+                .subscribeOn(Schedulers.boundedElastic());
+        return (gzip ? gzipped(chunks) : chunks)
+                .filter(bytes -> bytes.length > 0)
+                .limitRate(prefetchChunks)
+                .map(bufferFactory::wrap);
+    }
+
+    private static Flux<byte[]> gzipped(Flux<byte[]> chunks) {
+        return Flux.using(
+                GzipChunks::new,
+                gzipChunks -> chunks.map(gzipChunks::compress).concatWith(Mono.fromCallable(gzipChunks::finish)),
+                GzipChunks::close
+        );
+    }
+
+    private byte[] encodeLines(List<?> lines) {
+        ByteArrayOutputStream chunk = new ByteArrayOutputStream(lines.size() * 256);
+        for (Object line : lines) {
+            try {
+                chunk.writeBytes(objectMapper.writeValueAsBytes(line));
+            } catch (JsonProcessingException exception) {
+                throw new IllegalStateException("Failed to encode export row", exception);
+            }
+            chunk.write(NEWLINE);
+        }
+        return chunk.toByteArray();
+    }
+
+    /**
+     * One gzip member spread over the response: each chunk is sync-flushed so the client can
+     * inflate it as it arrives, and the trailer is written once the rows run out.
+     */
+    private static final class GzipChunks {
+
+        private final ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        private final GZIPOutputStream gzip;
+
+        private GzipChunks() throws IOException {
+            this.gzip = new GZIPOutputStream(sink, true);
+        }
+
+        byte[] compress(byte[] chunk) {
+            try {
+                gzip.write(chunk);
+                gzip.flush();
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+            return drain();
+        }
+
+        byte[] finish() throws IOException {
+            gzip.finish();
+            return drain();
+        }
+
+        void close() {
+            try {
+                gzip.close();
+            } catch (IOException ignored) {
+                // In-memory sink; nothing to release.
+            }
+        }
+
+        private byte[] drain() {
+            byte[] bytes = sink.toByteArray();
+            sink.reset();
+            return bytes;
+        }
+    }
+}
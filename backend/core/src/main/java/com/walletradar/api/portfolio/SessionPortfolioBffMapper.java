@@ -155,32 +155,36 @@ public class SessionPortfolioBffMapper {
                 view.totalCount(),
                 view.hasMore(),
                 view.items().stream()
-                        .map(item -> new SessionTransactionsResponse.Item(
-                                item.id(),
-                                item.sourceType(),
-                                item.txHash(),
-                                item.networkId(),
-                                item.walletAddress(),
-                                item.matchedCounterparty(),
-                                item.blockTimestamp(),
-                                item.type(),
-                                item.status(),
-                                item.issue(),
-                                item.bridgeStatus(),
-                                item.realisedPnlUsdTotal(),
-                                item.avcoSnapshotVersion(),
-                                item.flows().stream()
-                                        .map(flow -> new SessionTransactionsResponse.Flow(
-                                                flow.role(),
-                                                flow.assetContract(),
-                                                flow.assetSymbol(),
-                                                flow.quantityDelta(),
-                                                flow.unitPriceUsd(),
-                                                flow.valueUsd(),
-                                                flow.priceSource(),
-                                                flow.logIndex()
-                                        ))
-                                        .toList()
+                        .map(this::toTransactionItem)
+                        .toList()
+        );
+    }
+
+    public SessionTransactionsResponse.Item toTransactionItem(SessionTransactionsQueryService.ItemView item) {
+        return new SessionTransactionsResponse.Item(
+                item.id(),
+                item.sourceType(),
+                item.txHash(),
+                item.networkId(),
+                item.walletAddress(),
+                item.matchedCounterparty(),
+                item.blockTimestamp(),
+                item.type(),
+                item.status(),
+                item.issue(),
+                item.bridgeStatus(),
+                item.realisedPnlUsdTotal(),
+                item.avcoSnapshotVersion(),
+                item.flows().stream()
+                        .map(flow -> new SessionTransactionsResponse.Flow(
+                                flow.role(),
+                                flow.assetContract(),
+                                flow.assetSymbol(),
+                                flow.quantityDelta(),
+                                flow.unitPriceUsd(),
+                                flow.valueUsd(),
+                                flow.priceSource(),
+                                flow.logIndex()
                         ))
                         .toList()
         );
@@ -0,0 +1,203 @@
+package com.walletradar.api.portfolio;
+
+import com.walletradar.api.config.SessionProgressStreamProperties;
+import com.walletradar.api.dto.RefreshStatusResponse;
+import com.walletradar.api.dto.SessionBackfillStatusResponse;
+import com.walletradar.application.lending.application.LendingGroupRefreshStateService;
+import com.walletradar.application.liquiditypools.application.LpPositionRefreshStateService;
+import com.walletradar.application.portfolio.application.SessionQueryService;
+import com.walletradar.application.portfolio.application.port.SessionReadPort;
+import com.walletradar.application.session.application.SessionProgressSignals;
+import com.walletradar.application.session.application.SessionProgressSignals.Topic;
+import com.walletradar.domain.session.UserSession;
+import com.walletradar.domain.sync.SyncStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * Fans session progress out to {@code progress-stream} subscribers.
+ *
+ * <p>One channel per session with at least one open stream. Each tick drains
+ * {@link SessionProgressSignals}, recomputes every dirty view of a subscribed session once and
+ * pushes it to all of that session's streams, so read load follows the number of sessions being
+ * watched, not the number of open tabs. Marks are local to the node that raised them; views that
+ * last reported running work are re-read every {@code active-refresh-ms} so in-stage progress and
+ * work finished on another node still reach the client.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SessionProgressStreamHub {
+
+    public static final String BACKFILL_STATUS_EVENT = "backfill-status";
+    public static final String LP_REFRESH_STATUS_EVENT = "lp-refresh-status";
+    public static final String LENDING_REFRESH_STATUS_EVENT = "lending-refresh-status";
+
+    private static final Set<String> SETTLED_ACQUISITION_STATUSES = Set.of(
+            SyncStatus.SyncStatusValue.COMPLETE.name(),
+            SyncStatus.SyncStatusValue.FAILED.name(),
+            SyncStatus.SyncStatusValue.PARTIAL.name()
+    );
+
+    private final SessionReadPort sessionReadPort;
+    private final SessionPortfolioBffMapper sessionPortfolioBffMapper;
+    private final LpPositionRefreshStateService lpPositionRefreshStateService;
+    private final LendingGroupRefreshStateService lendingGroupRefreshStateService;
+    private final SessionProgressSignals sessionProgressSignals;
+    private final SessionProgressStreamProperties properties;
+    private final ConcurrentMap<String, Channel> channels = new ConcurrentHashMap<>();
+    private long lastActiveRefreshAt;
+
+    /**
+     * Progress events of {@code sessionId}: the latest view of every topic on subscribe, then each
+     * change; empty when the session does not exist.
+     */
+    public Optional<Flux<ServerSentEvent<Object>>> stream(String sessionId) {
+        return sessionReadPort.findSession(sessionId).map(session -> Flux.defer(() -> {
+                    Channel channel = join(sessionId, session);
+                    Flux<ServerSentEvent<Object>> keepalive = Flux.interval(properties.keepalive())
+                            .map(ignored -> ServerSentEvent.builder().comment("keepalive").build());
+                    return Flux.merge(channel.events(), keepalive)
+                            .doFinally(signal -> leave(channel));
+                }));
+    }
+
+    @Scheduled(fixedDelayString = "${walletradar.api.progress-stream.tick-ms:1000}")
+    public void tick() {
+        SessionProgressSignals.Marks marks = sessionProgressSignals.drain();
+        long now = System.currentTimeMillis();
+        boolean activeRefresh = now - lastActiveRefreshAt >= properties.getActiveRefreshMs();
+        if (activeRefresh) {
+            lastActiveRefreshAt = now;
+        }
+        if (channels.isEmpty() || (marks.isEmpty() && !activeRefresh)) {
+            return;
+        }
+        for (Channel channel : channels.values()) {
+            Set<Topic> topics = marks.topicsFor(channel.sessionId, channel.wallets);
+            if (activeRefresh) {
+                topics.addAll(channel.activeTopics);
+            }
+            for (Topic topic : topics) {
+                try {
+                    publish(channel, topic);
+                } catch (RuntimeException error) {
+                    log.warn("Session progress publish failed: sessionId={}, topic={}, error={}",
+                            channel.sessionId, topic, error.getMessage());
+                }
+            }
+        }
+    }
+
+    int openChannels() {
+        return channels.size();
+    }
+
+    private Channel join(String sessionId, SessionQueryService.SessionView session) {
+        Channel channel = channels.compute(sessionId, (id, existing) -> {
+            Channel joined = existing != null ? existing : new Channel(id, walletsOf(session));
+            joined.subscribers++;
+            return joined;
+        });
+        if (channel.published.isEmpty()) {
+            for (Topic topic : Topic.values()) {
+                sessionProgressSignals.markSession(sessionId, topic);
+            }
+        }
+        return channel;
+    }
+
+    private void leave(Channel channel) {
+        channels.computeIfPresent(channel.sessionId, (id, existing) -> {
+            if (existing != channel) {
+                return existing;
+            }
+            existing.subscribers--;
+            return existing.subscribers > 0 ? existing : null;
+        });
+    }
+
+    private void publish(Channel channel, Topic topic) {
+        switch (topic) {
+            case BACKFILL_STATUS -> sessionReadPort.findBackfillStatus(channel.sessionId)
+                    .map(sessionPortfolioBffMapper::toBackfillStatusResponse)
+                    .ifPresent(status -> channel.emit(topic, BACKFILL_STATUS_EVENT, status, isRunning(status)));
+            case LP_REFRESH -> {
+                RefreshStatusResponse status = lpPositionRefreshStateService.getStatus(channel.sessionId);
+                channel.emit(topic, LP_REFRESH_STATUS_EVENT, status, status.anyActive());
+            }
+            case LENDING_REFRESH -> {
+                RefreshStatusResponse status = lendingGroupRefreshStateService.getStatus(channel.sessionId);
+                channel.emit(topic, LENDING_REFRESH_STATUS_EVENT, status, status.anyActive());
+            }
+        }
+    }
+
+    private static boolean isRunning(SessionBackfillStatusResponse status) {
+        return UserSession.PipelineStatus.RUNNING.name().equals(status.pipelineStatus())
+                || !SETTLED_ACQUISITION_STATUSES.contains(status.acquisitionStatus());
+    }
+
+    private static Set<String> walletsOf(SessionQueryService.SessionView session) {
+        return session.wallets().stream()
+                .map(SessionQueryService.SessionWalletView::address)
+                .filter(address -> address != null && !address.isBlank())
+                .map(address -> address.trim().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Streams of one session. Subscriber count is only changed inside {@code channels.compute*};
+     * {@link #emit} and {@link #activeTopics} are only touched from the tick thread.
+     */
+    private static final class Channel {
+
+        private final String sessionId;
+        private final Set<String> wallets;
+        private final Map<Topic, Sinks.Many<ServerSentEvent<Object>>> sinks = new EnumMap<>(Topic.class);
+        private final Set<Topic> published = ConcurrentHashMap.newKeySet();
+        private final Set<Topic> activeTopics = EnumSet.noneOf(Topic.class);
+        private int subscribers;
+
+        private Channel(String sessionId, Set<String> wallets) {
+            this.sessionId = sessionId;
+            this.wallets = wallets;
+            for (Topic topic : Topic.values()) {
+                sinks.put(topic, Sinks.many().replay().latest());
+            }
+        }
+
+        private Flux<ServerSentEvent<Object>> events() {
+            List<Flux<ServerSentEvent<Object>>> topics = sinks.values().stream()
+                    .map(Sinks.Many::asFlux)
+                    .toList();
+            return Flux.merge(topics);
+        }
+
+        private void emit(Topic topic, String event, Object payload, boolean running) {
+            if (running) {
+                activeTopics.add(topic);
+            } else {
+                activeTopics.remove(topic);
+            }
+            published.add(topic);
+            sinks.get(topic).tryEmitNext(ServerSentEvent.builder(payload).event(event).build());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.walletradar.api.portfolio;
+
+import com.walletradar.application.session.application.UniverseDataVersionService;
+import com.walletradar.application.session.application.UniverseDataVersionService.SessionDataVersion;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Conditional GET support for session read endpoints.
+ *
+ * <p>The ETag is strong and derived only from cheap state: the universe and global data versions
+ * ({@link UniverseDataVersionService}), the session's own {@code updatedAt} (labels, settings) and
+ * the request parameters that shape the body. A handler calls {@link #notModified} before touching
+ * any query service and returns {@code null} when it answers {@code true}; WebFlux then completes
+ * the 304 without a body.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class SessionReadETags {
+
+    private final UniverseDataVersionService universeDataVersionService;
+
+    /**
+     * Sets the ETag for {@code resource} of {@code sessionId} and reports whether the request's
+     * {@code If-None-Match} already matches it. A missing session yields no ETag, so the handler
+     * goes on to its regular 404.
+     */
+    public boolean notModified(ServerWebExchange exchange, String sessionId, String resource, Object... params) {
+        Optional<String> etag = universeDataVersionService.current(sessionId)
+                .map(version -> etag(version, resource, params));
+        if (etag.isEmpty()) {
+            return false;
+        }
+        exchange.getResponse().getHeaders().setCacheControl(CacheControl.noCache());
+        return exchange.checkNotModified(etag.get());
+    }
+
+    static String etag(SessionDataVersion version, String resource, Object... params) {
+        StringBuilder key = new StringBuilder()
+                .append(resource).append('|')
+                .append(version.universeId()).append('|')
+                .append(version.sessionUpdatedAt());
+        for (Object param : params) {
+            key.append('|').append(keyPart(param));
+        }
+        return "\"v" + version.universeVersion() + "." + version.globalVersion() + "." + digest(key.toString()) + "\"";
+    }
+
+    private static String keyPart(Object param) {
+        if (param instanceof Collection<?> values) {
+            return String.join(",", values.stream().map(String::valueOf).toList());
+        }
+        return String.valueOf(param);
+    }
+
+    private static String digest(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)), 0, 12);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("Unable to hash ETag key", exception);
+        }
+    }
+}
@@ -19,8 +19,11 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
@@ -185,7 +188,7 @@ public class BackfillJobRunner {
                     BackfillSegment.SourceKind.INTEGRATION,
                     Set.of(BackfillSegment.SegmentStatus.PENDING, BackfillSegment.SegmentStatus.FAILED)
             );
-            int processed = 0;
+            Map<BackfillSegmentExecutor, List<BackfillSegment>> segmentsByExecutor = new LinkedHashMap<>();
             for (BackfillSegment segment : candidates) {
                 BackfillSegmentExecutor executor = backfillSegmentExecutors.stream()
                         .filter(candidate -> candidate.supports(segment))
@@ -201,8 +204,12 @@ public class BackfillJobRunner {
                     );
                     continue;
                 }
-                executor.execute(segment);
-                processed++;
+                segmentsByExecutor.computeIfAbsent(executor, ignored -> new ArrayList<>()).add(segment);
+            }
+            int processed = 0;
+            for (Map.Entry<BackfillSegmentExecutor, List<BackfillSegment>> entry : segmentsByExecutor.entrySet()) {
+                entry.getKey().executeAll(entry.getValue());
+                processed += entry.getValue().size();
             }
             log.debug(
                     "IntegrationBackfillDispatch finished: candidates={}, processed={}, durationMs={}",
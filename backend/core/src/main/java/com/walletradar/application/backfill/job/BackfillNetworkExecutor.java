@@ -12,8 +12,12 @@ import com.walletradar.application.backfill.config.BackfillSegmentsConfiguration
 import com.walletradar.application.backfill.config.BackfillProperties;
 import com.walletradar.platform.networks.config.IngestionNetworkProperties;
 import com.walletradar.application.backfill.sync.progress.SyncProgressTracker;
+import com.walletradar.application.session.application.SessionProgressSignals;
+import com.walletradar.platform.common.concurrent.BoundedExecutor;
+import com.walletradar.platform.common.config.AsyncConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
@@ -21,9 +25,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Callable;
 
 /**
  * Runs raw backfill for one wallet-network pair.
@@ -39,6 +41,9 @@ public class BackfillNetworkExecutor {
     private final SyncProgressTracker syncProgressTracker;
     private final SyncStatusRepository syncStatusRepository;
     private final BackfillSegmentRepository backfillSegmentRepository;
+    private final SessionProgressSignals sessionProgressSignals;
+    @Qualifier(AsyncConfig.BACKFILL_SEGMENT_EXECUTOR)
+    private final BoundedExecutor backfillSegmentExecutor;
 
     private static final Set<BackfillSegment.SegmentStatus> EXECUTABLE_STATUSES = Set.of(
             BackfillSegment.SegmentStatus.PENDING,
@@ -78,15 +83,16 @@ public class BackfillNetworkExecutor {
 
             int requestedWorkers = Math.max(1, segmentConfig.parallelSegmentWorkers());
             int effectiveWorkers = Math.min(requestedWorkers, segmentsToRun.size());
-            try (ExecutorService segmentExecutor = Executors.newFixedThreadPool(effectiveWorkers)) {
-                List<CompletableFuture<Boolean>> futures = new ArrayList<>();
-                for (BackfillSegment segment : segmentsToRun) {
-                    futures.add(CompletableFuture.supplyAsync(
-                            () -> processOneSegment(walletAddress, networkId, adapter, segment),
-                            segmentExecutor
-                    ));
-                }
-                CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+            // Segment workers of every wallet-network run share one bounded executor.
+            List<Callable<Boolean>> segmentTasks = new ArrayList<>(segmentsToRun.size());
+            for (BackfillSegment segment : segmentsToRun) {
+                segmentTasks.add(() -> processOneSegment(walletAddress, networkId, adapter, segment));
+            }
+            try {
+                backfillSegmentExecutor.invokeAll(segmentTasks, effectiveWorkers);
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Backfill interrupted", interrupted);
             }
             finalizeSyncStatusFromSegments(walletAddress, networkIdStr, syncStatusId);
             log.info("Backfill run finished for {} on {}: total segments {}", walletAddress, networkIdStr, allSegments.size());
@@ -133,6 +139,7 @@ public class BackfillNetworkExecutor {
             markSegmentRunning(segment.getId());
             if (effectiveFromBlock > segmentToBlock) {
                 markSegmentComplete(segment.getId());
+                sessionProgressSignals.markWallet(walletAddress);
                 return true;
             }
             BackfillProgressCallback callback = (progressPct, lastBlockSynced) ->
@@ -152,6 +159,7 @@ public class BackfillNetworkExecutor {
                 );
             }
             markSegmentComplete(segment.getId());
+            sessionProgressSignals.markWallet(walletAddress);
             return true;
         } catch (Exception e) {
             String detail = errorDetail(e);
@@ -167,6 +175,7 @@ public class BackfillNetworkExecutor {
                     e
             );
             markSegmentFailed(segment.getId(), detail);
+            sessionProgressSignals.markWallet(walletAddress);
             return false;
         }
     }
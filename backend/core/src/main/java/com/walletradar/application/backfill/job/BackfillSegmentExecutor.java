@@ -2,6 +2,8 @@ package com.walletradar.application.backfill.job;
 
 import com.walletradar.domain.sync.BackfillSegment;
 
+import java.util.List;
+
 /**
  * Executes one persisted backfill segment. Segment planning and ownership stay
  * shared; only execution semantics differ per source/provider.
@@ -11,4 +13,12 @@ public interface BackfillSegmentExecutor {
     boolean supports(BackfillSegment segment);
 
     void execute(BackfillSegment segment);
+
+    /**
+     * Executes a batch of supported segments. Defaults to sequential {@link #execute} calls;
+     * providers with independent rate budgets may run the batch concurrently.
+     */
+    default void executeAll(List<BackfillSegment> segments) {
+        segments.forEach(this::execute);
+    }
 }
@@ -50,7 +50,7 @@ public class RawFetchSegmentProcessor {
         log.info("Processing segment for wallet {}, network {}, blocks {}-{}",
                 walletAddress, networkId, segFromBlock, segToBlock);
         List<RawTransaction> batch = adapter.fetchTransactions(walletAddress, networkId, segFromBlock, segToBlock);
-        persistBatch(batch);
+        adapter.onFetchPersisted(walletAddress, networkId, persistBatch(batch));
         progressCallback.reportProgress(100, segToBlock);
     }
 
@@ -68,19 +68,22 @@ public class RawFetchSegmentProcessor {
         while (from <= segToBlock) {
             long to = Math.min(segToBlock, from + chunkSize - 1);
             List<RawTransaction> batch = adapter.fetchTransactions(walletAddress, networkId, from, to);
-            persistBatch(batch);
+            adapter.onFetchPersisted(walletAddress, networkId, persistBatch(batch));
             progressCallback.reportProgress(100, to);
             from = to + 1;
         }
     }
 
-    private void persistBatch(List<RawTransaction> batch) {
+    /** Upserts the non-scam rows of {@code batch} and returns them. */
+    private List<RawTransaction> persistBatch(List<RawTransaction> batch) {
+        List<RawTransaction> persisted = new ArrayList<>(batch.size());
         List<RawTransaction> toUpsert = new ArrayList<>(batch.size());
         for (RawTransaction tx : batch) {
             if (scamFilter.shouldDrop(tx)) {
                 continue;
             }
             ensureId(tx);
+            persisted.add(tx);
             toUpsert.add(tx);
             if (toUpsert.size() >= UPSERT_FLUSH_SIZE) {
                 bulkUpsert(toUpsert);
@@ -90,6 +93,7 @@ public class RawFetchSegmentProcessor {
         if (!toUpsert.isEmpty()) {
             bulkUpsert(toUpsert);
         }
+        return persisted;
     }
 
     private static void ensureId(RawTransaction tx) {
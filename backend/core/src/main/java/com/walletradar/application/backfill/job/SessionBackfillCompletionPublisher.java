@@ -10,9 +10,9 @@ import com.walletradar.domain.sync.BackfillSegmentRepository;
 import com.walletradar.domain.sync.SyncStatus;
 import com.walletradar.domain.sync.SyncStatusRepository;
 import com.walletradar.application.session.application.SessionPipelineStateService;
+import com.walletradar.application.pipeline.queue.PipelineStageHandoff;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Component;
@@ -43,7 +43,7 @@ public class SessionBackfillCompletionPublisher {
     private final UserSessionRepository userSessionRepository;
     private final SyncStatusRepository syncStatusRepository;
     private final BackfillSegmentRepository backfillSegmentRepository;
-    private final ApplicationEventPublisher applicationEventPublisher;
+    private final PipelineStageHandoff pipelineStageHandoff;
     private final SessionPipelineStateService sessionPipelineStateService;
     private final TaskScheduler taskScheduler;
 
@@ -54,14 +54,14 @@ public class SessionBackfillCompletionPublisher {
             UserSessionRepository userSessionRepository,
             SyncStatusRepository syncStatusRepository,
             BackfillSegmentRepository backfillSegmentRepository,
-            ApplicationEventPublisher applicationEventPublisher,
+            PipelineStageHandoff pipelineStageHandoff,
             SessionPipelineStateService sessionPipelineStateService,
             @Qualifier(SchedulerConfig.SCHEDULER_POOL) TaskScheduler taskScheduler
     ) {
         this.userSessionRepository = userSessionRepository;
         this.syncStatusRepository = syncStatusRepository;
         this.backfillSegmentRepository = backfillSegmentRepository;
-        this.applicationEventPublisher = applicationEventPublisher;
+        this.pipelineStageHandoff = pipelineStageHandoff;
         this.sessionPipelineStateService = sessionPipelineStateService;
         this.taskScheduler = taskScheduler;
     }
@@ -154,7 +154,7 @@ public class SessionBackfillCompletionPublisher {
 
     private void fireSessionCompletion(String sessionId, List<UserSession.SessionWallet> wallets, int targetCount) {
         pendingFires.remove(sessionId);
-        applicationEventPublisher.publishEvent(new SessionBackfillCompletedEvent(
+        pipelineStageHandoff.submit(sessionId, new SessionBackfillCompletedEvent(
                 sessionId,
                 wallets.size(),
                 targetCount
@@ -34,11 +34,13 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class BybitApiClient {
 
+    static final String REJECTED_REQUEST_PREFIX = "Bybit API rejected request";
     private static final String USER_OWNED_SUB = "USER_OWNED_SUB";
 
     private final WebClient.Builder webClientBuilder;
     private final BybitIntegrationProperties properties;
     private final ObjectMapper objectMapper;
+    private final BybitRequestBudget requestBudget;
     private final Cache<String, List<BybitSubMember>> subMembersCache = Caffeine.newBuilder()
             .maximumSize(16)
             .expireAfterWrite(24, TimeUnit.HOURS)
@@ -95,6 +97,10 @@ public class BybitApiClient {
         );
     }
 
+    /**
+     * Fetches one page of a history stream. Charged against the backfill share of the endpoint
+     * group budget so concurrent acquisition never starves {@link #fetchLiveBalances}.
+     */
     public BybitPage fetchStream(
             BybitIntegrationStream stream,
             String apiKey,
@@ -125,7 +131,7 @@ public class BybitApiClient {
             params.put("withdrawType", 2);
         }
 
-        JsonNode body = signedGet(pathFor(stream), apiKey, apiSecret, params);
+        JsonNode body = signedGet(pathFor(stream), apiKey, apiSecret, params, BybitRequestBudget.Priority.BACKFILL);
         JsonNode result = requireResult(body);
         JsonNode rows = result.path("list");
         if (!rows.isArray() || rows.isMissingNode()) {
@@ -239,6 +245,17 @@ public class BybitApiClient {
     }
 
     private JsonNode signedGet(String path, String apiKey, String apiSecret, Map<String, Object> params) {
+        return signedGet(path, apiKey, apiSecret, params, BybitRequestBudget.Priority.LIVE);
+    }
+
+    private JsonNode signedGet(
+            String path,
+            String apiKey,
+            String apiSecret,
+            Map<String, Object> params,
+            BybitRequestBudget.Priority priority
+    ) {
+        requestBudget.acquire(apiKey, BybitRateLimitGroup.forPath(path), priority);
         String queryString = canonicalQueryString(params);
         String timestamp = String.valueOf(Instant.now().toEpochMilli());
         String recvWindow = String.valueOf(properties.getRecvWindowMs());
@@ -314,7 +331,7 @@ public class BybitApiClient {
     private JsonNode requireResult(JsonNode body) {
         if (body == null || body.path("retCode").asInt(-1) != 0) {
             String message = body == null ? "Empty Bybit response" : text(body, "retMsg");
-            throw new IllegalStateException("Bybit API rejected request: " + message);
+            throw new IllegalStateException(REJECTED_REQUEST_PREFIX + ": " + message);
         }
         return body.path("result");
     }
@@ -0,0 +1,109 @@
+package com.walletradar.application.cex.acquisition.venue.bybit;
+
+import com.walletradar.application.cex.config.BybitIntegrationProperties;
+import com.walletradar.domain.sync.BackfillSegment;
+import com.walletradar.domain.sync.BackfillSegmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+/**
+ * Fans Bybit backfill segments (integration × stream × time window) out onto virtual threads.
+ * Each integration is one Bybit UID with its own credentials, so segments of different
+ * sub-members proceed in parallel under their own {@link BybitRequestBudget}; segments of one
+ * UID share that UID's endpoint-group limits.
+ *
+ * <p>Runs in two waves: reference streams first ({@link BybitIntegrationStream#isReferenceStream()}),
+ * then dependent streams whose integration has no reference segment still PENDING or RUNNING.
+ * Deferred segments stay PENDING for the next poll.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BybitBackfillScheduler {
+
+    private final BackfillSegmentRepository backfillSegmentRepository;
+    private final BybitIntegrationProperties bybitIntegrationProperties;
+
+    /**
+     * Runs {@code task} for each dispatchable segment and returns once all of them finished.
+     *
+     * @return number of segments dispatched
+     */
+    public int dispatch(List<BackfillSegment> segments, Consumer<BackfillSegment> task) {
+        if (segments == null || segments.isEmpty()) {
+            return 0;
+        }
+        List<BackfillSegment> reference = new ArrayList<>();
+        List<BackfillSegment> dependent = new ArrayList<>();
+        for (BackfillSegment segment : segments) {
+            (isReference(segment) ? reference : dependent).add(segment);
+        }
+        int dispatched = runConcurrently(reference, task);
+
+        Map<String, Boolean> settledByIntegration = new HashMap<>();
+        List<BackfillSegment> ready = dependent.stream()
+                .filter(segment -> settledByIntegration.computeIfAbsent(
+                        segment.getIntegrationId(),
+                        this::referenceStreamsSettled
+                ))
+                .toList();
+        dispatched += runConcurrently(ready, task);
+        if (ready.size() < dependent.size()) {
+            log.debug("Bybit backfill deferred dependent segments until reference streams land: deferred={}",
+                    dependent.size() - ready.size());
+        }
+        return dispatched;
+    }
+
+    private int runConcurrently(List<BackfillSegment> segments, Consumer<BackfillSegment> task) {
+        if (segments.isEmpty()) {
+            return 0;
+        }
+        Semaphore permits = new Semaphore(Math.max(1, bybitIntegrationProperties.getBackfillMaxConcurrentTasks()));
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("bybit-backfill-", 0).factory())) {
+            for (BackfillSegment segment : segments) {
+                permits.acquireUninterruptibly();
+                executor.execute(() -> {
+                    try {
+                        task.accept(segment);
+                    } catch (RuntimeException exception) {
+                        log.warn("Bybit backfill task failed: segmentId={}, error={}",
+                                segment.getId(), exception.getMessage(), exception);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+        return segments.size();
+    }
+
+    private boolean referenceStreamsSettled(String integrationId) {
+        if (integrationId == null) {
+            return true;
+        }
+        return backfillSegmentRepository.findByIntegrationIdOrderByUpdatedAtAsc(integrationId).stream()
+                .filter(BybitBackfillScheduler::isReference)
+                .noneMatch(segment -> segment.getStatus() == BackfillSegment.SegmentStatus.PENDING
+                        || segment.getStatus() == BackfillSegment.SegmentStatus.RUNNING);
+    }
+
+    private static boolean isReference(BackfillSegment segment) {
+        try {
+            return BybitIntegrationStream.valueOf(segment.getStream()).isReferenceStream();
+        } catch (RuntimeException unknownStream) {
+            return false;
+        }
+    }
+}
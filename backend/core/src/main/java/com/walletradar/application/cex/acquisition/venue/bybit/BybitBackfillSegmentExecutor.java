@@ -10,7 +10,6 @@ import com.walletradar.domain.sync.BackfillSegmentRepository;
 import com.walletradar.domain.transaction.bybit.BybitExtractedEvent;
 import com.walletradar.domain.transaction.bybit.BybitExtractedEventRepository;
 import com.walletradar.domain.transaction.integration.IntegrationRawEvent;
-import com.walletradar.domain.transaction.integration.IntegrationRawEventRepository;
 import com.walletradar.application.backfill.job.BackfillSegmentExecutor;
 import com.walletradar.application.backfill.job.SessionBackfillCompletionPublisher;
 import com.walletradar.application.cex.config.BybitIntegrationProperties;
@@ -20,6 +19,11 @@ import com.walletradar.application.session.application.SessionSecretCryptoServic
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
@@ -29,14 +33,25 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 /**
  * Executes shared integration backfill segments for Bybit. The control plane
  * stays in the common backfill runner; this class only knows how to process
- * one Bybit segment.
+ * one Bybit segment. Batches handed over by the runner are fanned out through
+ * {@link BybitBackfillScheduler}.
+ *
+ * <p>Each page is checkpointed: raw events are bulk-upserted, then the segment's
+ * provider cursor and processed count are saved, so a retried segment resumes at
+ * the next unread page. Session bookkeeping re-reads the session under a
+ * per-session lock because concurrent segments share one session document.</p>
  */
 @Component
 @RequiredArgsConstructor
@@ -45,7 +60,6 @@ public class BybitBackfillSegmentExecutor implements BackfillSegmentExecutor {
 
     private final BackfillSegmentRepository backfillSegmentRepository;
     private final UserSessionRepository userSessionRepository;
-    private final IntegrationRawEventRepository integrationRawEventRepository;
     private final BybitExtractedEventRepository bybitExtractedEventRepository;
     private final SessionSecretCryptoService sessionSecretCryptoService;
     private final IntegrationBackfillProperties integrationBackfillProperties;
@@ -55,6 +69,10 @@ public class BybitBackfillSegmentExecutor implements BackfillSegmentExecutor {
     private final SessionBackfillCompletionPublisher sessionBackfillCompletionPublisher;
     private final IntegrationSyncStatusService integrationSyncStatusService;
     private final ObjectMapper objectMapper;
+    private final MongoTemplate mongoTemplate;
+    private final BybitBackfillScheduler bybitBackfillScheduler;
+    /** Session locks in use; an entry lives only while a segment of that session holds or awaits it. */
+    private final Map<String, SessionLock> sessionLocks = new ConcurrentHashMap<>();
 
     @Override
     public boolean supports(BackfillSegment segment) {
@@ -63,6 +81,11 @@ public class BybitBackfillSegmentExecutor implements BackfillSegmentExecutor {
                 && UserSession.IntegrationProvider.BYBIT.name().equalsIgnoreCase(segment.getProvider());
     }
 
+    @Override
+    public void executeAll(List<BackfillSegment> segments) {
+        bybitBackfillScheduler.dispatch(segments, this::execute);
+    }
+
     @Override
     public void execute(BackfillSegment segment) {
         Instant now = Instant.now();
@@ -78,7 +101,10 @@ public class BybitBackfillSegmentExecutor implements BackfillSegmentExecutor {
                     .orElseThrow(() -> new IllegalStateException("Integration not found for segment"));
             BybitIntegrationStream stream = BybitIntegrationStream.valueOf(segment.getStream());
             if (requiresSevenDayRepartition(stream, segment)) {
-                repartitionOversizedSegment(segment, stream, session, integration);
+                withSessionLock(segment.getSessionId(), () -> {
+                    repartitionOversizedSegment(segment, stream);
+                    return null;
+                });
                 return;
             }
             EffectiveWindow effectiveWindow = resolveEffectiveWindow(
@@ -90,35 +116,37 @@ public class BybitBackfillSegmentExecutor implements BackfillSegmentExecutor {
             if (effectiveWindow == null) {
                 log.info("Skipping Bybit segment outside supported history window: id={}, stream={}, from={}, to={}",
                         segment.getId(), segment.getStream(), segment.getFromTime(), segment.getToTime());
-                completeSegment(segment, session, integration, 0L);
+                completeSegment(segment, 0L);
                 return;
             }
             BybitCredentials credentials = readCredentials(integration);
 
-            long processedCount = 0L;
-            String cursor = null;
+            String cursor = blankToNull(segment.getCursor());
+            boolean resumed = cursor != null;
+            long processedCount = resumed && segment.getProcessedCount() != null ? segment.getProcessedCount() : 0L;
             do {
-                BybitApiClient.BybitPage page = bybitApiClient.fetchStream(
-                        stream,
-                        credentials.apiKey(),
-                        credentials.apiSecret(),
-                        effectiveWindow.fromTime(),
-                        effectiveWindow.toTime(),
-                        cursor
-                );
-                for (JsonNode row : page.rows()) {
-                    IntegrationRawEvent rawEvent = toRawEvent(segment, integration, row);
-                    integrationRawEventRepository.save(rawEvent);
-                    List<BybitExtractedEvent> extractedEvents = bybitExtractionService.extract(rawEvent);
-                    if (!extractedEvents.isEmpty()) {
-                        bybitExtractedEventRepository.saveAll(extractedEvents);
+                BybitApiClient.BybitPage page;
+                try {
+                    page = fetchPage(stream, credentials, effectiveWindow, cursor);
+                } catch (IllegalStateException exception) {
+                    if (!resumed || !isRejectedRequest(exception)) {
+                        throw exception;
                     }
-                    processedCount++;
+                    log.info("Bybit rejected persisted segment cursor, restarting window: id={}, stream={}",
+                            segment.getId(), segment.getStream());
+                    cursor = null;
+                    processedCount = 0L;
+                    page = fetchPage(stream, credentials, effectiveWindow, null);
+                }
+                resumed = false;
+                processedCount += persistPage(segment, integration, page.rows());
+                cursor = blankToNull(page.nextCursor());
+                if (cursor != null) {
+                    checkpoint(segment, cursor, processedCount);
                 }
-                cursor = page.nextCursor();
-            } while (cursor != null && !cursor.isBlank());
+            } while (cursor != null);
 
-            completeSegment(segment, session, integration, processedCount);
+            completeSegment(segment, processedCount);
         } catch (Exception exception) {
             log.warn("Integration segment failed: id={}, provider={}, stream={}, error={}",
                     segment.getId(), segment.getProvider(), segment.getStream(), exception.getMessage(), exception);
@@ -127,11 +155,77 @@ public class BybitBackfillSegmentExecutor implements BackfillSegmentExecutor {
             segment.setRetryCount((segment.getRetryCount() == null ? 0 : segment.getRetryCount()) + 1);
             segment.setUpdatedAt(Instant.now());
             backfillSegmentRepository.save(segment);
-            userSessionRepository.findById(segment.getSessionId()).ifPresent(session -> findIntegration(session, segment.getIntegrationId())
-                    .ifPresent(integration -> updateIntegrationSyncState(session, integration, exception.getMessage())));
+            updateIntegrationSyncState(segment.getSessionId(), segment.getIntegrationId(), exception.getMessage());
         }
     }
 
+    private BybitApiClient.BybitPage fetchPage(
+            BybitIntegrationStream stream,
+            BybitCredentials credentials,
+            EffectiveWindow window,
+            String cursor
+    ) {
+        return bybitApiClient.fetchStream(
+                stream,
+                credentials.apiKey(),
+                credentials.apiSecret(),
+                window.fromTime(),
+                window.toTime(),
+                cursor
+        );
+    }
+
+    /**
+     * Bulk-upserts the page's raw events before extraction, which looks up sibling rows in Mongo.
+     * Extracted events stay saved per row so later rows of the same page see earlier ones.
+     */
+    private int persistPage(
+            BackfillSegment segment,
+            UserSession.SessionIntegration integration,
+            JsonNode rows
+    ) throws JsonProcessingException {
+        Map<String, IntegrationRawEvent> rawEventsById = new LinkedHashMap<>();
+        for (JsonNode row : rows) {
+            IntegrationRawEvent rawEvent = toRawEvent(segment, integration, row);
+            rawEventsById.put(rawEvent.getId(), rawEvent);
+        }
+        if (rawEventsById.isEmpty()) {
+            return 0;
+        }
+        BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, IntegrationRawEvent.class);
+        for (IntegrationRawEvent rawEvent : rawEventsById.values()) {
+            ops.replaceOne(
+                    Query.query(Criteria.where("_id").is(rawEvent.getId())),
+                    rawEvent,
+                    FindAndReplaceOptions.options().upsert()
+            );
+        }
+        ops.execute();
+        for (IntegrationRawEvent rawEvent : rawEventsById.values()) {
+            List<BybitExtractedEvent> extractedEvents = bybitExtractionService.extract(rawEvent);
+            if (!extractedEvents.isEmpty()) {
+                bybitExtractedEventRepository.saveAll(extractedEvents);
+            }
+        }
+        return rows.size();
+    }
+
+    private void checkpoint(BackfillSegment segment, String cursor, long processedCount) {
+        segment.setCursor(cursor);
+        segment.setProcessedCount(processedCount);
+        segment.setUpdatedAt(Instant.now());
+        backfillSegmentRepository.save(segment);
+    }
+
+    static boolean isRejectedRequest(IllegalStateException exception) {
+        return exception.getMessage() != null
+                && exception.getMessage().startsWith(BybitApiClient.REJECTED_REQUEST_PREFIX);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
     private boolean requiresSevenDayRepartition(BybitIntegrationStream stream, BackfillSegment segment) {
         if (segment.getFromTime() == null
                 || segment.getToTime() == null
@@ -149,12 +243,7 @@ public class BybitBackfillSegmentExecutor implements BackfillSegmentExecutor {
                 || stream == BybitIntegrationStream.UNIVERSAL_TRANSFER;
     }
 
-    private void repartitionOversizedSegment(
-            BackfillSegment segment,
-            BybitIntegrationStream stream,
-            UserSession session,
-            UserSession.SessionIntegration integration
-    ) {
+    private void repartitionOversizedSegment(BackfillSegment segment, BybitIntegrationStream stream) {
         int nextSegmentIndex = backfillSegmentRepository.findByIntegrationIdOrderByUpdatedAtAsc(segment.getIntegrationId()).stream()
                 .map(BackfillSegment::getSegmentIndex)
                 .filter(Objects::nonNull)
@@ -200,7 +289,7 @@ public class BybitBackfillSegmentExecutor implements BackfillSegmentExecutor {
                 stream,
                 replacementSegments.size()
         );
-        updateIntegrationSyncState(session, integration, null);
+        updateIntegrationSyncState(segment.getSessionId(), segment.getIntegrationId(), null);
     }
 
     static EffectiveWindow resolveEffectiveWindow(
@@ -230,12 +319,7 @@ public class BybitBackfillSegmentExecutor implements BackfillSegmentExecutor {
         return new EffectiveWindow(effectiveFrom, effectiveTo);
     }
 
-    private void completeSegment(
-            BackfillSegment segment,
-            UserSession session,
-            UserSession.SessionIntegration integration,
-            long processedCount
-    ) {
+    private void completeSegment(BackfillSegment segment, long processedCount) {
         segment.setCursor(null);
         segment.setProcessedCount(processedCount);
         segment.setProgressPct(100);
@@ -244,9 +328,13 @@ public class BybitBackfillSegmentExecutor implements BackfillSegmentExecutor {
         segment.setUpdatedAt(Instant.now());
         segment.setErrorMessage(null);
         backfillSegmentRepository.save(segment);
-        updateIntegrationSyncState(session, integration, null);
-        if (integration.getStatus() == UserSession.IntegrationStatus.READY) {
-            sessionBackfillCompletionPublisher.maybePublishSessionCompletionBySessionId(session.getId());
+        UserSession.IntegrationStatus status = updateIntegrationSyncState(
+                segment.getSessionId(),
+                segment.getIntegrationId(),
+                null
+        );
+        if (status == UserSession.IntegrationStatus.READY) {
+            sessionBackfillCompletionPublisher.maybePublishSessionCompletionBySessionId(segment.getSessionId());
         }
     }
 
@@ -289,7 +377,43 @@ public class BybitBackfillSegmentExecutor implements BackfillSegmentExecutor {
         return event;
     }
 
-    private void updateIntegrationSyncState(UserSession session, UserSession.SessionIntegration integration, String lastError) {
+    /**
+     * Recomputes the integration sync state from its segments on a freshly read session and
+     * saves it under the session lock, so concurrent segments never overwrite each other's
+     * whole-document save. Returns the resulting status, or {@code null} when the session or
+     * integration is gone.
+     */
+    private UserSession.IntegrationStatus updateIntegrationSyncState(String sessionId, String integrationId, String lastError) {
+        return withSessionLock(sessionId, () -> userSessionRepository.findById(sessionId)
+                .flatMap(session -> findIntegration(session, integrationId)
+                        .map(integration -> updateIntegrationSyncState(session, integration, lastError)))
+                .orElse(null));
+    }
+
+    /**
+     * Runs {@code action} under the session's lock. The entry counts its holders and waiters and is
+     * removed by the last one out, so the map only keeps sessions with a segment in flight.
+     */
+    private <T> T withSessionLock(String sessionId, Supplier<T> action) {
+        SessionLock sessionLock = sessionLocks.compute(sessionId, (ignored, existing) -> {
+            SessionLock entry = existing == null ? new SessionLock() : existing;
+            entry.users++;
+            return entry;
+        });
+        sessionLock.lock.lock();
+        try {
+            return action.get();
+        } finally {
+            sessionLock.lock.unlock();
+            sessionLocks.computeIfPresent(sessionId, (ignored, entry) -> --entry.users == 0 ? null : entry);
+        }
+    }
+
+    private UserSession.IntegrationStatus updateIntegrationSyncState(
+            UserSession session,
+            UserSession.SessionIntegration integration,
+            String lastError
+    ) {
         int total = (int) backfillSegmentRepository.countByIntegrationId(integration.getIntegrationId());
         int completed = (int) backfillSegmentRepository.countByIntegrationIdAndStatus(
                 integration.getIntegrationId(),
@@ -326,6 +450,7 @@ public class BybitBackfillSegmentExecutor implements BackfillSegmentExecutor {
         session.setUpdatedAt(Instant.now());
         userSessionRepository.save(session);
         integrationSyncStatusService.update(integration, total, completed, failed, lastError);
+        return integration.getStatus();
     }
 
     private Instant latestCompletedCheckpoint(String integrationId) {
@@ -416,6 +541,12 @@ public class BybitBackfillSegmentExecutor implements BackfillSegmentExecutor {
         }
     }
 
+    /** Reference-counted session lock; {@code users} is only touched inside the map's compute calls. */
+    private static final class SessionLock {
+        private final ReentrantLock lock = new ReentrantLock();
+        private int users;
+    }
+
     private record BybitCredentials(
             String apiKey,
             String apiSecret
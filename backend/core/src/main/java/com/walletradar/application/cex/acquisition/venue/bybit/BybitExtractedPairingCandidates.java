@@ -0,0 +1,59 @@
+package com.walletradar.application.cex.acquisition.venue.bybit;
+
+import com.walletradar.domain.transaction.bybit.BybitExtractedEvent;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Opposite-leg candidates prefetched once per normalization batch by
+ * {@link BybitExtractedTradePairer#prefetch(List)}.
+ *
+ * <p>Status transitions of a batch are written in bulk at the end, so rows paired earlier in the
+ * batch are still RAW in Mongo. They are tracked here as consumed and never offered as a partner
+ * again.</p>
+ */
+public final class BybitExtractedPairingCandidates {
+
+    private final List<BybitExtractedEvent> tradeLegs;
+    private final Map<String, List<BybitExtractedEvent>> convertLegsByOrderId;
+    private final Set<String> consumedIds = new HashSet<>();
+
+    BybitExtractedPairingCandidates(
+            List<BybitExtractedEvent> tradeLegs,
+            Map<String, List<BybitExtractedEvent>> convertLegsByOrderId
+    ) {
+        this.tradeLegs = tradeLegs;
+        this.convertLegsByOrderId = convertLegsByOrderId;
+    }
+
+    public static BybitExtractedPairingCandidates empty() {
+        return new BybitExtractedPairingCandidates(List.of(), Map.of());
+    }
+
+    public void consume(String id) {
+        if (id != null) {
+            consumedIds.add(id);
+        }
+    }
+
+    public boolean isConsumed(String id) {
+        return id != null && consumedIds.contains(id);
+    }
+
+    Collection<String> consumedIds() {
+        return consumedIds;
+    }
+
+    List<BybitExtractedEvent> tradeLegs() {
+        return tradeLegs;
+    }
+
+    /** Prefetched convert legs for {@code tradeOrderId}, or {@code null} when the id was not prefetched. */
+    List<BybitExtractedEvent> convertLegs(String tradeOrderId) {
+        return convertLegsByOrderId.get(tradeOrderId);
+    }
+}
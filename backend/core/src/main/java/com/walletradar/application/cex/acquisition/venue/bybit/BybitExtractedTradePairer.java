@@ -13,10 +13,16 @@ import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 /**
@@ -36,19 +42,10 @@ public class BybitExtractedTradePairer {
     private final MongoOperations mongoOperations;
 
     public Optional<BybitExtractedEvent> findOppositeLeg(BybitExtractedEvent row) {
-        if (!"uta_derivatives".equals(normalize(row.getSourceFileType()))) {
-            return Optional.empty();
-        }
-        String direction = normalize(row.getUtaDirection());
-        if (!"buy".equals(direction) && !"sell".equals(direction)) {
+        if (!isTradeProbe(row)) {
             return Optional.empty();
         }
-
         Instant center = row.getTimeUtc();
-        if (center == null || row.getUid() == null || row.getUtaContract() == null || row.getAssetSymbol() == null || row.getAssetSymbol().isBlank()) {
-            return Optional.empty();
-        }
-
         Query query = new Query(new Criteria().andOperator(
                 Criteria.where("_id").ne(row.getId()),
                 Criteria.where("status").is(BybitExtractedEventStatus.RAW),
@@ -62,12 +59,133 @@ public class BybitExtractedTradePairer {
         ));
         query.with(Sort.by(Sort.Order.asc("timeUtc"), Sort.Order.asc("_id")));
         List<BybitExtractedEvent> candidates = mongoOperations.find(query, BybitExtractedEvent.class);
-        Comparator<BybitExtractedEvent> comparator = Comparator
+        return candidates.stream().min(oppositeLegOrder(row, center));
+    }
+
+    /**
+     * In-memory form of {@link #findOppositeLeg(BybitExtractedEvent)} over legs prefetched for the
+     * whole batch: same filter and ordering, minus legs already consumed earlier in the batch.
+     */
+    public Optional<BybitExtractedEvent> findOppositeLeg(
+            BybitExtractedEvent row,
+            BybitExtractedPairingCandidates candidates
+    ) {
+        if (!isTradeProbe(row)) {
+            return Optional.empty();
+        }
+        Instant center = row.getTimeUtc();
+        Instant from = center.minusSeconds(WINDOW_SECONDS);
+        Instant to = center.plusSeconds(WINDOW_SECONDS);
+        return candidates.tradeLegs().stream()
+                .filter(candidate -> !candidates.isConsumed(candidate.getId()))
+                .filter(candidate -> !Objects.equals(candidate.getId(), row.getId()))
+                .filter(candidate -> candidate.getStatus() == BybitExtractedEventStatus.RAW)
+                .filter(candidate -> Objects.equals(candidate.getSourceFileType(), row.getSourceFileType())
+                        && Objects.equals(candidate.getUid(), row.getUid())
+                        && Objects.equals(candidate.getUtaContract(), row.getUtaContract())
+                        && Objects.equals(candidate.getUtaDirection(), row.getUtaDirection())
+                        && !Objects.equals(candidate.getAssetSymbol(), row.getAssetSymbol()))
+                .filter(candidate -> candidate.getQuantityRaw() != null && candidate.getTimeUtc() != null)
+                .filter(candidate -> !candidate.getTimeUtc().isBefore(from) && !candidate.getTimeUtc().isAfter(to))
+                .min(oppositeLegOrder(row, center));
+    }
+
+    /**
+     * Loads, in at most two {@code $in} queries, every RAW leg the batch's trade and convert rows
+     * could pair with: trade legs by uid/contract over the batch's time span widened by the pairing
+     * window, and convert legs by trade order id. Returned rows that are also batch members are
+     * replaced by the batch instances so in-batch mutations stay visible.
+     */
+    public BybitExtractedPairingCandidates prefetch(List<BybitExtractedEvent> batch) {
+        if (batch == null || batch.isEmpty()) {
+            return BybitExtractedPairingCandidates.empty();
+        }
+        Map<String, BybitExtractedEvent> batchById = new HashMap<>();
+        batch.forEach(row -> batchById.put(row.getId(), row));
+        List<BybitExtractedEvent> tradeLegs = prefetchTradeLegs(
+                batch.stream().filter(this::isTradeProbe).toList(),
+                batchById
+        );
+        Map<String, List<BybitExtractedEvent>> convertLegs = prefetchConvertLegs(
+                batch.stream()
+                        .filter(row -> row.getTimeUtc() != null && row.getUid() != null && isConvertType(row.getBybitType()))
+                        .map(BybitExtractedEvent::getTradeOrderId)
+                        .filter(orderId -> orderId != null && !orderId.isBlank())
+                        .distinct()
+                        .toList(),
+                batchById
+        );
+        return new BybitExtractedPairingCandidates(tradeLegs, convertLegs);
+    }
+
+    private List<BybitExtractedEvent> prefetchTradeLegs(
+            List<BybitExtractedEvent> tradeRows,
+            Map<String, BybitExtractedEvent> batchById
+    ) {
+        if (tradeRows.isEmpty()) {
+            return List.of();
+        }
+        Instant from = tradeRows.stream().map(BybitExtractedEvent::getTimeUtc).min(Comparator.naturalOrder()).orElseThrow();
+        Instant to = tradeRows.stream().map(BybitExtractedEvent::getTimeUtc).max(Comparator.naturalOrder()).orElseThrow();
+        Query query = new Query(new Criteria().andOperator(
+                Criteria.where("status").is(BybitExtractedEventStatus.RAW),
+                Criteria.where("sourceFileType").in(distinct(tradeRows, BybitExtractedEvent::getSourceFileType)),
+                Criteria.where("uid").in(distinct(tradeRows, BybitExtractedEvent::getUid)),
+                Criteria.where("utaContract").in(distinct(tradeRows, BybitExtractedEvent::getUtaContract)),
+                Criteria.where("quantityRaw").exists(true),
+                Criteria.where("timeUtc").gte(from.minusSeconds(WINDOW_SECONDS)).lte(to.plusSeconds(WINDOW_SECONDS))
+        ));
+        query.with(Sort.by(Sort.Order.asc("timeUtc"), Sort.Order.asc("_id")));
+        return mongoOperations.find(query, BybitExtractedEvent.class).stream()
+                .map(leg -> batchById.getOrDefault(leg.getId(), leg))
+                .toList();
+    }
+
+    private Map<String, List<BybitExtractedEvent>> prefetchConvertLegs(
+            List<String> tradeOrderIds,
+            Map<String, BybitExtractedEvent> batchById
+    ) {
+        if (tradeOrderIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, List<BybitExtractedEvent>> legsByOrderId = new HashMap<>();
+        tradeOrderIds.forEach(orderId -> legsByOrderId.put(orderId, new ArrayList<>()));
+        Query query = new Query(new Criteria().andOperator(
+                Criteria.where("status").is(BybitExtractedEventStatus.RAW),
+                Criteria.where("bybitType").regex(CONVERT_TYPE_PATTERN),
+                Criteria.where("tradeOrderId").in(tradeOrderIds)
+        ));
+        query.with(Sort.by(Sort.Order.asc("timeUtc"), Sort.Order.asc("_id")));
+        for (BybitExtractedEvent leg : mongoOperations.find(query, BybitExtractedEvent.class)) {
+            List<BybitExtractedEvent> legs = legsByOrderId.get(leg.getTradeOrderId());
+            if (legs != null) {
+                legs.add(batchById.getOrDefault(leg.getId(), leg));
+            }
+        }
+        return legsByOrderId;
+    }
+
+    private boolean isTradeProbe(BybitExtractedEvent row) {
+        if (!"uta_derivatives".equals(normalize(row.getSourceFileType()))) {
+            return false;
+        }
+        String direction = normalize(row.getUtaDirection());
+        if (!"buy".equals(direction) && !"sell".equals(direction)) {
+            return false;
+        }
+        return row.getTimeUtc() != null
+                && row.getUid() != null
+                && row.getUtaContract() != null
+                && row.getAssetSymbol() != null
+                && !row.getAssetSymbol().isBlank();
+    }
+
+    private Comparator<BybitExtractedEvent> oppositeLegOrder(BybitExtractedEvent row, Instant center) {
+        return Comparator
                 .comparingDouble((BybitExtractedEvent candidate) -> tradeScore(row, candidate))
                 .thenComparingLong((BybitExtractedEvent candidate) -> Math.abs(candidate.getTimeUtc().getEpochSecond() - center.getEpochSecond()))
                 .thenComparing(BybitExtractedEvent::getTimeUtc)
                 .thenComparing(BybitExtractedEvent::getId);
-        return candidates.stream().min(comparator);
     }
 
     public List<BybitExtractedEvent> loadConvertCluster(BybitExtractedEvent row) {
@@ -75,7 +193,40 @@ public class BybitExtractedTradePairer {
         if (center == null || row.getUid() == null || !isConvertType(row.getBybitType())) {
             return List.of(row);
         }
-        List<Criteria> criteria = new java.util.ArrayList<>(List.of(
+        return completeClusterOrSelf(row, mongoOperations.find(convertClusterQuery(row, List.of()), BybitExtractedEvent.class));
+    }
+
+    /**
+     * Batch form of {@link #loadConvertCluster(BybitExtractedEvent)}: order-id clusters come from
+     * the prefetched legs; time-window clusters still query, excluding legs consumed in the batch.
+     */
+    public List<BybitExtractedEvent> loadConvertCluster(
+            BybitExtractedEvent row,
+            BybitExtractedPairingCandidates candidates
+    ) {
+        Instant center = row.getTimeUtc();
+        if (center == null || row.getUid() == null || !isConvertType(row.getBybitType())) {
+            return List.of(row);
+        }
+        List<BybitExtractedEvent> prefetched = row.getTradeOrderId() == null || row.getTradeOrderId().isBlank()
+                ? null
+                : candidates.convertLegs(row.getTradeOrderId());
+        if (prefetched == null) {
+            Query query = convertClusterQuery(row, candidates.consumedIds());
+            return completeClusterOrSelf(row, mongoOperations.find(query, BybitExtractedEvent.class));
+        }
+        List<BybitExtractedEvent> cluster = prefetched.stream()
+                .filter(leg -> !candidates.isConsumed(leg.getId()))
+                .filter(leg -> leg.getStatus() == BybitExtractedEventStatus.RAW)
+                .filter(leg -> Objects.equals(leg.getSourceFileType(), row.getSourceFileType())
+                        && Objects.equals(leg.getUid(), row.getUid()))
+                .toList();
+        return completeClusterOrSelf(row, cluster);
+    }
+
+    private Query convertClusterQuery(BybitExtractedEvent row, Collection<String> excludedIds) {
+        Instant center = row.getTimeUtc();
+        List<Criteria> criteria = new ArrayList<>(List.of(
                 Criteria.where("status").is(BybitExtractedEventStatus.RAW),
                 Criteria.where("sourceFileType").is(row.getSourceFileType()),
                 Criteria.where("uid").is(row.getUid()),
@@ -88,9 +239,15 @@ public class BybitExtractedTradePairer {
                     .gte(center.minusSeconds(CONVERT_WINDOW_SECONDS))
                     .lte(center.plusSeconds(CONVERT_WINDOW_SECONDS)));
         }
+        if (!excludedIds.isEmpty()) {
+            criteria.add(Criteria.where("_id").nin(excludedIds));
+        }
         Query query = new Query(new Criteria().andOperator(criteria.toArray(Criteria[]::new)));
         query.with(Sort.by(Sort.Order.asc("timeUtc"), Sort.Order.asc("_id")));
-        List<BybitExtractedEvent> cluster = mongoOperations.find(query, BybitExtractedEvent.class);
+        return query;
+    }
+
+    private List<BybitExtractedEvent> completeClusterOrSelf(BybitExtractedEvent row, List<BybitExtractedEvent> cluster) {
         if (cluster.isEmpty()) {
             return List.of(row);
         }
@@ -111,11 +268,22 @@ public class BybitExtractedTradePairer {
     }
 
     public Optional<BybitExtractedEvent> findLiquidStakingCounterLeg(BybitExtractedEvent row) {
+        return findLiquidStakingCounterLeg(row, BybitExtractedPairingCandidates.empty());
+    }
+
+    /**
+     * Liquid-staking legs pair across a six-hour window, too wide to prefetch per batch, so this
+     * still queries per row but skips legs already consumed earlier in the batch.
+     */
+    public Optional<BybitExtractedEvent> findLiquidStakingCounterLeg(
+            BybitExtractedEvent row,
+            BybitExtractedPairingCandidates candidates
+    ) {
         Instant center = row.getTimeUtc();
         if (center == null || row.getUid() == null || row.getAssetSymbol() == null || row.getQuantityRaw() == null) {
             return Optional.empty();
         }
-        Query query = new Query(liquidStakingCriteria(row, center));
+        Query query = new Query(liquidStakingCriteria(row, center, candidates.consumedIds()));
         query.with(Sort.by(Sort.Order.asc("timeUtc"), Sort.Order.asc("_id")));
         List<BybitExtractedEvent> candidates = mongoOperations.find(query, BybitExtractedEvent.class);
         return candidates.stream()
@@ -129,8 +297,8 @@ public class BybitExtractedTradePairer {
                         .thenComparing(BybitExtractedEvent::getId));
     }
 
-    private Criteria liquidStakingCriteria(BybitExtractedEvent row, Instant center) {
-        List<Criteria> criteria = new java.util.ArrayList<>(List.of(
+    private Criteria liquidStakingCriteria(BybitExtractedEvent row, Instant center, Collection<String> excludedIds) {
+        List<Criteria> criteria = new ArrayList<>(List.of(
                 Criteria.where("_id").ne(row.getId()),
                 Criteria.where("status").is(BybitExtractedEventStatus.RAW),
                 Criteria.where("sourceFileType").is(row.getSourceFileType()),
@@ -144,6 +312,9 @@ public class BybitExtractedTradePairer {
         if (requiresExactLiquidStakingDescription(row)) {
             criteria.add(Criteria.where("bybitDescription").is(row.getBybitDescription()));
         }
+        if (!excludedIds.isEmpty()) {
+            criteria.add(Criteria.where("_id").nin(excludedIds));
+        }
         return new Criteria().andOperator(criteria.toArray(Criteria[]::new));
     }
 
@@ -179,6 +350,13 @@ public class BybitExtractedTradePairer {
         return CONVERT_TYPES.contains(normalize(bybitType));
     }
 
+    private static List<String> distinct(
+            List<BybitExtractedEvent> rows,
+            Function<BybitExtractedEvent, String> field
+    ) {
+        return rows.stream().map(field).filter(Objects::nonNull).distinct().toList();
+    }
+
     private double tradeScore(BybitExtractedEvent row, BybitExtractedEvent candidate) {
         if (candidate.getQuantityRaw() == null || row.getQuantityRaw() == null) {
             return Double.MAX_VALUE;
@@ -113,8 +113,18 @@ public class BybitExtractionService {
         if (row == null || row.getIntegrationRawEventId() == null || row.getIntegrationRawEventId().isBlank()) {
             return false;
         }
-        IntegrationRawEvent raw = mongoOperations.findById(row.getIntegrationRawEventId(), IntegrationRawEvent.class);
-        if (raw == null) {
+        return refreshBasisRelevantFromRaw(
+                row,
+                mongoOperations.findById(row.getIntegrationRawEventId(), IntegrationRawEvent.class)
+        );
+    }
+
+    /**
+     * Same as {@link #refreshBasisRelevantFromRaw(BybitExtractedEvent)} for callers that already
+     * loaded the row's raw event (e.g. prefetched for a whole normalization batch).
+     */
+    public boolean refreshBasisRelevantFromRaw(BybitExtractedEvent row, IntegrationRawEvent raw) {
+        if (row == null || raw == null) {
             return false;
         }
         List<BybitExtractedEvent> fresh = extract(raw);
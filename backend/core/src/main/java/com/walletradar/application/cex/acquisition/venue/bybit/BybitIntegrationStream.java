@@ -28,4 +28,17 @@ public enum BybitIntegrationStream {
     public String category() {
         return category;
     }
+
+    /**
+     * Streams whose extracted rows other streams look up at extraction time (loan coverage, chain
+     * deposit/withdrawal hydration, spot-trade dedup). The acquisition scheduler lands them before
+     * the dependent streams of the same integration.
+     */
+    public boolean isReferenceStream() {
+        return switch (this) {
+            case TRANSACTION_LOG, EXECUTION_LINEAR, EXECUTION_INVERSE, EXECUTION_SPOT, EXECUTION_OPTION,
+                    DEPOSIT_ONCHAIN, WITHDRAWAL -> true;
+            default -> false;
+        };
+    }
 }
@@ -0,0 +1,37 @@
+package com.walletradar.application.cex.acquisition.venue.bybit;
+
+/**
+ * Bybit V5 endpoint groups that share one per-UID request budget. Bybit enforces its limits per
+ * UID and endpoint family, so every signed call is charged against the group of its path.
+ */
+public enum BybitRateLimitGroup {
+    /** {@code /v5/execution/*} trade history. */
+    TRADE,
+    /** {@code /v5/account/*} wallet balance and transaction log. */
+    ACCOUNT,
+    /** {@code /v5/asset/*} funding, transfers, deposits, withdrawals and convert history. */
+    ASSET,
+    /** {@code /v5/earn/*} orders and positions. */
+    EARN,
+    /** {@code /v5/user/*} key and sub-member queries. */
+    USER;
+
+    public static BybitRateLimitGroup forPath(String path) {
+        if (path == null) {
+            return USER;
+        }
+        if (path.startsWith("/v5/execution/")) {
+            return TRADE;
+        }
+        if (path.startsWith("/v5/account/")) {
+            return ACCOUNT;
+        }
+        if (path.startsWith("/v5/asset/")) {
+            return ASSET;
+        }
+        if (path.startsWith("/v5/earn/")) {
+            return EARN;
+        }
+        return USER;
+    }
+}
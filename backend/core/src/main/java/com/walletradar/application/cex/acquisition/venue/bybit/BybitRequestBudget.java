@@ -0,0 +1,75 @@
+package com.walletradar.application.cex.acquisition.venue.bybit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.walletradar.application.cex.config.BybitIntegrationProperties;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared per-UID request budget for the signed Bybit client. Each (API key, endpoint group) pair
+ * owns a limiter at the group's full rate; backfill calls additionally pass a second limiter sized
+ * to {@code backfillRateShare} of that rate, so history acquisition can never consume the headroom
+ * that live-balance refreshes and interactive key checks rely on.
+ */
+@Component
+@RequiredArgsConstructor
+public class BybitRequestBudget {
+
+    public enum Priority {
+        LIVE,
+        BACKFILL
+    }
+
+    private final BybitIntegrationProperties properties;
+    private final Cache<String, RateLimiter> limiters = Caffeine.newBuilder()
+            .maximumSize(1_024)
+            .expireAfterAccess(1, TimeUnit.HOURS)
+            .build();
+
+    /**
+     * Blocks until the call may be sent. Throws
+     * {@link io.github.resilience4j.ratelimiter.RequestNotPermitted} when the wait exceeds
+     * {@code rateLimitWaitTimeoutMs}.
+     */
+    public void acquire(String apiKey, BybitRateLimitGroup group, Priority priority) {
+        String owner = apiKey == null ? "" : apiKey;
+        if (priority == Priority.BACKFILL) {
+            RateLimiter.waitForPermission(limiter(owner, group, true));
+        }
+        RateLimiter.waitForPermission(limiter(owner, group, false));
+    }
+
+    private RateLimiter limiter(String owner, BybitRateLimitGroup group, boolean backfillShare) {
+        String key = owner + ":" + group.name() + (backfillShare ? ":backfill" : "");
+        return limiters.get(key, ignored -> RateLimiter.of(
+                "bybit-" + group.name().toLowerCase() + (backfillShare ? "-backfill" : ""),
+                RateLimiterConfig.custom()
+                        .limitForPeriod(backfillShare ? backfillPermits(group) : permitsPerSecond(group))
+                        .limitRefreshPeriod(Duration.ofSeconds(1))
+                        .timeoutDuration(Duration.ofMillis(Math.max(0L, properties.getRateLimitWaitTimeoutMs())))
+                        .build()
+        ));
+    }
+
+    int backfillPermits(BybitRateLimitGroup group) {
+        double share = Math.min(1.0, Math.max(0.0, properties.getBackfillRateShare()));
+        return Math.max(1, (int) Math.floor(permitsPerSecond(group) * share));
+    }
+
+    int permitsPerSecond(BybitRateLimitGroup group) {
+        int configured = switch (group) {
+            case TRADE -> properties.getTradeRequestsPerSecond();
+            case ACCOUNT -> properties.getAccountRequestsPerSecond();
+            case ASSET -> properties.getAssetRequestsPerSecond();
+            case EARN -> properties.getEarnRequestsPerSecond();
+            case USER -> properties.getUserRequestsPerSecond();
+        };
+        return Math.max(1, configured);
+    }
+}
@@ -25,4 +25,15 @@ public class BybitIntegrationProperties {
     private int earnWindowDays = 7;
     private int pageLimit = 50;
     private int historyClampSafetyMinutes = 5;
+    /** Per-UID requests per second for each Bybit endpoint group (see {@code BybitRateLimitGroup}). */
+    private int tradeRequestsPerSecond = 10;
+    private int accountRequestsPerSecond = 10;
+    private int assetRequestsPerSecond = 5;
+    private int earnRequestsPerSecond = 5;
+    private int userRequestsPerSecond = 5;
+    /** Fraction of each group budget that backfill may use; the rest stays free for live-balance refreshes. */
+    private double backfillRateShare = 0.6;
+    private long rateLimitWaitTimeoutMs = 30_000L;
+    /** Upper bound of Bybit backfill segments executed concurrently on virtual threads. */
+    private int backfillMaxConcurrentTasks = 8;
 }
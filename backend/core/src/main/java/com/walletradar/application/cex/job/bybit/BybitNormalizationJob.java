@@ -1,6 +1,5 @@
 package com.walletradar.application.cex.job.bybit;
 
-import com.walletradar.platform.common.config.AsyncConfig;
 import com.walletradar.domain.event.BybitNormalizationCompletedEvent;
 import com.walletradar.domain.event.BybitNormalizationRequestedEvent;
 import com.walletradar.domain.event.SessionBackfillCompletedEvent;
@@ -12,11 +11,11 @@ import com.walletradar.application.session.application.SessionPipelineActivitySe
 import com.walletradar.application.session.application.SessionPipelineStateService;
 import com.walletradar.platform.telemetry.PipelineTelemetrySnapshot;
 import com.walletradar.platform.telemetry.PipelineTelemetrySnapshotService;
+import com.walletradar.application.pipeline.queue.PipelineStageHandoff;
+import com.walletradar.application.pipeline.queue.PipelineStageJob;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
@@ -27,6 +26,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * Event-driven driver for Bybit normalization.
  */
 @Component
+@PipelineStageJob
 @RequiredArgsConstructor
 @Slf4j
 public class BybitNormalizationJob {
@@ -39,7 +39,7 @@ public class BybitNormalizationJob {
     private final BybitNormalizationProperties properties;
     private final BybitNormalizationService bybitNormalizationService;
     private final PipelineTelemetrySnapshotService pipelineTelemetrySnapshotService;
-    private final ApplicationEventPublisher applicationEventPublisher;
+    private final PipelineStageHandoff pipelineStageHandoff;
     private final SessionPipelineActivityService sessionPipelineActivityService;
     private final SessionPipelineStateService sessionPipelineStateService;
 
@@ -48,7 +48,6 @@ public class BybitNormalizationJob {
     }
 
     @EventListener
-    @Async(AsyncConfig.PIPELINE_STAGE_EXECUTOR)
     public void onSessionBackfillCompleted(SessionBackfillCompletedEvent event) {
         if (!properties.isEnabled() || event == null) {
             return;
@@ -57,7 +56,6 @@ public class BybitNormalizationJob {
     }
 
     @EventListener
-    @Async(AsyncConfig.PIPELINE_STAGE_EXECUTOR)
     public void onBybitNormalizationRequested(BybitNormalizationRequestedEvent event) {
         if (!properties.isEnabled() || event == null) {
             return;
@@ -148,6 +146,6 @@ public class BybitNormalizationJob {
         if (processed <= 0 && !publishWhenEmpty) {
             return;
         }
-        applicationEventPublisher.publishEvent(new BybitNormalizationCompletedEvent(sessionId, processed, trigger));
+        pipelineStageHandoff.submit(sessionId, new BybitNormalizationCompletedEvent(sessionId, processed, trigger));
     }
 }
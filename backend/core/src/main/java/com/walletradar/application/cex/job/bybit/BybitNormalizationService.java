@@ -2,11 +2,11 @@ package com.walletradar.application.cex.job.bybit;
 
 import com.walletradar.domain.common.NetworkId;
 import com.walletradar.domain.transaction.bybit.BybitExtractedEvent;
-import com.walletradar.domain.transaction.bybit.BybitExtractedEventRepository;
 import com.walletradar.domain.transaction.bybit.BybitExtractedEventStatus;
 import com.walletradar.domain.transaction.externalledger.ExternalLedgerRaw;
 import com.walletradar.domain.transaction.externalledger.ExternalLedgerRawRepository;
 import com.walletradar.domain.transaction.externalledger.ExternalLedgerRawStatus;
+import com.walletradar.domain.transaction.integration.IntegrationRawEvent;
 import com.walletradar.domain.transaction.integration.IntegrationRawEventRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
 import com.walletradar.application.cex.normalization.venue.bybit.BybitBotExecutionAttributionService;
@@ -27,21 +27,38 @@ import com.walletradar.application.normalization.store.IdempotentNormalizedTrans
 import com.walletradar.application.session.application.AccountingUniverseService;
 import com.walletradar.application.cex.acquisition.venue.bybit.BybitExtractionService;
 import com.walletradar.application.cex.acquisition.venue.bybit.BybitExtractedEventMapper;
+import com.walletradar.application.cex.acquisition.venue.bybit.BybitExtractedPairingCandidates;
 import com.walletradar.application.cex.acquisition.venue.bybit.BybitExtractedTradePairer;
 import com.walletradar.application.cex.acquisition.venue.bybit.BybitExtractedTransferShadowPairer;
+import com.walletradar.application.cex.acquisition.venue.bybit.BybitIntegrationStream;
 import com.walletradar.application.cex.acquisition.venue.bybit.PendingBybitExtractedRowQueryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * Materializes canonical Bybit docs from immutable ledger rows.
+ *
+ * <p>The extracted lane works a whole batch at a time: raw events and opposite-leg candidates are
+ * prefetched with {@code $in} queries, legs are paired in memory, and normalized docs plus staging
+ * row transitions are written in bulk once the batch is done.</p>
  */
 @Service
 @RequiredArgsConstructor
@@ -60,7 +77,6 @@ public class BybitNormalizationService {
             com.walletradar.canonical.correlation.CorrelationContract.BYBIT_EARN_SELF_RT_V1_PREFIX + "subscribe-pending";
 
     private final PendingBybitExtractedRowQueryService pendingBybitExtractedRowQueryService;
-    private final BybitExtractedEventRepository bybitExtractedEventRepository;
     private final IntegrationRawEventRepository integrationRawEventRepository;
     private final BybitExtractedTradePairer bybitExtractedTradePairer;
     private final BybitExtractedTransferShadowPairer bybitExtractedTransferShadowPairer;
@@ -82,6 +98,7 @@ public class BybitNormalizationService {
     private final BybitOnChainEarnFundPairer bybitOnChainEarnFundPairer;
     private final BybitBotExecutionAttributionService bybitBotExecutionAttributionService;
     private final BybitBotTransferCostBasisService bybitBotTransferCostBasisService;
+    private final MongoOperations mongoOperations;
 
     public int processNextBatch(int batchSize) {
         return processNextBatch(batchSize, null);
@@ -148,32 +165,89 @@ public class BybitNormalizationService {
     private int processNextBatchInternal(int batchSize) {
         List<BybitExtractedEvent> extractedBatch = safe(pendingBybitExtractedRowQueryService.loadNextBatch(batchSize));
         int processed = 0;
-        for (BybitExtractedEvent candidate : extractedBatch) {
-            Optional<BybitExtractedEvent> current = bybitExtractedEventRepository.findById(candidate.getId());
-            if (current.isEmpty() || !isProcessable(current.orElseThrow())) {
-                continue;
-            }
-            if (normalize(current.orElseThrow(), Instant.now())) {
-                processed++;
+        if (!extractedBatch.isEmpty()) {
+            ExtractedBatch batch = new ExtractedBatch(
+                    prefetchRawEvents(extractedBatch),
+                    bybitExtractedTradePairer.prefetch(extractedBatch)
+            );
+            for (BybitExtractedEvent candidate : extractedBatch) {
+                // The batch query only returns RAW rows; rows paired earlier in this batch are consumed.
+                if (batch.candidates.isConsumed(candidate.getId()) || !isProcessable(candidate)) {
+                    continue;
+                }
+                if (normalize(candidate, Instant.now(), batch)) {
+                    processed++;
+                }
             }
+            // Not flushed when a row throws: its batch-mates stay RAW and are normalized again next pass.
+            flush(batch);
         }
         if (processed > 0 || !extractedBatch.isEmpty()) {
             return processed;
         }
 
         List<ExternalLedgerRaw> batch = safe(pendingExternalLedgerRowQueryService.loadNextBatch(batchSize));
+        Set<String> consumed = new HashSet<>();
         for (ExternalLedgerRaw candidate : batch) {
-            Optional<ExternalLedgerRaw> current = externalLedgerRawRepository.findById(candidate.getId());
-            if (current.isEmpty() || !isProcessable(current.orElseThrow())) {
+            if (consumed.contains(candidate.getId()) || !isProcessable(candidate)) {
                 continue;
             }
-            if (normalize(current.orElseThrow(), Instant.now())) {
+            if (normalize(candidate, Instant.now(), consumed)) {
                 processed++;
             }
         }
         return processed;
     }
 
+    private Map<String, IntegrationRawEvent> prefetchRawEvents(List<BybitExtractedEvent> rows) {
+        List<String> ids = rows.stream()
+                .map(BybitExtractedEvent::getIntegrationRawEventId)
+                .filter(id -> !blank(id))
+                .distinct()
+                .toList();
+        Map<String, IntegrationRawEvent> rawEventsById = new LinkedHashMap<>();
+        if (!ids.isEmpty()) {
+            integrationRawEventRepository.findAllById(ids).forEach(raw -> rawEventsById.put(raw.getId(), raw));
+        }
+        return rawEventsById;
+    }
+
+    /**
+     * Normalized docs go first so a failure between the two writes leaves the staging rows RAW
+     * and the idempotent store simply merges them again on the next pass.
+     */
+    private void flush(ExtractedBatch batch) {
+        if (!batch.normalized.isEmpty()) {
+            normalizedTransactionStore.upsertAll(List.copyOf(batch.normalized));
+            batch.normalized.clear();
+        }
+        if (batch.dirtyRows.isEmpty()) {
+            return;
+        }
+        BulkOperations ops = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, BybitExtractedEvent.class);
+        for (BybitExtractedEvent row : batch.dirtyRows.values()) {
+            ops.replaceOne(
+                    Query.query(Criteria.where("_id").is(row.getId())),
+                    row,
+                    FindAndReplaceOptions.options().upsert()
+            );
+        }
+        ops.execute();
+        log.debug("BYBIT_NORMALIZATION_FLUSH stagingRows={}", batch.dirtyRows.size());
+        batch.dirtyRows.clear();
+    }
+
+    /**
+     * The funding-history sibling, transfer-shadow and liquid-staking lookups read staging rows from
+     * Mongo. When a buffered write touches a row such a lookup could return, the buffer is flushed
+     * first so the lookup sees this batch's earlier rows instead of their pre-batch state.
+     */
+    private void flushBeforeLookup(ExtractedBatch batch, Predicate<BybitExtractedEvent> lookupCandidate) {
+        if (batch.hasPendingWrite(lookupCandidate)) {
+            flush(batch);
+        }
+    }
+
     private boolean isProcessable(ExternalLedgerRaw row) {
         return row.getStatus() == ExternalLedgerRawStatus.RAW;
     }
@@ -182,78 +256,86 @@ public class BybitNormalizationService {
         return row.getStatus() == BybitExtractedEventStatus.RAW;
     }
 
-    boolean normalize(ExternalLedgerRaw row, Instant now) {
+    boolean normalize(ExternalLedgerRaw row, Instant now, Set<String> consumed) {
         if (isFundingHistoryExecutionSpotDuplicate(row)) {
-            return normalizeFundingHistorySpotDuplicate(row, now);
+            return normalizeFundingHistorySpotDuplicate(row, now, consumed);
         }
         if (isTradeRow(row)) {
-            return normalizeTradeRow(row, now);
+            return normalizeTradeRow(row, now, consumed);
         }
         if (isConvertRow(row)) {
-            return normalizeConvertRow(row, now);
+            return normalizeConvertRow(row, now, consumed);
         }
         if (isLiquidStakingRow(row)) {
-            return normalizeLiquidStakingRow(row, now);
+            return normalizeLiquidStakingRow(row, now, consumed);
         }
         if (isUnsafeLoanRow(row)) {
             NormalizedTransaction normalized = builder.buildExcludedReviewRow(row, now, "BYBIT_LOAN_SEMANTICS_UNSUPPORTED");
             normalizedTransactionStore.upsert(normalized);
-            markConfirmed(row);
+            markConfirmed(row, consumed);
             return true;
         }
 
         if (isTransferShadowRow(row)) {
-            return normalizeTransferShadowRow(row, now);
+            return normalizeTransferShadowRow(row, now, consumed);
         }
 
         if (isNonClusteredOnChainEarnRedemptionRow(row)) {
-            return normalizeNonClusteredOnChainEarnRedemption(row, now);
+            return normalizeNonClusteredOnChainEarnRedemption(row, now, consumed);
         }
 
         NormalizedTransaction normalized = builder.buildMappedRow(row, now);
         normalizedTransactionStore.upsert(normalized);
-        markConfirmed(row);
+        markConfirmed(row, consumed);
         return true;
     }
 
-    boolean normalize(BybitExtractedEvent row, Instant now) {
-        boolean basisRefreshed = bybitExtractionService.refreshBasisRelevantFromRaw(row);
-        hydrateMissingTransferFields(row);
+    boolean normalize(BybitExtractedEvent row, Instant now, ExtractedBatch batch) {
+        boolean basisRefreshed = bybitExtractionService.refreshBasisRelevantFromRaw(
+                row,
+                batch.rawEventsById.get(row.getIntegrationRawEventId())
+        );
+        hydrateMissingTransferFields(row, batch.rawEventsById.get(row.getIntegrationRawEventId()));
+        if (BybitIntegrationStream.FUNDING_HISTORY.name().equalsIgnoreCase(row.getSourceStream())) {
+            flushBeforeLookup(batch, pending ->
+                    BybitIntegrationStream.DEPOSIT_ONCHAIN.name().equals(pending.getSourceStream())
+                            || BybitIntegrationStream.WITHDRAWAL.name().equals(pending.getSourceStream()));
+        }
         boolean fundingHistoryHydrated = bybitExtractionService.hydrateFundingHistoryFromOnChainSibling(row);
         boolean walletRefUpdated = dimensionWalletRefIfMissing(row);
         if (walletRefUpdated || basisRefreshed || fundingHistoryHydrated) {
-            bybitExtractedEventRepository.save(row);
+            batch.save(row);
         }
         ExternalLedgerRaw mappedRow = bybitExtractedEventMapper.toLegacyRaw(row);
         if (isFundingHistoryExecutionSpotDuplicate(mappedRow)) {
-            return normalizeFundingHistorySpotDuplicate(row, mappedRow, now);
+            return normalizeFundingHistorySpotDuplicate(row, mappedRow, now, batch);
         }
         if (isTradeRow(mappedRow)) {
-            return normalizeTradeRow(row, mappedRow, now);
+            return normalizeTradeRow(row, mappedRow, now, batch);
         }
         if (isConvertRow(mappedRow)) {
-            return normalizeConvertRow(row, mappedRow, now);
+            return normalizeConvertRow(row, mappedRow, now, batch);
         }
         if (isLiquidStakingRow(mappedRow)) {
-            return normalizeLiquidStakingRow(row, mappedRow, now);
+            return normalizeLiquidStakingRow(row, mappedRow, now, batch);
         }
         if (isUnsafeLoanRow(mappedRow)) {
             NormalizedTransaction normalized = builder.buildExcludedReviewRow(mappedRow, now, "BYBIT_LOAN_SEMANTICS_UNSUPPORTED");
-            normalizedTransactionStore.upsert(normalized);
-            markConfirmed(row);
+            batch.stage(normalized);
+            batch.markConfirmed(row);
             return true;
         }
         if (isTransferShadowRow(mappedRow)) {
-            return normalizeTransferShadowRow(row, mappedRow, now);
+            return normalizeTransferShadowRow(row, mappedRow, now, batch);
         }
 
         if (isNonClusteredOnChainEarnRedemptionRow(mappedRow)) {
-            return normalizeNonClusteredOnChainEarnRedemption(row, mappedRow, now);
+            return normalizeNonClusteredOnChainEarnRedemption(row, mappedRow, now, batch);
         }
 
         NormalizedTransaction normalized = builder.buildMappedRow(mappedRow, now);
-        normalizedTransactionStore.upsert(normalized);
-        markConfirmed(row);
+        batch.stage(normalized);
+        batch.markConfirmed(row);
         return true;
     }
 
@@ -300,28 +382,26 @@ public class BybitNormalizationService {
         return "FUND";
     }
 
-    private void hydrateMissingTransferFields(BybitExtractedEvent row) {
-        if (row == null || blank(row.getIntegrationRawEventId())) {
+    private void hydrateMissingTransferFields(BybitExtractedEvent row, IntegrationRawEvent rawEvent) {
+        if (row == null || rawEvent == null) {
             return;
         }
         if (!blank(row.getSenderAddress()) && !blank(row.getReceivedAddress()) && !blank(row.getTxHash())) {
             return;
         }
-        integrationRawEventRepository.findById(row.getIntegrationRawEventId()).ifPresent(rawEvent -> {
-            Document payload = rawEvent.getPayload();
-            if (payload == null) {
-                return;
-            }
-            if (blank(row.getSenderAddress())) {
-                row.setSenderAddress(text(payload, "fromAddress"));
-            }
-            if (blank(row.getReceivedAddress())) {
-                row.setReceivedAddress(text(payload, "toAddress", "address"));
-            }
-            if (blank(row.getTxHash())) {
-                row.setTxHash(text(payload, "txID", "txId"));
-            }
-        });
+        Document payload = rawEvent.getPayload();
+        if (payload == null) {
+            return;
+        }
+        if (blank(row.getSenderAddress())) {
+            row.setSenderAddress(text(payload, "fromAddress"));
+        }
+        if (blank(row.getReceivedAddress())) {
+            row.setReceivedAddress(text(payload, "toAddress", "address"));
+        }
+        if (blank(row.getTxHash())) {
+            row.setTxHash(text(payload, "txID", "txId"));
+        }
     }
 
     private boolean isTradeRow(ExternalLedgerRaw row) {
@@ -346,7 +426,7 @@ public class BybitNormalizationService {
                 && fundingHistoryDuplicatesExecutionSpot(row);
     }
 
-    private boolean normalizeFundingHistorySpotDuplicate(ExternalLedgerRaw row, Instant now) {
+    private boolean normalizeFundingHistorySpotDuplicate(ExternalLedgerRaw row, Instant now, Set<String> consumed) {
         row.setBasisRelevant(false);
         externalLedgerRawRepository.save(row);
         NormalizedTransaction excluded = builder.buildExcludedReviewRow(
@@ -355,25 +435,26 @@ public class BybitNormalizationService {
                 "BYBIT_FUNDING_HISTORY_EXECUTION_SPOT_DUPLICATE"
         );
         normalizedTransactionStore.upsert(excluded);
-        markConfirmed(row);
+        markConfirmed(row, consumed);
         return true;
     }
 
     private boolean normalizeFundingHistorySpotDuplicate(
             BybitExtractedEvent row,
             ExternalLedgerRaw mappedRow,
-            Instant now
+            Instant now,
+            ExtractedBatch batch
     ) {
         row.setBasisRelevant(false);
-        bybitExtractedEventRepository.save(row);
+        batch.save(row);
         mappedRow.setBasisRelevant(false);
         NormalizedTransaction excluded = builder.buildExcludedReviewRow(
                 mappedRow,
                 now,
                 "BYBIT_FUNDING_HISTORY_EXECUTION_SPOT_DUPLICATE"
         );
-        normalizedTransactionStore.upsert(excluded);
-        markConfirmed(row);
+        batch.stage(excluded);
+        batch.markConfirmed(row);
         return true;
     }
 
@@ -416,7 +497,7 @@ public class BybitNormalizationService {
                 && isNonClusteredOnChainEarnAsset(row.getAssetSymbol());
     }
 
-    private boolean normalizeNonClusteredOnChainEarnRedemption(ExternalLedgerRaw row, Instant now) {
+    private boolean normalizeNonClusteredOnChainEarnRedemption(ExternalLedgerRaw row, Instant now, Set<String> consumed) {
         log.warn("BYBIT_ONCHAIN_EARN_NON_CLUSTERED_REDEEM assetSymbol={} rowId={}",
                 row.getAssetSymbol(), row.getId());
         NormalizedTransaction normalized = builder.buildMappedRow(row, now);
@@ -425,18 +506,23 @@ public class BybitNormalizationService {
         normalized.setContinuityCandidate(false);
         normalized.setCorrelationId(null);
         normalizedTransactionStore.upsert(normalized);
-        markConfirmed(row);
+        markConfirmed(row, consumed);
         return true;
     }
 
-    private boolean normalizeNonClusteredOnChainEarnRedemption(BybitExtractedEvent row, ExternalLedgerRaw mappedRow, Instant now) {
+    private boolean normalizeNonClusteredOnChainEarnRedemption(
+            BybitExtractedEvent row,
+            ExternalLedgerRaw mappedRow,
+            Instant now,
+            ExtractedBatch batch
+    ) {
         log.warn("BYBIT_ONCHAIN_EARN_NON_CLUSTERED_REDEEM assetSymbol={} rowId={}",
                 mappedRow.getAssetSymbol(), row.getId());
         NormalizedTransaction normalized = builder.buildMappedRow(mappedRow, now);
         normalized.setContinuityCandidate(false);
         normalized.setCorrelationId(null);
-        normalizedTransactionStore.upsert(normalized);
-        markConfirmed(row);
+        batch.stage(normalized);
+        batch.markConfirmed(row);
         return true;
     }
 
@@ -500,29 +586,29 @@ public class BybitNormalizationService {
         return false;
     }
 
-    private boolean normalizeTradeRow(ExternalLedgerRaw row, Instant now) {
+    private boolean normalizeTradeRow(ExternalLedgerRaw row, Instant now, Set<String> consumed) {
         Optional<ExternalLedgerRaw> paired = bybitTradePairer.findOppositeLeg(row);
         if (paired.isPresent()) {
             ExternalLedgerRaw pair = paired.orElseThrow();
             NormalizedTransaction normalized = builder.buildTradePair(row, pair, now);
             normalizedTransactionStore.upsert(normalized);
-            markConfirmed(row);
-            markConfirmed(pair);
+            markConfirmed(row, consumed);
+            markConfirmed(pair, consumed);
             return true;
         }
 
         NormalizedTransaction orphan = builder.buildOrphanTrade(row, now);
         normalizedTransactionStore.upsert(orphan);
-        markConfirmed(row);
+        markConfirmed(row, consumed);
         return true;
     }
 
-    private boolean normalizeOrphanConvertRow(ExternalLedgerRaw row, Instant now, String reason) {
+    private boolean normalizeOrphanConvertRow(ExternalLedgerRaw row, Instant now, String reason, Set<String> consumed) {
         log.warn("Bybit convert orphan (legacy path): id={}, reason={}", row.getId(), reason);
         row.setBasisRelevant(false);
         NormalizedTransaction excluded = builder.buildExcludedReviewRow(row, now, reason);
         normalizedTransactionStore.upsert(excluded);
-        markConfirmed(row);
+        markConfirmed(row, consumed);
         return true;
     }
 
@@ -530,19 +616,20 @@ public class BybitNormalizationService {
             BybitExtractedEvent row,
             ExternalLedgerRaw mappedRow,
             Instant now,
-            String reason
+            String reason,
+            ExtractedBatch batch
     ) {
         log.warn("Bybit convert orphan: id={}, tradeOrderId={}, reason={}", row.getId(), row.getTradeOrderId(), reason);
         row.setBasisRelevant(false);
         mappedRow.setBasisRelevant(false);
         NormalizedTransaction excluded = builder.buildExcludedReviewRow(mappedRow, now, reason);
-        normalizedTransactionStore.upsert(excluded);
-        markConfirmed(row);
+        batch.stage(excluded);
+        batch.markConfirmed(row);
         return true;
     }
 
-    private boolean normalizeTradeRow(BybitExtractedEvent row, ExternalLedgerRaw mappedRow, Instant now) {
-        Optional<BybitExtractedEvent> paired = bybitExtractedTradePairer.findOppositeLeg(row);
+    private boolean normalizeTradeRow(BybitExtractedEvent row, ExternalLedgerRaw mappedRow, Instant now, ExtractedBatch batch) {
+        Optional<BybitExtractedEvent> paired = bybitExtractedTradePairer.findOppositeLeg(row, batch.candidates);
         if (paired.isPresent()) {
             BybitExtractedEvent pair = paired.orElseThrow();
             NormalizedTransaction normalized = builder.buildTradePair(
@@ -550,19 +637,19 @@ public class BybitNormalizationService {
                     bybitExtractedEventMapper.toLegacyRaw(pair),
                     now
             );
-            normalizedTransactionStore.upsert(normalized);
-            markConfirmed(row);
-            markConfirmed(pair);
+            batch.stage(normalized);
+            batch.markConfirmed(row);
+            batch.markConfirmed(pair);
             return true;
         }
 
         NormalizedTransaction orphan = builder.buildOrphanTrade(mappedRow, now);
-        normalizedTransactionStore.upsert(orphan);
-        markConfirmed(row);
+        batch.stage(orphan);
+        batch.markConfirmed(row);
         return true;
     }
 
-    private boolean normalizeConvertRow(ExternalLedgerRaw row, Instant now) {
+    private boolean normalizeConvertRow(ExternalLedgerRaw row, Instant now, Set<String> consumed) {
         List<ExternalLedgerRaw> cluster = new ArrayList<>(bybitTradePairer.loadConvertCluster(row));
         if (cluster.isEmpty()) {
             cluster = List.of(row);
@@ -570,36 +657,36 @@ public class BybitNormalizationService {
         boolean hasBuy = cluster.stream().anyMatch(candidate -> candidate.getQuantityRaw() != null && candidate.getQuantityRaw().signum() > 0);
         boolean hasSell = cluster.stream().anyMatch(candidate -> candidate.getQuantityRaw() != null && candidate.getQuantityRaw().signum() < 0);
         if (cluster.size() < 2 || !hasBuy || !hasSell) {
-            return normalizeOrphanConvertRow(row, now, "BYBIT_CONVERT_CLUSTER_INCOMPLETE");
+            return normalizeOrphanConvertRow(row, now, "BYBIT_CONVERT_CLUSTER_INCOMPLETE", consumed);
         }
 
         NormalizedTransaction normalized = builder.buildConvertCluster(cluster, now);
         normalizedTransactionStore.upsert(normalized);
-        cluster.forEach(this::markConfirmed);
+        cluster.forEach(leg -> markConfirmed(leg, consumed));
         return true;
     }
 
-    private boolean normalizeConvertRow(BybitExtractedEvent row, ExternalLedgerRaw mappedRow, Instant now) {
-        List<BybitExtractedEvent> cluster = new ArrayList<>(bybitExtractedTradePairer.loadConvertCluster(row));
+    private boolean normalizeConvertRow(BybitExtractedEvent row, ExternalLedgerRaw mappedRow, Instant now, ExtractedBatch batch) {
+        List<BybitExtractedEvent> cluster = new ArrayList<>(bybitExtractedTradePairer.loadConvertCluster(row, batch.candidates));
         if (cluster.isEmpty()) {
             cluster = List.of(row);
         }
         boolean hasBuy = cluster.stream().anyMatch(candidate -> candidate.getQuantityRaw() != null && candidate.getQuantityRaw().signum() > 0);
         boolean hasSell = cluster.stream().anyMatch(candidate -> candidate.getQuantityRaw() != null && candidate.getQuantityRaw().signum() < 0);
         if (cluster.size() < 2 || !hasBuy || !hasSell) {
-            return normalizeOrphanConvertExtractedRow(row, mappedRow, now, "BYBIT_CONVERT_CLUSTER_INCOMPLETE");
+            return normalizeOrphanConvertExtractedRow(row, mappedRow, now, "BYBIT_CONVERT_CLUSTER_INCOMPLETE", batch);
         }
 
         NormalizedTransaction normalized = builder.buildConvertCluster(
                 cluster.stream().map(bybitExtractedEventMapper::toLegacyRaw).toList(),
                 now
         );
-        normalizedTransactionStore.upsert(normalized);
-        cluster.forEach(this::markConfirmed);
+        batch.stage(normalized);
+        cluster.forEach(batch::markConfirmed);
         return true;
     }
 
-    private boolean normalizeLiquidStakingRow(ExternalLedgerRaw row, Instant now) {
+    private boolean normalizeLiquidStakingRow(ExternalLedgerRaw row, Instant now, Set<String> consumed) {
         Optional<ExternalLedgerRaw> paired = bybitTradePairer.findLiquidStakingCounterLeg(row);
         if (paired.isPresent()) {
             ExternalLedgerRaw pair = paired.orElseThrow();
@@ -615,8 +702,8 @@ public class BybitNormalizationService {
                     ? builder.buildStakingPair(row, pair, now)
                     : builder.buildCrossSubAccountStakingPair(liquidStakingDebit(row, pair), liquidStakingCredit(row, pair), now);
             normalizedTransactionStore.upsert(normalized);
-            markConfirmed(row);
-            markConfirmed(pair);
+            markConfirmed(row, consumed);
+            markConfirmed(pair, consumed);
             return true;
         }
 
@@ -636,18 +723,20 @@ public class BybitNormalizationService {
             // as a false same-sign duplicate before pairing completes.
             normalized.setContinuityCandidate(false);
             normalizedTransactionStore.upsert(normalized);
-            markConfirmed(row);
+            markConfirmed(row, consumed);
             return true;
         }
 
         NormalizedTransaction review = builder.buildNeedsReviewRow(row, now, "BYBIT_LIQUID_STAKING_PAIR_NOT_FOUND");
         normalizedTransactionStore.upsert(review);
-        markConfirmed(row);
+        markConfirmed(row, consumed);
         return true;
     }
 
-    private boolean normalizeLiquidStakingRow(BybitExtractedEvent row, ExternalLedgerRaw mappedRow, Instant now) {
-        Optional<BybitExtractedEvent> paired = bybitExtractedTradePairer.findLiquidStakingCounterLeg(row);
+    private boolean normalizeLiquidStakingRow(BybitExtractedEvent row, ExternalLedgerRaw mappedRow, Instant now, ExtractedBatch batch) {
+        flushBeforeLookup(batch, pending -> Objects.equals(pending.getUid(), row.getUid())
+                && Objects.equals(pending.getBybitType(), row.getBybitType()));
+        Optional<BybitExtractedEvent> paired = bybitExtractedTradePairer.findLiquidStakingCounterLeg(row, batch.candidates);
         if (paired.isPresent()) {
             BybitExtractedEvent pair = paired.orElseThrow();
             // Cycle/9 S4 (superseded): see legacy-path comment above. Cross-sub-account ETH-family
@@ -658,9 +747,9 @@ public class BybitNormalizationService {
                     ? builder.buildStakingPair(mappedRow, pairLegacy, now)
                     : builder.buildCrossSubAccountStakingPair(
                             liquidStakingDebit(mappedRow, pairLegacy), liquidStakingCredit(mappedRow, pairLegacy), now);
-            normalizedTransactionStore.upsert(normalized);
-            markConfirmed(row);
-            markConfirmed(pair);
+            batch.stage(normalized);
+            batch.markConfirmed(row);
+            batch.markConfirmed(pair);
             return true;
         }
 
@@ -671,14 +760,14 @@ public class BybitNormalizationService {
             NormalizedTransaction normalized = builder.buildMappedRow(mappedRow, now);
             normalized.setCorrelationId(ONCHAIN_EARN_SELF_RT_SUBSCRIBE_PENDING);
             normalized.setContinuityCandidate(false);
-            normalizedTransactionStore.upsert(normalized);
-            markConfirmed(row);
+            batch.stage(normalized);
+            batch.markConfirmed(row);
             return true;
         }
 
         NormalizedTransaction review = builder.buildNeedsReviewRow(mappedRow, now, "BYBIT_LIQUID_STAKING_PAIR_NOT_FOUND");
-        normalizedTransactionStore.upsert(review);
-        markConfirmed(row);
+        batch.stage(review);
+        batch.markConfirmed(row);
         return true;
     }
 
@@ -752,34 +841,32 @@ public class BybitNormalizationService {
         return parts[2];
     }
 
-    private boolean normalizeTransferShadowRow(ExternalLedgerRaw row, Instant now) {
+    private boolean normalizeTransferShadowRow(ExternalLedgerRaw row, Instant now, Set<String> consumed) {
         NormalizedTransaction normalized = builder.buildMappedRow(row, now);
         if (bybitTransferShadowPairer.findChainAwareTransferSibling(row).isPresent()) {
             builder.markTransferShadowExcluded(normalized, now, TRANSFER_SHADOW_EXCLUSION_REASON);
         }
         normalizedTransactionStore.upsert(normalized);
-        markConfirmed(row);
+        markConfirmed(row, consumed);
         return true;
     }
 
-    private boolean normalizeTransferShadowRow(BybitExtractedEvent row, ExternalLedgerRaw mappedRow, Instant now) {
+    private boolean normalizeTransferShadowRow(BybitExtractedEvent row, ExternalLedgerRaw mappedRow, Instant now, ExtractedBatch batch) {
         NormalizedTransaction normalized = builder.buildMappedRow(mappedRow, now);
+        flushBeforeLookup(batch, pending -> Objects.equals(pending.getUid(), row.getUid())
+                && "withdraw_deposit".equals(pending.getSourceFileType()));
         if (bybitExtractedTransferShadowPairer.findChainAwareTransferSibling(row).isPresent()) {
             builder.markTransferShadowExcluded(normalized, now, TRANSFER_SHADOW_EXCLUSION_REASON);
         }
-        normalizedTransactionStore.upsert(normalized);
-        markConfirmed(row);
+        batch.stage(normalized);
+        batch.markConfirmed(row);
         return true;
     }
 
-    private void markConfirmed(ExternalLedgerRaw row) {
+    private void markConfirmed(ExternalLedgerRaw row, Set<String> consumed) {
         row.setStatus(ExternalLedgerRawStatus.CONFIRMED);
         externalLedgerRawRepository.save(row);
-    }
-
-    private void markConfirmed(BybitExtractedEvent row) {
-        row.setStatus(BybitExtractedEventStatus.CONFIRMED);
-        bybitExtractedEventRepository.save(row);
+        consumed.add(row.getId());
     }
 
     private String normalize(String value) {
@@ -836,4 +923,40 @@ public class BybitNormalizationService {
     private static boolean isNonClusteredOnChainEarnAsset(String assetSymbol) {
         return AccountingAssetClassificationSupport.normalizationClusterForSymbol(assetSymbol) == null;
     }
+
+    /**
+     * Extracted-lane batch state: prefetched raw events and pairing candidates, plus the normalized
+     * docs and staging-row writes that {@link #flush(ExtractedBatch)} sends in bulk once the batch
+     * completes, or earlier when a dependent lookup needs them.
+     */
+    static final class ExtractedBatch {
+
+        private final Map<String, IntegrationRawEvent> rawEventsById;
+        private final BybitExtractedPairingCandidates candidates;
+        private final List<NormalizedTransaction> normalized = new ArrayList<>();
+        private final Map<String, BybitExtractedEvent> dirtyRows = new LinkedHashMap<>();
+
+        ExtractedBatch(Map<String, IntegrationRawEvent> rawEventsById, BybitExtractedPairingCandidates candidates) {
+            this.rawEventsById = rawEventsById;
+            this.candidates = candidates;
+        }
+
+        void stage(NormalizedTransaction transaction) {
+            normalized.add(transaction);
+        }
+
+        void save(BybitExtractedEvent row) {
+            dirtyRows.put(row.getId(), row);
+        }
+
+        boolean hasPendingWrite(Predicate<BybitExtractedEvent> matches) {
+            return dirtyRows.values().stream().anyMatch(matches);
+        }
+
+        void markConfirmed(BybitExtractedEvent row) {
+            row.setStatus(BybitExtractedEventStatus.CONFIRMED);
+            save(row);
+            candidates.consume(row.getId());
+        }
+    }
 }
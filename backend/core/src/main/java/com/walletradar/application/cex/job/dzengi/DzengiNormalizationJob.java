@@ -1,6 +1,5 @@
 package com.walletradar.application.cex.job.dzengi;
 
-import com.walletradar.platform.common.config.AsyncConfig;
 import com.walletradar.domain.event.DzengiNormalizationCompletedEvent;
 import com.walletradar.domain.event.DzengiNormalizationRequestedEvent;
 import com.walletradar.domain.event.SessionBackfillCompletedEvent;
@@ -10,11 +9,11 @@ import com.walletradar.application.pipeline.config.JobHeartbeatProperties;
 import com.walletradar.platform.common.job.StageExecutionLogSupport;
 import com.walletradar.application.session.application.SessionPipelineActivityService;
 import com.walletradar.application.session.application.SessionPipelineStateService;
+import com.walletradar.application.pipeline.queue.PipelineStageHandoff;
+import com.walletradar.application.pipeline.queue.PipelineStageJob;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
@@ -25,6 +24,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * Event-driven driver for Dzengi normalization.
  */
 @Component
+@PipelineStageJob
 @RequiredArgsConstructor
 @Slf4j
 public class DzengiNormalizationJob {
@@ -35,12 +35,11 @@ public class DzengiNormalizationJob {
     private final JobHeartbeatProperties jobHeartbeatProperties;
     private final DzengiNormalizationProperties properties;
     private final DzengiNormalizationService dzengiNormalizationService;
-    private final ApplicationEventPublisher applicationEventPublisher;
+    private final PipelineStageHandoff pipelineStageHandoff;
     private final SessionPipelineActivityService sessionPipelineActivityService;
     private final SessionPipelineStateService sessionPipelineStateService;
 
     @EventListener
-    @Async(AsyncConfig.PIPELINE_STAGE_EXECUTOR)
     public void onSessionBackfillCompleted(SessionBackfillCompletedEvent event) {
         if (!properties.isEnabled() || event == null) {
             return;
@@ -49,7 +48,6 @@ public class DzengiNormalizationJob {
     }
 
     @EventListener
-    @Async(AsyncConfig.PIPELINE_STAGE_EXECUTOR)
     public void onDzengiNormalizationRequested(DzengiNormalizationRequestedEvent event) {
         if (!properties.isEnabled() || event == null) {
             return;
@@ -118,6 +116,6 @@ public class DzengiNormalizationJob {
         if (processed <= 0 && !publishWhenEmpty) {
             return;
         }
-        applicationEventPublisher.publishEvent(new DzengiNormalizationCompletedEvent(sessionId, processed, trigger));
+        pipelineStageHandoff.submit(sessionId, new DzengiNormalizationCompletedEvent(sessionId, processed, trigger));
     }
 }
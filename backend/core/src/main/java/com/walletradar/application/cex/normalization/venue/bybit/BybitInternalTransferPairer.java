@@ -2,16 +2,17 @@ package com.walletradar.application.cex.normalization.venue.bybit;
 
 import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
-import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
 import com.walletradar.application.normalization.config.BybitInternalTransferProperties;
 import com.walletradar.application.linking.pipeline.clarification.CorridorCorrelationKeyFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -37,11 +38,13 @@ import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.walletradar.application.cex.normalization.venue.bybit.BybitStreamAuthorityCollapserSupport.idTiebreak;
 
 /**
  * Cycle/6 A2 + Cycle/12: Post-normalization pairer for Bybit {@code INTERNAL_TRANSFER} legs.
+ * The 1:1 passes share {@link BybitTransferPairingEngine} (fingerprint partitions + time sweep).
  *
  * <p>Passes (in order):
  * <ol>
@@ -51,6 +54,10 @@ import static com.walletradar.application.cex.normalization.venue.bybit.BybitStr
  *     <li>{@link #pairBundles()} — N-way near-zero clusters within a short time window (UTA+FUND+EARN).</li>
  *     <li>{@link #pairSameWalletRoundTrips()} — same-sub-account Earn subscribe/unsubscribe round-trips.</li>
  * </ol>
+ *
+ * <p>Every pass reads its candidates through one cursor projected to {@code PAIRING_FIELDS} and writes
+ * its rewrites as one unordered bulk of {@code $set} updates on the fields passes rewrite, so the rest
+ * of each leg stays as stored.</p>
  */
 @Service
 @Slf4j
@@ -71,21 +78,30 @@ public class BybitInternalTransferPairer {
     private static final Duration BROAD_PAIR_DRIFT = Duration.ofMinutes(10);
     private static final Duration SAME_SIGN_MIRROR_WINDOW = Duration.ofMinutes(10);
     private static final Pattern EVM_HEX_ADDRESS = Pattern.compile("^0x[a-fA-F0-9]{40}$");
+    private static final int CANDIDATE_BATCH_SIZE = 1_000;
+
+    /**
+     * Fields the passes read (signatures, guards, carry stamps) or rewrite. A rewrite sets the rewritable
+     * ones back from the loaded leg, so each of those must be loaded even when no pass reads it.
+     */
+    private static final String[] PAIRING_FIELDS = {
+            "source", "type", "walletAddress", "counterpartyAddress", "matchedCounterparty", "networkId",
+            "txHash", "blockTimestamp", "transactionIndex", "flows", "correlationId", "continuityCandidate",
+            "excludedFromAccounting", "accountingExclusionReason", "venue", "bybitUid", "venueInternalCarry",
+            "carrySourceHint", "selfTransferNoop", "updatedAt"
+    };
 
     private final MongoOperations mongoOperations;
-    private final NormalizedTransactionRepository normalizedTransactionRepository;
     private final BybitInternalTransferProperties properties;
 
     private final BybitCrossUidUniversalTransferPairer crossUidUniversalTransferPairer;
 
     public BybitInternalTransferPairer(
             MongoOperations mongoOperations,
-            NormalizedTransactionRepository normalizedTransactionRepository,
             BybitInternalTransferProperties properties,
             BybitCrossUidUniversalTransferPairer crossUidUniversalTransferPairer
     ) {
         this.mongoOperations = mongoOperations;
-        this.normalizedTransactionRepository = normalizedTransactionRepository;
         this.properties = properties;
         this.crossUidUniversalTransferPairer = crossUidUniversalTransferPairer;
     }
@@ -101,7 +117,7 @@ public class BybitInternalTransferPairer {
     }
 
     public int pairDemotedEconOrphans() {
-        Query candidatesQuery = Query.query(new Criteria().andOperator(
+        List<NormalizedTransaction> orphans = loadCandidates(new Criteria().andOperator(
                 Criteria.where("source").is(NormalizedTransactionSource.BYBIT),
                 Criteria.where("correlationId").regex("^bybit-econ-v1:"),
                 Criteria.where("continuityCandidate").is(false),
@@ -111,89 +127,20 @@ public class BybitInternalTransferPairer {
                         NormalizedTransactionType.EXTERNAL_TRANSFER_OUT
                 )
         ));
-        List<NormalizedTransaction> orphans = mongoOperations.find(candidatesQuery, NormalizedTransaction.class);
         if (orphans.isEmpty()) {
             return 0;
         }
 
-        Map<String, List<NormalizedTransaction>> grouped = new LinkedHashMap<>();
-        for (NormalizedTransaction tx : orphans) {
-            String key = BybitInternalTransferPairingPrimitives.broadQtySignature(tx);
-            if (key == null) {
-                continue;
-            }
-            grouped.computeIfAbsent(key, ignored -> new ArrayList<>()).add(tx);
-        }
-
-        int rewrites = 0;
         Instant now = Instant.now();
-        Set<String> rewritten = new HashSet<>();
-        List<NormalizedTransaction> dirty = new ArrayList<>();
-        for (List<NormalizedTransaction> docs : grouped.values()) {
-            if (docs.size() < 2) {
-                continue;
-            }
-            docs.sort(Comparator
-                    .comparing(NormalizedTransaction::getBlockTimestamp, Comparator.nullsLast(Comparator.naturalOrder()))
-                    .thenComparing(idTiebreak()));
-            for (int leftIndex = 0; leftIndex < docs.size(); leftIndex++) {
-                NormalizedTransaction left = docs.get(leftIndex);
-                if (rewritten.contains(left.getId())) {
-                    continue;
-                }
-                int sign = BybitInternalTransferPairingPrimitives.principalQuantitySign(left);
-                if (sign == 0) {
-                    continue;
-                }
-                NormalizedTransaction bestPartner = null;
-                Duration bestDelta = BROAD_PAIR_DRIFT.plusSeconds(1);
-                for (int rightIndex = leftIndex + 1; rightIndex < docs.size(); rightIndex++) {
-                    NormalizedTransaction right = docs.get(rightIndex);
-                    if (rewritten.contains(right.getId())) {
-                        continue;
-                    }
-                    if (Objects.equals(left.getWalletAddress(), right.getWalletAddress())) {
-                        continue;
-                    }
-                    int rightSign = BybitInternalTransferPairingPrimitives.principalQuantitySign(right);
-                    if (rightSign == 0 || rightSign == sign) {
-                        continue;
-                    }
-                    if (!BybitInternalTransferPairingPrimitives.isBroadOppositeQty(left, right)) {
-                        continue;
-                    }
-                    if (left.getBlockTimestamp() == null || right.getBlockTimestamp() == null) {
-                        continue;
-                    }
-                    Duration delta = Duration.between(left.getBlockTimestamp(), right.getBlockTimestamp()).abs();
-                    if (delta.compareTo(BROAD_PAIR_DRIFT) > 0) {
-                        continue;
-                    }
-                    if (delta.compareTo(bestDelta) < 0) {
-                        bestDelta = delta;
-                        bestPartner = right;
-                    }
-                }
-                if (bestPartner == null) {
-                    continue;
-                }
-                BybitInternalTransferPairingPrimitives.applyRekeyedDemotedPair(left, bestPartner, now);
-                rewritten.add(left.getId());
-                rewritten.add(bestPartner.getId());
-                dirty.add(left);
-                dirty.add(bestPartner);
-                rewrites += 2;
-            }
-        }
-        if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(dirty);
-            log.info(
-                    "BYBIT_DEMOTED_ECON_ORPHAN_PAIRER candidates={} rewrites={}",
-                    orphans.size(),
-                    rewrites
-            );
-        }
-        return rewrites;
+        BybitTransferPairingEngine.PairingResult result = BybitTransferPairingEngine.pairOppositeLegs(
+                orphans,
+                BybitInternalTransferPairingPrimitives::broadQtySignature,
+                BROAD_PAIR_DRIFT,
+                BybitInternalTransferPairer::isBroadCrossWalletPair,
+                (left, right) -> BybitInternalTransferPairingPrimitives.applyRekeyedDemotedPair(left, right, now)
+        );
+        persist("BYBIT_DEMOTED_ECON_ORPHAN_PAIRER", result);
+        return result.stats().paired();
     }
 
     /**
@@ -206,84 +153,16 @@ public class BybitInternalTransferPairer {
             return 0;
         }
 
-        Map<String, List<NormalizedTransaction>> grouped = new LinkedHashMap<>();
-        for (NormalizedTransaction tx : singletons) {
-            String key = BybitInternalTransferPairingPrimitives.broadQtySignature(tx);
-            if (key == null) {
-                continue;
-            }
-            grouped.computeIfAbsent(key, ignored -> new ArrayList<>()).add(tx);
-        }
-
-        int rewrites = 0;
         Instant now = Instant.now();
-        Set<String> rewritten = new HashSet<>();
-        List<NormalizedTransaction> dirty = new ArrayList<>();
-        for (List<NormalizedTransaction> docs : grouped.values()) {
-            if (docs.size() < 2) {
-                continue;
-            }
-            docs.sort(Comparator
-                    .comparing(NormalizedTransaction::getBlockTimestamp, Comparator.nullsLast(Comparator.naturalOrder()))
-                    .thenComparing(idTiebreak()));
-            for (int leftIndex = 0; leftIndex < docs.size(); leftIndex++) {
-                NormalizedTransaction left = docs.get(leftIndex);
-                if (rewritten.contains(left.getId())) {
-                    continue;
-                }
-                int sign = BybitInternalTransferPairingPrimitives.principalQuantitySign(left);
-                if (sign == 0) {
-                    continue;
-                }
-                NormalizedTransaction bestPartner = null;
-                Duration bestDelta = BROAD_PAIR_DRIFT.plusSeconds(1);
-                for (int rightIndex = leftIndex + 1; rightIndex < docs.size(); rightIndex++) {
-                    NormalizedTransaction right = docs.get(rightIndex);
-                    if (rewritten.contains(right.getId())) {
-                        continue;
-                    }
-                    if (Objects.equals(left.getWalletAddress(), right.getWalletAddress())) {
-                        continue;
-                    }
-                    int rightSign = BybitInternalTransferPairingPrimitives.principalQuantitySign(right);
-                    if (rightSign == 0 || rightSign == sign) {
-                        continue;
-                    }
-                    if (!BybitInternalTransferPairingPrimitives.isBroadOppositeQty(left, right)) {
-                        continue;
-                    }
-                    if (left.getBlockTimestamp() == null || right.getBlockTimestamp() == null) {
-                        continue;
-                    }
-                    Duration delta = Duration.between(left.getBlockTimestamp(), right.getBlockTimestamp()).abs();
-                    if (delta.compareTo(BROAD_PAIR_DRIFT) > 0) {
-                        continue;
-                    }
-                    if (delta.compareTo(bestDelta) < 0) {
-                        bestDelta = delta;
-                        bestPartner = right;
-                    }
-                }
-                if (bestPartner == null) {
-                    continue;
-                }
-                BybitInternalTransferPairingPrimitives.applyRekeyedPairCorrelation(left, bestPartner, now);
-                rewritten.add(left.getId());
-                rewritten.add(bestPartner.getId());
-                dirty.add(left);
-                dirty.add(bestPartner);
-                rewrites += 2;
-            }
-        }
-        if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(dirty);
-            log.info(
-                    "BYBIT_INTERNAL_TRANSFER_BROAD_PAIRER singletons={} rewrites={}",
-                    singletons.size(),
-                    rewrites
-            );
-        }
-        return rewrites;
+        BybitTransferPairingEngine.PairingResult result = BybitTransferPairingEngine.pairOppositeLegs(
+                singletons,
+                BybitInternalTransferPairingPrimitives::broadQtySignature,
+                BROAD_PAIR_DRIFT,
+                BybitInternalTransferPairer::isBroadCrossWalletPair,
+                (left, right) -> BybitInternalTransferPairingPrimitives.applyRekeyedPairCorrelation(left, right, now)
+        );
+        persist("BYBIT_INTERNAL_TRANSFER_BROAD_PAIRER", result);
+        return result.stats().paired();
     }
 
     /**
@@ -291,33 +170,30 @@ public class BybitInternalTransferPairer {
      * {@link #SAME_SIGN_MIRROR_WINDOW} (stream mirror duplicates that cannot form a transfer pair).
      */
     public int dedupSameSignMirrors() {
-        Query candidatesQuery = Query.query(new Criteria().andOperator(
+        List<NormalizedTransaction> candidates = loadCandidates(new Criteria().andOperator(
                 Criteria.where("source").is(NormalizedTransactionSource.BYBIT),
                 Criteria.where("type").is(NormalizedTransactionType.INTERNAL_TRANSFER),
                 Criteria.where("continuityCandidate").is(true),
                 Criteria.where("excludedFromAccounting").ne(true)
         ));
-        List<NormalizedTransaction> candidates = mongoOperations.find(candidatesQuery, NormalizedTransaction.class);
         if (candidates.isEmpty()) {
             return 0;
         }
 
-        Map<String, List<NormalizedTransaction>> grouped = new LinkedHashMap<>();
-        for (NormalizedTransaction tx : candidates) {
-            String key = BybitInternalTransferPairingPrimitives.sameSignMirrorSignature(tx);
-            if (key == null) {
-                continue;
-            }
-            grouped.computeIfAbsent(key, ignored -> new ArrayList<>()).add(tx);
-        }
+        Map<String, List<NormalizedTransaction>> grouped = BybitTransferPairingEngine.partition(
+                candidates,
+                BybitInternalTransferPairingPrimitives::sameSignMirrorSignature
+        );
 
         int demoted = 0;
+        int examined = 0;
         Instant now = Instant.now();
         List<NormalizedTransaction> dirty = new ArrayList<>();
         for (List<NormalizedTransaction> docs : grouped.values()) {
             if (docs.size() < 2) {
                 continue;
             }
+            examined += docs.size();
             // RC-9 D1: stable keeper selection. blockTimestamp alone is not a total order — two
             // stream mirrors can share the same minute bucket, so the keeper (and therefore which
             // sibling is demoted) flipped between full rebuild and incremental refresh. Add a
@@ -359,8 +235,13 @@ public class BybitInternalTransferPairer {
             }
         }
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(dirty);
-            log.info("BYBIT_INTERNAL_TRANSFER_SAME_SIGN_MIRROR demoted={}", demoted);
+            writeRewrites(dirty);
+            log.info(
+                    "BYBIT_INTERNAL_TRANSFER_SAME_SIGN_MIRROR candidates={} examined={} demoted={}",
+                    candidates.size(),
+                    examined,
+                    demoted
+            );
         }
         return demoted;
     }
@@ -371,75 +252,40 @@ public class BybitInternalTransferPairer {
             return 0;
         }
 
-        Map<String, List<NormalizedTransaction>> grouped = new LinkedHashMap<>();
-        for (NormalizedTransaction tx : singletons) {
-            String key = BybitInternalTransferPairingPrimitives.exactQtySignature(tx);
-            if (key == null) {
-                continue;
-            }
-            grouped.computeIfAbsent(key, ignored -> new ArrayList<>()).add(tx);
-        }
-
-        int rewrites = 0;
         Instant now = Instant.now();
-        Set<String> rewritten = new HashSet<>();
-        List<NormalizedTransaction> dirty = new ArrayList<>();
-        for (Map.Entry<String, List<NormalizedTransaction>> entry : grouped.entrySet()) {
-            List<NormalizedTransaction> docs = entry.getValue();
-            if (docs.size() < 2) {
-                continue;
-            }
-            docs.sort(Comparator
-                    .comparing(NormalizedTransaction::getBlockTimestamp, Comparator.nullsLast(Comparator.naturalOrder()))
-                    .thenComparing(idTiebreak()));
-            for (int leftIndex = 0; leftIndex < docs.size(); leftIndex++) {
-                NormalizedTransaction left = docs.get(leftIndex);
-                if (rewritten.contains(left.getId())) {
-                    continue;
-                }
-                int sign = BybitInternalTransferPairingPrimitives.principalQuantitySign(left);
-                if (sign == 0) {
-                    continue;
-                }
-                NormalizedTransaction bestPartner = null;
-                Duration bestDelta = MAX_PAIR_DRIFT.plusSeconds(1);
-                for (int rightIndex = leftIndex + 1; rightIndex < docs.size(); rightIndex++) {
-                    NormalizedTransaction right = docs.get(rightIndex);
-                    if (rewritten.contains(right.getId())) {
-                        continue;
-                    }
-                    int rightSign = BybitInternalTransferPairingPrimitives.principalQuantitySign(right);
-                    if (rightSign == 0 || rightSign == sign) {
-                        continue;
-                    }
-                    if (left.getBlockTimestamp() == null || right.getBlockTimestamp() == null) {
-                        continue;
-                    }
-                    Duration delta = Duration.between(left.getBlockTimestamp(), right.getBlockTimestamp()).abs();
-                    if (delta.compareTo(MAX_PAIR_DRIFT) > 0) {
-                        continue;
-                    }
-                    if (delta.compareTo(bestDelta) < 0) {
-                        bestDelta = delta;
-                        bestPartner = right;
-                    }
-                }
-                if (bestPartner == null) {
-                    continue;
-                }
-                BybitInternalTransferPairingPrimitives.applyPairCorrelation(left, bestPartner, now);
-                rewritten.add(left.getId());
-                rewritten.add(bestPartner.getId());
-                dirty.add(left);
-                dirty.add(bestPartner);
-                rewrites += 2;
-            }
-        }
-        if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(dirty);
-            log.info("BYBIT_INTERNAL_TRANSFER_PAIRER singletons={} rewrites={}", singletons.size(), rewrites);
+        BybitTransferPairingEngine.PairingResult result = BybitTransferPairingEngine.pairOppositeLegs(
+                singletons,
+                BybitInternalTransferPairingPrimitives::exactQtySignature,
+                MAX_PAIR_DRIFT,
+                (left, right) -> true,
+                (left, right) -> BybitInternalTransferPairingPrimitives.applyPairCorrelation(left, right, now)
+        );
+        persist("BYBIT_INTERNAL_TRANSFER_PAIRER", result);
+        return result.stats().paired();
+    }
+
+    private static boolean isBroadCrossWalletPair(NormalizedTransaction left, NormalizedTransaction right) {
+        return !Objects.equals(left.getWalletAddress(), right.getWalletAddress())
+                && BybitInternalTransferPairingPrimitives.isBroadOppositeQty(left, right);
+    }
+
+    /** Writes a pass's rewritten legs in one bulk and reports what the pass examined and paired. */
+    private void persist(String pass, BybitTransferPairingEngine.PairingResult result) {
+        BybitTransferPairingEngine.PassStats stats = result.stats();
+        if (result.dirty().isEmpty()) {
+            log.debug("{} candidates={} examined={} comparisons={} rewrites=0",
+                    pass, stats.candidates(), stats.examined(), stats.comparisons());
+            return;
         }
-        return rewrites;
+        writeRewrites(result.dirty());
+        log.info(
+                "{} candidates={} examined={} comparisons={} rewrites={}",
+                pass,
+                stats.candidates(),
+                stats.examined(),
+                stats.comparisons(),
+                stats.paired()
+        );
     }
 
     /**
@@ -526,7 +372,7 @@ public class BybitInternalTransferPairer {
         }
 
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(dirty);
+            writeRewrites(dirty);
             log.info(
                     "BYBIT_INTERNAL_TRANSFER_BUNDLE_PAIRER candidates={} bundles={} rewrites={}",
                     singletons.size(),
@@ -634,7 +480,7 @@ public class BybitInternalTransferPairer {
         }
 
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(dirty);
+            writeRewrites(dirty);
             log.info(
                     "BYBIT_INTERNAL_TRANSFER_ROUNDTRIP_PAIRER candidates={} pairs={} rewrites={}",
                     singletons.size(),
@@ -646,12 +492,11 @@ public class BybitInternalTransferPairer {
     }
 
     private List<NormalizedTransaction> loadSingletons() {
-        Query candidatesQuery = Query.query(new Criteria().andOperator(
+        List<NormalizedTransaction> all = loadCandidates(new Criteria().andOperator(
                 Criteria.where("source").is(NormalizedTransactionSource.BYBIT),
                 Criteria.where("type").is(NormalizedTransactionType.INTERNAL_TRANSFER),
                 Criteria.where("continuityCandidate").is(true)
         ));
-        List<NormalizedTransaction> all = mongoOperations.find(candidatesQuery, NormalizedTransaction.class);
         if (all.isEmpty()) {
             return List.of();
         }
@@ -691,4 +536,48 @@ public class BybitInternalTransferPairer {
         }
         return singletons;
     }
+
+    private List<NormalizedTransaction> loadCandidates(Criteria criteria) {
+        Query query = Query.query(criteria).cursorBatchSize(CANDIDATE_BATCH_SIZE);
+        query.fields().include(PAIRING_FIELDS);
+        try (Stream<NormalizedTransaction> cursor = mongoOperations.stream(query, NormalizedTransaction.class)) {
+            return cursor.collect(Collectors.toCollection(ArrayList::new));
+        }
+    }
+
+    private void writeRewrites(List<NormalizedTransaction> dirty) {
+        BulkOperations ops = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, NormalizedTransaction.class);
+        for (NormalizedTransaction leg : dirty) {
+            ops.updateOne(Query.query(Criteria.where("_id").is(leg.getId())), rewrite(leg));
+        }
+        ops.execute();
+    }
+
+    /** {@code $set} of every rewritable field as loaded or rewritten; a null one is unset, as a save would drop it. */
+    private static Update rewrite(NormalizedTransaction leg) {
+        Update update = new Update();
+        setOrUnset(update, "type", leg.getType());
+        setOrUnset(update, "flows", leg.getFlows());
+        setOrUnset(update, "transactionIndex", leg.getTransactionIndex());
+        setOrUnset(update, "correlationId", leg.getCorrelationId());
+        setOrUnset(update, "continuityCandidate", leg.getContinuityCandidate());
+        setOrUnset(update, "matchedCounterparty", leg.getMatchedCounterparty());
+        setOrUnset(update, "excludedFromAccounting", leg.getExcludedFromAccounting());
+        setOrUnset(update, "accountingExclusionReason", leg.getAccountingExclusionReason());
+        setOrUnset(update, "venue", leg.getVenue());
+        setOrUnset(update, "bybitUid", leg.getBybitUid());
+        setOrUnset(update, "venueInternalCarry", leg.getVenueInternalCarry());
+        setOrUnset(update, "carrySourceHint", leg.getCarrySourceHint());
+        setOrUnset(update, "selfTransferNoop", leg.getSelfTransferNoop());
+        setOrUnset(update, "updatedAt", leg.getUpdatedAt());
+        return update;
+    }
+
+    private static void setOrUnset(Update update, String field, Object value) {
+        if (value == null) {
+            update.unset(field);
+        } else {
+            update.set(field, value);
+        }
+    }
 }
@@ -0,0 +1,142 @@
+package com.walletradar.application.cex.normalization.venue.bybit;
+
+import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import static com.walletradar.application.cex.normalization.venue.bybit.BybitStreamAuthorityCollapserSupport.idTiebreak;
+
+/**
+ * Shared matching engine for the {@link BybitInternalTransferPairer} 1:1 passes.
+ *
+ * <p>Legs are hash-partitioned by fingerprint key and, inside each partition, split by principal
+ * sign and ordered by {@code (blockTimestamp, _id)}. Each leg then sweeps forward through the
+ * opposite-sign list only while the time delta stays inside the drift window. Because the order is
+ * ascending, the first compatible opposite leg is also the closest one, which is exactly the
+ * partner the former nested scan picked — so results are unchanged while the cost drops from
+ * quadratic per partition to {@code O(n log n)} plus the in-window candidates.</p>
+ */
+final class BybitTransferPairingEngine {
+
+    private static final Comparator<NormalizedTransaction> TIME_THEN_ID = Comparator
+            .comparing(NormalizedTransaction::getBlockTimestamp, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(idTiebreak());
+
+    private BybitTransferPairingEngine() {
+    }
+
+    /**
+     * Per-pass counters: {@code candidates} loaded, {@code examined} legs that shared a partition
+     * with at least one other leg, {@code comparisons} partner checks made, {@code paired} legs rewritten.
+     */
+    record PassStats(int candidates, int examined, long comparisons, int paired) {
+    }
+
+    record PairingResult(List<NormalizedTransaction> dirty, PassStats stats) {
+    }
+
+    /** Buckets legs by {@code key} (null keys dropped), keeping first-seen partition order. */
+    static Map<String, List<NormalizedTransaction>> partition(
+            List<NormalizedTransaction> candidates,
+            Function<NormalizedTransaction, String> key
+    ) {
+        Map<String, List<NormalizedTransaction>> partitions = new LinkedHashMap<>();
+        for (NormalizedTransaction tx : candidates) {
+            String partitionKey = key.apply(tx);
+            if (partitionKey == null) {
+                continue;
+            }
+            partitions.computeIfAbsent(partitionKey, ignored -> new ArrayList<>()).add(tx);
+        }
+        return partitions;
+    }
+
+    /**
+     * Pairs opposite-sign legs of the same partition whose timestamps are at most {@code maxDrift}
+     * apart and that satisfy {@code compatible}. Earlier legs claim their closest later partner first.
+     */
+    static PairingResult pairOppositeLegs(
+            List<NormalizedTransaction> candidates,
+            Function<NormalizedTransaction, String> key,
+            Duration maxDrift,
+            BiPredicate<NormalizedTransaction, NormalizedTransaction> compatible,
+            BiConsumer<NormalizedTransaction, NormalizedTransaction> apply
+    ) {
+        Set<String> rewritten = new HashSet<>();
+        List<NormalizedTransaction> dirty = new ArrayList<>();
+        int examined = 0;
+        long comparisons = 0L;
+        for (List<NormalizedTransaction> docs : partition(candidates, key).values()) {
+            if (docs.size() < 2) {
+                continue;
+            }
+            examined += docs.size();
+            docs.sort(TIME_THEN_ID);
+            List<Integer> positive = new ArrayList<>();
+            List<Integer> negative = new ArrayList<>();
+            for (int index = 0; index < docs.size(); index++) {
+                int sign = BybitInternalTransferPairingPrimitives.principalQuantitySign(docs.get(index));
+                if (sign > 0) {
+                    positive.add(index);
+                } else if (sign < 0) {
+                    negative.add(index);
+                }
+            }
+            for (int leftIndex = 0; leftIndex < docs.size(); leftIndex++) {
+                NormalizedTransaction left = docs.get(leftIndex);
+                Instant leftTime = left.getBlockTimestamp();
+                if (leftTime == null || rewritten.contains(left.getId())) {
+                    continue;
+                }
+                int sign = BybitInternalTransferPairingPrimitives.principalQuantitySign(left);
+                if (sign == 0) {
+                    continue;
+                }
+                List<Integer> opposite = sign > 0 ? negative : positive;
+                int cursor = firstAfter(opposite, leftIndex);
+                NormalizedTransaction partner = null;
+                for (; cursor < opposite.size(); cursor++) {
+                    NormalizedTransaction right = docs.get(opposite.get(cursor));
+                    Instant rightTime = right.getBlockTimestamp();
+                    if (rightTime == null || Duration.between(leftTime, rightTime).compareTo(maxDrift) > 0) {
+                        break;
+                    }
+                    if (rewritten.contains(right.getId())) {
+                        continue;
+                    }
+                    comparisons++;
+                    if (compatible.test(left, right)) {
+                        partner = right;
+                        break;
+                    }
+                }
+                if (partner == null) {
+                    continue;
+                }
+                apply.accept(left, partner);
+                rewritten.add(left.getId());
+                rewritten.add(partner.getId());
+                dirty.add(left);
+                dirty.add(partner);
+            }
+        }
+        return new PairingResult(dirty, new PassStats(candidates.size(), examined, comparisons, dirty.size()));
+    }
+
+    private static int firstAfter(List<Integer> sortedPositions, int position) {
+        int found = Collections.binarySearch(sortedPositions, position + 1);
+        return found >= 0 ? found : -found - 1;
+    }
+}
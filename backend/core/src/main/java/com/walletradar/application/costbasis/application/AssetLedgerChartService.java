@@ -77,6 +77,10 @@ class AssetLedgerChartService {
         return points.stream().map(this::toRawPoint).toList();
     }
 
+    AssetLedgerQueryService.LedgerPointView mapRawPoint(AssetLedgerPoint point) {
+        return toRawPoint(point);
+    }
+
     ChartProjection buildTimelineProjection(
             String familyIdentity,
             List<AssetLedgerPoint> timelinePoints,
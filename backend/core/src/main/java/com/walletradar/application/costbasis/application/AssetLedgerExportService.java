@@ -0,0 +1,122 @@
+package com.walletradar.application.costbasis.application;
+
+import com.walletradar.application.costbasis.application.port.AssetLedgerExportPort;
+import com.walletradar.application.costbasis.domain.AssetLedgerPoint;
+import com.walletradar.application.session.application.AccountingUniverseService;
+import com.walletradar.domain.common.NetworkId;
+import com.walletradar.domain.session.UserSession;
+import com.walletradar.domain.session.UserSessionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Streams raw {@code asset_ledger_points} for a session's accounting universe, ordered by family
+ * and replay order, for NDJSON export. Points are mapped exactly as the ledger read model maps its
+ * raw points, without the chart projection or reconciliation enrichment, so the export is a plain
+ * replay log.
+ */
+@Service
+@RequiredArgsConstructor
+public class AssetLedgerExportService implements AssetLedgerExportPort {
+    private static final int EXPORT_CURSOR_BATCH_SIZE = 500;
+
+    private final UserSessionRepository userSessionRepository;
+    private final AccountingUniverseService accountingUniverseService;
+    private final AssetLedgerChartService chartService;
+    private final MongoOperations mongoOperations;
+
+    /**
+     * Opens a cursor over the session's ledger points. Rows are fetched in cursor batches and mapped
+     * one at a time as the caller pulls, so memory does not grow with the export size. The caller
+     * must close the stream.
+     */
+    @Override
+    public Optional<Stream<AssetLedgerQueryService.LedgerPointView>> streamSessionLedgerPoints(
+            String sessionId,
+            LedgerExportQuery query
+    ) {
+        if (sessionId == null || sessionId.isBlank()) {
+            return Optional.empty();
+        }
+        return userSessionRepository.findById(sessionId.trim())
+                .map(session -> openLedgerExport(session, query));
+    }
+
+    public static LedgerExportQuery normalizeExportQuery(
+            Instant from,
+            Instant to,
+            String rawFamilyIdentity,
+            Collection<NetworkId> requestedNetworkIds
+    ) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        String familyIdentity = rawFamilyIdentity == null || rawFamilyIdentity.isBlank() ? null : rawFamilyIdentity.trim();
+        return new LedgerExportQuery(
+                from,
+                to,
+                familyIdentity,
+                requestedNetworkIds == null ? List.of() : requestedNetworkIds.stream().filter(Objects::nonNull).distinct().toList()
+        );
+    }
+
+    private Stream<AssetLedgerQueryService.LedgerPointView> openLedgerExport(UserSession session, LedgerExportQuery export) {
+        String accountingUniverseId = accountingUniverseService.resolveScope(session).accountingUniverseId();
+        if (accountingUniverseId == null || accountingUniverseId.isBlank()) {
+            return Stream.empty();
+        }
+        List<Criteria> criteria = new ArrayList<>();
+        criteria.add(Criteria.where("accountingUniverseId").is(accountingUniverseId));
+        if (export.familyIdentity() != null) {
+            criteria.add(Criteria.where("accountingFamilyIdentity").is(export.familyIdentity()));
+        }
+        if (!export.networkIds().isEmpty()) {
+            // CEX points carry no network; keep them, as the transactions export does.
+            criteria.add(new Criteria().orOperator(
+                    Criteria.where("networkId").in(export.networkIds()),
+                    Criteria.where("networkId").exists(false)
+            ));
+        }
+        if (export.from() != null) {
+            criteria.add(Criteria.where("blockTimestamp").gte(export.from()));
+        }
+        if (export.to() != null) {
+            criteria.add(Criteria.where("blockTimestamp").lt(export.to()));
+        }
+        // Follows asset_ledger_universe_family_order_idx so the cursor streams in index order
+        // instead of sorting the whole universe in memory.
+        Query query = Query.query(new Criteria().andOperator(criteria.toArray(Criteria[]::new)))
+                .with(Sort.by(
+                        Sort.Order.asc("accountingFamilyIdentity"),
+                        Sort.Order.asc("blockTimestamp"),
+                        Sort.Order.asc("transactionIndex"),
+                        Sort.Order.asc("replaySequence")
+                ))
+                .cursorBatchSize(EXPORT_CURSOR_BATCH_SIZE);
+        return mongoOperations.stream(query, AssetLedgerPoint.class).map(chartService::mapRawPoint);
+    }
+
+    /**
+     * Export filters: {@code [from, to)} on block time, an optional accounting family, and networks
+     * (CEX points without a network are kept).
+     */
+    public record LedgerExportQuery(
+            Instant from,
+            Instant to,
+            String familyIdentity,
+            List<NetworkId> networkIds
+    ) {
+    }
+}
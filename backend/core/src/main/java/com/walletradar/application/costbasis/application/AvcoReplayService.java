@@ -15,6 +15,8 @@ import com.walletradar.application.costbasis.application.replay.support.ReplayFl
 import com.walletradar.application.costbasis.application.replay.state.BorrowLiabilityReplayContext;
 import com.walletradar.application.costbasis.application.replay.state.CounterpartyBasisPoolReplayContext;
 import com.walletradar.application.costbasis.application.replay.state.LpReceiptBasisPoolReplayContext;
+import com.walletradar.application.costbasis.application.replay.telemetry.ReplayFlightRecorder;
+import com.walletradar.application.costbasis.application.replay.telemetry.ReplayRunProfile;
 import com.walletradar.application.costbasis.domain.AccountingShortfallAudit;
 import com.walletradar.application.costbasis.domain.LpReceiptBasisPool;
 import com.walletradar.application.costbasis.domain.LpReceiptBasisPoolKey;
@@ -74,13 +76,33 @@ public class AvcoReplayService {
     }
 
     public int replayConfirmed(String accountingUniverseId, Collection<String> memberRefs, Runnable heartbeat) {
-        List<NormalizedTransaction> ordered = memberRefs == null || memberRefs.isEmpty()
-                ? confirmedReplayQueryService.loadOrderedConfirmed()
-                : confirmedReplayQueryService.loadOrderedConfirmed(memberRefs);
+        return replayConfirmed(accountingUniverseId, memberRefs, heartbeat, null);
+    }
+
+    /**
+     * Same replay; every handler dispatch, guard, drift-canary check and persistence phase is
+     * recorded as a JFR event, and additionally charged to {@code profile} (time and allocation)
+     * when one is given.
+     */
+    public int replayConfirmed(
+            String accountingUniverseId,
+            Collection<String> memberRefs,
+            Runnable heartbeat,
+            ReplayRunProfile profile
+    ) {
+        String universeId = normalizedAccountingUniverseId(accountingUniverseId);
+        ReplayFlightRecorder flightRecorder = new ReplayFlightRecorder(universeId, profile);
+        flightRecorder.begin();
+        List<NormalizedTransaction> ordered = flightRecorder.persistence(
+                "load-confirmed",
+                () -> memberRefs == null || memberRefs.isEmpty()
+                        ? confirmedReplayQueryService.loadOrderedConfirmed()
+                        : confirmedReplayQueryService.loadOrderedConfirmed(memberRefs),
+                List::size
+        );
         var passThroughCorridorPlan = passThroughCorridorPlanner.buildPlan(ordered, replayAssetSupport::assetKey);
         List<NormalizedTransaction> updatedTransactions = new ArrayList<>(ordered.size());
         List<AssetLedgerPoint> ledgerPoints = new ArrayList<>();
-        String universeId = normalizedAccountingUniverseId(accountingUniverseId);
         LedgerPointCollector ledgerPointCollector = new LedgerPointCollector(
                 universeId,
                 ledgerPoints,
@@ -136,7 +158,7 @@ public class AvcoReplayService {
                     heartbeat.run();
                 }
                 NormalizedTransaction replayed = replayFlowSupport.copyTransaction(ordered.get(transactionIndex));
-                replayDispatcher.dispatch(replayed, replayState);
+                flightRecorder.dispatch(replayed, () -> replayDispatcher.dispatch(replayed, replayState));
                 updatedTransactions.add(replayed);
             }
 
@@ -147,35 +169,44 @@ public class AvcoReplayService {
             // RC-9 / RC-7 D3: end-of-replay corridor/bridge basis conservation sweep. WARN-mode by
             // default (CorridorBasisConservationGuard.SEVERITY); surfaces any released CARRY_OUT
             // that no credit inherited so an orphaned corridor/bridge basis cannot pass silently.
-            corridorBasisConservationGuard.evaluate(replayState);
+            flightRecorder.guard("CorridorBasisConservationGuard",
+                    () -> corridorBasisConservationGuard.evaluate(replayState));
             // B-ETH-02: lending-loop continuity buckets are outside the corridor guard's queue
             // scope. Assert Σ parked == Σ restored + residual per lending-loop bucket (WARN-mode
             // telemetry — an open loop leaving residual parked basis is a legitimate steady state).
-            lendingLoopBasisConservationGuard.evaluate(replayState);
+            flightRecorder.guard("LendingLoopBasisConservationGuard",
+                    () -> lendingLoopBasisConservationGuard.evaluate(replayState));
             // Evaluate against the just-computed in-memory points: the persisted asset_ledger_points
             // are still the previous run's state at this sweep (saved below), so a DB re-query here
             // would report ledgerQty=0 for every Bybit asset.
-            bybitEarnSubPoolConservationGuard.evaluate(ledgerPoints);
+            flightRecorder.guard("BybitEarnSubPoolConservationGuard",
+                    () -> bybitEarnSubPoolConservationGuard.evaluate(ledgerPoints));
             // ADR-044 D4: end-of-replay native-pool reconciliation sweep against on-chain native
             // balances. WARN-mode by default; proves NATIVE:<chain> pools reconcile within dust.
-            nativePoolReconciliationGate.evaluate(ledgerPoints);
+            flightRecorder.guard("NativePoolReconciliationGate",
+                    () -> nativePoolReconciliationGate.evaluate(ledgerPoints));
 
-            if (accountingUniverseId == null || accountingUniverseId.isBlank()) {
-                assetLedgerPointRepository.deleteAll();
-            } else {
-                assetLedgerPointRepository.deleteAllByAccountingUniverseId(accountingUniverseId);
-            }
-            if (!ledgerPoints.isEmpty()) {
-                assetLedgerPointRepository.saveAll(ledgerPoints);
-            }
-            counterpartyBasisPoolService.replaceUniversePools(universeId, counterpartyPools);
-            lpReceiptBasisPoolService.replaceUniversePools(universeId, lpReceiptPools);
-            borrowLiabilityTracker.replaceUniverseLiabilities(universeId, borrowLiabilities);
+            flightRecorder.persistence("asset_ledger_points", ledgerPoints.size(), () -> {
+                if (accountingUniverseId == null || accountingUniverseId.isBlank()) {
+                    assetLedgerPointRepository.deleteAll();
+                } else {
+                    assetLedgerPointRepository.deleteAllByAccountingUniverseId(accountingUniverseId);
+                }
+                if (!ledgerPoints.isEmpty()) {
+                    assetLedgerPointRepository.saveAll(ledgerPoints);
+                }
+            });
+            flightRecorder.persistence("counterparty_basis_pools", counterpartyPools.size(),
+                    () -> counterpartyBasisPoolService.replaceUniversePools(universeId, counterpartyPools));
+            flightRecorder.persistence("lp_receipt_basis_pools", lpReceiptPools.size(),
+                    () -> lpReceiptBasisPoolService.replaceUniversePools(universeId, lpReceiptPools));
+            flightRecorder.persistence("borrow_liabilities", borrowLiabilities.size(),
+                    () -> borrowLiabilityTracker.replaceUniverseLiabilities(universeId, borrowLiabilities));
             // RC-12 / ADR-030: compute-vs-persisted drift canary. The replay is the sole writer of
             // all three accumulator books, so the freshly-computed in-memory books must match the
             // just-persisted reload bit-for-bit. WARN-only (never blocks replay); the hard check is
             // the rebuild==refresh==refresh×N idempotency test.
-            replayAccumulatorDriftCanary.check(
+            flightRecorder.driftCanary(() -> replayAccumulatorDriftCanary.check(
                     universeId,
                     borrowLiabilities,
                     borrowLiabilityTracker.loadAllForUniverse(universeId),
@@ -183,11 +214,14 @@ public class AvcoReplayService {
                     counterpartyBasisPoolService.loadAllForUniverse(universeId),
                     lpReceiptPools,
                     lpReceiptBasisPoolService.loadAllForUniverse(universeId)
-            );
+            ));
             List<AccountingShortfallAudit> shortfallAudits =
                     accountingShortfallAuditService.collectFromLedgerPoints(ledgerPoints, replayStartedAt);
-            accountingShortfallAuditService.replaceUniverseAudits(universeId, shortfallAudits);
-            normalizedTransactionRepository.saveAll(updatedTransactions);
+            flightRecorder.persistence("accounting_shortfall_audits", shortfallAudits.size(),
+                    () -> accountingShortfallAuditService.replaceUniverseAudits(universeId, shortfallAudits));
+            flightRecorder.persistence("normalized_transactions", updatedTransactions.size(),
+                    () -> normalizedTransactionRepository.saveAll(updatedTransactions));
+            flightRecorder.end(updatedTransactions.size(), ledgerPoints.size());
         } finally {
             if (bindUniverse) {
                 accountingUniverseService.clearUniverseBinding();
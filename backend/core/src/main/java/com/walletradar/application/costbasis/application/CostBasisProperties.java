@@ -25,6 +25,15 @@ public class CostBasisProperties {
 
     private long retryDelaySeconds = 120L;
 
+    /**
+     * Charges every replay handler, guard, drift-canary check and persistence phase with its
+     * cumulative time and allocation and logs the top {@link #replayProfileTopEntries} after each
+     * replay. JFR events for the same sections are emitted regardless, whenever a recording is on.
+     */
+    private boolean replayProfileEnabled = false;
+
+    private int replayProfileTopEntries = 10;
+
     /**
      * CEX venue sources whose buy-side trade commissions (stored in
      * {@code NormalizedTransaction.Flow#acquisitionFeeUsd}) are capitalized into the Net AVCO lane.
@@ -1,10 +1,10 @@
 package com.walletradar.application.costbasis.application;
 
-import com.walletradar.platform.common.config.AsyncConfig;
 import com.walletradar.domain.event.AccountingReplayCompletedEvent;
 import com.walletradar.domain.event.PricingCompletedEvent;
 import com.walletradar.domain.session.UserSession;
 import com.walletradar.domain.session.UserSessionRepository;
+import com.walletradar.application.costbasis.application.replay.telemetry.ReplayRunProfile;
 import com.walletradar.application.costbasis.domain.AssetLedgerPointRepository;
 import com.walletradar.platform.common.job.StageExecutionLogSupport;
 import com.walletradar.application.pricing.application.PricingDataGateService;
@@ -17,12 +17,12 @@ import com.walletradar.platform.telemetry.PipelineTelemetrySnapshotService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import com.walletradar.application.pipeline.config.JobHeartbeatProperties;
+import com.walletradar.application.pipeline.queue.PipelineStageHandoff;
+import com.walletradar.application.pipeline.queue.PipelineStageJob;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -31,6 +31,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * Event-driven driver for stat validation and deterministic AVCO replay.
  */
 @Component
+@PipelineStageJob
 @RequiredArgsConstructor
 public class CostBasisReplayJob {
 
@@ -49,7 +50,7 @@ public class CostBasisReplayJob {
     private final AvcoReplayService avcoReplayService;
     private final AssetLedgerPointRepository assetLedgerPointRepository;
     private final PipelineTelemetrySnapshotService pipelineTelemetrySnapshotService;
-    private final ApplicationEventPublisher applicationEventPublisher;
+    private final PipelineStageHandoff pipelineStageHandoff;
     private final SessionPipelineActivityService sessionPipelineActivityService;
     private final SessionPipelineStateService sessionPipelineStateService;
 
@@ -68,7 +69,6 @@ public class CostBasisReplayJob {
     }
 
     @EventListener
-    @Async(AsyncConfig.PIPELINE_STAGE_EXECUTOR)
     public void onPricingCompleted(PricingCompletedEvent event) {
         if (!properties.isEnabled() || event == null) {
             return;
@@ -175,11 +175,13 @@ public class CostBasisReplayJob {
                     || assetLedgerPointRepository.countByAccountingUniverseId(scope.accountingUniverseId()) == 0L;
             StageHeartbeat stageHeartbeat = new StageHeartbeat(sessionId);
             if (shouldReplay) {
-                replayed = avcoReplayService.replayConfirmed(
-                        scope.accountingUniverseId(),
-                        scope.memberRefs(),
-                        stageHeartbeat::pulse
-                );
+                replayed = properties.isReplayProfileEnabled()
+                        ? replayProfiled(sessionId, scope, stageHeartbeat)
+                        : avcoReplayService.replayConfirmed(
+                                scope.accountingUniverseId(),
+                                scope.memberRefs(),
+                                stageHeartbeat::pulse
+                        );
             } else {
                 log.info(
                         "Costbasis replay skipped: sessionId={}, no pending stat rows and universe ledger already materialized",
@@ -193,7 +195,7 @@ public class CostBasisReplayJob {
                     UserSession.PipelineStage.ACCOUNTING_REPLAY,
                     "Accounting replay complete"
             );
-            applicationEventPublisher.publishEvent(new AccountingReplayCompletedEvent(sessionId, replayed, trigger));
+            pipelineStageHandoff.submit(sessionId, new AccountingReplayCompletedEvent(sessionId, replayed, trigger));
             return replayed;
         } catch (RuntimeException error) {
             sessionPipelineStateService.markStageFailed(
@@ -207,6 +209,29 @@ public class CostBasisReplayJob {
         }
     }
 
+    private int replayProfiled(
+            String sessionId,
+            AccountingUniverseService.AccountingUniverseScope scope,
+            StageHeartbeat stageHeartbeat
+    ) {
+        ReplayRunProfile profile = new ReplayRunProfile();
+        int replayed = avcoReplayService.replayConfirmed(
+                scope.accountingUniverseId(),
+                scope.memberRefs(),
+                stageHeartbeat::pulse,
+                profile
+        );
+        log.info(
+                "Costbasis replay profile: sessionId={}, universeId={}, transactions={}{}{}",
+                sessionId,
+                scope.accountingUniverseId(),
+                replayed,
+                System.lineSeparator(),
+                profile.summary(properties.getReplayProfileTopEntries())
+        );
+        return replayed;
+    }
+
     private Instant maybeHeartbeat(String sessionId, Instant lastHeartbeatAt) {
         Instant now = Instant.now();
         if (Duration.between(lastHeartbeatAt, now).compareTo(jobHeartbeatProperties.heartbeatInterval()) < 0) {
@@ -11,6 +11,7 @@ import com.walletradar.application.pricing.application.CurrentPriceQuoteRefreshS
 import com.walletradar.application.session.application.AccountingUniverseService;
 import com.walletradar.application.session.application.SessionPipelineActivityService;
 import com.walletradar.application.session.application.SessionPipelineStateService;
+import com.walletradar.application.session.application.UniverseDataVersionService;
 import lombok.RequiredArgsConstructor;
 
 import java.util.concurrent.ConcurrentHashMap;
@@ -48,6 +49,7 @@ public class PortfolioSnapshotRefreshJob {
     private final CurrentPriceQuoteRefreshService currentPriceQuoteRefreshService;
     private final SessionPipelineActivityService sessionPipelineActivityService;
     private final SessionPipelineStateService sessionPipelineStateService;
+    private final UniverseDataVersionService universeDataVersionService;
 
     public int runSnapshotRefresh() {
         return runSnapshotRefresh("manual", null);
@@ -136,6 +138,8 @@ public class PortfolioSnapshotRefreshJob {
                     refreshedQuotes
             );
             lastRefreshedAt.put(sessionId, Instant.now());
+            // Live balances land after the replay-completed bump; move the version again.
+            universeDataVersionService.bumpUniverse(scope.accountingUniverseId(), "portfolio-snapshot-refreshed");
             sessionPipelineStateService.markStageComplete(
                     sessionId,
                     UserSession.PipelineStage.PORTFOLIO_SNAPSHOT_REFRESH,
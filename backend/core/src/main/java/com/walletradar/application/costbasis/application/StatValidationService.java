@@ -10,6 +10,10 @@ import com.walletradar.domain.transaction.normalized.NormalizedTransactionStatus
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
 import com.walletradar.application.normalization.pipeline.ton.TonNormalizedTransactionBuilder;
 import com.walletradar.application.pricing.application.PriceableFlowPolicy;
+import com.walletradar.application.custody.application.CustodyLedgerDelta;
+import com.walletradar.application.custody.application.CustodyLedgerProjectionStore;
+import com.walletradar.platform.telemetry.PipelineCounterDelta;
+import com.walletradar.platform.telemetry.PipelineCounterStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -40,6 +44,8 @@ public class StatValidationService {
 
     private final PendingStatQueryService pendingStatQueryService;
     private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final PipelineCounterStore pipelineCounterStore;
+    private final CustodyLedgerProjectionStore custodyLedgerProjectionStore;
 
     public StatValidationOutcome processNextBatch(int batchSize, long retryDelaySeconds) {
         List<NormalizedTransaction> batch = pendingStatQueryService.loadNextBatch(batchSize, retryDelaySeconds);
@@ -62,6 +68,9 @@ public class StatValidationService {
                 );
         int promoted = 0;
         Instant now = Instant.now();
+        PipelineCounterDelta delta = new PipelineCounterDelta();
+        CustodyLedgerDelta custodyDelta = new CustodyLedgerDelta();
+        List<NormalizedTransaction> candidates = new ArrayList<>();
         for (NormalizedTransaction transaction : batch) {
             if (Boolean.TRUE.equals(transaction.getExcludedFromAccounting())) {
                 continue;
@@ -73,15 +82,24 @@ public class StatValidationService {
             candidate.setStatus(NormalizedTransactionStatus.CONFIRMED);
             candidate.setConfirmedAt(candidate.getConfirmedAt() != null ? candidate.getConfirmedAt() : now);
             candidate.setUpdatedAt(now);
-            normalizedTransactionRepository.save(candidate);
+            candidates.add(candidate);
+            delta.normalized(PipelineCounterDelta.snapshot(transaction), candidate);
+            custodyDelta.normalized(CustodyLedgerDelta.snapshot(transaction), candidate);
             promoted++;
         }
+        custodyLedgerProjectionStore.beginWrite(custodyDelta);
+        candidates.forEach(normalizedTransactionRepository::save);
+        pipelineCounterStore.apply(delta);
+        custodyLedgerProjectionStore.apply(custodyDelta);
         return promoted;
     }
 
     private StatValidationOutcome processBatch(List<NormalizedTransaction> batch) {
         int promoted = 0;
         int demoted = 0;
+        PipelineCounterDelta delta = new PipelineCounterDelta();
+        CustodyLedgerDelta custodyDelta = new CustodyLedgerDelta();
+        List<NormalizedTransaction> candidates = new ArrayList<>();
 
         for (NormalizedTransaction transaction : batch) {
             Instant now = Instant.now();
@@ -114,9 +132,15 @@ public class StatValidationService {
                 demoted++;
             }
 
-            normalizedTransactionRepository.save(candidate);
+            candidates.add(candidate);
+            delta.normalized(PipelineCounterDelta.snapshot(transaction), candidate);
+            custodyDelta.normalized(CustodyLedgerDelta.snapshot(transaction), candidate);
         }
 
+        custodyLedgerProjectionStore.beginWrite(custodyDelta);
+        candidates.forEach(normalizedTransactionRepository::save);
+        pipelineCounterStore.apply(delta);
+        custodyLedgerProjectionStore.apply(custodyDelta);
         return new StatValidationOutcome(batch.size(), promoted, demoted);
     }
 
@@ -0,0 +1,31 @@
+package com.walletradar.application.costbasis.application.port;
+
+import com.walletradar.application.costbasis.application.AssetLedgerExportService;
+import com.walletradar.application.costbasis.application.AssetLedgerQueryService;
+import com.walletradar.domain.common.NetworkId;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * BFF-facing export contract for raw session asset ledger history.
+ */
+public interface AssetLedgerExportPort {
+
+    /** Cursor-backed export stream; the caller must close it. */
+    Optional<Stream<AssetLedgerQueryService.LedgerPointView>> streamSessionLedgerPoints(
+            String sessionId,
+            AssetLedgerExportService.LedgerExportQuery query
+    );
+
+    static AssetLedgerExportService.LedgerExportQuery normalizeExportQuery(
+            Instant from,
+            Instant to,
+            String familyIdentity,
+            List<NetworkId> networkIds
+    ) {
+        return AssetLedgerExportService.normalizeExportQuery(from, to, familyIdentity, networkIds);
+    }
+}
@@ -49,6 +49,11 @@ public class ReplayDispatcher {
 
     private static final MathContext MC = MathContext.DECIMAL128;
 
+    /** {@link #dispatch} labels for transactions that never reach a route handler. */
+    public static final String HANDLER_SKIPPED_EXCLUDED = "skipped-excluded";
+    public static final String HANDLER_SKIPPED_SELF_TRANSFER = "skipped-bybit-self-transfer";
+    public static final String HANDLER_DERIVATIVE_SETTLEMENT = "derivative-settlement";
+
     /**
      * FB-01 / ADR-082: index of the "net-realized-kept" magnitude accumulated alongside the
      * ADR-040 swap net/market basis released ({@code swapNetRef[0]}=net released,
@@ -139,20 +144,24 @@ public class ReplayDispatcher {
         this.replayMarketAuthority = replayMarketAuthority;
     }
 
-    public void dispatch(
+    /**
+     * Replays one confirmed transaction and returns the label of what took it: the applied route
+     * handler's class name, or one of the {@code HANDLER_*} labels for paths decided here.
+     */
+    public String dispatch(
             NormalizedTransaction transaction,
             ReplayExecutionState replayState
     ) {
         if (transaction == null || Boolean.TRUE.equals(transaction.getExcludedFromAccounting())) {
-            return;
+            return HANDLER_SKIPPED_EXCLUDED;
         }
         if (isBybitSelfTransfer(transaction)) {
             log.debug("REPLAY_SKIP_SELF_TRANSFER txId={} wallet={}", transaction.getId(), transaction.getWalletAddress());
-            return;
+            return HANDLER_SKIPPED_SELF_TRANSFER;
         }
         if (transaction.getType() == NormalizedTransactionType.CEX_DERIVATIVE_SETTLEMENT) {
             replayDerivativeSettlement(transaction, replayState);
-            return;
+            return HANDLER_DERIVATIVE_SETTLEMENT;
         }
         ReplayRoutingDecision routingDecision = replayTransactionRouter.route(
                 transaction,
@@ -163,12 +172,12 @@ public class ReplayDispatcher {
                 liquidStakingReplayHandler::selectPrincipalFlows,
                 familyEquivalentCustodyReplayHandler::selectFlows
         );
-        replayRouteHandlerRegistry.dispatch(
+        return replayRouteHandlerRegistry.dispatch(
                 transaction,
                 routingDecision,
                 replayState,
                 dispatchCallbacks()
-        );
+        ).getClass().getSimpleName();
     }
 
     private ReplayDispatchCallbacks dispatchCallbacks() {
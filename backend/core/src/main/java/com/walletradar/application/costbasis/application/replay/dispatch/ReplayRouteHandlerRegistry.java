@@ -31,7 +31,8 @@ public class ReplayRouteHandlerRegistry {
         this.handlers = List.copyOf(sorted);
     }
 
-    public void dispatch(
+    /** Applies the first handler supporting the decision and returns it. */
+    public ReplayRouteHandler dispatch(
             NormalizedTransaction transaction,
             ReplayRoutingDecision routingDecision,
             ReplayExecutionState replayState,
@@ -40,7 +41,7 @@ public class ReplayRouteHandlerRegistry {
         for (ReplayRouteHandler handler : handlers) {
             if (handler.supports(transaction, routingDecision)) {
                 handler.apply(transaction, routingDecision, replayState, callbacks);
-                return;
+                return handler;
             }
         }
         throw new IllegalStateException("No replay route handler for route " + routingDecision.route());
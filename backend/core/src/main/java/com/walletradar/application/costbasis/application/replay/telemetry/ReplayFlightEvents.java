@@ -0,0 +1,121 @@
+package com.walletradar.application.costbasis.application.replay.telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event types emitted by the AVCO replay. They are only materialized while a recording with the
+ * {@code walletradar.replay.*} events enabled is running (e.g. {@code jcmd <pid> JFR.start}); with no
+ * recording, {@code begin/end/shouldCommit} compile down to no-ops.
+ */
+public final class ReplayFlightEvents {
+
+    static final String CATEGORY = "WalletRadar";
+    static final String SUBCATEGORY = "Cost Basis Replay";
+
+    private ReplayFlightEvents() {
+    }
+
+    @Name("walletradar.replay.Run")
+    @Label("Replay Run")
+    @Category({CATEGORY, SUBCATEGORY})
+    @Description("One AVCO replay of an accounting universe, from confirmed load to last persisted row")
+    @StackTrace(false)
+    public static final class Run extends Event {
+        @Label("Universe Id")
+        String universeId;
+
+        @Label("Transactions")
+        int transactions;
+
+        @Label("Ledger Points")
+        int ledgerPoints;
+    }
+
+    @Name("walletradar.replay.HandlerDispatch")
+    @Label("Replay Handler Dispatch")
+    @Category({CATEGORY, SUBCATEGORY})
+    @Description("One confirmed transaction dispatched to its route handler")
+    @StackTrace(false)
+    public static final class HandlerDispatch extends Event {
+        @Label("Universe Id")
+        String universeId;
+
+        @Label("Transaction Id")
+        String transactionId;
+
+        @Label("Transaction Type")
+        String transactionType;
+
+        @Label("Handler")
+        String handler;
+    }
+
+    @Name("walletradar.replay.GuardEvaluation")
+    @Label("Replay Guard Evaluation")
+    @Category({CATEGORY, SUBCATEGORY})
+    @Description("End-of-replay conservation guard or reconciliation gate sweep")
+    @StackTrace(false)
+    public static final class GuardEvaluation extends Event {
+        @Label("Universe Id")
+        String universeId;
+
+        @Label("Guard")
+        String guard;
+    }
+
+    @Name("walletradar.replay.DriftCanary")
+    @Label("Replay Drift Canary")
+    @Category({CATEGORY, SUBCATEGORY})
+    @Description("Compute-vs-persisted accumulator drift check, including the reload of the persisted books")
+    @StackTrace(false)
+    public static final class DriftCanary extends Event {
+        @Label("Universe Id")
+        String universeId;
+    }
+
+    @Name("walletradar.replay.PersistencePhase")
+    @Label("Replay Persistence Phase")
+    @Category({CATEGORY, SUBCATEGORY})
+    @Description("One load or write step of the replay against the store")
+    @StackTrace(false)
+    public static final class PersistencePhase extends Event {
+        @Label("Universe Id")
+        String universeId;
+
+        @Label("Phase")
+        String phase;
+
+        @Label("Rows")
+        int rows;
+    }
+
+    /** Emitted once per profiled run, one event per profile entry, so a recording carries the summary too. */
+    @Name("walletradar.replay.ProfileEntry")
+    @Label("Replay Profile Entry")
+    @Category({CATEGORY, SUBCATEGORY})
+    @Description("Cumulative time and allocation of one handler, guard or phase over a profiled replay run")
+    @StackTrace(false)
+    public static final class ProfileEntry extends Event {
+        @Label("Universe Id")
+        String universeId;
+
+        @Label("Section")
+        String section;
+
+        @Label("Invocations")
+        long invocations;
+
+        @Label("Cumulative Nanos")
+        long cumulativeNanos;
+
+        @Label("Allocated")
+        @DataAmount
+        long allocatedBytes;
+    }
+}
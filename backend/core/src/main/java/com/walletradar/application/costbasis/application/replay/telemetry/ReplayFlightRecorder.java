@@ -0,0 +1,160 @@
+package com.walletradar.application.costbasis.application.replay.telemetry;
+
+import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Per-run flight recorder for one AVCO replay. Every section (handler dispatch, guard, drift canary,
+ * persistence phase) is wrapped in its {@link ReplayFlightEvents} type, and, when the run was given
+ * a {@link ReplayRunProfile}, timed and charged with the calling thread's allocated bytes.
+ *
+ * <p>Without a profile and without a running JFR recording the only cost per section is one
+ * event object the JIT scalar-replaces, so the recorder stays in the replay path permanently.
+ */
+public final class ReplayFlightRecorder {
+
+    static final String HANDLER = "handler";
+    static final String GUARD = "guard";
+    static final String CANARY = "canary";
+    static final String PERSISTENCE = "persistence";
+
+    private static final com.sun.management.ThreadMXBean THREADS = allocationCounter();
+
+    private final String universeId;
+    private final ReplayRunProfile profile;
+    private final ReplayFlightEvents.Run run = new ReplayFlightEvents.Run();
+
+    /** {@code profile} may be {@code null}; only JFR events are emitted then. */
+    public ReplayFlightRecorder(String universeId, ReplayRunProfile profile) {
+        this.universeId = universeId;
+        this.profile = profile;
+    }
+
+    public void begin() {
+        run.begin();
+    }
+
+    public void end(int transactions, int ledgerPoints) {
+        run.end();
+        if (run.shouldCommit()) {
+            run.universeId = universeId;
+            run.transactions = transactions;
+            run.ledgerPoints = ledgerPoints;
+            run.commit();
+        }
+        if (profile == null) {
+            return;
+        }
+        for (ReplayRunProfile.Entry entry : profile.entries()) {
+            ReplayFlightEvents.ProfileEntry event = new ReplayFlightEvents.ProfileEntry();
+            if (!event.isEnabled()) {
+                return;
+            }
+            event.universeId = universeId;
+            event.section = entry.section();
+            event.invocations = entry.invocations();
+            event.cumulativeNanos = entry.cumulativeNanos();
+            event.allocatedBytes = entry.allocatedBytes();
+            event.commit();
+        }
+    }
+
+    /** Runs {@code dispatch}, which returns the label of the handler that took the transaction. */
+    public void dispatch(NormalizedTransaction transaction, Supplier<String> dispatch) {
+        ReplayFlightEvents.HandlerDispatch event = new ReplayFlightEvents.HandlerDispatch();
+        long startedNanos = profile == null ? 0L : System.nanoTime();
+        long startedBytes = profile == null ? 0L : allocatedBytes();
+        event.begin();
+        String handler = dispatch.get();
+        event.end();
+        if (event.shouldCommit()) {
+            event.universeId = universeId;
+            event.transactionId = transaction == null ? null : transaction.getId();
+            event.transactionType = transaction == null || transaction.getType() == null
+                    ? null
+                    : transaction.getType().name();
+            event.handler = handler;
+            event.commit();
+        }
+        if (profile != null) {
+            profile.record(HANDLER, handler, System.nanoTime() - startedNanos, allocatedBytes() - startedBytes);
+        }
+    }
+
+    public void guard(String guard, Runnable evaluation) {
+        ReplayFlightEvents.GuardEvaluation event = new ReplayFlightEvents.GuardEvaluation();
+        long startedNanos = profile == null ? 0L : System.nanoTime();
+        long startedBytes = profile == null ? 0L : allocatedBytes();
+        event.begin();
+        evaluation.run();
+        event.end();
+        if (event.shouldCommit()) {
+            event.universeId = universeId;
+            event.guard = guard;
+            event.commit();
+        }
+        if (profile != null) {
+            profile.record(GUARD, guard, System.nanoTime() - startedNanos, allocatedBytes() - startedBytes);
+        }
+    }
+
+    public void driftCanary(Runnable check) {
+        ReplayFlightEvents.DriftCanary event = new ReplayFlightEvents.DriftCanary();
+        long startedNanos = profile == null ? 0L : System.nanoTime();
+        long startedBytes = profile == null ? 0L : allocatedBytes();
+        event.begin();
+        check.run();
+        event.end();
+        if (event.shouldCommit()) {
+            event.universeId = universeId;
+            event.commit();
+        }
+        if (profile != null) {
+            profile.record(CANARY, "ReplayAccumulatorDriftCanary", System.nanoTime() - startedNanos,
+                    allocatedBytes() - startedBytes);
+        }
+    }
+
+    /** Runs one load or write step; {@code step} returns the number of rows it read or wrote. */
+    public <T> T persistence(String phase, Supplier<T> step, ToIntFunction<T> rows) {
+        ReplayFlightEvents.PersistencePhase event = new ReplayFlightEvents.PersistencePhase();
+        long startedNanos = profile == null ? 0L : System.nanoTime();
+        long startedBytes = profile == null ? 0L : allocatedBytes();
+        event.begin();
+        T result = step.get();
+        event.end();
+        if (event.shouldCommit()) {
+            event.universeId = universeId;
+            event.phase = phase;
+            event.rows = rows.applyAsInt(result);
+            event.commit();
+        }
+        if (profile != null) {
+            profile.record(PERSISTENCE, phase, System.nanoTime() - startedNanos, allocatedBytes() - startedBytes);
+        }
+        return result;
+    }
+
+    public void persistence(String phase, int rows, Runnable step) {
+        persistence(phase, () -> {
+            step.run();
+            return rows;
+        }, Integer::intValue);
+    }
+
+    private static long allocatedBytes() {
+        return THREADS == null ? 0L : THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported()
+                && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,83 @@
+package com.walletradar.application.costbasis.application.replay.telemetry;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Opt-in per-run profile of one AVCO replay: cumulative wall time and thread allocation per route
+ * handler, guard, drift canary and persistence phase. A replay runs on a single thread, so the
+ * profile is not thread-safe; create one per run.
+ */
+public final class ReplayRunProfile {
+
+    /** Cumulative cost of one section (e.g. {@code handler:GenericRouteHandler}). */
+    public record Entry(String section, long invocations, long cumulativeNanos, long allocatedBytes) {
+
+        Entry plus(Entry other) {
+            return new Entry(
+                    section,
+                    invocations + other.invocations,
+                    cumulativeNanos + other.cumulativeNanos,
+                    allocatedBytes + other.allocatedBytes
+            );
+        }
+    }
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    void record(String kind, String name, long nanos, long allocatedBytes) {
+        String section = kind + ":" + name;
+        entries.merge(section, new Entry(section, 1L, nanos, Math.max(0L, allocatedBytes)), Entry::plus);
+    }
+
+    public List<Entry> entries() {
+        return List.copyOf(entries.values());
+    }
+
+    /** Top {@code limit} sections by cumulative time; ties broken by allocation, then name. */
+    public List<Entry> topByTime(int limit) {
+        return entries.values().stream()
+                .sorted(Comparator.comparingLong(Entry::cumulativeNanos).reversed()
+                        .thenComparing(Comparator.comparingLong(Entry::allocatedBytes).reversed())
+                        .thenComparing(Entry::section))
+                .limit(Math.max(0, limit))
+                .toList();
+    }
+
+    /** Top {@code limit} sections by allocated bytes; ties broken by time, then name. */
+    public List<Entry> topByAllocation(int limit) {
+        return entries.values().stream()
+                .sorted(Comparator.comparingLong(Entry::allocatedBytes).reversed()
+                        .thenComparing(Comparator.comparingLong(Entry::cumulativeNanos).reversed())
+                        .thenComparing(Entry::section))
+                .limit(Math.max(0, limit))
+                .toList();
+    }
+
+    /** Multi-line summary for the replay job log: top sections by time, then by allocation. */
+    public String summary(int limit) {
+        StringBuilder summary = new StringBuilder();
+        summary.append("  by time:");
+        appendLines(summary, topByTime(limit));
+        summary.append(System.lineSeparator()).append("  by allocation:");
+        appendLines(summary, topByAllocation(limit));
+        return summary.toString();
+    }
+
+    private static void appendLines(StringBuilder summary, List<Entry> top) {
+        for (Entry entry : top) {
+            summary.append(System.lineSeparator()).append(String.format(
+                    Locale.ROOT,
+                    "    %-60s calls=%d totalMs=%.1f meanUs=%.1f allocatedMb=%.2f",
+                    entry.section(),
+                    entry.invocations(),
+                    entry.cumulativeNanos() / 1_000_000.0d,
+                    entry.invocations() == 0L ? 0.0d : entry.cumulativeNanos() / 1_000.0d / entry.invocations(),
+                    entry.allocatedBytes() / (1024.0d * 1024.0d)
+            ));
+        }
+    }
+}
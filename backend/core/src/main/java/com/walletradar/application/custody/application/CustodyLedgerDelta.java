@@ -0,0 +1,199 @@
+package com.walletradar.application.custody.application;
+
+import com.walletradar.application.custody.persistence.CustodyLedgerPosition;
+import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
+import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionStatus;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Net custody ledger changes collected by a writer over one batch and applied with
+ * {@link CustodyLedgerProjectionStore#apply}. Same protocol as the pipeline counter delta: take a
+ * {@link Snapshot} of a row before mutating it, then record it together with the row as written;
+ * rows whose custody contribution did not change cancel out.
+ *
+ * <p>A row contributes when it is a confirmed on-chain {@code custodialOffChain} transaction.
+ * FEE and zero-quantity flows are skipped; an outflow is a deposit to the venue and an inflow a
+ * withdrawal. The rebuild folds source rows through the same path, so both agree exactly.</p>
+ */
+public final class CustodyLedgerDelta {
+
+    static final String UNKNOWN_VENUE = "UNKNOWN_CUSTODY_VENUE";
+    static final String UNKNOWN_ASSET = "UNKNOWN";
+
+    private static final MathContext MC = MathContext.DECIMAL128;
+
+    private final Map<String, Change> changes = new LinkedHashMap<>();
+
+    /** Custody contributions of a row as it was read. */
+    public static final class Snapshot {
+        private final List<Change> contributions;
+
+        private Snapshot(List<Change> contributions) {
+            this.contributions = contributions;
+        }
+    }
+
+    /** {@code null} for a row that does not exist yet. */
+    public static Snapshot snapshot(NormalizedTransaction transaction) {
+        if (transaction == null) {
+            return null;
+        }
+        return new Snapshot(contributions(transaction));
+    }
+
+    /** Replaces the {@code before} contributions of a row (none when new) with those of {@code after}. */
+    public CustodyLedgerDelta normalized(Snapshot before, NormalizedTransaction after) {
+        if (before != null) {
+            before.contributions.forEach(contribution -> merge(contribution, -1));
+        }
+        if (after != null) {
+            contributions(after).forEach(contribution -> merge(contribution, 1));
+        }
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    Collection<Change> changes() {
+        return changes.values();
+    }
+
+    Set<String> walletAddresses() {
+        Set<String> wallets = new LinkedHashSet<>();
+        changes.values().forEach(change -> wallets.add(change.walletAddress));
+        return wallets;
+    }
+
+    static boolean counted(NormalizedTransaction transaction) {
+        return transaction.getSource() == NormalizedTransactionSource.ON_CHAIN
+                && transaction.getStatus() == NormalizedTransactionStatus.CONFIRMED
+                && Boolean.TRUE.equals(transaction.getCustodialOffChain())
+                && transaction.getWalletAddress() != null
+                && !transaction.getWalletAddress().isBlank();
+    }
+
+    private static List<Change> contributions(NormalizedTransaction transaction) {
+        if (!counted(transaction) || transaction.getFlows() == null) {
+            return List.of();
+        }
+        String venueAddress = transaction.getCounterpartyAddress();
+        String venueKey = venueAddress == null || venueAddress.isBlank() ? UNKNOWN_VENUE : venueAddress.trim();
+        Map<String, Change> byAsset = new LinkedHashMap<>();
+        for (NormalizedTransaction.Flow flow : transaction.getFlows()) {
+            if (flow == null || flow.getRole() == NormalizedLegRole.FEE) {
+                continue;
+            }
+            BigDecimal qty = flow.getQuantityDelta();
+            if (qty == null || qty.signum() == 0) {
+                continue;
+            }
+            String asset = flow.getAssetSymbol() == null || flow.getAssetSymbol().isBlank()
+                    ? UNKNOWN_ASSET
+                    : flow.getAssetSymbol().trim();
+            BigDecimal usd = flow.getValueUsd() == null ? BigDecimal.ZERO : flow.getValueUsd().abs();
+            Change change = byAsset.computeIfAbsent(asset, ignored -> {
+                Change created = new Change(transaction.getWalletAddress(), venueKey, venueAddress, asset);
+                created.txCount = 1L;
+                created.firstSeen = firstSeen(transaction);
+                created.sourceWatermark = transaction.getUpdatedAt();
+                return created;
+            });
+            if (qty.signum() < 0) {
+                // Capital leaving the wallet toward the venue → deposit.
+                change.depositedQty = change.depositedQty.add(qty.abs(), MC);
+                change.depositedUsd = change.depositedUsd.add(usd, MC);
+            } else {
+                // Capital returning from the venue → withdrawal ("count on exit").
+                change.withdrawnQty = change.withdrawnQty.add(qty, MC);
+                change.withdrawnUsd = change.withdrawnUsd.add(usd, MC);
+            }
+        }
+        return new ArrayList<>(byAsset.values());
+    }
+
+    private void merge(Change contribution, int sign) {
+        Change change = changes.computeIfAbsent(contribution.id(), ignored -> new Change(
+                contribution.walletAddress, contribution.venueKey, contribution.venueAddress, contribution.asset));
+        change.depositedQty = change.depositedQty.add(signed(contribution.depositedQty, sign), MC);
+        change.withdrawnQty = change.withdrawnQty.add(signed(contribution.withdrawnQty, sign), MC);
+        change.depositedUsd = change.depositedUsd.add(signed(contribution.depositedUsd, sign), MC);
+        change.withdrawnUsd = change.withdrawnUsd.add(signed(contribution.withdrawnUsd, sign), MC);
+        change.txCount += sign * contribution.txCount;
+        if (sign > 0) {
+            if (change.firstSeen == null || contribution.firstSeen.getSortKey().compareTo(change.firstSeen.getSortKey()) < 0) {
+                change.firstSeen = contribution.firstSeen;
+            }
+            if (contribution.sourceWatermark != null
+                    && (change.sourceWatermark == null || contribution.sourceWatermark.isAfter(change.sourceWatermark))) {
+                change.sourceWatermark = contribution.sourceWatermark;
+            }
+        }
+        if (change.isZero()) {
+            changes.remove(change.id());
+        }
+    }
+
+    private static BigDecimal signed(BigDecimal value, int sign) {
+        return sign < 0 ? value.negate() : value;
+    }
+
+    private static CustodyLedgerPosition.FirstSeen firstSeen(NormalizedTransaction transaction) {
+        long millis = transaction.getBlockTimestamp() == null ? 0L : Math.max(0L, transaction.getBlockTimestamp().toEpochMilli());
+        int index = transaction.getTransactionIndex() == null ? 0 : Math.max(0, transaction.getTransactionIndex());
+        CustodyLedgerPosition.FirstSeen firstSeen = new CustodyLedgerPosition.FirstSeen();
+        firstSeen.setSortKey(String.format("%019d|%010d|%s", millis, index,
+                transaction.getId() == null ? "" : transaction.getId()));
+        firstSeen.setProtocolName(transaction.getProtocolName());
+        firstSeen.setNetworkId(transaction.getNetworkId() == null ? null : transaction.getNetworkId().name());
+        firstSeen.setCounterpartyAddress(transaction.getCounterpartyAddress());
+        return firstSeen;
+    }
+
+    /** Net change of one position; after a full fold from nothing, the position itself. */
+    static final class Change {
+        final String walletAddress;
+        final String venueKey;
+        final String venueAddress;
+        final String asset;
+        BigDecimal depositedQty = BigDecimal.ZERO;
+        BigDecimal withdrawnQty = BigDecimal.ZERO;
+        BigDecimal depositedUsd = BigDecimal.ZERO;
+        BigDecimal withdrawnUsd = BigDecimal.ZERO;
+        long txCount;
+        CustodyLedgerPosition.FirstSeen firstSeen;
+        Instant sourceWatermark;
+
+        private Change(String walletAddress, String venueKey, String venueAddress, String asset) {
+            this.walletAddress = walletAddress;
+            this.venueKey = venueKey;
+            this.venueAddress = venueAddress;
+            this.asset = asset;
+        }
+
+        String id() {
+            return CustodyLedgerPosition.composeId(walletAddress, venueKey, asset);
+        }
+
+        private boolean isZero() {
+            return txCount == 0L
+                    && depositedQty.signum() == 0
+                    && withdrawnQty.signum() == 0
+                    && depositedUsd.signum() == 0
+                    && withdrawnUsd.signum() == 0;
+        }
+    }
+}
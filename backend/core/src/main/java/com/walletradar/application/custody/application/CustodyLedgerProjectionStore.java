@@ -0,0 +1,424 @@
+package com.walletradar.application.custody.application;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.result.UpdateResult;
+import com.walletradar.application.custody.persistence.CustodyLedgerPosition;
+import com.walletradar.application.custody.persistence.CustodyLedgerWalletState;
+import com.walletradar.application.session.application.UniverseDataVersionService;
+import com.walletradar.domain.session.UserSession;
+import com.walletradar.domain.session.UserSessionRepository;
+import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Reads and maintains {@code custody_ledger_positions}.
+ *
+ * <p>Writers of normalized rows call {@link #beginWrite} with the custody changes they are about to
+ * write and {@link #apply} with the same changes once the rows are written; a failed update is logged
+ * and left to {@link #rebuild}, which folds a wallet set from {@code normalized_transactions} and
+ * overwrites its positions and watermark. {@link CustodyLedgerRebuildJob} runs it after the stages
+ * that rewrite rows in bulk and on a fixed delay.</p>
+ *
+ * <p>Both write calls fence the wallet state: they move its {@code revision} and {@code lastWriteAt}
+ * before touching anything. A rebuild skips wallets written within {@link #WRITE_QUIET}, because
+ * their rows may already be folded while their increments are still to come, and commits a wallet
+ * only while its revision is the one it read before folding, because a write in between may have
+ * landed an increment the replace overwrote. Wallets that do not commit are folded again after a
+ * quiet period; after {@link #MAX_REBUILD_ATTEMPTS} they are left unbuilt for the next read.</p>
+ *
+ * <p>An apply that changed positions and a rebuild that changed them bump the data version of every
+ * session owning the wallets, so {@code /custody-ledger} does not answer 304 against an ETag taken
+ * before the write. A rebuild triggered by {@link #read} serves the positions it wrote and does not
+ * bump.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CustodyLedgerProjectionStore {
+
+    private static final String APPLY_REASON = "custody-ledger-applied";
+    private static final String REBUILD_REASON = "custody-ledger-rebuilt";
+    /** Longest expected gap between a writer's fence and its increments. */
+    static final Duration WRITE_QUIET = Duration.ofSeconds(5);
+    static final int MAX_REBUILD_ATTEMPTS = 3;
+
+    private final MongoOperations mongoOperations;
+    private final UserSessionRepository userSessionRepository;
+    private final UniverseDataVersionService universeDataVersionService;
+
+    /**
+     * Fences the wallets of {@code delta} before its rows are written, so a rebuild that folds them
+     * does not commit until the matching {@link #apply} has landed.
+     */
+    public void beginWrite(CustodyLedgerDelta delta) {
+        if (delta == null || delta.isEmpty()) {
+            return;
+        }
+        try {
+            fence(delta.walletAddresses(), Instant.now());
+        } catch (RuntimeException error) {
+            log.warn("Custody ledger write fence failed: wallets={}, error={}", delta.walletAddresses(), error.getMessage());
+        }
+    }
+
+    public void apply(CustodyLedgerDelta delta) {
+        if (delta == null || delta.isEmpty()) {
+            return;
+        }
+        boolean changed = false;
+        try {
+            Instant now = Instant.now();
+            fence(delta.walletAddresses(), now);
+            BulkOperations ops = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, CustodyLedgerPosition.class);
+            Map<String, Instant> watermarks = new LinkedHashMap<>();
+            for (CustodyLedgerDelta.Change change : delta.changes()) {
+                Update update = new Update()
+                        .inc("depositedQty", change.depositedQty)
+                        .inc("withdrawnQty", change.withdrawnQty)
+                        .inc("depositedUsd", change.depositedUsd)
+                        .inc("withdrawnUsd", change.withdrawnUsd)
+                        .inc("txCount", change.txCount)
+                        .set("updatedAt", now)
+                        .setOnInsert("walletAddress", change.walletAddress)
+                        .setOnInsert("venueKey", change.venueKey)
+                        .setOnInsert("venueAddress", change.venueAddress)
+                        .setOnInsert("asset", change.asset);
+                if (change.firstSeen != null) {
+                    update.min("firstSeen", firstSeenDocument(change.firstSeen));
+                }
+                if (change.sourceWatermark != null) {
+                    update.max("sourceWatermark", change.sourceWatermark);
+                    watermarks.merge(change.walletAddress, change.sourceWatermark,
+                            (left, right) -> left.isAfter(right) ? left : right);
+                }
+                ops.upsert(Query.query(Criteria.where("_id").is(change.id())), update);
+            }
+            BulkWriteResult written = ops.execute();
+            changed = written.getModifiedCount() > 0 || !written.getUpserts().isEmpty();
+            long removed = mongoOperations.remove(
+                    Query.query(Criteria.where("walletAddress").in(delta.walletAddresses()).and("txCount").lte(0)),
+                    CustodyLedgerPosition.class
+            ).getDeletedCount();
+            changed = changed || removed > 0;
+            // An unbuilt wallet only has the fence fields; its watermark is recomputed when it is rebuilt on read.
+            watermarks.forEach((walletAddress, watermark) -> mongoOperations.updateFirst(
+                    Query.query(Criteria.where("_id").is(walletAddress)),
+                    new Update().max("sourceWatermark", watermark).set("updatedAt", now),
+                    CustodyLedgerWalletState.class
+            ));
+        } catch (RuntimeException error) {
+            log.warn("Custody ledger update failed, left to rebuild: wallets={}, error={}",
+                    delta.walletAddresses(), error.getMessage());
+        }
+        if (changed) {
+            bumpOwners(delta.walletAddresses(), APPLY_REASON);
+        }
+    }
+
+    /**
+     * Positions of {@code walletAddresses}, rebuilding unbuilt wallets first; an unbuilt wallet that
+     * is being written is served as it stands and rebuilt by a later read.
+     */
+    public Ledger read(Collection<String> walletAddresses) {
+        List<String> wallets = distinct(walletAddresses);
+        if (wallets.isEmpty()) {
+            return new Ledger(List.of(), null);
+        }
+        Map<String, CustodyLedgerWalletState> states = new LinkedHashMap<>();
+        mongoOperations.find(Query.query(Criteria.where("_id").in(wallets)), CustodyLedgerWalletState.class).stream()
+                .filter(state -> state.getRebuiltAt() != null)
+                .forEach(state -> states.put(state.getId(), state));
+        List<String> missing = wallets.stream().filter(wallet -> !states.containsKey(wallet)).toList();
+        if (!missing.isEmpty()) {
+            states.putAll(fold(missing, 1).states());
+        }
+        List<CustodyLedgerPosition> positions = mongoOperations.find(
+                Query.query(Criteria.where("walletAddress").in(wallets)),
+                CustodyLedgerPosition.class
+        );
+        Instant watermark = states.values().stream()
+                .map(CustodyLedgerWalletState::getSourceWatermark)
+                .filter(Objects::nonNull)
+                .max(Instant::compareTo)
+                .orElse(null);
+        return new Ledger(positions, watermark);
+    }
+
+    /**
+     * Folds the custody rows of {@code walletAddresses} from scratch, overwrites their positions
+     * and returns the fresh wallet states of the wallets that committed.
+     */
+    public Map<String, CustodyLedgerWalletState> rebuild(Collection<String> walletAddresses) {
+        List<String> wallets = distinct(walletAddresses);
+        Rebuilt rebuilt = fold(wallets, MAX_REBUILD_ATTEMPTS);
+        List<String> uncommitted = wallets.stream().filter(wallet -> !rebuilt.states().containsKey(wallet)).toList();
+        if (!uncommitted.isEmpty()) {
+            mongoOperations.updateMulti(
+                    Query.query(Criteria.where("_id").in(uncommitted)),
+                    new Update().unset("rebuiltAt"),
+                    CustodyLedgerWalletState.class
+            );
+            log.warn("Custody ledger rebuild overlapped writes on every attempt, left to the next read: wallets={}",
+                    uncommitted);
+        }
+        if (rebuilt.changed()) {
+            bumpOwners(wallets, REBUILD_REASON);
+        }
+        return rebuilt.states();
+    }
+
+    private Rebuilt fold(List<String> wallets, int maxAttempts) {
+        Map<String, CustodyLedgerWalletState> committed = new LinkedHashMap<>();
+        boolean changed = false;
+        List<String> pending = wallets;
+        Instant heldUntil = null;
+        for (int attempt = 1; attempt <= maxAttempts && !pending.isEmpty(); attempt++) {
+            if (attempt > 1) {
+                awaitQuiet(heldUntil);
+            }
+            Rebuilt rebuilt = foldOnce(pending);
+            heldUntil = rebuilt.heldUntil();
+            committed.putAll(rebuilt.states());
+            changed = changed || rebuilt.changed();
+            pending = pending.stream().filter(wallet -> !committed.containsKey(wallet)).toList();
+        }
+        return new Rebuilt(committed, changed, null);
+    }
+
+    /** One fold of the quiet wallets of {@code wallets}; returns the states of those that committed. */
+    private Rebuilt foldOnce(List<String> wallets) {
+        Instant now = Instant.now();
+        Instant quietSince = now.minus(WRITE_QUIET);
+        Map<String, Long> revisions = new LinkedHashMap<>();
+        Instant heldUntil = null;
+        for (CustodyLedgerWalletState state : fenceStates(wallets)) {
+            Instant lastWriteAt = state.getLastWriteAt();
+            if (lastWriteAt == null || !lastWriteAt.isAfter(quietSince)) {
+                revisions.put(state.getId(), state.getRevision());
+            } else if (heldUntil == null || lastWriteAt.plus(WRITE_QUIET).isAfter(heldUntil)) {
+                heldUntil = lastWriteAt.plus(WRITE_QUIET);
+            }
+        }
+        if (revisions.isEmpty()) {
+            return new Rebuilt(Map.of(), false, heldUntil);
+        }
+        List<String> quiet = List.copyOf(revisions.keySet());
+        List<NormalizedTransaction> rows = mongoOperations.find(sourceQuery(quiet), NormalizedTransaction.class);
+        CustodyLedgerDelta fold = new CustodyLedgerDelta();
+        rows.forEach(row -> fold.normalized(null, row));
+
+        Map<String, String> previous = new HashMap<>();
+        mongoOperations.find(Query.query(Criteria.where("walletAddress").in(quiet)), CustodyLedgerPosition.class)
+                .forEach(position -> previous.put(position.getId(), fingerprint(position)));
+        boolean changed = previous.size() != fold.changes().size();
+        List<String> keptIds = new ArrayList<>();
+        BulkOperations ops = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, CustodyLedgerPosition.class);
+        for (CustodyLedgerDelta.Change change : fold.changes()) {
+            CustodyLedgerPosition position = toPosition(change, now);
+            keptIds.add(position.getId());
+            changed = changed || !fingerprint(position).equals(previous.get(position.getId()));
+            ops.replaceOne(Query.query(Criteria.where("_id").is(position.getId())), position,
+                    FindAndReplaceOptions.options().upsert());
+        }
+        if (!keptIds.isEmpty()) {
+            ops.execute();
+        }
+        mongoOperations.remove(
+                Query.query(Criteria.where("walletAddress").in(quiet).and("_id").nin(keptIds)),
+                CustodyLedgerPosition.class
+        );
+
+        Map<String, CustodyLedgerWalletState> states = new LinkedHashMap<>();
+        for (String wallet : quiet) {
+            CustodyLedgerWalletState state = new CustodyLedgerWalletState();
+            state.setId(wallet);
+            state.setRevision(revisions.get(wallet));
+            state.setRebuiltAt(now);
+            state.setUpdatedAt(now);
+            states.put(wallet, state);
+        }
+        for (NormalizedTransaction row : rows) {
+            CustodyLedgerWalletState state = states.get(row.getWalletAddress());
+            if (state == null) {
+                continue;
+            }
+            state.setSourceRows(state.getSourceRows() + 1);
+            if (row.getUpdatedAt() != null
+                    && (state.getSourceWatermark() == null || row.getUpdatedAt().isAfter(state.getSourceWatermark()))) {
+                state.setSourceWatermark(row.getUpdatedAt());
+            }
+        }
+        Map<String, CustodyLedgerWalletState> committed = new LinkedHashMap<>();
+        for (CustodyLedgerWalletState state : states.values()) {
+            UpdateResult result = mongoOperations.updateFirst(
+                    unchangedSince(state.getId(), state.getRevision()),
+                    new Update()
+                            .set("sourceWatermark", state.getSourceWatermark())
+                            .set("sourceRows", state.getSourceRows())
+                            .set("rebuiltAt", now)
+                            .set("updatedAt", now),
+                    CustodyLedgerWalletState.class
+            );
+            if (result.getMatchedCount() > 0) {
+                committed.put(state.getId(), state);
+            }
+        }
+        log.debug("Custody ledger rebuilt: wallets={}, rows={}, positions={}, committed={}, changed={}",
+                quiet.size(), rows.size(), keptIds.size(), committed.size(), changed);
+        return new Rebuilt(committed, changed, heldUntil);
+    }
+
+    /** States of {@code wallets}, created first so that every rebuild commits against a revision. */
+    private List<CustodyLedgerWalletState> fenceStates(List<String> wallets) {
+        BulkOperations ensure = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, CustodyLedgerWalletState.class);
+        wallets.forEach(wallet -> ensure.upsert(Query.query(Criteria.where("_id").is(wallet)),
+                new Update().setOnInsert("revision", 0L)));
+        ensure.execute();
+        return mongoOperations.find(Query.query(Criteria.where("_id").in(wallets)), CustodyLedgerWalletState.class);
+    }
+
+    private void fence(Collection<String> walletAddresses, Instant now) {
+        BulkOperations ops = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, CustodyLedgerWalletState.class);
+        walletAddresses.forEach(wallet -> ops.upsert(Query.query(Criteria.where("_id").is(wallet)),
+                new Update().inc("revision", 1L).set("lastWriteAt", now)));
+        ops.execute();
+    }
+
+    /** States written before fencing existed have no revision; they match as revision 0. */
+    private static Query unchangedSince(String walletAddress, long revision) {
+        Criteria criteria = Criteria.where("_id").is(walletAddress);
+        return Query.query(revision == 0L
+                ? criteria.and("revision").in(0L, null)
+                : criteria.and("revision").is(revision));
+    }
+
+    private static void awaitQuiet(Instant heldUntil) {
+        long delayMs = heldUntil == null ? 0L : Duration.between(Instant.now(), heldUntil).toMillis() + 1L;
+        if (delayMs <= 0L) {
+            return;
+        }
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Custody ledger rebuild interrupted", e);
+        }
+    }
+
+    private void bumpOwners(Collection<String> walletAddresses, String reason) {
+        Set<String> sessionIds = new LinkedHashSet<>();
+        try {
+            for (String wallet : walletAddresses) {
+                userSessionRepository.findAllByWalletsAddress(wallet).stream()
+                        .map(UserSession::getId)
+                        .forEach(sessionIds::add);
+            }
+        } catch (RuntimeException error) {
+            log.warn("Custody ledger owner lookup failed, version not bumped: wallets={}, error={}",
+                    walletAddresses, error.getMessage());
+            return;
+        }
+        sessionIds.forEach(sessionId -> universeDataVersionService.bumpSession(sessionId, reason));
+    }
+
+    /** Everything a read exposes; {@code updatedAt} and watermarks move on every rebuild. */
+    private static String fingerprint(CustodyLedgerPosition position) {
+        return String.join("|",
+                plain(position.getDepositedQty()),
+                plain(position.getWithdrawnQty()),
+                plain(position.getDepositedUsd()),
+                plain(position.getWithdrawnUsd()),
+                Long.toString(position.getTxCount()),
+                String.valueOf(position.getVenueAddress()),
+                position.getFirstSeen() == null ? "" : String.valueOf(position.getFirstSeen().getSortKey()),
+                position.getFirstSeen() == null ? "" : String.valueOf(position.getFirstSeen().getProtocolName())
+        );
+    }
+
+    private static String plain(BigDecimal value) {
+        return value == null ? "0" : value.stripTrailingZeros().toPlainString();
+    }
+
+    private static Query sourceQuery(List<String> walletAddresses) {
+        Query query = Query.query(new Criteria().andOperator(
+                Criteria.where("source").is(NormalizedTransactionSource.ON_CHAIN),
+                Criteria.where("walletAddress").in(walletAddresses),
+                Criteria.where("status").is(NormalizedTransactionStatus.CONFIRMED),
+                Criteria.where("custodialOffChain").is(true)
+        ));
+        query.fields().include(
+                "source", "status", "custodialOffChain", "walletAddress", "counterpartyAddress", "protocolName",
+                "networkId", "blockTimestamp", "transactionIndex", "flows", "updatedAt"
+        );
+        return query;
+    }
+
+    private static CustodyLedgerPosition toPosition(CustodyLedgerDelta.Change change, Instant now) {
+        CustodyLedgerPosition position = new CustodyLedgerPosition();
+        position.setId(change.id());
+        position.setWalletAddress(change.walletAddress);
+        position.setVenueKey(change.venueKey);
+        position.setVenueAddress(change.venueAddress);
+        position.setAsset(change.asset);
+        position.setDepositedQty(change.depositedQty);
+        position.setWithdrawnQty(change.withdrawnQty);
+        position.setDepositedUsd(change.depositedUsd);
+        position.setWithdrawnUsd(change.withdrawnUsd);
+        position.setTxCount(change.txCount);
+        position.setFirstSeen(change.firstSeen);
+        position.setSourceWatermark(change.sourceWatermark);
+        position.setUpdatedAt(now);
+        return position;
+    }
+
+    /** Field order matters: {@code $min} compares embedded documents field by field. */
+    private static Document firstSeenDocument(CustodyLedgerPosition.FirstSeen firstSeen) {
+        return new Document("sortKey", firstSeen.getSortKey())
+                .append("protocolName", firstSeen.getProtocolName())
+                .append("networkId", firstSeen.getNetworkId())
+                .append("counterpartyAddress", firstSeen.getCounterpartyAddress());
+    }
+
+    private static List<String> distinct(Collection<String> walletAddresses) {
+        if (walletAddresses == null) {
+            return List.of();
+        }
+        return walletAddresses.stream()
+                .filter(Objects::nonNull)
+                .filter(wallet -> !wallet.isBlank())
+                .distinct()
+                .toList();
+    }
+
+    /** {@code heldUntil}: when the latest skipped wallet turns quiet, {@code null} when none was skipped. */
+    private record Rebuilt(Map<String, CustodyLedgerWalletState> states, boolean changed, Instant heldUntil) {
+    }
+
+    /** Positions of a wallet set and the newest source change they reflect. */
+    public record Ledger(List<CustodyLedgerPosition> positions, Instant sourceWatermark) {
+    }
+}
@@ -1,24 +1,19 @@
 package com.walletradar.application.custody.application;
 
 import com.walletradar.application.costbasis.support.WalletAddressReadScope;
+import com.walletradar.application.custody.persistence.CustodyLedgerPosition;
 import com.walletradar.application.linking.pipeline.clarification.ExternalCustodyDestinationRegistry;
 import com.walletradar.domain.common.NetworkId;
 import com.walletradar.domain.session.UserSession;
 import com.walletradar.domain.session.UserSessionRepository;
-import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
-import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
-import com.walletradar.domain.transaction.normalized.NormalizedTransactionStatus;
-import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.mongodb.core.MongoOperations;
-import org.springframework.data.mongodb.core.query.Criteria;
-import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.math.MathContext;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +31,10 @@ import java.util.Optional;
  * network branching. The venue may return a different asset than was deposited (USDT in → USDe out);
  * this ledger makes no attempt at cross-asset reconciliation — it just reports actual per-asset
  * flows. Any yield is realized naturally via external-in accounting on exit.</p>
+ *
+ * <p>Totals are read from the {@link CustodyLedgerProjectionStore} positions of the session wallets
+ * rather than folded from {@code normalized_transactions} on every request; the projection folds
+ * rows with the same rules ({@link CustodyLedgerDelta}).</p>
  */
 @Service
 @RequiredArgsConstructor
@@ -44,7 +43,7 @@ public class CustodyLedgerQueryService {
     private static final MathContext MC = MathContext.DECIMAL128;
 
     private final UserSessionRepository userSessionRepository;
-    private final MongoOperations mongoOperations;
+    private final CustodyLedgerProjectionStore custodyLedgerProjectionStore;
     private final ExternalCustodyDestinationRegistry externalCustodyDestinationRegistry;
 
     public Optional<SessionCustodyLedgerView> findSessionCustodyLedger(String sessionId) {
@@ -57,44 +56,26 @@ public class CustodyLedgerQueryService {
     private SessionCustodyLedgerView toView(UserSession session) {
         List<String> walletAddresses = walletAddresses(session);
         if (walletAddresses.isEmpty()) {
-            return new SessionCustodyLedgerView(session.getId(), List.of());
+            return new SessionCustodyLedgerView(session.getId(), List.of(), null);
         }
-        List<NormalizedTransaction> custodyRows = loadCustodyRows(walletAddresses);
+        CustodyLedgerProjectionStore.Ledger ledger = custodyLedgerProjectionStore.read(walletAddresses);
 
+        // Venues and assets in the order their earliest custody row was seen, as the source sort had it.
+        List<CustodyLedgerPosition> positions = ledger.positions().stream()
+                .sorted(Comparator.comparing(CustodyLedgerQueryService::sortKey, Comparator.nullsLast(Comparator.<String>naturalOrder())))
+                .toList();
         Map<String, VenueAccumulator> byVenue = new LinkedHashMap<>();
-        for (NormalizedTransaction tx : custodyRows) {
-            if (tx == null || tx.getFlows() == null) {
-                continue;
-            }
-            String venueAddress = tx.getCounterpartyAddress();
-            String venueKey = venueAddress == null || venueAddress.isBlank()
-                    ? "UNKNOWN_CUSTODY_VENUE"
-                    : venueAddress.trim();
-            VenueAccumulator venue = byVenue.computeIfAbsent(venueKey, ignored ->
-                    new VenueAccumulator(venueAddress, resolveLabel(session.getId(), tx), resolveProvider(session.getId(), tx)));
-            for (NormalizedTransaction.Flow flow : tx.getFlows()) {
-                if (flow == null || flow.getRole() == NormalizedLegRole.FEE) {
-                    continue;
-                }
-                BigDecimal qty = flow.getQuantityDelta();
-                if (qty == null || qty.signum() == 0) {
-                    continue;
-                }
-                String asset = flow.getAssetSymbol() == null || flow.getAssetSymbol().isBlank()
-                        ? "UNKNOWN"
-                        : flow.getAssetSymbol().trim();
-                BigDecimal usd = flow.getValueUsd() == null ? BigDecimal.ZERO : flow.getValueUsd().abs();
-                AssetAccumulator assetAcc = venue.assets.computeIfAbsent(asset, AssetAccumulator::new);
-                if (qty.signum() < 0) {
-                    // Capital leaving the wallet toward the venue → deposit.
-                    assetAcc.depositedQty = assetAcc.depositedQty.add(qty.abs(), MC);
-                    assetAcc.depositedUsd = assetAcc.depositedUsd.add(usd, MC);
-                } else {
-                    // Capital returning from the venue → withdrawal ("count on exit").
-                    assetAcc.withdrawnQty = assetAcc.withdrawnQty.add(qty, MC);
-                    assetAcc.withdrawnUsd = assetAcc.withdrawnUsd.add(usd, MC);
-                }
-            }
+        for (CustodyLedgerPosition position : positions) {
+            VenueAccumulator venue = byVenue.computeIfAbsent(position.getVenueKey(), ignored -> new VenueAccumulator(
+                    position.getVenueAddress(),
+                    resolveLabel(session.getId(), position),
+                    resolveProvider(session.getId(), position)
+            ));
+            AssetAccumulator asset = venue.assets.computeIfAbsent(position.getAsset(), AssetAccumulator::new);
+            asset.depositedQty = asset.depositedQty.add(orZero(position.getDepositedQty()), MC);
+            asset.withdrawnQty = asset.withdrawnQty.add(orZero(position.getWithdrawnQty()), MC);
+            asset.depositedUsd = asset.depositedUsd.add(orZero(position.getDepositedUsd()), MC);
+            asset.withdrawnUsd = asset.withdrawnUsd.add(orZero(position.getWithdrawnUsd()), MC);
         }
 
         List<CustodyVenueView> venues = new ArrayList<>();
@@ -112,42 +93,59 @@ public class CustodyLedgerQueryService {
             }
             venues.add(new CustodyVenueView(venue.venueAddress, venue.label, venue.provider, assets));
         }
-        return new SessionCustodyLedgerView(session.getId(), venues);
-    }
-
-    private List<NormalizedTransaction> loadCustodyRows(List<String> walletAddresses) {
-        Query query = Query.query(new Criteria().andOperator(
-                        Criteria.where("source").is(NormalizedTransactionSource.ON_CHAIN),
-                        Criteria.where("walletAddress").in(walletAddresses),
-                        Criteria.where("status").is(NormalizedTransactionStatus.CONFIRMED),
-                        Criteria.where("custodialOffChain").is(true)
-                ))
-                .with(Sort.by(
-                        Sort.Order.asc("blockTimestamp"),
-                        Sort.Order.asc("transactionIndex"),
-                        Sort.Order.asc("_id")
-                ));
-        return mongoOperations.find(query, NormalizedTransaction.class);
+        return new SessionCustodyLedgerView(session.getId(), venues, ledger.sourceWatermark());
     }
 
-    private String resolveLabel(String sessionId, NormalizedTransaction tx) {
-        if (tx.getProtocolName() != null && !tx.getProtocolName().isBlank()) {
-            return tx.getProtocolName().trim();
+    private String resolveLabel(String sessionId, CustodyLedgerPosition position) {
+        CustodyLedgerPosition.FirstSeen anchor = position.getFirstSeen();
+        if (anchor != null && anchor.getProtocolName() != null && !anchor.getProtocolName().isBlank()) {
+            return anchor.getProtocolName().trim();
         }
-        return externalCustodyDestinationRegistry
-                .matchForSession(sessionId, tx.getCounterpartyAddress(), tx.getNetworkId())
+        return registryMatch(sessionId, position)
                 .map(ExternalCustodyDestinationRegistry.CustodyMatch::label)
-                .orElse(tx.getCounterpartyAddress());
+                .orElse(counterpartyAddress(position));
     }
 
-    private String resolveProvider(String sessionId, NormalizedTransaction tx) {
-        return externalCustodyDestinationRegistry
-                .matchForSession(sessionId, tx.getCounterpartyAddress(), tx.getNetworkId())
+    private String resolveProvider(String sessionId, CustodyLedgerPosition position) {
+        return registryMatch(sessionId, position)
                 .map(ExternalCustodyDestinationRegistry.CustodyMatch::provider)
                 .orElse(null);
     }
 
-    private static List<String> walletAddresses(UserSession session) {
+    private Optional<ExternalCustodyDestinationRegistry.CustodyMatch> registryMatch(
+            String sessionId,
+            CustodyLedgerPosition position
+    ) {
+        CustodyLedgerPosition.FirstSeen anchor = position.getFirstSeen();
+        return externalCustodyDestinationRegistry.matchForSession(
+                sessionId, counterpartyAddress(position), anchor == null ? null : networkId(anchor.getNetworkId()));
+    }
+
+    private static String counterpartyAddress(CustodyLedgerPosition position) {
+        CustodyLedgerPosition.FirstSeen anchor = position.getFirstSeen();
+        return anchor == null ? position.getVenueAddress() : anchor.getCounterpartyAddress();
+    }
+
+    private static NetworkId networkId(String name) {
+        if (name == null) {
+            return null;
+        }
+        try {
+            return NetworkId.valueOf(name);
+        } catch (IllegalArgumentException unknown) {
+            return null;
+        }
+    }
+
+    private static String sortKey(CustodyLedgerPosition position) {
+        return position.getFirstSeen() == null ? null : position.getFirstSeen().getSortKey();
+    }
+
+    private static BigDecimal orZero(BigDecimal value) {
+        return value == null ? BigDecimal.ZERO : value;
+    }
+
+    static List<String> walletAddresses(UserSession session) {
         if (session.getWallets() == null) {
             return List.of();
         }
@@ -184,7 +182,8 @@ public class CustodyLedgerQueryService {
         }
     }
 
-    public record SessionCustodyLedgerView(String sessionId, List<CustodyVenueView> venues) {
+    /** {@code sourceWatermark}: newest {@code updatedAt} of the source rows the ledger reflects. */
+    public record SessionCustodyLedgerView(String sessionId, List<CustodyVenueView> venues, Instant sourceWatermark) {
     }
 
     public record CustodyVenueView(
@@ -0,0 +1,85 @@
+package com.walletradar.application.custody.application;
+
+import com.walletradar.domain.event.AccountingReplayCompletedEvent;
+import com.walletradar.domain.event.LinkingCompletedEvent;
+import com.walletradar.domain.event.SessionBackfillCompletedEvent;
+import com.walletradar.domain.session.UserSession;
+import com.walletradar.domain.session.UserSessionRepository;
+import com.walletradar.platform.common.config.AsyncConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Repairs {@code custody_ledger_positions} drift: every session's wallets are rebuilt on a fixed
+ * delay, and a single session's right after the stages that rewrite its rows in bulk (backfill,
+ * linking repairs, replay) complete. Rebuilds are fenced against concurrent writers by
+ * {@link CustodyLedgerProjectionStore}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CustodyLedgerRebuildJob {
+
+    private final UserSessionRepository userSessionRepository;
+    private final CustodyLedgerProjectionStore custodyLedgerProjectionStore;
+
+    @Scheduled(
+            initialDelayString = "${walletradar.custody-ledger.rebuild-initial-delay-ms:120000}",
+            fixedDelayString = "${walletradar.custody-ledger.rebuild-interval-ms:3600000}"
+    )
+    public void rebuildAll() {
+        Set<String> rebuilt = new LinkedHashSet<>();
+        for (UserSession session : userSessionRepository.findAll()) {
+            List<String> wallets = CustodyLedgerQueryService.walletAddresses(session).stream()
+                    .filter(rebuilt::add)
+                    .toList();
+            rebuild(session.getId(), wallets);
+        }
+    }
+
+    @EventListener
+    @Async(AsyncConfig.PIPELINE_STAGE_EXECUTOR)
+    public void onSessionBackfillCompleted(SessionBackfillCompletedEvent event) {
+        rebuildSession(event.sessionId());
+    }
+
+    @EventListener
+    @Async(AsyncConfig.PIPELINE_STAGE_EXECUTOR)
+    public void onLinkingCompleted(LinkingCompletedEvent event) {
+        rebuildSession(event.sessionId());
+    }
+
+    @EventListener
+    @Async(AsyncConfig.PIPELINE_STAGE_EXECUTOR)
+    public void onAccountingReplayCompleted(AccountingReplayCompletedEvent event) {
+        rebuildSession(event.sessionId());
+    }
+
+    private void rebuildSession(String sessionId) {
+        if (sessionId == null || sessionId.isBlank()) {
+            return;
+        }
+        userSessionRepository.findById(sessionId.trim())
+                .ifPresent(session -> rebuild(session.getId(), CustodyLedgerQueryService.walletAddresses(session)));
+    }
+
+    private void rebuild(String sessionId, List<String> wallets) {
+        if (wallets.isEmpty()) {
+            return;
+        }
+        try {
+            custodyLedgerProjectionStore.rebuild(wallets);
+        } catch (RuntimeException error) {
+            log.warn("Custody ledger rebuild failed: sessionId={}, wallets={}, error={}",
+                    sessionId, wallets.size(), error.getMessage());
+        }
+    }
+}
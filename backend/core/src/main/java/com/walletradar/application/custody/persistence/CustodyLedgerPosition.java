@@ -0,0 +1,66 @@
+package com.walletradar.application.custody.persistence;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Custody ledger totals of one {@code wallet × venue × asset}, folded from confirmed
+ * {@code custodialOffChain} rows. Writers adjust the sums with {@code $inc}; a rebuild rewrites
+ * every position of a wallet from {@code normalized_transactions}.
+ *
+ * <p>{@link #firstSeen} anchors venue and asset ordering and the venue label to the earliest
+ * contributing row. It is maintained with {@code $min}, so {@link FirstSeen#sortKey} must stay the
+ * first field of the embedded document.</p>
+ */
+@Document(collection = "custody_ledger_positions")
+@CompoundIndexes({
+        @CompoundIndex(name = "custody_ledger_wallet_idx", def = "{'walletAddress': 1}")
+})
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class CustodyLedgerPosition {
+
+    @Id
+    @EqualsAndHashCode.Include
+    private String id;
+
+    private String walletAddress;
+    private String venueKey;
+    private String venueAddress;
+    private String asset;
+    private BigDecimal depositedQty;
+    private BigDecimal withdrawnQty;
+    private BigDecimal depositedUsd;
+    private BigDecimal withdrawnUsd;
+    private long txCount;
+    private FirstSeen firstSeen;
+    /** Newest {@code updatedAt} of the source rows folded into this position. */
+    private Instant sourceWatermark;
+    private Instant updatedAt;
+
+    public static String composeId(String walletAddress, String venueKey, String asset) {
+        return walletAddress + "|" + venueKey + "|" + asset;
+    }
+
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    public static class FirstSeen {
+        /** {@code blockTimestamp|transactionIndex|id}, zero-padded so it orders like the source sort. */
+        private String sortKey;
+        private String protocolName;
+        private String networkId;
+        private String counterpartyAddress;
+    }
+}
@@ -0,0 +1,38 @@
+package com.walletradar.application.custody.persistence;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Marks a wallet whose {@link CustodyLedgerPosition}s have been built. A wallet without
+ * {@link #rebuiltAt} is rebuilt before its positions are read; {@link #sourceWatermark} is the
+ * newest source {@code updatedAt} reflected by the positions (rebuild plus later increments).
+ *
+ * <p>{@link #revision} and {@link #lastWriteAt} are the write fence: every writer moves both before
+ * it writes, and a rebuild commits only against the revision it read before folding.</p>
+ */
+@Document(collection = "custody_ledger_wallet_states")
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class CustodyLedgerWalletState {
+
+    /** Wallet address as stored on the normalized rows. */
+    @Id
+    @EqualsAndHashCode.Include
+    private String id;
+
+    private Instant sourceWatermark;
+    private long sourceRows;
+    private Instant rebuiltAt;
+    private Instant updatedAt;
+    private long revision;
+    private Instant lastWriteAt;
+}
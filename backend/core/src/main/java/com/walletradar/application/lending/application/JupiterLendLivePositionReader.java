@@ -74,15 +74,41 @@ public class JupiterLendLivePositionReader implements LendingLivePositionReader
 
     @Override
     public Optional<LiveLendingPosition> read(LivePositionRequest request) {
-        if (request == null || request.walletAddress() == null || request.walletAddress().isBlank()) {
-            return Optional.empty();
-        }
-        List<JupiterLendClient.BorrowPosition> positions =
-                jupiterLendClient.fetchBorrowPositions(request.walletAddress());
-        if (positions.isEmpty()) {
-            return Optional.empty();
+        return readAll(List.of(request)).get(0);
+    }
+
+    /**
+     * Fetches each distinct wallet's positions once (the same wallet can back groups in several
+     * sessions) and reads the shared vault config once for the whole round.
+     */
+    @Override
+    public List<Optional<LiveLendingPosition>> readAll(List<LivePositionRequest> requests) {
+        Map<String, List<JupiterLendClient.BorrowPosition>> positionsByWallet = new HashMap<>();
+        Map<Integer, JupiterLendClient.BorrowVault> vaultsById = null;
+        List<Optional<LiveLendingPosition>> results = new ArrayList<>(requests.size());
+        for (LivePositionRequest request : requests) {
+            if (request == null || request.walletAddress() == null || request.walletAddress().isBlank()) {
+                results.add(Optional.empty());
+                continue;
+            }
+            List<JupiterLendClient.BorrowPosition> positions = positionsByWallet.computeIfAbsent(
+                    request.walletAddress(), jupiterLendClient::fetchBorrowPositions);
+            if (positions.isEmpty()) {
+                results.add(Optional.empty());
+                continue;
+            }
+            if (vaultsById == null) {
+                vaultsById = vaultsById();
+            }
+            results.add(position(positions, vaultsById));
         }
-        Map<Integer, JupiterLendClient.BorrowVault> vaultsById = vaultsById();
+        return results;
+    }
+
+    private Optional<LiveLendingPosition> position(
+            List<JupiterLendClient.BorrowPosition> positions,
+            Map<Integer, JupiterLendClient.BorrowVault> vaultsById
+    ) {
 
         Map<String, LiveLendingAssetAmount> collateralByIdentity = new HashMap<>();
         Map<String, LiveLendingAssetAmount> debtByIdentity = new HashMap<>();
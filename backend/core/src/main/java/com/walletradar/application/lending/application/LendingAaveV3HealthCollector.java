@@ -1,13 +1,10 @@
 package com.walletradar.application.lending.application;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.walletradar.application.lending.config.LendingMarketRateProperties;
 import com.walletradar.application.lending.spi.LendingLivePositionReader;
 import com.walletradar.application.lending.spi.LiveLendingPosition;
 import com.walletradar.application.lending.spi.LivePositionRequest;
 import com.walletradar.platform.networks.evm.abi.EvmAbiSupport;
-import com.walletradar.platform.networks.evm.rpc.EvmRpcClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -17,8 +14,11 @@ import java.math.BigInteger;
 import java.math.MathContext;
 import java.math.RoundingMode;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -28,6 +28,9 @@ import java.util.Optional;
  * collateral already flows live through generic ERC-20 {@code balanceOf} (aTokens → on_chain_balances),
  * so this reader reports only the health factor / liquidation threshold / current LTV; the collateral
  * and debt legs stay empty (they are not re-contributed here — that would double-count).
+ *
+ * <p>Reads are grouped per network ({@link #readAll}): one {@code eth_blockNumber} and one batched
+ * {@code getUserAccountData} per wallet, all at the pinned block.</p>
  */
 @Slf4j
 @Component
@@ -42,9 +45,7 @@ public class LendingAaveV3HealthCollector implements LendingLivePositionReader {
     private static final String PROTOCOL_MATCH = "AAVE";
 
     private final LendingMarketRateProperties properties;
-    private final com.walletradar.platform.networks.config.IngestionNetworkProperties networkProperties;
-    private final EvmRpcClient evmRpcClient;
-    private final ObjectMapper objectMapper;
+    private final LendingEvmBatchRpc batchRpc;
 
     @Override
     public boolean supports(String protocolKey, String networkId) {
@@ -58,51 +59,87 @@ public class LendingAaveV3HealthCollector implements LendingLivePositionReader {
 
     @Override
     public Optional<LiveLendingPosition> read(LivePositionRequest request) {
-        String networkKey = request.networkId() == null ? "" : request.networkId().trim().toUpperCase(Locale.ROOT);
+        return readAll(List.of(request)).get(0);
+    }
+
+    /**
+     * Groups the requests by network and reads every wallet's {@code getUserAccountData} from that
+     * network's pool in one JSON-RPC batch pinned to a single block: two round trips per network.
+     */
+    @Override
+    public List<Optional<LiveLendingPosition>> readAll(List<LivePositionRequest> requests) {
+        List<Optional<LiveLendingPosition>> positions = new ArrayList<>(requests.size());
+        Map<String, List<Integer>> indexesByNetwork = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            positions.add(Optional.empty());
+            indexesByNetwork.computeIfAbsent(networkKey(requests.get(i)), ignored -> new ArrayList<>()).add(i);
+        }
+        indexesByNetwork.forEach((networkKey, indexes) -> readNetwork(networkKey, requests, indexes, positions));
+        return positions;
+    }
+
+    private void readNetwork(
+            String networkKey,
+            List<LivePositionRequest> requests,
+            List<Integer> indexes,
+            List<Optional<LiveLendingPosition>> positions
+    ) {
         LendingMarketRateProperties.AaveV3NetworkConfig config = properties.getAaveV3().get(networkKey);
         if (config == null || !config.isEnabled() || isBlank(config.getPoolAddress())) {
-            return Optional.empty();
+            return;
         }
         if (!properties.isAaveV3HealthFetchEnabled(networkKey)) {
-            return Optional.empty();
+            return;
         }
-        Optional<String> endpoint = endpoint(networkKey);
+        Optional<String> endpoint = batchRpc.endpoint(networkKey);
         if (endpoint.isEmpty()) {
-            return Optional.empty();
+            return;
         }
-        try {
-            String data = "0x" + GET_USER_ACCOUNT_DATA_SELECTOR + EvmAbiSupport.encodeAddress(request.walletAddress());
-            String result = rpcResult(evmRpcClient.call(
-                    endpoint.get(),
-                    "eth_call",
-                    List.of(java.util.Map.of("to", config.getPoolAddress(), "data", data), "latest")
-            ).block(RPC_TIMEOUT));
-            if (result == null || result.length() <= 2 || EvmAbiSupport.wordAt(result, 5) == null) {
-                log.warn("Aave V3 health factor call returned empty payload network={} pool={} wallet={}",
-                        networkKey, config.getPoolAddress(), request.walletAddress());
-                return Optional.empty();
+        Long blockNumber = batchRpc.pinBlock(endpoint.get(), RPC_TIMEOUT).orElse(null);
+        List<LendingEvmBatchRpc.EthCall> calls = indexes.stream()
+                .map(index -> new LendingEvmBatchRpc.EthCall(config.getPoolAddress(),
+                        "0x" + GET_USER_ACCOUNT_DATA_SELECTOR + EvmAbiSupport.encodeAddress(requests.get(index).walletAddress())))
+                .toList();
+        List<Optional<String>> results = batchRpc.ethCalls(
+                endpoint.get(), calls, LendingEvmBatchRpc.blockTag(blockNumber), RPC_TIMEOUT);
+        for (int i = 0; i < indexes.size(); i++) {
+            LivePositionRequest request = requests.get(indexes.get(i));
+            try {
+                positions.set(indexes.get(i), position(networkKey, config, request, results.get(i).orElse(null), blockNumber));
+            } catch (Exception error) {
+                log.warn("Failed to collect Aave V3 health factor network={} wallet={} error={}",
+                        networkKey, request.walletAddress(), error.toString());
             }
-            BigInteger healthFactorRaw = EvmAbiSupport.uintFromWord(EvmAbiSupport.wordAt(result, 5));
-            BigDecimal healthFactor = new BigDecimal(healthFactorRaw).divide(HEALTH_FACTOR_SCALE, MC)
-                    .setScale(4, RoundingMode.HALF_UP);
-            BigDecimal liquidationThreshold = bpsFraction(result, 3);
-            BigDecimal loanToValue = currentLoanToValue(result);
-            LiveLendingPosition position = new LiveLendingPosition(
-                    List.of(),
-                    List.of(),
-                    healthFactor,
-                    liquidationThreshold,
-                    loanToValue,
-                    LendingHealthFactorSnapshotService.LIVE_PROTOCOL,
-                    blockNumber(endpoint.get()).orElse(null),
-                    config.getPoolAddress().toLowerCase(Locale.ROOT) + ":" + request.walletAddress()
-            );
-            return Optional.of(position);
-        } catch (Exception error) {
-            log.warn("Failed to collect Aave V3 health factor network={} wallet={} error={}",
-                    networkKey, request.walletAddress(), error.toString());
+        }
+    }
+
+    private Optional<LiveLendingPosition> position(
+            String networkKey,
+            LendingMarketRateProperties.AaveV3NetworkConfig config,
+            LivePositionRequest request,
+            String result,
+            Long blockNumber
+    ) {
+        if (result == null || result.length() <= 2 || EvmAbiSupport.wordAt(result, 5) == null) {
+            log.warn("Aave V3 health factor call returned empty payload network={} pool={} wallet={}",
+                    networkKey, config.getPoolAddress(), request.walletAddress());
             return Optional.empty();
         }
+        BigInteger healthFactorRaw = EvmAbiSupport.uintFromWord(EvmAbiSupport.wordAt(result, 5));
+        BigDecimal healthFactor = new BigDecimal(healthFactorRaw).divide(HEALTH_FACTOR_SCALE, MC)
+                .setScale(4, RoundingMode.HALF_UP);
+        BigDecimal liquidationThreshold = bpsFraction(result, 3);
+        BigDecimal loanToValue = currentLoanToValue(result);
+        return Optional.of(new LiveLendingPosition(
+                List.of(),
+                List.of(),
+                healthFactor,
+                liquidationThreshold,
+                loanToValue,
+                LendingHealthFactorSnapshotService.LIVE_PROTOCOL,
+                blockNumber,
+                config.getPoolAddress().toLowerCase(Locale.ROOT) + ":" + request.walletAddress()
+        ));
     }
 
     /** currentLiquidationThreshold (word 3) is in basis points; return as a fraction. */
@@ -141,37 +178,8 @@ public class LendingAaveV3HealthCollector implements LendingLivePositionReader {
         }
     }
 
-    private Optional<Long> blockNumber(String endpoint) {
-        try {
-            String result = rpcResult(evmRpcClient.call(endpoint, "eth_blockNumber", List.of()).block(RPC_TIMEOUT));
-            return Optional.of(new BigInteger(EvmAbiSupport.cleanHex(result), 16).longValue());
-        } catch (Exception error) {
-            return Optional.empty();
-        }
-    }
-
-    private String rpcResult(String body) throws Exception {
-        JsonNode root = objectMapper.readTree(body);
-        JsonNode error = root.get("error");
-        if (error != null && !error.isNull()) {
-            throw new IllegalStateException(error.toString());
-        }
-        JsonNode result = root.get("result");
-        if (result == null || result.isNull()) {
-            throw new IllegalStateException("RPC result is missing");
-        }
-        return result.asText();
-    }
-
-    private Optional<String> endpoint(String networkKey) {
-        com.walletradar.platform.networks.config.IngestionNetworkProperties.NetworkIngestionEntry entry =
-                networkProperties.getNetwork().get(networkKey);
-        if (entry == null) {
-            return Optional.empty();
-        }
-        return entry.getUrls().stream()
-                .filter(value -> value != null && !value.isBlank())
-                .findFirst();
+    private static String networkKey(LivePositionRequest request) {
+        return request.networkId() == null ? "" : request.networkId().trim().toUpperCase(Locale.ROOT);
     }
 
     private static boolean isBlank(String value) {
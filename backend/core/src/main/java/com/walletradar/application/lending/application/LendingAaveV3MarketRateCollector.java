@@ -1,9 +1,5 @@
 package com.walletradar.application.lending.application;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.walletradar.domain.common.NetworkId;
-import com.walletradar.platform.networks.evm.rpc.EvmRpcClient;
 import com.walletradar.platform.networks.evm.abi.EvmAbiSupport;
 import com.walletradar.application.lending.config.LendingMarketRateProperties;
 import com.walletradar.application.lending.persistence.LendingMarketRateSnapshot;
@@ -17,9 +13,14 @@ import java.math.MathContext;
 import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Component
@@ -36,9 +37,10 @@ public class LendingAaveV3MarketRateCollector implements LendingMarketRateReader
     private static final String GET_RESERVE_DATA_SELECTOR = EvmAbiSupport.selector("getReserveData(address)");
 
     private final LendingMarketRateProperties properties;
-    private final com.walletradar.platform.networks.config.IngestionNetworkProperties networkProperties;
-    private final EvmRpcClient evmRpcClient;
-    private final ObjectMapper objectMapper;
+    private final LendingEvmBatchRpc batchRpc;
+
+    /** {@code NETWORK|receiptToken} → underlying asset; immutable per deployment. */
+    private final Map<String, String> underlyingMemo = new ConcurrentHashMap<>();
 
     @Override
     public boolean supports(String protocolKey, String networkId) {
@@ -51,113 +53,157 @@ public class LendingAaveV3MarketRateCollector implements LendingMarketRateReader
 
     @Override
     public Optional<LendingMarketRateSnapshot> collect(LendingActiveMarketDiscoveryService.ActiveMarket market) {
-        String networkKey = market.networkId() == null ? "" : market.networkId().trim().toUpperCase(Locale.ROOT);
+        return collectAll(List.of(market)).get(0);
+    }
+
+    /**
+     * Groups the markets by network. Per network: pin a block, resolve the receipt tokens' underlying
+     * assets not seen before (immutable, memoized) in one batch, then read {@code getReserveData} for
+     * every distinct underlying in one batch at the pinned block — at most three round trips however
+     * many wallets and markets the round has.
+     */
+    @Override
+    public List<Optional<LendingMarketRateSnapshot>> collectAll(
+            List<LendingActiveMarketDiscoveryService.ActiveMarket> markets) {
+        List<Optional<LendingMarketRateSnapshot>> snapshots = new ArrayList<>(markets.size());
+        Map<String, List<Integer>> indexesByNetwork = new LinkedHashMap<>();
+        for (int i = 0; i < markets.size(); i++) {
+            snapshots.add(Optional.empty());
+            indexesByNetwork.computeIfAbsent(networkKey(markets.get(i)), ignored -> new ArrayList<>()).add(i);
+        }
+        indexesByNetwork.forEach((networkKey, indexes) -> collectNetwork(networkKey, markets, indexes, snapshots));
+        return snapshots;
+    }
+
+    private void collectNetwork(
+            String networkKey,
+            List<LendingActiveMarketDiscoveryService.ActiveMarket> markets,
+            List<Integer> indexes,
+            List<Optional<LendingMarketRateSnapshot>> snapshots
+    ) {
         LendingMarketRateProperties.AaveV3NetworkConfig config = properties.getAaveV3().get(networkKey);
         if (config == null || !config.isEnabled() || isBlank(config.getPoolAddress())) {
-            return Optional.of(unavailable(market, "AAVE_V3_ADDRESS_CONFIG_MISSING"));
+            indexes.forEach(index -> snapshots.set(index,
+                    Optional.of(unavailable(markets.get(index), "AAVE_V3_ADDRESS_CONFIG_MISSING"))));
+            return;
         }
-        Optional<String> endpoint = endpoint(networkKey);
+        Optional<String> endpoint = batchRpc.endpoint(networkKey);
         if (endpoint.isEmpty()) {
-            return Optional.of(unavailable(market, "RPC_ENDPOINT_UNAVAILABLE"));
+            indexes.forEach(index -> snapshots.set(index,
+                    Optional.of(unavailable(markets.get(index), "RPC_ENDPOINT_UNAVAILABLE"))));
+            return;
         }
-        try {
-            String underlying = underlyingAddress(endpoint.get(), market.assetContract());
-            String reserveData = reserveData(endpoint.get(), config.getPoolAddress(), underlying);
-            BigInteger liquidityRate = EvmAbiSupport.uintFromWord(EvmAbiSupport.wordAt(reserveData, 2));
-            BigInteger variableBorrowRate = EvmAbiSupport.uintFromWord(EvmAbiSupport.wordAt(reserveData, 4));
-            BigInteger lastUpdateTimestamp = EvmAbiSupport.uintFromWord(EvmAbiSupport.wordAt(reserveData, 6));
-            Long blockNumber = blockNumber(endpoint.get()).orElse(null);
-
-            Instant capturedAt = Instant.now();
-            LendingMarketRateSnapshot snapshot = new LendingMarketRateSnapshot()
-                    .setId(snapshotId(market, capturedAt))
-                    .setSessionId(market.sessionId())
-                    .setProtocol("Aave")
-                    .setNetworkId(networkKey)
-                    .setMarketKey(market.marketKey())
-                    .setWalletAddress(market.walletAddress())
-                    .setAssetSymbol(market.assetSymbol())
-                    .setUnderlyingSymbol(market.underlyingSymbol())
-                    .setSide(market.side())
-                    .setSupplyAprPct(rateAprPct(liquidityRate))
-                    .setSupplyApyPct(rateApyPct(liquidityRate))
-                    .setBorrowAprPct(rateAprPct(variableBorrowRate))
-                    .setBorrowApyPct(rateApyPct(variableBorrowRate))
-                    .setRewardAprStatus(LendingMarketRateStatus.UNAVAILABLE)
-                    .setRewardAprUnavailableReason(LendingMarketRateStatus.REWARDS_COLLECTOR_NOT_IMPLEMENTED)
-                    .setNetSupplyApyPct(rateApyPct(liquidityRate))
-                    .setNetBorrowApyPct(rateApyPct(variableBorrowRate))
-                    .setRateSource("AAVE_V3_POOL")
-                    .setRateStatus(LendingMarketRateStatus.PROTOCOL_SNAPSHOT)
-                    .setApyConvention(LendingMarketRateStatus.PER_SECOND_COMPOUNDING)
-                    .setCapturedAt(capturedAt)
-                    .setBlockNumber(blockNumber)
-                    .setSourceTimestamp(timestamp(lastUpdateTimestamp))
-                    .setRawSnapshotRef(config.getPoolAddress().toLowerCase(Locale.ROOT) + ":" + underlying);
-            return Optional.of(snapshot);
-        } catch (Exception error) {
-            log.warn("Failed to collect Aave V3 market rate network={} market={} asset={} error={}",
-                    networkKey, market.marketKey(), market.assetSymbol(), error.toString());
-            return Optional.of(unavailable(market, "AAVE_V3_COLLECTOR_FAILED"));
+        Long blockNumber = batchRpc.pinBlock(endpoint.get(), RPC_TIMEOUT).orElse(null);
+        Map<String, String> underlyingByReceipt = underlyingAddresses(networkKey, endpoint.get(),
+                indexes.stream().map(index -> markets.get(index).assetContract()).toList());
+        List<String> underlyings = underlyingByReceipt.values().stream().distinct().toList();
+        List<LendingEvmBatchRpc.EthCall> reserveCalls = underlyings.stream()
+                .map(underlying -> new LendingEvmBatchRpc.EthCall(config.getPoolAddress(),
+                        "0x" + GET_RESERVE_DATA_SELECTOR + EvmAbiSupport.encodeAddress(underlying)))
+                .toList();
+        List<Optional<String>> reserveResults = batchRpc.ethCalls(
+                endpoint.get(), reserveCalls, LendingEvmBatchRpc.blockTag(blockNumber), RPC_TIMEOUT);
+        Map<String, String> reserveDataByUnderlying = new HashMap<>();
+        for (int i = 0; i < underlyings.size(); i++) {
+            String underlying = underlyings.get(i);
+            reserveResults.get(i).ifPresent(hex -> reserveDataByUnderlying.put(underlying, hex));
         }
-    }
-
-    private String underlyingAddress(String endpoint, String receiptTokenAddress) throws Exception {
-        String result = rpcResult(evmRpcClient.call(
-                endpoint,
-                "eth_call",
-                List.of(
-                        java.util.Map.of("to", receiptTokenAddress, "data", "0x" + UNDERLYING_ASSET_ADDRESS_SELECTOR),
-                        "latest"
-                )
-        ).block(RPC_TIMEOUT));
-        String address = EvmAbiSupport.addressFromWord(result);
-        if (address == null) {
-            throw new IllegalStateException("UNDERLYING_ASSET_ADDRESS returned no address");
+        Instant capturedAt = Instant.now();
+        for (Integer index : indexes) {
+            LendingActiveMarketDiscoveryService.ActiveMarket market = markets.get(index);
+            String underlying = underlyingByReceipt.get(normalizeAddress(market.assetContract()));
+            String reserveData = underlying == null ? null : reserveDataByUnderlying.get(underlying);
+            try {
+                if (underlying == null) {
+                    throw new IllegalStateException("UNDERLYING_ASSET_ADDRESS returned no address");
+                }
+                if (reserveData == null || EvmAbiSupport.wordAt(reserveData, 6) == null) {
+                    throw new IllegalStateException("getReserveData returned no data");
+                }
+                snapshots.set(index, Optional.of(snapshot(
+                        networkKey, config, market, underlying, reserveData, blockNumber, capturedAt)));
+            } catch (Exception error) {
+                log.warn("Failed to collect Aave V3 market rate network={} market={} asset={} error={}",
+                        networkKey, market.marketKey(), market.assetSymbol(), error.toString());
+                snapshots.set(index, Optional.of(unavailable(market, "AAVE_V3_COLLECTOR_FAILED")));
+            }
         }
-        return address;
     }
 
-    private String reserveData(String endpoint, String poolAddress, String underlyingAddress) throws Exception {
-        String data = "0x" + GET_RESERVE_DATA_SELECTOR + EvmAbiSupport.encodeAddress(underlyingAddress);
-        return rpcResult(evmRpcClient.call(
-                endpoint,
-                "eth_call",
-                List.of(java.util.Map.of("to", poolAddress, "data", data), "latest")
-        ).block(RPC_TIMEOUT));
-    }
-
-    private Optional<Long> blockNumber(String endpoint) {
-        try {
-            String result = rpcResult(evmRpcClient.call(endpoint, "eth_blockNumber", List.of()).block(RPC_TIMEOUT));
-            return Optional.of(new BigInteger(EvmAbiSupport.cleanHex(result), 16).longValue());
-        } catch (Exception error) {
-            return Optional.empty();
-        }
+    private LendingMarketRateSnapshot snapshot(
+            String networkKey,
+            LendingMarketRateProperties.AaveV3NetworkConfig config,
+            LendingActiveMarketDiscoveryService.ActiveMarket market,
+            String underlying,
+            String reserveData,
+            Long blockNumber,
+            Instant capturedAt
+    ) {
+        BigInteger liquidityRate = EvmAbiSupport.uintFromWord(EvmAbiSupport.wordAt(reserveData, 2));
+        BigInteger variableBorrowRate = EvmAbiSupport.uintFromWord(EvmAbiSupport.wordAt(reserveData, 4));
+        BigInteger lastUpdateTimestamp = EvmAbiSupport.uintFromWord(EvmAbiSupport.wordAt(reserveData, 6));
+        return new LendingMarketRateSnapshot()
+                .setId(snapshotId(market, capturedAt))
+                .setSessionId(market.sessionId())
+                .setProtocol("Aave")
+                .setNetworkId(networkKey)
+                .setMarketKey(market.marketKey())
+                .setWalletAddress(market.walletAddress())
+                .setAssetSymbol(market.assetSymbol())
+                .setUnderlyingSymbol(market.underlyingSymbol())
+                .setSide(market.side())
+                .setSupplyAprPct(rateAprPct(liquidityRate))
+                .setSupplyApyPct(rateApyPct(liquidityRate))
+                .setBorrowAprPct(rateAprPct(variableBorrowRate))
+                .setBorrowApyPct(rateApyPct(variableBorrowRate))
+                .setRewardAprStatus(LendingMarketRateStatus.UNAVAILABLE)
+                .setRewardAprUnavailableReason(LendingMarketRateStatus.REWARDS_COLLECTOR_NOT_IMPLEMENTED)
+                .setNetSupplyApyPct(rateApyPct(liquidityRate))
+                .setNetBorrowApyPct(rateApyPct(variableBorrowRate))
+                .setRateSource("AAVE_V3_POOL")
+                .setRateStatus(LendingMarketRateStatus.PROTOCOL_SNAPSHOT)
+                .setApyConvention(LendingMarketRateStatus.PER_SECOND_COMPOUNDING)
+                .setCapturedAt(capturedAt)
+                .setBlockNumber(blockNumber)
+                .setSourceTimestamp(timestamp(lastUpdateTimestamp))
+                .setRawSnapshotRef(config.getPoolAddress().toLowerCase(Locale.ROOT) + ":" + underlying);
     }
 
-    private String rpcResult(String body) throws Exception {
-        JsonNode root = objectMapper.readTree(body);
-        JsonNode error = root.get("error");
-        if (error != null && !error.isNull()) {
-            throw new IllegalStateException(error.toString());
+    /**
+     * Underlying asset of each receipt token (aToken / variable debt token), keyed by the lower-cased
+     * receipt address. The mapping never changes, so it is memoized and only unseen receipts are read,
+     * in one batch.
+     */
+    private Map<String, String> underlyingAddresses(String networkKey, String endpoint, List<String> receiptTokens) {
+        Map<String, String> underlyingByReceipt = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String receipt : receiptTokens) {
+            String normalized = normalizeAddress(receipt);
+            if (normalized.isEmpty() || underlyingByReceipt.containsKey(normalized) || missing.contains(normalized)) {
+                continue;
+            }
+            String memoized = underlyingMemo.get(networkKey + "|" + normalized);
+            if (memoized != null) {
+                underlyingByReceipt.put(normalized, memoized);
+            } else {
+                missing.add(normalized);
+            }
         }
-        JsonNode result = root.get("result");
-        if (result == null || result.isNull()) {
-            throw new IllegalStateException("RPC result is missing");
+        if (missing.isEmpty()) {
+            return underlyingByReceipt;
         }
-        return result.asText();
-    }
-
-    private Optional<String> endpoint(String networkKey) {
-        com.walletradar.platform.networks.config.IngestionNetworkProperties.NetworkIngestionEntry entry =
-                networkProperties.getNetwork().get(networkKey);
-        if (entry == null) {
-            return Optional.empty();
+        List<LendingEvmBatchRpc.EthCall> calls = missing.stream()
+                .map(receipt -> new LendingEvmBatchRpc.EthCall(receipt, "0x" + UNDERLYING_ASSET_ADDRESS_SELECTOR))
+                .toList();
+        List<Optional<String>> results = batchRpc.ethCalls(endpoint, calls, LendingEvmBatchRpc.LATEST, RPC_TIMEOUT);
+        for (int i = 0; i < missing.size(); i++) {
+            String underlying = results.get(i).map(EvmAbiSupport::addressFromWord).orElse(null);
+            if (underlying != null) {
+                underlyingMemo.put(networkKey + "|" + missing.get(i), underlying);
+                underlyingByReceipt.put(missing.get(i), underlying);
+            }
         }
-        return entry.getUrls().stream()
-                .filter(value -> value != null && !value.isBlank())
-                .findFirst();
+        return underlyingByReceipt;
     }
 
     private BigDecimal rateAprPct(BigInteger rayRate) {
@@ -217,6 +263,14 @@ public class LendingAaveV3MarketRateCollector implements LendingMarketRateReader
         return value == null || value.isBlank() ? "unknown" : value;
     }
 
+    private static String networkKey(LendingActiveMarketDiscoveryService.ActiveMarket market) {
+        return market.networkId() == null ? "" : market.networkId().trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static String normalizeAddress(String address) {
+        return address == null ? "" : address.trim().toLowerCase(Locale.ROOT);
+    }
+
     private static boolean isBlank(String value) {
         return value == null || value.isBlank();
     }
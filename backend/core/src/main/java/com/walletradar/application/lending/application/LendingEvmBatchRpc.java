@@ -0,0 +1,129 @@
+package com.walletradar.application.lending.application;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.walletradar.application.lending.config.LendingMarketRateProperties;
+import com.walletradar.platform.networks.config.IngestionNetworkProperties;
+import com.walletradar.platform.networks.evm.abi.EvmAbiSupport;
+import com.walletradar.platform.networks.evm.rpc.EvmRpcClient;
+import com.walletradar.platform.networks.evm.rpc.RpcRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * JSON-RPC batch transport for the Aave V3 collectors. A refresh round pins one block per network
+ * ({@link #pinBlock}) and sends all of its {@code eth_call}s against that block in batches of
+ * {@code rpc-batch-size}, so a network costs a fixed number of round trips however many wallets and
+ * markets it has.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class LendingEvmBatchRpc {
+
+    static final String LATEST = "latest";
+
+    private final LendingMarketRateProperties properties;
+    private final IngestionNetworkProperties networkProperties;
+    private final EvmRpcClient evmRpcClient;
+    private final ObjectMapper objectMapper;
+
+    /** First configured RPC endpoint of {@code networkKey}. */
+    Optional<String> endpoint(String networkKey) {
+        IngestionNetworkProperties.NetworkIngestionEntry entry = networkProperties.getNetwork().get(networkKey);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        return entry.getUrls().stream()
+                .filter(value -> value != null && !value.isBlank())
+                .findFirst();
+    }
+
+    /** Current block of {@code endpoint}; {@link Optional#empty()} when it cannot be read. */
+    Optional<Long> pinBlock(String endpoint, Duration timeout) {
+        try {
+            String result = rpcResult(objectMapper.readTree(
+                    evmRpcClient.call(endpoint, "eth_blockNumber", List.of()).block(timeout)));
+            return Optional.of(new BigInteger(EvmAbiSupport.cleanHex(result), 16).longValue());
+        } catch (Exception error) {
+            return Optional.empty();
+        }
+    }
+
+    /** Block tag for a pinned block, {@value #LATEST} when none was pinned. */
+    static String blockTag(Long blockNumber) {
+        return blockNumber == null ? LATEST : "0x" + Long.toHexString(blockNumber);
+    }
+
+    /**
+     * Runs {@code calls} as {@code eth_call}s at {@code blockTag}. Returns one result per call in
+     * input order; a call that errored, returned no data or whose batch failed is empty.
+     */
+    List<Optional<String>> ethCalls(String endpoint, List<EthCall> calls, String blockTag, Duration timeout) {
+        List<Optional<String>> results = new ArrayList<>(calls.size());
+        int batchSize = Math.max(1, properties.getRpcBatchSize());
+        for (int from = 0; from < calls.size(); from += batchSize) {
+            List<EthCall> chunk = calls.subList(from, Math.min(from + batchSize, calls.size()));
+            List<RpcRequest> requests = chunk.stream()
+                    .map(call -> new RpcRequest("eth_call",
+                            List.of(Map.of("to", call.to(), "data", call.data()), blockTag)))
+                    .toList();
+            try {
+                results.addAll(parseBatch(evmRpcClient.batchCall(endpoint, requests).block(timeout), chunk.size()));
+            } catch (Exception error) {
+                log.warn("Lending batch eth_call failed endpoint={} size={} block={} error={}",
+                        endpoint, chunk.size(), blockTag, error.toString());
+                chunk.forEach(ignored -> results.add(Optional.empty()));
+            }
+        }
+        return results;
+    }
+
+    private List<Optional<String>> parseBatch(String body, int expectedSize) throws Exception {
+        JsonNode root = objectMapper.readTree(body);
+        List<Optional<String>> results = new ArrayList<>(expectedSize);
+        for (int i = 0; i < expectedSize; i++) {
+            results.add(Optional.empty());
+        }
+        if (root == null || !root.isArray()) {
+            return results;
+        }
+        // Responses may arrive out of order or incomplete; request ids are 1-based in request order.
+        for (JsonNode node : root) {
+            int index = node.path("id").asInt(0) - 1;
+            if (index < 0 || index >= expectedSize) {
+                continue;
+            }
+            try {
+                String hex = rpcResult(node);
+                results.set(index, hex.length() > 2 ? Optional.of(hex) : Optional.empty());
+            } catch (IllegalStateException error) {
+                // per-call revert or missing result: leave empty
+            }
+        }
+        return results;
+    }
+
+    private static String rpcResult(JsonNode root) {
+        JsonNode error = root.get("error");
+        if (error != null && !error.isNull()) {
+            throw new IllegalStateException(error.toString());
+        }
+        JsonNode result = root.get("result");
+        if (result == null || result.isNull()) {
+            throw new IllegalStateException("RPC result is missing");
+        }
+        return result.asText();
+    }
+
+    record EthCall(String to, String data) {
+    }
+}
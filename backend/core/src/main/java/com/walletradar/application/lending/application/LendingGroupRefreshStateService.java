@@ -5,6 +5,8 @@ import com.walletradar.platform.common.refresh.RefreshStatus;
 import com.walletradar.platform.common.refresh.RefreshTrigger;
 import com.walletradar.application.lending.persistence.LendingGroupRefreshState;
 import com.walletradar.application.lending.persistence.LendingGroupRefreshStateRepository;
+import com.walletradar.application.session.application.SessionProgressSignals;
+import com.walletradar.application.session.application.UniverseDataVersionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -23,6 +25,8 @@ public class LendingGroupRefreshStateService {
     );
 
     private final LendingGroupRefreshStateRepository repository;
+    private final SessionProgressSignals sessionProgressSignals;
+    private final UniverseDataVersionService universeDataVersionService;
 
     public void markQueued(String sessionId, String groupId, RefreshTrigger trigger) {
         Instant now = Instant.now();
@@ -37,6 +41,7 @@ public class LendingGroupRefreshStateService {
         state.setError(null);
         state.setUpdatedAt(now);
         repository.save(state);
+        sessionProgressSignals.markSession(sessionId, SessionProgressSignals.Topic.LENDING_REFRESH);
     }
 
     public void markUpdating(String groupId) {
@@ -48,6 +53,7 @@ public class LendingGroupRefreshStateService {
             }
             state.setUpdatedAt(now);
             repository.save(state);
+            sessionProgressSignals.markSession(state.getSessionId(), SessionProgressSignals.Topic.LENDING_REFRESH);
         });
     }
 
@@ -60,6 +66,8 @@ public class LendingGroupRefreshStateService {
             state.setError(null);
             state.setUpdatedAt(now);
             repository.save(state);
+            sessionProgressSignals.markSession(state.getSessionId(), SessionProgressSignals.Topic.LENDING_REFRESH);
+            universeDataVersionService.bumpSession(state.getSessionId(), "lending-refresh-synced");
         });
     }
 
@@ -71,6 +79,8 @@ public class LendingGroupRefreshStateService {
             state.setError(truncateError(error));
             state.setUpdatedAt(now);
             repository.save(state);
+            sessionProgressSignals.markSession(state.getSessionId(), SessionProgressSignals.Topic.LENDING_REFRESH);
+            universeDataVersionService.bumpSession(state.getSessionId(), "lending-refresh-failed");
         });
     }
 
@@ -7,6 +7,7 @@ import com.walletradar.application.lending.spi.LivePositionRequest;
 import com.walletradar.application.lending.view.LendingGroupView;
 import com.walletradar.application.lending.view.SessionLendingView;
 import com.walletradar.application.session.application.AccountingUniverseService;
+import com.walletradar.application.session.application.UniverseDataVersionService;
 import com.walletradar.domain.session.UserSession;
 import com.walletradar.domain.session.UserSessionRepository;
 import lombok.RequiredArgsConstructor;
@@ -14,9 +15,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -44,12 +48,12 @@ public class LendingHealthFactorRefreshService {
     private final LendingLivePositionSnapshotService livePositionSnapshotService;
     private final LendingLiabilityLiveTrueUpService liabilityTrueUpService;
     private final AccountingUniverseService accountingUniverseService;
+    private final UniverseDataVersionService universeDataVersionService;
 
     public RefreshResult refreshActiveBorrowGroups() {
-        int active = 0;
-        int saved = 0;
-        int skipped = 0;
         Set<String> seen = new LinkedHashSet<>();
+        List<LivePositionRequest> requests = new ArrayList<>();
+        List<String> universeIds = new ArrayList<>();
         for (UserSession session : userSessionRepository.findAll()) {
             Optional<SessionLendingView> lending = lendingView(session.getId());
             if (lending.isEmpty()) {
@@ -70,25 +74,29 @@ public class LendingHealthFactorRefreshService {
                 if (!seen.add(key)) {
                     continue;
                 }
-                active++;
-                if (refreshGroup(request, universeId)) {
-                    saved++;
-                } else {
-                    skipped++;
-                }
+                requests.add(request);
+                universeIds.add(universeId);
             }
         }
-        log.info("Lending live position refresh complete activeGroups={} saved={} skipped={}", active, saved, skipped);
-        return new RefreshResult(active, saved, skipped);
-    }
-
-    private boolean refreshGroup(LivePositionRequest request, String universeId) {
-        Optional<LiveLendingPosition> position = refreshPositionSnapshots(request);
-        if (position.isEmpty()) {
-            return false;
+        // Read every active group in one round so readers can batch per network / wallet.
+        List<Optional<LiveLendingPosition>> positions = refreshPositionSnapshots(requests);
+        int saved = 0;
+        int skipped = 0;
+        Set<String> changedUniverses = new LinkedHashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            if (positions.get(i).isEmpty()) {
+                skipped++;
+                continue;
+            }
+            liabilityTrueUpService.trueUp(universeIds.get(i), requests.get(i), positions.get(i).get());
+            changedUniverses.add(universeIds.get(i));
+            saved++;
         }
-        liabilityTrueUpService.trueUp(universeId, request, position.get());
-        return true;
+        changedUniverses.forEach(universeId ->
+                universeDataVersionService.bumpUniverse(universeId, "lending-live-positions-refreshed"));
+        log.info("Lending live position refresh complete activeGroups={} saved={} skipped={}",
+                requests.size(), saved, skipped);
+        return new RefreshResult(requests.size(), saved, skipped);
     }
 
     /**
@@ -98,23 +106,44 @@ public class LendingHealthFactorRefreshService {
      * {@link #refreshActiveBorrowGroups()}). Returns the live position when one was read.
      */
     public Optional<LiveLendingPosition> refreshPositionSnapshots(LivePositionRequest request) {
-        LendingLivePositionReader reader = positionReaders.stream()
-                .filter(candidate -> candidate.supports(request.protocolKey(), request.networkId()))
-                .findFirst()
-                .orElse(null);
-        if (reader == null) {
-            return Optional.empty();
-        }
-        Optional<LiveLendingPosition> position = reader.read(request);
-        if (position.isEmpty()) {
-            return Optional.empty();
+        return refreshPositionSnapshots(List.of(request)).get(0);
+    }
+
+    /**
+     * Batch form of {@link #refreshPositionSnapshots(LivePositionRequest)}: requests are grouped by
+     * the reader supporting them and each reader gets one {@link LendingLivePositionReader#readAll}
+     * call for its whole group. Returns one result per request, in request order.
+     */
+    public List<Optional<LiveLendingPosition>> refreshPositionSnapshots(List<LivePositionRequest> requests) {
+        List<Optional<LiveLendingPosition>> positions = new ArrayList<>(requests.size());
+        Map<LendingLivePositionReader, List<Integer>> indexesByReader = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            positions.add(Optional.empty());
+            LivePositionRequest request = requests.get(i);
+            int index = i;
+            positionReaders.stream()
+                    .filter(candidate -> candidate.supports(request.protocolKey(), request.networkId()))
+                    .findFirst()
+                    .ifPresent(reader -> indexesByReader.computeIfAbsent(reader, ignored -> new ArrayList<>()).add(index));
         }
+        indexesByReader.forEach((reader, indexes) -> {
+            List<Optional<LiveLendingPosition>> read = reader.readAll(indexes.stream().map(requests::get).toList());
+            for (int i = 0; i < indexes.size(); i++) {
+                positions.set(indexes.get(i), read.get(i));
+            }
+        });
         Instant capturedAt = Instant.now();
-        livePositionSnapshotService.save(request, position.get(), capturedAt);
-        if (position.get().healthFactor() != null) {
-            snapshotService.save(healthSnapshot(request, position.get(), capturedAt));
+        for (int i = 0; i < requests.size(); i++) {
+            Optional<LiveLendingPosition> position = positions.get(i);
+            if (position.isEmpty()) {
+                continue;
+            }
+            livePositionSnapshotService.save(requests.get(i), position.get(), capturedAt);
+            if (position.get().healthFactor() != null) {
+                snapshotService.save(healthSnapshot(requests.get(i), position.get(), capturedAt));
+            }
         }
-        return position;
+        return positions;
     }
 
     private LendingHealthFactorSnapshot healthSnapshot(
@@ -2,6 +2,7 @@ package com.walletradar.application.lending.application;
 
 import com.walletradar.application.lending.persistence.LendingMarketRateSnapshot;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -33,4 +34,17 @@ public interface LendingMarketRateReader {
      * @return the rate snapshot (possibly {@code UNAVAILABLE}) when applicable, else {@link Optional#empty()}
      */
     Optional<LendingMarketRateSnapshot> collect(LendingActiveMarketDiscoveryService.ActiveMarket market);
+
+    /**
+     * Reads the rate snapshots of several active markets in one refresh round. Readers that can
+     * group the reads (one RPC batch per network) override this; the default collects each market
+     * on its own.
+     *
+     * @param markets discovered active markets this reader {@link #supports supports}
+     * @return one result per market, in market order
+     */
+    default List<Optional<LendingMarketRateSnapshot>> collectAll(
+            List<LendingActiveMarketDiscoveryService.ActiveMarket> markets) {
+        return markets.stream().map(this::collect).toList();
+    }
 }
@@ -1,11 +1,16 @@
 package com.walletradar.application.lending.application;
 
 import com.walletradar.application.lending.persistence.LendingMarketRateSnapshot;
+import com.walletradar.application.session.application.UniverseDataVersionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Refreshes live market rates across every registered {@link LendingMarketRateReader}, dispatching
@@ -20,35 +25,57 @@ public class LendingMarketRateRefreshService {
     private final LendingActiveMarketDiscoveryService activeMarketDiscoveryService;
     private final List<LendingMarketRateReader> rateReaders;
     private final LendingMarketRateSnapshotService snapshotService;
+    private final UniverseDataVersionService universeDataVersionService;
 
     public RefreshResult refreshActiveMarkets() {
         List<LendingActiveMarketDiscoveryService.ActiveMarket> activeMarkets = activeMarketDiscoveryService.discover();
-        int saved = 0;
-        int unavailable = 0;
-        for (LendingActiveMarketDiscoveryService.ActiveMarket market : activeMarkets) {
-            LendingMarketRateReader reader = rateReaders.stream()
-                    .filter(candidate -> candidate.supports(market.protocol(), market.networkId()))
-                    .findFirst()
-                    .orElse(null);
-            if (reader == null) {
-                continue;
-            }
-            LendingMarketRateSnapshot snapshot = reader.collect(market).orElse(null);
-            if (snapshot == null) {
-                continue;
-            }
-            snapshotService.save(snapshot);
-            if (LendingMarketRateStatus.UNAVAILABLE.equals(snapshot.getRateStatus())) {
-                unavailable++;
-            } else {
-                saved++;
-            }
+        List<LendingMarketRateSnapshot> snapshots = collect(activeMarkets).stream()
+                .flatMap(Optional::stream)
+                .toList();
+        snapshotService.saveAll(snapshots);
+        int unavailable = (int) snapshots.stream()
+                .filter(snapshot -> LendingMarketRateStatus.UNAVAILABLE.equals(snapshot.getRateStatus()))
+                .count();
+        int saved = snapshots.size() - unavailable;
+        if (!snapshots.isEmpty()) {
+            // Market rates are shared by every universe holding the market.
+            universeDataVersionService.bumpGlobal("lending-market-rates-refreshed");
         }
         log.info("Lending market rate refresh complete activeMarkets={} saved={} unavailable={}",
                 activeMarkets.size(), saved, unavailable);
         return new RefreshResult(activeMarkets.size(), saved, unavailable);
     }
 
+    /**
+     * Collects rates for {@code markets} without persisting them. Markets are grouped by the first
+     * reader that supports them and each reader gets one {@link LendingMarketRateReader#collectAll}
+     * call, so readers can batch per network. Returns one result per market, in market order; markets
+     * no reader supports come back empty.
+     */
+    public List<Optional<LendingMarketRateSnapshot>> collect(
+            List<LendingActiveMarketDiscoveryService.ActiveMarket> markets
+    ) {
+        List<Optional<LendingMarketRateSnapshot>> snapshots = new ArrayList<>(markets.size());
+        Map<LendingMarketRateReader, List<Integer>> indexesByReader = new LinkedHashMap<>();
+        for (int i = 0; i < markets.size(); i++) {
+            snapshots.add(Optional.empty());
+            LendingActiveMarketDiscoveryService.ActiveMarket market = markets.get(i);
+            int index = i;
+            rateReaders.stream()
+                    .filter(candidate -> candidate.supports(market.protocol(), market.networkId()))
+                    .findFirst()
+                    .ifPresent(reader -> indexesByReader.computeIfAbsent(reader, ignored -> new ArrayList<>()).add(index));
+        }
+        indexesByReader.forEach((reader, indexes) -> {
+            List<Optional<LendingMarketRateSnapshot>> collected =
+                    reader.collectAll(indexes.stream().map(markets::get).toList());
+            for (int i = 0; i < indexes.size(); i++) {
+                snapshots.set(indexes.get(i), collected.get(i));
+            }
+        });
+        return snapshots;
+    }
+
     public record RefreshResult(int activeMarkets, int saved, int unavailable) {
     }
 }
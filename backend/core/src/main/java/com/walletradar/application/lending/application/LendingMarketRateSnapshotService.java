@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -57,4 +58,11 @@ public class LendingMarketRateSnapshotService {
     public LendingMarketRateSnapshot save(LendingMarketRateSnapshot snapshot) {
         return repository.save(snapshot);
     }
+
+    public List<LendingMarketRateSnapshot> saveAll(List<LendingMarketRateSnapshot> snapshots) {
+        if (snapshots == null || snapshots.isEmpty()) {
+            return List.of();
+        }
+        return repository.saveAll(snapshots);
+    }
 }
@@ -7,10 +7,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Explicit user-triggered lending refresh. Refactored (WS-3) to dispatch to the live-position and
@@ -27,7 +29,7 @@ public class LendingOnDemandRefreshService {
     private final SessionLendingQueryService lendingQueryService;
     private final LendingActiveMarketDiscoveryService activeMarketDiscoveryService;
     private final LendingHealthFactorRefreshService healthFactorRefreshService;
-    private final List<LendingMarketRateReader> rateReaders;
+    private final LendingMarketRateRefreshService marketRateRefreshService;
     private final LendingMarketRateSnapshotService marketRateSnapshotService;
     private final LendingGroupRefreshStateService refreshStateService;
 
@@ -36,7 +38,7 @@ public class LendingOnDemandRefreshService {
                 .map(view -> view.groups().stream()
                         .filter(group -> groupId.equalsIgnoreCase(group.id()))
                         .findFirst()
-                        .map(group -> refreshSingleGroupWithState(sessionId, group))
+                        .map(group -> refreshGroupsWithState(sessionId, List.of(group)))
                         .orElse(new RefreshResult(0, 0, 0)))
                 .orElse(new RefreshResult(0, 0, 0));
     }
@@ -44,94 +46,118 @@ public class LendingOnDemandRefreshService {
     public RefreshResult refreshAllOpenGroupsWithState(String sessionId) {
         return lendingQueryService.findSessionLending(sessionId)
                 .map(view -> {
-                    int groups = 0;
-                    int saved = 0;
-                    int skipped = 0;
-                    for (LendingGroupView group : view.groups()) {
-                        if (!"OPEN".equals(group.status())) {
-                            continue;
-                        }
-                        groups++;
-                        RefreshResult result = refreshSingleGroupWithState(sessionId, group);
-                        saved += result.saved();
-                        skipped += result.skipped();
-                    }
+                    List<LendingGroupView> openGroups = view.groups().stream()
+                            .filter(group -> "OPEN".equals(group.status()))
+                            .toList();
+                    RefreshResult result = refreshGroupsWithState(sessionId, openGroups);
                     log.info("Lending session refresh complete sessionId={} groups={} saved={} skipped={}",
-                            sessionId, groups, saved, skipped);
-                    return new RefreshResult(groups, saved, skipped);
+                            sessionId, result.groups(), result.saved(), result.skipped());
+                    return result;
                 })
                 .orElse(new RefreshResult(0, 0, 0));
     }
 
-    private RefreshResult refreshSingleGroupWithState(
+    /**
+     * Reads all groups as one batch. When the batch throws, each group is retried on its own so one
+     * failing reader or wallet only marks its own group failed; a single-group refresh rethrows as
+     * before.
+     */
+    private RefreshResult refreshGroupsWithState(
             String sessionId,
-            LendingGroupView group
+            List<LendingGroupView> groups
     ) {
-        String groupId = group.id();
-        refreshStateService.markUpdating(groupId);
+        groups.forEach(group -> refreshStateService.markUpdating(group.id()));
         try {
-            RefreshResult result = refreshSingleGroup(sessionId, group);
-            refreshStateService.markSynced(groupId);
+            RefreshResult result = refreshGroups(sessionId, groups);
+            groups.forEach(group -> refreshStateService.markSynced(group.id()));
             return result;
         } catch (Exception error) {
-            refreshStateService.markFailed(groupId, error.toString());
-            throw error;
+            if (groups.size() == 1) {
+                refreshStateService.markFailed(groups.get(0).id(), error.toString());
+                throw error;
+            }
+            log.warn("Lending batch refresh failed sessionId={} groups={}, retrying per group: {}",
+                    sessionId, groups.size(), error.toString());
         }
+        int refreshed = 0;
+        int saved = 0;
+        int skipped = 0;
+        for (LendingGroupView group : groups) {
+            try {
+                RefreshResult result = refreshGroups(sessionId, List.of(group));
+                refreshStateService.markSynced(group.id());
+                refreshed += result.groups();
+                saved += result.saved();
+                skipped += result.skipped();
+            } catch (Exception error) {
+                refreshStateService.markFailed(group.id(), error.toString());
+                skipped++;
+                log.warn("Lending group refresh failed sessionId={} groupId={}: {}",
+                        sessionId, group.id(), error.toString());
+            }
+        }
+        return new RefreshResult(refreshed, saved, skipped);
     }
 
-    private RefreshResult refreshSingleGroup(
+    /**
+     * Refreshes every group in one round: all health reads go to the readers as one batch and all
+     * markets as another, so Aave reads share one pinned block per network and Jupiter reads share
+     * one position fetch per wallet.
+     */
+    private RefreshResult refreshGroups(
             String sessionId,
-            LendingGroupView group
+            List<LendingGroupView> groups
     ) {
-        if (!"OPEN".equals(group.status())) {
-            return new RefreshResult(0, 0, 1);
-        }
+        List<LendingGroupView> openGroups = groups.stream()
+                .filter(group -> "OPEN".equals(group.status()))
+                .toList();
         int saved = 0;
-        int skipped = 0;
+        int skipped = groups.size() - openGroups.size();
+        if (openGroups.isEmpty()) {
+            return new RefreshResult(0, saved, skipped);
+        }
 
-        if (shouldRefreshHealth(group)) {
-            String networkId = group.networkId() == null ? "" : group.networkId().trim().toUpperCase(Locale.ROOT);
-            LivePositionRequest request = new LivePositionRequest(
-                    sessionId, group.protocol(), networkId, group.walletAddress());
-            if (healthFactorRefreshService.refreshPositionSnapshots(request).isPresent()) {
+        List<LivePositionRequest> healthRequests = new ArrayList<>();
+        for (LendingGroupView group : openGroups) {
+            if (shouldRefreshHealth(group)) {
+                String networkId = group.networkId() == null ? "" : group.networkId().trim().toUpperCase(Locale.ROOT);
+                healthRequests.add(new LivePositionRequest(
+                        sessionId, group.protocol(), networkId, group.walletAddress()));
+            }
+        }
+        for (Optional<?> position : healthFactorRefreshService.refreshPositionSnapshots(healthRequests)) {
+            if (position.isPresent()) {
                 saved++;
             } else {
                 skipped++;
             }
         }
 
-        List<LendingActiveMarketDiscoveryService.ActiveMarket> markets =
-                activeMarketsForGroup(sessionId, group);
-        for (LendingActiveMarketDiscoveryService.ActiveMarket market : markets) {
-            LendingMarketRateReader reader = rateReaders.stream()
-                    .filter(candidate -> candidate.supports(market.protocol(), market.networkId()))
-                    .findFirst()
-                    .orElse(null);
-            if (reader == null) {
-                skipped++;
-                continue;
-            }
-            LendingMarketRateSnapshot snapshot = reader.collect(market).orElse(null);
-            if (snapshot == null) {
-                skipped++;
-                continue;
-            }
-            marketRateSnapshotService.save(snapshot);
-            saved++;
+        List<LendingActiveMarketDiscoveryService.ActiveMarket> discovered = activeMarketDiscoveryService.discover();
+        List<LendingActiveMarketDiscoveryService.ActiveMarket> markets = new ArrayList<>();
+        for (LendingGroupView group : openGroups) {
+            markets.addAll(activeMarketsForGroup(sessionId, group, discovered));
         }
-
-        return new RefreshResult(1, saved, skipped);
+        List<LendingMarketRateSnapshot> snapshots = marketRateRefreshService.collect(markets).stream()
+                .flatMap(Optional::stream)
+                .toList();
+        marketRateSnapshotService.saveAll(snapshots);
+        saved += snapshots.size();
+        skipped += markets.size() - snapshots.size();
+
+        return new RefreshResult(openGroups.size(), saved, skipped);
     }
 
     private List<LendingActiveMarketDiscoveryService.ActiveMarket> activeMarketsForGroup(
             String sessionId,
-            LendingGroupView group
+            LendingGroupView group,
+            List<LendingActiveMarketDiscoveryService.ActiveMarket> discovered
     ) {
         String normalizedWallet = normalizeAddress(group.walletAddress());
         String normalizedNetwork = group.networkId() == null ? "" : group.networkId().trim().toUpperCase(Locale.ROOT);
         String normalizedProtocol = group.protocol() == null ? "" : group.protocol().trim();
         Map<String, LendingActiveMarketDiscoveryService.ActiveMarket> markets = new LinkedHashMap<>();
-        for (LendingActiveMarketDiscoveryService.ActiveMarket market : activeMarketDiscoveryService.discover()) {
+        for (LendingActiveMarketDiscoveryService.ActiveMarket market : discovered) {
             if (!sessionId.equals(market.sessionId())) {
                 continue;
             }
@@ -18,6 +18,8 @@ public class LendingMarketRateProperties {
 
     private boolean startupRefreshEnabled = true;
     private long refreshIntervalMs = 86_400_000L;
+    /** Max eth_calls per JSON-RPC batch when Aave reads are grouped per network for a refresh round. */
+    private int rpcBatchSize = 50;
     private Map<String, AaveV3NetworkConfig> aaveV3 = new HashMap<>();
 
     public void setAaveV3(Map<String, AaveV3NetworkConfig> aaveV3) {
@@ -1,5 +1,6 @@
 package com.walletradar.application.lending.spi;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -34,4 +35,16 @@ public interface LendingLivePositionReader {
      * @return the live position when resolvable, else {@link Optional#empty()}
      */
     Optional<LiveLendingPosition> read(LivePositionRequest request);
+
+    /**
+     * Reads the live positions of several wallets in one refresh round. Readers that can group the
+     * reads (one RPC batch per network, one API call per wallet) override this; the default reads
+     * each request on its own.
+     *
+     * @param requests borrow group identities this reader {@link #supports supports}
+     * @return one result per request, in request order
+     */
+    default List<Optional<LiveLendingPosition>> readAll(List<LivePositionRequest> requests) {
+        return requests.stream().map(this::read).toList();
+    }
 }
@@ -17,4 +17,13 @@ public class LinkingProperties {
     private boolean enabled = true;
 
     private int batchSize = 500;
+
+    /**
+     * Run linking passes whose declared footprints do not conflict concurrently on the
+     * pipeline-stage executor. Results match the serial order either way.
+     */
+    private boolean parallelPasses = false;
+
+    /** Upper bound on linking passes in flight at once, including the coordinating thread's own. */
+    private int maxParallelPasses = 4;
 }
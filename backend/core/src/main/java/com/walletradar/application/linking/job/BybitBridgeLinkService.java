@@ -1,6 +1,7 @@
 package com.walletradar.application.linking.job;
 
 import com.walletradar.application.costbasis.support.AccountingAssetFamilySupport;
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.domain.transaction.bybit.BybitExtractedEvent;
 import com.walletradar.domain.transaction.bybit.BybitExtractedEventRepository;
 import com.walletradar.domain.transaction.externalledger.ExternalLedgerRaw;
@@ -44,6 +45,7 @@ public class BybitBridgeLinkService {
     private final BybitExtractedEventMapper bybitExtractedEventMapper;
     private final BybitCanonicalTransactionBuilder bybitCanonicalTransactionBuilder;
     private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
     private final RawTransactionRepository rawTransactionRepository;
     private final TrackedWalletLookupService trackedWalletLookupService;
 
@@ -156,7 +158,7 @@ public class BybitBridgeLinkService {
         changed |= clearBridgeAnnotations(bybitTransaction, now);
         if (changed) {
             saveSource(sourceRow);
-            normalizedTransactionRepository.save(bybitTransaction);
+            linkingTransactionWriter.save(bybitTransaction);
         }
         return changed;
     }
@@ -174,7 +176,7 @@ public class BybitBridgeLinkService {
         changed |= !sameBridgeState(before, bybitTransaction);
         if (changed) {
             saveSource(sourceRow);
-            normalizedTransactionRepository.save(bybitTransaction);
+            linkingTransactionWriter.save(bybitTransaction);
         }
         return changed;
     }
@@ -188,7 +190,7 @@ public class BybitBridgeLinkService {
         changed |= markBridgeGap(bybitTransaction, now);
         if (changed) {
             saveSource(sourceRow);
-            normalizedTransactionRepository.save(bybitTransaction);
+            linkingTransactionWriter.save(bybitTransaction);
         }
         return changed;
     }
@@ -43,8 +43,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
-import java.util.concurrent.TimeUnit;
-import java.util.function.IntSupplier;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.walletradar.application.linking.job.LinkingPassFootprints.*;
 
 /**
  * Dedicated driver for deterministic cross-row and cross-source linking passes.
@@ -59,17 +61,16 @@ import java.util.function.IntSupplier;
  *       convergence cycle, not on every batch iteration.</li>
  * </ol>
  *
- * <p>Each pass is wrapped in {@link #timedPass} which logs its duration at DEBUG level and emits
- * an INFO warning for any pass taking longer than {@value SLOW_PASS_THRESHOLD_MS} ms.
+ * <p>Each pass is declared with its {@link LinkingPassFootprint} (see {@link LinkingPassFootprints})
+ * and handed to {@link LinkingPassScheduler}, which runs the list in order or, when parallel passes
+ * are enabled, overlaps the passes whose footprints do not conflict. Either way every pass is
+ * timed and followed by one progress heartbeat.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 class LinkingBatchProcessor {
 
-    /** Log a WARN if any single pass exceeds this duration (ms). */
-    private static final long SLOW_PASS_THRESHOLD_MS = 500;
-
     private final BybitBridgeLinkService bybitBridgeLinkService;
     private final OnChainLifecycleLinkService onChainLifecycleLinkService;
     private final LiFiBridgePairLinkService liFiBridgePairLinkService;
@@ -112,6 +113,8 @@ class LinkingBatchProcessor {
     private final EtherFiOftBridgeInClassifier etherFiOftBridgeInClassifier;
     private final NftMintRetagger nftMintRetagger;
 
+    private final LinkingPassScheduler linkingPassScheduler;
+
     // ── Legacy entry-point kept for callers that do not use the split loop ──────
 
     int processNextBatch(int batchSize) {
@@ -130,189 +133,157 @@ class LinkingBatchProcessor {
     //   have been processed.  Call in a loop until the return value is 0.
 
     int processConvergentPasses(int batchSize, Runnable progressHeartbeat) {
-        int processed = 0;
+        return linkingPassScheduler.run(convergentPasses(batchSize), progressHeartbeat);
+    }
+
+    List<LinkingPass> convergentPasses(int batchSize) {
+        List<LinkingPass> passes = new ArrayList<>();
 
-        processed += timedPass("bybitBridgeLink",
-                () -> bybitBridgeLinkService.reconcileOutstandingPairs(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("bybitBridgeLink", BYBIT_BRIDGE_LINK,
+                () -> bybitBridgeLinkService.reconcileOutstandingPairs(batchSize)));
 
-        processed += timedPass("onChainLifecycleLink",
-                () -> onChainLifecycleLinkService.processNextBatch(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("onChainLifecycleLink", ON_CHAIN_LIFECYCLE_LINK,
+                () -> onChainLifecycleLinkService.processNextBatch(batchSize)));
 
         // GMX-EXIT-LINK: copy gmx-lp: correlationId from resolved LP_EXIT_REQUEST to LP_EXIT_SETTLEMENT
-        processed += timedPass("gmxExitSettlementLink",
-                () -> gmxExitSettlementLinkService.linkOutstandingSettlements(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("gmxExitSettlementLink", GMX_EXIT_SETTLEMENT_LINK,
+                () -> gmxExitSettlementLinkService.linkOutstandingSettlements(batchSize)));
 
         // GMX-ENTRY-LINK: copy gmx-lp: correlationId from LP_ENTRY_SETTLEMENT to LP_ENTRY_REQUEST
-        processed += timedPass("gmxEntryRequestLink",
-                () -> gmxEntryRequestLinkService.linkOutstandingRequests(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("gmxEntryRequestLink", GMX_ENTRY_REQUEST_LINK,
+                () -> gmxEntryRequestLinkService.linkOutstandingRequests(batchSize)));
 
-        processed += timedPass("liFiBridgePairLink",
-                () -> liFiBridgePairLinkService.reconcileOutstandingSources(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("liFiBridgePairLink", LI_FI_BRIDGE_PAIR_LINK,
+                () -> liFiBridgePairLinkService.reconcileOutstandingSources(batchSize)));
 
         // CB-3: run immediately after liFiBridgePairLink so LI.FI status evidence (status/substatus/
         // toAddress) persisted by that pass is already available for the foreign-destination gate.
-        processed += timedPass("liFiForeignDestinationReclassification",
-                () -> liFiForeignDestinationReclassificationService.reclassifyForeignDestinations(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("liFiForeignDestinationReclassification", LI_FI_FOREIGN_DESTINATION_RECLASSIFICATION,
+                () -> liFiForeignDestinationReclassificationService.reclassifyForeignDestinations(batchSize)));
 
-        processed += timedPass("mayanCctpBridgePairLink",
-                () -> mayanCctpBridgePairLinkService.reconcileOutstandingSources(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("mayanCctpBridgePairLink", MAYAN_CCTP_BRIDGE_PAIR_LINK,
+                () -> mayanCctpBridgePairLinkService.reconcileOutstandingSources(batchSize)));
 
-        processed += timedPass("acrossBridgePairLink",
-                () -> acrossBridgePairLinkService.reconcileOutstandingSources(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("acrossBridgePairLink", ACROSS_BRIDGE_PAIR_LINK,
+                () -> acrossBridgePairLinkService.reconcileOutstandingSources(batchSize)));
 
-        processed += timedPass("cowSwapEthFlowSettlementLink",
-                () -> cowSwapEthFlowSettlementLinkService.linkOutstandingSettlements(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("cowSwapEthFlowSettlementLink", COW_SWAP_ETH_FLOW_SETTLEMENT_LINK,
+                () -> cowSwapEthFlowSettlementLinkService.linkOutstandingSettlements(batchSize)));
 
-        processed += timedPass("internalTransferPairLink",
-                () -> internalTransferPairLinkService.reconcileOutstandingPairs(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("internalTransferPairLink", INTERNAL_TRANSFER_PAIR_LINK,
+                () -> internalTransferPairLinkService.reconcileOutstandingPairs(batchSize)));
 
-        processed += timedPass("knownBridgeRouterExternalTypeCorrection",
-                () -> knownBridgeRouterExternalTypeCorrectionService.reclassifyKnownRouterExternals(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("knownBridgeRouterExternalTypeCorrection", KNOWN_BRIDGE_ROUTER_EXTERNAL_TYPE_CORRECTION,
+                () -> knownBridgeRouterExternalTypeCorrectionService.reclassifyKnownRouterExternals(batchSize)));
 
         // BR-1: reclassify own-wallet bridge mistypes before bridge pairing
-        processed += timedPass("ownWalletBridgeMistypeCorrection",
-                () -> ownWalletBridgeMistypeCorrectionService.reclassifyOwnWalletBridgeMistypes(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("ownWalletBridgeMistypeCorrection", OWN_WALLET_BRIDGE_MISTYPE_CORRECTION,
+                () -> ownWalletBridgeMistypeCorrectionService.reclassifyOwnWalletBridgeMistypes(batchSize)));
 
         // WS-3b Phase A: EXTERNAL_TRANSFER + MULTI + own wallet → INTERNAL_TRANSFER
-        processed += timedPass("ownWalletMultiCpCorrection",
-                () -> ownWalletBridgeMistypeCorrectionService.reclassifyMultiCpOwnWalletTransfers(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("ownWalletMultiCpCorrection", OWN_WALLET_MULTI_CP_CORRECTION,
+                () -> ownWalletBridgeMistypeCorrectionService.reclassifyMultiCpOwnWalletTransfers(batchSize)));
 
         // WS-3b Phase B: stamp concrete counterparty on remaining MULTI externals
-        processed += timedPass("deMultiExternalTransfers",
-                () -> multiCounterpartyCorrectionService.deMultiExternalTransfers(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("deMultiExternalTransfers", DE_MULTI_EXTERNAL_TRANSFERS,
+                () -> multiCounterpartyCorrectionService.deMultiExternalTransfers(batchSize)));
 
         // WS-3b Phase C: EXTERNAL_TRANSFER_OUT + known aggregator → SWAP
-        processed += timedPass("retypeAggregatorSwapMistypes",
-                () -> multiCounterpartyCorrectionService.retypeAggregatorSwapMistypes(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("retypeAggregatorSwapMistypes", RETYPE_AGGREGATOR_SWAP_MISTYPES,
+                () -> multiCounterpartyCorrectionService.retypeAggregatorSwapMistypes(batchSize)));
 
-        processed += timedPass("bybitTransferContinuityRepair1",
-                () -> bybitTransferContinuityRepairService.reconcileOutstandingPairs(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("bybitTransferContinuityRepair1", BYBIT_TRANSFER_CONTINUITY_REPAIR,
+                () -> bybitTransferContinuityRepairService.reconcileOutstandingPairs(batchSize)));
 
-        processed += timedPass("bybitInternalTransferExternalCpReclassifier",
-                () -> bybitInternalTransferExternalCpReclassifier.reclassifySameUidExternalToInternal(Instant.now()));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("bybitInternalTransferExternalCpReclassifier", BYBIT_INTERNAL_TRANSFER_EXTERNAL_CP_RECLASSIFIER,
+                () -> bybitInternalTransferExternalCpReclassifier.reclassifySameUidExternalToInternal(Instant.now())));
 
         // R12 Fix 11: stamp known protocol counterparties before cross-network pairing
-        processed += timedPass("protocolAttributionClassifier",
-                () -> protocolAttributionClassifier.classifyProtocolAttribution(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("protocolAttributionClassifier", PROTOCOL_ATTRIBUTION_CLASSIFIER,
+                () -> protocolAttributionClassifier.classifyProtocolAttribution(batchSize)));
 
-        processed += timedPass("crossNetworkBridgePairFallback",
-                () -> crossNetworkBridgePairFallbackService.reconcileOrphanInbounds(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("crossNetworkBridgePairFallback", CROSS_NETWORK_BRIDGE_PAIR_FALLBACK,
+                () -> crossNetworkBridgePairFallbackService.reconcileOrphanInbounds(batchSize)));
 
         // B2a: pair same-network custody/parking round-trips (deposit into a dual-purpose vault/router
         // and later withdrawal from the same addresses) mis-shaped as unlinked BRIDGE_OUT → BRIDGE_IN,
         // so the return leg inherits the carried-out basis per family instead of re-pricing at market.
-        processed += timedPass("sameNetworkCustodyRoundTripLink",
-                () -> sameNetworkCustodyRoundTripLinkService.reconcileOrphanInbounds(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("sameNetworkCustodyRoundTripLink", SAME_NETWORK_CUSTODY_ROUND_TRIP_LINK,
+                () -> sameNetworkCustodyRoundTripLinkService.reconcileOrphanInbounds(batchSize)));
 
         // R11 Fix 5: exclude address-poisoning dust IN (vanity-prefix match)
-        processed += timedPass("addressPoisoningDetector",
-                () -> addressPoisoningDetector.detectAndExclude(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("addressPoisoningDetector", ADDRESS_POISONING_DETECTOR,
+                () -> addressPoisoningDetector.detectAndExclude(batchSize)));
 
         // SF-1(a): quarantine confusable-symbol spoof tokens
-        processed += timedPass("spoofTokenDetector",
-                () -> spoofTokenDetector.detectAndExclude(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("spoofTokenDetector", SPOOF_TOKEN_DETECTOR,
+                () -> spoofTokenDetector.detectAndExclude(batchSize)));
 
         // R11 Fix 6: tag phishing OUT via known scam disperse-clone contracts
-        processed += timedPass("scamDisperseClonePhishingTagger",
-                () -> scamDisperseClonePhishingTagger.tagPhishingOutbounds(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("scamDisperseClonePhishingTagger", SCAM_DISPERSE_CLONE_PHISHING_TAGGER,
+                () -> scamDisperseClonePhishingTagger.tagPhishingOutbounds(batchSize)));
 
         // BLOCKER-9 / ADR-057: exclude Euler Finance v2 EVK internal debt-token inflows
-        processed += timedPass("eulerEvkDebtTokenTagger",
-                () -> eulerEvkDebtTokenTagger.tagDebtTokenInflows(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("eulerEvkDebtTokenTagger", EULER_EVK_DEBT_TOKEN_TAGGER,
+                () -> eulerEvkDebtTokenTagger.tagDebtTokenInflows(batchSize)));
 
         // RC-3: exclude Aave V3 internal variable-debt token flows on AVALANCHE
-        processed += timedPass("aaveVariableDebtTokenTagger",
-                () -> aaveVariableDebtTokenTagger.tagDebtTokenFlows(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("aaveVariableDebtTokenTagger", AAVE_VARIABLE_DEBT_TOKEN_TAGGER,
+                () -> aaveVariableDebtTokenTagger.tagDebtTokenFlows(batchSize)));
 
         // R11 Fix 7: stamp GMX V2 execution-fee refunds
-        processed += timedPass("gmxV2RefundClassifier",
-                () -> gmxV2RefundClassifier.classifyGmxRefunds(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("gmxV2RefundClassifier", GMX_V2_REFUND_CLASSIFIER,
+                () -> gmxV2RefundClassifier.classifyGmxRefunds(batchSize)));
 
         // NEW-09: pair two-step GMX GLV/GM withdrawal settlements (fee-refund-stamped native
         // inflows) to their open LP_EXIT_REQUEST so the async carry drains instead of fabricating
         // a market ACQUIRE. Runs immediately after gmxV2RefundClassifier so candidates are stamped.
-        processed += timedPass("gmxWithdrawalSettlementLink",
-                () -> gmxWithdrawalSettlementLinkService.linkOutstandingWithdrawalSettlements(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("gmxWithdrawalSettlementLink", GMX_WITHDRAWAL_SETTLEMENT_LINK,
+                () -> gmxWithdrawalSettlementLinkService.linkOutstandingWithdrawalSettlements(batchSize)));
 
         // NEW-13: demote residual GMX execution-fee refunds (no matching open LP_EXIT_REQUEST) to a
         // basis-neutral SPONSORED_GAS_IN. MUST run strictly after gmxWithdrawalSettlementLink so
         // genuine GLV/GM settlements are already LP_EXIT_SETTLEMENT (and thus excluded here),
         // preserving the NEW-09 guardrail while stopping return-of-capital gas dust from booking a
         // phantom market ACQUIRE.
-        processed += timedPass("gmxExecutionFeeRefundBasisNeutral",
-                () -> gmxExecutionFeeRefundBasisNeutralService.reclassifyResidualRefunds(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("gmxExecutionFeeRefundBasisNeutral", GMX_EXECUTION_FEE_REFUND_BASIS_NEUTRAL,
+                () -> gmxExecutionFeeRefundBasisNeutralService.reclassifyResidualRefunds(batchSize)));
 
         // R11 Fix 8: reclassify EtherFi weETH OFT cross-chain mint IN as BRIDGE_IN
-        processed += timedPass("etherFiOftBridgeInClassifier",
-                () -> etherFiOftBridgeInClassifier.reclassifyEtherFiOftInbounds(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("etherFiOftBridgeInClassifier", ETHER_FI_OFT_BRIDGE_IN_CLASSIFIER,
+                () -> etherFiOftBridgeInClassifier.reclassifyEtherFiOftInbounds(batchSize)));
 
         // R11 Fix 9: reclassify NFT mint OUT
-        processed += timedPass("nftMintRetagger",
-                () -> nftMintRetagger.reclassifyNftMints(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("nftMintRetagger", NFT_MINT_RETAGGER,
+                () -> nftMintRetagger.reclassifyNftMints(batchSize)));
 
         // Cycle/14: legacy sealed bridge OUT legs (already correlated, still cont=false)
-        processed += timedPass("bridgePairContinuityRepairLegacySealed",
-                () -> bridgePairContinuityRepairService.reconcileLegacySealedPairs(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("bridgePairContinuityRepairLegacySealed", BRIDGE_PAIR_CONTINUITY_REPAIR,
+                () -> bridgePairContinuityRepairService.reconcileLegacySealedPairs(batchSize)));
 
         // B-ZERO-5: LI.FI/Across IN legs missing flow counterparty metadata
-        processed += timedPass("bridgePairContinuityRepairPairedInbound",
-                () -> bridgePairContinuityRepairService.reconcilePairedInboundCounterparty(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("bridgePairContinuityRepairPairedInbound", BRIDGE_PAIR_CONTINUITY_REPAIR,
+                () -> bridgePairContinuityRepairService.reconcilePairedInboundCounterparty(batchSize)));
 
         // B-BRIDGE-IN-ACQUIRE: BRIDGE_IN linked but left with continuityCandidate=false
-        processed += timedPass("bridgePairContinuityRepairLegacySealedInbounds",
-                () -> bridgePairContinuityRepairService.reconcileLegacySealedInbounds(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("bridgePairContinuityRepairLegacySealedInbounds", BRIDGE_PAIR_CONTINUITY_REPAIR,
+                () -> bridgePairContinuityRepairService.reconcileLegacySealedInbounds(batchSize)));
 
         // Cycle/14: same-tx on-chain INTERNAL_TRANSFER orphans across session wallets
-        processed += timedPass("onChainInternalTransferPairRepair",
-                () -> onChainInternalTransferPairRepairService.reconcileOrphanSameTxPairs(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("onChainInternalTransferPairRepair", ON_CHAIN_INTERNAL_TRANSFER_PAIR_REPAIR,
+                () -> onChainInternalTransferPairRepairService.reconcileOrphanSameTxPairs(batchSize)));
 
         // B-VAULT-WITHDRAW: synthesize missing vault-token burn leg on Turtle Finance
-        processed += timedPass("turtleVaultBurnRepair",
-                () -> turtleVaultBurnRepairService.repairMissingVaultTokenBurn(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("turtleVaultBurnRepair", TURTLE_VAULT_BURN_REPAIR,
+                () -> turtleVaultBurnRepairService.repairMissingVaultTokenBurn(batchSize)));
 
         // B-ETH-02: link LENDING_LOOP_OPEN → its DECREASE/CLOSE legs (shared lending-loop: corrId)
         // so replay parks the collateral basis on open and restores it on close instead of
         // re-pricing the returned collateral at market. Converges to zero like GMX.
-        processed += timedPass("lendingLoopOpenClosePairLink",
-                () -> lendingLoopOpenClosePairLinkService.reconcileOutstandingLoops(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("lendingLoopOpenClosePairLink", LENDING_LOOP_OPEN_CLOSE_PAIR_LINK,
+                () -> lendingLoopOpenClosePairLinkService.reconcileOutstandingLoops(batchSize)));
 
-        return processed;
+        return passes;
     }
 
     // ── Terminal passes ───────────────────────────────────────────────────────
@@ -321,84 +292,63 @@ class LinkingBatchProcessor {
     //   convergence cycle.
 
     int runTerminalPasses(int batchSize, Runnable progressHeartbeat) {
-        int processed = 0;
+        return linkingPassScheduler.run(terminalPasses(batchSize), progressHeartbeat);
+    }
+
+    List<LinkingPass> terminalPasses(int batchSize) {
+        List<LinkingPass> passes = new ArrayList<>();
 
         // Cycle/11 S1: reprice BRIDGE_OUT principals with no priced upstream inflow
-        processed += timedPass("unmatchedBridgeInboundPricingFallback.unsupportedOutbounds",
-                unmatchedBridgeInboundPricingFallbackService::reconcileUnsupportedOutbounds);
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("unmatchedBridgeInboundPricingFallback.unsupportedOutbounds", UNMATCHED_BRIDGE_INBOUND_PRICING_FALLBACK,
+                unmatchedBridgeInboundPricingFallbackService::reconcileUnsupportedOutbounds));
 
         // Cycle/8 S3: demote orphan BRIDGE_IN to market-priced ACQUIRE
-        processed += timedPass("unmatchedBridgeInboundPricingFallback.orphanInbounds",
-                unmatchedBridgeInboundPricingFallbackService::reconcileOrphanInbounds);
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("unmatchedBridgeInboundPricingFallback.orphanInbounds", UNMATCHED_BRIDGE_INBOUND_PRICING_FALLBACK,
+                unmatchedBridgeInboundPricingFallbackService::reconcileOrphanInbounds));
 
         // B2b: a genuinely sourceless BRIDGE_IN (unlinked after every pairing pass, non-peg) has no
         // provable basis — reclassify it to an uncovered EXTERNAL_TRANSFER_IN so replay stops
         // fabricating a market-at-arrival basis it never paid. Runs after all bridge/corridor pairing
         // (including the continuity-flagged orphan demotion above) so only truly unlinked legs remain.
-        processed += timedPass("sourcelessBridgeInboundReclassification",
-                () -> sourcelessBridgeInboundReclassificationService.reconcile(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("sourcelessBridgeInboundReclassification", SOURCELESS_BRIDGE_INBOUND_RECLASSIFICATION,
+                () -> sourcelessBridgeInboundReclassificationService.reconcile(batchSize)));
 
         // Cycle/15 R3: second Bybit pairing pass after cross-batch normalization (qty drift)
-        processed += timedPass("bybitInternalTransferPairer.repairAll",
-                bybitInternalTransferPairer::repairAll);
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("bybitInternalTransferPairer.repairAll", BYBIT_INTERNAL_TRANSFER_PAIRER,
+                bybitInternalTransferPairer::repairAll));
 
         // Cycle/18 R9b: re-run corridor repair after repairAll so prices stay stripped
-        processed += timedPass("bybitTransferContinuityRepair2",
-                () -> bybitTransferContinuityRepairService.reconcileOutstandingPairs(batchSize));
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("bybitTransferContinuityRepair2", BYBIT_TRANSFER_CONTINUITY_REPAIR,
+                () -> bybitTransferContinuityRepairService.reconcileOutstandingPairs(batchSize)));
 
         // Fix A.2: suppress corridor-deposit-and-stake cycle collapse duplicates. Runs HERE (after the
         // corridor projection has stamped the BYBIT-CORRIDOR: deposits) rather than inside
         // collapseMirrors(), where the corridor half of the double-count signature does not yet exist.
-        processed += timedPass("bybitCorridorStakeCycleSuppression",
-                bybitStreamAuthorityCollapser::suppressCorridorDepositStakeCycles);
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("bybitCorridorStakeCycleSuppression", BYBIT_CORRIDOR_STAKE_CYCLE_SUPPRESSION,
+                bybitStreamAuthorityCollapser::suppressCorridorDepositStakeCycles));
 
         // B-EARN-DEPOSIT-MISSING: synthesise missing EARN counterpart
-        processed += timedPass("bybitOnChainEarnOrphanRepair",
-                bybitOnChainEarnOrphanRepairService::repairOrphans);
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("bybitOnChainEarnOrphanRepair", BYBIT_ON_CHAIN_EARN_ORPHAN_REPAIR,
+                bybitOnChainEarnOrphanRepairService::repairOrphans));
 
         // B-EARN-CORRIDOR-DEDUP: retroactively re-link corridor-funded FUND drains that were
         // incorrectly synthesised on a prior run, eliminating the phantom double-credit and the
         // resulting umbrella shortfall.
-        processed += timedPass("bybitEarnCorridorDuplicateRepair",
-                bybitOnChainEarnOrphanRepairService::repairCorridorEarnDuplicates);
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("bybitEarnCorridorDuplicateRepair", BYBIT_EARN_CORRIDOR_DUPLICATE_REPAIR,
+                bybitOnChainEarnOrphanRepairService::repairCorridorEarnDuplicates));
 
         // Cycle/12: demote Bybit INTERNAL_TRANSFER singletons
-        processed += timedPass("bybitInternalTransferOrphanFallback",
-                bybitInternalTransferOrphanFallbackService::reconcileOrphanInternals);
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("bybitInternalTransferOrphanFallback", BYBIT_INTERNAL_TRANSFER_ORPHAN_FALLBACK,
+                bybitInternalTransferOrphanFallbackService::reconcileOrphanInternals));
 
         // Cycle/15 R3: pair demoted bybit-econ-v1 EXTERNAL_TRANSFER orphans
-        processed += timedPass("bybitInternalTransferPairer.pairDemotedEconOrphans",
-                bybitInternalTransferPairer::pairDemotedEconOrphans);
-        progressHeartbeat.run();
+        passes.add(new LinkingPass("bybitInternalTransferPairer.pairDemotedEconOrphans", BYBIT_INTERNAL_TRANSFER_PAIRER,
+                bybitInternalTransferPairer::pairDemotedEconOrphans));
 
         // Cycle/9 S5: EXTERNAL_TRANSFER_IN orphans whose paired OUT is outside our universe
-        processed += timedPass("unmatchedExternalTransferInPricingFallback",
-                unmatchedExternalTransferInPricingFallbackService::reconcileOrphanInbounds);
-        progressHeartbeat.run();
-
-        return processed;
-    }
+        passes.add(new LinkingPass("unmatchedExternalTransferInPricingFallback", UNMATCHED_EXTERNAL_TRANSFER_IN_PRICING_FALLBACK,
+                unmatchedExternalTransferInPricingFallbackService::reconcileOrphanInbounds));
 
-    // ── Timing helper ─────────────────────────────────────────────────────────
-
-    private int timedPass(String passName, IntSupplier pass) {
-        long startNs = System.nanoTime();
-        int result = pass.getAsInt();
-        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNs);
-        if (durationMs >= SLOW_PASS_THRESHOLD_MS) {
-            log.info("linking pass [{}] processed={} durationMs={}", passName, result, durationMs);
-        } else {
-            log.debug("linking pass [{}] processed={} durationMs={}", passName, result, durationMs);
-        }
-        return result;
+        return passes;
     }
 }
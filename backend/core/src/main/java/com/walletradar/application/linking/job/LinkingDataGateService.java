@@ -7,10 +7,15 @@ import com.walletradar.domain.transaction.dzengi.DzengiExtractedEvent;
 import com.walletradar.domain.transaction.externalledger.ExternalLedgerRaw;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionStatus;
+import com.walletradar.domain.transaction.raw.NormalizationStatus;
 import com.walletradar.application.linking.query.LinkingPendingStatusQuery;
 import com.walletradar.application.session.application.AccountingUniverseService;
 import com.walletradar.application.session.application.SessionPipelineActivityService;
+import com.walletradar.platform.telemetry.PipelineCounterStore;
+import com.walletradar.platform.telemetry.PipelineCounterTotals;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -24,9 +29,13 @@ import java.util.Map;
 
 /**
  * Session-scoped readiness gate for the dedicated linking phase.
+ *
+ * <p>On-chain classification backlog comes from {@code pipeline_counters}, checked against two
+ * {@code exists} probes; the member set is reconciled when a probe and its counters disagree.</p>
  */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class LinkingDataGateService implements LinkingPendingStatusQuery {
 
     private static final Duration CLASSIFICATION_ACTIVITY_STALE_AFTER = Duration.ofMinutes(2);
@@ -59,6 +68,7 @@ public class LinkingDataGateService implements LinkingPendingStatusQuery {
     private final AccountingUniverseService accountingUniverseService;
     private final SessionPipelineActivityService sessionPipelineActivityService;
     private final MongoOperations mongoOperations;
+    private final PipelineCounterStore pipelineCounterStore;
 
     public LinkingGateSnapshot snapshot(String sessionId) {
         if (sessionId == null || sessionId.isBlank()) {
@@ -85,9 +95,10 @@ public class LinkingDataGateService implements LinkingPendingStatusQuery {
 
     private LinkingGateSnapshot snapshot(UserSession session) {
         AccountingUniverseService.AccountingUniverseScope scope = accountingUniverseService.resolveScope(session);
-        long pendingOnChainClassification = countPendingOnChainClassification(scope.memberRefs());
-        long pendingClarification = countPendingClarification(scope.memberRefs());
-        long pendingReclassification = countPendingReclassification(scope.memberRefs());
+        OnChainBacklog backlog = onChainBacklog(scope.memberRefs());
+        long pendingOnChainClassification = backlog.pendingClassification();
+        long pendingClarification = backlog.pendingClarification();
+        long pendingReclassification = backlog.pendingReclassification();
         Map<String, Long> pendingCexByProvider = countPendingCexClassification(session);
         boolean classificationStillRunning = hasActiveClassificationActivity(session)
                 || hasFreshClassificationRunningState(session);
@@ -188,34 +199,36 @@ public class LinkingDataGateService implements LinkingPendingStatusQuery {
         );
     }
 
-    private long countPendingClarification(List<String> memberRefs) {
-        return countPendingStatus(memberRefs, "PENDING_CLARIFICATION");
-    }
-
-    private long countPendingReclassification(List<String> memberRefs) {
-        return countPendingStatus(memberRefs, "PENDING_RECLASSIFICATION");
-    }
-
-    private long countPendingStatus(List<String> memberRefs, String status) {
+    private OnChainBacklog onChainBacklog(List<String> memberRefs) {
         if (memberRefs == null || memberRefs.isEmpty()) {
-            return 0L;
+            return new OnChainBacklog(0L, 0L, 0L);
+        }
+        OnChainBacklog backlog = OnChainBacklog.of(pipelineCounterStore.totals(memberRefs));
+        boolean rawPending = hasPendingRaw(memberRefs);
+        boolean normalizedPending = hasPendingNormalized(memberRefs);
+        if ((backlog.pendingClassification() > 0L) != rawPending
+                || (backlog.pendingClarification() + backlog.pendingReclassification() > 0L) != normalizedPending) {
+            log.warn("Linking gate counters drifted, reconciling: memberRefs={}, rawPending={}, normalizedPending={}",
+                    memberRefs.size(), rawPending, normalizedPending);
+            backlog = OnChainBacklog.of(pipelineCounterStore.reconcile(memberRefs));
         }
+        return backlog;
+    }
+
+    private boolean hasPendingNormalized(List<String> memberRefs) {
         Query query = new Query(new Criteria().andOperator(
                 Criteria.where("walletAddress").in(memberRefs),
-                Criteria.where("status").is(status)
+                Criteria.where("status").in("PENDING_CLARIFICATION", "PENDING_RECLASSIFICATION")
         ));
-        return mongoOperations.count(query, NormalizedTransaction.class);
+        return mongoOperations.exists(query, NormalizedTransaction.class);
     }
 
-    private long countPendingOnChainClassification(List<String> memberRefs) {
-        if (memberRefs == null || memberRefs.isEmpty()) {
-            return 0L;
-        }
+    private boolean hasPendingRaw(List<String> memberRefs) {
         Query query = new Query(new Criteria().andOperator(
                 Criteria.where("walletAddress").in(memberRefs),
                 Criteria.where("normalizationStatus").is("PENDING")
         ));
-        return mongoOperations.count(query, "raw_transactions");
+        return mongoOperations.exists(query, "raw_transactions");
     }
 
     private Map<String, Long> countPendingCexClassification(UserSession session) {
@@ -319,6 +332,20 @@ public class LinkingDataGateService implements LinkingPendingStatusQuery {
         return new LinkingGateSnapshot(false, 0L, 0L, 0L, Map.of(), false);
     }
 
+    private record OnChainBacklog(
+            long pendingClassification,
+            long pendingClarification,
+            long pendingReclassification
+    ) {
+        static OnChainBacklog of(PipelineCounterTotals totals) {
+            return new OnChainBacklog(
+                    totals.raw(NormalizationStatus.PENDING),
+                    totals.normalized(null, PipelineCounterTotals.Accounting.ANY, NormalizedTransactionStatus.PENDING_CLARIFICATION),
+                    totals.normalized(null, PipelineCounterTotals.Accounting.ANY, NormalizedTransactionStatus.PENDING_RECLASSIFICATION)
+            );
+        }
+    }
+
     public record LinkingGateSnapshot(
             boolean ready,
             long pendingOnChainClassificationCount,
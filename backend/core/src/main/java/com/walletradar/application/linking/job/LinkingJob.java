@@ -1,6 +1,5 @@
 package com.walletradar.application.linking.job;
 
-import com.walletradar.platform.common.config.AsyncConfig;
 import com.walletradar.domain.event.BybitNormalizationCompletedEvent;
 import com.walletradar.domain.event.DzengiNormalizationCompletedEvent;
 import com.walletradar.domain.event.LinkingCompletedEvent;
@@ -12,11 +11,11 @@ import com.walletradar.application.pipeline.config.JobHeartbeatProperties;
 import com.walletradar.platform.common.job.StageExecutionLogSupport;
 import com.walletradar.application.session.application.SessionPipelineActivityService;
 import com.walletradar.application.session.application.SessionPipelineStateService;
+import com.walletradar.application.pipeline.queue.PipelineStageHandoff;
+import com.walletradar.application.pipeline.queue.PipelineStageJob;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
@@ -29,6 +28,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * classification work for the active session window is ready.
  */
 @Component
+@PipelineStageJob
 @RequiredArgsConstructor
 @Slf4j
 public class LinkingJob {
@@ -41,7 +41,7 @@ public class LinkingJob {
     private final LinkingProperties properties;
     private final LinkingBatchProcessor linkingBatchProcessor;
     private final LinkingDataGateService linkingDataGateService;
-    private final ApplicationEventPublisher applicationEventPublisher;
+    private final PipelineStageHandoff pipelineStageHandoff;
     private final SessionPipelineActivityService sessionPipelineActivityService;
     private final SessionPipelineStateService sessionPipelineStateService;
 
@@ -50,7 +50,6 @@ public class LinkingJob {
     }
 
     @EventListener
-    @Async(AsyncConfig.PIPELINE_STAGE_EXECUTOR)
     public void onOnChainReclassificationCompleted(OnChainReclassificationCompletedEvent event) {
         if (!properties.isEnabled() || event == null) {
             return;
@@ -59,7 +58,6 @@ public class LinkingJob {
     }
 
     @EventListener
-    @Async(AsyncConfig.PIPELINE_STAGE_EXECUTOR)
     public void onBybitNormalizationCompleted(BybitNormalizationCompletedEvent event) {
         if (!properties.isEnabled() || event == null) {
             return;
@@ -68,7 +66,6 @@ public class LinkingJob {
     }
 
     @EventListener
-    @Async(AsyncConfig.PIPELINE_STAGE_EXECUTOR)
     public void onDzengiNormalizationCompleted(DzengiNormalizationCompletedEvent event) {
         if (!properties.isEnabled() || event == null) {
             return;
@@ -77,7 +74,6 @@ public class LinkingJob {
     }
 
     @EventListener
-    @Async(AsyncConfig.PIPELINE_STAGE_EXECUTOR)
     public void onLinkingRequested(LinkingRequestedEvent event) {
         if (!properties.isEnabled() || event == null) {
             return;
@@ -190,6 +186,6 @@ public class LinkingJob {
         if (processed <= 0 && !publishWhenEmpty) {
             return;
         }
-        applicationEventPublisher.publishEvent(new LinkingCompletedEvent(sessionId, processed, trigger));
+        pipelineStageHandoff.submit(sessionId, new LinkingCompletedEvent(sessionId, processed, trigger));
     }
 }
@@ -0,0 +1,10 @@
+package com.walletradar.application.linking.job;
+
+import java.util.function.IntSupplier;
+
+/**
+ * One named linking pass with its declared footprint; {@code body} returns the number of rows it
+ * processed.
+ */
+record LinkingPass(String name, LinkingPassFootprint footprint, IntSupplier body) {
+}
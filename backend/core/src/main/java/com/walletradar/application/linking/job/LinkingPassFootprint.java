@@ -0,0 +1,198 @@
+package com.walletradar.application.linking.job;
+
+import com.walletradar.domain.common.NetworkId;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Declared data footprint of one linking pass over {@code normalized_transactions}: which rows
+ * (source × network × type) it reads, updates in place or inserts, which fields it reads, and which
+ * side collections it touches. {@link LinkingPassScheduler} runs two passes concurrently only when
+ * their footprints do not {@linkplain #conflictsWith conflict}.
+ *
+ * <p>Linking services persist with full-document saves, so two passes that write overlapping rows
+ * always conflict even when they change different fields: the later save would silently revert
+ * the earlier one. Field sets only separate a writer from a pure reader. Identity fields
+ * ({@link #IDENTITY_FIELDS}) are never changed in place, so a read of identity fields only (e.g.
+ * an "is there an on-chain row for this txHash" lookup) is independent of every update, but not
+ * of a pass that inserts rows.
+ *
+ * <p>A retype must list both the old and the new type, since the row leaves one selection and
+ * enters another. Empty sets mean "any".
+ */
+final class LinkingPassFootprint {
+
+    static final Set<String> IDENTITY_FIELDS = Set.of(
+            "id", "txHash", "networkId", "walletAddress", "source", "blockTimestamp", "transactionIndex"
+    );
+
+    /** A row selection of {@code normalized_transactions} and the fields touched on it. */
+    record Access(
+            Set<NormalizedTransactionSource> sources,
+            Set<NetworkId> networks,
+            Set<NormalizedTransactionType> types,
+            Set<String> fields
+    ) {
+
+        static Access rows(NormalizedTransactionSource... sources) {
+            return new Access(Set.copyOf(Arrays.asList(sources)), Set.of(), Set.of(), Set.of());
+        }
+
+        Access networks(NetworkId... networks) {
+            return new Access(sources, Set.copyOf(Arrays.asList(networks)), types, fields);
+        }
+
+        Access types(NormalizedTransactionType... types) {
+            return new Access(sources, networks, Set.copyOf(Arrays.asList(types)), fields);
+        }
+
+        Access fields(String... fields) {
+            return new Access(sources, networks, types, Set.copyOf(Arrays.asList(fields)));
+        }
+
+        boolean overlapsRows(Access other) {
+            return intersect(sources, other.sources)
+                    && intersect(networks, other.networks)
+                    && intersect(types, other.types);
+        }
+    }
+
+    private final List<Access> reads;
+    private final List<Access> updates;
+    private final List<Access> inserts;
+    private final Set<String> collectionsRead;
+    private final Set<String> collectionsWritten;
+
+    private LinkingPassFootprint(Builder builder) {
+        this.reads = List.copyOf(builder.reads);
+        this.updates = List.copyOf(builder.updates);
+        this.inserts = List.copyOf(builder.inserts);
+        this.collectionsRead = Set.copyOf(builder.collectionsRead);
+        this.collectionsWritten = Set.copyOf(builder.collectionsWritten);
+    }
+
+    static Builder footprint() {
+        return new Builder();
+    }
+
+    /**
+     * True when running the two passes concurrently could give a different result than running
+     * them one after the other, in either order.
+     */
+    boolean conflictsWith(LinkingPassFootprint other) {
+        return writesOverlap(other)
+                || readsWrittenRows(this, other)
+                || readsWrittenRows(other, this)
+                || touchesWrittenCollection(this, other)
+                || touchesWrittenCollection(other, this);
+    }
+
+    private boolean writesOverlap(LinkingPassFootprint other) {
+        for (Access write : writes()) {
+            for (Access otherWrite : other.writes()) {
+                if (write.overlapsRows(otherWrite)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private List<Access> writes() {
+        if (inserts.isEmpty()) {
+            return updates;
+        }
+        List<Access> writes = new ArrayList<>(updates);
+        writes.addAll(inserts);
+        return writes;
+    }
+
+    private static boolean readsWrittenRows(LinkingPassFootprint reader, LinkingPassFootprint writer) {
+        for (Access read : reader.reads) {
+            for (Access update : writer.updates) {
+                if (read.overlapsRows(update) && updatedFieldsVisible(update.fields(), read.fields())) {
+                    return true;
+                }
+            }
+            for (Access insert : writer.inserts) {
+                if (read.overlapsRows(insert)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean updatedFieldsVisible(Set<String> updated, Set<String> read) {
+        if (read.isEmpty()) {
+            return true;
+        }
+        if (updated.isEmpty()) {
+            return !IDENTITY_FIELDS.containsAll(read);
+        }
+        return !Collections.disjoint(updated, read);
+    }
+
+    private static boolean touchesWrittenCollection(LinkingPassFootprint toucher, LinkingPassFootprint writer) {
+        return !Collections.disjoint(writer.collectionsWritten, toucher.collectionsRead)
+                || !Collections.disjoint(writer.collectionsWritten, toucher.collectionsWritten);
+    }
+
+    private static <T> boolean intersect(Set<T> left, Set<T> right) {
+        return left.isEmpty() || right.isEmpty() || !Collections.disjoint(left, right);
+    }
+
+    static final class Builder {
+
+        private final List<Access> reads = new ArrayList<>();
+        private final List<Access> updates = new ArrayList<>();
+        private final List<Access> inserts = new ArrayList<>();
+        private final Set<String> collectionsRead = new HashSet<>();
+        private final Set<String> collectionsWritten = new HashSet<>();
+
+        private Builder() {
+        }
+
+        /** Rows the pass selects or looks up without changing them. */
+        Builder reads(Access access) {
+            reads.add(access);
+            return this;
+        }
+
+        /** Rows the pass loads, changes and saves back; empty fields mean any non-identity field. */
+        Builder updates(Access access) {
+            if (!Collections.disjoint(access.fields(), IDENTITY_FIELDS)) {
+                throw new IllegalArgumentException("Identity fields are never updated in place: " + access.fields());
+            }
+            updates.add(access);
+            return this;
+        }
+
+        /** Rows the pass creates (synthesized legs, discovered counterparts). */
+        Builder inserts(Access access) {
+            inserts.add(access);
+            return this;
+        }
+
+        Builder readsCollections(String... collections) {
+            collectionsRead.addAll(Arrays.asList(collections));
+            return this;
+        }
+
+        Builder writesCollections(String... collections) {
+            collectionsWritten.addAll(Arrays.asList(collections));
+            return this;
+        }
+
+        LinkingPassFootprint build() {
+            return new LinkingPassFootprint(this);
+        }
+    }
+}
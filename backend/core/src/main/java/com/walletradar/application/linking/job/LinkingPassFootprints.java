@@ -0,0 +1,260 @@
+package com.walletradar.application.linking.job;
+
+import com.walletradar.domain.common.NetworkId;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
+
+import java.util.EnumSet;
+
+import static com.walletradar.application.linking.job.LinkingPassFootprint.Access.rows;
+import static com.walletradar.application.linking.job.LinkingPassFootprint.footprint;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionSource.BYBIT;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionSource.ON_CHAIN;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionType.BRIDGE_IN;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionType.BRIDGE_OUT;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionType.DERIVATIVE_ORDER_CANCEL;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionType.DERIVATIVE_ORDER_EXECUTION;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionType.DERIVATIVE_ORDER_REQUEST;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionType.DERIVATIVE_POSITION_DECREASE;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionType.DERIVATIVE_POSITION_INCREASE;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionType.DEX_ORDER_REQUEST;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionType.DEX_ORDER_SETTLEMENT;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionType.EXTERNAL_TRANSFER_IN;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionType.EXTERNAL_TRANSFER_OUT;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionType.INTERNAL_TRANSFER;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionType.LENDING_LOOP_CLOSE;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionType.LENDING_LOOP_DECREASE;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionType.LENDING_LOOP_OPEN;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionType.LENDING_LOOP_REBALANCE;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionType.LP_ENTRY_REQUEST;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionType.LP_ENTRY_SETTLEMENT;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionType.LP_EXIT_REQUEST;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionType.LP_EXIT_SETTLEMENT;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionType.NFT_MINT;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionType.SPONSORED_GAS_IN;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionType.SWAP;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionType.VAULT_WITHDRAW;
+
+/**
+ * Footprints of the passes run by {@link LinkingBatchProcessor}, taken from each service's candidate
+ * queries and save paths. When a pass changes what it selects, retypes or inserts, its entry here
+ * must change with it; an understated footprint lets the scheduler overlap passes that do not
+ * commute. When in doubt, widen.
+ */
+final class LinkingPassFootprints {
+
+    private static final String RAW_TRANSACTIONS = "raw_transactions";
+    private static final String BYBIT_EXTRACTED_EVENTS = "bybit_extracted_events";
+    private static final String EXTERNAL_LEDGER_RAW = "external_ledger_raw";
+    private static final String TRACKED_WALLETS = "tracked_wallets";
+    private static final String ACCOUNTING_UNIVERSES = "accounting_universes";
+
+    /**
+     * CEX normalization never emits bridge legs and no pass retypes a CEX row into one, so the
+     * Bybit-only passes are independent of the on-chain bridge pairing family.
+     */
+    private static final NormalizedTransactionType[] CEX_TYPES = EnumSet
+            .complementOf(EnumSet.of(BRIDGE_IN, BRIDGE_OUT))
+            .toArray(new NormalizedTransactionType[0]);
+
+    private static final LinkingPassFootprint BYBIT_ONLY = footprint()
+            .updates(rows(BYBIT).types(CEX_TYPES))
+            .build();
+
+    // ── Convergent passes ─────────────────────────────────────────────────────
+
+    static final LinkingPassFootprint BYBIT_BRIDGE_LINK = footprint()
+            .updates(rows(BYBIT).types(EXTERNAL_TRANSFER_IN, EXTERNAL_TRANSFER_OUT))
+            .reads(rows(ON_CHAIN).fields("txHash", "networkId", "source"))
+            .readsCollections(RAW_TRANSACTIONS)
+            .writesCollections(BYBIT_EXTRACTED_EVENTS, EXTERNAL_LEDGER_RAW)
+            .build();
+
+    static final LinkingPassFootprint ON_CHAIN_LIFECYCLE_LINK = footprint()
+            .updates(rows(ON_CHAIN).types(
+                    LP_ENTRY_REQUEST, LP_ENTRY_SETTLEMENT, LP_EXIT_REQUEST, LP_EXIT_SETTLEMENT,
+                    DEX_ORDER_REQUEST, DEX_ORDER_SETTLEMENT,
+                    DERIVATIVE_ORDER_REQUEST, DERIVATIVE_ORDER_EXECUTION, DERIVATIVE_ORDER_CANCEL,
+                    DERIVATIVE_POSITION_INCREASE, DERIVATIVE_POSITION_DECREASE))
+            .readsCollections(RAW_TRANSACTIONS)
+            .build();
+
+    static final LinkingPassFootprint GMX_EXIT_SETTLEMENT_LINK = footprint()
+            .reads(rows().types(LP_EXIT_REQUEST))
+            .updates(rows().types(LP_EXIT_SETTLEMENT).fields("correlationId"))
+            .build();
+
+    static final LinkingPassFootprint GMX_ENTRY_REQUEST_LINK = footprint()
+            .reads(rows().types(LP_ENTRY_SETTLEMENT))
+            .updates(rows().types(LP_ENTRY_REQUEST).fields("correlationId"))
+            .build();
+
+    static final LinkingPassFootprint LI_FI_BRIDGE_PAIR_LINK = footprint()
+            .updates(rows(ON_CHAIN).types(BRIDGE_OUT, BRIDGE_IN, EXTERNAL_TRANSFER_IN))
+            .inserts(rows(ON_CHAIN).types(BRIDGE_IN, EXTERNAL_TRANSFER_IN))
+            .writesCollections(RAW_TRANSACTIONS)
+            .build();
+
+    static final LinkingPassFootprint LI_FI_FOREIGN_DESTINATION_RECLASSIFICATION = footprint()
+            .updates(rows(ON_CHAIN).types(BRIDGE_OUT, EXTERNAL_TRANSFER_OUT))
+            .readsCollections(RAW_TRANSACTIONS)
+            .build();
+
+    static final LinkingPassFootprint MAYAN_CCTP_BRIDGE_PAIR_LINK = footprint()
+            .updates(rows(ON_CHAIN).types(BRIDGE_OUT, BRIDGE_IN, EXTERNAL_TRANSFER_IN))
+            .inserts(rows(ON_CHAIN).types(BRIDGE_IN, EXTERNAL_TRANSFER_IN))
+            .writesCollections(RAW_TRANSACTIONS)
+            .build();
+
+    static final LinkingPassFootprint ACROSS_BRIDGE_PAIR_LINK = footprint()
+            .updates(rows(ON_CHAIN).types(BRIDGE_OUT, BRIDGE_IN, EXTERNAL_TRANSFER_IN))
+            .build();
+
+    static final LinkingPassFootprint COW_SWAP_ETH_FLOW_SETTLEMENT_LINK = footprint()
+            .updates(rows(ON_CHAIN).types(EXTERNAL_TRANSFER_IN, DEX_ORDER_REQUEST, DEX_ORDER_SETTLEMENT))
+            .build();
+
+    static final LinkingPassFootprint INTERNAL_TRANSFER_PAIR_LINK = footprint()
+            .updates(rows(ON_CHAIN).types(EXTERNAL_TRANSFER_IN, EXTERNAL_TRANSFER_OUT, INTERNAL_TRANSFER))
+            .build();
+
+    static final LinkingPassFootprint KNOWN_BRIDGE_ROUTER_EXTERNAL_TYPE_CORRECTION = footprint()
+            .updates(rows(ON_CHAIN).types(EXTERNAL_TRANSFER_IN, EXTERNAL_TRANSFER_OUT, BRIDGE_IN, BRIDGE_OUT))
+            .build();
+
+    static final LinkingPassFootprint OWN_WALLET_BRIDGE_MISTYPE_CORRECTION = footprint()
+            .updates(rows(ON_CHAIN).types(BRIDGE_IN, BRIDGE_OUT, INTERNAL_TRANSFER))
+            .readsCollections(TRACKED_WALLETS)
+            .build();
+
+    static final LinkingPassFootprint OWN_WALLET_MULTI_CP_CORRECTION = footprint()
+            .updates(rows(ON_CHAIN).types(EXTERNAL_TRANSFER_IN, EXTERNAL_TRANSFER_OUT, INTERNAL_TRANSFER))
+            .readsCollections(TRACKED_WALLETS)
+            .build();
+
+    static final LinkingPassFootprint DE_MULTI_EXTERNAL_TRANSFERS = footprint()
+            .updates(rows(ON_CHAIN).types(EXTERNAL_TRANSFER_IN, EXTERNAL_TRANSFER_OUT))
+            .build();
+
+    static final LinkingPassFootprint RETYPE_AGGREGATOR_SWAP_MISTYPES = footprint()
+            .updates(rows(ON_CHAIN).types(EXTERNAL_TRANSFER_OUT, SWAP))
+            .build();
+
+    static final LinkingPassFootprint BYBIT_TRANSFER_CONTINUITY_REPAIR = footprint()
+            .updates(rows().types(
+                    EXTERNAL_TRANSFER_IN, EXTERNAL_TRANSFER_OUT, INTERNAL_TRANSFER, BRIDGE_IN, BRIDGE_OUT))
+            .build();
+
+    static final LinkingPassFootprint BYBIT_INTERNAL_TRANSFER_EXTERNAL_CP_RECLASSIFIER = footprint()
+            .updates(rows(BYBIT).types(EXTERNAL_TRANSFER_IN, EXTERNAL_TRANSFER_OUT, INTERNAL_TRANSFER))
+            .build();
+
+    static final LinkingPassFootprint PROTOCOL_ATTRIBUTION_CLASSIFIER = footprint()
+            .updates(rows(ON_CHAIN).types(EXTERNAL_TRANSFER_IN, EXTERNAL_TRANSFER_OUT, BRIDGE_IN, BRIDGE_OUT))
+            .build();
+
+    static final LinkingPassFootprint CROSS_NETWORK_BRIDGE_PAIR_FALLBACK = footprint()
+            .updates(rows(ON_CHAIN).types(BRIDGE_IN, BRIDGE_OUT))
+            .build();
+
+    static final LinkingPassFootprint SAME_NETWORK_CUSTODY_ROUND_TRIP_LINK = footprint()
+            .updates(rows(ON_CHAIN).types(BRIDGE_IN, BRIDGE_OUT))
+            .build();
+
+    static final LinkingPassFootprint ADDRESS_POISONING_DETECTOR = footprint()
+            .updates(rows(ON_CHAIN).types(EXTERNAL_TRANSFER_IN, EXTERNAL_TRANSFER_OUT))
+            .reads(rows(ON_CHAIN).types(INTERNAL_TRANSFER, BRIDGE_IN, BRIDGE_OUT))
+            .reads(rows().types(EXTERNAL_TRANSFER_OUT))
+            .readsCollections(ACCOUNTING_UNIVERSES)
+            .build();
+
+    static final LinkingPassFootprint SPOOF_TOKEN_DETECTOR = footprint()
+            .updates(rows(ON_CHAIN))
+            .build();
+
+    static final LinkingPassFootprint SCAM_DISPERSE_CLONE_PHISHING_TAGGER = footprint()
+            .updates(rows(ON_CHAIN).types(EXTERNAL_TRANSFER_OUT))
+            .readsCollections(RAW_TRANSACTIONS)
+            .build();
+
+    static final LinkingPassFootprint EULER_EVK_DEBT_TOKEN_TAGGER = footprint()
+            .updates(rows().networks(NetworkId.AVALANCHE))
+            .build();
+
+    static final LinkingPassFootprint AAVE_VARIABLE_DEBT_TOKEN_TAGGER = footprint()
+            .updates(rows().networks(NetworkId.AVALANCHE))
+            .build();
+
+    static final LinkingPassFootprint GMX_V2_REFUND_CLASSIFIER = footprint()
+            .updates(rows(ON_CHAIN).types(EXTERNAL_TRANSFER_IN))
+            .readsCollections(RAW_TRANSACTIONS)
+            .build();
+
+    static final LinkingPassFootprint GMX_WITHDRAWAL_SETTLEMENT_LINK = footprint()
+            .updates(rows().types(EXTERNAL_TRANSFER_IN, LP_EXIT_REQUEST, LP_EXIT_SETTLEMENT))
+            .build();
+
+    static final LinkingPassFootprint GMX_EXECUTION_FEE_REFUND_BASIS_NEUTRAL = footprint()
+            .updates(rows(ON_CHAIN).types(EXTERNAL_TRANSFER_IN, SPONSORED_GAS_IN))
+            .reads(rows(ON_CHAIN).types(LP_EXIT_REQUEST, LP_EXIT_SETTLEMENT))
+            .build();
+
+    static final LinkingPassFootprint ETHER_FI_OFT_BRIDGE_IN_CLASSIFIER = footprint()
+            .updates(rows(ON_CHAIN).types(EXTERNAL_TRANSFER_IN, BRIDGE_IN))
+            .readsCollections(RAW_TRANSACTIONS)
+            .build();
+
+    static final LinkingPassFootprint NFT_MINT_RETAGGER = footprint()
+            .updates(rows(ON_CHAIN).types(EXTERNAL_TRANSFER_OUT, NFT_MINT))
+            .readsCollections(RAW_TRANSACTIONS)
+            .build();
+
+    static final LinkingPassFootprint BRIDGE_PAIR_CONTINUITY_REPAIR = footprint()
+            .updates(rows().types(BRIDGE_IN, BRIDGE_OUT, EXTERNAL_TRANSFER_IN))
+            .build();
+
+    static final LinkingPassFootprint ON_CHAIN_INTERNAL_TRANSFER_PAIR_REPAIR = footprint()
+            .updates(rows(ON_CHAIN).types(INTERNAL_TRANSFER))
+            .build();
+
+    static final LinkingPassFootprint TURTLE_VAULT_BURN_REPAIR = footprint()
+            .updates(rows().types(VAULT_WITHDRAW))
+            .readsCollections(RAW_TRANSACTIONS)
+            .build();
+
+    static final LinkingPassFootprint LENDING_LOOP_OPEN_CLOSE_PAIR_LINK = footprint()
+            .updates(rows(ON_CHAIN).types(
+                    LENDING_LOOP_OPEN, LENDING_LOOP_REBALANCE, LENDING_LOOP_DECREASE, LENDING_LOOP_CLOSE))
+            .build();
+
+    // ── Terminal passes ───────────────────────────────────────────────────────
+
+    static final LinkingPassFootprint UNMATCHED_BRIDGE_INBOUND_PRICING_FALLBACK = footprint()
+            .updates(rows().types(BRIDGE_IN, BRIDGE_OUT))
+            .reads(rows().types(EXTERNAL_TRANSFER_IN))
+            .build();
+
+    static final LinkingPassFootprint SOURCELESS_BRIDGE_INBOUND_RECLASSIFICATION = footprint()
+            .updates(rows(ON_CHAIN).types(BRIDGE_IN, EXTERNAL_TRANSFER_IN))
+            .build();
+
+    static final LinkingPassFootprint BYBIT_INTERNAL_TRANSFER_PAIRER = BYBIT_ONLY;
+
+    static final LinkingPassFootprint BYBIT_CORRIDOR_STAKE_CYCLE_SUPPRESSION = BYBIT_ONLY;
+
+    static final LinkingPassFootprint BYBIT_ON_CHAIN_EARN_ORPHAN_REPAIR = footprint()
+            .updates(rows(BYBIT).types(CEX_TYPES))
+            .inserts(rows(BYBIT).types(INTERNAL_TRANSFER))
+            .build();
+
+    static final LinkingPassFootprint BYBIT_EARN_CORRIDOR_DUPLICATE_REPAIR = BYBIT_ONLY;
+
+    static final LinkingPassFootprint BYBIT_INTERNAL_TRANSFER_ORPHAN_FALLBACK = BYBIT_ONLY;
+
+    static final LinkingPassFootprint UNMATCHED_EXTERNAL_TRANSFER_IN_PRICING_FALLBACK = footprint()
+            .updates(rows(ON_CHAIN, BYBIT).types(EXTERNAL_TRANSFER_IN))
+            .reads(rows(ON_CHAIN, BYBIT).types(EXTERNAL_TRANSFER_OUT, INTERNAL_TRANSFER))
+            .build();
+
+    private LinkingPassFootprints() {
+    }
+}
@@ -0,0 +1,255 @@
+package com.walletradar.application.linking.job;
+
+import com.walletradar.application.linking.config.LinkingProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs an ordered list of {@link LinkingPass}es either strictly in list order or, with
+ * {@code walletradar.ingestion.linking.parallel-passes=true}, as a dependency DAG on the
+ * pipeline-stage executor.
+ *
+ * <p>The DAG has an edge from every pass to each later pass whose {@link LinkingPassFootprint}
+ * conflicts with it, so conflicting passes keep their serial order and only passes that commute
+ * overlap. The result therefore equals the serial run, and wall time drops toward the longest
+ * dependency chain.
+ *
+ * <p>The calling thread (itself a pipeline-stage task) coordinates: it hands ready passes to the
+ * executor, but claims back and runs any pass no worker has started yet instead of blocking on it,
+ * so a saturated executor degrades to the serial order rather than deadlocking. The progress
+ * heartbeat always runs on the calling thread, once per finished pass.
+ */
+@Component
+@Slf4j
+class LinkingPassScheduler {
+
+    /** Log at INFO if any single pass exceeds this duration (ms). */
+    private static final long SLOW_PASS_THRESHOLD_MS = 500;
+
+    private final LinkingProperties properties;
+    private final Executor pipelineStageExecutor;
+
+    LinkingPassScheduler(
+            LinkingProperties properties,
+            @Qualifier(com.walletradar.platform.common.config.AsyncConfig.PIPELINE_STAGE_EXECUTOR)
+            Executor pipelineStageExecutor
+    ) {
+        this.properties = properties;
+        this.pipelineStageExecutor = pipelineStageExecutor;
+    }
+
+    int run(List<LinkingPass> passes, Runnable progressHeartbeat) {
+        int parallelism = Math.max(1, properties.getMaxParallelPasses());
+        if (!properties.isParallelPasses() || parallelism == 1 || passes.size() < 2) {
+            return runSerial(passes, progressHeartbeat);
+        }
+        return runGraph(passes, predecessors(passes), parallelism, progressHeartbeat);
+    }
+
+    /** For each pass, the indices of the earlier passes it conflicts with. */
+    static List<List<Integer>> predecessors(List<LinkingPass> passes) {
+        List<List<Integer>> predecessors = new ArrayList<>(passes.size());
+        for (int later = 0; later < passes.size(); later++) {
+            List<Integer> conflicts = new ArrayList<>();
+            for (int earlier = 0; earlier < later; earlier++) {
+                if (passes.get(earlier).footprint().conflictsWith(passes.get(later).footprint())) {
+                    conflicts.add(earlier);
+                }
+            }
+            predecessors.add(List.copyOf(conflicts));
+        }
+        return predecessors;
+    }
+
+    /** Number of passes on the longest dependency chain (the parallel lower bound in pass count). */
+    static int longestChain(List<List<Integer>> predecessors) {
+        int[] depth = new int[predecessors.size()];
+        int longest = 0;
+        for (int pass = 0; pass < depth.length; pass++) {
+            int before = 0;
+            for (int earlier : predecessors.get(pass)) {
+                before = Math.max(before, depth[earlier]);
+            }
+            depth[pass] = before + 1;
+            longest = Math.max(longest, depth[pass]);
+        }
+        return longest;
+    }
+
+    private int runSerial(List<LinkingPass> passes, Runnable progressHeartbeat) {
+        int processed = 0;
+        for (LinkingPass pass : passes) {
+            processed += timedPass(pass);
+            progressHeartbeat.run();
+        }
+        return processed;
+    }
+
+    private int runGraph(
+            List<LinkingPass> passes,
+            List<List<Integer>> predecessors,
+            int parallelism,
+            Runnable progressHeartbeat
+    ) {
+        int size = passes.size();
+        int[] waitingOn = new int[size];
+        List<List<Integer>> successors = new ArrayList<>(size);
+        for (int pass = 0; pass < size; pass++) {
+            successors.add(new ArrayList<>());
+        }
+        TreeSet<Integer> ready = new TreeSet<>();
+        for (int pass = 0; pass < size; pass++) {
+            waitingOn[pass] = predecessors.get(pass).size();
+            for (int earlier : predecessors.get(pass)) {
+                successors.get(earlier).add(pass);
+            }
+            if (waitingOn[pass] == 0) {
+                ready.add(pass);
+            }
+        }
+        log.debug("linking pass graph: passes={} longestChain={} parallelism={}",
+                size, longestChain(predecessors), parallelism);
+
+        LinkedBlockingQueue<ScheduledPass> finished = new LinkedBlockingQueue<>();
+        List<ScheduledPass> handedOff = new ArrayList<>();
+        int inFlight = 0;
+        int processed = 0;
+        Throwable failure = null;
+        while (inFlight > 0 || (failure == null && !ready.isEmpty())) {
+            while (failure == null && !ready.isEmpty() && inFlight < parallelism) {
+                ScheduledPass scheduled = new ScheduledPass(ready.pollFirst(), finished);
+                inFlight++;
+                if (inFlight == 1 && ready.isEmpty()) {
+                    // Sole runnable pass: no point in a thread hop.
+                    scheduled.runIfUnclaimed(passes);
+                    break;
+                }
+                handedOff.add(scheduled);
+                try {
+                    pipelineStageExecutor.execute(() -> scheduled.runIfUnclaimed(passes));
+                } catch (RejectedExecutionException saturated) {
+                    // Stays in handedOff; the coordinator claims it below.
+                }
+            }
+            if (finished.isEmpty()) {
+                ScheduledPass own = claimHandedOff(handedOff);
+                if (own != null && failure == null) {
+                    own.run(passes);
+                } else if (own != null) {
+                    own.skip();
+                }
+            }
+            ScheduledPass completed = takeFinished(finished);
+            do {
+                inFlight--;
+                if (completed.skipped) {
+                    continue;
+                }
+                if (completed.error != null) {
+                    // Nothing new starts after a failure; passes already running are drained first.
+                    failure = failure == null ? completed.error : failure;
+                    continue;
+                }
+                processed += completed.processed;
+                progressHeartbeat.run();
+                for (int next : successors.get(completed.index)) {
+                    if (--waitingOn[next] == 0) {
+                        ready.add(next);
+                    }
+                }
+            } while ((completed = finished.poll()) != null);
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        if (failure != null) {
+            throw (RuntimeException) failure;
+        }
+        return processed;
+    }
+
+    private static ScheduledPass claimHandedOff(List<ScheduledPass> handedOff) {
+        Iterator<ScheduledPass> iterator = handedOff.iterator();
+        while (iterator.hasNext()) {
+            ScheduledPass scheduled = iterator.next();
+            iterator.remove();
+            if (scheduled.claim()) {
+                return scheduled;
+            }
+        }
+        return null;
+    }
+
+    private static ScheduledPass takeFinished(LinkedBlockingQueue<ScheduledPass> finished) {
+        try {
+            return finished.take();
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for linking passes", interrupted);
+        }
+    }
+
+    private static int timedPass(LinkingPass pass) {
+        long startNs = System.nanoTime();
+        int result = pass.body().getAsInt();
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNs);
+        if (durationMs >= SLOW_PASS_THRESHOLD_MS) {
+            log.info("linking pass [{}] processed={} durationMs={}", pass.name(), result, durationMs);
+        } else {
+            log.debug("linking pass [{}] processed={} durationMs={}", pass.name(), result, durationMs);
+        }
+        return result;
+    }
+
+    /** One pass handed to the graph run; whoever claims it first (worker or coordinator) runs it. */
+    private static final class ScheduledPass {
+
+        private final int index;
+        private final LinkedBlockingQueue<ScheduledPass> finished;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private int processed;
+        private Throwable error;
+        private boolean skipped;
+
+        private ScheduledPass(int index, LinkedBlockingQueue<ScheduledPass> finished) {
+            this.index = index;
+            this.finished = finished;
+        }
+
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        void runIfUnclaimed(List<LinkingPass> passes) {
+            if (claim()) {
+                run(passes);
+            }
+        }
+
+        void run(List<LinkingPass> passes) {
+            try {
+                processed = timedPass(passes.get(index));
+            } catch (RuntimeException | Error passError) {
+                error = passError;
+            } finally {
+                finished.add(this);
+            }
+        }
+
+        void skip() {
+            skipped = true;
+            finished.add(this);
+        }
+    }
+}
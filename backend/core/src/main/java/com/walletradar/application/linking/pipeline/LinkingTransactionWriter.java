@@ -0,0 +1,107 @@
+package com.walletradar.application.linking.pipeline;
+
+import com.walletradar.application.custody.application.CustodyLedgerDelta;
+import com.walletradar.application.custody.application.CustodyLedgerProjectionStore;
+import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
+import com.walletradar.platform.telemetry.PipelineCounterDelta;
+import com.walletradar.platform.telemetry.PipelineCounterStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Write path for rows rewritten by linking and clarification passes.
+ *
+ * <p>Passes mutate the rows they loaded in place, so the previous {@code pipeline_counters} bucket and
+ * custody ledger contribution are taken from the stored copies, re-read right before the write. The
+ * custody wallets are fenced before the rows are written and both deltas are applied after, like every
+ * other normalized writer; the counter delta is taken from the rows as written, once the save assigned
+ * ids to new ones.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class LinkingTransactionWriter {
+
+    private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final PipelineCounterStore pipelineCounterStore;
+    private final CustodyLedgerProjectionStore custodyLedgerProjectionStore;
+
+    public <S extends NormalizedTransaction> S save(S transaction) {
+        Stored stored = stored(List.of(transaction));
+        CustodyLedgerDelta custodyDelta = stored.custodyDelta(List.of(transaction));
+        custodyLedgerProjectionStore.beginWrite(custodyDelta);
+        S saved = normalizedTransactionRepository.save(transaction);
+        pipelineCounterStore.apply(stored.counterDelta(List.of(transaction)));
+        custodyLedgerProjectionStore.apply(custodyDelta);
+        return saved;
+    }
+
+    public <S extends NormalizedTransaction> List<S> saveAll(Iterable<S> transactions) {
+        List<S> rows = new ArrayList<>();
+        transactions.forEach(rows::add);
+        Stored stored = stored(rows);
+        CustodyLedgerDelta custodyDelta = stored.custodyDelta(rows);
+        custodyLedgerProjectionStore.beginWrite(custodyDelta);
+        List<S> saved = normalizedTransactionRepository.saveAll(transactions);
+        pipelineCounterStore.apply(stored.counterDelta(rows));
+        custodyLedgerProjectionStore.apply(custodyDelta);
+        return saved;
+    }
+
+    private Stored stored(List<? extends NormalizedTransaction> rows) {
+        Set<String> ids = new LinkedHashSet<>();
+        rows.stream().map(NormalizedTransaction::getId).filter(Objects::nonNull).forEach(ids::add);
+        Map<String, PipelineCounterDelta.Snapshot> counters = new HashMap<>();
+        Map<String, CustodyLedgerDelta.Snapshot> custody = new HashMap<>();
+        if (!ids.isEmpty()) {
+            normalizedTransactionRepository.findAllById(ids).forEach(row -> {
+                counters.put(row.getId(), PipelineCounterDelta.snapshot(row));
+                custody.put(row.getId(), CustodyLedgerDelta.snapshot(row));
+            });
+        }
+        return new Stored(counters, custody);
+    }
+
+    /** Snapshots of the stored copies by id; a row without one (or without an id) is new. */
+    private record Stored(
+            Map<String, PipelineCounterDelta.Snapshot> counters,
+            Map<String, CustodyLedgerDelta.Snapshot> custody
+    ) {
+
+        PipelineCounterDelta counterDelta(List<? extends NormalizedTransaction> rows) {
+            PipelineCounterDelta delta = new PipelineCounterDelta();
+            latestById(rows).forEach(row -> delta.normalized(counters.get(row.getId()), row));
+            return delta;
+        }
+
+        CustodyLedgerDelta custodyDelta(List<? extends NormalizedTransaction> rows) {
+            CustodyLedgerDelta delta = new CustodyLedgerDelta();
+            latestById(rows).forEach(row -> delta.normalized(custody.get(row.getId()), row));
+            return delta;
+        }
+
+        /** A row saved twice in one call is written once, as its last copy. */
+        private static List<NormalizedTransaction> latestById(List<? extends NormalizedTransaction> rows) {
+            Map<String, NormalizedTransaction> byId = new LinkedHashMap<>();
+            List<NormalizedTransaction> latest = new ArrayList<>();
+            for (NormalizedTransaction row : rows) {
+                if (row.getId() == null) {
+                    latest.add(row);
+                } else {
+                    byId.put(row.getId(), row);
+                }
+            }
+            latest.addAll(byId.values());
+            return latest;
+        }
+    }
+}
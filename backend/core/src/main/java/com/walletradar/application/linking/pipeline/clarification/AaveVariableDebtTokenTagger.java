@@ -1,9 +1,9 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.application.normalization.pipeline.classification.reason.ClassificationReasonCode;
 import com.walletradar.domain.common.NetworkId;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
-import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.mongodb.core.MongoOperations;
@@ -49,7 +49,7 @@ public class AaveVariableDebtTokenTagger {
     );
 
     private final MongoOperations mongoOperations;
-    private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
 
     public int tagDebtTokenFlows(int batchSize) {
         List<NormalizedTransaction> candidates = loadCandidates(batchSize);
@@ -64,7 +64,7 @@ public class AaveVariableDebtTokenTagger {
             }
         }
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(dirty);
+            linkingTransactionWriter.saveAll(dirty);
             log.info("AAVE_VARIABLE_DEBT_TOKEN_TAGGER tagged={}", dirty.size());
         }
         return dirty.size();
@@ -1,11 +1,11 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
 import com.walletradar.application.costbasis.support.BridgeAssetFamilySupport;
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.domain.common.ConfidenceLevel;
 import com.walletradar.domain.transaction.normalized.ClassificationSource;
 import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
-import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
 import lombok.RequiredArgsConstructor;
@@ -41,7 +41,7 @@ public class AcrossBridgePairLinkService {
     private static final int CANDIDATE_LIMIT = 12;
 
     private final MongoOperations mongoOperations;
-    private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
 
     public int reconcileOutstandingSources(int batchSize) {
         int changed = 0;
@@ -205,7 +205,7 @@ public class AcrossBridgePairLinkService {
         }
         source.setCorrelationId(correlationId(source.getTxHash()));
         source.setUpdatedAt(Instant.now());
-        normalizedTransactionRepository.save(source);
+        linkingTransactionWriter.save(source);
         return true;
     }
 
@@ -277,7 +277,7 @@ public class AcrossBridgePairLinkService {
         if (updates.isEmpty()) {
             return false;
         }
-        normalizedTransactionRepository.saveAll(deduplicateById(updates));
+        linkingTransactionWriter.saveAll(deduplicateById(updates));
         return true;
     }
 
@@ -1,10 +1,10 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.domain.session.AccountingUniverse;
 import com.walletradar.domain.session.AccountingUniverseRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
-import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
 import com.walletradar.application.normalization.pipeline.classification.support.GmxV2HandlerRegistry;
@@ -56,7 +56,7 @@ public class AddressPoisoningDetector {
     );
 
     private final MongoOperations mongoOperations;
-    private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
     private final AccountingUniverseRepository accountingUniverseRepository;
 
     public int detectAndExclude(int batchSize) {
@@ -109,7 +109,7 @@ public class AddressPoisoningDetector {
             }
         }
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(dirty);
+            linkingTransactionWriter.saveAll(dirty);
             log.info("ADDRESS_POISONING_DETECTOR excluded={}", dirty.size());
         }
         return dirty.size();
@@ -142,7 +142,7 @@ public class AddressPoisoningDetector {
             }
         }
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(dirty);
+            linkingTransactionWriter.saveAll(dirty);
             log.info("ADDRESS_POISONING_MIRRORED_OUT excluded={}", dirty.size());
         }
         return dirty.size();
@@ -1,7 +1,7 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
-import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionStatus;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
 import com.walletradar.application.pricing.application.PriceableFlowPolicy;
@@ -34,7 +34,7 @@ public class BridgePairContinuityRepairService {
     private static final String FLOW_COUNTERPARTY_MISSING_REASON = "FLOW_COUNTERPARTY_MISSING";
 
     private final MongoOperations mongoOperations;
-    private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
 
     public int reconcilePairedInboundCounterparty(int batchSize) {
         List<NormalizedTransaction> batch = loadInboundsMissingCounterparty(batchSize);
@@ -54,7 +54,7 @@ public class BridgePairContinuityRepairService {
             }
         }
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(deduplicateById(dirty));
+            linkingTransactionWriter.saveAll(deduplicateById(dirty));
             log.info("BRIDGE_PAIR_COUNTERPARTY_REPAIR batch={} repaired={} saved={}", batch.size(), repaired, dirty.size());
         }
         return repaired;
@@ -79,7 +79,7 @@ public class BridgePairContinuityRepairService {
             }
         }
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(deduplicateById(dirty));
+            linkingTransactionWriter.saveAll(deduplicateById(dirty));
             log.info("BRIDGE_IN_SEALED_REPAIR batch={} repaired={} saved={}", batch.size(), repaired, dirty.size());
         }
         return repaired;
@@ -99,7 +99,7 @@ public class BridgePairContinuityRepairService {
             }
         }
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(deduplicateById(dirty));
+            linkingTransactionWriter.saveAll(deduplicateById(dirty));
             log.info("BRIDGE_PAIR_CONTINUITY_REPAIR batch={} repaired={} saved={}", batch.size(), repaired, dirty.size());
         }
         return repaired;
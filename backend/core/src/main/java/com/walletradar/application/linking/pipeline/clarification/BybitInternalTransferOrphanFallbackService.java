@@ -1,9 +1,9 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.canonical.correlation.CorrelationContract;
 import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
-import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionStatus;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
@@ -35,7 +35,7 @@ import java.util.Map;
 public class BybitInternalTransferOrphanFallbackService {
 
     private final MongoOperations mongoOperations;
-    private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
 
     public int reconcileOrphanInternals() {
         Query candidatesQuery = Query.query(new Criteria().andOperator(
@@ -96,7 +96,7 @@ public class BybitInternalTransferOrphanFallbackService {
         }
 
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(dirty);
+            linkingTransactionWriter.saveAll(dirty);
         }
         if (!candidates.isEmpty()) {
             log.info(
@@ -1,12 +1,12 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.canonical.correlation.BybitCarryContinuitySupport;
 import com.walletradar.canonical.correlation.CorrelationContract;
 import com.walletradar.application.costbasis.support.AccountingAssetClassificationSupport;
 import com.walletradar.application.costbasis.support.AccountingAssetFamilySupport;
 import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
-import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionStatus;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
@@ -98,7 +98,7 @@ public class BybitOnChainEarnOrphanRepairService {
     private static final MathContext MC = MathContext.DECIMAL128;
 
     private final MongoOperations mongoOperations;
-    private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
 
     public int repairOrphans() {
         List<NormalizedTransaction> candidates = loadFundOrphans();
@@ -224,7 +224,7 @@ public class BybitOnChainEarnOrphanRepairService {
         }
 
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(dirty);
+            linkingTransactionWriter.saveAll(dirty);
             log.info("BYBIT_EARN_ONCHAIN_ORPHAN_REPAIR candidates={} repaired={}", candidates.size(), repaired);
         }
         return repaired;
@@ -319,7 +319,7 @@ public class BybitOnChainEarnOrphanRepairService {
         }
 
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(dirty);
+            linkingTransactionWriter.saveAll(dirty);
             log.info("BYBIT_EARN_CORRIDOR_DUPLICATE_REPAIR corridorDrains={} repaired={}", corridorFundDrains.size(), repaired);
         }
         return repaired;
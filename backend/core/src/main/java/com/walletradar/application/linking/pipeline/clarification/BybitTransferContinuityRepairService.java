@@ -1,6 +1,7 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
 import com.walletradar.application.costbasis.support.AccountingAssetFamilySupport;
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.canonical.correlation.CorrelationContract;
 import com.walletradar.domain.counterparty.CounterpartyType;
 import com.walletradar.domain.common.NetworkAddressFormat;
@@ -56,6 +57,7 @@ public class BybitTransferContinuityRepairService {
 
     private final MongoOperations mongoOperations;
     private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
     private final AccountingUniverseService accountingUniverseService;
 
     public int reconcileOutstandingPairs(int batchSize) {
@@ -219,7 +221,7 @@ public class BybitTransferContinuityRepairService {
             return false;
         }
 
-        normalizedTransactionRepository.saveAll(deduplicateById(List.of(onChainCandidate, cexRow)));
+        linkingTransactionWriter.saveAll(deduplicateById(List.of(onChainCandidate, cexRow)));
         return true;
     }
 
@@ -251,7 +253,7 @@ public class BybitTransferContinuityRepairService {
             }
         }
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(dirty);
+            linkingTransactionWriter.saveAll(dirty);
             log.info("BYBIT_PAIRED_CORRIDOR_TYPE_RECLASSIFIER candidates={} reclassified={}",
                     candidates.size(), dirty.size());
         }
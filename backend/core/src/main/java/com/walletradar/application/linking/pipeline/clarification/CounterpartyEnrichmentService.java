@@ -1,8 +1,8 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.domain.common.NetworkId;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
-import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
 import com.walletradar.domain.transaction.raw.RawTransaction;
 import com.walletradar.domain.transaction.raw.RawTransactionRepository;
 import com.walletradar.domain.wallet.OnChainAddressClassifier;
@@ -30,19 +30,19 @@ public class CounterpartyEnrichmentService {
 
     private final CounterpartyEnrichmentQueryService queryService;
     private final RawTransactionRepository rawTransactionRepository;
-    private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
     private final List<CounterpartyResolver> resolvers;
 
     @Autowired
     public CounterpartyEnrichmentService(
             CounterpartyEnrichmentQueryService queryService,
             RawTransactionRepository rawTransactionRepository,
-            NormalizedTransactionRepository normalizedTransactionRepository,
+            LinkingTransactionWriter linkingTransactionWriter,
             List<CounterpartyResolver> resolvers
     ) {
         this.queryService = queryService;
         this.rawTransactionRepository = rawTransactionRepository;
-        this.normalizedTransactionRepository = normalizedTransactionRepository;
+        this.linkingTransactionWriter = linkingTransactionWriter;
         this.resolvers = List.copyOf(resolvers);
     }
 
@@ -54,12 +54,12 @@ public class CounterpartyEnrichmentService {
             CounterpartyEnrichmentQueryService queryService,
             CounterpartyResolutionService resolutionService,
             RawTransactionRepository rawTransactionRepository,
-            NormalizedTransactionRepository normalizedTransactionRepository
+            LinkingTransactionWriter linkingTransactionWriter
     ) {
         this(
                 queryService,
                 rawTransactionRepository,
-                normalizedTransactionRepository,
+                linkingTransactionWriter,
                 List.of(new EvmCounterpartyResolver(resolutionService))
         );
     }
@@ -92,7 +92,7 @@ public class CounterpartyEnrichmentService {
         if (!enrichInPlace(normalizedTransaction, rawTransaction, now)) {
             return false;
         }
-        normalizedTransactionRepository.save(normalizedTransaction);
+        linkingTransactionWriter.save(normalizedTransaction);
         log.debug(
                 "Counterparty enriched normalizedTxId={} counterpartyAddress={}",
                 normalizedTransaction.getId(),
@@ -1,9 +1,9 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.domain.transaction.normalized.ClassificationSource;
 import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
-import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
 import com.walletradar.application.normalization.pipeline.classification.support.CowSwapSupport;
@@ -33,7 +33,7 @@ public class CowSwapEthFlowSettlementLinkService {
     private static final Duration MAX_REQUEST_AGE = Duration.ofDays(7);
 
     private final MongoOperations mongoOperations;
-    private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
 
     public int linkOutstandingSettlements(int batchSize) {
         int changed = 0;
@@ -161,11 +161,11 @@ public class CowSwapEthFlowSettlementLinkService {
         if (!sameHash(request.getMatchedCounterparty(), settlement.getTxHash())) {
             request.setMatchedCounterparty(settlement.getTxHash());
             request.setUpdatedAt(now);
-            normalizedTransactionRepository.save(request);
+            linkingTransactionWriter.save(request);
         }
         if (changed) {
             settlement.setUpdatedAt(now);
-            normalizedTransactionRepository.save(settlement);
+            linkingTransactionWriter.save(settlement);
         }
         return changed;
     }
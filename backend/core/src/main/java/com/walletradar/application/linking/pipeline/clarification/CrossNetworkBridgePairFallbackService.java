@@ -1,11 +1,11 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
 import com.walletradar.application.costbasis.support.AccountingAssetFamilySupport;
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.domain.common.NetworkAddressFormat;
 import com.walletradar.domain.common.NetworkId;
 import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
-import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
 import lombok.RequiredArgsConstructor;
@@ -63,7 +63,7 @@ public class CrossNetworkBridgePairFallbackService {
     private static final String CROSSNET_CORR_PREFIX = "bridge:crossnet:";
 
     private final MongoOperations mongoOperations;
-    private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
 
     public int reconcileOrphanInbounds(int batchSize) {
         int changed = 0;
@@ -360,7 +360,7 @@ public class CrossNetworkBridgePairFallbackService {
         if (!outboundChanged && !inboundChanged) {
             return false;
         }
-        normalizedTransactionRepository.saveAll(deduplicateById(List.of(outbound, inbound)));
+        linkingTransactionWriter.saveAll(deduplicateById(List.of(outbound, inbound)));
         return true;
     }
 
@@ -1,8 +1,8 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
-import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
 import com.walletradar.domain.transaction.raw.RawTransaction;
@@ -44,17 +44,17 @@ public class EtherFiOftBridgeInClassifier {
     private static final String MINTER_PROXIES_ROLE = "minterProxies";
 
     private final MongoOperations mongoOperations;
-    private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
     private final Set<String> etherFiWeethTokens;
     private final Set<String> etherFiMinterProxies;
 
     public EtherFiOftBridgeInClassifier(
             MongoOperations mongoOperations,
-            NormalizedTransactionRepository normalizedTransactionRepository,
+            LinkingTransactionWriter linkingTransactionWriter,
             ProtocolResourceCatalog protocolResourceCatalog
     ) {
         this.mongoOperations = mongoOperations;
-        this.normalizedTransactionRepository = normalizedTransactionRepository;
+        this.linkingTransactionWriter = linkingTransactionWriter;
         ProtocolResourceDefinition definition = protocolResourceCatalog.find(PROTOCOL, null)
                 .orElseThrow(() -> new IllegalStateException(
                         "Missing protocols/etherfi.json protocol resource for " + PROTOCOL));
@@ -82,7 +82,7 @@ public class EtherFiOftBridgeInClassifier {
             }
         }
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(dirty);
+            linkingTransactionWriter.saveAll(dirty);
             log.info("ETHERFI_OFT_BRIDGE_IN_CLASSIFIER reclassified={}", dirty.size());
         }
         return dirty.size();
@@ -1,7 +1,7 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
-import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -38,7 +38,7 @@ public class GmxEntryRequestLinkService {
     private static final long SETTLEMENT_WINDOW_SECONDS = 600;
 
     private final MongoOperations mongoOperations;
-    private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
 
     public int linkOutstandingRequests(int batchSize) {
         List<NormalizedTransaction> requests = loadUnlinkedRequests(batchSize);
@@ -69,7 +69,7 @@ public class GmxEntryRequestLinkService {
         }
 
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(dirty);
+            linkingTransactionWriter.saveAll(dirty);
             log.info("GMX_ENTRY_REQUEST_LINK linked={}", dirty.size());
         }
         return dirty.size();
@@ -1,8 +1,8 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
-import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
 import lombok.RequiredArgsConstructor;
@@ -52,7 +52,7 @@ public class GmxExecutionFeeRefundBasisNeutralService {
     private static final String FEE_REFUND_REASON = "GMX_EXECUTION_FEE_REFUND";
 
     private final MongoOperations mongoOperations;
-    private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
 
     public int reclassifyResidualRefunds(int batchSize) {
         List<NormalizedTransaction> candidates = loadCandidates(batchSize);
@@ -76,7 +76,7 @@ public class GmxExecutionFeeRefundBasisNeutralService {
         }
 
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(dirty);
+            linkingTransactionWriter.saveAll(dirty);
             log.info("GMX_EXEC_FEE_REFUND_BASIS_NEUTRAL demoted={}", dirty.size());
         }
         return dirty.size();
@@ -1,8 +1,8 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
-import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -36,7 +36,7 @@ public class GmxExitSettlementLinkService {
     private static final String UNKNOWN_CP_PREFIX = "UNKNOWN:";
 
     private final MongoOperations mongoOperations;
-    private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
 
     public int linkOutstandingSettlements(int batchSize) {
         List<NormalizedTransaction> settlements = loadUnlinkedSettlements(batchSize);
@@ -74,7 +74,7 @@ public class GmxExitSettlementLinkService {
         }
 
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(dirty);
+            linkingTransactionWriter.saveAll(dirty);
             log.info("GMX_EXIT_SETTLEMENT_LINK linked={}", dirty.size());
         }
         return dirty.size();
@@ -1,8 +1,8 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
-import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
 import com.walletradar.domain.transaction.raw.RawTransaction;
@@ -39,7 +39,7 @@ public class GmxV2RefundClassifier {
     private static final String UNKNOWN_CP_PREFIX = "UNKNOWN:";
 
     private final MongoOperations mongoOperations;
-    private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
 
     public int classifyGmxRefunds(int batchSize) {
         List<NormalizedTransaction> candidates = loadCandidates(batchSize);
@@ -54,7 +54,7 @@ public class GmxV2RefundClassifier {
             }
         }
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(dirty);
+            linkingTransactionWriter.saveAll(dirty);
             log.info("GMX_V2_REFUND_CLASSIFIER stamped={}", dirty.size());
         }
         return dirty.size();
@@ -1,8 +1,8 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
-import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -68,7 +68,7 @@ public class GmxWithdrawalSettlementLinkService {
     private static final long SETTLEMENT_WINDOW_SECONDS = 600;
 
     private final MongoOperations mongoOperations;
-    private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
 
     public int linkOutstandingWithdrawalSettlements(int batchSize) {
         List<NormalizedTransaction> candidates = loadCandidates(batchSize);
@@ -102,7 +102,7 @@ public class GmxWithdrawalSettlementLinkService {
         }
 
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(dirty);
+            linkingTransactionWriter.saveAll(dirty);
             log.info("GMX_WITHDRAWAL_SETTLEMENT_LINK linked={}", dirty.size());
         }
         return dirty.size();
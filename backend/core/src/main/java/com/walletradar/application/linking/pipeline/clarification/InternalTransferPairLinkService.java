@@ -1,6 +1,7 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
 import com.walletradar.application.costbasis.support.AccountingAssetFamilySupport;
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
@@ -43,6 +44,7 @@ public class InternalTransferPairLinkService {
 
     private final MongoOperations mongoOperations;
     private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
     private final AccountingUniverseService accountingUniverseService;
     private final SessionWalletAdjacencyService sessionWalletAdjacencyService;
 
@@ -131,7 +133,7 @@ public class InternalTransferPairLinkService {
             return false;
         }
 
-        normalizedTransactionRepository.saveAll(deduplicateById(List.of(candidate, peer)));
+        linkingTransactionWriter.saveAll(deduplicateById(List.of(candidate, peer)));
         return true;
     }
 
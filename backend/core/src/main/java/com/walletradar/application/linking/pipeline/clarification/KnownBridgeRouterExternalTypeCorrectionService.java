@@ -1,8 +1,8 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
-import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
 import com.walletradar.application.normalization.pipeline.classification.support.KnownBridgeRouterRegistry;
@@ -29,7 +29,7 @@ public class KnownBridgeRouterExternalTypeCorrectionService {
     private static final String BRIDGE_MISSING_REASON = "BRIDGE_ON_CHAIN_LEG_NOT_FOUND";
 
     private final MongoOperations mongoOperations;
-    private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
 
     public int reclassifyKnownRouterExternals(int batchSize) {
         Query query = Query.query(new Criteria().andOperator(
@@ -53,7 +53,7 @@ public class KnownBridgeRouterExternalTypeCorrectionService {
             }
         }
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(dirty);
+            linkingTransactionWriter.saveAll(dirty);
             log.info("KNOWN_BRIDGE_ROUTER_EXT_TYPE_CORRECTION candidates={} reclassified={}",
                     candidates.size(), dirty.size());
         }
@@ -2,10 +2,10 @@ package com.walletradar.application.linking.pipeline.clarification;
 
 import com.walletradar.application.costbasis.support.AccountingAssetFamilySupport;
 import com.walletradar.application.costbasis.support.AccountingAssetIdentitySupport;
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.canonical.correlation.CorrelationContract;
 import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
-import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
 import lombok.RequiredArgsConstructor;
@@ -68,7 +68,7 @@ public class LendingLoopOpenClosePairLinkService {
     private static final Duration OPEN_LOOKBACK = Duration.ofDays(730);
 
     private final MongoOperations mongoOperations;
-    private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
 
     public int reconcileOutstandingLoops(int batchSize) {
         int changed = 0;
@@ -246,7 +246,7 @@ public class LendingLoopOpenClosePairLinkService {
         }
         log.info("LENDING_LOOP_OPEN_CLOSE_LINK corrId={} open={} leg={} legType={}",
                 correlationId, open.getTxHash(), candidate.getTxHash(), candidate.getType());
-        normalizedTransactionRepository.saveAll(dirty);
+        linkingTransactionWriter.saveAll(dirty);
         return true;
     }
 
@@ -1,6 +1,7 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
 import com.walletradar.application.costbasis.support.BridgeAssetFamilySupport;
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.domain.common.ConfidenceLevel;
 import com.walletradar.domain.transaction.normalized.ClassificationSource;
 import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
@@ -96,6 +97,7 @@ public class LiFiBridgePairLinkService {
     private final RawTransactionClarificationEnricher rawTransactionClarificationEnricher;
     private final RawTransactionRepository rawTransactionRepository;
     private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
     private final MongoOperations mongoOperations;
     private final ProtocolRegistryService protocolRegistryService;
 
@@ -418,7 +420,7 @@ public class LiFiBridgePairLinkService {
         }
 
         if (!updates.isEmpty()) {
-            normalizedTransactionRepository.saveAll(deduplicate(updates));
+            linkingTransactionWriter.saveAll(deduplicate(updates));
         }
     }
 
@@ -518,7 +520,7 @@ public class LiFiBridgePairLinkService {
             updates.add(source);
         }
         if (!updates.isEmpty()) {
-            normalizedTransactionRepository.saveAll(deduplicate(updates));
+            linkingTransactionWriter.saveAll(deduplicate(updates));
         }
     }
 
@@ -1169,7 +1171,7 @@ public class LiFiBridgePairLinkService {
             return;
         }
         source.setUpdatedAt(Instant.now());
-        normalizedTransactionRepository.save(source);
+        linkingTransactionWriter.save(source);
     }
 
     private boolean isLiFiSourceCandidate(
@@ -1295,7 +1297,7 @@ public class LiFiBridgePairLinkService {
         if (sameHash(source.getMatchedCounterparty(), source.getTxHash())) {
             source.setMatchedCounterparty(null);
             source.setUpdatedAt(Instant.now());
-            normalizedTransactionRepository.save(source);
+            linkingTransactionWriter.save(source);
         }
     }
 
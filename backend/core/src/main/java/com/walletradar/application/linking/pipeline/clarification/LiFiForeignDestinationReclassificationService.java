@@ -1,5 +1,6 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.domain.common.NetworkId;
 import com.walletradar.domain.counterparty.CounterpartyType;
 import com.walletradar.domain.session.UserSession;
@@ -8,7 +9,6 @@ import com.walletradar.domain.sync.SyncStatus;
 import com.walletradar.domain.sync.SyncStatusRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
-import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionStatus;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
@@ -74,7 +74,7 @@ public class LiFiForeignDestinationReclassificationService {
     private static final String FOREIGN_DESTINATION_EVIDENCE = "LIFI_STATUS_API_SETTLEMENT_FOREIGN_DESTINATION";
 
     private final MongoOperations mongoOperations;
-    private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
     private final RawTransactionRepository rawTransactionRepository;
     private final AccountingUniverseService accountingUniverseService;
     private final SessionWalletAdjacencyService sessionWalletAdjacencyService;
@@ -102,7 +102,7 @@ public class LiFiForeignDestinationReclassificationService {
             }
         }
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(dirty);
+            linkingTransactionWriter.saveAll(dirty);
             log.info("LIFI_FOREIGN_DESTINATION_RECLASSIFICATION candidates={} reclassified={}",
                     candidates.size(), dirty.size());
         }
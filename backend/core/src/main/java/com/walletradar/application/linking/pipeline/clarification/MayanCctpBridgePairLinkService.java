@@ -1,6 +1,7 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
 import com.walletradar.application.costbasis.support.BridgeAssetFamilySupport;
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.domain.common.ConfidenceLevel;
 import com.walletradar.domain.transaction.normalized.ClassificationSource;
 import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
@@ -52,6 +53,7 @@ public class MayanCctpBridgePairLinkService {
     private final RawTransactionClarificationEnricher rawTransactionClarificationEnricher;
     private final RawTransactionRepository rawTransactionRepository;
     private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
 
     public int reconcileOutstandingSources(int batchSize) {
         int changed = 0;
@@ -208,7 +210,7 @@ public class MayanCctpBridgePairLinkService {
         }
 
         if (!updates.isEmpty()) {
-            normalizedTransactionRepository.saveAll(deduplicate(updates));
+            linkingTransactionWriter.saveAll(deduplicate(updates));
         }
     }
 
@@ -343,7 +345,7 @@ public class MayanCctpBridgePairLinkService {
         if (sameHash(source.getMatchedCounterparty(), source.getTxHash())) {
             source.setMatchedCounterparty(null);
             source.setUpdatedAt(Instant.now());
-            normalizedTransactionRepository.save(source);
+            linkingTransactionWriter.save(source);
         }
     }
 
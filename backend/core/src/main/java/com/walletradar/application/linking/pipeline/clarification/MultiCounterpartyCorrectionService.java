@@ -1,8 +1,8 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
-import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
 import lombok.RequiredArgsConstructor;
@@ -60,7 +60,7 @@ public class MultiCounterpartyCorrectionService {
     );
 
     private final MongoOperations mongoOperations;
-    private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
 
     /**
      * Phase 1: stamp concrete counterparty on EXTERNAL_TRANSFER_OUT/IN rows with MULTI.
@@ -89,7 +89,7 @@ public class MultiCounterpartyCorrectionService {
             }
         }
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(dirty);
+            linkingTransactionWriter.saveAll(dirty);
             log.info("MULTI_CP_EXTERNAL_DE_MULTI candidates={} updated={}", candidates.size(), dirty.size());
         }
         return dirty.size();
@@ -119,7 +119,7 @@ public class MultiCounterpartyCorrectionService {
             }
         }
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(dirty);
+            linkingTransactionWriter.saveAll(dirty);
             log.info("AGGREGATOR_SWAP_RETYPE candidates={} updated={}", candidates.size(), dirty.size());
         }
         return dirty.size();
@@ -1,9 +1,9 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
 import com.walletradar.application.costbasis.support.AccountingAssetFamilySupport;
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
-import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionStatus;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
@@ -45,7 +45,7 @@ public class OnChainInternalTransferPairRepairService {
     private static final String INTERNAL_CORR_PREFIX = "internal-tx:";
 
     private final MongoOperations mongoOperations;
-    private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
     private final AccountingUniverseService accountingUniverseService;
     private final SessionWalletAdjacencyService sessionWalletAdjacencyService;
 
@@ -63,7 +63,7 @@ public class OnChainInternalTransferPairRepairService {
             }
         }
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(deduplicateById(dirty));
+            linkingTransactionWriter.saveAll(deduplicateById(dirty));
             log.info("ONCHAIN_INTERNAL_PAIR_REPAIR batch={} repaired={} saved={}", batch.size(), repaired, dirty.size());
         }
         return repaired;
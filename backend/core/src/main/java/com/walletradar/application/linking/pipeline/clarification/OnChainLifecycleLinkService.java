@@ -1,5 +1,6 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
@@ -39,6 +40,7 @@ public class OnChainLifecycleLinkService {
     private static final String GMX_ORDER_EXECUTED_EVENT = GmxEventTopicSupport.topicHash("OrderExecuted");
 
     private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
     @Nullable
     private final RawTransactionRepository rawTransactionRepository;
     @Nullable
@@ -47,16 +49,21 @@ public class OnChainLifecycleLinkService {
     @Autowired
     public OnChainLifecycleLinkService(
             NormalizedTransactionRepository normalizedTransactionRepository,
+            LinkingTransactionWriter linkingTransactionWriter,
             @Nullable RawTransactionRepository rawTransactionRepository,
             @Nullable MongoOperations mongoOperations
     ) {
         this.normalizedTransactionRepository = normalizedTransactionRepository;
+        this.linkingTransactionWriter = linkingTransactionWriter;
         this.rawTransactionRepository = rawTransactionRepository;
         this.mongoOperations = mongoOperations;
     }
 
-    public OnChainLifecycleLinkService(NormalizedTransactionRepository normalizedTransactionRepository) {
-        this(normalizedTransactionRepository, null, null);
+    public OnChainLifecycleLinkService(
+            NormalizedTransactionRepository normalizedTransactionRepository,
+            LinkingTransactionWriter linkingTransactionWriter
+    ) {
+        this(normalizedTransactionRepository, linkingTransactionWriter, null, null);
     }
 
     public int processNextBatch(int batchSize) {
@@ -130,7 +137,7 @@ public class OnChainLifecycleLinkService {
             updates.add(candidate);
         }
         if (!updates.isEmpty()) {
-            normalizedTransactionRepository.saveAll(updates);
+            linkingTransactionWriter.saveAll(updates);
             return true;
         }
         return false;
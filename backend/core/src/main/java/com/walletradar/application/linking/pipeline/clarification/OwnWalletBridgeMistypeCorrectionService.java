@@ -1,7 +1,7 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
-import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
 import com.walletradar.application.session.application.AccountingUniverseService;
@@ -47,7 +47,7 @@ public class OwnWalletBridgeMistypeCorrectionService {
     private static final String BRIDGE_MISSING_REASON = "BRIDGE_ON_CHAIN_LEG_NOT_FOUND";
 
     private final MongoOperations mongoOperations;
-    private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
     private final AccountingUniverseService accountingUniverseService;
     private final SessionWalletAdjacencyService sessionWalletAdjacencyService;
 
@@ -73,7 +73,7 @@ public class OwnWalletBridgeMistypeCorrectionService {
             }
         }
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(dirty);
+            linkingTransactionWriter.saveAll(dirty);
             log.info("OWN_WALLET_BRIDGE_MISTYPE_CORRECTION candidates={} reclassified={}",
                     candidates.size(), dirty.size());
         }
@@ -109,7 +109,7 @@ public class OwnWalletBridgeMistypeCorrectionService {
             }
         }
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(dirty);
+            linkingTransactionWriter.saveAll(dirty);
             log.info("MULTI_CP_OWN_WALLET_CORRECTION candidates={} reclassified={}",
                     candidates.size(), dirty.size());
         }
@@ -38,6 +38,12 @@ public class PendingClarificationQueryService {
         return loadNextBatch(batchSize, maxAttempts, retryDelaySeconds, workerId, leaseSeconds);
     }
 
+    /**
+     * Without a worker id this is a plain selection. With one, the selection is leased to that worker;
+     * when a concurrent worker wins every selected row first, the rows it leased drop out of the next
+     * selection, so the claim reselects. An empty result therefore means nothing due is left, not a
+     * lost race.
+     */
     private List<NormalizedTransaction> loadNextBatch(
             int batchSize,
             int maxAttempts,
@@ -45,9 +51,26 @@ public class PendingClarificationQueryService {
             String workerId,
             long leaseSeconds
     ) {
+        boolean claiming = workerId != null && !workerId.isBlank();
+        while (true) {
+            Instant now = Instant.now();
+            List<NormalizedTransaction> selected = mongoOperations.find(
+                    selectionQuery(batchSize, maxAttempts, retryDelaySeconds, now),
+                    NormalizedTransaction.class
+            );
+            if (!claiming || selected.isEmpty()) {
+                return selected;
+            }
+            List<NormalizedTransaction> claimed = claim(selected, workerId, leaseSeconds, now);
+            if (!claimed.isEmpty()) {
+                return claimed;
+            }
+        }
+    }
+
+    private Query selectionQuery(int batchSize, int maxAttempts, long retryDelaySeconds, Instant now) {
         int boundedBatchSize = Math.max(1, batchSize);
         int boundedMaxAttempts = Math.max(1, maxAttempts);
-        Instant now = Instant.now();
         Instant retryCutoff = now.minusSeconds(Math.max(0L, retryDelaySeconds));
 
         Criteria attemptsCriteria = new Criteria().orOperator(
@@ -59,16 +82,10 @@ public class PendingClarificationQueryService {
                 Criteria.where("clarificationAttempts").lte(0),
                 Criteria.where("updatedAt").lte(retryCutoff)
         );
-
-        Criteria leaseCriteria = new Criteria().orOperator(
-                Criteria.where("clarificationLeaseUntil").exists(false),
-                Criteria.where("clarificationLeaseUntil").is(null),
-                Criteria.where("clarificationLeaseUntil").lte(now)
-        );
         Query query = new Query(new Criteria().andOperator(
                 Criteria.where("source").is(NormalizedTransactionSource.ON_CHAIN),
                 Criteria.where("status").is(NormalizedTransactionStatus.PENDING_CLARIFICATION),
-                leaseCriteria,
+                leaseCriteria(now),
                 attemptsCriteria,
                 dueCriteria
         ));
@@ -78,11 +95,15 @@ public class PendingClarificationQueryService {
                 Sort.Order.asc("_id")
         ));
         query.limit(boundedBatchSize);
-        List<NormalizedTransaction> selected = mongoOperations.find(query, NormalizedTransaction.class);
-        if (workerId == null || workerId.isBlank() || selected.isEmpty()) {
-            return selected;
-        }
+        return query;
+    }
 
+    private List<NormalizedTransaction> claim(
+            List<NormalizedTransaction> selected,
+            String workerId,
+            long leaseSeconds,
+            Instant now
+    ) {
         List<String> ids = new ArrayList<>(selected.size());
         for (NormalizedTransaction transaction : selected) {
             ids.add(transaction.getId());
@@ -91,7 +112,7 @@ public class PendingClarificationQueryService {
         Query claimQuery = new Query(new Criteria().andOperator(
                 Criteria.where("_id").in(ids),
                 Criteria.where("status").is(NormalizedTransactionStatus.PENDING_CLARIFICATION),
-                leaseCriteria
+                leaseCriteria(now)
         ));
         Update claim = new Update()
                 .set("clarificationWorkerId", workerId)
@@ -111,4 +132,12 @@ public class PendingClarificationQueryService {
         ));
         return mongoOperations.find(claimedQuery, NormalizedTransaction.class);
     }
+
+    private static Criteria leaseCriteria(Instant now) {
+        return new Criteria().orOperator(
+                Criteria.where("clarificationLeaseUntil").exists(false),
+                Criteria.where("clarificationLeaseUntil").is(null),
+                Criteria.where("clarificationLeaseUntil").lte(now)
+        );
+    }
 }
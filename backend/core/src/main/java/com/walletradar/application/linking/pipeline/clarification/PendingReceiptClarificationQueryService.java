@@ -26,6 +26,7 @@ import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Loads due full-receipt clarification candidates from the residual review tail.
@@ -77,6 +78,17 @@ public class PendingReceiptClarificationQueryService {
             long retryDelaySeconds,
             String workerId,
             long leaseSeconds
+    ) {
+        return claimUntilSettled(() ->
+                attemptActiveNeedsReviewBatch(batchSize, maxAttempts, retryDelaySeconds, workerId, leaseSeconds));
+    }
+
+    private ClaimAttempt attemptActiveNeedsReviewBatch(
+            int batchSize,
+            int maxAttempts,
+            long retryDelaySeconds,
+            String workerId,
+            long leaseSeconds
     ) {
         int boundedBatchSize = Math.max(1, batchSize);
         int boundedMaxAttempts = Math.max(1, maxAttempts);
@@ -139,6 +151,17 @@ public class PendingReceiptClarificationQueryService {
             long retryDelaySeconds,
             String workerId,
             long leaseSeconds
+    ) {
+        return claimUntilSettled(() ->
+                attemptMulticallMissingTransferBatch(batchSize, maxAttempts, retryDelaySeconds, workerId, leaseSeconds));
+    }
+
+    private ClaimAttempt attemptMulticallMissingTransferBatch(
+            int batchSize,
+            int maxAttempts,
+            long retryDelaySeconds,
+            String workerId,
+            long leaseSeconds
     ) {
         int boundedBatchSize = Math.max(1, batchSize);
         int boundedMaxAttempts = Math.max(1, maxAttempts);
@@ -200,6 +223,17 @@ public class PendingReceiptClarificationQueryService {
             long retryDelaySeconds,
             String workerId,
             long leaseSeconds
+    ) {
+        return claimUntilSettled(() ->
+                attemptConfirmedFluidReceiptBatch(batchSize, maxAttempts, retryDelaySeconds, workerId, leaseSeconds));
+    }
+
+    private ClaimAttempt attemptConfirmedFluidReceiptBatch(
+            int batchSize,
+            int maxAttempts,
+            long retryDelaySeconds,
+            String workerId,
+            long leaseSeconds
     ) {
         int boundedBatchSize = Math.max(1, batchSize);
         int boundedMaxAttempts = Math.max(1, maxAttempts);
@@ -268,6 +302,17 @@ public class PendingReceiptClarificationQueryService {
             long retryDelaySeconds,
             String workerId,
             long leaseSeconds
+    ) {
+        return claimUntilSettled(() ->
+                attemptNextBatch(batchSize, maxAttempts, retryDelaySeconds, workerId, leaseSeconds));
+    }
+
+    private ClaimAttempt attemptNextBatch(
+            int batchSize,
+            int maxAttempts,
+            long retryDelaySeconds,
+            String workerId,
+            long leaseSeconds
     ) {
         int boundedBatchSize = Math.max(1, batchSize);
         int boundedMaxAttempts = Math.max(1, maxAttempts);
@@ -518,14 +563,27 @@ public class PendingReceiptClarificationQueryService {
         return (int) result.getModifiedCount();
     }
 
-    private List<NormalizedTransaction> claimIfRequested(
+    /**
+     * Repeats a selection whose rows were all leased by a concurrent worker first: those rows drop out
+     * of the next selection, so an empty result means nothing due is left rather than a lost race.
+     */
+    private static List<NormalizedTransaction> claimUntilSettled(Supplier<ClaimAttempt> attempt) {
+        while (true) {
+            ClaimAttempt claimAttempt = attempt.get();
+            if (!claimAttempt.selectedAny() || !claimAttempt.rows().isEmpty()) {
+                return claimAttempt.rows();
+            }
+        }
+    }
+
+    private ClaimAttempt claimIfRequested(
             List<NormalizedTransaction> selected,
             String workerId,
             long leaseSeconds,
             Instant now
     ) {
         if (workerId == null || workerId.isBlank() || selected.isEmpty()) {
-            return selected;
+            return new ClaimAttempt(!selected.isEmpty(), selected);
         }
         List<String> ids = new ArrayList<>(selected.size());
         for (NormalizedTransaction transaction : selected) {
@@ -557,7 +615,11 @@ public class PendingReceiptClarificationQueryService {
                 Sort.Order.asc("transactionIndex"),
                 Sort.Order.asc("_id")
         ));
-        return mongoOperations.find(claimedQuery, NormalizedTransaction.class);
+        return new ClaimAttempt(true, mongoOperations.find(claimedQuery, NormalizedTransaction.class));
+    }
+
+    /** One selection and its claim; {@code rows} is empty with {@code selectedAny} when the claim was lost. */
+    private record ClaimAttempt(boolean selectedAny, List<NormalizedTransaction> rows) {
     }
 
     private List<NormalizedTransaction> loadGmxDerivativeExecutionCandidates(
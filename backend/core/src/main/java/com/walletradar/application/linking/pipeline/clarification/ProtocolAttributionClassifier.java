@@ -1,8 +1,8 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
-import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
 import com.walletradar.application.normalization.pipeline.classification.support.KnownProtocolCounterpartyRegistry;
@@ -35,7 +35,7 @@ public class ProtocolAttributionClassifier {
     private static final String BRIDGE_REASON = "BRIDGE_ON_CHAIN_LEG_NOT_FOUND";
 
     private final MongoOperations mongoOperations;
-    private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
 
     public int classifyProtocolAttribution(int batchSize) {
         List<NormalizedTransaction> candidates = loadCandidates(batchSize);
@@ -50,7 +50,7 @@ public class ProtocolAttributionClassifier {
             }
         }
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(dirty);
+            linkingTransactionWriter.saveAll(dirty);
             log.info("PROTOCOL_ATTRIBUTION_CLASSIFIER stamped={}", dirty.size());
         }
         return dirty.size();
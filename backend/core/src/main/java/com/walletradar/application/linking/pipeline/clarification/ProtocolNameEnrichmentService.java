@@ -1,7 +1,7 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
-import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
 import com.walletradar.domain.transaction.raw.RawTransaction;
 import com.walletradar.domain.transaction.raw.RawTransactionRepository;
 import lombok.RequiredArgsConstructor;
@@ -28,7 +28,7 @@ public class ProtocolNameEnrichmentService {
     private final ProtocolNameResolutionService resolutionService;
     private final ProtocolNameCanonicalizer protocolNameCanonicalizer;
     private final RawTransactionRepository rawTransactionRepository;
-    private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
 
     public int processNextBatch(int batchSize) {
         int boundedBatchSize = Math.max(1, batchSize);
@@ -58,7 +58,7 @@ public class ProtocolNameEnrichmentService {
         if (!enrichInPlace(normalizedTransaction, rawTransaction, now)) {
             return false;
         }
-        normalizedTransactionRepository.save(normalizedTransaction);
+        linkingTransactionWriter.save(normalizedTransaction);
         log.debug(
                 "Protocol name enriched normalizedTxId={} protocolName={} protocolVersion={}",
                 normalizedTransaction.getId(),
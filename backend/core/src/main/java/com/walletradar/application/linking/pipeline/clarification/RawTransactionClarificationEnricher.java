@@ -21,6 +21,8 @@ public class RawTransactionClarificationEnricher {
             rawTransaction.setRawData(new Document());
         }
         Document rawData = rawTransaction.getRawData();
+        // New evidence can touch new addresses; the registry-diff indexer recomputes null keys.
+        rawTransaction.setTouchedKeys(null);
 
         if (enrichment.txReceiptStatus() != null) {
             rawData.put("txreceipt_status", enrichment.txReceiptStatus());
@@ -184,6 +186,7 @@ public class RawTransactionClarificationEnricher {
 
     private static void persistCanonicalClarificationEvidence(RawTransaction rawTransaction, Document clarificationEvidence) {
         rawTransaction.setClarificationEvidence(BsonCoercionSupport.copyDocument(clarificationEvidence));
+        rawTransaction.setTouchedKeys(null);
         if (rawTransaction.getRawData() != null) {
             rawTransaction.getRawData().remove("clarificationEvidence");
         }
@@ -9,6 +9,7 @@ import com.walletradar.domain.wallet.WalletDomainKind;
 import com.walletradar.domain.transaction.raw.RawSyncMethod;
 import com.walletradar.domain.transaction.raw.RawTransaction;
 import com.walletradar.domain.transaction.raw.NormalizationStatus;
+import com.walletradar.platform.common.SingleFlight;
 import com.walletradar.platform.networks.evm.explorer.BlockScoutExplorerProvider;
 import com.walletradar.platform.networks.evm.explorer.EtherscanV2ExplorerProvider;
 import com.walletradar.platform.networks.evm.explorer.ExplorerProvider;
@@ -54,6 +55,7 @@ public class ReceiptClarificationGateway {
     private final RpcTokenTransferResolver rpcTokenTransferResolver;
     private final IngestionNetworkProperties ingestionNetworkProperties;
     private final ObjectMapper objectMapper;
+    private final SingleFlight<String, String> receiptLoads = new SingleFlight<>();
 
     public Optional<ClarificationReceiptEnrichment> fetchReceipt(RawTransaction rawTransaction) {
         return fetch(rawTransaction, false, false);
@@ -557,7 +559,7 @@ public class ReceiptClarificationGateway {
             return Optional.empty();
         }
         try {
-            String json = rpcClient.call(endpoint, "eth_getTransactionReceipt", List.of(view.txHash())).block();
+            String json = receiptJson(endpoint, view.txHash());
             if (json == null || json.isBlank()) {
                 return Optional.empty();
             }
@@ -993,7 +995,7 @@ public class ReceiptClarificationGateway {
             return List.of();
         }
         try {
-            String json = rpcClient.call(endpoint, "eth_getTransactionReceipt", List.of(txHash)).block();
+            String json = receiptJson(endpoint, txHash);
             if (json == null || json.isBlank()) {
                 return List.of();
             }
@@ -1009,6 +1011,17 @@ public class ReceiptClarificationGateway {
         }
     }
 
+    /**
+     * Rows of several tracked wallets can share a tx hash; concurrent clarification workers then
+     * share one receipt call instead of each issuing their own.
+     */
+    private String receiptJson(String endpoint, String txHash) {
+        return receiptLoads.load(
+                endpoint + "|" + txHash.toLowerCase(Locale.ROOT),
+                () -> rpcClient.call(endpoint, "eth_getTransactionReceipt", List.of(txHash)).block()
+        );
+    }
+
     private JsonNode rpcResult(String endpoint, String method, Object params) {
         try {
             String json = rpcClient.call(endpoint, method, params).block();
@@ -1,12 +1,12 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
 import com.walletradar.application.costbasis.support.BridgeAssetFamilySupport;
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.canonical.correlation.CorrelationContract;
 import com.walletradar.domain.common.NetworkAddressFormat;
 import com.walletradar.domain.common.NetworkId;
 import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
-import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
 import lombok.RequiredArgsConstructor;
@@ -86,7 +86,7 @@ public class SameNetworkCustodyRoundTripLinkService {
     private static final MathContext RATIO_MC = MathContext.DECIMAL64;
 
     private final MongoOperations mongoOperations;
-    private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
 
     public int reconcileOrphanInbounds(int batchSize) {
         int changed = 0;
@@ -326,7 +326,7 @@ public class SameNetworkCustodyRoundTripLinkService {
         if (!outboundChanged && !inboundChanged) {
             return false;
         }
-        normalizedTransactionRepository.saveAll(deduplicateById(List.of(outbound, inbound)));
+        linkingTransactionWriter.saveAll(deduplicateById(List.of(outbound, inbound)));
         return true;
     }
 
@@ -1,8 +1,8 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
 import com.walletradar.application.costbasis.support.UncoveredExternalInboundSupport;
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
-import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
 import lombok.RequiredArgsConstructor;
@@ -53,7 +53,7 @@ public class SourcelessBridgeInboundReclassificationService {
     private static final String BRIDGE_LEG_NOT_FOUND_REASON = "BRIDGE_ON_CHAIN_LEG_NOT_FOUND";
 
     private final MongoOperations mongoOperations;
-    private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
 
     public int reconcile(int batchSize) {
         List<NormalizedTransaction> candidates = loadLoneInboundBatch(batchSize);
@@ -68,7 +68,7 @@ public class SourcelessBridgeInboundReclassificationService {
             }
         }
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(dirty);
+            linkingTransactionWriter.saveAll(dirty);
             log.info(
                     "SOURCELESS_BRIDGE_INBOUND_UNCOVERED candidates={} reclassified={}",
                     candidates.size(),
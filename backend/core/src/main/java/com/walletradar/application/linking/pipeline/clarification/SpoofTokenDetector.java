@@ -1,8 +1,8 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
-import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
 import com.walletradar.application.normalization.pipeline.classification.support.SpoofTokenQuarantineSupport;
 import lombok.RequiredArgsConstructor;
@@ -38,7 +38,7 @@ public class SpoofTokenDetector {
     private static final String NON_ASCII_SYMBOL_REGEX = "[^\\x00-\\x7f]";
 
     private final MongoOperations mongoOperations;
-    private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
 
     public int detectAndExclude(int batchSize) {
         List<NormalizedTransaction> candidates = loadCandidates(batchSize);
@@ -54,7 +54,7 @@ public class SpoofTokenDetector {
             }
         }
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(dirty);
+            linkingTransactionWriter.saveAll(dirty);
             log.info("SPOOF_TOKEN_QUARANTINE excluded={}", dirty.size());
         }
         return dirty.size();
@@ -1,8 +1,8 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
-import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
 import com.walletradar.domain.transaction.raw.RawTransaction;
 import lombok.RequiredArgsConstructor;
@@ -54,7 +54,7 @@ public class TurtleVaultBurnRepairService {
     private static final String CP_TYPE_PROTOCOL = "PROTOCOL";
 
     private final MongoOperations mongoOperations;
-    private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
 
     /**
      * Repairs up to {@code batchSize} VAULT_WITHDRAW transactions that are missing the
@@ -73,7 +73,7 @@ public class TurtleVaultBurnRepairService {
             }
         }
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(dirty);
+            linkingTransactionWriter.saveAll(dirty);
             log.info("TURTLE_VAULT_BURN_REPAIR repaired={} batch={}", dirty.size(), candidates.size());
         }
         return dirty.size();
@@ -1,9 +1,9 @@
 package com.walletradar.application.linking.pipeline.clarification;
 
 import com.walletradar.application.costbasis.support.AccountingAssetFamilySupport;
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
 import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
-import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionStatus;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
 import com.walletradar.application.pricing.application.PriceableFlowPolicy;
@@ -44,7 +44,7 @@ public class UnmatchedBridgeInboundPricingFallbackService {
     private static final String BRIDGE_CORR_PREFIX = "bridge:";
 
     private final MongoOperations mongoOperations;
-    private final NormalizedTransactionRepository normalizedTransactionRepository;
+    private final LinkingTransactionWriter linkingTransactionWriter;
     private final PricingProperties pricingProperties;
 
     public int reconcileOrphanInbounds() {
@@ -95,7 +95,7 @@ public class UnmatchedBridgeInboundPricingFallbackService {
             }
         }
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(dirty);
+            linkingTransactionWriter.saveAll(dirty);
             log.info(
                     "UNMATCHED_BRIDGE_INBOUND_PRICING_FALLBACK candidates={} unmatched={} reset_to_pending_price={}",
                     inbounds.size(),
@@ -167,7 +167,7 @@ public class UnmatchedBridgeInboundPricingFallbackService {
             }
         }
         if (!dirty.isEmpty()) {
-            normalizedTransactionRepository.saveAll(dirty);
+            linkingTransactionWriter.saveAll(dirty);
         }
         log.info(
                 "UNMATCHED_BRIDGE_OUTBOUND_REPRICE candidates={} upstream_priced_skipped={} "
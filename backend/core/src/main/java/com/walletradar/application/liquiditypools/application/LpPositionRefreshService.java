@@ -9,11 +9,14 @@ import com.walletradar.domain.session.UserSessionRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionStatus;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
+import com.walletradar.platform.common.concurrent.BoundedExecutor;
+import com.walletradar.platform.common.config.AsyncConfig;
 import com.walletradar.platform.common.refresh.RefreshTrigger;
 import com.walletradar.application.liquiditypools.config.LiquidityPoolsProperties;
 import com.walletradar.application.liquiditypools.enrichment.LpDepthFetchPolicy;
 import com.walletradar.application.liquiditypools.enrichment.LpOnChainEnrichmentService;
 import com.walletradar.application.liquiditypools.enrichment.LpPositionContext;
+import com.walletradar.application.liquiditypools.enrichment.LpRefreshRound;
 import com.walletradar.application.liquiditypools.persistence.LpEarningPoint;
 import com.walletradar.application.liquiditypools.persistence.LpPositionSnapshot;
 import com.walletradar.application.pricing.domain.CanonicalAssetCatalog;
@@ -21,6 +24,7 @@ import com.walletradar.application.pricing.persistence.CurrentPriceQuoteDocument
 import com.walletradar.application.session.application.AccountingUniverseService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -42,9 +46,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -79,6 +82,8 @@ public class LpPositionRefreshService {
     private final LiquidityPoolsProperties properties;
     private final LpPositionRefreshStateService refreshStateService;
     private final com.walletradar.application.pricing.application.CurrentPriceQuoteRefreshService currentPriceQuoteRefreshService;
+    @Qualifier(AsyncConfig.LP_REFRESH_EXECUTOR)
+    private final BoundedExecutor lpRefreshExecutor;
 
     public List<String> discoverSessionIdsWithOpenPositions() {
         return userSessionRepository.findAll().stream()
@@ -97,6 +102,7 @@ public class LpPositionRefreshService {
         if (!properties.isEnabled()) {
             return new RefreshResult(0, 0, 0);
         }
+        // No round spans sessions: each session opens its own, so pool state never outlives one session.
         int total = 0;
         int saved = 0;
         int skipped = 0;
@@ -106,8 +112,10 @@ public class LpPositionRefreshService {
             saved += sessionResult.saved();
             skipped += sessionResult.skipped();
         }
-        log.info("LP position refresh complete positions={} saved={} skipped={}", total, saved, skipped);
-        return new RefreshResult(total, saved, skipped);
+        RefreshResult result = new RefreshResult(total, saved, skipped);
+        log.info("LP position refresh complete positions={} saved={} skipped={}",
+                result.positions(), result.saved(), result.skipped());
+        return result;
     }
 
     public Optional<LpPositionSnapshot> refreshOnDemandWithState(String sessionId, String correlationId) {
@@ -135,16 +143,18 @@ public class LpPositionRefreshService {
                 closeGhostSolanaSnapshots(
                         accountingUniverseService.resolveScope(session).accountingUniverseId(),
                         contexts.keySet()));
-        int saved = 0;
-        int skipped = 0;
         boolean persistStaleOnFailure = trigger != RefreshTrigger.MANUAL && trigger != RefreshTrigger.BULK;
-        for (LpPositionContext context : contexts.values()) {
-            if (refreshPosition(sessionId, context, persistStaleOnFailure).isPresent()) {
-                saved++;
-            } else {
-                skipped++;
+        // One round per session: positions sharing a pool share one read of its on-chain state.
+        int saved = LpRefreshRound.call(() -> {
+            int refreshed = 0;
+            for (LpPositionContext context : contexts.values()) {
+                if (refreshPosition(sessionId, context, persistStaleOnFailure).isPresent()) {
+                    refreshed++;
+                }
             }
-        }
+            return refreshed;
+        });
+        int skipped = contexts.size() - saved;
         log.info("LP session refresh complete sessionId={} positions={} saved={} skipped={}",
                 sessionId, contexts.size(), saved, skipped);
         return new RefreshResult(contexts.size(), saved, skipped);
@@ -269,30 +279,30 @@ public class LpPositionRefreshService {
     }
 
     private LpOnChainEnrichmentService.EnrichmentResult enrichOnDemand(LpPositionContext context) {
-        ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
-            Thread thread = new Thread(r, "lp-on-demand-enrich");
-            thread.setDaemon(true);
-            return thread;
-        });
+        Future<LpOnChainEnrichmentService.EnrichmentResult> future;
         try {
             // Pool-level cache (LpPoolDepthCacheService) prevents duplicate depth RPC fetches
             // across positions sharing the same pool, so skipping the fetch policy here is safe.
-            Future<LpOnChainEnrichmentService.EnrichmentResult> future = executor.submit(() ->
-                    enrichmentService.enrich(context));
+            future = lpRefreshExecutor.submit(LpRefreshRound.propagate(() -> enrichmentService.enrich(context)));
+        } catch (RejectedExecutionException rejected) {
+            log.warn("LP on-demand refresh rejected: executor saturated, correlationId={}", context.correlationId());
+            return LpOnChainEnrichmentService.EnrichmentResult.failed("Refresh capacity exhausted, retry later");
+        }
+        try {
             return future.get(MANUAL_REFRESH_TIMEOUT.toSeconds(), TimeUnit.SECONDS);
         } catch (TimeoutException timeout) {
+            future.cancel(true);
             log.warn("LP on-demand refresh timed out correlationId={} timeoutSec={}",
                     context.correlationId(), MANUAL_REFRESH_TIMEOUT.getSeconds());
             return LpOnChainEnrichmentService.EnrichmentResult.failed(
                     "Refresh timed out after " + MANUAL_REFRESH_TIMEOUT.getSeconds() + "s");
         } catch (InterruptedException interrupted) {
+            future.cancel(true);
             Thread.currentThread().interrupt();
             return LpOnChainEnrichmentService.EnrichmentResult.failed("Refresh interrupted");
         } catch (ExecutionException error) {
             Throwable cause = error.getCause() != null ? error.getCause() : error;
             return LpOnChainEnrichmentService.EnrichmentResult.failed(cause.toString());
-        } finally {
-            executor.shutdownNow();
         }
     }
 
@@ -5,6 +5,8 @@ import com.walletradar.platform.common.refresh.RefreshStatus;
 import com.walletradar.platform.common.refresh.RefreshTrigger;
 import com.walletradar.application.liquiditypools.persistence.LpPositionRefreshState;
 import com.walletradar.application.liquiditypools.persistence.LpPositionRefreshStateRepository;
+import com.walletradar.application.session.application.SessionProgressSignals;
+import com.walletradar.application.session.application.UniverseDataVersionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -23,6 +25,8 @@ public class LpPositionRefreshStateService {
     );
 
     private final LpPositionRefreshStateRepository repository;
+    private final SessionProgressSignals sessionProgressSignals;
+    private final UniverseDataVersionService universeDataVersionService;
 
     public void markQueued(String sessionId, String correlationId, RefreshTrigger trigger) {
         Instant now = Instant.now();
@@ -37,6 +41,7 @@ public class LpPositionRefreshStateService {
         state.setError(null);
         state.setUpdatedAt(now);
         repository.save(state);
+        sessionProgressSignals.markSession(sessionId, SessionProgressSignals.Topic.LP_REFRESH);
     }
 
     public void markUpdating(String correlationId) {
@@ -48,6 +53,7 @@ public class LpPositionRefreshStateService {
             }
             state.setUpdatedAt(now);
             repository.save(state);
+            sessionProgressSignals.markSession(state.getSessionId(), SessionProgressSignals.Topic.LP_REFRESH);
         });
     }
 
@@ -60,6 +66,8 @@ public class LpPositionRefreshStateService {
             state.setError(null);
             state.setUpdatedAt(now);
             repository.save(state);
+            sessionProgressSignals.markSession(state.getSessionId(), SessionProgressSignals.Topic.LP_REFRESH);
+            universeDataVersionService.bumpSession(state.getSessionId(), "lp-refresh-synced");
         });
     }
 
@@ -71,6 +79,8 @@ public class LpPositionRefreshStateService {
             state.setError(truncateError(error));
             state.setUpdatedAt(now);
             repository.save(state);
+            sessionProgressSignals.markSession(state.getSessionId(), SessionProgressSignals.Topic.LP_REFRESH);
+            universeDataVersionService.bumpSession(state.getSessionId(), "lp-refresh-failed");
         });
     }
 
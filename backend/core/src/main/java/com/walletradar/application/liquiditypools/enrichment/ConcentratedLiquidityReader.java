@@ -1,5 +1,7 @@
 package com.walletradar.application.liquiditypools.enrichment;
 
+import com.walletradar.platform.metadata.TokenMetadata;
+import com.walletradar.platform.metadata.TokenMetadataStore;
 import com.walletradar.platform.networks.evm.abi.EvmAbiSupport;
 import com.walletradar.application.liquiditypools.persistence.LpPositionSnapshot;
 import lombok.RequiredArgsConstructor;
@@ -11,10 +13,17 @@ import java.math.BigInteger;
 import java.math.MathContext;
 import java.time.Instant;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 
+/**
+ * Reads Uniswap V3-style NFT positions. Pool state ({@code slot0}, fee growth, ticks, depth) comes
+ * from the refresh round's shared {@link LpPoolStateSnapshot}; factory, pool and tick spacing come
+ * from {@link LpPoolAddressMemo}; token decimals and symbols from the {@link TokenMetadataStore}.
+ * Per position only {@code positions(tokenId)} is read fresh.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -22,18 +31,18 @@ public class ConcentratedLiquidityReader implements LpPositionReader {
 
     private static final MathContext MC = MathContext.DECIMAL128;
     private static final String POSITIONS_SELECTOR = "0x" + EvmAbiSupport.selector("positions(uint256)");
-    private static final String SLOT0_SELECTOR = "0x" + EvmAbiSupport.selector("slot0()");
-    private static final String FEE_GROWTH0_SELECTOR = "0x" + EvmAbiSupport.selector("feeGrowthGlobal0X128()");
-    private static final String FEE_GROWTH1_SELECTOR = "0x" + EvmAbiSupport.selector("feeGrowthGlobal1X128()");
-    private static final String TICKS_SELECTOR = "0x" + EvmAbiSupport.selector("ticks(int24)");
     private static final String FACTORY_SELECTOR = "0x" + EvmAbiSupport.selector("factory()");
     // Uniswap V3 / Uniswap V3 forks use uint24 fee tier; Aerodrome/Velodrome Slipstream use int24 tickSpacing
     private static final String GET_POOL_SELECTOR = "0x" + EvmAbiSupport.selector("getPool(address,address,uint24)");
     private static final String GET_POOL_INT24_SELECTOR = "0x" + EvmAbiSupport.selector("getPool(address,address,int24)");
     private static final String ZERO_ADDRESS = "0x0000000000000000000000000000000000000000";
+    private static final String TOKEN_METADATA_SOURCE = "EVM_RPC";
 
     private final LpRpcSupport rpc;
     private final LiquidityDepthReader depthReader;
+    private final LpPoolStateReader poolStateReader;
+    private final LpPoolAddressMemo addressMemo;
+    private final TokenMetadataStore tokenMetadataStore;
 
     @Override
     public boolean supports(LpPositionContext context) {
@@ -80,10 +89,12 @@ public class ConcentratedLiquidityReader implements LpPositionReader {
             return Optional.empty();
         }
 
-        int decimals0 = rpc.erc20Decimals(network, token0).orElse(18);
-        int decimals1 = rpc.erc20Decimals(network, token1).orElse(18);
-        String sym0 = rpc.erc20Symbol(network, token0).orElse("TOKEN0");
-        String sym1 = rpc.erc20Symbol(network, token1).orElse("TOKEN1");
+        TokenMetadata metadata0 = tokenMetadata(network, token0);
+        TokenMetadata metadata1 = tokenMetadata(network, token1);
+        int decimals0 = metadata0.decimals() != null ? metadata0.decimals() : 18;
+        int decimals1 = metadata1.decimals() != null ? metadata1.decimals() : 18;
+        String sym0 = metadata0.symbol() != null ? metadata0.symbol() : "TOKEN0";
+        String sym1 = metadata1.symbol() != null ? metadata1.symbol() : "TOKEN1";
 
         TokenPair pair = canonicalTokenPair(token0, token1, decimals0, decimals1, sym0, sym1);
         token0 = pair.token0();
@@ -113,12 +124,12 @@ public class ConcentratedLiquidityReader implements LpPositionReader {
             return Optional.empty();
         }
 
-        String slot0Hex = rpc.call(network, pool, SLOT0_SELECTOR).orElse(null);
-        if (slot0Hex == null) {
+        LpPoolStateSnapshot poolState = poolStateReader.snapshot(network, pool).orElse(null);
+        if (poolState == null) {
             return Optional.empty();
         }
-        BigInteger sqrtPriceX96 = EvmAbiSupport.uintFromWord(EvmAbiSupport.wordAt(slot0Hex, 0));
-        int currentTick = EvmAbiSupport.int24FromWord(EvmAbiSupport.wordAt(slot0Hex, 1));
+        BigInteger sqrtPriceX96 = poolState.sqrtPriceX96();
+        int currentTick = poolState.currentTick();
 
         BigInteger sqrtLower = LpLiquidityAmountsSupport.getSqrtRatioAtTick(tickLower);
         BigInteger sqrtUpper = LpLiquidityAmountsSupport.getSqrtRatioAtTick(tickUpper);
@@ -138,7 +149,7 @@ public class ConcentratedLiquidityReader implements LpPositionReader {
         BigDecimal unclaimed0 = LpLiquidityAmountsSupport.toHuman(tokensOwed0, decimals0);
         BigDecimal unclaimed1 = LpLiquidityAmountsSupport.toHuman(tokensOwed1, decimals1);
         int tickFeeGrowthOffset = tickFeeGrowthOffset(context);
-        BigDecimal[] growthFees = accumulateFeeGrowthUnclaimed(network, pool, tickLower, tickUpper, currentTick, liquidity,
+        BigDecimal[] growthFees = accumulateFeeGrowthUnclaimed(poolState, tickLower, tickUpper, currentTick, liquidity,
                 feeGrowthInside0Last, feeGrowthInside1Last, decimals0, decimals1, tickFeeGrowthOffset);
         unclaimed0 = unclaimed0.add(growthFees[0], MC);
         unclaimed1 = unclaimed1.add(growthFees[1], MC);
@@ -175,8 +186,8 @@ public class ConcentratedLiquidityReader implements LpPositionReader {
         snapshot.setSnapshotStale(false);
 
         // Read liquidity depth histogram for the distribution panel
-        java.util.List<LpPositionSnapshot.LiquidityBin> depthBins =
-                depthReader.readDepth(network, pool, currentTick, tickLower, tickUpper, decimals0, decimals1);
+        List<LpPositionSnapshot.LiquidityBin> depthBins =
+                depthReader.readDepth(poolState, tickLower, tickUpper, decimals0, decimals1);
         if (!depthBins.isEmpty()) {
             snapshot.setLiquidityBins(depthBins);
             snapshot.setLiquidityBinsAt(Instant.now());
@@ -270,8 +281,7 @@ public class ConcentratedLiquidityReader implements LpPositionReader {
      * adjusting the tick-outside values relative to the global accumulator.
      */
     private BigDecimal[] accumulateFeeGrowthUnclaimed(
-            String network,
-            String pool,
+            LpPoolStateSnapshot poolState,
             int tickLower,
             int tickUpper,
             int currentTick,
@@ -282,14 +292,13 @@ public class ConcentratedLiquidityReader implements LpPositionReader {
             int decimals1,
             int tickFeeGrowthOffset
     ) {
-        BigInteger global0 = rpc.call(network, pool, FEE_GROWTH0_SELECTOR)
-                .map(EvmAbiSupport::uintFromWord).orElse(BigInteger.ZERO);
-        BigInteger global1 = rpc.call(network, pool, FEE_GROWTH1_SELECTOR)
-                .map(EvmAbiSupport::uintFromWord).orElse(BigInteger.ZERO);
-        BigInteger lower0 = tickFeeGrowthOutside(network, pool, tickLower, 0, tickFeeGrowthOffset);
-        BigInteger lower1 = tickFeeGrowthOutside(network, pool, tickLower, 1, tickFeeGrowthOffset);
-        BigInteger upper0 = tickFeeGrowthOutside(network, pool, tickUpper, 0, tickFeeGrowthOffset);
-        BigInteger upper1 = tickFeeGrowthOutside(network, pool, tickUpper, 1, tickFeeGrowthOffset);
+        BigInteger global0 = poolState.feeGrowthGlobal0();
+        BigInteger global1 = poolState.feeGrowthGlobal1();
+        List<Optional<String>> ticks = poolStateReader.ticks(poolState, List.of(tickLower, tickUpper));
+        BigInteger lower0 = tickFeeGrowthOutside(ticks.get(0), 0, tickFeeGrowthOffset);
+        BigInteger lower1 = tickFeeGrowthOutside(ticks.get(0), 1, tickFeeGrowthOffset);
+        BigInteger upper0 = tickFeeGrowthOutside(ticks.get(1), 0, tickFeeGrowthOffset);
+        BigInteger upper1 = tickFeeGrowthOutside(ticks.get(1), 1, tickFeeGrowthOffset);
 
         // feeGrowthOutside is stored as "below the tick" when currentTick >= tick, else "above the tick".
         // Adjust to get feeGrowthBelow (fees accumulated strictly below tickLower) and
@@ -319,24 +328,36 @@ public class ConcentratedLiquidityReader implements LpPositionReader {
         return result.signum() < 0 ? result.add(TWO_256) : result;
     }
 
-    private BigInteger tickFeeGrowthOutside(String network, String pool, int tick, int tokenIndex, int feeGrowthOffset) {
-        String data = TICKS_SELECTOR + EvmAbiSupport.encodeInt24(tick);
-        String hex = rpc.call(network, pool, data).orElse(null);
-        if (hex == null) {
-            return BigInteger.ZERO;
-        }
-        return EvmAbiSupport.uintFromWord(EvmAbiSupport.wordAt(hex, tokenIndex + feeGrowthOffset));
+    private static BigInteger tickFeeGrowthOutside(Optional<String> tickHex, int tokenIndex, int feeGrowthOffset) {
+        return tickHex
+                .map(hex -> EvmAbiSupport.uintFromWord(EvmAbiSupport.wordAt(hex, tokenIndex + feeGrowthOffset)))
+                .orElse(BigInteger.ZERO);
+    }
+
+    private TokenMetadata tokenMetadata(String network, String token) {
+        return tokenMetadataStore.resolve(network, token.toLowerCase(Locale.ROOT), TOKEN_METADATA_SOURCE,
+                () -> new TokenMetadata(
+                        rpc.erc20Decimals(network, token).orElse(null),
+                        rpc.erc20Symbol(network, token).orElse(null),
+                        null));
     }
 
     private Optional<String> resolvePool(LpPositionContext context, String network, String token0, String token1, int fee) {
         if (context.poolContract() != null && !context.poolContract().isBlank()) {
             return Optional.of(context.poolContract().toLowerCase(Locale.ROOT));
         }
-        String factoryHex = rpc.call(network, context.nfpmContract(), FACTORY_SELECTOR).orElse(null);
-        String factory = factoryHex == null ? null : EvmAbiSupport.addressFromWord(factoryHex);
-        if (factory == null || ZERO_ADDRESS.equals(factory)) {
+        String factory = addressMemo.factory(network, context.nfpmContract(), () ->
+                rpc.call(network, context.nfpmContract(), FACTORY_SELECTOR)
+                        .map(EvmAbiSupport::addressFromWord)
+                        .filter(addr -> addr != null && !ZERO_ADDRESS.equals(addr)))
+                .orElse(null);
+        if (factory == null) {
             return Optional.empty();
         }
+        return addressMemo.pool(network, factory, token0, token1, fee, () -> loadPool(network, factory, token0, token1, fee));
+    }
+
+    private Optional<String> loadPool(String network, String factory, String token0, String token1, int fee) {
         String encodedArgs = EvmAbiSupport.encodeAddress(token0)
                 + EvmAbiSupport.encodeAddress(token1)
                 + EvmAbiSupport.encodeUint256(BigInteger.valueOf(fee));
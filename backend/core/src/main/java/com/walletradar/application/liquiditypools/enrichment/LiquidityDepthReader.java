@@ -20,7 +20,8 @@ import java.util.TreeMap;
  * for rendering a histogram on the LP position panel.
  *
  * <p>Pool-level RPC results are cached ({@link LpPoolDepthCacheService}) so manual refresh and
- * multi-position jobs do not re-scan the same pool on every click.
+ * multi-position jobs do not re-scan the same pool on every click; within a refresh round the scan
+ * is also shared through the pool's {@link LpPoolStateSnapshot}.
  */
 @Slf4j
 @Component
@@ -34,38 +35,47 @@ public class LiquidityDepthReader {
     private static final int MAX_BINS = 60;
 
     private static final String TICK_SPACING_SELECTOR = "0x" + EvmAbiSupport.selector("tickSpacing()");
-    private static final String LIQUIDITY_SELECTOR = "0x" + EvmAbiSupport.selector("liquidity()");
     private static final String TICK_BITMAP_SELECTOR = "0x" + EvmAbiSupport.selector("tickBitmap(int16)");
-    private static final String TICKS_SELECTOR = "0x" + EvmAbiSupport.selector("ticks(int24)");
 
     private final LpRpcSupport rpc;
     private final LpPoolDepthCacheService depthCacheService;
+    private final LpPoolAddressMemo addressMemo;
+    private final LpPoolStateReader poolStateReader;
 
     /**
-     * Read liquidity depth bins for a Uniswap V3-style CL pool.
+     * Read liquidity depth bins for a Uniswap V3-style CL pool. The scan is kept on {@code poolState},
+     * so other positions of the same pool in this refresh round render from it without RPC.
      *
      * @return list of bins with normalized liquidity share; empty if reading fails or pool is not CL
      */
-    public List<LpPositionSnapshot.LiquidityBin> readDepth(
-            String network,
-            String pool,
-            int currentTick,
+    List<LpPositionSnapshot.LiquidityBin> readDepth(
+            LpPoolStateSnapshot poolState,
             int tickLower,
             int tickUpper,
             int decimals0,
             int decimals1
     ) {
+        String network = poolState.network();
+        String pool = poolState.pool();
+        int currentTick = poolState.currentTick();
         try {
+            Optional<PoolLiquidityDepthState> shared = poolState.depth();
+            if (shared != null) {
+                return shared.map(state -> renderBins(state, currentTick, tickLower, tickUpper, decimals0, decimals1))
+                        .orElse(List.of());
+            }
             Optional<PoolLiquidityDepthState> cached = depthCacheService.getFresh(network, pool);
             if (cached.isPresent()) {
                 log.debug("liquidity depth cache hit pool={} network={}", pool, network);
+                poolState.depth(cached);
                 return renderBins(cached.get(), currentTick, tickLower, tickUpper, decimals0, decimals1);
             }
             if (LpDepthFetchPolicy.skipRpcFetch()) {
                 log.debug("liquidity depth RPC fetch skipped (policy) pool={} network={}", pool, network);
                 return List.of();
             }
-            Optional<PoolLiquidityDepthState> fetched = fetchPoolState(network, pool, currentTick);
+            Optional<PoolLiquidityDepthState> fetched = fetchPoolState(poolState);
+            poolState.depth(fetched);
             if (fetched.isEmpty()) {
                 return List.of();
             }
@@ -79,18 +89,20 @@ public class LiquidityDepthReader {
         }
     }
 
-    private Optional<PoolLiquidityDepthState> fetchPoolState(String network, String pool, int currentTick) {
-        int tickSpacing = rpc.call(network, pool, TICK_SPACING_SELECTOR)
-                .map(h -> EvmAbiSupport.uintFromWord(EvmAbiSupport.wordAt(h, 0)).intValue())
+    private Optional<PoolLiquidityDepthState> fetchPoolState(LpPoolStateSnapshot poolState) {
+        String network = poolState.network();
+        String pool = poolState.pool();
+        int currentTick = poolState.currentTick();
+        int tickSpacing = addressMemo.tickSpacing(network, pool, () ->
+                        rpc.call(network, pool, TICK_SPACING_SELECTOR)
+                                .map(h -> EvmAbiSupport.uintFromWord(EvmAbiSupport.wordAt(h, 0)).intValue()))
                 .orElse(0);
         if (tickSpacing <= 0) {
             log.debug("tickSpacing unavailable for pool={} network={}", pool, network);
             return Optional.empty();
         }
 
-        BigInteger poolLiquidity = rpc.call(network, pool, LIQUIDITY_SELECTOR)
-                .map(h -> EvmAbiSupport.uintFromWord(EvmAbiSupport.wordAt(h, 0)))
-                .orElse(BigInteger.ZERO);
+        BigInteger poolLiquidity = poolState.liquidity();
 
         int currentWordPos = Math.floorDiv(currentTick, tickSpacing) >> 8;
         int scanLow = currentWordPos - MAX_SCAN_WORDS;
@@ -122,10 +134,8 @@ public class LiquidityDepthReader {
 
         TreeMap<Integer, BigInteger> liquidityNetByTick = new TreeMap<>();
         if (!initializedTicks.isEmpty()) {
-            List<String> tickCallDatas = initializedTicks.stream()
-                    .map(tick -> TICKS_SELECTOR + EvmAbiSupport.encodeInt24(tick))
-                    .toList();
-            List<Optional<String>> tickResults = rpc.callBatch(network, pool, tickCallDatas);
+            // Shared with the position's fee-growth tick reads: boundary ticks are initialized ticks.
+            List<Optional<String>> tickResults = poolStateReader.ticks(poolState, initializedTicks);
             for (int ti = 0; ti < initializedTicks.size(); ti++) {
                 int tick = initializedTicks.get(ti);
                 tickResults.get(ti).ifPresent(h -> {
@@ -0,0 +1,101 @@
+package com.walletradar.application.liquiditypools.enrichment;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.walletradar.application.liquiditypools.persistence.LpPoolAddressMemoEntry;
+import com.walletradar.application.liquiditypools.persistence.LpPoolAddressMemoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Memo of immutable CL pool mappings: position manager → factory, (factory, token0, token1, fee) →
+ * pool and pool → tickSpacing. Served from memory, backed by the write-once
+ * {@code lp_pool_address_memo} collection so restarts do not re-resolve them over RPC. Only hits are
+ * memoized; a loader returning empty is asked again next time.
+ */
+@Slf4j
+@Service
+public class LpPoolAddressMemo {
+
+    static final String FACTORY = "FACTORY";
+    static final String POOL = "POOL";
+    static final String TICK_SPACING = "TICK_SPACING";
+
+    private static final long MAX_MEMORY_ENTRIES = 20_000L;
+
+    private final LpPoolAddressMemoRepository repository;
+    private final Cache<String, String> memory = Caffeine.newBuilder()
+            .maximumSize(MAX_MEMORY_ENTRIES)
+            .build();
+
+    public LpPoolAddressMemo(LpPoolAddressMemoRepository repository) {
+        this.repository = repository;
+    }
+
+    public Optional<String> factory(String networkId, String positionManager, Supplier<Optional<String>> loader) {
+        return resolve(networkId, FACTORY, normalize(positionManager), loader);
+    }
+
+    public Optional<String> pool(
+            String networkId,
+            String factory,
+            String token0,
+            String token1,
+            int fee,
+            Supplier<Optional<String>> loader
+    ) {
+        String subject = normalize(factory) + ":" + normalize(token0) + ":" + normalize(token1) + ":" + fee;
+        return resolve(networkId, POOL, subject, loader);
+    }
+
+    public Optional<Integer> tickSpacing(String networkId, String pool, Supplier<Optional<Integer>> loader) {
+        return resolve(networkId, TICK_SPACING, normalize(pool),
+                () -> loader.get().filter(spacing -> spacing > 0).map(String::valueOf))
+                .map(Integer::valueOf);
+    }
+
+    private Optional<String> resolve(String networkId, String kind, String subject, Supplier<Optional<String>> loader) {
+        String network = networkId == null ? "" : networkId.trim().toUpperCase(Locale.ROOT);
+        String key = LpPoolAddressMemoEntry.key(network, kind, subject);
+        String cached = memory.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<String> stored = repository.findById(key).map(LpPoolAddressMemoEntry::getValue);
+        if (stored.isPresent()) {
+            memory.put(key, stored.get());
+            return stored;
+        }
+        Optional<String> loaded = loader.get().map(value -> value.toLowerCase(Locale.ROOT));
+        loaded.ifPresent(value -> {
+            memory.put(key, value);
+            persist(key, network, kind, subject, value);
+        });
+        return loaded;
+    }
+
+    private void persist(String key, String network, String kind, String subject, String value) {
+        try {
+            LpPoolAddressMemoEntry entry = new LpPoolAddressMemoEntry();
+            entry.setMemoKey(key);
+            entry.setNetworkId(network);
+            entry.setKind(kind);
+            entry.setSubject(subject);
+            entry.setValue(value);
+            entry.setCreatedAt(Instant.now());
+            repository.save(entry);
+        } catch (Exception error) {
+            // Non-fatal: the value is memoized in memory and re-resolved after a restart.
+            log.warn("LP pool address memo: failed to persist key={} error={}", key, error.getMessage());
+        }
+    }
+
+    private static String normalize(String address) {
+        return address == null ? "" : address.trim().toLowerCase(Locale.ROOT);
+    }
+}
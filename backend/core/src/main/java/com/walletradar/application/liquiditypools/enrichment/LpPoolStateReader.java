@@ -0,0 +1,91 @@
+package com.walletradar.application.liquiditypools.enrichment;
+
+import com.walletradar.platform.networks.evm.abi.EvmAbiSupport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reads CL pool state in one JSON-RPC batch and shares it across the current {@link LpRefreshRound}.
+ * Tick reads are batched too and kept on the snapshot, so positions sharing a boundary tick read it
+ * once.
+ */
+@Component
+@RequiredArgsConstructor
+public class LpPoolStateReader {
+
+    private static final String SLOT0_SELECTOR = "0x" + EvmAbiSupport.selector("slot0()");
+    private static final String FEE_GROWTH0_SELECTOR = "0x" + EvmAbiSupport.selector("feeGrowthGlobal0X128()");
+    private static final String FEE_GROWTH1_SELECTOR = "0x" + EvmAbiSupport.selector("feeGrowthGlobal1X128()");
+    private static final String LIQUIDITY_SELECTOR = "0x" + EvmAbiSupport.selector("liquidity()");
+    private static final String TICKS_SELECTOR = "0x" + EvmAbiSupport.selector("ticks(int24)");
+
+    private final LpRpcSupport rpc;
+
+    /** Pool state for the current round; read over RPC on first use. Empty when {@code slot0} fails. */
+    Optional<LpPoolStateSnapshot> snapshot(String network, String pool) {
+        LpRefreshRound round = LpRefreshRound.current();
+        String poolKey = LpPoolDepthCacheService.poolKey(network, pool);
+        if (round != null) {
+            LpPoolStateSnapshot shared = round.pool(poolKey);
+            if (shared != null) {
+                return Optional.of(shared);
+            }
+        }
+        Optional<LpPoolStateSnapshot> fetched = fetch(network, pool);
+        if (round == null || fetched.isEmpty()) {
+            return fetched;
+        }
+        return Optional.of(round.share(poolKey, fetched.get()));
+    }
+
+    /** Raw {@code ticks(int24)} responses for {@code ticks}, batching whatever this snapshot has not read yet. */
+    List<Optional<String>> ticks(LpPoolStateSnapshot snapshot, List<Integer> ticks) {
+        List<Integer> missing = ticks.stream()
+                .distinct()
+                .filter(tick -> !snapshot.ticks().containsKey(tick))
+                .toList();
+        if (!missing.isEmpty()) {
+            List<String> callDatas = missing.stream()
+                    .map(tick -> TICKS_SELECTOR + EvmAbiSupport.encodeInt24(tick))
+                    .toList();
+            List<Optional<String>> results = rpc.callBatch(snapshot.network(), snapshot.pool(), callDatas);
+            for (int i = 0; i < missing.size(); i++) {
+                snapshot.ticks().putIfAbsent(missing.get(i), i < results.size() ? results.get(i) : Optional.empty());
+            }
+        }
+        List<Optional<String>> resolved = new ArrayList<>(ticks.size());
+        for (Integer tick : ticks) {
+            resolved.add(snapshot.ticks().getOrDefault(tick, Optional.empty()));
+        }
+        return resolved;
+    }
+
+    private Optional<LpPoolStateSnapshot> fetch(String network, String pool) {
+        List<Optional<String>> results = rpc.callBatch(network, pool,
+                List.of(SLOT0_SELECTOR, FEE_GROWTH0_SELECTOR, FEE_GROWTH1_SELECTOR, LIQUIDITY_SELECTOR));
+        String slot0Hex = results.isEmpty() ? null : results.get(0).orElse(null);
+        if (slot0Hex == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new LpPoolStateSnapshot(
+                network,
+                pool,
+                EvmAbiSupport.uintFromWord(EvmAbiSupport.wordAt(slot0Hex, 0)),
+                EvmAbiSupport.int24FromWord(EvmAbiSupport.wordAt(slot0Hex, 1)),
+                uintAt(results, 1),
+                uintAt(results, 2),
+                uintAt(results, 3)
+        ));
+    }
+
+    private static BigInteger uintAt(List<Optional<String>> results, int index) {
+        return index < results.size()
+                ? results.get(index).map(EvmAbiSupport::uintFromWord).orElse(BigInteger.ZERO)
+                : BigInteger.ZERO;
+    }
+}
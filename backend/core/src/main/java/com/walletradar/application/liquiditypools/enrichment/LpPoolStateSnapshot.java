@@ -0,0 +1,84 @@
+package com.walletradar.application.liquiditypools.enrichment;
+
+import java.math.BigInteger;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * One read of a CL pool's shared state: {@code slot0}, the global fee growth accumulators and active
+ * liquidity. Tick reads and the liquidity depth scan taken against this snapshot are kept on it so
+ * other positions in the same pool reuse them.
+ */
+final class LpPoolStateSnapshot {
+
+    private final String network;
+    private final String pool;
+    private final BigInteger sqrtPriceX96;
+    private final int currentTick;
+    private final BigInteger feeGrowthGlobal0;
+    private final BigInteger feeGrowthGlobal1;
+    private final BigInteger liquidity;
+    private final ConcurrentMap<Integer, Optional<String>> ticks = new ConcurrentHashMap<>();
+    private volatile Optional<PoolLiquidityDepthState> depth;
+
+    LpPoolStateSnapshot(
+            String network,
+            String pool,
+            BigInteger sqrtPriceX96,
+            int currentTick,
+            BigInteger feeGrowthGlobal0,
+            BigInteger feeGrowthGlobal1,
+            BigInteger liquidity
+    ) {
+        this.network = network;
+        this.pool = pool;
+        this.sqrtPriceX96 = sqrtPriceX96;
+        this.currentTick = currentTick;
+        this.feeGrowthGlobal0 = feeGrowthGlobal0;
+        this.feeGrowthGlobal1 = feeGrowthGlobal1;
+        this.liquidity = liquidity;
+    }
+
+    String network() {
+        return network;
+    }
+
+    String pool() {
+        return pool;
+    }
+
+    BigInteger sqrtPriceX96() {
+        return sqrtPriceX96;
+    }
+
+    int currentTick() {
+        return currentTick;
+    }
+
+    BigInteger feeGrowthGlobal0() {
+        return feeGrowthGlobal0;
+    }
+
+    BigInteger feeGrowthGlobal1() {
+        return feeGrowthGlobal1;
+    }
+
+    BigInteger liquidity() {
+        return liquidity;
+    }
+
+    /** Raw {@code ticks(int24)} responses read so far; empty values are failed reads. */
+    ConcurrentMap<Integer, Optional<String>> ticks() {
+        return ticks;
+    }
+
+    /** The depth scan taken against this snapshot, or {@code null} when none was attempted yet. */
+    Optional<PoolLiquidityDepthState> depth() {
+        return depth;
+    }
+
+    void depth(Optional<PoolLiquidityDepthState> depth) {
+        this.depth = depth;
+    }
+}
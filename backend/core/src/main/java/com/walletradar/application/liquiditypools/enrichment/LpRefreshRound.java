@@ -0,0 +1,84 @@
+package com.walletradar.application.liquiditypools.enrichment;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Thread-scoped refresh round. While a round is open, every position refreshed in it shares one
+ * on-chain state snapshot per pool ({@link LpPoolStateReader}), so N positions in the same pool cost
+ * one set of pool reads. Outside a round each read goes to RPC, as before. Rounds are short (one
+ * session refresh), so the shared snapshot stays as current as reading it per position would be.
+ */
+@Slf4j
+public final class LpRefreshRound {
+
+    private static final ThreadLocal<LpRefreshRound> CURRENT = new ThreadLocal<>();
+
+    private final ConcurrentMap<String, LpPoolStateSnapshot> pools = new ConcurrentHashMap<>();
+    private final AtomicInteger poolReads = new AtomicInteger();
+    private final AtomicInteger poolHits = new AtomicInteger();
+
+    private LpRefreshRound() {
+    }
+
+    /** Runs {@code action} inside a round, joining the round already open on this thread if any. */
+    public static <T> T call(Supplier<T> action) {
+        if (CURRENT.get() != null) {
+            return action.get();
+        }
+        LpRefreshRound round = new LpRefreshRound();
+        CURRENT.set(round);
+        try {
+            return action.get();
+        } finally {
+            CURRENT.remove();
+            if (round.poolReads.get() > 0) {
+                log.debug("LP refresh round finished poolReads={} poolHits={}", round.poolReads.get(), round.poolHits.get());
+            }
+        }
+    }
+
+    /** Binds the caller's round (if any) to {@code task} so work handed to another thread joins it. */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        LpRefreshRound round = CURRENT.get();
+        if (round == null) {
+            return task;
+        }
+        return () -> {
+            LpRefreshRound previous = CURRENT.get();
+            CURRENT.set(round);
+            try {
+                return task.call();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    static LpRefreshRound current() {
+        return CURRENT.get();
+    }
+
+    LpPoolStateSnapshot pool(String poolKey) {
+        LpPoolStateSnapshot snapshot = pools.get(poolKey);
+        if (snapshot != null) {
+            poolHits.incrementAndGet();
+        }
+        return snapshot;
+    }
+
+    LpPoolStateSnapshot share(String poolKey, LpPoolStateSnapshot snapshot) {
+        poolReads.incrementAndGet();
+        LpPoolStateSnapshot existing = pools.putIfAbsent(poolKey, snapshot);
+        return existing != null ? existing : snapshot;
+    }
+}
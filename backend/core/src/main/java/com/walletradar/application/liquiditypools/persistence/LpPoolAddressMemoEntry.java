@@ -0,0 +1,35 @@
+package com.walletradar.application.liquiditypools.persistence;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Write-once memo of on-chain facts that never change once deployed: the factory behind a position
+ * manager, the pool for a (factory, token pair, fee) and a pool's tick spacing. Only successful
+ * lookups are stored; a failed RPC is retried on the next refresh.
+ */
+@Document(collection = "lp_pool_address_memo")
+@NoArgsConstructor
+@Getter
+@Setter
+public class LpPoolAddressMemoEntry {
+
+    /** Composite key: {@code networkId|kind|subject}. */
+    @Id
+    private String memoKey;
+
+    private String networkId;
+    private String kind;
+    private String subject;
+    private String value;
+    private Instant createdAt;
+
+    public static String key(String networkId, String kind, String subject) {
+        return networkId + "|" + kind + "|" + subject;
+    }
+}
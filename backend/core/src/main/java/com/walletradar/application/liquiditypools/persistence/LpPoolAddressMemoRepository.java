@@ -0,0 +1,6 @@
+package com.walletradar.application.liquiditypools.persistence;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface LpPoolAddressMemoRepository extends MongoRepository<LpPoolAddressMemoEntry, String> {
+}
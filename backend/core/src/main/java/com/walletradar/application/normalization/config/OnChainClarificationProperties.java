@@ -20,6 +20,9 @@ public class OnChainClarificationProperties {
 
     private int threads = 2;
 
+    /** Concurrent drain loops; each leases its own batch, so they never share rows. */
+    private int workers = 1;
+
     private long leaseSeconds = 300;
 
     private long retryDelaySeconds = 120;
@@ -71,6 +74,14 @@ public class OnChainClarificationProperties {
         this.threads = threads;
     }
 
+    public int getWorkers() {
+        return workers;
+    }
+
+    public void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
     public long getLeaseSeconds() {
         return leaseSeconds;
     }
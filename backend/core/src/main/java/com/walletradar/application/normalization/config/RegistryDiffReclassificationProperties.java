@@ -0,0 +1,25 @@
+package com.walletradar.application.normalization.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Runtime settings for registry-diff reclassification: after a deploy that edits the bundled
+ * classification registries, only rows touching the changed addresses / selectors are reclassified.
+ */
+@ConfigurationProperties(prefix = "walletradar.normalization.registry-diff")
+@NoArgsConstructor
+@Getter
+@Setter
+public class RegistryDiffReclassificationProperties {
+
+    private boolean enabled = false;
+
+    /** Diff against the stored snapshot once the application is ready. */
+    private boolean runOnStartup = true;
+
+    /** Rows loaded, reclassified and written per round trip (touch indexing and reclassification). */
+    private int batchSize = 500;
+}
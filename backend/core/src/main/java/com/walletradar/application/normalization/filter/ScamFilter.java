@@ -4,7 +4,6 @@ import com.walletradar.domain.transaction.raw.RawTransaction;
 import com.walletradar.application.normalization.config.ScamFilterProperties;
 import com.walletradar.application.normalization.pipeline.classification.support.RewardClaimSelectors;
 import com.walletradar.application.normalization.support.PromoSpamTextSupport;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.Document;
 import org.springframework.stereotype.Component;
@@ -22,7 +21,6 @@ import java.util.Set;
  */
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class ScamFilter {
 
     private static final String ERC20_APPROVE_METHOD_ID = "0x095ea7b3";
@@ -54,6 +52,15 @@ public class ScamFilter {
     private static final int WALLET_ZERO_VALUE_SPOOF_MIN_INPUT_LENGTH = 1024;
 
     private final ScamFilterProperties properties;
+    // Normalized once at startup; the property getters rebuild these sets on every call.
+    private final Set<String> blocklist;
+    private final Set<String> knownInboundSpamFingerprints;
+
+    public ScamFilter(ScamFilterProperties properties) {
+        this.properties = properties;
+        this.blocklist = Set.copyOf(properties.getBlocklistNormalized());
+        this.knownInboundSpamFingerprints = Set.copyOf(properties.getKnownInboundSpamFingerprintKeysNormalized());
+    }
 
     /**
      * Returns true when traRnsaction should be dropped as spam/scam.
@@ -92,7 +99,6 @@ public class ScamFilter {
             return new ScamEvaluation(properties.getDropThreshold(), List.copyOf(signals), true);
         }
 
-        Set<String> blocklist = properties.getBlocklistNormalized();
         if (!blocklist.isEmpty()) {
             Set<String> addresses = extractAddresses(tx);
             for (String addr : addresses) {
@@ -716,8 +722,7 @@ public class ScamFilter {
             return false;
         }
 
-        Set<String> knownFingerprints = properties.getKnownInboundSpamFingerprintKeysNormalized();
-        if (knownFingerprints.isEmpty()) {
+        if (knownInboundSpamFingerprints.isEmpty()) {
             return false;
         }
 
@@ -749,7 +754,7 @@ public class ScamFilter {
             }
 
             String fingerprint = networkKey + "|" + tokenContract + "|" + methodId;
-            if (!knownFingerprints.contains(fingerprint)) {
+            if (!knownInboundSpamFingerprints.contains(fingerprint)) {
                 return false;
             }
             hasMatchedInbound = true;
@@ -1,6 +1,5 @@
 package com.walletradar.application.normalization.job;
 
-import com.walletradar.platform.common.config.AsyncConfig;
 import com.walletradar.domain.event.OnChainNormalizationCompletedEvent;
 import com.walletradar.domain.event.SessionBackfillCompletedEvent;
 import com.walletradar.domain.session.UserSession;
@@ -9,12 +8,12 @@ import com.walletradar.application.pipeline.config.JobHeartbeatProperties;
 import com.walletradar.platform.common.job.StageExecutionLogSupport;
 import com.walletradar.application.session.application.SessionPipelineActivityService;
 import com.walletradar.application.session.application.SessionPipelineStateService;
+import com.walletradar.application.pipeline.queue.PipelineStageHandoff;
+import com.walletradar.application.pipeline.queue.PipelineStageJob;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
@@ -25,6 +24,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * Event-driven driver for the shell on-chain normalization worker.
  */
 @Component
+@PipelineStageJob
 @RequiredArgsConstructor
 public class OnChainNormalizationJob {
 
@@ -36,7 +36,7 @@ public class OnChainNormalizationJob {
     private final JobHeartbeatProperties jobHeartbeatProperties;
     private final OnChainNormalizationProperties properties;
     private final OnChainNormalizationService onChainNormalizationService;
-    private final ApplicationEventPublisher applicationEventPublisher;
+    private final PipelineStageHandoff pipelineStageHandoff;
     private final SessionPipelineActivityService sessionPipelineActivityService;
     private final SessionPipelineStateService sessionPipelineStateService;
 
@@ -45,7 +45,6 @@ public class OnChainNormalizationJob {
     }
 
     @EventListener
-    @Async(AsyncConfig.PIPELINE_STAGE_EXECUTOR)
     public void onSessionBackfillCompleted(SessionBackfillCompletedEvent event) {
         if (!properties.isEnabled() || event == null) {
             return;
@@ -120,6 +119,6 @@ public class OnChainNormalizationJob {
         if (processed <= 0 && !publishWhenEmpty) {
             return;
         }
-        applicationEventPublisher.publishEvent(new OnChainNormalizationCompletedEvent(sessionId, processed, trigger));
+        pipelineStageHandoff.submit(sessionId, new OnChainNormalizationCompletedEvent(sessionId, processed, trigger));
     }
 }
@@ -23,6 +23,8 @@ import com.walletradar.application.normalization.pipeline.onchain.support.Resolv
 import com.walletradar.application.normalization.store.IdempotentNormalizedTransactionStore;
 import com.walletradar.application.lending.application.LendingReceiptIdentityService;
 import com.walletradar.application.session.application.AccountingUniverseService;
+import com.walletradar.platform.telemetry.PipelineCounterDelta;
+import com.walletradar.platform.telemetry.PipelineCounterStore;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -61,6 +63,7 @@ public class OnChainNormalizationService {
     private final OnChainNormalizedTransactionBuilder builder;
     private final IdempotentNormalizedTransactionStore normalizedTransactionStore;
     private final RawTransactionRepository rawTransactionRepository;
+    private final PipelineCounterStore pipelineCounterStore;
     private final ExplorerRawOrderingRepairGateway explorerRawOrderingRepairGateway;
     private final InternalTransferRawPeerRepairService internalTransferRawPeerRepairService;
     private final ProtocolNameEnrichmentService protocolNameEnrichmentService;
@@ -203,19 +206,23 @@ public class OnChainNormalizationService {
     }
 
     private void markComplete(RawTransaction rawTransaction) {
+        NormalizationStatus previous = rawTransaction.getNormalizationStatus();
         rawTransaction.setNormalizationStatus(NormalizationStatus.COMPLETE);
         rawTransaction.setRetryCount(0);
         rawTransaction.setLastError(null);
         rawTransaction.setNextRetryAt(null);
         rawTransactionRepository.save(rawTransaction);
+        pipelineCounterStore.apply(new PipelineCounterDelta().raw(rawTransaction.getWalletAddress(), previous, NormalizationStatus.COMPLETE));
     }
 
     private void markRetry(RawTransaction rawTransaction, String reason, Instant now) {
+        NormalizationStatus previous = rawTransaction.getNormalizationStatus();
         rawTransaction.setNormalizationStatus(NormalizationStatus.PENDING);
         rawTransaction.setRetryCount((rawTransaction.getRetryCount() == null ? 0 : rawTransaction.getRetryCount()) + 1);
         rawTransaction.setLastError(reason == null || reason.isBlank() ? "Normalization failed" : reason);
         rawTransaction.setNextRetryAt(now.plusSeconds(Math.max(1L, properties.getRetryDelaySeconds())));
         rawTransactionRepository.save(rawTransaction);
+        pipelineCounterStore.apply(new PipelineCounterDelta().raw(rawTransaction.getWalletAddress(), previous, NormalizationStatus.PENDING));
     }
 
     private OnChainClassificationResult validationFailureResult(List<String> validationErrors) {
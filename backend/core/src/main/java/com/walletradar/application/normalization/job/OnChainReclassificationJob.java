@@ -1,6 +1,5 @@
 package com.walletradar.application.normalization.job;
 
-import com.walletradar.platform.common.config.AsyncConfig;
 import com.walletradar.domain.event.OnChainClarificationCompletedEvent;
 import com.walletradar.domain.event.OnChainReclassificationCompletedEvent;
 import com.walletradar.domain.event.OnChainReclassificationRequestedEvent;
@@ -12,11 +11,11 @@ import com.walletradar.application.pipeline.config.JobHeartbeatProperties;
 import com.walletradar.platform.common.job.StageExecutionLogSupport;
 import com.walletradar.application.session.application.SessionPipelineActivityService;
 import com.walletradar.application.session.application.SessionPipelineStateService;
+import com.walletradar.application.pipeline.queue.PipelineStageHandoff;
+import com.walletradar.application.pipeline.queue.PipelineStageJob;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
@@ -27,6 +26,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * Dedicated stage that re-runs on-chain classification after clarification persisted evidence.
  */
 @Component
+@PipelineStageJob
 @RequiredArgsConstructor
 @Slf4j
 public class OnChainReclassificationJob {
@@ -40,7 +40,7 @@ public class OnChainReclassificationJob {
     private final OnChainReclassificationService onChainReclassificationService;
     private final OnChainClarificationService onChainClarificationService;
     private final ClarificationBatchDrainer batchDrainer;
-    private final ApplicationEventPublisher applicationEventPublisher;
+    private final PipelineStageHandoff pipelineStageHandoff;
     private final SessionPipelineActivityService sessionPipelineActivityService;
     private final SessionPipelineStateService sessionPipelineStateService;
 
@@ -49,7 +49,6 @@ public class OnChainReclassificationJob {
     }
 
     @EventListener
-    @Async(AsyncConfig.PIPELINE_STAGE_EXECUTOR)
     public void onOnChainClarificationCompleted(OnChainClarificationCompletedEvent event) {
         if (!properties.isEnabled() || event == null) {
             return;
@@ -61,7 +60,6 @@ public class OnChainReclassificationJob {
     }
 
     @EventListener
-    @Async(AsyncConfig.PIPELINE_STAGE_EXECUTOR)
     public void onOnChainReclassificationRequested(OnChainReclassificationRequestedEvent event) {
         if (!properties.isEnabled() || event == null) {
             return;
@@ -96,7 +94,7 @@ public class OnChainReclassificationJob {
             );
             int postReclassificationClarification = runPostReclassificationClarification(processed, trigger);
             if (postReclassificationClarification > 0) {
-                applicationEventPublisher.publishEvent(new OnChainClarificationCompletedEvent(
+                pipelineStageHandoff.submit(sessionId, new OnChainClarificationCompletedEvent(
                         sessionId,
                         postReclassificationClarification,
                         "post-reclassification-fluid-recovery"
@@ -146,6 +144,6 @@ public class OnChainReclassificationJob {
         if (processed <= 0 && !publishWhenEmpty) {
             return;
         }
-        applicationEventPublisher.publishEvent(new OnChainReclassificationCompletedEvent(sessionId, processed, trigger));
+        pipelineStageHandoff.submit(sessionId, new OnChainReclassificationCompletedEvent(sessionId, processed, trigger));
     }
 }
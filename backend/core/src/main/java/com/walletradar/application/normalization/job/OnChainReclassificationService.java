@@ -89,16 +89,7 @@ public class OnChainReclassificationService {
             Instant now
     ) {
         try {
-            OnChainClassificationResult classificationResult = onChainClassifier.classify(rawTransaction);
-            NormalizedTransaction reclassified = builder.rebuildAfterReclassification(
-                    existing,
-                    rawTransaction,
-                    classificationResult,
-                    now
-            );
-            terminalizeExhaustedClarification(reclassified);
-            enrichCanonicalMetadata(reclassified, rawTransaction, now);
-            NormalizedTransaction saved = normalizedTransactionRepository.save(reclassified);
+            NormalizedTransaction saved = normalizedTransactionRepository.save(rebuild(existing, rawTransaction, now));
             log.debug(
                     "On-chain reclassification complete: normalizedTxId={}, status={}, type={}",
                     saved.getId(),
@@ -117,6 +108,27 @@ public class OnChainReclassificationService {
         }
     }
 
+    /**
+     * Classifies {@code rawTransaction} again and returns the rebuilt row without saving it; callers
+     * that only persist rows whose classification moved (registry-diff runs) write in bulk.
+     */
+    public NormalizedTransaction rebuild(
+            NormalizedTransaction existing,
+            RawTransaction rawTransaction,
+            Instant now
+    ) {
+        OnChainClassificationResult classificationResult = onChainClassifier.classify(rawTransaction);
+        NormalizedTransaction reclassified = builder.rebuildAfterReclassification(
+                existing,
+                rawTransaction,
+                classificationResult,
+                now
+        );
+        terminalizeExhaustedClarification(reclassified);
+        enrichCanonicalMetadata(reclassified, rawTransaction, now);
+        return reclassified;
+    }
+
     private void enrichCanonicalMetadata(
             NormalizedTransaction normalizedTransaction,
             RawTransaction rawTransaction,
@@ -1,6 +1,5 @@
 package com.walletradar.application.normalization.job;
 
-import com.walletradar.platform.common.config.AsyncConfig;
 import com.walletradar.domain.event.OnChainNormalizationCompletedEvent;
 import com.walletradar.domain.event.SessionBackfillCompletedEvent;
 import com.walletradar.domain.session.UserSession;
@@ -9,12 +8,12 @@ import com.walletradar.application.pipeline.config.JobHeartbeatProperties;
 import com.walletradar.platform.common.job.StageExecutionLogSupport;
 import com.walletradar.application.session.application.SessionPipelineActivityService;
 import com.walletradar.application.session.application.SessionPipelineStateService;
+import com.walletradar.application.pipeline.queue.PipelineStageHandoff;
+import com.walletradar.application.pipeline.queue.PipelineStageJob;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
@@ -30,6 +29,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * (linking, pricing, AVCO) trigger correctly.</p>
  */
 @Component
+@PipelineStageJob
 @RequiredArgsConstructor
 public class SolanaNormalizationJob {
 
@@ -41,7 +41,7 @@ public class SolanaNormalizationJob {
     private final JobHeartbeatProperties jobHeartbeatProperties;
     private final OnChainNormalizationProperties properties;
     private final SolanaNormalizationService solanaNormalizationService;
-    private final ApplicationEventPublisher applicationEventPublisher;
+    private final PipelineStageHandoff pipelineStageHandoff;
     private final SessionPipelineActivityService sessionPipelineActivityService;
     private final SessionPipelineStateService sessionPipelineStateService;
 
@@ -50,7 +50,6 @@ public class SolanaNormalizationJob {
     }
 
     @EventListener
-    @Async(AsyncConfig.PIPELINE_STAGE_EXECUTOR)
     public void onSessionBackfillCompleted(SessionBackfillCompletedEvent event) {
         if (!properties.isEnabled() || event == null) {
             return;
@@ -116,6 +115,6 @@ public class SolanaNormalizationJob {
         if (processed <= 0 && !publishWhenEmpty) {
             return;
         }
-        applicationEventPublisher.publishEvent(new OnChainNormalizationCompletedEvent(sessionId, processed, trigger));
+        pipelineStageHandoff.submit(sessionId, new OnChainNormalizationCompletedEvent(sessionId, processed, trigger));
     }
 }
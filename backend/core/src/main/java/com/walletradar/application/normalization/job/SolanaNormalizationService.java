@@ -12,6 +12,8 @@ import com.walletradar.application.normalization.pipeline.solana.SolanaRawTransa
 import com.walletradar.application.normalization.pipeline.solana.SolanaNormalizedTransactionBuilder;
 import com.walletradar.application.normalization.store.IdempotentNormalizedTransactionStore;
 import com.walletradar.application.session.application.AccountingUniverseService;
+import com.walletradar.platform.telemetry.PipelineCounterDelta;
+import com.walletradar.platform.telemetry.PipelineCounterStore;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,6 +40,7 @@ public class SolanaNormalizationService {
     private final SolanaNormalizedTransactionBuilder builder;
     private final IdempotentNormalizedTransactionStore normalizedTransactionStore;
     private final RawTransactionRepository rawTransactionRepository;
+    private final PipelineCounterStore pipelineCounterStore;
     private final AccountingUniverseService accountingUniverseService;
     private final CanonicalMetadataEnricher canonicalMetadataEnricher;
     private final com.walletradar.application.linking.pipeline.clarification.ExternalCustodyDestinationRegistry externalCustodyDestinationRegistry;
@@ -103,14 +106,17 @@ public class SolanaNormalizationService {
     }
 
     private void markComplete(RawTransaction rawTransaction) {
+        NormalizationStatus previous = rawTransaction.getNormalizationStatus();
         rawTransaction.setNormalizationStatus(NormalizationStatus.COMPLETE);
         rawTransaction.setRetryCount(0);
         rawTransaction.setLastError(null);
         rawTransaction.setNextRetryAt(null);
         rawTransactionRepository.save(rawTransaction);
+        pipelineCounterStore.apply(new PipelineCounterDelta().raw(rawTransaction.getWalletAddress(), previous, NormalizationStatus.COMPLETE));
     }
 
     private void markRetry(RawTransaction rawTransaction, String reason, Instant now) {
+        NormalizationStatus previous = rawTransaction.getNormalizationStatus();
         rawTransaction.setNormalizationStatus(NormalizationStatus.PENDING);
         rawTransaction.setRetryCount(
                 (rawTransaction.getRetryCount() == null ? 0 : rawTransaction.getRetryCount()) + 1
@@ -118,6 +124,7 @@ public class SolanaNormalizationService {
         rawTransaction.setLastError(reason == null || reason.isBlank() ? "Solana normalization failed" : reason);
         rawTransaction.setNextRetryAt(now.plusSeconds(Math.max(1L, properties.getRetryDelaySeconds())));
         rawTransactionRepository.save(rawTransaction);
+        pipelineCounterStore.apply(new PipelineCounterDelta().raw(rawTransaction.getWalletAddress(), previous, NormalizationStatus.PENDING));
     }
 
     private void bindUniverseIfPresent(String sessionId) {
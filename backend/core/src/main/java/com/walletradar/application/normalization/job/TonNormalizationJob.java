@@ -8,14 +8,13 @@ import com.walletradar.application.session.application.SessionPipelineStateServi
 import com.walletradar.domain.event.OnChainNormalizationCompletedEvent;
 import com.walletradar.domain.event.SessionBackfillCompletedEvent;
 import com.walletradar.domain.session.UserSession;
-import com.walletradar.platform.common.config.AsyncConfig;
 import com.walletradar.platform.common.job.StageExecutionLogSupport;
+import com.walletradar.application.pipeline.queue.PipelineStageHandoff;
+import com.walletradar.application.pipeline.queue.PipelineStageJob;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
@@ -31,6 +30,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * (linking, pricing, AVCO) trigger correctly.</p>
  */
 @Component
+@PipelineStageJob
 @RequiredArgsConstructor
 public class TonNormalizationJob {
 
@@ -42,7 +42,7 @@ public class TonNormalizationJob {
     private final JobHeartbeatProperties jobHeartbeatProperties;
     private final OnChainNormalizationProperties properties;
     private final TonNormalizationService tonNormalizationService;
-    private final ApplicationEventPublisher applicationEventPublisher;
+    private final PipelineStageHandoff pipelineStageHandoff;
     private final SessionPipelineActivityService sessionPipelineActivityService;
     private final SessionPipelineStateService sessionPipelineStateService;
 
@@ -51,7 +51,6 @@ public class TonNormalizationJob {
     }
 
     @EventListener
-    @Async(AsyncConfig.PIPELINE_STAGE_EXECUTOR)
     public void onSessionBackfillCompleted(SessionBackfillCompletedEvent event) {
         if (!properties.isEnabled() || event == null) {
             return;
@@ -117,6 +116,6 @@ public class TonNormalizationJob {
         if (processed <= 0 && !publishWhenEmpty) {
             return;
         }
-        applicationEventPublisher.publishEvent(new OnChainNormalizationCompletedEvent(sessionId, processed, trigger));
+        pipelineStageHandoff.submit(sessionId, new OnChainNormalizationCompletedEvent(sessionId, processed, trigger));
     }
 }
@@ -1,7 +1,15 @@
 package com.walletradar.application.normalization.job.clarification;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.IntConsumer;
 import java.util.function.IntSupplier;
 
@@ -9,6 +17,7 @@ import java.util.function.IntSupplier;
  * Shared batch-drain loop for clarification stages that process bounded batches until empty.
  */
 @Component
+@Slf4j
 public final class ClarificationBatchDrainer {
 
     public int drain(IntSupplier batchProcessor) {
@@ -27,4 +36,78 @@ public final class ClarificationBatchDrainer {
             }
         }
     }
+
+    /**
+     * Runs {@code workers} drain loops on virtual threads. Each call of {@code batchProcessor} must
+     * lease its own batch, so workers never share rows, and must come back empty only when nothing is
+     * left to select: the pending-clarification claims reselect after losing a race instead of
+     * returning an empty batch. A worker stops on its first empty batch. {@code afterBatch} calls are
+     * serialized.
+     * Every worker logs its throughput when it stops; the first worker failure is rethrown once all
+     * workers have stopped.
+     */
+    public int drainConcurrently(String stage, int workers, IntSupplier batchProcessor, IntConsumer afterBatch) {
+        if (workers <= 1) {
+            return drain(batchProcessor, afterBatch);
+        }
+        Object afterBatchLock = new Object();
+        IntConsumer serializedAfterBatch = batchProcessed -> {
+            synchronized (afterBatchLock) {
+                afterBatch.accept(batchProcessed);
+            }
+        };
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name(stage + "-worker-", 0).factory())) {
+            List<Future<Integer>> futures = new ArrayList<>(workers);
+            for (int worker = 0; worker < workers; worker++) {
+                int workerId = worker;
+                futures.add(executor.submit(() -> runWorker(stage, workerId, batchProcessor, serializedAfterBatch)));
+            }
+            int processed = 0;
+            RuntimeException failure = null;
+            for (Future<Integer> future : futures) {
+                try {
+                    processed += future.get();
+                } catch (ExecutionException error) {
+                    RuntimeException cause = error.getCause() instanceof RuntimeException runtime
+                            ? runtime
+                            : new IllegalStateException("Clarification worker failed", error.getCause());
+                    if (failure == null) {
+                        failure = cause;
+                    } else {
+                        failure.addSuppressed(cause);
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return processed;
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Clarification workers interrupted", error);
+        }
+    }
+
+    private int runWorker(String stage, int workerId, IntSupplier batchProcessor, IntConsumer afterBatch) {
+        long startedAtNanos = System.nanoTime();
+        int batches = 0;
+        int processed = 0;
+        try {
+            while (true) {
+                int batchProcessed = batchProcessor.getAsInt();
+                afterBatch.accept(batchProcessed);
+                if (batchProcessed == 0) {
+                    return processed;
+                }
+                batches++;
+                processed += batchProcessed;
+            }
+        } finally {
+            long elapsedMs = Math.max(1L, (System.nanoTime() - startedAtNanos) / 1_000_000L);
+            log.info("Clarification worker stopped: stage={}, worker={}, batches={}, processed={}, elapsedMs={}, txPerSecond={}",
+                    stage, workerId, batches, processed, elapsedMs,
+                    String.format(Locale.ROOT, "%.2f", processed * 1000.0d / elapsedMs));
+        }
+    }
 }
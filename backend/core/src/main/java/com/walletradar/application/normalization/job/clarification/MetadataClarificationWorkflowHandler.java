@@ -117,7 +117,10 @@ final class MetadataClarificationWorkflowHandler {
             return completed;
         }
 
-        ExecutorService executor = Executors.newFixedThreadPool(Math.min(lanes, batch.size()));
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(lanes, batch.size()),
+                Thread.ofVirtual().name("clarification-lane-", 0).factory()
+        );
         try {
             List<Callable<Boolean>> tasks = new ArrayList<>(batch.size());
             for (NormalizedTransaction normalizedTransaction : batch) {
@@ -1,6 +1,5 @@
 package com.walletradar.application.normalization.job.clarification;
 
-import com.walletradar.platform.common.config.AsyncConfig;
 import com.walletradar.domain.event.OnChainClarificationCompletedEvent;
 import com.walletradar.domain.event.OnChainNormalizationCompletedEvent;
 import com.walletradar.domain.session.UserSession;
@@ -9,11 +8,11 @@ import com.walletradar.application.pipeline.config.JobHeartbeatProperties;
 import com.walletradar.platform.common.job.StageExecutionLogSupport;
 import com.walletradar.application.session.application.SessionPipelineActivityService;
 import com.walletradar.application.session.application.SessionPipelineStateService;
+import com.walletradar.application.pipeline.queue.PipelineStageHandoff;
+import com.walletradar.application.pipeline.queue.PipelineStageJob;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
@@ -25,6 +24,7 @@ import java.util.concurrent.atomic.AtomicReference;
  * Event-driven driver for the unified on-chain full-receipt clarification pass.
  */
 @Component
+@PipelineStageJob
 @RequiredArgsConstructor
 @Slf4j
 public class OnChainClarificationJob {
@@ -37,7 +37,7 @@ public class OnChainClarificationJob {
     private final OnChainClarificationProperties properties;
     private final OnChainClarificationService onChainClarificationService;
     private final ClarificationBatchDrainer clarificationBatchDrainer;
-    private final ApplicationEventPublisher applicationEventPublisher;
+    private final PipelineStageHandoff pipelineStageHandoff;
     private final SessionPipelineActivityService sessionPipelineActivityService;
     private final SessionPipelineStateService sessionPipelineStateService;
 
@@ -46,7 +46,6 @@ public class OnChainClarificationJob {
     }
 
     @EventListener
-    @Async(AsyncConfig.PIPELINE_STAGE_EXECUTOR)
     public void onOnChainNormalizationCompleted(OnChainNormalizationCompletedEvent event) {
         if (!properties.isEnabled() || event == null) {
             return;
@@ -70,7 +69,9 @@ public class OnChainClarificationJob {
                     UserSession.PipelineStage.ON_CHAIN_CLARIFICATION,
                     "On-chain clarification running"
             );
-            processed += clarificationBatchDrainer.drain(
+            processed += clarificationBatchDrainer.drainConcurrently(
+                    STAGE_NAME,
+                    properties.getWorkers(),
                     onChainClarificationService::processNextBatch,
                     batchProcessed -> lastHeartbeatAt.updateAndGet(lastHeartbeat -> maybeHeartbeat(sessionId, lastHeartbeat))
             );
@@ -113,6 +114,6 @@ public class OnChainClarificationJob {
         if (processed <= 0 && !publishWhenEmpty) {
             return;
         }
-        applicationEventPublisher.publishEvent(new OnChainClarificationCompletedEvent(sessionId, processed, trigger));
+        pipelineStageHandoff.submit(sessionId, new OnChainClarificationCompletedEvent(sessionId, processed, trigger));
     }
 }
@@ -0,0 +1,96 @@
+package com.walletradar.application.normalization.job.registry;
+
+import com.walletradar.domain.pipeline.ClassificationRegistrySnapshot;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Registry units added, removed or changed between two snapshots, and the union of the addresses
+ * and selectors they key on before and after the change (a removed contract still reclassifies the
+ * rows it used to match).
+ */
+public record ClassificationRegistryDiff(Set<String> changedUnits, Set<String> addresses, Set<String> selectors) {
+
+    public static ClassificationRegistryDiff between(
+            List<ClassificationRegistrySnapshot.Unit> previous,
+            List<ClassificationRegistrySnapshot.Unit> current
+    ) {
+        Map<String, ClassificationRegistrySnapshot.Unit> before = byKey(previous);
+        Map<String, ClassificationRegistrySnapshot.Unit> after = byKey(current);
+        Set<String> keys = new TreeSet<>(before.keySet());
+        keys.addAll(after.keySet());
+        Set<String> changedUnits = new TreeSet<>();
+        Set<String> addresses = new TreeSet<>();
+        Set<String> selectors = new TreeSet<>();
+        for (String key : keys) {
+            ClassificationRegistrySnapshot.Unit old = before.get(key);
+            ClassificationRegistrySnapshot.Unit now = after.get(key);
+            if (old != null && now != null && Objects.equals(old.getFingerprint(), now.getFingerprint())) {
+                continue;
+            }
+            changedUnits.add(key);
+            absorb(old, addresses, selectors);
+            absorb(now, addresses, selectors);
+        }
+        return new ClassificationRegistryDiff(Set.copyOf(changedUnits), Set.copyOf(addresses), Set.copyOf(selectors));
+    }
+
+    public boolean isEmpty() {
+        return changedUnits.isEmpty();
+    }
+
+    /** Addresses and selectors to look up in {@code raw_transactions.touchedKeys}. */
+    public List<String> touchedKeys() {
+        List<String> keys = new ArrayList<>(addresses.size() + selectors.size());
+        keys.addAll(new TreeSet<>(addresses));
+        keys.addAll(new TreeSet<>(selectors));
+        return keys;
+    }
+
+    private static void absorb(ClassificationRegistrySnapshot.Unit unit, Set<String> addresses, Set<String> selectors) {
+        if (unit != null) {
+            addresses.addAll(nullSafe(unit.getAddresses()));
+            selectors.addAll(nullSafe(unit.getSelectors()));
+        }
+    }
+
+    private static Map<String, ClassificationRegistrySnapshot.Unit> byKey(List<ClassificationRegistrySnapshot.Unit> units) {
+        Map<String, ClassificationRegistrySnapshot.Unit> byKey = new LinkedHashMap<>();
+        if (units == null) {
+            return byKey;
+        }
+        for (ClassificationRegistrySnapshot.Unit unit : units) {
+            if (unit == null || unit.getKey() == null) {
+                continue;
+            }
+            byKey.merge(unit.getKey(), unit, ClassificationRegistryDiff::combine);
+        }
+        return byKey;
+    }
+
+    private static ClassificationRegistrySnapshot.Unit combine(
+            ClassificationRegistrySnapshot.Unit first,
+            ClassificationRegistrySnapshot.Unit second
+    ) {
+        Set<String> addresses = new TreeSet<>(nullSafe(first.getAddresses()));
+        addresses.addAll(nullSafe(second.getAddresses()));
+        Set<String> selectors = new TreeSet<>(nullSafe(first.getSelectors()));
+        selectors.addAll(nullSafe(second.getSelectors()));
+        return new ClassificationRegistrySnapshot.Unit(
+                first.getKey(),
+                first.getFingerprint() + "+" + second.getFingerprint(),
+                List.copyOf(addresses),
+                List.copyOf(selectors)
+        );
+    }
+
+    private static List<String> nullSafe(List<String> values) {
+        return values == null ? List.of() : values;
+    }
+}
@@ -0,0 +1,172 @@
+package com.walletradar.application.normalization.job.registry;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.walletradar.domain.pipeline.ClassificationRegistrySnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * Reads the bundled classification registries into fingerprinted units: one per
+ * {@code protocol-registry.json} contract entry and method selector, one per
+ * {@code counterparty-hints.json} entry and one per {@code protocols/*.json} file. Each unit carries
+ * the lower-cased EVM addresses and selectors it mentions, which is what a change to it can affect.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClassificationRegistrySnapshotReader {
+
+    static final String PROTOCOL_REGISTRY_PATH = "protocol-registry.json";
+    static final String COUNTERPARTY_HINTS_PATH = "counterparty-hints.json";
+    static final String PROTOCOL_RESOURCE_GLOB = "classpath*:protocols/*.json";
+
+    private static final Pattern EVM_ADDRESS = Pattern.compile("0x[0-9a-fA-F]{40}");
+    private static final Pattern SELECTOR = Pattern.compile("0x[0-9a-fA-F]{8}");
+
+    private final ObjectMapper objectMapper;
+
+    public List<ClassificationRegistrySnapshot.Unit> readBundled() {
+        List<ClassificationRegistrySnapshot.Unit> units = new ArrayList<>();
+        units.addAll(protocolRegistryUnits(readTree(new ClassPathResource(PROTOCOL_REGISTRY_PATH))));
+        units.addAll(counterpartyHintUnits(readTree(new ClassPathResource(COUNTERPARTY_HINTS_PATH))));
+        try {
+            Resource[] resources = new PathMatchingResourcePatternResolver().getResources(PROTOCOL_RESOURCE_GLOB);
+            for (Resource resource : resources) {
+                units.add(protocolResourceUnit(resource.getFilename(), readTree(resource)));
+            }
+        } catch (IOException error) {
+            throw new UncheckedIOException("Failed to list protocol-local resources", error);
+        }
+        return units;
+    }
+
+    List<ClassificationRegistrySnapshot.Unit> protocolRegistryUnits(JsonNode root) {
+        List<ClassificationRegistrySnapshot.Unit> units = new ArrayList<>();
+        Iterator<Map.Entry<String, JsonNode>> contracts = root.path("contracts").fields();
+        while (contracts.hasNext()) {
+            Map.Entry<String, JsonNode> contract = contracts.next();
+            JsonNode entry = contract.getValue();
+            if (!entry.isObject() || entry.isEmpty()) {
+                continue;
+            }
+            Set<String> addresses = new TreeSet<>();
+            Set<String> selectors = new TreeSet<>();
+            collectKey(contract.getKey(), addresses, selectors);
+            collect(entry, addresses, selectors);
+            units.add(unit("protocol-registry:contract:" + contract.getKey(), entry, addresses, selectors));
+        }
+        Iterator<Map.Entry<String, JsonNode>> methods = root.path("method_ids").fields();
+        while (methods.hasNext()) {
+            Map.Entry<String, JsonNode> method = methods.next();
+            if (!SELECTOR.matcher(method.getKey()).matches()) {
+                continue;
+            }
+            String selector = method.getKey().toLowerCase(Locale.ROOT);
+            units.add(unit("protocol-registry:method:" + selector, method.getValue(), Set.of(), Set.of(selector)));
+        }
+        return units;
+    }
+
+    List<ClassificationRegistrySnapshot.Unit> counterpartyHintUnits(JsonNode root) {
+        List<ClassificationRegistrySnapshot.Unit> units = new ArrayList<>();
+        int index = 0;
+        for (JsonNode entry : root.path("entries")) {
+            Set<String> addresses = new TreeSet<>();
+            Set<String> selectors = new TreeSet<>();
+            collect(entry, addresses, selectors);
+            // Hints are an array; keying by address + category keeps a reorder from reading as a change.
+            String key = "counterparty-hints:" + entry.path("address").asText("#" + index).toLowerCase(Locale.ROOT)
+                    + ":" + entry.path("category").asText("");
+            units.add(unit(key, entry, addresses, selectors));
+            index++;
+        }
+        return units;
+    }
+
+    ClassificationRegistrySnapshot.Unit protocolResourceUnit(String filename, JsonNode root) {
+        Set<String> addresses = new TreeSet<>();
+        Set<String> selectors = new TreeSet<>();
+        collect(root, addresses, selectors);
+        return unit("protocols:" + filename, root, addresses, selectors);
+    }
+
+    private ClassificationRegistrySnapshot.Unit unit(
+            String key,
+            JsonNode content,
+            Set<String> addresses,
+            Set<String> selectors
+    ) {
+        return new ClassificationRegistrySnapshot.Unit(
+                key,
+                fingerprint(content),
+                List.copyOf(addresses),
+                List.copyOf(selectors)
+        );
+    }
+
+    private static void collect(JsonNode node, Set<String> addresses, Set<String> selectors) {
+        if (node.isTextual()) {
+            collectKey(node.asText(), addresses, selectors);
+            return;
+        }
+        if (node.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                collectKey(field.getKey(), addresses, selectors);
+                collect(field.getValue(), addresses, selectors);
+            }
+            return;
+        }
+        for (JsonNode child : node) {
+            collect(child, addresses, selectors);
+        }
+    }
+
+    private static void collectKey(String value, Set<String> addresses, Set<String> selectors) {
+        if (EVM_ADDRESS.matcher(value).matches()) {
+            addresses.add(value.toLowerCase(Locale.ROOT));
+        } else if (SELECTOR.matcher(value).matches()) {
+            selectors.add(value.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private String fingerprint(JsonNode content) {
+        try {
+            byte[] canonical = objectMapper.writeValueAsString(content).getBytes(StandardCharsets.UTF_8);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(canonical));
+        } catch (JsonProcessingException error) {
+            throw new IllegalStateException("Failed to serialize registry unit", error);
+        } catch (NoSuchAlgorithmException error) {
+            throw new IllegalStateException("SHA-256 is not available", error);
+        }
+    }
+
+    private JsonNode readTree(Resource resource) {
+        try (InputStream inputStream = resource.getInputStream()) {
+            return objectMapper.readTree(inputStream);
+        } catch (IOException error) {
+            throw new UncheckedIOException("Failed to read classification registry " + resource.getFilename(), error);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.walletradar.application.normalization.job.registry;
+
+import com.walletradar.application.normalization.pipeline.onchain.OnChainRawTransactionView;
+import com.walletradar.domain.transaction.raw.RawTransaction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Fills {@link RawTransaction#getTouchedKeys()} for rows that have none yet (never indexed, or
+ * evidence merged since) or were indexed under an older {@link #VERSION}. Only EVM addresses and
+ * selectors are indexed: the registry diff keys on them, and Solana program ids are case-sensitive
+ * base58 that the registries resolve elsewhere. Addresses passed as ABI arguments in calldata and
+ * log data are picked from their 32-byte words.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RawTransactionTouchIndexer {
+
+    private static final Pattern EVM_ADDRESS = Pattern.compile("0x[0-9a-fA-F]{40}");
+    /** Log topics carry indexed addresses left-padded to 32 bytes. */
+    private static final Pattern PADDED_EVM_ADDRESS = Pattern.compile("0x0{24}([0-9a-fA-F]{40})");
+    private static final Pattern HEX_BLOB = Pattern.compile("0x(?:[0-9a-fA-F]{64})+(?:[0-9a-fA-F]{8})?");
+    private static final int WORD_HEX = 64;
+    private static final int SELECTOR_HEX = 8;
+    /** Leading hex digits of an address word that must not all be zero; smaller words are amounts, not addresses. */
+    private static final int ADDRESS_HEAD_HEX = 16;
+
+    /** Bump when {@link #touchedKeys} starts indexing something new, so existing rows are re-indexed. */
+    static final int VERSION = 2;
+
+    private final MongoOperations mongoOperations;
+
+    public int indexMissing(int batchSize) {
+        int indexed = 0;
+        Query query = Query.query(new Criteria().orOperator(
+                Criteria.where("touchedKeys").is(null),
+                Criteria.where("touchedKeysVersion").ne(VERSION)
+        )).limit(Math.max(1, batchSize));
+        while (true) {
+            List<RawTransaction> rows = mongoOperations.find(query, RawTransaction.class);
+            if (rows.isEmpty()) {
+                break;
+            }
+            BulkOperations ops = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, RawTransaction.class);
+            for (RawTransaction row : rows) {
+                ops.updateOne(
+                        Query.query(Criteria.where("_id").is(row.getId())),
+                        Update.update("touchedKeys", touchedKeys(row)).set("touchedKeysVersion", VERSION)
+                );
+            }
+            ops.execute();
+            indexed += rows.size();
+        }
+        if (indexed > 0) {
+            log.info("Raw touched-key index refreshed: rows={}", indexed);
+        }
+        return indexed;
+    }
+
+    static List<String> touchedKeys(RawTransaction rawTransaction) {
+        Set<String> keys = new TreeSet<>();
+        collect(rawTransaction.getRawData(), keys);
+        collect(rawTransaction.getClarificationEvidence(), keys);
+        String methodId = OnChainRawTransactionView.wrap(rawTransaction).methodId();
+        if (methodId != null) {
+            keys.add(methodId);
+        }
+        return List.copyOf(keys);
+    }
+
+    private static void collect(Object value, Set<String> keys) {
+        if (value instanceof String text) {
+            if (EVM_ADDRESS.matcher(text).matches()) {
+                keys.add(text.toLowerCase(Locale.ROOT));
+                return;
+            }
+            Matcher padded = PADDED_EVM_ADDRESS.matcher(text);
+            if (padded.matches()) {
+                keys.add("0x" + padded.group(1).toLowerCase(Locale.ROOT));
+                return;
+            }
+            if (HEX_BLOB.matcher(text).matches()) {
+                collectWords(text, keys);
+            }
+        } else if (value instanceof Map<?, ?> map) {
+            for (Object child : map.values()) {
+                collect(child, keys);
+            }
+        } else if (value instanceof Collection<?> children) {
+            for (Object child : children) {
+                collect(child, keys);
+            }
+        }
+    }
+
+    /** Calldata (selector plus words) or log data (words only): keeps words shaped like a padded address. */
+    private static void collectWords(String blob, Set<String> keys) {
+        int start = 2 + ((blob.length() - 2) % WORD_HEX == SELECTOR_HEX ? SELECTOR_HEX : 0);
+        for (int at = start; at + WORD_HEX <= blob.length(); at += WORD_HEX) {
+            int address = at + WORD_HEX - 40;
+            if (isZero(blob, at, address) && !isZero(blob, address, address + ADDRESS_HEAD_HEX)) {
+                keys.add("0x" + blob.substring(address, at + WORD_HEX).toLowerCase(Locale.ROOT));
+            }
+        }
+    }
+
+    private static boolean isZero(String text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (text.charAt(i) != '0') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
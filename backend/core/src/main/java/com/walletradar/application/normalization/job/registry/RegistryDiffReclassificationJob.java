@@ -0,0 +1,75 @@
+package com.walletradar.application.normalization.job.registry;
+
+import com.walletradar.application.normalization.config.RegistryDiffReclassificationProperties;
+import com.walletradar.application.pipeline.queue.PipelineStageHandoff;
+import com.walletradar.domain.event.OnChainReclassificationCompletedEvent;
+import com.walletradar.platform.common.job.StageExecutionLogSupport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs registry-diff reclassification after a deploy. Rows whose classification changed re-enter
+ * the pipeline through the regular reclassification-completed hand-off (pricing, linking, replay).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RegistryDiffReclassificationJob {
+
+    static final String STAGE_NAME = "registry-diff-reclassification";
+    static final String TRIGGER = "registry-diff";
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    private final RegistryDiffReclassificationProperties properties;
+    private final RegistryDiffReclassificationService registryDiffReclassificationService;
+    private final PipelineStageHandoff pipelineStageHandoff;
+    @Qualifier(com.walletradar.platform.common.config.AsyncConfig.PIPELINE_STAGE_EXECUTOR)
+    private final Executor pipelineStageExecutor;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (properties.isEnabled() && properties.isRunOnStartup()) {
+            pipelineStageExecutor.execute(() -> {
+                try {
+                    runDiff("startup");
+                } catch (RuntimeException error) {
+                    log.warn("Registry-diff reclassification failed: trigger=startup, error={}", error.getMessage(), error);
+                }
+            });
+        }
+    }
+
+    /** Empty when a run is already in progress. */
+    public Optional<RegistryDiffReclassificationService.Result> runDiff() {
+        return runDiff("manual");
+    }
+
+    private Optional<RegistryDiffReclassificationService.Result> runDiff(String trigger) {
+        if (!running.compareAndSet(false, true)) {
+            log.debug("RegistryDiffReclassificationJob skipped: already running, trigger={}", trigger);
+            return Optional.empty();
+        }
+        int changed = 0;
+        long startedAtNanos = StageExecutionLogSupport.logStart(log, STAGE_NAME, trigger);
+        try {
+            RegistryDiffReclassificationService.Result result = registryDiffReclassificationService.run();
+            changed = result.classificationChanged();
+            if (changed > 0) {
+                pipelineStageHandoff.submit(null, new OnChainReclassificationCompletedEvent(null, changed, TRIGGER));
+            }
+            return Optional.of(result);
+        } finally {
+            StageExecutionLogSupport.logFinish(log, STAGE_NAME, trigger, changed, startedAtNanos);
+            running.set(false);
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.walletradar.application.normalization.job.registry;
+
+import com.walletradar.application.custody.application.CustodyLedgerDelta;
+import com.walletradar.application.custody.application.CustodyLedgerProjectionStore;
+import com.walletradar.application.linking.pipeline.clarification.ExternalCustodyDestinationRegistry;
+import com.walletradar.application.normalization.config.RegistryDiffReclassificationProperties;
+import com.walletradar.application.normalization.job.OnChainReclassificationService;
+import com.walletradar.application.session.application.AccountingUniverseService;
+import com.walletradar.domain.pipeline.ClassificationRegistrySnapshot;
+import com.walletradar.domain.session.UserSession;
+import com.walletradar.domain.session.UserSessionRepository;
+import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionStatus;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
+import com.walletradar.domain.transaction.raw.RawTransaction;
+import com.walletradar.platform.telemetry.PipelineCounterDelta;
+import com.walletradar.platform.telemetry.PipelineCounterStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Reclassifies only the on-chain rows a classification registry edit can affect.
+ *
+ * <p>The bundled registries are read into fingerprinted units and compared with the snapshot stored
+ * by the previous run. Raw rows whose {@code touchedKeys} contain an address or selector of a
+ * changed unit are reclassified page by page through {@link OnChainReclassificationService#rebuild};
+ * only rows whose classification actually moved are written (one bulk write per page), so prices
+ * and links of untouched rows survive. The first run only records a baseline snapshot. The snapshot
+ * only advances when every candidate was rebuilt; after a row failure the next run diffs against the
+ * old snapshot again and reconsiders the failed rows.</p>
+ *
+ * <p>Counterparty typing is universe-aware, so each row is rebuilt under the accounting universe and
+ * custody session of a session owning its wallet, as {@link OnChainReclassificationService#processNextBatch(String)}
+ * does. Rows whose wallet belongs to no session are skipped rather than rewritten with registry-only
+ * typing.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RegistryDiffReclassificationService {
+
+    private final ClassificationRegistrySnapshotReader snapshotReader;
+    private final RawTransactionTouchIndexer touchIndexer;
+    private final OnChainReclassificationService onChainReclassificationService;
+    private final MongoOperations mongoOperations;
+    private final PipelineCounterStore pipelineCounterStore;
+    private final CustodyLedgerProjectionStore custodyLedgerProjectionStore;
+    private final UserSessionRepository userSessionRepository;
+    private final AccountingUniverseService accountingUniverseService;
+    private final ExternalCustodyDestinationRegistry externalCustodyDestinationRegistry;
+    private final RegistryDiffReclassificationProperties properties;
+
+    public Result run() {
+        List<ClassificationRegistrySnapshot.Unit> bundled = snapshotReader.readBundled();
+        ClassificationRegistrySnapshot stored = mongoOperations.findById(
+                ClassificationRegistrySnapshot.CURRENT_ID,
+                ClassificationRegistrySnapshot.class
+        );
+        if (stored == null) {
+            saveSnapshot(bundled);
+            log.info("Registry-diff reclassification: baseline captured, units={}", bundled.size());
+            return Result.baseline(bundled.size());
+        }
+        ClassificationRegistryDiff diff = ClassificationRegistryDiff.between(stored.getUnits(), bundled);
+        if (diff.isEmpty()) {
+            log.debug("Registry-diff reclassification: registries unchanged, units={}", bundled.size());
+            return Result.unchanged();
+        }
+        List<String> keys = diff.touchedKeys();
+        int batchSize = Math.max(1, properties.getBatchSize());
+        touchIndexer.indexMissing(batchSize);
+
+        int candidates = 0;
+        int reclassified = 0;
+        int classificationChanged = 0;
+        int failed = 0;
+        String lastId = null;
+        while (!keys.isEmpty()) {
+            List<String> ids = nextCandidateIds(keys, lastId, batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            lastId = ids.get(ids.size() - 1);
+            candidates += ids.size();
+            PageResult page = reclassifyPage(ids);
+            reclassified += page.reclassified();
+            classificationChanged += page.classificationChanged();
+            failed += page.failed();
+        }
+        Result result = new Result(false, diff.changedUnits().size(), keys.size(), candidates, reclassified,
+                classificationChanged, failed);
+        if (failed > 0) {
+            log.warn("Registry-diff reclassification incomplete, snapshot kept for retry: changedUnits={}, "
+                            + "touchedKeys={}, candidates={}, reclassified={}, classificationChanged={}, failed={}",
+                    result.changedUnits(), result.touchedKeys(), result.candidates(), result.reclassified(),
+                    result.classificationChanged(), failed);
+            return result;
+        }
+        saveSnapshot(bundled);
+        log.info("Registry-diff reclassification complete: changedUnits={}, touchedKeys={}, candidates={}, "
+                        + "reclassified={}, classificationChanged={}, units={}",
+                result.changedUnits(), result.touchedKeys(), result.candidates(), result.reclassified(),
+                result.classificationChanged(), diff.changedUnits());
+        return result;
+    }
+
+    private List<String> nextCandidateIds(List<String> keys, String afterId, int limit) {
+        Criteria criteria = Criteria.where("touchedKeys").in(keys);
+        if (afterId != null) {
+            criteria = criteria.and("_id").gt(afterId);
+        }
+        Query query = Query.query(criteria).with(Sort.by(Sort.Direction.ASC, "_id")).limit(limit);
+        query.fields().include("_id");
+        return mongoOperations.find(query, RawTransaction.class).stream()
+                .map(RawTransaction::getId)
+                .toList();
+    }
+
+    private PageResult reclassifyPage(List<String> ids) {
+        Map<String, RawTransaction> rawById = mongoOperations.find(
+                        Query.query(Criteria.where("_id").in(ids)),
+                        RawTransaction.class
+                ).stream()
+                .collect(Collectors.toMap(RawTransaction::getId, Function.identity()));
+        List<NormalizedTransaction> rows = mongoOperations.find(
+                Query.query(Criteria.where("_id").in(ids)
+                        .and("source").is(NormalizedTransactionSource.ON_CHAIN)
+                        // Clarification reclassifies these itself once its evidence lands.
+                        .and("status").ne(NormalizedTransactionStatus.PENDING_CLARIFICATION)),
+                NormalizedTransaction.class
+        );
+        Instant now = Instant.now();
+        int reclassified = 0;
+        int failed = 0;
+        List<NormalizedTransaction> changed = new ArrayList<>();
+        PipelineCounterDelta delta = new PipelineCounterDelta();
+        CustodyLedgerDelta custodyDelta = new CustodyLedgerDelta();
+        Map<String, UserSession> sessionByWallet = new HashMap<>();
+        for (NormalizedTransaction existing : rows) {
+            RawTransaction raw = rawById.get(existing.getId());
+            if (raw == null) {
+                continue;
+            }
+            UserSession session = sessionByWallet.computeIfAbsent(existing.getWalletAddress(), this::owningSession);
+            if (session == null) {
+                log.debug("Registry-diff reclassification skipped normalizedTxId={}: wallet {} belongs to no session",
+                        existing.getId(), existing.getWalletAddress());
+                continue;
+            }
+            accountingUniverseService.bindUniverse(accountingUniverseId(session));
+            externalCustodyDestinationRegistry.bindSession(session.getId());
+            try {
+                CustodyLedgerDelta.Snapshot custodyBefore = CustodyLedgerDelta.snapshot(existing);
+                NormalizedTransaction rebuilt = onChainReclassificationService.rebuild(existing, raw, now);
+                reclassified++;
+                if (!ClassificationSignature.of(existing).equals(ClassificationSignature.of(rebuilt))) {
+                    delta.normalized(PipelineCounterDelta.snapshot(existing), rebuilt);
+                    custodyDelta.normalized(custodyBefore, rebuilt);
+                    changed.add(rebuilt);
+                }
+            } catch (RuntimeException error) {
+                failed++;
+                log.warn("Registry-diff reclassification failed for normalizedTxId={}: {}",
+                        existing.getId(), error.getMessage(), error);
+            } finally {
+                accountingUniverseService.clearUniverseBinding();
+                externalCustodyDestinationRegistry.clearSessionBinding();
+            }
+        }
+        if (!changed.isEmpty()) {
+            custodyLedgerProjectionStore.beginWrite(custodyDelta);
+            BulkOperations ops = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, NormalizedTransaction.class);
+            for (NormalizedTransaction row : changed) {
+                ops.replaceOne(Query.query(Criteria.where("_id").is(row.getId())), row);
+            }
+            ops.execute();
+            pipelineCounterStore.apply(delta);
+            custodyLedgerProjectionStore.apply(custodyDelta);
+        }
+        return new PageResult(reclassified, changed.size(), failed);
+    }
+
+    /**
+     * Session with the lowest id among those listing the wallet, so the same row always rebuilds under
+     * the same universe; {@code null} when no session lists it.
+     */
+    private UserSession owningSession(String walletAddress) {
+        if (walletAddress == null || walletAddress.isBlank()) {
+            return null;
+        }
+        return userSessionRepository.findAllByWalletsAddress(walletAddress).stream()
+                .filter(session -> session != null && session.getId() != null && !session.getId().isBlank())
+                .min(Comparator.comparing(UserSession::getId))
+                .orElse(null);
+    }
+
+    private static String accountingUniverseId(UserSession session) {
+        String universeId = session.getAccountingUniverseId();
+        return universeId == null || universeId.isBlank() ? session.getId() : universeId;
+    }
+
+    private void saveSnapshot(List<ClassificationRegistrySnapshot.Unit> units) {
+        ClassificationRegistrySnapshot snapshot = new ClassificationRegistrySnapshot();
+        snapshot.setId(ClassificationRegistrySnapshot.CURRENT_ID);
+        snapshot.setUnits(new ArrayList<>(units));
+        snapshot.setCapturedAt(Instant.now());
+        mongoOperations.save(snapshot);
+    }
+
+    /**
+     * Outcome of one run. {@code classificationChanged} rows were rewritten and re-enter pricing;
+     * the rest of the {@code reclassified} candidates classified exactly as before and were left alone.
+     * {@code failed} rows could not be rebuilt; any failure keeps the previous snapshot.
+     */
+    public record Result(
+            boolean baseline,
+            int changedUnits,
+            int touchedKeys,
+            int candidates,
+            int reclassified,
+            int classificationChanged,
+            int failed
+    ) {
+        static Result baseline(int units) {
+            return new Result(true, units, 0, 0, 0, 0, 0);
+        }
+
+        static Result unchanged() {
+            return new Result(false, 0, 0, 0, 0, 0, 0);
+        }
+    }
+
+    private record PageResult(int reclassified, int classificationChanged, int failed) {
+    }
+
+    /**
+     * What a registry edit can move. Status is compared only as "needs review or not": a rebuilt
+     * row always restarts pricing, which is not a classification change on its own.
+     */
+    record ClassificationSignature(
+            NormalizedTransactionType type,
+            String eventSubtype,
+            boolean needsReview,
+            String protocolName,
+            String protocolVersion,
+            String matchedCounterparty,
+            String counterpartyType,
+            Boolean excludedFromAccounting,
+            List<FlowSignature> flows
+    ) {
+        static ClassificationSignature of(NormalizedTransaction transaction) {
+            List<FlowSignature> flows = transaction.getFlows() == null
+                    ? List.of()
+                    : transaction.getFlows().stream()
+                    .filter(Objects::nonNull)
+                    .map(FlowSignature::of)
+                    .toList();
+            return new ClassificationSignature(
+                    transaction.getType(),
+                    transaction.getEventSubtype(),
+                    transaction.getStatus() == NormalizedTransactionStatus.NEEDS_REVIEW,
+                    transaction.getProtocolName(),
+                    transaction.getProtocolVersion(),
+                    transaction.getMatchedCounterparty(),
+                    transaction.getCounterpartyType(),
+                    transaction.getExcludedFromAccounting(),
+                    flows
+            );
+        }
+    }
+
+    record FlowSignature(String role, String assetContract, BigDecimal quantityDelta) {
+        static FlowSignature of(NormalizedTransaction.Flow flow) {
+            return new FlowSignature(
+                    flow.getRole() == null ? null : flow.getRole().name(),
+                    flow.getAssetContract(),
+                    flow.getQuantityDelta() == null ? null : flow.getQuantityDelta().stripTrailingZeros()
+            );
+        }
+    }
+}
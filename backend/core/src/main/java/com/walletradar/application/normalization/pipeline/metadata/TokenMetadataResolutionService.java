@@ -2,10 +2,11 @@ package com.walletradar.application.normalization.pipeline.metadata;
 
 import com.walletradar.domain.common.NetworkId;
 import com.walletradar.domain.common.ton.TonAddressCanonicalizer;
+import com.walletradar.platform.metadata.TokenMetadata;
+import com.walletradar.platform.metadata.TokenMetadataStore;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.time.Instant;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
@@ -19,9 +20,10 @@ import java.util.regex.Pattern;
  *
  * <p>Descriptor overrides ({@link NetworkTokenOverrides}) are authoritative and are never overwritten
  * by a live value (a wrong live-defaulted decimals would silently corrupt an asset's recomputed
- * history). Live results are written through to the durable {@code token_metadata_cache} so a
- * subsequent 2-year renormalization is RPC-free and returns a stable symbol/decimals across runs —
- * satisfying the replay-must-not-call-RPC invariant.</p>
+ * history). Live results are written through to {@link TokenMetadataStore} (backed by the durable
+ * {@code token_metadata_cache}) so a subsequent 2-year renormalization is RPC-free and returns a
+ * stable symbol/decimals across runs — satisfying the replay-must-not-call-RPC invariant. A live miss
+ * is stored as a negative entry and not retried until its TTL passes.</p>
  *
  * <p>Invoked at the {@code CanonicalMetadataEnricher} seam (part of the Solana/TON normalization
  * pipeline) to resolve/finalise flow symbols and warm the cache. The static descriptor registries
@@ -35,12 +37,12 @@ public class TokenMetadataResolutionService {
 
     private static final Pattern TON_RAW_ADDRESS = Pattern.compile("^-?\\d+:[0-9a-fA-F]{64}$");
 
-    private final TokenMetadataCacheRepository cacheRepository;
+    private final TokenMetadataStore tokenMetadataStore;
     private final List<LiveTokenMetadataResolver> liveResolvers;
 
-    public TokenMetadataResolutionService(TokenMetadataCacheRepository cacheRepository,
+    public TokenMetadataResolutionService(TokenMetadataStore tokenMetadataStore,
                                           List<LiveTokenMetadataResolver> liveResolvers) {
-        this.cacheRepository = cacheRepository;
+        this.tokenMetadataStore = tokenMetadataStore;
         this.liveResolvers = liveResolvers == null ? List.of() : List.copyOf(liveResolvers);
     }
 
@@ -62,14 +64,13 @@ public class TokenMetadataResolutionService {
 
         boolean descriptorPresent = descriptor.isPresent();
         String key = cacheKey(networkId, contract);
-        String id = documentId(networkId, key);
 
-        Optional<TokenMetadataCacheEntry> cached = findCached(id);
-        String symbol = firstNonBlank(descriptorSymbol, cached.map(TokenMetadataCacheEntry::getSymbol).orElse(null));
+        Optional<TokenMetadata> cached = tokenMetadataStore.find(networkId.name(), key);
+        String symbol = firstNonBlank(descriptorSymbol, cached.map(TokenMetadata::symbol).orElse(null));
         // Descriptor decimals are authoritative and must never be superseded by cache/live.
         Integer decimals = descriptorDecimals != null
                 ? descriptorDecimals
-                : cached.map(TokenMetadataCacheEntry::getDecimals).orElse(null);
+                : cached.map(TokenMetadata::decimals).orElse(null);
 
         if (symbol != null && decimals != null) {
             ResolvedTokenMetadata.Source source = descriptorPresent
@@ -78,10 +79,13 @@ public class TokenMetadataResolutionService {
             return new ResolvedTokenMetadata(symbol, decimals, source);
         }
 
-        Optional<ResolvedTokenMetadata> live = resolveLive(networkId, contract);
+        // A cached entry without decimals is negative: the live lookup already failed and is not
+        // retried until the store's negative TTL has passed.
+        boolean negativeCached = cached.isPresent() && !cached.get().isResolved();
+        Optional<ResolvedTokenMetadata> live = negativeCached ? Optional.empty() : resolveLive(networkId, contract);
         if (live.isPresent()) {
             ResolvedTokenMetadata liveValue = live.get();
-            writeThrough(networkId, key, id, liveValue, cached.orElse(null));
+            writeThrough(networkId, key, liveValue);
             String mergedSymbol = firstNonBlank(symbol, liveValue.symbol());
             Integer mergedDecimals = decimals != null ? decimals : liveValue.decimals();
             if (mergedSymbol != null || mergedDecimals != null) {
@@ -90,6 +94,11 @@ public class TokenMetadataResolutionService {
             }
         }
 
+        if (cached.isEmpty() && supportsLive(networkId)) {
+            tokenMetadataStore.put(networkId.name(), key, TokenMetadata.UNRESOLVED,
+                    ResolvedTokenMetadata.Source.LIVE_RESOLVER.name());
+        }
+
         if (symbol != null || decimals != null) {
             ResolvedTokenMetadata.Source source = descriptorPresent
                     ? ResolvedTokenMetadata.Source.DESCRIPTOR_OVERRIDE
@@ -99,16 +108,6 @@ public class TokenMetadataResolutionService {
         return ResolvedTokenMetadata.unresolved();
     }
 
-    private Optional<TokenMetadataCacheEntry> findCached(String id) {
-        try {
-            return cacheRepository.findById(id);
-        } catch (Exception ex) {
-            // Cache is a best-effort accelerator; a read hiccup must not fail resolution.
-            log.debug("token_metadata_cache read failed for {}: {}", id, ex.getMessage());
-            return Optional.empty();
-        }
-    }
-
     private Optional<ResolvedTokenMetadata> resolveLive(NetworkId networkId, String contract) {
         for (LiveTokenMetadataResolver resolver : liveResolvers) {
             if (!resolver.supports(networkId)) {
@@ -122,37 +121,14 @@ public class TokenMetadataResolutionService {
         return Optional.empty();
     }
 
-    private void writeThrough(NetworkId networkId,
-                              String key,
-                              String id,
-                              ResolvedTokenMetadata liveValue,
-                              TokenMetadataCacheEntry existing) {
-        try {
-            Instant now = Instant.now();
-            TokenMetadataCacheEntry entry = existing != null ? existing : new TokenMetadataCacheEntry();
-            entry.setId(id);
-            entry.setNetworkId(networkId.name());
-            entry.setContract(key);
-            if (liveValue.hasSymbol()) {
-                entry.setSymbol(liveValue.symbol());
-            }
-            if (liveValue.hasDecimals()) {
-                entry.setDecimals(liveValue.decimals());
-            }
-            entry.setSource(ResolvedTokenMetadata.Source.LIVE_RESOLVER.name());
-            if (entry.getFirstSeenAt() == null) {
-                entry.setFirstSeenAt(now);
-            }
-            entry.setUpdatedAt(now);
-            cacheRepository.save(entry);
-        } catch (Exception ex) {
-            // Cache is a best-effort accelerator; a persistence hiccup must not fail normalization.
-            log.debug("token_metadata_cache write-through failed for {} {}: {}", networkId, key, ex.getMessage());
-        }
+    private boolean supportsLive(NetworkId networkId) {
+        return liveResolvers.stream().anyMatch(resolver -> resolver.supports(networkId));
     }
 
-    private static String documentId(NetworkId networkId, String key) {
-        return networkId.name() + "|" + key;
+    private void writeThrough(NetworkId networkId, String key, ResolvedTokenMetadata value) {
+        tokenMetadataStore.put(networkId.name(), key,
+                new TokenMetadata(value.decimals(), value.hasSymbol() ? value.symbol() : null, null),
+                ResolvedTokenMetadata.Source.LIVE_RESOLVER.name());
     }
 
     /** Deterministic cache key per network address format so cross-form TON masters collapse. */
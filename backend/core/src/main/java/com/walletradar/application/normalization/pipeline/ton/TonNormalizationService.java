@@ -10,6 +10,8 @@ import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
 import com.walletradar.domain.transaction.raw.NormalizationStatus;
 import com.walletradar.domain.transaction.raw.RawTransaction;
 import com.walletradar.domain.transaction.raw.RawTransactionRepository;
+import com.walletradar.platform.telemetry.PipelineCounterDelta;
+import com.walletradar.platform.telemetry.PipelineCounterStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -37,6 +39,7 @@ public class TonNormalizationService {
     private final TonNormalizedTransactionBuilder builder;
     private final IdempotentNormalizedTransactionStore normalizedTransactionStore;
     private final RawTransactionRepository rawTransactionRepository;
+    private final PipelineCounterStore pipelineCounterStore;
     private final AccountingUniverseService accountingUniverseService;
     private final CanonicalMetadataEnricher canonicalMetadataEnricher;
     private final com.walletradar.application.linking.pipeline.clarification.ExternalCustodyDestinationRegistry externalCustodyDestinationRegistry;
@@ -92,19 +95,23 @@ public class TonNormalizationService {
     }
 
     private void markComplete(RawTransaction raw) {
+        NormalizationStatus previous = raw.getNormalizationStatus();
         raw.setNormalizationStatus(NormalizationStatus.COMPLETE);
         raw.setRetryCount(0);
         raw.setLastError(null);
         raw.setNextRetryAt(null);
         rawTransactionRepository.save(raw);
+        pipelineCounterStore.apply(new PipelineCounterDelta().raw(raw.getWalletAddress(), previous, NormalizationStatus.COMPLETE));
     }
 
     private void markRetry(RawTransaction raw, String reason, Instant now) {
+        NormalizationStatus previous = raw.getNormalizationStatus();
         raw.setNormalizationStatus(NormalizationStatus.PENDING);
         raw.setRetryCount((raw.getRetryCount() == null ? 0 : raw.getRetryCount()) + 1);
         raw.setLastError(reason == null || reason.isBlank() ? "TON normalization failed" : reason);
         raw.setNextRetryAt(now.plusSeconds(Math.max(1L, properties.getRetryDelaySeconds())));
         rawTransactionRepository.save(raw);
+        pipelineCounterStore.apply(new PipelineCounterDelta().raw(raw.getWalletAddress(), previous, NormalizationStatus.PENDING));
     }
 
     /**
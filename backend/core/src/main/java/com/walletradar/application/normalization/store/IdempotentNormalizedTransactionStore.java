@@ -1,14 +1,29 @@
 package com.walletradar.application.normalization.store;
 
+import com.walletradar.application.custody.application.CustodyLedgerDelta;
+import com.walletradar.application.custody.application.CustodyLedgerProjectionStore;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionStatus;
+import com.walletradar.platform.telemetry.PipelineCounterDelta;
+import com.walletradar.platform.telemetry.PipelineCounterStore;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Idempotent write path for canonical normalized transactions.
@@ -17,19 +32,32 @@ import java.util.List;
  * are invoked on the candidate. This allows the ingestion plane (e.g.
  * {@link com.walletradar.application.cex.acquisition.venue.CexBoundaryContractStamper}) to stamp
  * additional boundary-contract fields without modifying individual normalization builders.</p>
+ *
+ * <p>Every write moves the row between {@code pipeline_counters} buckets and replaces its
+ * custody ledger contribution; both are captured from an existing row before {@code merge}
+ * mutates it, and the custody wallets are fenced before the row is written.</p>
  */
 @Service
 @Slf4j
 public class IdempotentNormalizedTransactionStore {
 
     private final NormalizedTransactionRepository repository;
+    private final MongoOperations mongoOperations;
     private final List<NormalizedTransactionPostProcessor> postProcessors;
+    private final PipelineCounterStore pipelineCounterStore;
+    private final CustodyLedgerProjectionStore custodyLedgerProjectionStore;
 
     public IdempotentNormalizedTransactionStore(
             NormalizedTransactionRepository repository,
-            ObjectProvider<NormalizedTransactionPostProcessor> postProcessorProvider
+            MongoOperations mongoOperations,
+            ObjectProvider<NormalizedTransactionPostProcessor> postProcessorProvider,
+            PipelineCounterStore pipelineCounterStore,
+            CustodyLedgerProjectionStore custodyLedgerProjectionStore
     ) {
         this.repository = repository;
+        this.mongoOperations = mongoOperations;
+        this.pipelineCounterStore = pipelineCounterStore;
+        this.custodyLedgerProjectionStore = custodyLedgerProjectionStore;
         this.postProcessors = postProcessorProvider.stream().toList();
         log.info("IdempotentNormalizedTransactionStore initialized with {} post-processors: {}",
                 postProcessors.size(),
@@ -39,10 +67,76 @@ public class IdempotentNormalizedTransactionStore {
     public NormalizedTransaction upsert(NormalizedTransaction candidate) {
         Instant now = Instant.now();
         postProcessors.forEach(p -> p.process(candidate));
-        return repository.findById(candidate.getId())
-                .map(existing -> merge(existing, candidate, now))
-                .map(repository::save)
-                .orElseGet(() -> repository.save(candidate));
+        Optional<NormalizedTransaction> existing = repository.findById(candidate.getId());
+        PipelineCounterDelta.Snapshot before = existing.map(PipelineCounterDelta::snapshot).orElse(null);
+        CustodyLedgerDelta.Snapshot custodyBefore = existing.map(CustodyLedgerDelta::snapshot).orElse(null);
+        NormalizedTransaction next = existing.map(row -> merge(row, candidate, now)).orElse(candidate);
+        CustodyLedgerDelta custodyDelta = new CustodyLedgerDelta().normalized(custodyBefore, next);
+        custodyLedgerProjectionStore.beginWrite(custodyDelta);
+        NormalizedTransaction saved = repository.save(next);
+        pipelineCounterStore.apply(new PipelineCounterDelta().normalized(before, saved));
+        custodyLedgerProjectionStore.apply(custodyDelta);
+        return saved;
+    }
+
+    /**
+     * Batch form of {@link #upsert}: one {@code $in} read of the existing docs and one unordered
+     * bulk replace. Candidates are merged in iteration order, so repeated ids end up exactly as
+     * sequential {@link #upsert} calls would leave them.
+     */
+    public List<NormalizedTransaction> upsertAll(Collection<NormalizedTransaction> candidates) {
+        if (candidates == null || candidates.isEmpty()) {
+            return List.of();
+        }
+        Instant now = Instant.now();
+        List<String> ids = candidates.stream()
+                .map(NormalizedTransaction::getId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<String, NormalizedTransaction> current = new LinkedHashMap<>();
+        Map<String, PipelineCounterDelta.Snapshot> before = new LinkedHashMap<>();
+        Map<String, CustodyLedgerDelta.Snapshot> custodyBefore = new LinkedHashMap<>();
+        if (!ids.isEmpty()) {
+            repository.findAllById(ids).forEach(existing -> {
+                current.put(existing.getId(), existing);
+                before.put(existing.getId(), PipelineCounterDelta.snapshot(existing));
+                custodyBefore.put(existing.getId(), CustodyLedgerDelta.snapshot(existing));
+            });
+        }
+        Map<String, NormalizedTransaction> pending = new LinkedHashMap<>();
+        List<NormalizedTransaction> written = new ArrayList<>();
+        for (NormalizedTransaction candidate : candidates) {
+            if (candidate.getId() == null) {
+                written.add(upsert(candidate));
+                continue;
+            }
+            postProcessors.forEach(p -> p.process(candidate));
+            NormalizedTransaction existing = current.get(candidate.getId());
+            NormalizedTransaction next = existing == null ? candidate : merge(existing, candidate, now);
+            current.put(candidate.getId(), next);
+            pending.put(candidate.getId(), next);
+        }
+        if (!pending.isEmpty()) {
+            CustodyLedgerDelta custodyDelta = new CustodyLedgerDelta();
+            pending.forEach((id, tx) -> custodyDelta.normalized(custodyBefore.get(id), tx));
+            custodyLedgerProjectionStore.beginWrite(custodyDelta);
+            BulkOperations ops = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, NormalizedTransaction.class);
+            for (NormalizedTransaction tx : pending.values()) {
+                ops.replaceOne(
+                        Query.query(Criteria.where("_id").is(tx.getId())),
+                        tx,
+                        FindAndReplaceOptions.options().upsert()
+                );
+            }
+            ops.execute();
+            written.addAll(pending.values());
+            PipelineCounterDelta delta = new PipelineCounterDelta();
+            pending.forEach((id, tx) -> delta.normalized(before.get(id), tx));
+            pipelineCounterStore.apply(delta);
+            custodyLedgerProjectionStore.apply(custodyDelta);
+        }
+        return written;
     }
 
     private NormalizedTransaction merge(
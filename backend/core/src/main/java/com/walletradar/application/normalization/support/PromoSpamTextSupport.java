@@ -1,97 +1,93 @@
 package com.walletradar.application.normalization.support;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.walletradar.platform.common.MultiPatternMatcher;
+
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Shared promo/phishing text heuristics used by raw-ingestion scam filtering and legacy classification triage.
+ *
+ * <p>All markers are compiled into one {@link MultiPatternMatcher}, so a text is scanned once and
+ * the rules below are mask tests. Verdicts are memoized per distinct text: token names and symbols
+ * repeat across every transfer of the same token.</p>
  */
 public final class PromoSpamTextSupport {
 
+    private static final List<String> URL_MARKERS = List.of(
+            "http", "www", "://", "t.me", "@", ".com", ".io", ".us", ".xyz", ".site", ".vip", ".top", ".bot",
+            ".so", ".do", ".cfd", ".store"
+    );
+    private static final List<String> BAIT_WORDS = List.of(
+            "claim", "visit", "airdrop", "reward", "free", "mint", "voucher", "telegram", "verify", "redeem"
+    );
+    private static final List<String> PROMOTIONAL_PHRASES = List.of(
+            "telegram @", "visit www", "claim reward", "claim your airdrop", "swap your voucher", "voucher on ",
+            "verify:"
+    );
+    private static final List<String> PROMOTIONAL_WORDS = List.of(
+            "claim", "airdrop", "reward", "voucher", "visit", "verify", "redeem"
+    );
+    private static final List<String> DOMAIN_MARKERS = List.of(
+            ".vip", ".top", ".bot", ".cfd", ".store", ".site", ".xyz", ".so", ".do"
+    );
+    private static final List<String> DOT = List.of(".");
+
+    private static final MultiPatternMatcher MATCHER = MultiPatternMatcher.compile(distinct(
+            URL_MARKERS, BAIT_WORDS, PROMOTIONAL_PHRASES, PROMOTIONAL_WORDS, DOMAIN_MARKERS, DOT));
+    private static final long URL_MARKER_MASK = MATCHER.mask(URL_MARKERS);
+    private static final long BAIT_WORD_MASK = MATCHER.mask(BAIT_WORDS);
+    private static final long PROMOTIONAL_PHRASE_MASK = MATCHER.mask(PROMOTIONAL_PHRASES);
+    private static final long PROMOTIONAL_WORD_MASK = MATCHER.mask(PROMOTIONAL_WORDS);
+    private static final long DOMAIN_MARKER_MASK = MATCHER.mask(DOMAIN_MARKERS);
+    private static final long DOT_MASK = MATCHER.mask(DOT);
+
+    private static final Cache<String, Verdict> VERDICTS = Caffeine.newBuilder()
+            .maximumSize(20_000)
+            .build();
+
     private PromoSpamTextSupport() {
     }
 
     public static boolean isSuspiciousTokenText(String value) {
-        String normalized = normalize(value);
-        if (normalized == null) {
-            return false;
-        }
-        if (isPromotionalSpamText(normalized)) {
-            return true;
-        }
-
-        boolean hasUrlLike = normalized.contains("http")
-                || normalized.contains("www")
-                || normalized.contains("://")
-                || normalized.contains("t.me")
-                || normalized.contains("@")
-                || normalized.contains(".com")
-                || normalized.contains(".io")
-                || normalized.contains(".us")
-                || normalized.contains(".xyz")
-                || normalized.contains(".site")
-                || normalized.contains(".vip")
-                || normalized.contains(".top")
-                || normalized.contains(".bot")
-                || normalized.contains(".so")
-                || normalized.contains(".do")
-                || normalized.contains(".cfd")
-                || normalized.contains(".store");
-        if (hasUrlLike) {
-            return true;
-        }
-
-        boolean hasBaitWords = normalized.contains("claim")
-                || normalized.contains("visit")
-                || normalized.contains("airdrop")
-                || normalized.contains("reward")
-                || normalized.contains("free")
-                || normalized.contains("mint")
-                || normalized.contains("voucher")
-                || normalized.contains("telegram")
-                || normalized.contains("verify")
-                || normalized.contains("redeem");
-        return hasBaitWords && (normalized.contains(".") || normalized.length() >= 40);
+        return verdict(value).suspicious();
     }
 
     public static boolean isPromotionalSpamText(String value) {
-        String normalized = normalize(value);
-        if (normalized == null) {
-            return false;
-        }
+        return verdict(value).promotional();
+    }
 
-        if (normalized.contains("telegram @")
-                || normalized.contains("visit www")
-                || normalized.contains("claim reward")
-                || normalized.contains("claim your airdrop")
-                || normalized.contains("swap your voucher")
-                || normalized.contains("voucher on ")
-                || normalized.contains("verify:")) {
-            return true;
+    private static Verdict verdict(String value) {
+        if (value == null || value.isBlank()) {
+            return Verdict.CLEAN;
         }
+        return VERDICTS.get(value, PromoSpamTextSupport::evaluate);
+    }
 
-        boolean hasPromotionalWord = normalized.contains("claim")
-                || normalized.contains("airdrop")
-                || normalized.contains("reward")
-                || normalized.contains("voucher")
-                || normalized.contains("visit")
-                || normalized.contains("verify")
-                || normalized.contains("redeem");
-        boolean hasDomainMarker = normalized.contains(".vip")
-                || normalized.contains(".top")
-                || normalized.contains(".bot")
-                || normalized.contains(".cfd")
-                || normalized.contains(".store")
-                || normalized.contains(".site")
-                || normalized.contains(".xyz")
-                || normalized.contains(".so")
-                || normalized.contains(".do");
-        return hasPromotionalWord && hasDomainMarker;
+    private static Verdict evaluate(String value) {
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        long matched = MATCHER.scan(normalized);
+        boolean promotional = (matched & PROMOTIONAL_PHRASE_MASK) != 0
+                || ((matched & PROMOTIONAL_WORD_MASK) != 0 && (matched & DOMAIN_MARKER_MASK) != 0);
+        boolean suspicious = promotional
+                || (matched & URL_MARKER_MASK) != 0
+                || ((matched & BAIT_WORD_MASK) != 0 && ((matched & DOT_MASK) != 0 || normalized.length() >= 40));
+        return new Verdict(suspicious, promotional);
     }
 
-    private static String normalize(String value) {
-        if (value == null || value.isBlank()) {
-            return null;
-        }
-        return value.trim().toLowerCase(Locale.ROOT);
+    @SafeVarargs
+    private static List<String> distinct(List<String>... groups) {
+        Set<String> patterns = new LinkedHashSet<>();
+        Stream.of(groups).forEach(patterns::addAll);
+        return List.copyOf(patterns);
+    }
+
+    private record Verdict(boolean suspicious, boolean promotional) {
+        private static final Verdict CLEAN = new Verdict(false, false);
     }
 }
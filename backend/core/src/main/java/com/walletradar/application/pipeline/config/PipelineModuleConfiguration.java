@@ -4,6 +4,6 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
-@EnableConfigurationProperties(JobHeartbeatProperties.class)
+@EnableConfigurationProperties({JobHeartbeatProperties.class, PipelineWorkQueueProperties.class})
 public class PipelineModuleConfiguration {
 }
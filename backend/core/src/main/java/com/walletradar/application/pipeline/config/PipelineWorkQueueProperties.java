@@ -0,0 +1,38 @@
+package com.walletradar.application.pipeline.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Durable stage hand-off queue ({@code pipeline_work_items}). When disabled, stage events are
+ * dispatched in-process on the pipeline-stage executor and nothing is persisted.
+ */
+@ConfigurationProperties(prefix = "walletradar.pipeline.work-queue")
+@NoArgsConstructor
+@Getter
+@Setter
+public class PipelineWorkQueueProperties {
+
+    private boolean enabled = true;
+    /** Lease owner id of this node; blank derives {@code hostname:random}. */
+    private String nodeId;
+    private long pollIntervalMs = 1_000L;
+    /** Items this node runs at once; keep at or below the pipeline-stage executor max size. */
+    private int maxInFlight = 4;
+    private long leaseMs = 120_000L;
+    private long leaseRenewIntervalMs = 30_000L;
+    private long retryBackoffMs = 15_000L;
+    private int maxAttempts = 5;
+
+    public Duration lease() {
+        return Duration.ofMillis(leaseMs);
+    }
+
+    public Duration retryBackoff() {
+        return Duration.ofMillis(retryBackoffMs);
+    }
+}
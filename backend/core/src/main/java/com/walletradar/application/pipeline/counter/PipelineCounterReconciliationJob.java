@@ -0,0 +1,93 @@
+package com.walletradar.application.pipeline.counter;
+
+import com.walletradar.domain.event.AccountingReplayCompletedEvent;
+import com.walletradar.domain.event.LinkingCompletedEvent;
+import com.walletradar.domain.event.SessionBackfillCompletedEvent;
+import com.walletradar.domain.session.UserSession;
+import com.walletradar.domain.session.UserSessionRepository;
+import com.walletradar.application.session.application.AccountingUniverseService;
+import com.walletradar.platform.telemetry.PipelineCounterStore;
+import com.walletradar.platform.common.config.AsyncConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Repairs {@code pipeline_counters} drift: every session universe is recounted on a fixed delay,
+ * and a single universe right after the stages whose writes are not counted incrementally
+ * (backfill raw inserts, linking) complete.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PipelineCounterReconciliationJob {
+
+    private final UserSessionRepository userSessionRepository;
+    private final AccountingUniverseService accountingUniverseService;
+    private final PipelineCounterStore pipelineCounterStore;
+
+    @Scheduled(
+            initialDelayString = "${walletradar.pipeline.counters.reconcile-initial-delay-ms:60000}",
+            fixedDelayString = "${walletradar.pipeline.counters.reconcile-interval-ms:600000}"
+    )
+    public void reconcileAll() {
+        Set<String> reconciled = new LinkedHashSet<>();
+        for (UserSession session : userSessionRepository.findAll()) {
+            List<String> memberRefs = memberRefs(session);
+            if (memberRefs.isEmpty() || !reconciled.addAll(memberRefs)) {
+                continue;
+            }
+            reconcile(session.getId(), memberRefs);
+        }
+    }
+
+    @EventListener
+    @Async(AsyncConfig.PIPELINE_STAGE_EXECUTOR)
+    public void onSessionBackfillCompleted(SessionBackfillCompletedEvent event) {
+        reconcileSession(event.sessionId());
+    }
+
+    @EventListener
+    @Async(AsyncConfig.PIPELINE_STAGE_EXECUTOR)
+    public void onLinkingCompleted(LinkingCompletedEvent event) {
+        reconcileSession(event.sessionId());
+    }
+
+    @EventListener
+    @Async(AsyncConfig.PIPELINE_STAGE_EXECUTOR)
+    public void onAccountingReplayCompleted(AccountingReplayCompletedEvent event) {
+        reconcileSession(event.sessionId());
+    }
+
+    private void reconcileSession(String sessionId) {
+        if (sessionId == null || sessionId.isBlank()) {
+            return;
+        }
+        userSessionRepository.findById(sessionId.trim())
+                .ifPresent(session -> reconcile(session.getId(), memberRefs(session)));
+    }
+
+    private void reconcile(String sessionId, List<String> memberRefs) {
+        if (memberRefs.isEmpty()) {
+            return;
+        }
+        try {
+            pipelineCounterStore.reconcile(memberRefs);
+        } catch (RuntimeException error) {
+            log.warn("Pipeline counter reconciliation failed: sessionId={}, memberRefs={}, error={}",
+                    sessionId, memberRefs.size(), error.getMessage());
+        }
+    }
+
+    private List<String> memberRefs(UserSession session) {
+        List<String> memberRefs = accountingUniverseService.resolveScope(session).memberRefs();
+        return memberRefs == null ? List.of() : memberRefs;
+    }
+}
@@ -0,0 +1,11 @@
+package com.walletradar.application.pipeline.queue;
+
+/**
+ * Hands the next pipeline stage event ({@code domain.event} record) of a session to whichever
+ * node picks it up. Implemented by {@link PipelineWorkDispatcher}.
+ */
+@FunctionalInterface
+public interface PipelineStageHandoff {
+
+    void submit(String sessionId, Object event);
+}
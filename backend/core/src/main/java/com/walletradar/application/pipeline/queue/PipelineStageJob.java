@@ -0,0 +1,19 @@
+package com.walletradar.application.pipeline.queue;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Marks a pipeline stage job: its {@code @EventListener} methods for submitted stage events run as
+ * durable work items on whichever node claims them. Listeners of other beans (progress signals,
+ * version bumps, projections) stay in-process on the node that submitted the event.
+ */
+@Target(TYPE)
+@Retention(RUNTIME)
+@Documented
+public @interface PipelineStageJob {
+}
@@ -0,0 +1,87 @@
+package com.walletradar.application.pipeline.queue;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.ApplicationListenerMethodAdapter;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the {@code @EventListener} methods that handle a pipeline stage event, so
+ * {@link PipelineWorkDispatcher} can run and retry each of them as its own unit of work. Only
+ * listeners declared on a {@link PipelineStageJob} bean are queued; the rest are local to the node
+ * that submitted the event. Listeners are looked up per event type on first use, after the context
+ * has registered them.
+ */
+@Component
+class PipelineStageListeners {
+
+    private final ApplicationContext applicationContext;
+    private final Map<Class<?>, List<StageListener>> byEventType = new ConcurrentHashMap<>();
+
+    PipelineStageListeners(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    /**
+     * One listener method of a stage event, identified by its stable listener id; {@code queued}
+     * when it belongs to a {@link PipelineStageJob}.
+     */
+    record StageListener(String id, ApplicationListenerMethodAdapter adapter, boolean queued) {
+
+        void invoke(Object event) {
+            adapter.onApplicationEvent(new PayloadApplicationEvent<>(StageListener.class, event));
+        }
+    }
+
+    List<StageListener> listenersFor(Class<?> eventType) {
+        List<StageListener> cached = byEventType.get(eventType);
+        if (cached != null) {
+            return cached;
+        }
+        List<StageListener> resolved = resolve(eventType);
+        if (!resolved.isEmpty()) {
+            byEventType.put(eventType, resolved);
+        }
+        return resolved;
+    }
+
+    Optional<StageListener> find(Class<?> eventType, String listenerId) {
+        return listenersFor(eventType).stream()
+                .filter(listener -> listener.id().equals(listenerId))
+                .findFirst();
+    }
+
+    private List<StageListener> resolve(Class<?> eventType) {
+        if (!(applicationContext instanceof AbstractApplicationContext context)) {
+            return List.of();
+        }
+        ResolvableType type = ResolvableType.forClass(eventType);
+        List<String> stageJobPrefixes = stageJobPrefixes(context);
+        List<StageListener> listeners = new ArrayList<>();
+        for (ApplicationListener<?> listener : context.getApplicationListeners()) {
+            if (listener instanceof ApplicationListenerMethodAdapter adapter && adapter.supportsEventType(type)) {
+                String id = adapter.getListenerId();
+                listeners.add(new StageListener(id, adapter, stageJobPrefixes.stream().anyMatch(id::startsWith)));
+            }
+        }
+        return List.copyOf(listeners);
+    }
+
+    /** Default listener ids are {@code <declaring class>.<method>(<parameter types>)}. */
+    private static List<String> stageJobPrefixes(AbstractApplicationContext context) {
+        return context.getBeansWithAnnotation(PipelineStageJob.class).values().stream()
+                .map(bean -> ClassUtils.getUserClass(AopUtils.getTargetClass(bean)).getName() + ".")
+                .toList();
+    }
+}
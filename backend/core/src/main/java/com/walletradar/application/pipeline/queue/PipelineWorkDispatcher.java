@@ -0,0 +1,169 @@
+package com.walletradar.application.pipeline.queue;
+
+import com.walletradar.application.pipeline.config.PipelineWorkQueueProperties;
+import com.walletradar.domain.pipeline.PipelineWorkItem;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Durable {@link PipelineStageHandoff}. Stages submit the next stage event instead of publishing it
+ * directly; the event is persisted in {@link PipelineWorkQueue} as one item per listener, and this
+ * node's poller claims due items and runs each listener synchronously on the pipeline-stage
+ * executor, so the lease covers the whole listener run. Listeners of one event (e.g. the per-source
+ * normalization jobs on backfill completion) therefore run in parallel, and a failure retries only
+ * the listener that failed. The lease of every in-flight item is renewed periodically, and expired
+ * leases of other (crashed) nodes are reaped on the same tick.
+ *
+ * <p>Only listeners of {@link PipelineStageJob} beans are queued. Every other listener of the event
+ * runs on the submitting thread, as a plain {@code publishEvent} would run it; the slow ones are
+ * {@code @Async} themselves.</p>
+ *
+ * <p>With {@code walletradar.pipeline.work-queue.enabled=false} each stage-job listener is handed
+ * straight to the pipeline-stage executor as its own task, matching the former in-process behavior.</p>
+ */
+@Component
+@Slf4j
+public class PipelineWorkDispatcher implements PipelineStageHandoff {
+
+    private final PipelineWorkQueue pipelineWorkQueue;
+    private final PipelineWorkQueueProperties properties;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final PipelineStageListeners stageListeners;
+    private final Executor pipelineStageExecutor;
+    private final String nodeId;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    public PipelineWorkDispatcher(
+            PipelineWorkQueue pipelineWorkQueue,
+            PipelineWorkQueueProperties properties,
+            ApplicationEventPublisher applicationEventPublisher,
+            PipelineStageListeners stageListeners,
+            @Qualifier(com.walletradar.platform.common.config.AsyncConfig.PIPELINE_STAGE_EXECUTOR)
+            Executor pipelineStageExecutor
+    ) {
+        this.pipelineWorkQueue = pipelineWorkQueue;
+        this.properties = properties;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.stageListeners = stageListeners;
+        this.pipelineStageExecutor = pipelineStageExecutor;
+        this.nodeId = resolveNodeId(properties.getNodeId());
+    }
+
+    @Override
+    public void submit(String sessionId, Object event) {
+        if (event == null) {
+            return;
+        }
+        List<PipelineStageListeners.StageListener> listeners = stageListeners.listenersFor(event.getClass());
+        if (listeners.isEmpty()) {
+            log.debug("Pipeline work skipped: no listener for eventType={}", event.getClass().getSimpleName());
+            return;
+        }
+        for (PipelineStageListeners.StageListener listener : listeners) {
+            if (!listener.queued()) {
+                // Progress marks, version bumps and projections act on this node's state.
+                runInProcess(listener, event);
+            } else if (properties.isEnabled()) {
+                pipelineWorkQueue.enqueue(sessionId, event, listener.id());
+            } else {
+                pipelineStageExecutor.execute(() -> runInProcess(listener, event));
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${walletradar.pipeline.work-queue.poll-interval-ms:1000}")
+    public void poll() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        while (inFlight.size() < Math.max(1, properties.getMaxInFlight())) {
+            Optional<PipelineWorkQueue.ClaimedWork> claimed = pipelineWorkQueue.claim(nodeId);
+            if (claimed.isEmpty()) {
+                return;
+            }
+            PipelineWorkQueue.ClaimedWork work = claimed.get();
+            inFlight.add(work.item().getId());
+            try {
+                pipelineStageExecutor.execute(() -> run(work));
+            } catch (TaskRejectedException rejected) {
+                inFlight.remove(work.item().getId());
+                pipelineWorkQueue.release(work.item(), nodeId);
+                log.debug("Pipeline work dispatch deferred: executor saturated, itemId={}", work.item().getId());
+                return;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${walletradar.pipeline.work-queue.lease-renew-interval-ms:30000}")
+    public void maintainLeases() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        pipelineWorkQueue.renewLeases(Set.copyOf(inFlight), nodeId);
+        int reaped = pipelineWorkQueue.reapExpiredLeases();
+        if (reaped > 0) {
+            log.info("Pipeline work reaper returned expired leases: count={}, nodeId={}", reaped, nodeId);
+        }
+    }
+
+    private void run(PipelineWorkQueue.ClaimedWork work) {
+        PipelineWorkItem item = work.item();
+        try {
+            if (item.getListenerId() == null) {
+                // Item written before per-listener dispatch.
+                applicationEventPublisher.publishEvent(work.event());
+            } else {
+                Optional<PipelineStageListeners.StageListener> listener =
+                        stageListeners.find(work.event().getClass(), item.getListenerId());
+                if (listener.isPresent()) {
+                    listener.get().invoke(work.event());
+                } else {
+                    log.warn("Pipeline work dropped: listener no longer registered, itemId={}, listenerId={}",
+                            item.getId(), item.getListenerId());
+                }
+            }
+            pipelineWorkQueue.complete(item, nodeId);
+        } catch (RuntimeException error) {
+            log.warn("Pipeline work failed: itemId={}, eventType={}, listenerId={}, sessionId={}, attempts={}, error={}",
+                    item.getId(), work.event().getClass().getSimpleName(), item.getListenerId(), item.getSessionId(),
+                    item.getAttempts(), error.getMessage(), error);
+            pipelineWorkQueue.fail(item, nodeId, error.getMessage());
+        } finally {
+            inFlight.remove(item.getId());
+        }
+    }
+
+    private static void runInProcess(PipelineStageListeners.StageListener listener, Object event) {
+        try {
+            listener.invoke(event);
+        } catch (RuntimeException error) {
+            log.warn("Pipeline stage listener failed: listenerId={}, eventType={}, error={}",
+                    listener.id(), event.getClass().getSimpleName(), error.getMessage(), error);
+        }
+    }
+
+    private static String resolveNodeId(String configured) {
+        if (configured != null && !configured.isBlank()) {
+            return configured;
+        }
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception unknownHost) {
+            host = "node";
+        }
+        return host + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
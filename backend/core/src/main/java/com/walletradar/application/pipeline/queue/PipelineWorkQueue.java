@@ -0,0 +1,228 @@
+package com.walletradar.application.pipeline.queue;
+
+import com.walletradar.application.pipeline.config.PipelineWorkQueueProperties;
+import com.walletradar.domain.event.LinkingRequestedEvent;
+import com.walletradar.domain.pipeline.PipelineWorkItem;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Mongo-backed queue of pipeline stage triggers shared by every backend node.
+ *
+ * <p>{@link #enqueue} coalesces: while an item for the same session, event type and listener is
+ * still PENDING, a new trigger only replaces its payload. Each listener of an event gets its own
+ * item, so listeners run in parallel and a retry only repeats the listener that failed. {@link #claim} leases one due item atomically
+ * with {@code findAndModify}, so two nodes never receive the same item. The owner renews the lease
+ * while the stage runs and deletes the item on {@link #complete}; {@link #reapExpiredLeases} hands
+ * items of crashed owners back to PENDING.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PipelineWorkQueue {
+
+    static final String PENDING_COALESCE_INDEX = "pending_coalesce_key_unique";
+    private static final String EVENT_PACKAGE_PREFIX = LinkingRequestedEvent.class.getPackageName() + ".";
+    private static final String NO_SESSION = "-";
+
+    private final MongoOperations mongoOperations;
+    private final PipelineWorkQueueProperties properties;
+
+    /** Claimed work: the stored item plus its decoded event. */
+    public record ClaimedWork(PipelineWorkItem item, Object event) {
+    }
+
+    /** Unique coalesce key among PENDING items; leased items may share the key with one new PENDING item. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        mongoOperations.indexOps(PipelineWorkItem.class).ensureIndex(new Index()
+                .on("coalesceKey", Sort.Direction.ASC)
+                .named(PENDING_COALESCE_INDEX)
+                .unique()
+                .partial(PartialIndexFilter.of(Criteria.where("status").is(PipelineWorkItem.Status.PENDING.name()))));
+    }
+
+    /** Enqueues {@code event} for every listener at once (one item, listeners run in sequence). */
+    public void enqueue(String sessionId, Object event) {
+        enqueue(sessionId, event, null);
+    }
+
+    /** Enqueues {@code event} for the single listener {@code listenerId}. */
+    public void enqueue(String sessionId, Object event, String listenerId) {
+        if (event == null) {
+            return;
+        }
+        String eventType = event.getClass().getName();
+        if (!eventType.startsWith(EVENT_PACKAGE_PREFIX)) {
+            throw new IllegalArgumentException("Not a pipeline stage event: " + eventType);
+        }
+        org.bson.Document payload = new org.bson.Document();
+        mongoOperations.getConverter().write(event, payload);
+        String coalesceKey = (sessionId == null || sessionId.isBlank() ? NO_SESSION : sessionId) + ":" + eventType
+                + (listenerId == null ? "" : "#" + listenerId);
+        Instant now = Instant.now();
+        Query query = Query.query(Criteria.where("coalesceKey").is(coalesceKey)
+                .and("status").is(PipelineWorkItem.Status.PENDING));
+        Update update = new Update()
+                .set("sessionId", sessionId)
+                .set("eventType", eventType)
+                .set("listenerId", listenerId)
+                .set("payload", payload)
+                .set("updatedAt", now)
+                .inc("triggerCount", 1)
+                .setOnInsert("attempts", 0)
+                .setOnInsert("availableAt", now)
+                .setOnInsert("createdAt", now);
+        try {
+            mongoOperations.upsert(query, update, PipelineWorkItem.class);
+        } catch (DuplicateKeyException concurrentInsert) {
+            // Another node inserted the PENDING item between our match and insert; merge into it.
+            mongoOperations.upsert(query, update, PipelineWorkItem.class);
+        }
+        log.debug("Pipeline work enqueued: sessionId={}, eventType={}, listenerId={}",
+                sessionId, event.getClass().getSimpleName(), listenerId);
+    }
+
+    /** Leases the oldest due PENDING item to {@code owner}, or returns empty when none is due. */
+    public Optional<ClaimedWork> claim(String owner) {
+        Instant now = Instant.now();
+        Query query = Query.query(Criteria.where("status").is(PipelineWorkItem.Status.PENDING)
+                        .and("availableAt").lte(now))
+                .with(Sort.by(Sort.Direction.ASC, "availableAt"));
+        Update update = new Update()
+                .set("status", PipelineWorkItem.Status.LEASED)
+                .set("leaseOwner", owner)
+                .set("leaseExpiresAt", now.plus(properties.lease()))
+                .set("updatedAt", now)
+                .inc("attempts", 1);
+        PipelineWorkItem item = mongoOperations.findAndModify(
+                query,
+                update,
+                FindAndModifyOptions.options().returnNew(true),
+                PipelineWorkItem.class
+        );
+        if (item == null) {
+            return Optional.empty();
+        }
+        Object event = decode(item);
+        if (event == null) {
+            log.warn("Pipeline work dropped: undecodable itemId={}, eventType={}", item.getId(), item.getEventType());
+            complete(item, owner);
+            return claim(owner);
+        }
+        return Optional.of(new ClaimedWork(item, event));
+    }
+
+    /** Extends the leases {@code owner} still holds; returns how many were extended. */
+    public long renewLeases(Collection<String> itemIds, String owner) {
+        if (itemIds == null || itemIds.isEmpty()) {
+            return 0L;
+        }
+        Instant now = Instant.now();
+        Query query = Query.query(Criteria.where("_id").in(itemIds)
+                .and("status").is(PipelineWorkItem.Status.LEASED)
+                .and("leaseOwner").is(owner));
+        Update update = new Update()
+                .set("leaseExpiresAt", now.plus(properties.lease()))
+                .set("updatedAt", now);
+        return mongoOperations.updateMulti(query, update, PipelineWorkItem.class).getModifiedCount();
+    }
+
+    /** Deletes a finished item; a no-op when the lease was lost to the reaper meanwhile. */
+    public boolean complete(PipelineWorkItem item, String owner) {
+        Query query = Query.query(Criteria.where("_id").is(item.getId()).and("leaseOwner").is(owner));
+        return mongoOperations.remove(query, PipelineWorkItem.class).getDeletedCount() > 0;
+    }
+
+    /**
+     * Returns a failed item to PENDING after a linear backoff, or drops it once
+     * {@code maxAttempts} is reached. The resume watchdog still covers dropped work.
+     */
+    public void fail(PipelineWorkItem item, String owner, String error) {
+        if (item.getAttempts() >= properties.getMaxAttempts()) {
+            complete(item, owner);
+            log.warn("Pipeline work abandoned: itemId={}, coalesceKey={}, attempts={}, error={}",
+                    item.getId(), item.getCoalesceKey(), item.getAttempts(), error);
+            return;
+        }
+        Instant availableAt = Instant.now().plus(properties.retryBackoff().multipliedBy(Math.max(1, item.getAttempts())));
+        requeue(Criteria.where("_id").is(item.getId()).and("leaseOwner").is(owner), availableAt, 0);
+    }
+
+    /** Hands a claimed but never started item straight back, without counting the attempt. */
+    public void release(PipelineWorkItem item, String owner) {
+        requeue(Criteria.where("_id").is(item.getId()).and("leaseOwner").is(owner), Instant.now(), -1);
+    }
+
+    /** Returns items whose lease expired (owner crashed or stalled) to PENDING; returns how many. */
+    public int reapExpiredLeases() {
+        Instant now = Instant.now();
+        List<PipelineWorkItem> expired = mongoOperations.find(
+                Query.query(Criteria.where("status").is(PipelineWorkItem.Status.LEASED)
+                        .and("leaseExpiresAt").lt(now)),
+                PipelineWorkItem.class
+        );
+        int reaped = 0;
+        for (PipelineWorkItem item : expired) {
+            Criteria stillExpired = Criteria.where("_id").is(item.getId())
+                    .and("status").is(PipelineWorkItem.Status.LEASED)
+                    .and("leaseExpiresAt").lt(now);
+            if (requeue(stillExpired, now, 0)) {
+                reaped++;
+                log.info("Pipeline work lease expired: itemId={}, coalesceKey={}, previousOwner={}",
+                        item.getId(), item.getCoalesceKey(), item.getLeaseOwner());
+            }
+        }
+        return reaped;
+    }
+
+    private boolean requeue(Criteria match, Instant availableAt, int attemptsDelta) {
+        Update update = new Update()
+                .set("status", PipelineWorkItem.Status.PENDING)
+                .set("availableAt", availableAt)
+                .set("updatedAt", Instant.now())
+                .unset("leaseOwner")
+                .unset("leaseExpiresAt");
+        if (attemptsDelta != 0) {
+            update.inc("attempts", attemptsDelta);
+        }
+        try {
+            return mongoOperations.updateFirst(Query.query(match), update, PipelineWorkItem.class).getModifiedCount() > 0;
+        } catch (DuplicateKeyException superseded) {
+            // A newer trigger for the same key is already PENDING and carries the latest payload.
+            mongoOperations.remove(Query.query(match), PipelineWorkItem.class);
+            return true;
+        }
+    }
+
+    private Object decode(PipelineWorkItem item) {
+        String eventType = item.getEventType();
+        if (eventType == null || !eventType.startsWith(EVENT_PACKAGE_PREFIX) || item.getPayload() == null) {
+            return null;
+        }
+        try {
+            return mongoOperations.getConverter().read(Class.forName(eventType), item.getPayload());
+        } catch (ClassNotFoundException | RuntimeException error) {
+            log.warn("Pipeline work payload not readable: itemId={}, eventType={}, error={}",
+                    item.getId(), eventType, error.getMessage());
+            return null;
+        }
+    }
+}
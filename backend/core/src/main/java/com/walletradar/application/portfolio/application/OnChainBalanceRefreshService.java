@@ -13,6 +13,8 @@ import com.walletradar.application.costbasis.domain.OnChainBalanceRepository;
 import com.walletradar.application.lending.application.LendingAssetSymbolSupport;
 import com.walletradar.domain.common.Decimal128Support;
 import com.walletradar.domain.common.NetworkId;
+import com.walletradar.platform.common.concurrent.BoundedExecutor;
+import com.walletradar.platform.common.config.AsyncConfig;
 import com.walletradar.platform.networks.RpcEndpointRotator;
 import com.walletradar.platform.networks.RpcException;
 import com.walletradar.platform.networks.evm.explorer.BlockScoutExplorerProvider;
@@ -43,8 +45,6 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 /**
@@ -73,6 +73,9 @@ public class OnChainBalanceRefreshService implements OnChainBalanceRefresher {
     private final BlockScoutExplorerProvider blockScoutExplorerProvider;
     // Non-EVM (Solana, TON) balance loader (ADR-067); EVM path stays candidate-driven above.
     private final NonEvmOnChainBalanceLoader nonEvmBalanceLoader;
+    // Explorer/provider lookups of all concurrent refreshes share this executor's slots.
+    @Qualifier(AsyncConfig.BALANCE_REFRESH_EXECUTOR)
+    private final BoundedExecutor balanceRefreshExecutor;
 
     public int refreshCurrentBalances(Instant capturedAt) {
         return refreshCurrentBalancesInternal(null, queryService.loadCandidates(), capturedAt, null);
@@ -953,10 +956,8 @@ public class OnChainBalanceRefreshService implements OnChainBalanceRefresher {
         if (tasks == null || tasks.isEmpty()) {
             return List.of();
         }
-        int lanes = Math.max(1, Math.min(EXPLORER_REFRESH_LANES, tasks.size()));
-        ExecutorService executor = Executors.newFixedThreadPool(lanes);
         try {
-            List<Future<Optional<T>>> futures = executor.invokeAll(tasks);
+            List<Future<Optional<T>>> futures = balanceRefreshExecutor.invokeAll(tasks, EXPLORER_REFRESH_LANES);
             ArrayList<T> results = new ArrayList<>();
             for (Future<Optional<T>> future : futures) {
                 heartbeat(heartbeat);
@@ -970,8 +971,6 @@ public class OnChainBalanceRefreshService implements OnChainBalanceRefresher {
         } catch (InterruptedException error) {
             Thread.currentThread().interrupt();
             throw new RpcException("On-chain balance refresh " + operation + " interrupted", error);
-        } finally {
-            executor.shutdownNow();
         }
     }
 
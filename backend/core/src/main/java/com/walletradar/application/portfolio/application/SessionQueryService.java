@@ -10,9 +10,14 @@ import com.walletradar.domain.sync.SyncStatusRepository;
 import com.walletradar.domain.transaction.bybit.BybitExtractedEvent;
 import com.walletradar.domain.transaction.externalledger.ExternalLedgerRaw;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionStatus;
+import com.walletradar.domain.transaction.raw.NormalizationStatus;
 import com.walletradar.application.linking.query.LinkingPendingStatusQuery;
 import com.walletradar.application.portfolio.application.port.SessionReadPort;
 import com.walletradar.application.session.application.AccountingUniverseService;
+import com.walletradar.platform.telemetry.PipelineCounterStore;
+import com.walletradar.platform.telemetry.PipelineCounterTotals;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -47,6 +52,7 @@ public class SessionQueryService implements SessionReadPort {
     private final AccountingUniverseService accountingUniverseService;
     private final LinkingPendingStatusQuery linkingPendingStatusQuery;
     private final MongoOperations mongoOperations;
+    private final PipelineCounterStore pipelineCounterStore;
 
     public Optional<SessionView> findSession(String sessionId) {
         if (sessionId == null || sessionId.isBlank()) {
@@ -198,21 +204,37 @@ public class SessionQueryService implements SessionReadPort {
         List<String> memberRefs = scope.memberRefs();
 
         return switch (stage) {
-            case "ON_CHAIN_NORMALIZATION" -> progressFromCounts(
-                    stage,
-                    countRawTransactions(onChainWalletRefs),
-                    countRawTransactions(onChainWalletRefs, "COMPLETE")
-            );
-            case "ON_CHAIN_CLARIFICATION" -> progressFromCounts(
-                    stage,
-                    countOnChainClarificationTotal(onChainWalletRefs),
-                    countOnChainClarificationProcessed(onChainWalletRefs)
-            );
-            case "ON_CHAIN_RECLASSIFICATION" -> progressFromCounts(
-                    stage,
-                    countOnChainClarificationTotal(onChainWalletRefs),
-                    countOnChainReclassificationProcessed(onChainWalletRefs)
-            );
+            case "ON_CHAIN_NORMALIZATION" -> {
+                PipelineCounterTotals totals = counters(onChainWalletRefs);
+                yield progressFromCounts(stage, totals.raw(null), totals.raw(NormalizationStatus.COMPLETE));
+            }
+            case "ON_CHAIN_CLARIFICATION" -> {
+                PipelineCounterTotals totals = counters(onChainWalletRefs);
+                long onChainTotal = totals.normalized(NormalizedTransactionSource.ON_CHAIN, PipelineCounterTotals.Accounting.ANY);
+                yield progressFromCounts(
+                        stage,
+                        onChainTotal,
+                        onChainTotal - totals.normalized(
+                                NormalizedTransactionSource.ON_CHAIN,
+                                PipelineCounterTotals.Accounting.ANY,
+                                NormalizedTransactionStatus.PENDING_CLARIFICATION
+                        )
+                );
+            }
+            case "ON_CHAIN_RECLASSIFICATION" -> {
+                PipelineCounterTotals totals = counters(onChainWalletRefs);
+                long onChainTotal = totals.normalized(NormalizedTransactionSource.ON_CHAIN, PipelineCounterTotals.Accounting.ANY);
+                yield progressFromCounts(
+                        stage,
+                        onChainTotal,
+                        onChainTotal - totals.normalized(
+                                NormalizedTransactionSource.ON_CHAIN,
+                                PipelineCounterTotals.Accounting.ANY,
+                                NormalizedTransactionStatus.PENDING_CLARIFICATION,
+                                NormalizedTransactionStatus.PENDING_RECLASSIFICATION
+                        )
+                );
+            }
             case "BYBIT_NORMALIZATION" -> progressFromCounts(
                     stage,
                     countBybitStagingRows(session.getId()),
@@ -223,14 +245,32 @@ public class SessionQueryService implements SessionReadPort {
                     1,
                     linkingPendingStatusQuery.hasPendingLinking(session.getId()) || hasPendingPriceRows(memberRefs) ? 0 : 1
             );
-            case "PRICING" -> progressFromCounts(
-                    stage,
-                    countPricingTotal(memberRefs),
-                    countPricingProcessed(memberRefs)
-            );
+            case "PRICING" -> {
+                PipelineCounterTotals totals = counters(memberRefs);
+                yield progressFromCounts(
+                        stage,
+                        totals.normalized(
+                                null,
+                                PipelineCounterTotals.Accounting.ACTIVE,
+                                NormalizedTransactionStatus.PENDING_PRICE,
+                                NormalizedTransactionStatus.PENDING_STAT,
+                                NormalizedTransactionStatus.CONFIRMED
+                        ),
+                        totals.normalized(
+                                null,
+                                PipelineCounterTotals.Accounting.ACTIVE,
+                                NormalizedTransactionStatus.PENDING_STAT,
+                                NormalizedTransactionStatus.CONFIRMED
+                        )
+                );
+            }
             case "ACCOUNTING_REPLAY" -> progressFromCounts(
                     stage,
-                    countReplayTotal(memberRefs),
+                    counters(memberRefs).normalized(
+                            null,
+                            PipelineCounterTotals.Accounting.ACTIVE,
+                            NormalizedTransactionStatus.CONFIRMED
+                    ),
                     countReplayProcessed(scope)
             );
             case "PORTFOLIO_SNAPSHOT_REFRESH" -> progressFromCounts(
@@ -444,58 +484,8 @@ public class SessionQueryService implements SessionReadPort {
         return new PhaseProgressView(phase, progressPct, normalizedProcessed, leftCount, totalCount);
     }
 
-    private long countRawTransactions(List<String> walletAddresses) {
-        if (walletAddresses.isEmpty()) {
-            return 0;
-        }
-        Query query = Query.query(Criteria.where("walletAddress").in(walletAddresses));
-        return mongoOperations.count(query, "raw_transactions");
-    }
-
-    private long countRawTransactions(List<String> walletAddresses, String normalizationStatus) {
-        if (walletAddresses.isEmpty()) {
-            return 0;
-        }
-        Query query = Query.query(new Criteria().andOperator(
-                Criteria.where("walletAddress").in(walletAddresses),
-                Criteria.where("normalizationStatus").is(normalizationStatus)
-        ));
-        return mongoOperations.count(query, "raw_transactions");
-    }
-
-    private long countOnChainClarificationTotal(List<String> walletAddresses) {
-        if (walletAddresses.isEmpty()) {
-            return 0;
-        }
-        Query query = Query.query(new Criteria().andOperator(
-                Criteria.where("walletAddress").in(walletAddresses),
-                Criteria.where("source").is("ON_CHAIN")
-        ));
-        return mongoOperations.count(query, NormalizedTransaction.class);
-    }
-
-    private long countOnChainClarificationProcessed(List<String> walletAddresses) {
-        if (walletAddresses.isEmpty()) {
-            return 0;
-        }
-        Query query = Query.query(new Criteria().andOperator(
-                Criteria.where("walletAddress").in(walletAddresses),
-                Criteria.where("source").is("ON_CHAIN"),
-                Criteria.where("status").ne("PENDING_CLARIFICATION")
-        ));
-        return mongoOperations.count(query, NormalizedTransaction.class);
-    }
-
-    private long countOnChainReclassificationProcessed(List<String> walletAddresses) {
-        if (walletAddresses.isEmpty()) {
-            return 0;
-        }
-        Query query = Query.query(new Criteria().andOperator(
-                Criteria.where("walletAddress").in(walletAddresses),
-                Criteria.where("source").is("ON_CHAIN"),
-                Criteria.where("status").nin("PENDING_CLARIFICATION", "PENDING_RECLASSIFICATION")
-        ));
-        return mongoOperations.count(query, NormalizedTransaction.class);
+    private PipelineCounterTotals counters(List<String> walletAddresses) {
+        return pipelineCounterStore.totals(walletAddresses);
     }
 
     private long countBybitStagingRows(String sessionId) {
@@ -524,18 +514,6 @@ public class SessionQueryService implements SessionReadPort {
         return mongoOperations.count(query, ExternalLedgerRaw.class);
     }
 
-    private long countPricingTotal(List<String> walletAddresses) {
-        if (walletAddresses.isEmpty()) {
-            return 0;
-        }
-        Query query = Query.query(new Criteria().andOperator(
-                Criteria.where("walletAddress").in(walletAddresses),
-                Criteria.where("status").in("PENDING_PRICE", "PENDING_STAT", "CONFIRMED"),
-                ACTIVE_ACCOUNTING_CRITERIA
-        ));
-        return mongoOperations.count(query, NormalizedTransaction.class);
-    }
-
     private boolean hasPendingPriceRows(List<String> walletAddresses) {
         if (walletAddresses.isEmpty()) {
             return false;
@@ -548,30 +526,6 @@ public class SessionQueryService implements SessionReadPort {
         return mongoOperations.exists(query, NormalizedTransaction.class);
     }
 
-    private long countPricingProcessed(List<String> walletAddresses) {
-        if (walletAddresses.isEmpty()) {
-            return 0;
-        }
-        Query query = Query.query(new Criteria().andOperator(
-                Criteria.where("walletAddress").in(walletAddresses),
-                Criteria.where("status").in("PENDING_STAT", "CONFIRMED"),
-                ACTIVE_ACCOUNTING_CRITERIA
-        ));
-        return mongoOperations.count(query, NormalizedTransaction.class);
-    }
-
-    private long countReplayTotal(List<String> walletAddresses) {
-        if (walletAddresses.isEmpty()) {
-            return 0;
-        }
-        Query query = Query.query(new Criteria().andOperator(
-                Criteria.where("walletAddress").in(walletAddresses),
-                Criteria.where("status").is("CONFIRMED"),
-                ACTIVE_ACCOUNTING_CRITERIA
-        ));
-        return mongoOperations.count(query, NormalizedTransaction.class);
-    }
-
     private long countReplayProcessed(AccountingUniverseService.AccountingUniverseScope scope) {
         if (scope == null || scope.memberRefs().isEmpty()) {
             return 0;
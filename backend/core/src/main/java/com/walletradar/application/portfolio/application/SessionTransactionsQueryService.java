@@ -8,11 +8,14 @@ import com.walletradar.domain.transaction.normalized.NormalizedTransactionStatus
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
 import com.walletradar.domain.wallet.WalletDomainKind;
 import com.walletradar.domain.wallet.WalletRef;
+import com.walletradar.application.costbasis.support.AccountingAssetFamilySupport;
 import com.walletradar.application.portfolio.application.port.SessionTransactionsReadPort;
 import com.walletradar.application.session.application.AccountingUniverseService;
 import lombok.RequiredArgsConstructor;
+import org.bson.Document;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
@@ -45,6 +48,8 @@ public class SessionTransactionsQueryService implements SessionTransactionsReadP
     private static final MathContext MC = MathContext.DECIMAL128;
     private static final int DEFAULT_LIMIT = 50;
     private static final int MAX_LIMIT = 500;
+    private static final int EXPORT_CURSOR_BATCH_SIZE = 500;
+    private static final String EXPORT_INDEX = "normalized_wallet_block_tx_id_idx";
     private static final List<String> SPAM_LIKE_REASON_CODES = List.of(
             "PROMO_SPAM_PHISHING",
             "CLAIM_LIKE_SPAM_OR_AIRDROP",
@@ -175,6 +180,37 @@ public class SessionTransactionsQueryService implements SessionTransactionsReadP
                 });
     }
 
+    /**
+     * Opens a cursor over the session's visible transactions, oldest first, for NDJSON export.
+     * Rows are fetched in cursor batches and mapped one at a time as the caller pulls, so memory
+     * does not grow with the export size. The caller must close the stream.
+     */
+    public Optional<Stream<ItemView>> streamSessionTransactions(String sessionId, TransactionsExportQuery query) {
+        if (sessionId == null || sessionId.isBlank()) {
+            return Optional.empty();
+        }
+        return userSessionRepository.findById(sessionId.trim())
+                .map(session -> openTransactionsExport(session, query));
+    }
+
+    public static TransactionsExportQuery normalizeExportQuery(
+            Instant from,
+            Instant to,
+            String rawFamilyIdentity,
+            Collection<NetworkId> requestedNetworkIds
+    ) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        String familyIdentity = rawFamilyIdentity == null || rawFamilyIdentity.isBlank() ? null : rawFamilyIdentity.trim();
+        return new TransactionsExportQuery(
+                from,
+                to,
+                familyIdentity,
+                requestedNetworkIds == null ? List.of() : requestedNetworkIds.stream().filter(Objects::nonNull).distinct().toList()
+        );
+    }
+
     public static int validateLimitOrThrow(Integer requestedLimit) {
         if (requestedLimit == null) {
             return DEFAULT_LIMIT;
@@ -266,6 +302,67 @@ public class SessionTransactionsQueryService implements SessionTransactionsReadP
         return mongoOperations.find(query, NormalizedTransaction.class);
     }
 
+    private Stream<ItemView> openTransactionsExport(UserSession session, TransactionsExportQuery export) {
+        Collection<String> scopedMemberRefs = accountingUniverseService.resolveScope(session).memberRefs();
+        if (scopedMemberRefs == null || scopedMemberRefs.isEmpty()) {
+            return Stream.empty();
+        }
+        List<Criteria> criteria = new ArrayList<>();
+        criteria.add(transactionsCriteria(
+                scopedMemberRefs,
+                new TransactionsQuery(MAX_LIMIT, 0, null, DEFAULT_CATEGORIES, List.of(), export.networkIds())
+        ));
+        if (export.from() != null) {
+            criteria.add(Criteria.where("blockTimestamp").gte(export.from()));
+        }
+        if (export.to() != null) {
+            criteria.add(Criteria.where("blockTimestamp").lt(export.to()));
+        }
+        if (export.familyIdentity() != null) {
+            Criteria family = familyCriteria(criteria, export.familyIdentity());
+            if (family == null) {
+                return Stream.empty();
+            }
+            criteria.add(family);
+        }
+        // Hinted so the family $elemMatch cannot steer the planner to another index: the planner
+        // merge-sorts the per-wallet normalized_wallet_block_tx_id_idx ranges on
+        // {blockTimestamp, transactionIndex} instead of sorting the export in memory.
+        Query query = Query.query(new Criteria().andOperator(criteria.toArray(Criteria[]::new)))
+                .with(Sort.by(Sort.Order.asc("blockTimestamp"), Sort.Order.asc("transactionIndex")))
+                .withHint(EXPORT_INDEX)
+                .cursorBatchSize(EXPORT_CURSOR_BATCH_SIZE);
+        return mongoOperations.stream(query, NormalizedTransaction.class).map(this::toItemView);
+    }
+
+    /**
+     * Family identities are derived from a flow's symbol and contract, not stored, so the distinct
+     * assets of the exported rows are resolved first and the family becomes an {@code $elemMatch}
+     * over its member assets. {@code null} when no exported row holds the family.
+     */
+    private Criteria familyCriteria(List<Criteria> exportCriteria, String familyIdentity) {
+        Aggregation assets = Aggregation.newAggregation(
+                Aggregation.match(new Criteria().andOperator(exportCriteria.toArray(Criteria[]::new))),
+                Aggregation.unwind("flows"),
+                Aggregation.group("flows.assetSymbol", "flows.assetContract")
+                        .first("flows.assetSymbol").as("assetSymbol")
+                        .first("flows.assetContract").as("assetContract")
+        );
+        List<Criteria> members = new ArrayList<>();
+        for (Document asset : mongoOperations.aggregate(assets, NormalizedTransaction.class, Document.class)
+                .getMappedResults()) {
+            String symbol = asset.getString("assetSymbol");
+            String contract = asset.getString("assetContract");
+            if (familyIdentity.equals(AccountingAssetFamilySupport.continuityIdentity(symbol, contract))) {
+                members.add(Criteria.where("assetSymbol").is(symbol).and("assetContract").is(contract));
+            }
+        }
+        if (members.isEmpty()) {
+            return null;
+        }
+        return Criteria.where("flows").elemMatch(new Criteria().orOperator(members.toArray(Criteria[]::new)));
+    }
+
     private long countVisibleTransactions(Collection<String> memberRefs) {
         if (memberRefs == null || memberRefs.isEmpty()) {
             return 0;
@@ -623,6 +720,18 @@ public class SessionTransactionsQueryService implements SessionTransactionsReadP
     ) {
     }
 
+    /**
+     * Export filters: {@code [from, to)} on block time, a continuity family any flow must belong to,
+     * and networks (CEX rows without a network are kept, as on the paged endpoint).
+     */
+    public record TransactionsExportQuery(
+            Instant from,
+            Instant to,
+            String familyIdentity,
+            List<NetworkId> networkIds
+    ) {
+    }
+
     public enum TransactionCategory {
         SWAP, LP, LENDING, BRIDGE, EXTERNAL_TRANSFER, INTERNAL_TRANSFER, REWARD, DUST, NEED_REVIEW, SPAM
     }
@@ -3,9 +3,11 @@ package com.walletradar.application.portfolio.application.port;
 import com.walletradar.domain.common.NetworkId;
 import com.walletradar.application.portfolio.application.SessionTransactionsQueryService;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * BFF-facing read contract for session transaction history.
@@ -19,6 +21,12 @@ public interface SessionTransactionsReadPort {
 
     Optional<SessionTransactionsQueryService.RebuildTransactionsView> rebuildSessionTransactions(String sessionId);
 
+    /** Cursor-backed export stream; the caller must close it. */
+    Optional<Stream<SessionTransactionsQueryService.ItemView>> streamSessionTransactions(
+            String sessionId,
+            SessionTransactionsQueryService.TransactionsExportQuery query
+    );
+
     static SessionTransactionsQueryService.TransactionsQuery normalizeQuery(
             Integer limit,
             Integer offset,
@@ -36,4 +44,13 @@ public interface SessionTransactionsReadPort {
                 networkIds
         );
     }
+
+    static SessionTransactionsQueryService.TransactionsExportQuery normalizeExportQuery(
+            Instant from,
+            Instant to,
+            String familyIdentity,
+            List<NetworkId> networkIds
+    ) {
+        return SessionTransactionsQueryService.normalizeExportQuery(from, to, familyIdentity, networkIds);
+    }
 }
@@ -7,6 +7,7 @@ import com.walletradar.domain.session.UserSession;
 import com.walletradar.domain.session.UserSessionRepository;
 import com.walletradar.application.pricing.domain.CanonicalAssetCatalog;
 import com.walletradar.application.pricing.domain.PriceQuote;
+import com.walletradar.application.pricing.latest.CurrentPriceSnapshotStore;
 import com.walletradar.application.pricing.persistence.CurrentPriceQuoteDocument;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,7 +34,8 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 /**
- * Refreshes datastore-backed current quote snapshots outside dashboard GET requests.
+ * Refreshes datastore-backed current quote snapshots outside dashboard GET requests. Republishes the
+ * in-memory {@link CurrentPriceSnapshotStore} snapshot after a refresh that touched any quote.
  */
 @Service
 @RequiredArgsConstructor
@@ -46,6 +48,7 @@ public class CurrentPriceQuoteRefreshService {
     private final MongoOperations mongoOperations;
     private final GmxProtocolSnapshotValuationService gmxProtocolSnapshotValuationService;
     private final UserSessionRepository userSessionRepository;
+    private final CurrentPriceSnapshotStore snapshotStore;
 
     /**
      * Lightweight refresh targeted at a known set of market symbols (e.g. LP position tokens).
@@ -63,7 +66,11 @@ public class CurrentPriceQuoteRefreshService {
             String canon = CanonicalAssetCatalog.canonicalMarketSymbol(sym);
             if (!canon.isBlank()) canonical.add(canon);
         }
-        return refreshSymbols(sessionId, canonical, Instant.now());
+        int refreshed = refreshSymbols(sessionId, canonical, Instant.now());
+        if (refreshed > 0) {
+            snapshotStore.reload();
+        }
+        return refreshed;
     }
 
     public int refreshForSessionBalances(String sessionId, Instant requestedAt) {
@@ -84,6 +91,9 @@ public class CurrentPriceQuoteRefreshService {
         // unclaimed fees in LP snapshots, never as held balances — add them explicitly.
         symbols.addAll(loadLpRewardTokenSymbols(sessionId));
         refreshed += refreshSymbols(sessionId, symbols, refreshTime);
+        if (refreshed > 0) {
+            snapshotStore.reload();
+        }
         log.info(
                 "Current quote refresh complete: sessionId={}, symbols={}, protocolAssets={}, refreshed={}",
                 sessionId,
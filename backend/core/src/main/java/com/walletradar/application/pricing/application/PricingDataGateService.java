@@ -2,65 +2,98 @@ package com.walletradar.application.pricing.application;
 
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionStatus;
+import com.walletradar.platform.telemetry.PipelineCounterStore;
+import com.walletradar.platform.telemetry.PipelineCounterTotals;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Produces live pricing readiness counters used by BE-06F handoff.
+ *
+ * <p>Counts come from {@code pipeline_counters}; {@code avcoReady} is decided by one
+ * {@code exists} probe for a blocking row so counter drift can never open the gate early. When the
+ * probe disagrees with the counters of a member set, that set is reconciled before answering; the
+ * global snapshot only logs the drift (see {@link #snapshot()}).</p>
  */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class PricingDataGateService {
 
-    private final MongoOperations mongoOperations;
+    private static final List<NormalizedTransactionStatus> PENDING_STATUSES = List.of(
+            NormalizedTransactionStatus.PENDING_PRICE,
+            NormalizedTransactionStatus.PENDING_CLARIFICATION,
+            NormalizedTransactionStatus.PENDING_RECLASSIFICATION
+    );
     private static final Criteria ACTIVE_ACCOUNTING_CRITERIA = new Criteria().orOperator(
             Criteria.where("excludedFromAccounting").exists(false),
             Criteria.where("excludedFromAccounting").is(Boolean.FALSE)
     );
-    private static final Criteria EXCLUDED_ACCOUNTING_CRITERIA = Criteria.where("excludedFromAccounting").is(Boolean.TRUE);
 
+    private final MongoOperations mongoOperations;
+    private final PipelineCounterStore pipelineCounterStore;
+
+    /**
+     * Global gate. Drift is only logged here, not reconciled: a global recount would aggregate every
+     * member's rows on a hot read, {@code avcoReady} already comes from the probe, and the counts
+     * are repaired by {@code PipelineCounterReconciliationJob} on its next pass.
+     */
     public PricingDataGateSnapshot snapshot() {
-        long pendingPriceCount = countByStatus(NormalizedTransactionStatus.PENDING_PRICE);
-        long pendingClarificationCount = countByStatus(NormalizedTransactionStatus.PENDING_CLARIFICATION);
-        long pendingReclassificationCount = countByStatus(NormalizedTransactionStatus.PENDING_RECLASSIFICATION);
-        long needsReviewCount = countBlockingNeedsReview();
-        long excludedNeedsReviewCount = countExcludedNeedsReview();
-        long unresolvedPriceCount = countUnresolvedPrice();
-        boolean avcoReady = pendingPriceCount == 0L
-                && pendingClarificationCount == 0L
-                && pendingReclassificationCount == 0L
-                && needsReviewCount == 0L;
-        return new PricingDataGateSnapshot(
-                pendingPriceCount,
-                pendingClarificationCount,
-                pendingReclassificationCount,
-                needsReviewCount,
-                unresolvedPriceCount,
-                excludedNeedsReviewCount,
-                avcoReady
-        );
+        boolean blocked = hasBlockingRows(null);
+        CounterSnapshot snapshot = fromCounters(pipelineCounterStore.totals(), !blocked);
+        if (blocked == snapshot.avcoReadyByCounters()) {
+            log.warn("Pricing gate counters drifted from live rows: blocked={}, scope=global", blocked);
+        }
+        return snapshot.gate();
     }
 
     public PricingDataGateSnapshot snapshot(Collection<String> walletAddresses) {
         if (walletAddresses == null || walletAddresses.isEmpty()) {
             return new PricingDataGateSnapshot(0L, 0L, 0L, 0L, 0L, 0L, true);
         }
-        long pendingPriceCount = countByStatus(walletAddresses, NormalizedTransactionStatus.PENDING_PRICE);
-        long pendingClarificationCount = countByStatus(walletAddresses, NormalizedTransactionStatus.PENDING_CLARIFICATION);
-        long pendingReclassificationCount = countByStatus(walletAddresses, NormalizedTransactionStatus.PENDING_RECLASSIFICATION);
-        long needsReviewCount = countBlockingNeedsReview(walletAddresses);
-        long excludedNeedsReviewCount = countExcludedNeedsReview(walletAddresses);
-        long unresolvedPriceCount = countUnresolvedPrice(walletAddresses);
-        boolean avcoReady = pendingPriceCount == 0L
-                && pendingClarificationCount == 0L
-                && pendingReclassificationCount == 0L
-                && needsReviewCount == 0L;
-        return new PricingDataGateSnapshot(
+        boolean blocked = hasBlockingRows(walletAddresses);
+        CounterSnapshot snapshot = fromCounters(pipelineCounterStore.totals(walletAddresses), !blocked);
+        if (blocked == snapshot.avcoReadyByCounters()) {
+            log.warn("Pricing gate counters drifted, reconciling: memberRefs={}, blocked={}", walletAddresses.size(), blocked);
+            snapshot = fromCounters(pipelineCounterStore.reconcile(walletAddresses), !blocked);
+        }
+        return snapshot.gate();
+    }
+
+    private boolean hasBlockingRows(Collection<String> walletAddresses) {
+        Criteria blocking = new Criteria().orOperator(
+                Criteria.where("status").in(PENDING_STATUSES),
+                new Criteria().andOperator(
+                        Criteria.where("status").is(NormalizedTransactionStatus.NEEDS_REVIEW),
+                        ACTIVE_ACCOUNTING_CRITERIA
+                )
+        );
+        Criteria criteria = walletAddresses == null
+                ? blocking
+                : new Criteria().andOperator(Criteria.where("walletAddress").in(walletAddresses), blocking);
+        return mongoOperations.exists(new Query(criteria), NormalizedTransaction.class);
+    }
+
+    private static CounterSnapshot fromCounters(PipelineCounterTotals totals, boolean avcoReady) {
+        long pendingPriceCount = totals.normalized(
+                null, PipelineCounterTotals.Accounting.ANY, NormalizedTransactionStatus.PENDING_PRICE);
+        long pendingClarificationCount = totals.normalized(
+                null, PipelineCounterTotals.Accounting.ANY, NormalizedTransactionStatus.PENDING_CLARIFICATION);
+        long pendingReclassificationCount = totals.normalized(
+                null, PipelineCounterTotals.Accounting.ANY, NormalizedTransactionStatus.PENDING_RECLASSIFICATION);
+        long needsReviewCount = totals.normalized(
+                null, PipelineCounterTotals.Accounting.ACTIVE, NormalizedTransactionStatus.NEEDS_REVIEW);
+        long excludedNeedsReviewCount = totals.normalized(
+                null, PipelineCounterTotals.Accounting.EXCLUDED, NormalizedTransactionStatus.NEEDS_REVIEW);
+        long unresolvedPriceCount = totals.reason(null, PriceableFlowPolicy.PRICE_UNRESOLVABLE_REASON);
+        return new CounterSnapshot(new PricingDataGateSnapshot(
                 pendingPriceCount,
                 pendingClarificationCount,
                 pendingReclassificationCount,
@@ -68,66 +101,16 @@ public class PricingDataGateService {
                 unresolvedPriceCount,
                 excludedNeedsReviewCount,
                 avcoReady
-        );
-    }
-
-    private long countByStatus(NormalizedTransactionStatus status) {
-        Query query = new Query(Criteria.where("status").is(status));
-        return mongoOperations.count(query, NormalizedTransaction.class);
-    }
-
-    private long countByStatus(Collection<String> walletAddresses, NormalizedTransactionStatus status) {
-        Query query = new Query(new Criteria().andOperator(
-                Criteria.where("walletAddress").in(walletAddresses),
-                Criteria.where("status").is(status)
-        ));
-        return mongoOperations.count(query, NormalizedTransaction.class);
-    }
-
-    private long countBlockingNeedsReview() {
-        Query query = new Query(new Criteria().andOperator(
-                Criteria.where("status").is(NormalizedTransactionStatus.NEEDS_REVIEW),
-                ACTIVE_ACCOUNTING_CRITERIA
         ));
-        return mongoOperations.count(query, NormalizedTransaction.class);
     }
 
-    private long countBlockingNeedsReview(Collection<String> walletAddresses) {
-        Query query = new Query(new Criteria().andOperator(
-                Criteria.where("walletAddress").in(walletAddresses),
-                Criteria.where("status").is(NormalizedTransactionStatus.NEEDS_REVIEW),
-                ACTIVE_ACCOUNTING_CRITERIA
-        ));
-        return mongoOperations.count(query, NormalizedTransaction.class);
-    }
+    private record CounterSnapshot(PricingDataGateSnapshot gate) {
 
-    private long countExcludedNeedsReview() {
-        Query query = new Query(new Criteria().andOperator(
-                Criteria.where("status").is(NormalizedTransactionStatus.NEEDS_REVIEW),
-                EXCLUDED_ACCOUNTING_CRITERIA
-        ));
-        return mongoOperations.count(query, NormalizedTransaction.class);
-    }
-
-    private long countExcludedNeedsReview(Collection<String> walletAddresses) {
-        Query query = new Query(new Criteria().andOperator(
-                Criteria.where("walletAddress").in(walletAddresses),
-                Criteria.where("status").is(NormalizedTransactionStatus.NEEDS_REVIEW),
-                EXCLUDED_ACCOUNTING_CRITERIA
-        ));
-        return mongoOperations.count(query, NormalizedTransaction.class);
-    }
-
-    private long countUnresolvedPrice() {
-        Query query = new Query(Criteria.where("missingDataReasons").in(PriceableFlowPolicy.PRICE_UNRESOLVABLE_REASON));
-        return mongoOperations.count(query, NormalizedTransaction.class);
-    }
-
-    private long countUnresolvedPrice(Collection<String> walletAddresses) {
-        Query query = new Query(new Criteria().andOperator(
-                Criteria.where("walletAddress").in(walletAddresses),
-                Criteria.where("missingDataReasons").in(PriceableFlowPolicy.PRICE_UNRESOLVABLE_REASON)
-        ));
-        return mongoOperations.count(query, NormalizedTransaction.class);
+        boolean avcoReadyByCounters() {
+            return gate.pendingPriceCount() == 0L
+                    && gate.pendingClarificationCount() == 0L
+                    && gate.pendingReclassificationCount() == 0L
+                    && gate.needsReviewCount() == 0L;
+        }
     }
 }
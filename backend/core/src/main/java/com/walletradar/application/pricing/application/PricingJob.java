@@ -1,6 +1,5 @@
 package com.walletradar.application.pricing.application;
 
-import com.walletradar.platform.common.config.AsyncConfig;
 import com.walletradar.domain.event.LinkingCompletedEvent;
 import com.walletradar.domain.event.PricingCompletedEvent;
 import com.walletradar.domain.event.PricingRequestedEvent;
@@ -11,11 +10,11 @@ import com.walletradar.application.session.application.SessionPipelineActivitySe
 import com.walletradar.application.session.application.SessionPipelineStateService;
 import com.walletradar.platform.telemetry.PipelineTelemetrySnapshot;
 import com.walletradar.platform.telemetry.PipelineTelemetrySnapshotService;
+import com.walletradar.application.pipeline.queue.PipelineStageHandoff;
+import com.walletradar.application.pipeline.queue.PipelineStageJob;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
@@ -26,6 +25,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * Event-driven driver for the pricing stage.
  */
 @Component
+@PipelineStageJob
 @RequiredArgsConstructor
 @Slf4j
 public class PricingJob {
@@ -40,7 +40,7 @@ public class PricingJob {
     private final PricingDataGateService pricingDataGateService;
     private final StalePriceUnresolvedRepairService stalePriceUnresolvedRepairService;
     private final PipelineTelemetrySnapshotService pipelineTelemetrySnapshotService;
-    private final ApplicationEventPublisher applicationEventPublisher;
+    private final PipelineStageHandoff pipelineStageHandoff;
     private final SessionPipelineActivityService sessionPipelineActivityService;
     private final SessionPipelineStateService sessionPipelineStateService;
 
@@ -49,7 +49,6 @@ public class PricingJob {
     }
 
     @EventListener
-    @Async(AsyncConfig.PIPELINE_STAGE_EXECUTOR)
     public void onLinkingCompleted(LinkingCompletedEvent event) {
         if (!pricingProperties.isEnabled() || event == null) {
             return;
@@ -58,7 +57,6 @@ public class PricingJob {
     }
 
     @EventListener
-    @Async(AsyncConfig.PIPELINE_STAGE_EXECUTOR)
     public void onPricingRequested(PricingRequestedEvent event) {
         if (!pricingProperties.isEnabled() || event == null) {
             return;
@@ -177,6 +175,6 @@ public class PricingJob {
         if (processed <= 0 && !publishWhenEmpty) {
             return;
         }
-        applicationEventPublisher.publishEvent(new PricingCompletedEvent(sessionId, processed, trigger));
+        pipelineStageHandoff.submit(sessionId, new PricingCompletedEvent(sessionId, processed, trigger));
     }
 }
@@ -1,8 +1,12 @@
 package com.walletradar.application.pricing.application;
 
+import com.walletradar.application.custody.application.CustodyLedgerDelta;
+import com.walletradar.application.custody.application.CustodyLedgerProjectionStore;
 import com.walletradar.platform.common.config.AsyncConfig;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
+import com.walletradar.platform.telemetry.PipelineCounterDelta;
+import com.walletradar.platform.telemetry.PipelineCounterStore;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -10,7 +14,9 @@ import org.springframework.stereotype.Service;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
@@ -28,6 +34,8 @@ public class PricingJobService {
     private final BatchPriceQuoteResolver batchPriceQuoteResolver;
     private final PricingProperties pricingProperties;
     private final Executor pricingExecutor;
+    private final PipelineCounterStore pipelineCounterStore;
+    private final CustodyLedgerProjectionStore custodyLedgerProjectionStore;
 
     public PricingJobService(
             PendingPricingQueryService pendingPricingQueryService,
@@ -36,7 +44,9 @@ public class PricingJobService {
             PricingResultMapper pricingResultMapper,
             BatchPriceQuoteResolver batchPriceQuoteResolver,
             PricingProperties pricingProperties,
-            @Qualifier(AsyncConfig.PRICING_EXECUTOR) Executor pricingExecutor
+            @Qualifier(AsyncConfig.PRICING_EXECUTOR) Executor pricingExecutor,
+            PipelineCounterStore pipelineCounterStore,
+            CustodyLedgerProjectionStore custodyLedgerProjectionStore
     ) {
         this.pendingPricingQueryService = pendingPricingQueryService;
         this.normalizedTransactionRepository = normalizedTransactionRepository;
@@ -45,6 +55,8 @@ public class PricingJobService {
         this.batchPriceQuoteResolver = batchPriceQuoteResolver;
         this.pricingProperties = pricingProperties;
         this.pricingExecutor = pricingExecutor;
+        this.pipelineCounterStore = pipelineCounterStore;
+        this.custodyLedgerProjectionStore = custodyLedgerProjectionStore;
     }
 
     public int processNextBatch() {
@@ -61,6 +73,12 @@ public class PricingJobService {
             return 0;
         }
 
+        Map<String, PipelineCounterDelta.Snapshot> before = new HashMap<>();
+        Map<String, CustodyLedgerDelta.Snapshot> custodyBefore = new HashMap<>();
+        batch.forEach(transaction -> {
+            before.put(transaction.getId(), PipelineCounterDelta.snapshot(transaction));
+            custodyBefore.put(transaction.getId(), CustodyLedgerDelta.snapshot(transaction));
+        });
         BatchPriceQuoteResolver.BatchQuotePlan batchQuotePlan = batchPriceQuoteResolver.prepare(batch);
         List<PricingOutcome> outcomes = resolveBatch(batch, progressHeartbeat, batchQuotePlan);
         List<NormalizedTransaction> persisted = outcomes.stream()
@@ -68,7 +86,14 @@ public class PricingJobService {
                 .map(PricingOutcome::transaction)
                 .toList();
         batchPriceQuoteResolver.persistFetchedQuotes(batchQuotePlan);
+        CustodyLedgerDelta custodyDelta = new CustodyLedgerDelta();
+        persisted.forEach(transaction -> custodyDelta.normalized(custodyBefore.get(transaction.getId()), transaction));
+        custodyLedgerProjectionStore.beginWrite(custodyDelta);
         normalizedTransactionRepository.saveAll(persisted);
+        PipelineCounterDelta delta = new PipelineCounterDelta();
+        persisted.forEach(transaction -> delta.normalized(before.get(transaction.getId()), transaction));
+        pipelineCounterStore.apply(delta);
+        custodyLedgerProjectionStore.apply(custodyDelta);
         return (int) outcomes.stream().filter(PricingOutcome::successful).count();
     }
 
@@ -4,14 +4,10 @@ import com.walletradar.application.pricing.domain.CanonicalAssetCatalog;
 import com.walletradar.application.pricing.persistence.CurrentPriceQuoteDocument;
 import com.walletradar.domain.common.PriceSource;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.mongodb.core.MongoOperations;
-import org.springframework.data.mongodb.core.query.Criteria;
-import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -29,7 +25,8 @@ import java.util.stream.Collectors;
  * for the same symbol within a single request.
  *
  * <p>The service applies {@link LatestPriceSelectionPolicy} when multiple providers have stored
- * quotes for the same symbol.
+ * quotes for the same symbol. Quotes are read from the in-memory {@link CurrentPriceSnapshotStore},
+ * republished after every refresh cycle, so query paths do not hit Mongo.
  *
  * <p><strong>This service NEVER writes to any collection and NEVER touches historical_prices.</strong>
  */
@@ -37,7 +34,7 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CurrentPriceReadService {
 
-    private final MongoOperations mongoOperations;
+    private final CurrentPriceSnapshotStore snapshotStore;
     private final LatestPriceSelectionPolicy selectionPolicy;
     private final LatestPriceProperties latestPriceProperties;
 
@@ -79,24 +76,14 @@ public class CurrentPriceReadService {
             return result;
         }
 
-        // Read current_price_quotes for all remaining symbols
-        Query query = Query.query(Criteria.where("symbol").in(remaining));
-        List<CurrentPriceQuoteDocument> allQuotes = mongoOperations.find(query, CurrentPriceQuoteDocument.class);
-
-        // Group by canonical symbol
-        Map<String, List<CurrentPriceQuoteDocument>> bySymbol = new LinkedHashMap<>();
-        for (CurrentPriceQuoteDocument quote : allQuotes) {
-            if (quote.getSymbol() == null) continue;
-            String sym = quote.getSymbol().trim().toUpperCase(Locale.ROOT);
-            bySymbol.computeIfAbsent(sym, k -> new ArrayList<>()).add(quote);
-        }
-
+        CurrentPriceSnapshot snapshot = snapshotStore.current();
         Instant staleThreshold = Instant.now().minusMillis(latestPriceProperties.getStaleAfterMs());
 
-        for (Map.Entry<String, List<CurrentPriceQuoteDocument>> entry : bySymbol.entrySet()) {
-            String sym = entry.getKey();
-            if (result.containsKey(sym)) continue;
-            selectionPolicy.select(entry.getValue(), staleThreshold)
+        for (String sym : normalized) {
+            if (!remaining.contains(sym)) continue;
+            List<CurrentPriceQuoteDocument> quotes = snapshot.quotes(sym);
+            if (quotes.isEmpty()) continue;
+            selectionPolicy.select(quotes, staleThreshold)
                     .ifPresent(price -> result.put(sym, price));
         }
 
@@ -0,0 +1,56 @@
+package com.walletradar.application.pricing.latest;
+
+import com.walletradar.application.pricing.persistence.CurrentPriceQuoteDocument;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable in-memory copy of {@code current_price_quotes}, grouped by upper-cased canonical symbol.
+ * Published by {@link CurrentPriceSnapshotStore} after every refresh cycle; {@code generation} grows by
+ * one per publish. Selection (freshness, provider priority) is still applied per read, so a snapshot
+ * ages exactly like the stored quotes would.
+ */
+public final class CurrentPriceSnapshot {
+
+    private final long generation;
+    private final Instant loadedAt;
+    private final Map<String, List<CurrentPriceQuoteDocument>> quotesBySymbol;
+
+    CurrentPriceSnapshot(long generation, Instant loadedAt, Collection<CurrentPriceQuoteDocument> quotes) {
+        this.generation = generation;
+        this.loadedAt = loadedAt;
+        Map<String, List<CurrentPriceQuoteDocument>> grouped = new LinkedHashMap<>();
+        for (CurrentPriceQuoteDocument quote : quotes) {
+            if (quote.getSymbol() == null) {
+                continue;
+            }
+            grouped.computeIfAbsent(quote.getSymbol().trim().toUpperCase(Locale.ROOT), ignored -> new ArrayList<>())
+                    .add(quote);
+        }
+        grouped.replaceAll((symbol, symbolQuotes) -> List.copyOf(symbolQuotes));
+        this.quotesBySymbol = Map.copyOf(grouped);
+    }
+
+    public long generation() {
+        return generation;
+    }
+
+    public Instant loadedAt() {
+        return loadedAt;
+    }
+
+    public int symbolCount() {
+        return quotesBySymbol.size();
+    }
+
+    /** Stored quotes of one upper-cased canonical symbol, one per source; empty when none. */
+    public List<CurrentPriceQuoteDocument> quotes(String symbol) {
+        return quotesBySymbol.getOrDefault(symbol, List.of());
+    }
+}
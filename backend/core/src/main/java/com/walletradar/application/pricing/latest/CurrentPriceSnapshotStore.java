@@ -0,0 +1,66 @@
+package com.walletradar.application.pricing.latest;
+
+import com.walletradar.application.pricing.persistence.CurrentPriceQuoteDocument;
+import com.walletradar.application.session.application.UniverseDataVersionService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the current {@link CurrentPriceSnapshot}. {@link LatestPriceRefreshService} calls
+ * {@link #reload()} after each cycle's bulk write; readers take {@link #current()}, which only goes to
+ * Mongo when nothing has been published yet (first read after start-up). Between cycles every read is
+ * served from memory.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentPriceSnapshotStore {
+
+    private static final Logger log = LoggerFactory.getLogger(CurrentPriceSnapshotStore.class);
+
+    private final MongoOperations mongoOperations;
+    private final UniverseDataVersionService universeDataVersionService;
+    private final AtomicReference<CurrentPriceSnapshot> current = new AtomicReference<>();
+    private final Object reloadLock = new Object();
+
+    public CurrentPriceSnapshot current() {
+        CurrentPriceSnapshot snapshot = current.get();
+        if (snapshot != null) {
+            return snapshot;
+        }
+        synchronized (reloadLock) {
+            snapshot = current.get();
+            return snapshot != null ? snapshot : load();
+        }
+    }
+
+    /**
+     * Reads every stored quote and publishes it as the next generation. Quotes feed every session's
+     * valuation, so a reload moves the global data version.
+     */
+    public CurrentPriceSnapshot reload() {
+        CurrentPriceSnapshot snapshot;
+        synchronized (reloadLock) {
+            snapshot = load();
+        }
+        universeDataVersionService.bumpGlobal("current-prices-reloaded");
+        return snapshot;
+    }
+
+    private CurrentPriceSnapshot load() {
+        List<CurrentPriceQuoteDocument> quotes = mongoOperations.findAll(CurrentPriceQuoteDocument.class);
+        CurrentPriceSnapshot previous = current.get();
+        long generation = previous == null ? 1L : previous.generation() + 1L;
+        CurrentPriceSnapshot snapshot = new CurrentPriceSnapshot(generation, Instant.now(), quotes);
+        current.set(snapshot);
+        log.debug("Current price snapshot published: generation={}, quotes={}, symbols={}",
+                generation, quotes.size(), snapshot.symbolCount());
+        return snapshot;
+    }
+}
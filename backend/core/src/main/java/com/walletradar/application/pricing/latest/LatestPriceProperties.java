@@ -33,6 +33,12 @@ public class LatestPriceProperties {
      */
     private long staleAfterMs = 5_400_000L;
 
+    /**
+     * How long a refresh cycle waits for each provider (they run concurrently) before counting it as
+     * failed for the cycle. Default: 2 minutes.
+     */
+    private long providerTimeoutMs = 120_000L;
+
     /**
      * Number of days after which a tracked asset entry that has not been refreshed is pruned from the registry.
      * Default: 7 days.
@@ -3,9 +3,11 @@ package com.walletradar.application.pricing.latest;
 import com.walletradar.application.pricing.persistence.CurrentPriceQuoteDocument;
 import com.walletradar.domain.common.Decimal128Support;
 import com.walletradar.domain.common.PriceSource;
-import lombok.RequiredArgsConstructor;
+import com.walletradar.platform.common.config.AsyncConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -19,6 +21,12 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Stateless service that executes one full latest-price refresh cycle.
@@ -26,15 +34,18 @@ import java.util.Set;
  * <p>Each cycle:
  * <ol>
  *   <li>Loads all symbols from {@code tracked_price_assets}.</li>
- *   <li>Calls each registered {@link LatestPriceProvider#fetchAll(Set)} in turn.</li>
- *   <li>Upserts only the symbols that were actually returned this cycle to {@code current_price_quotes}.</li>
+ *   <li>Calls every registered {@link LatestPriceProvider#fetchAll(Map)} concurrently on the pricing
+ *       executor and waits at most {@code provider-timeout-ms} for each.</li>
+ *   <li>Upserts only the symbols that were actually returned this cycle to {@code current_price_quotes},
+ *       in one unordered bulk write.</li>
+ *   <li>Publishes the stored quotes as the next {@link CurrentPriceSnapshot} generation.</li>
  *   <li>Never touches {@code historical_prices}.</li>
  * </ol>
  *
- * <p>A provider that throws is logged and counted as failed; remaining providers still run.
+ * <p>A provider that throws or times out is logged and counted as failed; remaining providers still
+ * count.
  */
 @Service
-@RequiredArgsConstructor
 public class LatestPriceRefreshService {
 
     private static final Logger log = LoggerFactory.getLogger(LatestPriceRefreshService.class);
@@ -42,6 +53,22 @@ public class LatestPriceRefreshService {
     private final MongoOperations mongoOperations;
     private final List<LatestPriceProvider> providers;
     private final LatestPriceProperties latestPriceProperties;
+    private final CurrentPriceSnapshotStore snapshotStore;
+    private final Executor pricingExecutor;
+
+    public LatestPriceRefreshService(
+            MongoOperations mongoOperations,
+            List<LatestPriceProvider> providers,
+            LatestPriceProperties latestPriceProperties,
+            CurrentPriceSnapshotStore snapshotStore,
+            @Qualifier(AsyncConfig.PRICING_EXECUTOR) Executor pricingExecutor
+    ) {
+        this.mongoOperations = mongoOperations;
+        this.providers = providers;
+        this.latestPriceProperties = latestPriceProperties;
+        this.snapshotStore = snapshotStore;
+        this.pricingExecutor = pricingExecutor;
+    }
 
     /**
      * Executes a full refresh cycle.
@@ -66,16 +93,32 @@ public class LatestPriceRefreshService {
         Set<PriceSource> failedSources = EnumSet.noneOf(PriceSource.class);
         Set<PriceSource> okSources = EnumSet.noneOf(PriceSource.class);
 
+        Map<LatestPriceProvider, CompletableFuture<Map<String, NormalizedLatestQuote>>> pending = new LinkedHashMap<>();
         for (LatestPriceProvider provider : providers) {
+            pending.put(provider, fetchAsync(provider, trackedWithKind));
+        }
+        long deadlineNanos = System.nanoTime()
+                + TimeUnit.MILLISECONDS.toNanos(Math.max(0L, latestPriceProperties.getProviderTimeoutMs()));
+        for (Map.Entry<LatestPriceProvider, CompletableFuture<Map<String, NormalizedLatestQuote>>> entry : pending.entrySet()) {
+            PriceSource source = entry.getKey().source();
             try {
-                Map<String, NormalizedLatestQuote> quotes = provider.fetchAll(trackedWithKind);
-                byProvider.put(provider.source().name(), quotes);
-                okSources.add(provider.source());
-                log.debug("Provider {} returned {} quotes", provider.source(), quotes.size());
-            } catch (Exception ex) {
+                Map<String, NormalizedLatestQuote> quotes = entry.getValue()
+                        .get(Math.max(0L, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+                byProvider.put(source.name(), quotes);
+                okSources.add(source);
+                log.debug("Provider {} returned {} quotes", source, quotes.size());
+            } catch (TimeoutException ex) {
+                entry.getValue().cancel(true);
+                log.warn("LatestPriceRefreshService: provider {} timed out after {} ms, skipping",
+                        source, latestPriceProperties.getProviderTimeoutMs());
+                failedSources.add(source);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                failedSources.add(source);
+            } catch (ExecutionException ex) {
                 log.error("LatestPriceRefreshService: provider {} threw unexpectedly, skipping",
-                        provider.source(), ex);
-                failedSources.add(provider.source());
+                        source, ex.getCause());
+                failedSources.add(source);
             }
         }
 
@@ -102,17 +145,22 @@ public class LatestPriceRefreshService {
             }
         }
 
-        // Upsert all returned quotes to current_price_quotes
+        // Upsert all returned quotes to current_price_quotes in one unordered bulk write
+        BulkOperations bulk = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, CurrentPriceQuoteDocument.class);
         for (Map.Entry<String, Map<String, NormalizedLatestQuote>> providerEntry : byProvider.entrySet()) {
             String providerName = providerEntry.getKey();
             for (Map.Entry<String, NormalizedLatestQuote> quoteEntry : providerEntry.getValue().entrySet()) {
                 NormalizedLatestQuote quote = quoteEntry.getValue();
-                upsertQuote(quote, fetchedAt);
+                upsertQuote(bulk, quote, fetchedAt);
                 upserted++;
                 if (PriceSource.BYBIT.name().equals(providerName)) bybit++;
                 if (PriceSource.DZENGI.name().equals(providerName)) dzengi++;
             }
         }
+        if (upserted > 0) {
+            bulk.execute();
+        }
+        CurrentPriceSnapshot snapshot = snapshotStore.reload();
 
         int pricedByNeither = (int) tracked.stream()
                 .filter(sym -> byProvider.values().stream().noneMatch(m -> m.containsKey(sym)))
@@ -120,9 +168,9 @@ public class LatestPriceRefreshService {
 
         long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
         log.info(
-                "LatestPriceRefreshService cycle complete: tracked={}, upserted={}, bybit={}, dzengi={}, divergences={}, pricedByNeither={}, providersOk={}, providersFailed={}, elapsedMs={}",
+                "LatestPriceRefreshService cycle complete: tracked={}, upserted={}, bybit={}, dzengi={}, divergences={}, pricedByNeither={}, providersOk={}, providersFailed={}, snapshotGeneration={}, elapsedMs={}",
                 tracked.size(), upserted, bybit, dzengi, divergences, pricedByNeither,
-                okSources, failedSources, elapsedMs
+                okSources, failedSources, snapshot.generation(), elapsedMs
         );
 
         return new LatestPriceRefreshResult(
@@ -149,10 +197,26 @@ public class LatestPriceRefreshService {
         return result;
     }
 
-    private void upsertQuote(NormalizedLatestQuote quote, Instant fetchedAt) {
+    /** Runs one provider on the pricing executor; when the executor is saturated it runs inline. */
+    private CompletableFuture<Map<String, NormalizedLatestQuote>> fetchAsync(
+            LatestPriceProvider provider,
+            Map<String, TrackedPriceAssetDocument.Kind> trackedWithKind
+    ) {
+        try {
+            return CompletableFuture.supplyAsync(() -> provider.fetchAll(trackedWithKind), pricingExecutor);
+        } catch (RejectedExecutionException rejected) {
+            try {
+                return CompletableFuture.completedFuture(provider.fetchAll(trackedWithKind));
+            } catch (RuntimeException ex) {
+                return CompletableFuture.failedFuture(ex);
+            }
+        }
+    }
+
+    private void upsertQuote(BulkOperations bulk, NormalizedLatestQuote quote, Instant fetchedAt) {
         String symbol = quote.canonicalSymbol().trim().toUpperCase(Locale.ROOT);
         String id = CurrentPriceQuoteDocument.composeId(symbol, quote.source());
-        mongoOperations.upsert(
+        bulk.upsert(
                 Query.query(Criteria.where("_id").is(id)),
                 new Update()
                         .set("symbol", symbol)
@@ -161,8 +225,7 @@ public class LatestPriceRefreshService {
                         .set("quoteSymbol", quote.quoteCurrency())
                         .set("pricedAt", quote.pricedAt())
                         .set("fetchedAt", fetchedAt)
-                        .set("sourceReference", quote.sourceSymbol()),
-                CurrentPriceQuoteDocument.class
+                        .set("sourceReference", quote.sourceSymbol())
         );
     }
 
@@ -21,9 +21,9 @@ import com.walletradar.domain.transaction.externalledger.ExternalLedgerRaw;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
 import com.walletradar.domain.transaction.raw.RawTransaction;
 import com.walletradar.application.linking.job.LinkingDataGateService;
+import com.walletradar.application.pipeline.queue.PipelineStageHandoff;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -73,7 +73,7 @@ public class SessionPipelineResumeScheduler {
     private final AccountingUniverseService accountingUniverseService;
     private final LinkingDataGateService linkingDataGateService;
     private final MongoOperations mongoOperations;
-    private final ApplicationEventPublisher applicationEventPublisher;
+    private final PipelineStageHandoff pipelineStageHandoff;
     private final SessionPipelineStateService sessionPipelineStateService;
     private final SessionPipelineActivityService sessionPipelineActivityService;
 
@@ -86,7 +86,7 @@ public class SessionPipelineResumeScheduler {
             if (action == null) {
                 continue;
             }
-            applicationEventPublisher.publishEvent(action.event());
+            pipelineStageHandoff.submit(session.getId(), action.event());
             log.info(
                     "Session pipeline resume published: sessionId={}, stage={}, reason={}",
                     session.getId(),
@@ -0,0 +1,145 @@
+package com.walletradar.application.session.application;
+
+import com.walletradar.domain.event.AccountingReplayCompletedEvent;
+import com.walletradar.domain.event.BybitNormalizationCompletedEvent;
+import com.walletradar.domain.event.DzengiNormalizationCompletedEvent;
+import com.walletradar.domain.event.LinkingCompletedEvent;
+import com.walletradar.domain.event.OnChainClarificationCompletedEvent;
+import com.walletradar.domain.event.OnChainNormalizationCompletedEvent;
+import com.walletradar.domain.event.OnChainReclassificationCompletedEvent;
+import com.walletradar.domain.event.PricingCompletedEvent;
+import com.walletradar.domain.event.SessionBackfillCompletedEvent;
+import com.walletradar.domain.event.WalletNetworkBackfillCompletedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Collects "something changed" marks for session progress views between stream ticks.
+ *
+ * <p>Writers only record which session (or wallet, when the session is not known at the write
+ * site) and which topic changed; the progress stream drains the marks once per tick and recomputes
+ * each dirty view once, however many clients are subscribed. A mark without a session id
+ * ({@link #ALL_SESSIONS}) dirties the topic for every subscribed session.</p>
+ */
+@Component
+public class SessionProgressSignals {
+
+    public static final String ALL_SESSIONS = "*";
+
+    public enum Topic {
+        BACKFILL_STATUS,
+        LP_REFRESH,
+        LENDING_REFRESH
+    }
+
+    private final Object lock = new Object();
+    private Map<String, Set<Topic>> dirtySessions = new HashMap<>();
+    private Set<String> dirtyWallets = new HashSet<>();
+
+    public void markSession(String sessionId, Topic topic) {
+        String key = sessionId == null || sessionId.isBlank() ? ALL_SESSIONS : sessionId.trim();
+        synchronized (lock) {
+            dirtySessions.computeIfAbsent(key, ignored -> EnumSet.noneOf(Topic.class)).add(topic);
+        }
+    }
+
+    /** Backfill progress of {@code walletAddress} changed; affects every session tracking it. */
+    public void markWallet(String walletAddress) {
+        if (walletAddress == null || walletAddress.isBlank()) {
+            return;
+        }
+        synchronized (lock) {
+            dirtyWallets.add(walletAddress.trim().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /** Returns and clears the marks collected since the previous call. */
+    public Marks drain() {
+        synchronized (lock) {
+            Marks marks = new Marks(dirtySessions, dirtyWallets);
+            dirtySessions = new HashMap<>();
+            dirtyWallets = new HashSet<>();
+            return marks;
+        }
+    }
+
+    @EventListener
+    public void onSessionBackfillCompleted(SessionBackfillCompletedEvent event) {
+        markSession(event.sessionId(), Topic.BACKFILL_STATUS);
+    }
+
+    @EventListener
+    public void onWalletNetworkBackfillCompleted(WalletNetworkBackfillCompletedEvent event) {
+        markWallet(event.walletAddress());
+    }
+
+    @EventListener
+    public void onOnChainNormalizationCompleted(OnChainNormalizationCompletedEvent event) {
+        markSession(event.sessionId(), Topic.BACKFILL_STATUS);
+    }
+
+    @EventListener
+    public void onOnChainClarificationCompleted(OnChainClarificationCompletedEvent event) {
+        markSession(event.sessionId(), Topic.BACKFILL_STATUS);
+    }
+
+    @EventListener
+    public void onOnChainReclassificationCompleted(OnChainReclassificationCompletedEvent event) {
+        markSession(event.sessionId(), Topic.BACKFILL_STATUS);
+    }
+
+    @EventListener
+    public void onBybitNormalizationCompleted(BybitNormalizationCompletedEvent event) {
+        markSession(event.sessionId(), Topic.BACKFILL_STATUS);
+    }
+
+    @EventListener
+    public void onDzengiNormalizationCompleted(DzengiNormalizationCompletedEvent event) {
+        markSession(event.sessionId(), Topic.BACKFILL_STATUS);
+    }
+
+    @EventListener
+    public void onLinkingCompleted(LinkingCompletedEvent event) {
+        markSession(event.sessionId(), Topic.BACKFILL_STATUS);
+    }
+
+    @EventListener
+    public void onPricingCompleted(PricingCompletedEvent event) {
+        markSession(event.sessionId(), Topic.BACKFILL_STATUS);
+    }
+
+    @EventListener
+    public void onAccountingReplayCompleted(AccountingReplayCompletedEvent event) {
+        markSession(event.sessionId(), Topic.BACKFILL_STATUS);
+    }
+
+    /**
+     * Marks drained in one tick: topics by session id (or {@link #ALL_SESSIONS}) and lower-cased
+     * wallet addresses whose backfill progressed.
+     */
+    public record Marks(Map<String, Set<Topic>> sessions, Set<String> wallets) {
+
+        public boolean isEmpty() {
+            return sessions.isEmpty() && wallets.isEmpty();
+        }
+
+        /** Topics to recompute for a subscribed session tracking {@code sessionWallets}. */
+        public Set<Topic> topicsFor(String sessionId, Set<String> sessionWallets) {
+            Set<Topic> topics = EnumSet.noneOf(Topic.class);
+            topics.addAll(sessions.getOrDefault(sessionId, Set.of()));
+            topics.addAll(sessions.getOrDefault(ALL_SESSIONS, Set.of()));
+            if (!topics.contains(Topic.BACKFILL_STATUS)
+                    && sessionWallets.stream().anyMatch(wallets::contains)) {
+                topics.add(Topic.BACKFILL_STATUS);
+            }
+            return topics;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.walletradar.application.session.application;
+
+import com.walletradar.domain.event.AccountingReplayCompletedEvent;
+import com.walletradar.domain.event.BybitNormalizationCompletedEvent;
+import com.walletradar.domain.event.DzengiNormalizationCompletedEvent;
+import com.walletradar.domain.event.LinkingCompletedEvent;
+import com.walletradar.domain.event.OnChainClarificationCompletedEvent;
+import com.walletradar.domain.event.OnChainNormalizationCompletedEvent;
+import com.walletradar.domain.event.OnChainReclassificationCompletedEvent;
+import com.walletradar.domain.event.PricingCompletedEvent;
+import com.walletradar.domain.event.SessionBackfillCompletedEvent;
+import com.walletradar.domain.session.UniverseDataVersion;
+import com.walletradar.domain.session.UserSession;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Owns {@code universe_data_versions}: a counter per accounting universe that moves whenever a
+ * stage commits data a session read model is built from, plus a global counter for refreshes
+ * shared by every universe. Session read endpoints turn the pair into an ETag, so a client holding
+ * the current version is answered 304 without running any query.
+ *
+ * <p>Bumps happen after the write they describe has committed. A bump that lands early is harmless
+ * (the next poll recomputes); a missing bump would serve stale 304s, so writers that commit after
+ * the stage events below (snapshot refresh, LP/lending refresh state) bump explicitly as well.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UniverseDataVersionService {
+
+    private final MongoOperations mongoOperations;
+
+    public record SessionDataVersion(
+            String universeId,
+            long universeVersion,
+            long globalVersion,
+            Instant sessionUpdatedAt
+    ) {
+    }
+
+    /** Current versions for {@code sessionId}; empty when the session does not exist. */
+    public Optional<SessionDataVersion> current(String sessionId) {
+        if (blank(sessionId)) {
+            return Optional.empty();
+        }
+        Query sessionQuery = Query.query(Criteria.where("_id").is(sessionId.trim()));
+        sessionQuery.fields().include("accountingUniverseId").include("updatedAt");
+        UserSession session = mongoOperations.findOne(sessionQuery, UserSession.class);
+        if (session == null) {
+            return Optional.empty();
+        }
+        String universeId = universeId(sessionId.trim(), session.getAccountingUniverseId());
+        long universeVersion = 0L;
+        long globalVersion = 0L;
+        List<UniverseDataVersion> versions = mongoOperations.find(
+                Query.query(Criteria.where("_id").in(universeId, UniverseDataVersion.GLOBAL_ID)),
+                UniverseDataVersion.class
+        );
+        for (UniverseDataVersion version : versions) {
+            if (UniverseDataVersion.GLOBAL_ID.equals(version.getId())) {
+                globalVersion = version.getVersion();
+            } else {
+                universeVersion = version.getVersion();
+            }
+        }
+        return Optional.of(new SessionDataVersion(universeId, universeVersion, globalVersion, session.getUpdatedAt()));
+    }
+
+    /** Bumps the universe {@code sessionId} belongs to; a blank id bumps the global version. */
+    public void bumpSession(String sessionId, String reason) {
+        if (blank(sessionId)) {
+            bumpGlobal(reason);
+            return;
+        }
+        Query sessionQuery = Query.query(Criteria.where("_id").is(sessionId.trim()));
+        sessionQuery.fields().include("accountingUniverseId");
+        UserSession session;
+        try {
+            session = mongoOperations.findOne(sessionQuery, UserSession.class);
+        } catch (RuntimeException error) {
+            log.warn("Universe data version lookup failed: sessionId={}, error={}", sessionId, error.getMessage());
+            return;
+        }
+        bumpUniverse(universeId(sessionId.trim(), session == null ? null : session.getAccountingUniverseId()), reason);
+    }
+
+    public void bumpUniverse(String universeId, String reason) {
+        if (blank(universeId)) {
+            return;
+        }
+        increment(universeId.trim(), reason);
+    }
+
+    public void bumpGlobal(String reason) {
+        increment(UniverseDataVersion.GLOBAL_ID, reason);
+    }
+
+    @EventListener
+    public void onSessionBackfillCompleted(SessionBackfillCompletedEvent event) {
+        bumpSession(event.sessionId(), "session-backfill-completed");
+    }
+
+    @EventListener
+    public void onOnChainNormalizationCompleted(OnChainNormalizationCompletedEvent event) {
+        bumpSession(event.sessionId(), "on-chain-normalization-completed");
+    }
+
+    @EventListener
+    public void onOnChainClarificationCompleted(OnChainClarificationCompletedEvent event) {
+        bumpSession(event.sessionId(), "on-chain-clarification-completed");
+    }
+
+    @EventListener
+    public void onOnChainReclassificationCompleted(OnChainReclassificationCompletedEvent event) {
+        bumpSession(event.sessionId(), "on-chain-reclassification-completed");
+    }
+
+    @EventListener
+    public void onBybitNormalizationCompleted(BybitNormalizationCompletedEvent event) {
+        bumpSession(event.sessionId(), "bybit-normalization-completed");
+    }
+
+    @EventListener
+    public void onDzengiNormalizationCompleted(DzengiNormalizationCompletedEvent event) {
+        bumpSession(event.sessionId(), "dzengi-normalization-completed");
+    }
+
+    @EventListener
+    public void onPricingCompleted(PricingCompletedEvent event) {
+        bumpSession(event.sessionId(), "pricing-completed");
+    }
+
+    @EventListener
+    public void onLinkingCompleted(LinkingCompletedEvent event) {
+        bumpSession(event.sessionId(), "linking-completed");
+    }
+
+    @EventListener
+    public void onAccountingReplayCompleted(AccountingReplayCompletedEvent event) {
+        bumpSession(event.sessionId(), "accounting-replay-completed");
+    }
+
+    private void increment(String id, String reason) {
+        Update update = new Update()
+                .inc("version", 1L)
+                .set("lastReason", reason)
+                .set("updatedAt", Instant.now());
+        try {
+            mongoOperations.upsert(Query.query(Criteria.where("_id").is(id)), update, UniverseDataVersion.class);
+        } catch (RuntimeException error) {
+            log.warn("Universe data version bump failed: id={}, reason={}, error={}", id, reason, error.getMessage());
+        }
+    }
+
+    private static String universeId(String sessionId, String accountingUniverseId) {
+        return blank(accountingUniverseId) ? sessionId : accountingUniverseId.trim();
+    }
+
+    private static boolean blank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -8,6 +8,7 @@ import com.walletradar.application.normalization.config.DzengiNormalizationPrope
 import com.walletradar.application.normalization.config.NativeSettlementRecoveryProperties;
 import com.walletradar.application.normalization.config.OnChainClarificationProperties;
 import com.walletradar.application.normalization.config.OnChainNormalizationProperties;
+import com.walletradar.application.normalization.config.RegistryDiffReclassificationProperties;
 import com.walletradar.application.normalization.config.ScamFilterProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
@@ -22,6 +23,7 @@ import org.springframework.context.annotation.Configuration;
         ScamFilterProperties.class,
         OnChainNormalizationProperties.class,
         OnChainClarificationProperties.class,
+        RegistryDiffReclassificationProperties.class,
         NativeSettlementRecoveryProperties.class,
         BybitNormalizationProperties.class,
         DzengiNormalizationProperties.class,
@@ -0,0 +1,106 @@
+package com.walletradar.api.portfolio;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.walletradar.api.config.SessionExportProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NdjsonExportWriterTest {
+
+    private NdjsonExportWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        SessionExportProperties properties = new SessionExportProperties();
+        properties.setRowsPerChunk(2);
+        properties.setPrefetchChunks(2);
+        writer = new NdjsonExportWriter(new ObjectMapper(), properties);
+    }
+
+    @Test
+    void writesOneJsonObjectPerLineInStreamOrder() {
+        List<DataBuffer> buffers = writer.write(rows(5), row -> Map.of("id", row), false, DefaultDataBufferFactory.sharedInstance)
+                .collectList()
+                .block();
+
+        assertThat(buffers).hasSize(3);
+        assertThat(new String(concat(buffers), StandardCharsets.UTF_8))
+                .isEqualTo("{\"id\":0}\n{\"id\":1}\n{\"id\":2}\n{\"id\":3}\n{\"id\":4}\n");
+    }
+
+    @Test
+    void gzipBodyInflatesToTheSameLines() throws IOException {
+        List<DataBuffer> buffers = writer.write(rows(5), row -> Map.of("id", row), true, DefaultDataBufferFactory.sharedInstance)
+                .collectList()
+                .block();
+
+        assertThat(new String(gunzip(concat(buffers)), StandardCharsets.UTF_8))
+                .isEqualTo("{\"id\":0}\n{\"id\":1}\n{\"id\":2}\n{\"id\":3}\n{\"id\":4}\n");
+    }
+
+    @Test
+    void emptyGzipExportIsStillAValidArchive() throws IOException {
+        List<DataBuffer> buffers = writer.write(Stream.<Integer>empty(), row -> row, true, DefaultDataBufferFactory.sharedInstance)
+                .collectList()
+                .block();
+
+        assertThat(gunzip(concat(buffers))).isEmpty();
+    }
+
+    @Test
+    void pullsRowsOnlyOnDemandAndClosesTheCursorOnCancel() throws InterruptedException {
+        AtomicInteger pulled = new AtomicInteger();
+        CountDownLatch closed = new CountDownLatch(1);
+        Stream<Integer> cursor = IntStream.range(0, 10_000).boxed()
+                .peek(row -> pulled.incrementAndGet())
+                .onClose(closed::countDown);
+
+        DataBuffer first = writer.write(cursor, row -> Map.of("id", row), false, DefaultDataBufferFactory.sharedInstance)
+                .take(1)
+                .blockFirst();
+
+        assertThat(first).isNotNull();
+        assertThat(closed.await(5, TimeUnit.SECONDS)).isTrue();
+        // rowsPerChunk * prefetchChunks, plus at most one chunk being assembled.
+        assertThat(pulled.get()).isLessThanOrEqualTo(6);
+    }
+
+    private static Stream<Integer> rows(int count) {
+        return IntStream.range(0, count).boxed();
+    }
+
+    private static byte[] concat(List<DataBuffer> buffers) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        for (DataBuffer buffer : buffers) {
+            byte[] chunk = new byte[buffer.readableByteCount()];
+            buffer.read(chunk);
+            DataBufferUtils.release(buffer);
+            bytes.writeBytes(chunk);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+}
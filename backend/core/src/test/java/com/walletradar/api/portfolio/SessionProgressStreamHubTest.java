@@ -0,0 +1,143 @@
+package com.walletradar.api.portfolio;
+
+import com.walletradar.api.config.SessionProgressStreamProperties;
+import com.walletradar.api.dto.RefreshStatusResponse;
+import com.walletradar.api.dto.SessionBackfillStatusResponse;
+import com.walletradar.application.lending.application.LendingGroupRefreshStateService;
+import com.walletradar.application.liquiditypools.application.LpPositionRefreshStateService;
+import com.walletradar.application.portfolio.application.SessionQueryService;
+import com.walletradar.application.portfolio.application.port.SessionReadPort;
+import com.walletradar.application.session.application.SessionProgressSignals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.Disposable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SessionProgressStreamHubTest {
+
+    private static final String SESSION_ID = "session-1";
+    private static final String WALLET = "0xAbC";
+
+    @Mock
+    private SessionReadPort sessionReadPort;
+    @Mock
+    private SessionPortfolioBffMapper sessionPortfolioBffMapper;
+    @Mock
+    private LpPositionRefreshStateService lpPositionRefreshStateService;
+    @Mock
+    private LendingGroupRefreshStateService lendingGroupRefreshStateService;
+
+    private final SessionProgressSignals signals = new SessionProgressSignals();
+    private SessionProgressStreamHub hub;
+
+    @BeforeEach
+    void setUp() {
+        SessionProgressStreamProperties properties = new SessionProgressStreamProperties();
+        properties.setActiveRefreshMs(Long.MAX_VALUE);
+        hub = new SessionProgressStreamHub(
+                sessionReadPort,
+                sessionPortfolioBffMapper,
+                lpPositionRefreshStateService,
+                lendingGroupRefreshStateService,
+                signals,
+                properties
+        );
+    }
+
+    private void givenStreamedSession() {
+        when(sessionReadPort.findSession(SESSION_ID)).thenReturn(Optional.of(new SessionQueryService.SessionView(
+                SESSION_ID,
+                List.of(new SessionQueryService.SessionWalletView(WALLET, null, null, List.of()))
+        )));
+        when(sessionReadPort.findBackfillStatus(SESSION_ID))
+                .thenReturn(Optional.of(mock(SessionQueryService.SessionBackfillStatusView.class)));
+        when(sessionPortfolioBffMapper.toBackfillStatusResponse(any())).thenReturn(backfillStatus("RUNNING"));
+        when(lpPositionRefreshStateService.getStatus(SESSION_ID))
+                .thenReturn(new RefreshStatusResponse(SESSION_ID, List.of(), false));
+        when(lendingGroupRefreshStateService.getStatus(SESSION_ID))
+                .thenReturn(new RefreshStatusResponse(SESSION_ID, List.of(), false));
+    }
+
+    @Test
+    @DisplayName("one tick reads each dirty view once and fans it out to every open stream")
+    void tick_readsOncePerSessionRegardlessOfSubscribers() {
+        givenStreamedSession();
+        List<ServerSentEvent<Object>> first = new ArrayList<>();
+        List<ServerSentEvent<Object>> second = new ArrayList<>();
+        Disposable firstStream = hub.stream(SESSION_ID).orElseThrow().subscribe(first::add);
+        Disposable secondStream = hub.stream(SESSION_ID).orElseThrow().subscribe(second::add);
+
+        hub.tick();
+
+        verify(sessionReadPort, times(1)).findBackfillStatus(SESSION_ID);
+        verify(lpPositionRefreshStateService, times(1)).getStatus(SESSION_ID);
+        verify(lendingGroupRefreshStateService, times(1)).getStatus(SESSION_ID);
+        assertThat(first).extracting(ServerSentEvent::event).containsExactlyInAnyOrder(
+                SessionProgressStreamHub.BACKFILL_STATUS_EVENT,
+                SessionProgressStreamHub.LP_REFRESH_STATUS_EVENT,
+                SessionProgressStreamHub.LENDING_REFRESH_STATUS_EVENT
+        );
+        assertThat(second).extracting(ServerSentEvent::event).containsExactlyInAnyOrderElementsOf(
+                first.stream().map(ServerSentEvent::event).toList());
+
+        firstStream.dispose();
+        secondStream.dispose();
+        assertThat(hub.openChannels()).isZero();
+    }
+
+    @Test
+    @DisplayName("wallet segment marks refresh backfill status only, and late subscribers get the latest view")
+    void walletMark_refreshesBackfillStatusAndReplaysLatest() {
+        givenStreamedSession();
+        List<ServerSentEvent<Object>> first = new ArrayList<>();
+        Disposable firstStream = hub.stream(SESSION_ID).orElseThrow().subscribe(first::add);
+        hub.tick();
+        first.clear();
+
+        signals.markWallet("0xabc");
+        hub.tick();
+
+        verify(sessionReadPort, times(2)).findBackfillStatus(SESSION_ID);
+        verify(lpPositionRefreshStateService, times(1)).getStatus(SESSION_ID);
+        assertThat(first).extracting(ServerSentEvent::event)
+                .containsExactly(SessionProgressStreamHub.BACKFILL_STATUS_EVENT);
+
+        List<ServerSentEvent<Object>> late = new ArrayList<>();
+        Disposable lateStream = hub.stream(SESSION_ID).orElseThrow().subscribe(late::add);
+        assertThat(late).hasSize(3);
+
+        firstStream.dispose();
+        lateStream.dispose();
+    }
+
+    @Test
+    @DisplayName("unknown sessions have no stream")
+    void stream_unknownSession() {
+        when(sessionReadPort.findSession("missing")).thenReturn(Optional.empty());
+
+        assertThat(hub.stream("missing")).isEmpty();
+    }
+
+    private static SessionBackfillStatusResponse backfillStatus(String acquisitionStatus) {
+        return new SessionBackfillStatusResponse(
+                SESSION_ID, acquisitionStatus, acquisitionStatus, 50, 2, 1,
+                "BACKFILL", "RUNNING", null, null, null, List.of()
+        );
+    }
+}
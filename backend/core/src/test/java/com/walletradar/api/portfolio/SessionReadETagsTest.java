@@ -0,0 +1,82 @@
+package com.walletradar.api.portfolio;
+
+import com.walletradar.application.session.application.UniverseDataVersionService;
+import com.walletradar.application.session.application.UniverseDataVersionService.SessionDataVersion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SessionReadETagsTest {
+
+    private static final String SESSION_ID = "session-1";
+    private static final Instant SESSION_UPDATED_AT = Instant.parse("2026-05-01T00:00:00Z");
+
+    @Mock
+    private UniverseDataVersionService universeDataVersionService;
+
+    private static SessionDataVersion version(long universeVersion, long globalVersion) {
+        return new SessionDataVersion("universe-1", universeVersion, globalVersion, SESSION_UPDATED_AT);
+    }
+
+    @Test
+    @DisplayName("first read gets a strong ETag; replaying it answers 304 until the universe version moves")
+    void matchingETagIsNotModifiedUntilVersionMoves() {
+        when(universeDataVersionService.current(SESSION_ID)).thenReturn(Optional.of(version(7, 3)));
+        SessionReadETags etags = new SessionReadETags(universeDataVersionService);
+
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/sessions/session-1/dashboard"));
+        assertThat(etags.notModified(first, SESSION_ID, "dashboard")).isFalse();
+        String etag = first.getResponse().getHeaders().getETag();
+        assertThat(etag).startsWith("\"v7.3.").endsWith("\"");
+        assertThat(first.getResponse().getHeaders().getCacheControl()).isEqualTo("no-cache");
+
+        MockServerWebExchange repeat = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/api/v1/sessions/session-1/dashboard").ifNoneMatch(etag));
+        assertThat(etags.notModified(repeat, SESSION_ID, "dashboard")).isTrue();
+        assertThat(repeat.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+
+        when(universeDataVersionService.current(SESSION_ID)).thenReturn(Optional.of(version(8, 3)));
+        MockServerWebExchange afterReplay = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/api/v1/sessions/session-1/dashboard").ifNoneMatch(etag));
+        assertThat(etags.notModified(afterReplay, SESSION_ID, "dashboard")).isFalse();
+        assertThat(afterReplay.getResponse().getHeaders().getETag()).startsWith("\"v8.3.");
+    }
+
+    @Test
+    @DisplayName("resource and request parameters are part of the ETag")
+    void parametersShapeTheETag() {
+        SessionDataVersion version = version(1, 1);
+
+        assertThat(SessionReadETags.etag(version, "lp", "ACTIVE"))
+                .isEqualTo(SessionReadETags.etag(version, "lp", "ACTIVE"))
+                .isNotEqualTo(SessionReadETags.etag(version, "lp", "CLOSED"))
+                .isNotEqualTo(SessionReadETags.etag(version, "lending"));
+        assertThat(SessionReadETags.etag(version, "transactions", List.of("a", "b")))
+                .isNotEqualTo(SessionReadETags.etag(version, "transactions", List.of("b", "a")));
+    }
+
+    @Test
+    @DisplayName("an unknown session gets no ETag so the handler can answer 404")
+    void unknownSessionHasNoETag() {
+        when(universeDataVersionService.current(SESSION_ID)).thenReturn(Optional.empty());
+
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/api/v1/sessions/session-1/lending").ifNoneMatch("\"v1.1.abc\""));
+
+        assertThat(new SessionReadETags(universeDataVersionService).notModified(exchange, SESSION_ID, "lending")).isFalse();
+        assertThat(exchange.getResponse().getHeaders().getETag()).isNull();
+    }
+}
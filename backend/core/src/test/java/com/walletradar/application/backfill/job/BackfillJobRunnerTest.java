@@ -143,7 +143,7 @@ class BackfillJobRunnerTest {
 
         runner.processPendingIntegrationSegments();
 
-        verify(backfillSegmentExecutor).execute(segment);
+        verify(backfillSegmentExecutor).executeAll(List.of(segment));
     }
 
     @Test
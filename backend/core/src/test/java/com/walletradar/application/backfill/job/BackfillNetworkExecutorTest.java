@@ -13,6 +13,8 @@ import com.walletradar.application.backfill.config.BackfillSegmentsConfiguration
 import com.walletradar.application.backfill.config.BackfillProperties;
 import com.walletradar.platform.networks.config.IngestionNetworkProperties;
 import com.walletradar.application.backfill.sync.progress.SyncProgressTracker;
+import com.walletradar.application.session.application.SessionProgressSignals;
+import com.walletradar.platform.common.concurrent.WorkerPools;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -72,7 +74,9 @@ class BackfillNetworkExecutorTest {
                 ingestionNetworkProperties,
                 syncProgressTracker,
                 syncStatusRepository,
-                backfillSegmentRepository
+                backfillSegmentRepository,
+                new SessionProgressSignals(),
+                new WorkerPools(0L).executor("backfill-segment", 16, 512)
         );
 
         segments = new ConcurrentHashMap<>();
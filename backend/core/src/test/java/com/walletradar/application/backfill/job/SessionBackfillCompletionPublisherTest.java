@@ -10,13 +10,13 @@ import com.walletradar.domain.session.UserSessionRepository;
 import com.walletradar.domain.sync.SyncStatus;
 import com.walletradar.domain.sync.SyncStatusRepository;
 import com.walletradar.application.session.application.SessionPipelineStateService;
+import com.walletradar.application.pipeline.queue.PipelineStageHandoff;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.TaskScheduler;
 
 import java.time.Instant;
@@ -42,7 +42,7 @@ class SessionBackfillCompletionPublisherTest {
     @Mock
     private BackfillSegmentRepository backfillSegmentRepository;
     @Mock
-    private ApplicationEventPublisher applicationEventPublisher;
+    private PipelineStageHandoff pipelineStageHandoff;
     @Mock
     private SessionPipelineStateService sessionPipelineStateService;
     @Mock
@@ -82,7 +82,7 @@ class SessionBackfillCompletionPublisherTest {
                 userSessionRepository,
                 syncStatusRepository,
                 backfillSegmentRepository,
-                applicationEventPublisher,
+                pipelineStageHandoff,
                 sessionPipelineStateService,
                 taskScheduler
         );
@@ -90,7 +90,7 @@ class SessionBackfillCompletionPublisherTest {
         publisher.onWalletNetworkBackfillCompleted(new WalletNetworkBackfillCompletedEvent("0xabc", NetworkId.BASE));
 
         ArgumentCaptor<SessionBackfillCompletedEvent> captor = ArgumentCaptor.forClass(SessionBackfillCompletedEvent.class);
-        verify(applicationEventPublisher).publishEvent(captor.capture());
+        verify(pipelineStageHandoff).submit(any(), captor.capture());
         assertThat(captor.getValue().sessionId()).isEqualTo("session-1");
         assertThat(captor.getValue().walletCount()).isEqualTo(2);
         assertThat(captor.getValue().targetCount()).isEqualTo(3);
@@ -113,7 +113,7 @@ class SessionBackfillCompletionPublisherTest {
                 userSessionRepository,
                 syncStatusRepository,
                 backfillSegmentRepository,
-                applicationEventPublisher,
+                pipelineStageHandoff,
                 sessionPipelineStateService,
                 taskScheduler
         );
@@ -121,7 +121,7 @@ class SessionBackfillCompletionPublisherTest {
         publisher.onWalletNetworkBackfillCompleted(new WalletNetworkBackfillCompletedEvent("0xabc", NetworkId.ETHEREUM));
 
         ArgumentCaptor<SessionBackfillCompletedEvent> captor = ArgumentCaptor.forClass(SessionBackfillCompletedEvent.class);
-        verify(applicationEventPublisher).publishEvent(captor.capture());
+        verify(pipelineStageHandoff).submit(any(), captor.capture());
         assertThat(captor.getValue().sessionId()).isEqualTo("session-1");
         assertThat(captor.getValue().targetCount()).isEqualTo(2);
     }
@@ -143,14 +143,14 @@ class SessionBackfillCompletionPublisherTest {
                 userSessionRepository,
                 syncStatusRepository,
                 backfillSegmentRepository,
-                applicationEventPublisher,
+                pipelineStageHandoff,
                 sessionPipelineStateService,
                 taskScheduler
         );
 
         publisher.onWalletNetworkBackfillCompleted(new WalletNetworkBackfillCompletedEvent("0xabc", NetworkId.ETHEREUM));
 
-        verify(applicationEventPublisher, never()).publishEvent(org.mockito.ArgumentMatchers.any(SessionBackfillCompletedEvent.class));
+        verify(pipelineStageHandoff, never()).submit(any(), org.mockito.ArgumentMatchers.any(SessionBackfillCompletedEvent.class));
     }
 
     @Test
@@ -176,14 +176,14 @@ class SessionBackfillCompletionPublisherTest {
                 userSessionRepository,
                 syncStatusRepository,
                 backfillSegmentRepository,
-                applicationEventPublisher,
+                pipelineStageHandoff,
                 sessionPipelineStateService,
                 taskScheduler
         );
 
         publisher.onWalletNetworkBackfillCompleted(new WalletNetworkBackfillCompletedEvent("0xabc", NetworkId.ETHEREUM));
 
-        verify(applicationEventPublisher, never()).publishEvent(org.mockito.ArgumentMatchers.any(SessionBackfillCompletedEvent.class));
+        verify(pipelineStageHandoff, never()).submit(any(), org.mockito.ArgumentMatchers.any(SessionBackfillCompletedEvent.class));
     }
 
     @Test
@@ -205,7 +205,7 @@ class SessionBackfillCompletionPublisherTest {
                 userSessionRepository,
                 syncStatusRepository,
                 backfillSegmentRepository,
-                applicationEventPublisher,
+                pipelineStageHandoff,
                 sessionPipelineStateService,
                 taskScheduler
         );
@@ -213,7 +213,7 @@ class SessionBackfillCompletionPublisherTest {
         publisher.maybePublishSessionCompletionBySessionId("session-1");
 
         ArgumentCaptor<SessionBackfillCompletedEvent> captor = ArgumentCaptor.forClass(SessionBackfillCompletedEvent.class);
-        verify(applicationEventPublisher).publishEvent(captor.capture());
+        verify(pipelineStageHandoff).submit(any(), captor.capture());
         assertThat(captor.getValue().walletCount()).isZero();
         assertThat(captor.getValue().targetCount()).isEqualTo(1);
     }
@@ -0,0 +1,84 @@
+package com.walletradar.application.cex.acquisition.venue.bybit;
+
+import com.walletradar.application.cex.config.BybitIntegrationProperties;
+import com.walletradar.domain.sync.BackfillSegment;
+import com.walletradar.domain.sync.BackfillSegmentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BybitBackfillSchedulerTest {
+
+    private final BackfillSegmentRepository backfillSegmentRepository = mock(BackfillSegmentRepository.class);
+    private final BybitIntegrationProperties properties = new BybitIntegrationProperties();
+    private final BybitBackfillScheduler scheduler = new BybitBackfillScheduler(backfillSegmentRepository, properties);
+
+    @Test
+    @DisplayName("Reference segments of different sub-members run concurrently on virtual threads")
+    void dispatch_runsReferenceSegmentsConcurrently() {
+        properties.setBackfillMaxConcurrentTasks(4);
+        List<BackfillSegment> segments = List.of(
+                segment("int-a", BybitIntegrationStream.TRANSACTION_LOG),
+                segment("int-b", BybitIntegrationStream.TRANSACTION_LOG),
+                segment("int-a", BybitIntegrationStream.EXECUTION_SPOT)
+        );
+        CountDownLatch allStarted = new CountDownLatch(segments.size());
+        List<Boolean> virtual = Collections.synchronizedList(new ArrayList<>());
+        List<Boolean> overlapped = Collections.synchronizedList(new ArrayList<>());
+
+        int dispatched = scheduler.dispatch(segments, segment -> {
+            virtual.add(Thread.currentThread().isVirtual());
+            allStarted.countDown();
+            try {
+                // Only true when every task is in flight at the same time.
+                overlapped.add(allStarted.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertThat(dispatched).isEqualTo(3);
+        assertThat(overlapped).hasSize(3).containsOnly(true);
+        assertThat(virtual).containsOnly(true);
+    }
+
+    @Test
+    @DisplayName("Dependent streams wait until the integration's reference streams are no longer pending")
+    void dispatch_defersDependentStreamsBehindPendingReferenceSegments() {
+        BackfillSegment pendingTxLog = segment("int-a", BybitIntegrationStream.TRANSACTION_LOG);
+        BackfillSegment completedTxLog = segment("int-b", BybitIntegrationStream.TRANSACTION_LOG);
+        completedTxLog.setStatus(BackfillSegment.SegmentStatus.COMPLETE);
+        BackfillSegment fundingA = segment("int-a", BybitIntegrationStream.FUNDING_HISTORY);
+        BackfillSegment fundingB = segment("int-b", BybitIntegrationStream.FUNDING_HISTORY);
+        when(backfillSegmentRepository.findByIntegrationIdOrderByUpdatedAtAsc("int-a"))
+                .thenReturn(List.of(pendingTxLog, fundingA));
+        when(backfillSegmentRepository.findByIntegrationIdOrderByUpdatedAtAsc("int-b"))
+                .thenReturn(List.of(completedTxLog, fundingB));
+        List<String> executed = Collections.synchronizedList(new ArrayList<>());
+
+        int dispatched = scheduler.dispatch(List.of(fundingA, fundingB), segment -> executed.add(segment.getId()));
+
+        assertThat(dispatched).isEqualTo(1);
+        assertThat(executed).containsExactly(fundingB.getId());
+    }
+
+    private static BackfillSegment segment(String integrationId, BybitIntegrationStream stream) {
+        BackfillSegment segment = new BackfillSegment();
+        segment.setId(integrationId + ":" + stream.name() + ":1");
+        segment.setIntegrationId(integrationId);
+        segment.setProvider("BYBIT");
+        segment.setSourceKind(BackfillSegment.SourceKind.INTEGRATION);
+        segment.setStream(stream.name());
+        segment.setStatus(BackfillSegment.SegmentStatus.PENDING);
+        return segment;
+    }
+}
@@ -1,14 +1,158 @@
 package com.walletradar.application.cex.acquisition.venue.bybit;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.walletradar.application.backfill.job.SessionBackfillCompletionPublisher;
+import com.walletradar.application.cex.config.BybitIntegrationProperties;
+import com.walletradar.application.cex.config.IntegrationBackfillProperties;
+import com.walletradar.application.session.application.IntegrationSyncStatusService;
+import com.walletradar.application.session.application.SessionSecretCryptoService;
+import com.walletradar.domain.session.UserSession;
+import com.walletradar.domain.session.UserSessionRepository;
 import com.walletradar.domain.sync.BackfillSegment;
+import com.walletradar.domain.sync.BackfillSegmentRepository;
+import com.walletradar.domain.transaction.bybit.BybitExtractedEventRepository;
+import com.walletradar.domain.transaction.integration.IntegrationRawEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
 class BybitBackfillSegmentExecutorTest {
 
+    private static final String SESSION_ID = "session-1";
+    private static final String INTEGRATION_ID = "integration-1";
+
+    @Mock private BackfillSegmentRepository backfillSegmentRepository;
+    @Mock private UserSessionRepository userSessionRepository;
+    @Mock private BybitExtractedEventRepository bybitExtractedEventRepository;
+    @Mock private SessionSecretCryptoService sessionSecretCryptoService;
+    @Mock private BybitApiClient bybitApiClient;
+    @Mock private BybitExtractionService bybitExtractionService;
+    @Mock private SessionBackfillCompletionPublisher sessionBackfillCompletionPublisher;
+    @Mock private IntegrationSyncStatusService integrationSyncStatusService;
+    @Mock private MongoTemplate mongoTemplate;
+    @Mock private BulkOperations bulkOperations;
+    @Mock private BybitBackfillScheduler bybitBackfillScheduler;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private BybitBackfillSegmentExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new BybitBackfillSegmentExecutor(
+                backfillSegmentRepository,
+                userSessionRepository,
+                bybitExtractedEventRepository,
+                sessionSecretCryptoService,
+                new IntegrationBackfillProperties(),
+                new BybitIntegrationProperties(),
+                bybitApiClient,
+                bybitExtractionService,
+                sessionBackfillCompletionPublisher,
+                integrationSyncStatusService,
+                objectMapper,
+                mongoTemplate,
+                bybitBackfillScheduler
+        );
+        UserSession.SessionIntegration integration = new UserSession.SessionIntegration();
+        integration.setIntegrationId(INTEGRATION_ID);
+        integration.setAccountRef("33625378");
+        UserSession session = new UserSession();
+        session.setId(SESSION_ID);
+        session.setIntegrations(List.of(integration));
+        when(userSessionRepository.findById(SESSION_ID)).thenReturn(Optional.of(session));
+        when(sessionSecretCryptoService.decrypt(any())).thenReturn("{\"apiKey\":\"key\",\"apiSecret\":\"secret\"}");
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), eq(IntegrationRawEvent.class))).thenReturn(bulkOperations);
+        when(bybitExtractionService.extract(any())).thenReturn(List.of());
+        when(backfillSegmentRepository.countByIntegrationId(INTEGRATION_ID)).thenReturn(1L);
+        when(backfillSegmentRepository.countByIntegrationIdAndStatus(INTEGRATION_ID, BackfillSegment.SegmentStatus.COMPLETE))
+                .thenReturn(1L);
+    }
+
+    @Test
+    @DisplayName("Resumes a retried segment from its persisted cursor and bulk-upserts each page")
+    void execute_resumesFromPersistedCursor() {
+        BackfillSegment segment = transactionLogSegment("c2", 50L);
+        when(bybitApiClient.fetchStream(eq(BybitIntegrationStream.TRANSACTION_LOG), eq("key"), eq("secret"), any(), any(), eq("c2")))
+                .thenReturn(new BybitApiClient.BybitPage(rows("t-3", "t-4"), "c3"));
+        when(bybitApiClient.fetchStream(eq(BybitIntegrationStream.TRANSACTION_LOG), eq("key"), eq("secret"), any(), any(), eq("c3")))
+                .thenReturn(new BybitApiClient.BybitPage(rows("t-5"), null));
+
+        executor.execute(segment);
+
+        verify(bybitApiClient, never()).fetchStream(any(), any(), any(), any(), any(), isNull());
+        verify(bulkOperations, times(3)).replaceOne(any(Query.class), any(IntegrationRawEvent.class), any(FindAndReplaceOptions.class));
+        verify(bulkOperations, times(2)).execute();
+        assertThat(segment.getStatus()).isEqualTo(BackfillSegment.SegmentStatus.COMPLETE);
+        assertThat(segment.getProcessedCount()).isEqualTo(53L);
+        assertThat(segment.getCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Restarts the window when Bybit rejects the persisted cursor")
+    void execute_rejectedCursor_restartsWindow() {
+        BackfillSegment segment = transactionLogSegment("stale", 50L);
+        when(bybitApiClient.fetchStream(eq(BybitIntegrationStream.TRANSACTION_LOG), eq("key"), eq("secret"), any(), any(), eq("stale")))
+                .thenThrow(new IllegalStateException(BybitApiClient.REJECTED_REQUEST_PREFIX + ": invalid cursor"));
+        when(bybitApiClient.fetchStream(eq(BybitIntegrationStream.TRANSACTION_LOG), eq("key"), eq("secret"), any(), any(), isNull()))
+                .thenReturn(new BybitApiClient.BybitPage(rows("t-1"), null));
+
+        executor.execute(segment);
+
+        assertThat(segment.getStatus()).isEqualTo(BackfillSegment.SegmentStatus.COMPLETE);
+        assertThat(segment.getProcessedCount()).isEqualTo(1L);
+    }
+
+    private static BackfillSegment transactionLogSegment(String cursor, Long processedCount) {
+        Instant to = Instant.now().truncatedTo(ChronoUnit.SECONDS).minus(1, ChronoUnit.DAYS);
+        BackfillSegment segment = new BackfillSegment();
+        segment.setId(INTEGRATION_ID + ":TRANSACTION_LOG:1");
+        segment.setSessionId(SESSION_ID);
+        segment.setSourceKind(BackfillSegment.SourceKind.INTEGRATION);
+        segment.setIntegrationId(INTEGRATION_ID);
+        segment.setProvider("BYBIT");
+        segment.setStream(BybitIntegrationStream.TRANSACTION_LOG.name());
+        segment.setFromTime(to.minus(3, ChronoUnit.DAYS));
+        segment.setToTime(to);
+        segment.setStatus(BackfillSegment.SegmentStatus.FAILED);
+        segment.setCursor(cursor);
+        segment.setProcessedCount(processedCount);
+        return segment;
+    }
+
+    private ArrayNode rows(String... ids) {
+        ArrayNode rows = objectMapper.createArrayNode();
+        for (String id : ids) {
+            rows.addObject().put("id", id).put("transactionTime", "1712000000000");
+        }
+        return rows;
+    }
+
     @Test
     void resolveEffectiveWindow_clampsSegmentStartToProviderLookbackBoundary() {
         BackfillSegment segment = new BackfillSegment();
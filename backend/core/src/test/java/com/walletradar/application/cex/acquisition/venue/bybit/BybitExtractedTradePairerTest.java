@@ -164,6 +164,41 @@ class BybitExtractedTradePairerTest {
         return row;
     }
 
+    @Test
+    void prefetchedOppositeLegMatchesPerRowChoiceAndSkipsConsumedLegs() {
+        Instant center = Instant.parse("2026-03-25T10:00:00Z");
+        BybitExtractedEvent buyEth = tradeRow("buy-eth", "ETH", "1", center);
+        BybitExtractedEvent closeUsdt = tradeRow("usdt-close", "USDT", "-2500", center.plusSeconds(1));
+        BybitExtractedEvent farUsdt = tradeRow("usdt-far", "USDT", "-2400", center.plusSeconds(4));
+        BybitExtractedEvent outsideWindow = tradeRow("usdt-outside", "USDT", "-2500", center.plusSeconds(6));
+
+        when(mongoOperations.find(org.mockito.ArgumentMatchers.any(Query.class), eq(BybitExtractedEvent.class)))
+                .thenReturn(List.of(buyEth, closeUsdt, farUsdt, outsideWindow));
+
+        BybitExtractedTradePairer pairer = new BybitExtractedTradePairer(mongoOperations);
+        BybitExtractedPairingCandidates candidates = pairer.prefetch(List.of(buyEth));
+
+        assertThat(pairer.findOppositeLeg(buyEth, candidates)).map(BybitExtractedEvent::getId).contains("usdt-close");
+        candidates.consume("usdt-close");
+        assertThat(pairer.findOppositeLeg(buyEth, candidates)).map(BybitExtractedEvent::getId).contains("usdt-far");
+        verify(mongoOperations).find(org.mockito.ArgumentMatchers.any(Query.class), eq(BybitExtractedEvent.class));
+    }
+
+    private BybitExtractedEvent tradeRow(String id, String assetSymbol, String quantityRaw, Instant timeUtc) {
+        BybitExtractedEvent row = new BybitExtractedEvent();
+        row.setId(id);
+        row.setStatus(BybitExtractedEventStatus.RAW);
+        row.setSourceFileType("uta_derivatives");
+        row.setUid("33625378");
+        row.setUtaContract("ETHUSDT");
+        row.setUtaDirection("BUY");
+        row.setAssetSymbol(assetSymbol);
+        row.setQuantityRaw(new BigDecimal(quantityRaw));
+        row.setFilledPrice(new BigDecimal("2500"));
+        row.setTimeUtc(timeUtc);
+        return row;
+    }
+
     private BybitExtractedEvent liquidStakingRow(String id, String assetSymbol, String quantityRaw, Instant timeUtc) {
         BybitExtractedEvent row = new BybitExtractedEvent();
         row.setId(id);
@@ -8,11 +8,11 @@ import com.walletradar.application.session.application.SessionPipelineStateServi
 import com.walletradar.application.pipeline.config.JobHeartbeatProperties;
 import com.walletradar.platform.telemetry.PipelineTelemetrySnapshot;
 import com.walletradar.platform.telemetry.PipelineTelemetrySnapshotService;
+import com.walletradar.application.pipeline.queue.PipelineStageHandoff;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -46,7 +46,7 @@ class BybitNormalizationJobTest {
                 2L
         ));
 
-        ApplicationEventPublisher publisher = org.mockito.Mockito.mock(ApplicationEventPublisher.class);
+        PipelineStageHandoff publisher = org.mockito.Mockito.mock(PipelineStageHandoff.class);
         SessionPipelineActivityService pipelineActivityService = org.mockito.Mockito.mock(SessionPipelineActivityService.class);
         SessionPipelineStateService pipelineStateService = org.mockito.Mockito.mock(SessionPipelineStateService.class);
         BybitNormalizationJob job = new BybitNormalizationJob(
@@ -82,7 +82,7 @@ class BybitNormalizationJobTest {
         ));
 
         List<Object> events = new ArrayList<>();
-        ApplicationEventPublisher publisher = events::add;
+        PipelineStageHandoff publisher = (handoffSessionId, handoffEvent) -> events.add(handoffEvent);
         SessionPipelineActivityService pipelineActivityService = org.mockito.Mockito.mock(SessionPipelineActivityService.class);
         SessionPipelineStateService pipelineStateService = org.mockito.Mockito.mock(SessionPipelineStateService.class);
         BybitNormalizationJob job = new BybitNormalizationJob(
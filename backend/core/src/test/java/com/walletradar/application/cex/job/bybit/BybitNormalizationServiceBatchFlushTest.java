@@ -0,0 +1,196 @@
+package com.walletradar.application.cex.job.bybit;
+
+import com.walletradar.application.cex.acquisition.venue.bybit.BybitExtractedEventMapper;
+import com.walletradar.application.cex.acquisition.venue.bybit.BybitExtractedPairingCandidates;
+import com.walletradar.application.cex.acquisition.venue.bybit.BybitExtractedTradePairer;
+import com.walletradar.application.cex.acquisition.venue.bybit.BybitExtractedTransferShadowPairer;
+import com.walletradar.application.cex.acquisition.venue.bybit.BybitExtractionService;
+import com.walletradar.application.cex.acquisition.venue.bybit.PendingBybitExtractedRowQueryService;
+import com.walletradar.application.cex.normalization.venue.bybit.BybitBotExecutionAttributionService;
+import com.walletradar.application.cex.normalization.venue.bybit.BybitBotTransferCostBasisService;
+import com.walletradar.application.cex.normalization.venue.bybit.BybitCanonicalTransactionBuilder;
+import com.walletradar.application.cex.normalization.venue.bybit.BybitEarnPrincipalTransferPairer;
+import com.walletradar.application.cex.normalization.venue.bybit.BybitInternalTransferExternalCpReclassifier;
+import com.walletradar.application.cex.normalization.venue.bybit.BybitInternalTransferPairer;
+import com.walletradar.application.cex.normalization.venue.bybit.BybitOnChainEarnFundPairer;
+import com.walletradar.application.cex.normalization.venue.bybit.BybitPrincipalEventExclusivityService;
+import com.walletradar.application.cex.normalization.venue.bybit.BybitStakingConversionPairer;
+import com.walletradar.application.cex.normalization.venue.bybit.BybitStreamAuthorityCollapser;
+import com.walletradar.application.cex.normalization.venue.bybit.BybitTradePairer;
+import com.walletradar.application.cex.normalization.venue.bybit.BybitTransferShadowPairer;
+import com.walletradar.application.cex.normalization.venue.bybit.PendingExternalLedgerRowQueryService;
+import com.walletradar.application.normalization.store.IdempotentNormalizedTransactionStore;
+import com.walletradar.application.session.application.AccountingUniverseService;
+import com.walletradar.domain.transaction.bybit.BybitExtractedEvent;
+import com.walletradar.domain.transaction.bybit.BybitExtractedEventStatus;
+import com.walletradar.domain.transaction.externalledger.ExternalLedgerRawRepository;
+import com.walletradar.domain.transaction.integration.IntegrationRawEventRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * When the extracted lane writes its buffered normalized docs and staging rows: before a lookup that
+ * reads staging rows this batch already touched, once at the end, and never after a failed row.
+ */
+@ExtendWith(MockitoExtension.class)
+class BybitNormalizationServiceBatchFlushTest {
+
+    @Mock
+    private PendingBybitExtractedRowQueryService pendingBybitExtractedRowQueryService;
+    @Mock
+    private IntegrationRawEventRepository integrationRawEventRepository;
+    @Mock
+    private BybitExtractedTradePairer bybitExtractedTradePairer;
+    @Mock
+    private BybitExtractedTransferShadowPairer bybitExtractedTransferShadowPairer;
+    @Mock
+    private PendingExternalLedgerRowQueryService pendingExternalLedgerRowQueryService;
+    @Mock
+    private ExternalLedgerRawRepository externalLedgerRawRepository;
+    @Mock
+    private BybitTradePairer bybitTradePairer;
+    @Mock
+    private BybitTransferShadowPairer bybitTransferShadowPairer;
+    @Mock
+    private IdempotentNormalizedTransactionStore normalizedTransactionStore;
+    @Mock
+    private BybitExtractionService bybitExtractionService;
+    @Mock
+    private AccountingUniverseService accountingUniverseService;
+    @Mock
+    private BybitInternalTransferPairer bybitInternalTransferPairer;
+    @Mock
+    private BybitEarnPrincipalTransferPairer bybitEarnPrincipalTransferPairer;
+    @Mock
+    private BybitPrincipalEventExclusivityService bybitPrincipalEventExclusivityService;
+    @Mock
+    private BybitInternalTransferExternalCpReclassifier bybitInternalTransferExternalCpReclassifier;
+    @Mock
+    private BybitStreamAuthorityCollapser bybitStreamAuthorityCollapser;
+    @Mock
+    private BybitStakingConversionPairer bybitStakingConversionPairer;
+    @Mock
+    private BybitOnChainEarnFundPairer bybitOnChainEarnFundPairer;
+    @Mock
+    private BybitBotExecutionAttributionService bybitBotExecutionAttributionService;
+    @Mock
+    private BybitBotTransferCostBasisService bybitBotTransferCostBasisService;
+    @Mock
+    private MongoOperations mongoOperations;
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @Test
+    void fundingHistorySiblingLookupSeesOnChainRowsNormalizedEarlierInTheBatch() {
+        BybitExtractedEvent onChainDeposit = extractedTradeRow("onchain-deposit", "BUY");
+        onChainDeposit.setSourceStream("DEPOSIT_ONCHAIN");
+        BybitExtractedEvent fundingHistory = extractedTradeRow("fh-deposit", "BUY");
+        fundingHistory.setSourceStream("FUNDING_HISTORY");
+        when(pendingBybitExtractedRowQueryService.loadNextBatch(10)).thenReturn(List.of(onChainDeposit, fundingHistory));
+        when(bybitExtractedTradePairer.prefetch(anyList())).thenReturn(BybitExtractedPairingCandidates.empty());
+        when(mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, BybitExtractedEvent.class)).thenReturn(bulkOperations);
+
+        service().processNextBatch(10);
+
+        InOrder order = inOrder(normalizedTransactionStore, bulkOperations, bybitExtractionService);
+        order.verify(normalizedTransactionStore).upsertAll(anyList());
+        order.verify(bulkOperations).execute();
+        order.verify(bybitExtractionService).hydrateFundingHistoryFromOnChainSibling(fundingHistory);
+        order.verify(normalizedTransactionStore).upsertAll(anyList());
+        order.verify(bulkOperations).execute();
+    }
+
+    @Test
+    void unrelatedRowsStayBufferedUntilTheBatchCompletes() {
+        BybitExtractedEvent first = extractedTradeRow("trade-1", "BUY");
+        BybitExtractedEvent second = extractedTradeRow("trade-2", "BUY");
+        when(pendingBybitExtractedRowQueryService.loadNextBatch(10)).thenReturn(List.of(first, second));
+        when(bybitExtractedTradePairer.prefetch(anyList())).thenReturn(BybitExtractedPairingCandidates.empty());
+        when(mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, BybitExtractedEvent.class)).thenReturn(bulkOperations);
+
+        service().processNextBatch(10);
+
+        verify(normalizedTransactionStore, times(1)).upsertAll(anyList());
+        verify(bulkOperations, times(1)).execute();
+    }
+
+    @Test
+    void batchThatFailsPartWayIsNotFlushed() {
+        BybitExtractedEvent first = extractedTradeRow("trade-1", "BUY");
+        BybitExtractedEvent second = extractedTradeRow("trade-2", "BUY");
+        when(pendingBybitExtractedRowQueryService.loadNextBatch(10)).thenReturn(List.of(first, second));
+        when(bybitExtractedTradePairer.prefetch(anyList())).thenReturn(BybitExtractedPairingCandidates.empty());
+        when(bybitExtractedTradePairer.findOppositeLeg(eq(second), any())).thenThrow(new IllegalStateException("pairing failed"));
+
+        assertThatThrownBy(() -> service().processNextBatch(10)).isInstanceOf(IllegalStateException.class);
+
+        verify(normalizedTransactionStore, never()).upsertAll(anyList());
+        verify(mongoOperations, never()).bulkOps(any(BulkOperations.BulkMode.class), eq(BybitExtractedEvent.class));
+    }
+
+    private BybitNormalizationService service() {
+        return new BybitNormalizationService(
+                pendingBybitExtractedRowQueryService,
+                integrationRawEventRepository,
+                bybitExtractedTradePairer,
+                bybitExtractedTransferShadowPairer,
+                pendingExternalLedgerRowQueryService,
+                externalLedgerRawRepository,
+                bybitTradePairer,
+                bybitTransferShadowPairer,
+                new BybitExtractedEventMapper(),
+                bybitExtractionService,
+                new BybitCanonicalTransactionBuilder(),
+                normalizedTransactionStore,
+                accountingUniverseService,
+                bybitInternalTransferPairer,
+                bybitEarnPrincipalTransferPairer,
+                bybitPrincipalEventExclusivityService,
+                bybitInternalTransferExternalCpReclassifier,
+                bybitStreamAuthorityCollapser,
+                bybitStakingConversionPairer,
+                bybitOnChainEarnFundPairer,
+                bybitBotExecutionAttributionService,
+                bybitBotTransferCostBasisService,
+                mongoOperations
+        );
+    }
+
+    private BybitExtractedEvent extractedTradeRow(String id, String direction) {
+        BybitExtractedEvent row = new BybitExtractedEvent();
+        row.setId(id);
+        row.setUid("uid-1");
+        row.setWalletRef("BYBIT:uid-1");
+        row.setSourceFileType("uta_derivatives");
+        row.setCanonicalType("SWAP");
+        row.setStatus(BybitExtractedEventStatus.RAW);
+        row.setTimeUtc(Instant.parse("2026-03-25T10:00:00Z"));
+        row.setUtaDirection(direction);
+        row.setUtaContract("ETHUSDT");
+        row.setAssetSymbol("ETH");
+        row.setQuantityRaw(new BigDecimal("1"));
+        row.setFilledPrice(new BigDecimal("2500"));
+        row.setCashFlow(new BigDecimal("1"));
+        row.setBasisRelevant(true);
+        return row;
+    }
+}
@@ -2,7 +2,6 @@ package com.walletradar.application.cex.job.bybit;
 
 import com.walletradar.domain.common.NetworkId;
 import com.walletradar.domain.transaction.bybit.BybitExtractedEvent;
-import com.walletradar.domain.transaction.bybit.BybitExtractedEventRepository;
 import com.walletradar.domain.transaction.bybit.BybitExtractedEventStatus;
 import com.walletradar.domain.transaction.externalledger.ExternalLedgerRaw;
 import com.walletradar.domain.transaction.externalledger.ExternalLedgerRawRepository;
@@ -34,6 +33,7 @@ import com.walletradar.application.normalization.store.IdempotentNormalizedTrans
 import com.walletradar.application.session.application.TrackedWalletLookupService;
 import com.walletradar.application.cex.acquisition.venue.bybit.BybitExtractionService;
 import com.walletradar.application.cex.acquisition.venue.bybit.BybitExtractedEventMapper;
+import com.walletradar.application.cex.acquisition.venue.bybit.BybitExtractedPairingCandidates;
 import com.walletradar.application.cex.acquisition.venue.bybit.BybitExtractedTradePairer;
 import com.walletradar.application.cex.acquisition.venue.bybit.BybitExtractedTransferShadowPairer;
 import com.walletradar.application.cex.acquisition.venue.bybit.PendingBybitExtractedRowQueryService;
@@ -46,13 +46,21 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -63,8 +71,6 @@ class BybitNormalizationServiceTest {
     @Mock
     private PendingBybitExtractedRowQueryService pendingBybitExtractedRowQueryService;
     @Mock
-    private BybitExtractedEventRepository bybitExtractedEventRepository;
-    @Mock
     private IntegrationRawEventRepository integrationRawEventRepository;
     @Mock
     private BybitExtractedTradePairer bybitExtractedTradePairer;
@@ -108,6 +114,10 @@ class BybitNormalizationServiceTest {
     private BybitBotExecutionAttributionService bybitBotExecutionAttributionService;
     @Mock
     private BybitBotTransferCostBasisService bybitBotTransferCostBasisService;
+    @Mock
+    private MongoOperations mongoOperations;
+    @Mock
+    private BulkOperations bulkOperations;
 
     @Test
     void extractedTradeLaneIsProcessedBeforeLegacyRawRows() {
@@ -115,24 +125,46 @@ class BybitNormalizationServiceTest {
         ExternalLedgerRaw legacy = tradeRow("legacy-trade-1", "BUY");
 
         when(pendingBybitExtractedRowQueryService.loadNextBatch(10)).thenReturn(List.of(extracted));
-        when(bybitExtractedEventRepository.findById(extracted.getId())).thenReturn(Optional.of(extracted));
-        when(bybitExtractedTradePairer.findOppositeLeg(extracted)).thenReturn(Optional.empty());
+        stubExtractedBatch();
+        when(bybitExtractedTradePairer.findOppositeLeg(eq(extracted), any())).thenReturn(Optional.empty());
 
         BybitNormalizationService service = service();
         int processed = service.processNextBatch(10);
 
         assertThat(processed).isEqualTo(1);
-        verify(normalizedTransactionStore).upsert(org.mockito.ArgumentMatchers.any(NormalizedTransaction.class));
+        assertThat(stagedNormalized()).hasSize(1);
         verify(externalLedgerRawRepository, never()).findById(legacy.getId());
-        verify(bybitExtractedEventRepository, org.mockito.Mockito.atLeastOnce()).save(extracted);
+        assertThat(flushedStagingRows()).containsExactly(extracted);
         assertThat(extracted.getStatus()).isEqualTo(BybitExtractedEventStatus.CONFIRMED);
     }
 
+    @Test
+    void extractedBatchPairsInMemoryAndFlushesOnceWithoutPerRowReReads() {
+        BybitExtractedEvent buy = extractedTradeRow("extracted-buy", "BUY");
+        BybitExtractedEvent sell = extractedTradeRow("extracted-sell", "BUY");
+        sell.setAssetSymbol("USDT");
+        sell.setQuantityRaw(new BigDecimal("-2500"));
+
+        when(pendingBybitExtractedRowQueryService.loadNextBatch(10)).thenReturn(List.of(buy, sell));
+        stubExtractedBatch();
+        when(bybitExtractedTradePairer.findOppositeLeg(eq(buy), any())).thenReturn(Optional.of(sell));
+
+        BybitNormalizationService service = service();
+        int processed = service.processNextBatch(10);
+
+        assertThat(processed).isEqualTo(1);
+        assertThat(stagedNormalized()).hasSize(1);
+        assertThat(flushedStagingRows()).containsExactly(buy, sell);
+        assertThat(sell.getStatus()).isEqualTo(BybitExtractedEventStatus.CONFIRMED);
+        verify(bybitExtractedTradePairer, never()).findOppositeLeg(eq(sell), any());
+        verify(bybitExtractedTradePairer).prefetch(List.of(buy, sell));
+        verify(normalizedTransactionStore, never()).upsert(any());
+    }
+
     @Test
     void orphanLegFallsBackToExplicitUnmatchedCanonicalRow() {
         ExternalLedgerRaw orphan = tradeRow("trade-1", "BUY");
         when(pendingExternalLedgerRowQueryService.loadNextBatch(50)).thenReturn(List.of(orphan));
-        when(externalLedgerRawRepository.findById(orphan.getId())).thenReturn(Optional.of(orphan));
         when(bybitTradePairer.findOppositeLeg(orphan)).thenReturn(Optional.empty());
 
         BybitNormalizationService service = service();
@@ -167,7 +199,6 @@ class BybitNormalizationServiceTest {
         row.setBasisRelevant(true);
 
         when(pendingExternalLedgerRowQueryService.loadNextBatch(10)).thenReturn(List.of(row));
-        when(externalLedgerRawRepository.findById(row.getId())).thenReturn(Optional.of(row));
 
         BybitNormalizationService service = service();
         int processed = service.processNextBatch(10);
@@ -189,7 +220,6 @@ class BybitNormalizationServiceTest {
         ExternalLedgerRaw withdraw = bridgeRow("bridge-withdraw", "EXTERNAL_TRANSFER_OUT");
 
         when(pendingExternalLedgerRowQueryService.loadNextBatch(10)).thenReturn(List.of(withdraw));
-        when(externalLedgerRawRepository.findById(withdraw.getId())).thenReturn(Optional.of(withdraw));
 
         BybitNormalizationService service = service();
         int processed = service.processNextBatch(10);
@@ -224,7 +254,6 @@ class BybitNormalizationServiceTest {
         ExternalLedgerRaw deposit = bridgeRow("bridge-deposit", "EXTERNAL_INBOUND");
 
         when(pendingExternalLedgerRowQueryService.loadNextBatch(10)).thenReturn(List.of(deposit));
-        when(externalLedgerRawRepository.findById(deposit.getId())).thenReturn(Optional.of(deposit));
 
         BybitNormalizationService service = service();
         int processed = service.processNextBatch(10);
@@ -276,7 +305,6 @@ class BybitNormalizationServiceTest {
         deposit.setReceivedAddress("0x2ea8cb6f614a3c579d1d09474573387d3c16ac6d");
 
         when(pendingExternalLedgerRowQueryService.loadNextBatch(10)).thenReturn(List.of(deposit));
-        when(externalLedgerRawRepository.findById(deposit.getId())).thenReturn(Optional.of(deposit));
 
         BybitNormalizationService service = service();
         int processed = service.processNextBatch(10);
@@ -299,7 +327,6 @@ class BybitNormalizationServiceTest {
         withdraw.setReceivedAddress("0x1a87f12ac07e9746e9b053b8d7ef1d45270d693f");
 
         when(pendingExternalLedgerRowQueryService.loadNextBatch(10)).thenReturn(List.of(withdraw));
-        when(externalLedgerRawRepository.findById(withdraw.getId())).thenReturn(Optional.of(withdraw));
 
         BybitNormalizationService service = service();
         int processed = service.processNextBatch(10);
@@ -331,7 +358,6 @@ class BybitNormalizationServiceTest {
         reward.setBasisRelevant(true);
 
         when(pendingExternalLedgerRowQueryService.loadNextBatch(10)).thenReturn(List.of(reward));
-        when(externalLedgerRawRepository.findById(reward.getId())).thenReturn(Optional.of(reward));
 
         BybitNormalizationService service = service();
         int processed = service.processNextBatch(10);
@@ -349,7 +375,6 @@ class BybitNormalizationServiceTest {
         ExternalLedgerRaw convertBuy = convertRow("convert-buy", "MNT", "0.2", Instant.parse("2026-03-25T10:00:01Z"));
 
         when(pendingExternalLedgerRowQueryService.loadNextBatch(10)).thenReturn(List.of(convertSell));
-        when(externalLedgerRawRepository.findById(convertSell.getId())).thenReturn(Optional.of(convertSell));
         when(bybitTradePairer.loadConvertCluster(convertSell)).thenReturn(List.of(convertSell, convertBuy));
 
         BybitNormalizationService service = service();
@@ -373,7 +398,6 @@ class BybitNormalizationServiceTest {
         ExternalLedgerRaw convertSell = convertRow("convert-sell", "COOK", "-1", Instant.parse("2026-03-25T10:00:00Z"));
 
         when(pendingExternalLedgerRowQueryService.loadNextBatch(10)).thenReturn(List.of(convertSell));
-        when(externalLedgerRawRepository.findById(convertSell.getId())).thenReturn(Optional.of(convertSell));
         when(bybitTradePairer.loadConvertCluster(convertSell)).thenReturn(List.of(convertSell));
 
         BybitNormalizationService service = service();
@@ -407,16 +431,14 @@ class BybitNormalizationServiceTest {
         );
 
         when(pendingBybitExtractedRowQueryService.loadNextBatch(10)).thenReturn(List.of(convertSell));
-        when(bybitExtractedEventRepository.findById(convertSell.getId())).thenReturn(Optional.of(convertSell));
-        when(bybitExtractedTradePairer.loadConvertCluster(convertSell)).thenReturn(List.of(convertSell, convertBuy));
+        stubExtractedBatch();
+        when(bybitExtractedTradePairer.loadConvertCluster(eq(convertSell), any())).thenReturn(List.of(convertSell, convertBuy));
 
         BybitNormalizationService service = service();
         int processed = service.processNextBatch(10);
 
         assertThat(processed).isEqualTo(1);
-        ArgumentCaptor<NormalizedTransaction> captor = ArgumentCaptor.forClass(NormalizedTransaction.class);
-        verify(normalizedTransactionStore).upsert(captor.capture());
-        NormalizedTransaction saved = captor.getValue();
+        NormalizedTransaction saved = onlyStagedNormalized();
         assertThat(saved.getType()).isEqualTo(NormalizedTransactionType.SWAP);
         assertThat(saved.getStatus()).isEqualTo(NormalizedTransactionStatus.PENDING_PRICE);
         assertThat(saved.getFlows())
@@ -425,9 +447,8 @@ class BybitNormalizationServiceTest {
                         "ETH:BUY:0.70215876",
                         "CMETH:SELL:-0.66931648"
                 );
-        verify(bybitExtractedEventRepository, org.mockito.Mockito.atLeastOnce()).save(convertSell);
-        verify(bybitExtractedEventRepository, org.mockito.Mockito.atLeastOnce()).save(convertBuy);
-        verify(bybitExtractedTradePairer, never()).findOppositeLeg(convertSell);
+        assertThat(flushedStagingRows()).contains(convertSell, convertBuy);
+        verify(bybitExtractedTradePairer, never()).findOppositeLeg(eq(convertSell), any());
     }
 
     @Test
@@ -452,16 +473,14 @@ class BybitNormalizationServiceTest {
         convertBuy.setBybitDescription("Small Balance Conversion");
 
         when(pendingBybitExtractedRowQueryService.loadNextBatch(10)).thenReturn(List.of(convertSell));
-        when(bybitExtractedEventRepository.findById(convertSell.getId())).thenReturn(Optional.of(convertSell));
-        when(bybitExtractedTradePairer.loadConvertCluster(convertSell)).thenReturn(List.of(convertSell, convertBuy));
+        stubExtractedBatch();
+        when(bybitExtractedTradePairer.loadConvertCluster(eq(convertSell), any())).thenReturn(List.of(convertSell, convertBuy));
 
         BybitNormalizationService service = service();
         int processed = service.processNextBatch(10);
 
         assertThat(processed).isEqualTo(1);
-        ArgumentCaptor<NormalizedTransaction> captor = ArgumentCaptor.forClass(NormalizedTransaction.class);
-        verify(normalizedTransactionStore).upsert(captor.capture());
-        NormalizedTransaction saved = captor.getValue();
+        NormalizedTransaction saved = onlyStagedNormalized();
         assertThat(saved.getType()).isEqualTo(NormalizedTransactionType.SWAP);
         assertThat(saved.getStatus()).isEqualTo(NormalizedTransactionStatus.PENDING_PRICE);
         assertThat(saved.getFlows())
@@ -470,8 +489,7 @@ class BybitNormalizationServiceTest {
                         "ZAMA:SELL:-11.585",
                         "MNT:BUY:0.4940094251864499"
                 );
-        verify(bybitExtractedEventRepository, org.mockito.Mockito.atLeastOnce()).save(convertSell);
-        verify(bybitExtractedEventRepository, org.mockito.Mockito.atLeastOnce()).save(convertBuy);
+        assertThat(flushedStagingRows()).contains(convertSell, convertBuy);
     }
 
     @Test
@@ -499,21 +517,19 @@ class BybitNormalizationServiceTest {
                 .append("txID", "0xdeposit"));
 
         when(pendingBybitExtractedRowQueryService.loadNextBatch(10)).thenReturn(List.of(deposit));
-        when(bybitExtractedEventRepository.findById(deposit.getId())).thenReturn(Optional.of(deposit));
-        when(integrationRawEventRepository.findById("integration-raw-1")).thenReturn(Optional.of(rawEvent));
+        when(integrationRawEventRepository.findAllById(List.of("integration-raw-1"))).thenReturn(List.of(rawEvent));
+        stubExtractedBatch();
 
         BybitNormalizationService service = service();
         int processed = service.processNextBatch(10);
 
         assertThat(processed).isEqualTo(1);
-        ArgumentCaptor<NormalizedTransaction> captor = ArgumentCaptor.forClass(NormalizedTransaction.class);
-        verify(normalizedTransactionStore).upsert(captor.capture());
-        NormalizedTransaction saved = captor.getValue();
+        NormalizedTransaction saved = onlyStagedNormalized();
         assertThat(saved.getType()).isEqualTo(NormalizedTransactionType.EXTERNAL_TRANSFER_IN);
         assertThat(saved.getCounterpartyAddress()).isEqualTo("0x5c30940a4544ca845272fe97c4a27f2ed2cd7b64");
         assertThat(saved.getExcludedFromAccounting()).isFalse();
         assertThat(deposit.getSenderAddress()).isEqualTo("0x5c30940a4544ca845272fe97c4a27f2ed2cd7b64");
-        verify(bybitExtractedEventRepository, org.mockito.Mockito.atLeastOnce()).save(deposit);
+        assertThat(flushedStagingRows()).contains(deposit);
     }
 
     @Test
@@ -532,16 +548,14 @@ class BybitNormalizationServiceTest {
         );
 
         when(pendingBybitExtractedRowQueryService.loadNextBatch(10)).thenReturn(List.of(ethLeg));
-        when(bybitExtractedEventRepository.findById(ethLeg.getId())).thenReturn(Optional.of(ethLeg));
-        when(bybitExtractedTradePairer.findLiquidStakingCounterLeg(ethLeg)).thenReturn(Optional.of(cmethLeg));
+        stubExtractedBatch();
+        when(bybitExtractedTradePairer.findLiquidStakingCounterLeg(eq(ethLeg), any())).thenReturn(Optional.of(cmethLeg));
 
         BybitNormalizationService service = service();
         int processed = service.processNextBatch(10);
 
         assertThat(processed).isEqualTo(1);
-        ArgumentCaptor<NormalizedTransaction> captor = ArgumentCaptor.forClass(NormalizedTransaction.class);
-        verify(normalizedTransactionStore).upsert(captor.capture());
-        NormalizedTransaction saved = captor.getValue();
+        NormalizedTransaction saved = onlyStagedNormalized();
         assertThat(saved.getType()).isEqualTo(NormalizedTransactionType.STAKING_DEPOSIT);
         // D1 (ADR-054 §9): ETH → cmETH is cross-canonical (FAMILY:ETH → FAMILY:METH), so it routes to
         // PENDING_PRICE so both principal legs get a market quote instead of a $0-basis acquisition.
@@ -553,8 +567,7 @@ class BybitNormalizationServiceTest {
                         "ETH:TRANSFER:-0.11384604",
                         "CMETH:TRANSFER:0.10687862"
                 );
-        verify(bybitExtractedEventRepository, org.mockito.Mockito.atLeastOnce()).save(ethLeg);
-        verify(bybitExtractedEventRepository, org.mockito.Mockito.atLeastOnce()).save(cmethLeg);
+        assertThat(flushedStagingRows()).contains(ethLeg, cmethLeg);
     }
 
     @Test
@@ -581,16 +594,14 @@ class BybitNormalizationServiceTest {
         cmethEarnLeg.setWalletRef("BYBIT:UID:EARN");
 
         when(pendingBybitExtractedRowQueryService.loadNextBatch(10)).thenReturn(List.of(methFundLeg));
-        when(bybitExtractedEventRepository.findById(methFundLeg.getId())).thenReturn(Optional.of(methFundLeg));
-        when(bybitExtractedTradePairer.findLiquidStakingCounterLeg(methFundLeg)).thenReturn(Optional.of(cmethEarnLeg));
+        stubExtractedBatch();
+        when(bybitExtractedTradePairer.findLiquidStakingCounterLeg(eq(methFundLeg), any())).thenReturn(Optional.of(cmethEarnLeg));
 
         BybitNormalizationService service = service();
         int processed = service.processNextBatch(10);
 
         assertThat(processed).isEqualTo(1);
-        ArgumentCaptor<NormalizedTransaction> captor = ArgumentCaptor.forClass(NormalizedTransaction.class);
-        verify(normalizedTransactionStore).upsert(captor.capture());
-        NormalizedTransaction saved = captor.getValue();
+        NormalizedTransaction saved = onlyStagedNormalized();
         assertThat(saved.getType()).isEqualTo(NormalizedTransactionType.STAKING_DEPOSIT);
         assertThat(saved.getStatus()).isEqualTo(NormalizedTransactionStatus.CONFIRMED);
         // Booked on the UID umbrella (no sub-account suffix) — the disposal drains the umbrella lot
@@ -604,7 +615,7 @@ class BybitNormalizationServiceTest {
                 );
         // Both legs are confirmed by the fused-pair path (the EARN counter leg is consumed here and
         // must NOT be reprocessed / synthesised as a same-asset EARN credit downstream).
-        verify(bybitExtractedEventRepository, org.mockito.Mockito.atLeastOnce()).save(cmethEarnLeg);
+        assertThat(flushedStagingRows()).contains(cmethEarnLeg);
     }
 
     @Test
@@ -628,16 +639,14 @@ class BybitNormalizationServiceTest {
         mintLeg.setBybitDescription("Mint");
 
         when(pendingBybitExtractedRowQueryService.loadNextBatch(10)).thenReturn(List.of(stakeLeg));
-        when(bybitExtractedEventRepository.findById(stakeLeg.getId())).thenReturn(Optional.of(stakeLeg));
-        when(bybitExtractedTradePairer.findLiquidStakingCounterLeg(stakeLeg)).thenReturn(Optional.of(mintLeg));
+        stubExtractedBatch();
+        when(bybitExtractedTradePairer.findLiquidStakingCounterLeg(eq(stakeLeg), any())).thenReturn(Optional.of(mintLeg));
 
         BybitNormalizationService service = service();
         int processed = service.processNextBatch(10);
 
         assertThat(processed).isEqualTo(1);
-        ArgumentCaptor<NormalizedTransaction> captor = ArgumentCaptor.forClass(NormalizedTransaction.class);
-        verify(normalizedTransactionStore).upsert(captor.capture());
-        NormalizedTransaction saved = captor.getValue();
+        NormalizedTransaction saved = onlyStagedNormalized();
         assertThat(saved.getType()).isEqualTo(NormalizedTransactionType.STAKING_DEPOSIT);
         // D1 (ADR-054 §9): ETH → mETH is cross-canonical (FAMILY:ETH → FAMILY:METH), so it routes to
         // PENDING_PRICE so both principal legs get a market quote instead of a $0-basis acquisition.
@@ -649,8 +658,7 @@ class BybitNormalizationServiceTest {
                         "ETH:TRANSFER:-0.709",
                         "METH:TRANSFER:0.66865026"
                 );
-        verify(bybitExtractedEventRepository, org.mockito.Mockito.atLeastOnce()).save(stakeLeg);
-        verify(bybitExtractedEventRepository, org.mockito.Mockito.atLeastOnce()).save(mintLeg);
+        assertThat(flushedStagingRows()).contains(stakeLeg, mintLeg);
     }
 
     @Test
@@ -668,7 +676,6 @@ class BybitNormalizationServiceTest {
         row.setQuantityRaw(new BigDecimal("-523"));
 
         when(pendingExternalLedgerRowQueryService.loadNextBatch(10)).thenReturn(List.of(row));
-        when(externalLedgerRawRepository.findById(row.getId())).thenReturn(Optional.of(row));
 
         BybitNormalizationService service = service();
         int processed = service.processNextBatch(10);
@@ -705,7 +712,6 @@ class BybitNormalizationServiceTest {
         anchor.setBasisRelevant(true);
 
         when(pendingExternalLedgerRowQueryService.loadNextBatch(10)).thenReturn(List.of(anchor));
-        when(externalLedgerRawRepository.findById(anchor.getId())).thenReturn(Optional.of(anchor));
 
         BybitNormalizationService service = service();
         int processed = service.processNextBatch(10);
@@ -742,7 +748,6 @@ class BybitNormalizationServiceTest {
         anchor.setBasisRelevant(true);
 
         when(pendingExternalLedgerRowQueryService.loadNextBatch(10)).thenReturn(List.of(anchor));
-        when(externalLedgerRawRepository.findById(anchor.getId())).thenReturn(Optional.of(anchor));
 
         BybitNormalizationService service = service();
         int processed = service.processNextBatch(10);
@@ -770,7 +775,6 @@ class BybitNormalizationServiceTest {
         // refactor cannot silently reorder the two passes.
         ExternalLedgerRaw row = tradeRow("trade-order-pin", "BUY");
         when(pendingExternalLedgerRowQueryService.loadNextBatch(10)).thenReturn(List.of(row));
-        when(externalLedgerRawRepository.findById(row.getId())).thenReturn(Optional.of(row));
         when(bybitTradePairer.findOppositeLeg(row)).thenReturn(Optional.empty());
 
         BybitNormalizationService service = service();
@@ -783,10 +787,35 @@ class BybitNormalizationServiceTest {
         inOrder.verify(bybitEarnPrincipalTransferPairer).pairEarnPrincipalTransfers();
     }
 
+    private void stubExtractedBatch() {
+        when(bybitExtractedTradePairer.prefetch(anyList())).thenReturn(BybitExtractedPairingCandidates.empty());
+        when(mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, BybitExtractedEvent.class)).thenReturn(bulkOperations);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<NormalizedTransaction> stagedNormalized() {
+        ArgumentCaptor<Collection<NormalizedTransaction>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(normalizedTransactionStore).upsertAll(captor.capture());
+        return List.copyOf(captor.getValue());
+    }
+
+    private NormalizedTransaction onlyStagedNormalized() {
+        List<NormalizedTransaction> staged = stagedNormalized();
+        assertThat(staged).hasSize(1);
+        return staged.get(0);
+    }
+
+    private List<BybitExtractedEvent> flushedStagingRows() {
+        ArgumentCaptor<BybitExtractedEvent> captor = ArgumentCaptor.forClass(BybitExtractedEvent.class);
+        verify(bulkOperations, Mockito.atLeastOnce())
+                .replaceOne(any(Query.class), captor.capture(), any(FindAndReplaceOptions.class));
+        verify(bulkOperations).execute();
+        return captor.getAllValues();
+    }
+
     private BybitNormalizationService service() {
         return new BybitNormalizationService(
                 pendingBybitExtractedRowQueryService,
-                bybitExtractedEventRepository,
                 integrationRawEventRepository,
                 bybitExtractedTradePairer,
                 bybitExtractedTransferShadowPairer,
@@ -807,7 +836,8 @@ class BybitNormalizationServiceTest {
                 bybitStakingConversionPairer,
                 bybitOnChainEarnFundPairer,
                 bybitBotExecutionAttributionService,
-                bybitBotTransferCostBasisService
+                bybitBotTransferCostBasisService,
+                mongoOperations
         );
     }
 
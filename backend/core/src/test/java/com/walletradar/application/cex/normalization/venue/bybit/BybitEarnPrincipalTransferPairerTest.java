@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Query;
 
@@ -18,6 +19,7 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -345,10 +347,12 @@ class BybitEarnPrincipalTransferPairerTest {
         BybitCrossUidUniversalTransferPairer crossUidPairer =
                 new BybitCrossUidUniversalTransferPairer(mongoOperations, normalizedTransactionRepository);
         BybitInternalTransferPairer internalTransferPairer = new BybitInternalTransferPairer(
-                mongoOperations, normalizedTransactionRepository, properties, crossUidPairer);
+                mongoOperations, properties, crossUidPairer);
 
-        when(mongoOperations.find(any(Query.class), eq(NormalizedTransaction.class)))
-                .thenReturn(List.of(legX, freshOpposite));
+        when(mongoOperations.stream(any(Query.class), eq(NormalizedTransaction.class)))
+                .thenAnswer(invocation -> Stream.of(legX, freshOpposite));
+        when(mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, NormalizedTransaction.class))
+                .thenReturn(mock(BulkOperations.class));
 
         int rewrites = internalTransferPairer.repairSingletonPairs();
 
@@ -7,25 +7,30 @@ import com.walletradar.domain.transaction.normalized.NormalizedTransactionReposi
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
 import com.walletradar.application.normalization.config.BybitInternalTransferProperties;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -40,18 +45,22 @@ class BybitInternalTransferPairerTest {
     private MongoOperations mongoOperations;
     @Mock
     private NormalizedTransactionRepository normalizedTransactionRepository;
+    @Mock
+    private BulkOperations bulkOperations;
 
     private BybitInternalTransferProperties properties;
     private BybitInternalTransferPairer pairer;
     private BybitCrossUidUniversalTransferPairer crossUidPairer;
+    private List<NormalizedTransaction> candidates = List.of();
 
     @BeforeEach
     void setUp() {
+        lenient().when(mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, NormalizedTransaction.class))
+                .thenReturn(bulkOperations);
         properties = new BybitInternalTransferProperties();
         crossUidPairer = new BybitCrossUidUniversalTransferPairer(mongoOperations, normalizedTransactionRepository);
         pairer = new BybitInternalTransferPairer(
                 mongoOperations,
-                normalizedTransactionRepository,
                 properties,
                 crossUidPairer
         );
@@ -76,16 +85,12 @@ class BybitInternalTransferPairerTest {
                 Instant.parse("2026-03-25T12:00:30Z")
         );
 
-        when(mongoOperations.find(any(Query.class), eq(NormalizedTransaction.class)))
-                .thenReturn(List.of(senderLeg, receiverLeg));
+        stubCandidates(List.of(senderLeg, receiverLeg));
 
         int rewrites = pairer.repairSingletonPairs();
 
         assertThat(rewrites).isEqualTo(2);
-        ArgumentCaptor<Iterable<NormalizedTransaction>> captor = ArgumentCaptor.forClass(Iterable.class);
-        verify(normalizedTransactionRepository).saveAll(captor.capture());
-        List<NormalizedTransaction> dirty = new ArrayList<>();
-        captor.getValue().forEach(dirty::add);
+        List<NormalizedTransaction> dirty = rewritten();
         assertThat(dirty).hasSize(2);
         String canonicalCorrelation = dirty.get(0).getCorrelationId();
         assertThat(canonicalCorrelation).startsWith(BybitInternalTransferPairer.PAIR_CORRELATION_PREFIX);
@@ -97,6 +102,30 @@ class BybitInternalTransferPairerTest {
         }
     }
 
+    @Test
+    void scansProjectedCandidatesAndSetsOnlyPairingFields() {
+        Instant base = Instant.parse("2026-03-25T12:00:00Z");
+        stubCandidates(List.of(
+                singletonInternalTransfer("out", "c1", "BYBIT:42:UTA", "DOGE", "-150.50", base),
+                singletonInternalTransfer("in", "c2", "BYBIT:42:FUND", "DOGE", "150.50", base.plusSeconds(30))
+        ));
+
+        pairer.repairSingletonPairs();
+
+        ArgumentCaptor<Query> scan = ArgumentCaptor.forClass(Query.class);
+        verify(mongoOperations).stream(scan.capture(), eq(NormalizedTransaction.class));
+        assertThat(scan.getValue().getFieldsObject())
+                .containsKeys("flows", "correlationId", "blockTimestamp", "walletAddress")
+                .doesNotContainKey("protocolName");
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations, times(2)).updateOne(any(Query.class), updates.capture());
+        verify(bulkOperations).execute();
+        Document set = updates.getAllValues().getFirst().getUpdateObject().get("$set", Document.class);
+        assertThat(set)
+                .containsKeys("correlationId", "continuityCandidate", "matchedCounterparty", "flows", "updatedAt")
+                .doesNotContainKeys("walletAddress", "blockTimestamp", "source");
+    }
+
     @Test
     void pairBundles_threeLegNearZeroFormsBundle() {
         Instant base = Instant.parse("2026-03-25T12:00:00Z");
@@ -106,16 +135,12 @@ class BybitInternalTransferPairerTest {
         NormalizedTransaction earn = singletonInternalTransfer("earn", "c3", "BYBIT:42:EARN", "LDO", "27.90",
                 base.plusSeconds(20));
 
-        when(mongoOperations.find(any(Query.class), eq(NormalizedTransaction.class)))
-                .thenReturn(List.of(uta, fund, earn));
+        stubCandidates(List.of(uta, fund, earn));
 
         int rewrites = pairer.pairBundles();
 
         assertThat(rewrites).isEqualTo(3);
-        ArgumentCaptor<Iterable<NormalizedTransaction>> captor = ArgumentCaptor.forClass(Iterable.class);
-        verify(normalizedTransactionRepository).saveAll(captor.capture());
-        List<NormalizedTransaction> dirty = new ArrayList<>();
-        captor.getValue().forEach(dirty::add);
+        List<NormalizedTransaction> dirty = rewritten();
         assertThat(dirty).hasSize(3);
         String bundleCorr = dirty.get(0).getCorrelationId();
         assertThat(bundleCorr).startsWith(BybitInternalTransferPairer.BUNDLE_CORRELATION_PREFIX);
@@ -131,7 +156,7 @@ class BybitInternalTransferPairerTest {
                 singletonInternalTransfer("c", "c3", "BYBIT:42:EARN", "LDO", "14", base.plusSeconds(10)),
                 singletonInternalTransfer("d", "c4", "BYBIT:42:FUND", "LDO", "1", base.plusSeconds(15))
         );
-        when(mongoOperations.find(any(Query.class), eq(NormalizedTransaction.class))).thenReturn(legs);
+        stubCandidates(legs);
 
         int rewrites = pairer.pairBundles();
 
@@ -141,32 +166,30 @@ class BybitInternalTransferPairerTest {
     @Test
     void pairBundles_rejectsLargeResidual() {
         Instant base = Instant.parse("2026-03-25T12:00:00Z");
-        when(mongoOperations.find(any(Query.class), eq(NormalizedTransaction.class)))
-                .thenReturn(List.of(
-                        singletonInternalTransfer("out", "c1", "BYBIT:42:UTA", "LDO", "-10", base),
-                        singletonInternalTransfer("in", "c2", "BYBIT:42:EARN", "LDO", "12", base.plusSeconds(5))
-                ));
+        stubCandidates(List.of(
+                singletonInternalTransfer("out", "c1", "BYBIT:42:UTA", "LDO", "-10", base),
+                singletonInternalTransfer("in", "c2", "BYBIT:42:EARN", "LDO", "12", base.plusSeconds(5))
+        ));
 
         int rewrites = pairer.pairBundles();
 
         assertThat(rewrites).isZero();
-        verifyNoInteractions(normalizedTransactionRepository);
+        verifyNoRewrites();
     }
 
     @Test
     void pairBundles_rejectsOnlyOneSide() {
         Instant base = Instant.parse("2026-03-25T12:00:00Z");
-        when(mongoOperations.find(any(Query.class), eq(NormalizedTransaction.class)))
-                .thenReturn(List.of(
-                        singletonInternalTransfer("a", "c1", "BYBIT:42:UTA", "LDO", "-10", base),
-                        singletonInternalTransfer("b", "c2", "BYBIT:42:UTA", "LDO", "-5", base.plusSeconds(5)),
-                        singletonInternalTransfer("c", "c3", "BYBIT:42:UTA", "LDO", "-1", base.plusSeconds(10))
-                ));
+        stubCandidates(List.of(
+                singletonInternalTransfer("a", "c1", "BYBIT:42:UTA", "LDO", "-10", base),
+                singletonInternalTransfer("b", "c2", "BYBIT:42:UTA", "LDO", "-5", base.plusSeconds(5)),
+                singletonInternalTransfer("c", "c3", "BYBIT:42:UTA", "LDO", "-1", base.plusSeconds(10))
+        ));
 
         int rewrites = pairer.pairBundles();
 
         assertThat(rewrites).isZero();
-        verifyNoInteractions(normalizedTransactionRepository);
+        verifyNoRewrites();
     }
 
     @Test
@@ -176,16 +199,12 @@ class BybitInternalTransferPairerTest {
         NormalizedTransaction outLeg = singletonInternalTransfer("out", "c1", "BYBIT:42:FUND", "LDO", "-68.665", outTime);
         NormalizedTransaction inLeg = singletonInternalTransfer("in", "c2", "BYBIT:42:FUND", "LDO", "68.665", inTime);
 
-        when(mongoOperations.find(any(Query.class), eq(NormalizedTransaction.class)))
-                .thenReturn(List.of(outLeg, inLeg));
+        stubCandidates(List.of(outLeg, inLeg));
 
         int rewrites = pairer.pairSameWalletRoundTrips();
 
         assertThat(rewrites).isEqualTo(2);
-        ArgumentCaptor<Iterable<NormalizedTransaction>> captor = ArgumentCaptor.forClass(Iterable.class);
-        verify(normalizedTransactionRepository).saveAll(captor.capture());
-        List<NormalizedTransaction> dirty = new ArrayList<>();
-        captor.getValue().forEach(dirty::add);
+        List<NormalizedTransaction> dirty = rewritten();
         assertThat(dirty.get(0).getCorrelationId()).startsWith(BybitInternalTransferPairer.ROUNDTRIP_CORRELATION_PREFIX);
         assertThat(dirty.get(0).getCorrelationId()).isEqualTo(dirty.get(1).getCorrelationId());
     }
@@ -193,32 +212,30 @@ class BybitInternalTransferPairerTest {
     @Test
     void pairSameWalletRoundTrips_skipsApproximateQty() {
         Instant base = Instant.parse("2026-01-01T12:00:00Z");
-        when(mongoOperations.find(any(Query.class), eq(NormalizedTransaction.class)))
-                .thenReturn(List.of(
-                        singletonInternalTransfer("out", "c1", "BYBIT:42:FUND", "LDO", "-68.665", base),
-                        singletonInternalTransfer("in", "c2", "BYBIT:42:FUND", "LDO", "68.000", base.plusSeconds(3600))
-                ));
+        stubCandidates(List.of(
+                singletonInternalTransfer("out", "c1", "BYBIT:42:FUND", "LDO", "-68.665", base),
+                singletonInternalTransfer("in", "c2", "BYBIT:42:FUND", "LDO", "68.000", base.plusSeconds(3600))
+        ));
 
         int rewrites = pairer.pairSameWalletRoundTrips();
 
         assertThat(rewrites).isZero();
-        verifyNoInteractions(normalizedTransactionRepository);
+        verifyNoRewrites();
     }
 
     @Test
     void pairSameWalletRoundTrips_respectsWindow() {
         Instant outTime = Instant.parse("2026-01-01T12:00:00Z");
         Instant inTime = Instant.parse("2026-01-25T12:00:00Z");
-        when(mongoOperations.find(any(Query.class), eq(NormalizedTransaction.class)))
-                .thenReturn(List.of(
-                        singletonInternalTransfer("out", "c1", "BYBIT:42:FUND", "LDO", "-10", outTime),
-                        singletonInternalTransfer("in", "c2", "BYBIT:42:FUND", "LDO", "10", inTime)
-                ));
+        stubCandidates(List.of(
+                singletonInternalTransfer("out", "c1", "BYBIT:42:FUND", "LDO", "-10", outTime),
+                singletonInternalTransfer("in", "c2", "BYBIT:42:FUND", "LDO", "10", inTime)
+        ));
 
         int rewrites = pairer.pairSameWalletRoundTrips();
 
         assertThat(rewrites).isZero();
-        verifyNoInteractions(normalizedTransactionRepository);
+        verifyNoRewrites();
     }
 
     @Test
@@ -239,13 +256,12 @@ class BybitInternalTransferPairerTest {
                 "100",
                 Instant.parse("2026-03-25T12:01:00Z")
         );
-        when(mongoOperations.find(any(Query.class), eq(NormalizedTransaction.class)))
-                .thenReturn(List.of(one, two));
+        stubCandidates(List.of(one, two));
 
         int rewrites = pairer.repairSingletonPairs();
 
         assertThat(rewrites).isZero();
-        verifyNoInteractions(normalizedTransactionRepository);
+        verifyNoRewrites();
     }
 
     @Test
@@ -266,13 +282,12 @@ class BybitInternalTransferPairerTest {
                 "100",
                 Instant.parse("2026-03-25T11:00:00Z")
         );
-        when(mongoOperations.find(any(Query.class), eq(NormalizedTransaction.class)))
-                .thenReturn(List.of(one, two));
+        stubCandidates(List.of(one, two));
 
         int rewrites = pairer.repairSingletonPairs();
 
         assertThat(rewrites).isZero();
-        verifyNoInteractions(normalizedTransactionRepository);
+        verifyNoRewrites();
     }
 
     @Test
@@ -293,13 +308,12 @@ class BybitInternalTransferPairerTest {
                 "100",
                 Instant.parse("2026-03-25T12:01:00Z")
         );
-        when(mongoOperations.find(any(Query.class), eq(NormalizedTransaction.class)))
-                .thenReturn(List.of(leftPaired, rightPaired));
+        stubCandidates(List.of(leftPaired, rightPaired));
 
         int rewrites = pairer.repairSingletonPairs();
 
         assertThat(rewrites).isZero();
-        verifyNoInteractions(normalizedTransactionRepository);
+        verifyNoRewrites();
     }
 
     @Test
@@ -321,16 +335,12 @@ class BybitInternalTransferPairerTest {
                 Instant.parse("2025-09-25T06:59:12Z")
         );
 
-        when(mongoOperations.find(any(Query.class), eq(NormalizedTransaction.class)))
-                .thenReturn(List.of(fundOut, utaIn));
+        stubCandidates(List.of(fundOut, utaIn));
 
         int rewrites = pairer.pairBroadEconomicFingerprint();
 
         assertThat(rewrites).isEqualTo(2);
-        ArgumentCaptor<Iterable<NormalizedTransaction>> captor = ArgumentCaptor.forClass(Iterable.class);
-        verify(normalizedTransactionRepository).saveAll(captor.capture());
-        List<NormalizedTransaction> dirty = new ArrayList<>();
-        captor.getValue().forEach(dirty::add);
+        List<NormalizedTransaction> dirty = rewritten();
         assertThat(dirty.get(0).getCorrelationId()).startsWith(BybitInternalTransferPairer.REKEYED_CORRELATION_PREFIX);
         assertThat(dirty.get(0).getCorrelationId()).isEqualTo(dirty.get(1).getCorrelationId());
     }
@@ -354,8 +364,7 @@ class BybitInternalTransferPairerTest {
                 Instant.parse("2025-02-04T07:50:32Z")
         );
 
-        when(mongoOperations.find(any(Query.class), eq(NormalizedTransaction.class)))
-                .thenReturn(List.of(outLeg, inLeg));
+        stubCandidates(List.of(outLeg, inLeg));
 
         int rewrites = pairer.pairBroadEconomicFingerprint();
 
@@ -382,16 +391,12 @@ class BybitInternalTransferPairerTest {
                 base.plusSeconds(30)
         );
 
-        when(mongoOperations.find(any(Query.class), eq(NormalizedTransaction.class)))
-                .thenReturn(List.of(first, second));
+        stubCandidates(List.of(first, second));
 
         int demoted = pairer.dedupSameSignMirrors();
 
         assertThat(demoted).isEqualTo(1);
-        ArgumentCaptor<Iterable<NormalizedTransaction>> captor = ArgumentCaptor.forClass(Iterable.class);
-        verify(normalizedTransactionRepository).saveAll(captor.capture());
-        List<NormalizedTransaction> dirty = new ArrayList<>();
-        captor.getValue().forEach(dirty::add);
+        List<NormalizedTransaction> dirty = rewritten();
         assertThat(dirty).hasSize(1);
         assertThat(dirty.getFirst().getExcludedFromAccounting()).isTrue();
         assertThat(dirty.getFirst().getAccountingExclusionReason())
@@ -421,13 +426,12 @@ class BybitInternalTransferPairerTest {
         corridorAnchor.setNetworkId(NetworkId.ARBITRUM);
         corridorAnchor.setMatchedCounterparty("0x68bc3b81c853338eaaa21552f57437dfd7bf5b7f");
 
-        when(mongoOperations.find(any(Query.class), eq(NormalizedTransaction.class)))
-                .thenReturn(List.of(keeper, corridorAnchor));
+        stubCandidates(List.of(keeper, corridorAnchor));
 
         int demoted = pairer.dedupSameSignMirrors();
 
         assertThat(demoted).isZero();
-        verify(normalizedTransactionRepository, never()).saveAll(any());
+        verifyNoRewrites();
     }
 
     /**
@@ -464,15 +468,14 @@ class BybitInternalTransferPairerTest {
                 Instant.parse("2025-03-25T13:37:20.150Z")
         );
 
-        when(mongoOperations.find(any(Query.class), eq(NormalizedTransaction.class)))
-                .thenReturn(List.of(decoyOutbound, earnOwnedInbound));
+        stubCandidates(List.of(decoyOutbound, earnOwnedInbound));
 
         int rewrites = pairer.pairSameWalletRoundTrips();
 
         assertThat(rewrites).isZero();
         assertThat(earnOwnedInbound.getCorrelationId())
                 .isEqualTo("bybit-earn-principal-v1:c76859be690333b7dba474dc8013f13291b9c89ce481b39ca9aded5cd32f8597");
-        verify(normalizedTransactionRepository, never()).saveAll(any());
+        verifyNoRewrites();
     }
 
     /**
@@ -504,31 +507,29 @@ class BybitInternalTransferPairerTest {
                 base.minusSeconds(60)
         );
 
-        when(mongoOperations.find(any(Query.class), eq(NormalizedTransaction.class)))
-                .thenReturn(List.of(decoyOutbound, earnOwnedInbound));
+        stubCandidates(List.of(decoyOutbound, earnOwnedInbound));
 
         int rewrites = pairer.repairSingletonPairs();
 
         assertThat(rewrites).isZero();
         assertThat(earnOwnedInbound.getCorrelationId())
                 .isEqualTo("bybit-earn-principal-v1:1ae291bff86d3d5c64e7da534b04cded9993937a45cd9442323363853b53e3d5");
-        verify(normalizedTransactionRepository, never()).saveAll(any());
+        verifyNoRewrites();
     }
 
     @Test
     void doesNotPairAcrossDifferentSubAccountsWithSameSign() {
-        when(mongoOperations.find(any(Query.class), eq(NormalizedTransaction.class)))
-                .thenReturn(List.of(
-                        singletonInternalTransfer("a", "c1", "BYBIT:42:UTA", "USDT", "100",
-                                Instant.parse("2026-03-25T12:00:00Z")),
-                        singletonInternalTransfer("b", "c2", "BYBIT:42:FUND", "USDT", "100",
-                                Instant.parse("2026-03-25T12:01:00Z"))
-                ));
+        stubCandidates(List.of(
+                singletonInternalTransfer("a", "c1", "BYBIT:42:UTA", "USDT", "100",
+                        Instant.parse("2026-03-25T12:00:00Z")),
+                singletonInternalTransfer("b", "c2", "BYBIT:42:FUND", "USDT", "100",
+                        Instant.parse("2026-03-25T12:01:00Z"))
+        ));
 
         int rewrites = pairer.pairBroadEconomicFingerprint();
 
         assertThat(rewrites).isZero();
-        verifyNoInteractions(normalizedTransactionRepository);
+        verifyNoRewrites();
     }
 
     @Test
@@ -554,16 +555,12 @@ class BybitInternalTransferPairerTest {
                 Instant.parse("2025-09-25T06:59:12Z")
         );
 
-        when(mongoOperations.find(any(Query.class), eq(NormalizedTransaction.class)))
-                .thenReturn(List.of(fundOut, utaIn));
+        stubCandidates(List.of(fundOut, utaIn));
 
         int rewrites = pairer.pairDemotedEconOrphans();
 
         assertThat(rewrites).isEqualTo(2);
-        ArgumentCaptor<Iterable<NormalizedTransaction>> captor = ArgumentCaptor.forClass(Iterable.class);
-        verify(normalizedTransactionRepository).saveAll(captor.capture());
-        List<NormalizedTransaction> dirty = new ArrayList<>();
-        captor.getValue().forEach(dirty::add);
+        List<NormalizedTransaction> dirty = rewritten();
         assertThat(dirty).allSatisfy(tx -> {
             assertThat(tx.getType()).isEqualTo(NormalizedTransactionType.INTERNAL_TRANSFER);
             assertThat(tx.getContinuityCandidate()).isTrue();
@@ -574,18 +571,15 @@ class BybitInternalTransferPairerTest {
 
     @Test
     void repairAllRunsAllPasses() {
-        AtomicInteger call = new AtomicInteger();
-        when(mongoOperations.find(any(Query.class), eq(NormalizedTransaction.class)))
-                .thenAnswer(invocation -> {
-                    int n = call.incrementAndGet();
-                    if (n == 2) {
-                        return List.of(
-                                singletonInternalTransfer("out", "c1", "BYBIT:1:UTA", "USDT", "-1", Instant.now()),
-                                singletonInternalTransfer("in", "c2", "BYBIT:1:FUND", "USDT", "1", Instant.now())
-                        );
-                    }
-                    return List.of();
-                });
+        Instant now = Instant.now();
+        when(mongoOperations.find(any(Query.class), eq(NormalizedTransaction.class))).thenReturn(List.of());
+        stubCandidates(
+                List.of(
+                        singletonInternalTransfer("out", "c1", "BYBIT:1:UTA", "USDT", "-1", now),
+                        singletonInternalTransfer("in", "c2", "BYBIT:1:FUND", "USDT", "1", now)
+                ),
+                List.of()
+        );
 
         int total = pairer.repairAll();
 
@@ -866,9 +860,7 @@ class BybitInternalTransferPairerTest {
                 "c-right-b", "corr-rb", "BYBIT:42:EARN", "USDT", "100", tie);
         List<NormalizedTransaction> docs = List.of(left, rightA, rightB);
 
-        when(mongoOperations.find(any(Query.class), eq(NormalizedTransaction.class)))
-                .thenReturn(List.of(rightB, left, rightA))
-                .thenReturn(List.of(rightA, rightB, left));
+        stubCandidates(List.of(rightB, left, rightA), List.of(rightA, rightB, left));
 
         BybitDeterminismTestSupport.assertReorderInvariant(
                 docs, pairer::pairBroadEconomicFingerprint, pairer::pairBroadEconomicFingerprint);
@@ -892,9 +884,7 @@ class BybitInternalTransferPairerTest {
                 NormalizedLegRole.BUY, "BYBIT:42:EARN", "USDT", "100", tie);
         List<NormalizedTransaction> docs = List.of(left, rightA, rightB);
 
-        when(mongoOperations.find(any(Query.class), eq(NormalizedTransaction.class)))
-                .thenReturn(List.of(rightB, left, rightA))
-                .thenReturn(List.of(rightA, rightB, left));
+        stubCandidates(List.of(rightB, left, rightA), List.of(rightA, rightB, left));
 
         BybitDeterminismTestSupport.assertReorderInvariant(
                 docs, pairer::pairDemotedEconOrphans, pairer::pairDemotedEconOrphans);
@@ -915,9 +905,7 @@ class BybitInternalTransferPairerTest {
                 "c-right-b", "corr-rb", "BYBIT:42:EARN", "USDT", "100", tie);
         List<NormalizedTransaction> docs = List.of(left, rightA, rightB);
 
-        when(mongoOperations.find(any(Query.class), eq(NormalizedTransaction.class)))
-                .thenReturn(List.of(rightB, left, rightA))
-                .thenReturn(List.of(rightA, rightB, left));
+        stubCandidates(List.of(rightB, left, rightA), List.of(rightA, rightB, left));
 
         BybitDeterminismTestSupport.assertReorderInvariant(
                 docs, pairer::repairSingletonPairs, pairer::repairSingletonPairs);
@@ -939,9 +927,7 @@ class BybitInternalTransferPairerTest {
                 base.plusSeconds(10));
         List<NormalizedTransaction> docs = List.of(uta, fund, earn);
 
-        when(mongoOperations.find(any(Query.class), eq(NormalizedTransaction.class)))
-                .thenReturn(List.of(earn, uta, fund))
-                .thenReturn(List.of(fund, earn, uta));
+        stubCandidates(List.of(earn, uta, fund), List.of(fund, earn, uta));
 
         BybitDeterminismTestSupport.assertReorderInvariant(docs, pairer::pairBundles, pairer::pairBundles);
 
@@ -964,9 +950,7 @@ class BybitInternalTransferPairerTest {
                 "c-in-second", "corr-in-second", "BYBIT:42:FUND", "LDO", "68.665", outTime.plusSeconds(3600));
         List<NormalizedTransaction> docs = List.of(outbound, inboundFirst, inboundSecond);
 
-        when(mongoOperations.find(any(Query.class), eq(NormalizedTransaction.class)))
-                .thenReturn(List.of(inboundSecond, outbound, inboundFirst))
-                .thenReturn(List.of(inboundFirst, inboundSecond, outbound));
+        stubCandidates(List.of(inboundSecond, outbound, inboundFirst), List.of(inboundFirst, inboundSecond, outbound));
 
         BybitDeterminismTestSupport.assertReorderInvariant(
                 docs, pairer::pairSameWalletRoundTrips, pairer::pairSameWalletRoundTrips);
@@ -1227,4 +1211,34 @@ class BybitInternalTransferPairerTest {
         tx.setFlows(new ArrayList<>(List.of(flow)));
         return tx;
     }
+
+    private void stubCandidates(List<NormalizedTransaction> legs) {
+        candidates = legs;
+        when(mongoOperations.stream(any(Query.class), eq(NormalizedTransaction.class)))
+                .thenAnswer(invocation -> legs.stream());
+    }
+
+    private void stubCandidates(List<NormalizedTransaction> firstScan, List<NormalizedTransaction> laterScans) {
+        when(mongoOperations.stream(any(Query.class), eq(NormalizedTransaction.class)))
+                .thenAnswer(invocation -> firstScan.stream())
+                .thenAnswer(invocation -> laterScans.stream());
+    }
+
+    /** Candidates the pass rewrote, in bulk order; the bulk is verified to have run once. */
+    private List<NormalizedTransaction> rewritten() {
+        ArgumentCaptor<Query> byId = ArgumentCaptor.forClass(Query.class);
+        verify(bulkOperations, atLeastOnce()).updateOne(byId.capture(), any(Update.class));
+        verify(bulkOperations).execute();
+        List<NormalizedTransaction> dirty = new ArrayList<>();
+        for (Query query : byId.getAllValues()) {
+            String id = query.getQueryObject().getString("_id");
+            candidates.stream().filter(leg -> id.equals(leg.getId())).forEach(dirty::add);
+        }
+        return dirty;
+    }
+
+    private void verifyNoRewrites() {
+        verify(mongoOperations, never()).bulkOps(any(BulkOperations.BulkMode.class), eq(NormalizedTransaction.class));
+        verifyNoInteractions(normalizedTransactionRepository);
+    }
 }
@@ -0,0 +1,168 @@
+package com.walletradar.application.cex.normalization.venue.bybit;
+
+import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
+import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sweep-line pairing in {@link BybitTransferPairingEngine} must choose exactly the partners the
+ * former nested per-group scan chose.
+ */
+class BybitTransferPairingEngineTest {
+
+    private static final Instant BASE = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Duration DRIFT = Duration.ofMinutes(10);
+
+    @Test
+    @DisplayName("Pairs match the quadratic reference scan on randomized legs")
+    void pairOppositeLegs_matchesNestedScanReference() {
+        Random random = new Random(42L);
+        for (int round = 0; round < 50; round++) {
+            List<NormalizedTransaction> legs = randomLegs(random, 120);
+
+            List<String> expected = referencePairs(copyOf(legs));
+            List<String> actual = new ArrayList<>();
+            BybitTransferPairingEngine.PairingResult result = BybitTransferPairingEngine.pairOppositeLegs(
+                    copyOf(legs),
+                    BybitInternalTransferPairingPrimitives::broadQtySignature,
+                    DRIFT,
+                    BybitTransferPairingEngineTest::compatible,
+                    (left, right) -> actual.add(left.getId() + "|" + right.getId())
+            );
+
+            assertThat(actual).as("round %s", round).containsExactlyElementsOf(expected);
+            assertThat(result.stats().paired()).isEqualTo(actual.size() * 2);
+            assertThat(result.stats().candidates()).isEqualTo(legs.size());
+        }
+    }
+
+    @Test
+    @DisplayName("Legs outside the drift window or on the same sign stay unpaired")
+    void pairOppositeLegs_respectsDriftAndSign() {
+        List<NormalizedTransaction> legs = List.of(
+                leg("a", "BYBIT:1:UTA", "-5", BASE),
+                leg("b", "BYBIT:1:FUND", "-5", BASE.plusSeconds(10)),
+                leg("c", "BYBIT:1:EARN", "5", BASE.plus(DRIFT).plusSeconds(1))
+        );
+
+        BybitTransferPairingEngine.PairingResult result = BybitTransferPairingEngine.pairOppositeLegs(
+                new ArrayList<>(legs),
+                BybitInternalTransferPairingPrimitives::broadQtySignature,
+                DRIFT,
+                BybitTransferPairingEngineTest::compatible,
+                (left, right) -> { }
+        );
+
+        assertThat(result.dirty()).extracting(NormalizedTransaction::getId).containsExactly("b", "c");
+        assertThat(result.stats().examined()).isEqualTo(3);
+    }
+
+    private static boolean compatible(NormalizedTransaction left, NormalizedTransaction right) {
+        return !Objects.equals(left.getWalletAddress(), right.getWalletAddress())
+                && BybitInternalTransferPairingPrimitives.isBroadOppositeQty(left, right);
+    }
+
+    /** The pre-engine algorithm: per group, each left scans every later leg for the closest partner. */
+    private static List<String> referencePairs(List<NormalizedTransaction> legs) {
+        Map<String, List<NormalizedTransaction>> grouped = new LinkedHashMap<>();
+        for (NormalizedTransaction tx : legs) {
+            String key = BybitInternalTransferPairingPrimitives.broadQtySignature(tx);
+            if (key != null) {
+                grouped.computeIfAbsent(key, ignored -> new ArrayList<>()).add(tx);
+            }
+        }
+        Set<String> rewritten = new HashSet<>();
+        List<String> pairs = new ArrayList<>();
+        for (List<NormalizedTransaction> docs : grouped.values()) {
+            docs.sort(Comparator
+                    .comparing(NormalizedTransaction::getBlockTimestamp, Comparator.nullsLast(Comparator.naturalOrder()))
+                    .thenComparing(NormalizedTransaction::getId, Comparator.nullsLast(Comparator.naturalOrder())));
+            for (int leftIndex = 0; leftIndex < docs.size(); leftIndex++) {
+                NormalizedTransaction left = docs.get(leftIndex);
+                int sign = BybitInternalTransferPairingPrimitives.principalQuantitySign(left);
+                if (rewritten.contains(left.getId()) || sign == 0) {
+                    continue;
+                }
+                NormalizedTransaction best = null;
+                Duration bestDelta = DRIFT.plusSeconds(1);
+                for (int rightIndex = leftIndex + 1; rightIndex < docs.size(); rightIndex++) {
+                    NormalizedTransaction right = docs.get(rightIndex);
+                    int rightSign = BybitInternalTransferPairingPrimitives.principalQuantitySign(right);
+                    if (rewritten.contains(right.getId()) || rightSign == 0 || rightSign == sign
+                            || !compatible(left, right)
+                            || left.getBlockTimestamp() == null || right.getBlockTimestamp() == null) {
+                        continue;
+                    }
+                    Duration delta = Duration.between(left.getBlockTimestamp(), right.getBlockTimestamp()).abs();
+                    if (delta.compareTo(DRIFT) <= 0 && delta.compareTo(bestDelta) < 0) {
+                        bestDelta = delta;
+                        best = right;
+                    }
+                }
+                if (best != null) {
+                    rewritten.add(left.getId());
+                    rewritten.add(best.getId());
+                    pairs.add(left.getId() + "|" + best.getId());
+                }
+            }
+        }
+        return pairs;
+    }
+
+    private static List<NormalizedTransaction> randomLegs(Random random, int count) {
+        String[] wallets = {"BYBIT:1:UTA", "BYBIT:1:FUND", "BYBIT:1:EARN", "BYBIT:2:UTA"};
+        String[] assets = {"USDT", "BTC"};
+        String[] quantities = {"100", "100.00004", "250", "99.9"};
+        List<NormalizedTransaction> legs = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            String qty = quantities[random.nextInt(quantities.length)];
+            Instant time = random.nextInt(20) == 0 ? null : BASE.plusSeconds(random.nextInt(3_600));
+            NormalizedTransaction tx = leg(
+                    String.format("leg-%03d", index),
+                    wallets[random.nextInt(wallets.length)],
+                    random.nextBoolean() ? qty : "-" + qty,
+                    time
+            );
+            tx.getFlows().get(0).setAssetSymbol(assets[random.nextInt(assets.length)]);
+            legs.add(tx);
+        }
+        return legs;
+    }
+
+    private static List<NormalizedTransaction> copyOf(List<NormalizedTransaction> legs) {
+        return new ArrayList<>(legs);
+    }
+
+    private static NormalizedTransaction leg(String id, String wallet, String qty, Instant blockTimestamp) {
+        NormalizedTransaction tx = new NormalizedTransaction();
+        tx.setId(id);
+        tx.setSource(NormalizedTransactionSource.BYBIT);
+        tx.setType(NormalizedTransactionType.INTERNAL_TRANSFER);
+        tx.setWalletAddress(wallet);
+        tx.setBlockTimestamp(blockTimestamp);
+        NormalizedTransaction.Flow flow = new NormalizedTransaction.Flow();
+        flow.setRole(NormalizedLegRole.TRANSFER);
+        flow.setAssetSymbol("USDT");
+        flow.setQuantityDelta(new BigDecimal(qty));
+        tx.setFlows(new ArrayList<>(List.of(flow)));
+        return tx;
+    }
+}
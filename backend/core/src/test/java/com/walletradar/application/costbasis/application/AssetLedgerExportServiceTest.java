@@ -0,0 +1,128 @@
+package com.walletradar.application.costbasis.application;
+
+import com.walletradar.application.costbasis.breakeven.BreakEvenAttributionLoader;
+import com.walletradar.application.costbasis.breakeven.BreakEvenAttributionService;
+import com.walletradar.application.costbasis.domain.AssetLedgerPoint;
+import com.walletradar.application.session.application.AccountingUniverseService;
+import com.walletradar.domain.common.NetworkId;
+import com.walletradar.domain.session.UserSession;
+import com.walletradar.domain.session.UserSessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AssetLedgerExportServiceTest {
+
+    @Mock
+    private UserSessionRepository userSessionRepository;
+    @Mock
+    private AccountingUniverseService accountingUniverseService;
+    @Mock
+    private MongoOperations mongoOperations;
+
+    private AssetLedgerExportService service;
+
+    @BeforeEach
+    void setUp() {
+        BreakEvenAttributionService attributionService = new BreakEvenAttributionService(
+                new BreakEvenAttributionLoader(new com.fasterxml.jackson.databind.ObjectMapper()));
+        service = new AssetLedgerExportService(
+                userSessionRepository,
+                accountingUniverseService,
+                new AssetLedgerChartService(new BlendedExposureAvcoSeriesBuilder(), attributionService),
+                mongoOperations
+        );
+    }
+
+    @Test
+    void streamsUniverseLedgerPointsInFamilyIndexOrder() {
+        UserSession session = new UserSession();
+        session.setId("session-1");
+        AssetLedgerPoint point = new AssetLedgerPoint();
+        point.setAccountingUniverseId("ACCOUNTING_UNIVERSE:session-1");
+        point.setAccountingFamilyIdentity("FAMILY:ETH");
+        point.setAssetSymbol("ETH");
+        point.setNetworkId(NetworkId.BASE);
+        point.setTxHash("0xeth");
+        point.setBlockTimestamp(Instant.parse("2026-04-05T10:00:00Z"));
+        point.setReplaySequence(3L);
+        point.setQuantityDelta(new BigDecimal("1.5"));
+
+        when(userSessionRepository.findById("session-1")).thenReturn(Optional.of(session));
+        when(accountingUniverseService.resolveScope(session)).thenReturn(new AccountingUniverseService.AccountingUniverseScope(
+                "ACCOUNTING_UNIVERSE:session-1",
+                List.of("0x1"),
+                List.of("0x1")
+        ));
+        when(mongoOperations.stream(any(Query.class), eq(AssetLedgerPoint.class))).thenReturn(Stream.of(point));
+
+        List<AssetLedgerQueryService.LedgerPointView> exported;
+        try (Stream<AssetLedgerQueryService.LedgerPointView> rows = service
+                .streamSessionLedgerPoints("session-1", AssetLedgerExportService.normalizeExportQuery(
+                        null,
+                        Instant.parse("2026-05-01T00:00:00Z"),
+                        "FAMILY:ETH",
+                        List.of(NetworkId.BASE)
+                ))
+                .orElseThrow()) {
+            exported = rows.toList();
+        }
+
+        assertThat(exported).singleElement().satisfies(view -> {
+            assertThat(view.txHash()).isEqualTo("0xeth");
+            assertThat(view.networkId()).isEqualTo("BASE");
+            assertThat(view.replaySequence()).isEqualTo(3L);
+            assertThat(view.quantityDelta()).isEqualByComparingTo("1.5");
+        });
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoOperations).stream(queryCaptor.capture(), eq(AssetLedgerPoint.class));
+        assertThat(queryCaptor.getValue().getSortObject().keySet())
+                .containsExactly("accountingFamilyIdentity", "blockTimestamp", "transactionIndex", "replaySequence");
+        assertThat(queryCaptor.getValue().toString())
+                .contains("ACCOUNTING_UNIVERSE:session-1", "FAMILY:ETH", "$lt")
+                .doesNotContain("$gte");
+    }
+
+    @Test
+    void returnsEmptyForUnknownSession() {
+        when(userSessionRepository.findById("missing")).thenReturn(Optional.empty());
+
+        assertThat(service.streamSessionLedgerPoints(
+                "missing",
+                AssetLedgerExportService.normalizeExportQuery(null, null, null, null)
+        )).isEmpty();
+        verifyNoInteractions(mongoOperations);
+    }
+
+    @Test
+    void rejectsInvertedExportPeriod() {
+        assertThatThrownBy(() -> AssetLedgerExportService.normalizeExportQuery(
+                Instant.parse("2026-05-01T00:00:00Z"),
+                Instant.parse("2026-04-01T00:00:00Z"),
+                null,
+                null
+        ))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("from must be before to");
+    }
+}
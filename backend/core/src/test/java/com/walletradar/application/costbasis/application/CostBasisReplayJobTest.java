@@ -13,12 +13,12 @@ import com.walletradar.application.session.application.SessionPipelineStateServi
 import com.walletradar.application.pipeline.config.JobHeartbeatProperties;
 import com.walletradar.platform.telemetry.PipelineTelemetrySnapshot;
 import com.walletradar.platform.telemetry.PipelineTelemetrySnapshotService;
+import com.walletradar.application.pipeline.queue.PipelineStageHandoff;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 
@@ -49,7 +49,7 @@ class CostBasisReplayJobTest {
     @Mock
     private PipelineTelemetrySnapshotService pipelineTelemetrySnapshotService;
     @Mock
-    private ApplicationEventPublisher applicationEventPublisher;
+    private PipelineStageHandoff pipelineStageHandoff;
     @Mock
     private SessionPipelineActivityService pipelineActivityService;
     @Mock
@@ -86,7 +86,7 @@ class CostBasisReplayJobTest {
                 avcoReplayService,
                 assetLedgerPointRepository,
                 pipelineTelemetrySnapshotService,
-                applicationEventPublisher,
+                pipelineStageHandoff,
                 pipelineActivityService,
                 sessionPipelineStateService
         );
@@ -99,13 +99,14 @@ class CostBasisReplayJobTest {
                 eq(scope.memberRefs()),
                 org.mockito.ArgumentMatchers.any(Runnable.class)
         );
-        InOrder inOrder = org.mockito.Mockito.inOrder(avcoReplayService, applicationEventPublisher);
+        InOrder inOrder = org.mockito.Mockito.inOrder(avcoReplayService, pipelineStageHandoff);
         inOrder.verify(avcoReplayService).replayConfirmed(
                 eq("ACCOUNTING_UNIVERSE:session-1"),
                 eq(scope.memberRefs()),
                 org.mockito.ArgumentMatchers.any(Runnable.class)
         );
-        inOrder.verify(applicationEventPublisher).publishEvent(
+        inOrder.verify(pipelineStageHandoff).submit(
+                eq("session-1"),
                 eq(new AccountingReplayCompletedEvent("session-1", 7, "manual"))
         );
     }
@@ -133,7 +134,7 @@ class CostBasisReplayJobTest {
                 avcoReplayService,
                 assetLedgerPointRepository,
                 pipelineTelemetrySnapshotService,
-                applicationEventPublisher,
+                pipelineStageHandoff,
                 pipelineActivityService,
                 sessionPipelineStateService
         );
@@ -146,7 +147,7 @@ class CostBasisReplayJobTest {
                 org.mockito.ArgumentMatchers.anyCollection(),
                 org.mockito.ArgumentMatchers.any(Runnable.class)
         );
-        verify(applicationEventPublisher, never()).publishEvent(org.mockito.ArgumentMatchers.any());
+        verify(pipelineStageHandoff, never()).submit(org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any());
         verify(sessionPipelineStateService).markStageBlocked(
                 eq("session-1"),
                 eq(UserSession.PipelineStage.ACCOUNTING_REPLAY),
@@ -183,7 +184,7 @@ class CostBasisReplayJobTest {
                 avcoReplayService,
                 assetLedgerPointRepository,
                 pipelineTelemetrySnapshotService,
-                applicationEventPublisher,
+                pipelineStageHandoff,
                 pipelineActivityService,
                 sessionPipelineStateService
         );
@@ -195,7 +196,8 @@ class CostBasisReplayJobTest {
                 eq(scope.memberRefs()),
                 org.mockito.ArgumentMatchers.any(Runnable.class)
         );
-        verify(applicationEventPublisher).publishEvent(
+        verify(pipelineStageHandoff).submit(
+                eq("session-1"),
                 eq(new AccountingReplayCompletedEvent("session-1", 3, "manual"))
         );
     }
@@ -229,7 +231,7 @@ class CostBasisReplayJobTest {
                 avcoReplayService,
                 assetLedgerPointRepository,
                 pipelineTelemetrySnapshotService,
-                applicationEventPublisher,
+                pipelineStageHandoff,
                 pipelineActivityService,
                 sessionPipelineStateService
         );
@@ -241,7 +243,8 @@ class CostBasisReplayJobTest {
                 eq(scope.memberRefs()),
                 org.mockito.ArgumentMatchers.any(Runnable.class)
         );
-        verify(applicationEventPublisher).publishEvent(
+        verify(pipelineStageHandoff).submit(
+                eq("session-1"),
                 eq(new AccountingReplayCompletedEvent("session-1", 4, "pricing-completed"))
         );
     }
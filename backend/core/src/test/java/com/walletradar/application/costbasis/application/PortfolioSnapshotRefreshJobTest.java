@@ -8,6 +8,7 @@ import com.walletradar.application.pricing.application.CurrentPriceQuoteRefreshS
 import com.walletradar.application.session.application.AccountingUniverseService;
 import com.walletradar.application.session.application.SessionPipelineActivityService;
 import com.walletradar.application.session.application.SessionPipelineStateService;
+import com.walletradar.application.session.application.UniverseDataVersionService;
 import com.walletradar.application.pipeline.config.JobHeartbeatProperties;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -38,6 +39,8 @@ class PortfolioSnapshotRefreshJobTest {
     private SessionPipelineActivityService sessionPipelineActivityService;
     @Mock
     private SessionPipelineStateService sessionPipelineStateService;
+    @Mock
+    private UniverseDataVersionService universeDataVersionService;
 
     @Test
     void accountingReplayCompletionRefreshesPortfolioSnapshotInSeparateStage() {
@@ -65,7 +68,8 @@ class PortfolioSnapshotRefreshJobTest {
                 onChainBalanceRefresher,
                 currentPriceQuoteRefreshService,
                 sessionPipelineActivityService,
-                sessionPipelineStateService
+                sessionPipelineStateService,
+                universeDataVersionService
         );
 
         job.onAccountingReplayCompleted(new AccountingReplayCompletedEvent("session-1", 5724, "pricing-completed"));
@@ -73,7 +77,8 @@ class PortfolioSnapshotRefreshJobTest {
         InOrder inOrder = inOrder(
                 sessionPipelineStateService,
                 onChainBalanceRefresher,
-                currentPriceQuoteRefreshService
+                currentPriceQuoteRefreshService,
+                universeDataVersionService
         );
         inOrder.verify(sessionPipelineStateService).markStageRunning(
                 "session-1",
@@ -87,6 +92,8 @@ class PortfolioSnapshotRefreshJobTest {
                 any(Runnable.class)
         );
         inOrder.verify(currentPriceQuoteRefreshService).refreshForSessionBalances(eq("session-1"), any());
+        inOrder.verify(universeDataVersionService)
+                .bumpUniverse("ACCOUNTING_UNIVERSE:session-1", "portfolio-snapshot-refreshed");
         inOrder.verify(sessionPipelineStateService).markStageComplete(
                 "session-1",
                 UserSession.PipelineStage.PORTFOLIO_SNAPSHOT_REFRESH,
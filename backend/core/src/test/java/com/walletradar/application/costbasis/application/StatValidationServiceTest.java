@@ -1,5 +1,6 @@
 package com.walletradar.application.costbasis.application;
 
+import com.walletradar.application.custody.application.CustodyLedgerProjectionStore;
 import com.walletradar.domain.common.NetworkId;
 import com.walletradar.domain.common.PriceSource;
 import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
@@ -10,6 +11,7 @@ import com.walletradar.domain.transaction.normalized.NormalizedTransactionStatus
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
 import com.walletradar.domain.counterparty.CounterpartyType;
 import com.walletradar.application.normalization.pipeline.ton.TonNormalizedTransactionBuilder;
+import com.walletradar.platform.telemetry.PipelineCounterStore;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.bson.Document;
@@ -33,6 +35,10 @@ class StatValidationServiceTest {
     private PendingStatQueryService pendingStatQueryService;
     @Mock
     private NormalizedTransactionRepository normalizedTransactionRepository;
+    @Mock
+    private PipelineCounterStore pipelineCounterStore;
+    @Mock
+    private CustodyLedgerProjectionStore custodyLedgerProjectionStore;
 
     @Test
     void validPendingStatPromotesToConfirmed() {
@@ -48,7 +54,7 @@ class StatValidationServiceTest {
         transaction.setClarificationEvidence(clarificationEvidence);
         when(pendingStatQueryService.loadNextBatch(25, 60)).thenReturn(List.of(transaction));
 
-        StatValidationService service = new StatValidationService(pendingStatQueryService, normalizedTransactionRepository);
+        StatValidationService service = new StatValidationService(pendingStatQueryService, normalizedTransactionRepository, pipelineCounterStore, custodyLedgerProjectionStore);
         StatValidationOutcome outcome = service.processNextBatch(25, 60);
 
         assertThat(outcome.processed()).isEqualTo(1);
@@ -83,7 +89,7 @@ class StatValidationServiceTest {
         transaction.setCustodialOffChain(true);
         when(pendingStatQueryService.loadNextBatch(25, 60)).thenReturn(List.of(transaction));
 
-        StatValidationService service = new StatValidationService(pendingStatQueryService, normalizedTransactionRepository);
+        StatValidationService service = new StatValidationService(pendingStatQueryService, normalizedTransactionRepository, pipelineCounterStore, custodyLedgerProjectionStore);
         StatValidationOutcome outcome = service.processNextBatch(25, 60);
 
         assertThat(outcome.promotedToConfirmed()).isEqualTo(1);
@@ -115,7 +121,7 @@ class StatValidationServiceTest {
         transaction.setCorrelationId("lp-position:solana:meteora-damm:pool:9GrpWallet");
         when(pendingStatQueryService.loadNextBatch(25, 60)).thenReturn(List.of(transaction));
 
-        StatValidationService service = new StatValidationService(pendingStatQueryService, normalizedTransactionRepository);
+        StatValidationService service = new StatValidationService(pendingStatQueryService, normalizedTransactionRepository, pipelineCounterStore, custodyLedgerProjectionStore);
         StatValidationOutcome outcome = service.processNextBatch(25, 60);
 
         assertThat(outcome.promotedToConfirmed()).isEqualTo(1);
@@ -174,7 +180,7 @@ class StatValidationServiceTest {
                 org.mockito.ArgumentMatchers.eq(NormalizedTransactionStatus.NEEDS_REVIEW)
         )).thenReturn(List.of(custody));
 
-        StatValidationService service = new StatValidationService(pendingStatQueryService, normalizedTransactionRepository);
+        StatValidationService service = new StatValidationService(pendingStatQueryService, normalizedTransactionRepository, pipelineCounterStore, custodyLedgerProjectionStore);
         int promoted = service.promoteReplaySafeNeedsReview(List.of("0xwallet"));
 
         assertThat(promoted).isEqualTo(1);
@@ -192,7 +198,7 @@ class StatValidationServiceTest {
         );
         when(pendingStatQueryService.loadNextBatch(10, 120)).thenReturn(List.of(transaction));
 
-        StatValidationService service = new StatValidationService(pendingStatQueryService, normalizedTransactionRepository);
+        StatValidationService service = new StatValidationService(pendingStatQueryService, normalizedTransactionRepository, pipelineCounterStore, custodyLedgerProjectionStore);
         StatValidationOutcome outcome = service.processNextBatch(10, 120);
 
         assertThat(outcome.processed()).isEqualTo(1);
@@ -226,7 +232,7 @@ class StatValidationServiceTest {
         });
         when(pendingStatQueryService.loadNextBatch(10, 120)).thenReturn(List.of(transaction));
 
-        StatValidationService service = new StatValidationService(pendingStatQueryService, normalizedTransactionRepository);
+        StatValidationService service = new StatValidationService(pendingStatQueryService, normalizedTransactionRepository, pipelineCounterStore, custodyLedgerProjectionStore);
         StatValidationOutcome outcome = service.processNextBatch(10, 120);
 
         assertThat(outcome.promotedToConfirmed()).isEqualTo(1);
@@ -256,7 +262,7 @@ class StatValidationServiceTest {
         });
         when(pendingStatQueryService.loadNextBatch(10, 120)).thenReturn(List.of(transaction));
 
-        StatValidationService service = new StatValidationService(pendingStatQueryService, normalizedTransactionRepository);
+        StatValidationService service = new StatValidationService(pendingStatQueryService, normalizedTransactionRepository, pipelineCounterStore, custodyLedgerProjectionStore);
         StatValidationOutcome outcome = service.processNextBatch(10, 120);
 
         assertThat(outcome.demotedToNeedsReview()).isEqualTo(1);
@@ -276,7 +282,7 @@ class StatValidationServiceTest {
         );
         when(pendingStatQueryService.loadNextBatch(25, 60)).thenReturn(List.of(transaction));
 
-        StatValidationService service = new StatValidationService(pendingStatQueryService, normalizedTransactionRepository);
+        StatValidationService service = new StatValidationService(pendingStatQueryService, normalizedTransactionRepository, pipelineCounterStore, custodyLedgerProjectionStore);
         StatValidationOutcome outcome = service.processNextBatch(25, 60);
 
         assertThat(outcome.processed()).isEqualTo(1);
@@ -298,7 +304,7 @@ class StatValidationServiceTest {
         transaction.setMissingDataReasons(List.of("CLASSIFICATION_FAILED"));
         when(pendingStatQueryService.loadNextBatch(25, 60)).thenReturn(List.of(transaction));
 
-        StatValidationService service = new StatValidationService(pendingStatQueryService, normalizedTransactionRepository);
+        StatValidationService service = new StatValidationService(pendingStatQueryService, normalizedTransactionRepository, pipelineCounterStore, custodyLedgerProjectionStore);
         StatValidationOutcome outcome = service.processNextBatch(25, 60);
 
         assertThat(outcome.processed()).isEqualTo(1);
@@ -341,7 +347,7 @@ class StatValidationServiceTest {
                 org.mockito.ArgumentMatchers.eq(NormalizedTransactionStatus.NEEDS_REVIEW)
         )).thenReturn(List.of(feeOnly, empty, principal));
 
-        StatValidationService service = new StatValidationService(pendingStatQueryService, normalizedTransactionRepository);
+        StatValidationService service = new StatValidationService(pendingStatQueryService, normalizedTransactionRepository, pipelineCounterStore, custodyLedgerProjectionStore);
         int promoted = service.promoteReplaySafeNeedsReview(List.of("0xwallet"));
 
         assertThat(promoted).isEqualTo(2);
@@ -384,7 +390,7 @@ class StatValidationServiceTest {
                 org.mockito.ArgumentMatchers.eq(NormalizedTransactionStatus.NEEDS_REVIEW)
         )).thenReturn(List.of(tonDropped, evmFeeOnly));
 
-        StatValidationService service = new StatValidationService(pendingStatQueryService, normalizedTransactionRepository);
+        StatValidationService service = new StatValidationService(pendingStatQueryService, normalizedTransactionRepository, pipelineCounterStore, custodyLedgerProjectionStore);
         int promoted = service.promoteReplaySafeNeedsReview(List.of("0xwallet"));
 
         assertThat(promoted).isEqualTo(1);
@@ -405,7 +411,7 @@ class StatValidationServiceTest {
                 "TON_UNCLASSIFIED", TonNormalizedTransactionBuilder.ONCHAIN_UNRESOLVED_VALUE));
         when(pendingStatQueryService.loadNextBatch(25, 60)).thenReturn(List.of(tonDropped));
 
-        StatValidationService service = new StatValidationService(pendingStatQueryService, normalizedTransactionRepository);
+        StatValidationService service = new StatValidationService(pendingStatQueryService, normalizedTransactionRepository, pipelineCounterStore, custodyLedgerProjectionStore);
         StatValidationOutcome outcome = service.processNextBatch(25, 60);
 
         assertThat(outcome.promotedToConfirmed()).isZero();
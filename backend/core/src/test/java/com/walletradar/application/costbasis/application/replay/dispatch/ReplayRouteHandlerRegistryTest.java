@@ -46,13 +46,14 @@ class ReplayRouteHandlerRegistryTest {
         RecordingHandler generic = new RecordingHandler(100, ReplayRoute.GENERIC);
         ReplayRouteHandlerRegistry registry = new ReplayRouteHandlerRegistry(List.of(generic, euler), false);
 
-        registry.dispatch(
+        ReplayRouteHandler applied = registry.dispatch(
                 mock(NormalizedTransaction.class),
                 ReplayRouteHandlerRegistry.decisionFor(ReplayRoute.EULER_LOOP),
                 mock(ReplayExecutionState.class),
                 mock(ReplayDispatchCallbacks.class)
         );
 
+        assertThat(applied).isSameAs(euler);
         assertThat(euler.invoked).isTrue();
         assertThat(generic.invoked).isFalse();
     }
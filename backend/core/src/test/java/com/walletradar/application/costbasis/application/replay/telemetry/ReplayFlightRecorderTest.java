@@ -0,0 +1,92 @@
+package com.walletradar.application.costbasis.application.replay.telemetry;
+
+import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplayFlightRecorderTest {
+
+    @Test
+    @DisplayName("profile sums invocations per handler, guard and phase and ranks them by time")
+    void profileAggregatesSections() {
+        ReplayRunProfile profile = new ReplayRunProfile();
+        ReplayFlightRecorder recorder = new ReplayFlightRecorder("U1", profile);
+
+        recorder.begin();
+        recorder.dispatch(tx("t1"), () -> "GenericRouteHandler");
+        recorder.dispatch(tx("t2"), () -> "GenericRouteHandler");
+        recorder.dispatch(tx("t3"), () -> {
+            sleep(5);
+            return "EulerLoopRouteHandler";
+        });
+        recorder.guard("CorridorBasisConservationGuard", () -> { });
+        List<String> loaded = recorder.persistence("load-confirmed", () -> List.of("a", "b"), List::size);
+        recorder.end(3, 0);
+
+        assertThat(loaded).containsExactly("a", "b");
+        assertThat(profile.entries()).extracting(ReplayRunProfile.Entry::section).containsExactly(
+                "handler:GenericRouteHandler",
+                "handler:EulerLoopRouteHandler",
+                "guard:CorridorBasisConservationGuard",
+                "persistence:load-confirmed"
+        );
+        assertThat(profile.entries().getFirst().invocations()).isEqualTo(2L);
+        assertThat(profile.topByTime(1)).extracting(ReplayRunProfile.Entry::section)
+                .containsExactly("handler:EulerLoopRouteHandler");
+        assertThat(profile.summary(2)).contains("by time:", "by allocation:", "handler:EulerLoopRouteHandler");
+    }
+
+    @Test
+    @DisplayName("dispatch events carry universe, transaction type and handler while a recording runs")
+    void emitsJfrEvents() throws Exception {
+        ReplayFlightRecorder recorder = new ReplayFlightRecorder("U1", null);
+        Path dump = Files.createTempFile("replay-flight", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("walletradar.replay.HandlerDispatch");
+            recording.enable("walletradar.replay.GuardEvaluation");
+            recording.start();
+            recorder.dispatch(tx("t1"), () -> "GenericRouteHandler");
+            recorder.guard("NativePoolReconciliationGate", () -> { });
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> events = new ArrayList<>(RecordingFile.readAllEvents(dump));
+        Files.deleteIfExists(dump);
+
+        assertThat(events).extracting(event -> event.getEventType().getName())
+                .containsExactly("walletradar.replay.HandlerDispatch", "walletradar.replay.GuardEvaluation");
+        RecordedEvent dispatch = events.getFirst();
+        assertThat(dispatch.getString("universeId")).isEqualTo("U1");
+        assertThat(dispatch.getString("transactionId")).isEqualTo("t1");
+        assertThat(dispatch.getString("transactionType")).isEqualTo("SWAP");
+        assertThat(dispatch.getString("handler")).isEqualTo("GenericRouteHandler");
+        assertThat(events.get(1).getString("guard")).isEqualTo("NativePoolReconciliationGate");
+    }
+
+    private static NormalizedTransaction tx(String id) {
+        NormalizedTransaction transaction = new NormalizedTransaction();
+        transaction.setId(id);
+        transaction.setType(NormalizedTransactionType.SWAP);
+        return transaction;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.walletradar.application.custody.application;
+
+import com.walletradar.domain.common.NetworkId;
+import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
+import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustodyLedgerDeltaTest {
+
+    private static final String WALLET = "UQAe4Uho4bZdfmCEqiyyuUH8ujmrsGJOwE2124OBDMVbS1Ms";
+    private static final String VENUE = "0:" + "ab".repeat(32);
+
+    private static NormalizedTransaction custodyRow(String id, long second, String asset, String qty, String usd) {
+        NormalizedTransaction t = new NormalizedTransaction();
+        t.setId(id);
+        t.setSource(NormalizedTransactionSource.ON_CHAIN);
+        t.setStatus(NormalizedTransactionStatus.CONFIRMED);
+        t.setNetworkId(NetworkId.TON);
+        t.setWalletAddress(WALLET);
+        t.setBlockTimestamp(Instant.ofEpochSecond(second));
+        t.setUpdatedAt(Instant.ofEpochSecond(1_000 + second));
+        t.setCustodialOffChain(true);
+        t.setCounterpartyAddress(VENUE);
+        t.setProtocolName("Telegram Wallet Earn");
+        NormalizedTransaction.Flow transfer = new NormalizedTransaction.Flow();
+        transfer.setRole(NormalizedLegRole.TRANSFER);
+        transfer.setAssetSymbol(asset);
+        transfer.setQuantityDelta(new BigDecimal(qty));
+        transfer.setValueUsd(new BigDecimal(usd));
+        NormalizedTransaction.Flow fee = new NormalizedTransaction.Flow();
+        fee.setRole(NormalizedLegRole.FEE);
+        fee.setAssetSymbol("TON");
+        fee.setQuantityDelta(new BigDecimal("-0.01"));
+        t.setFlows(new ArrayList<>(List.of(transfer, fee)));
+        return t;
+    }
+
+    private static Map<String, CustodyLedgerDelta.Change> byAsset(CustodyLedgerDelta delta) {
+        return delta.changes().stream().collect(Collectors.toMap(change -> change.asset, Function.identity()));
+    }
+
+    @Test
+    @DisplayName("a fold from nothing tallies deposits (out) and withdrawals (in) per asset; fees are skipped")
+    void foldTalliesPerVenueAndAsset() {
+        CustodyLedgerDelta fold = new CustodyLedgerDelta()
+                .normalized(null, custodyRow("tx-2", 20, "USDT", "-50", "50"))
+                .normalized(null, custodyRow("tx-1", 10, "USDT", "-100", "100"))
+                .normalized(null, custodyRow("tx-3", 30, "USDE", "61", "61.04"));
+
+        Map<String, CustodyLedgerDelta.Change> positions = byAsset(fold);
+
+        assertThat(positions).containsOnlyKeys("USDT", "USDE");
+        CustodyLedgerDelta.Change usdt = positions.get("USDT");
+        assertThat(usdt.venueKey).isEqualTo(VENUE);
+        assertThat(usdt.depositedQty).isEqualByComparingTo("150");
+        assertThat(usdt.depositedUsd).isEqualByComparingTo("150");
+        assertThat(usdt.withdrawnQty).isEqualByComparingTo("0");
+        assertThat(usdt.txCount).isEqualTo(2L);
+        assertThat(usdt.firstSeen.getSortKey()).endsWith("|tx-1");
+        assertThat(usdt.sourceWatermark).isEqualTo(Instant.ofEpochSecond(1_020));
+        CustodyLedgerDelta.Change usde = positions.get("USDE");
+        assertThat(usde.withdrawnQty).isEqualByComparingTo("61");
+        assertThat(usde.withdrawnUsd).isEqualByComparingTo("61.04");
+    }
+
+    @Test
+    @DisplayName("a rewrite that does not change the custody contribution cancels out")
+    void unchangedRowCancels() {
+        NormalizedTransaction row = custodyRow("tx-1", 10, "USDT", "-100", "100");
+        CustodyLedgerDelta.Snapshot before = CustodyLedgerDelta.snapshot(row);
+        row.setUpdatedAt(Instant.ofEpochSecond(5_000));
+
+        assertThat(new CustodyLedgerDelta().normalized(before, row).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("only confirmed on-chain custodial rows contribute; a row leaving CONFIRMED is subtracted")
+    void rowLeavingLedgerIsSubtracted() {
+        NormalizedTransaction pending = custodyRow("tx-1", 10, "USDT", "-100", "100");
+        pending.setStatus(NormalizedTransactionStatus.PENDING_STAT);
+        NormalizedTransaction notCustodial = custodyRow("tx-2", 20, "USDT", "-5", "5");
+        notCustodial.setCustodialOffChain(false);
+        assertThat(new CustodyLedgerDelta().normalized(null, pending).normalized(null, notCustodial).isEmpty()).isTrue();
+
+        NormalizedTransaction confirmed = custodyRow("tx-3", 30, "USDT", "-100", "100");
+        CustodyLedgerDelta.Snapshot before = CustodyLedgerDelta.snapshot(confirmed);
+        confirmed.setStatus(NormalizedTransactionStatus.NEEDS_REVIEW);
+
+        CustodyLedgerDelta.Change usdt = byAsset(new CustodyLedgerDelta().normalized(before, confirmed)).get("USDT");
+        assertThat(usdt.depositedQty).isEqualByComparingTo("-100");
+        assertThat(usdt.depositedUsd).isEqualByComparingTo("-100");
+        assertThat(usdt.txCount).isEqualTo(-1L);
+    }
+}
@@ -0,0 +1,277 @@
+package com.walletradar.application.custody.application;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import com.walletradar.application.custody.persistence.CustodyLedgerPosition;
+import com.walletradar.application.custody.persistence.CustodyLedgerWalletState;
+import com.walletradar.application.session.application.UniverseDataVersionService;
+import com.walletradar.domain.common.NetworkId;
+import com.walletradar.domain.session.UserSession;
+import com.walletradar.domain.session.UserSessionRepository;
+import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
+import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionStatus;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CustodyLedgerProjectionStoreTest {
+
+    private static final String WALLET = "UQAe4Uho4bZdfmCEqiyyuUH8ujmrsGJOwE2124OBDMVbS1Ms";
+    private static final String VENUE = "0:" + "ab".repeat(32);
+
+    @Mock
+    private MongoOperations mongoOperations;
+    @Mock
+    private BulkOperations positionOps;
+    @Mock
+    private BulkOperations stateOps;
+    @Mock
+    private UserSessionRepository userSessionRepository;
+    @Mock
+    private UniverseDataVersionService universeDataVersionService;
+
+    private CustodyLedgerProjectionStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new CustodyLedgerProjectionStore(mongoOperations, userSessionRepository, universeDataVersionService);
+    }
+
+    private static NormalizedTransaction custodyRow(String id, String qty, Instant updatedAt) {
+        NormalizedTransaction t = new NormalizedTransaction();
+        t.setId(id);
+        t.setSource(NormalizedTransactionSource.ON_CHAIN);
+        t.setStatus(NormalizedTransactionStatus.CONFIRMED);
+        t.setNetworkId(NetworkId.TON);
+        t.setWalletAddress(WALLET);
+        t.setUpdatedAt(updatedAt);
+        t.setCustodialOffChain(true);
+        t.setCounterpartyAddress(VENUE);
+        NormalizedTransaction.Flow transfer = new NormalizedTransaction.Flow();
+        transfer.setRole(NormalizedLegRole.TRANSFER);
+        transfer.setAssetSymbol("USDT");
+        transfer.setQuantityDelta(new BigDecimal(qty));
+        t.setFlows(new ArrayList<>(List.of(transfer)));
+        return t;
+    }
+
+    @Test
+    @DisplayName("rebuild folds persisted custodialOffChain=true + CONFIRMED rows (ADR-072/ADR-079) and records the watermark")
+    void rebuildFoldsCustodyRowsAndRecordsWatermark() {
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        stubRebuild(state(0L, null));
+        stubCommit(1L);
+
+        Map<String, CustodyLedgerWalletState> states = store.rebuild(List.of(WALLET));
+
+        // The projection reads exactly the rows the ledger is defined over; a dropped flag => no position.
+        verify(mongoOperations).find(queryCaptor.capture(), eq(NormalizedTransaction.class));
+        String filter = queryCaptor.getValue().getQueryObject().toString();
+        assertThat(filter).contains("custodialOffChain=true").contains("CONFIRMED");
+
+        ArgumentCaptor<CustodyLedgerPosition> positionCaptor = ArgumentCaptor.forClass(CustodyLedgerPosition.class);
+        verify(positionOps).replaceOne(any(Query.class), positionCaptor.capture(), any(FindAndReplaceOptions.class));
+        CustodyLedgerPosition usdt = positionCaptor.getValue();
+        assertThat(usdt.getId()).isEqualTo(CustodyLedgerPosition.composeId(WALLET, VENUE, "USDT"));
+        assertThat(usdt.getDepositedQty()).isEqualByComparingTo("100");
+        assertThat(usdt.getWithdrawnQty()).isEqualByComparingTo("40");
+        assertThat(usdt.getTxCount()).isEqualTo(2L);
+        assertThat(usdt.getFirstSeen().getSortKey()).endsWith("|tx-1");
+
+        assertThat(states.get(WALLET).getSourceRows()).isEqualTo(2L);
+        assertThat(states.get(WALLET).getSourceWatermark()).isEqualTo(Instant.parse("2026-02-03T00:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("the rebuild commits only against the revision it read before folding")
+    void rebuildCommitsAgainstTheRevisionItRead() {
+        stubRebuild(state(7L, null));
+        stubCommit(1L);
+
+        store.rebuild(List.of(WALLET));
+
+        ArgumentCaptor<Query> commitCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoOperations).updateFirst(commitCaptor.capture(), any(Update.class), eq(CustodyLedgerWalletState.class));
+        assertThat(commitCaptor.getValue().getQueryObject().get("revision")).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("a write that lands between the fold and the commit makes the rebuild fold again")
+    void rebuildFoldsAgainWhenTheRevisionMoved() {
+        stubRebuild(state(0L, null));
+        stubCommit(0L, 1L);
+
+        Map<String, CustodyLedgerWalletState> states = store.rebuild(List.of(WALLET));
+
+        verify(mongoOperations, times(2)).find(any(Query.class), eq(NormalizedTransaction.class));
+        assertThat(states).containsKey(WALLET);
+        verify(mongoOperations, never()).updateMulti(any(Query.class), any(Update.class), eq(CustodyLedgerWalletState.class));
+    }
+
+    @Test
+    @DisplayName("a wallet written within the quiet window is folded only once the window has passed")
+    void recentlyWrittenWalletWaitsForTheQuietWindow() {
+        Instant almostQuiet = Instant.now().minus(CustodyLedgerProjectionStore.WRITE_QUIET).plusMillis(200);
+        stubRebuild(state(3L, almostQuiet));
+        stubCommit(1L);
+
+        Map<String, CustodyLedgerWalletState> states = store.rebuild(List.of(WALLET));
+
+        verify(mongoOperations, times(1)).find(any(Query.class), eq(NormalizedTransaction.class));
+        assertThat(states).containsKey(WALLET);
+    }
+
+    @Test
+    @DisplayName("a wallet that never commits is left unbuilt for the next read")
+    void walletThatNeverCommitsIsLeftUnbuilt() {
+        stubRebuild(state(0L, null));
+        stubCommit(0L);
+
+        Map<String, CustodyLedgerWalletState> states = store.rebuild(List.of(WALLET));
+
+        assertThat(states).isEmpty();
+        verify(mongoOperations, times(CustodyLedgerProjectionStore.MAX_REBUILD_ATTEMPTS))
+                .find(any(Query.class), eq(NormalizedTransaction.class));
+        ArgumentCaptor<Update> unbuilt = ArgumentCaptor.forClass(Update.class);
+        verify(mongoOperations).updateMulti(any(Query.class), unbuilt.capture(), eq(CustodyLedgerWalletState.class));
+        assertThat(unbuilt.getValue().getUpdateObject().get("$unset", Document.class)).containsKey("rebuiltAt");
+    }
+
+    @Test
+    @DisplayName("an empty delta writes nothing")
+    void emptyDeltaIsNoOp() {
+        store.apply(new CustodyLedgerDelta());
+
+        verify(mongoOperations, never()).bulkOps(any(BulkOperations.BulkMode.class), eq(CustodyLedgerPosition.class));
+    }
+
+    @Test
+    @DisplayName("an apply fences the wallet before its increments land")
+    void applyFencesBeforeIncrementing() {
+        stubApply(1);
+
+        store.apply(new CustodyLedgerDelta().normalized(null, custodyRow("tx-1", "-100", Instant.parse("2026-02-01T00:00:00Z"))));
+
+        ArgumentCaptor<Update> fence = ArgumentCaptor.forClass(Update.class);
+        InOrder order = inOrder(stateOps, positionOps);
+        order.verify(stateOps).upsert(any(Query.class), fence.capture());
+        order.verify(stateOps).execute();
+        order.verify(positionOps).execute();
+        assertThat(fence.getValue().getUpdateObject().get("$inc", Document.class)).containsEntry("revision", 1L);
+    }
+
+    @Test
+    @DisplayName("a rebuild that changes positions bumps the data version of every session owning the wallet")
+    void changingRebuildBumpsOwningSessions() {
+        stubRebuild(state(0L, null));
+        stubCommit(1L);
+        when(userSessionRepository.findAllByWalletsAddress(WALLET)).thenReturn(List.of(session("s-1"), session("s-2")));
+
+        store.rebuild(List.of(WALLET));
+
+        verify(universeDataVersionService).bumpSession("s-1", "custody-ledger-rebuilt");
+        verify(universeDataVersionService).bumpSession("s-2", "custody-ledger-rebuilt");
+    }
+
+    @Test
+    @DisplayName("a rebuild that rewrites the same positions leaves the data version alone")
+    void unchangedRebuildDoesNotBump() {
+        stubRebuild(state(0L, null));
+        stubCommit(1L);
+        store.rebuild(List.of(WALLET));
+        ArgumentCaptor<CustodyLedgerPosition> positionCaptor = ArgumentCaptor.forClass(CustodyLedgerPosition.class);
+        verify(positionOps).replaceOne(any(Query.class), positionCaptor.capture(), any(FindAndReplaceOptions.class));
+        when(mongoOperations.find(any(Query.class), eq(CustodyLedgerPosition.class))).thenReturn(List.of(positionCaptor.getValue()));
+
+        store.rebuild(List.of(WALLET));
+
+        verify(userSessionRepository, times(1)).findAllByWalletsAddress(WALLET);
+        verify(universeDataVersionService, never()).bumpSession(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("an apply that wrote positions bumps the owning sessions")
+    void applyThatWroteBumpsOwningSessions() {
+        stubApply(1);
+        when(userSessionRepository.findAllByWalletsAddress(WALLET)).thenReturn(List.of(session("s-1")));
+
+        store.apply(new CustodyLedgerDelta().normalized(null, custodyRow("tx-1", "-100", Instant.parse("2026-02-01T00:00:00Z"))));
+
+        verify(universeDataVersionService).bumpSession("s-1", "custody-ledger-applied");
+    }
+
+    private void stubRebuild(CustodyLedgerWalletState state) {
+        when(mongoOperations.find(any(Query.class), eq(CustodyLedgerWalletState.class))).thenReturn(List.of(state));
+        when(mongoOperations.find(any(Query.class), eq(NormalizedTransaction.class))).thenReturn(List.of(
+                custodyRow("tx-1", "-100", Instant.parse("2026-02-01T00:00:00Z")),
+                custodyRow("tx-2", "40", Instant.parse("2026-02-03T00:00:00Z"))
+        ));
+        when(mongoOperations.bulkOps(any(BulkOperations.BulkMode.class), eq(CustodyLedgerPosition.class))).thenReturn(positionOps);
+        when(mongoOperations.bulkOps(any(BulkOperations.BulkMode.class), eq(CustodyLedgerWalletState.class))).thenReturn(stateOps);
+    }
+
+    private void stubCommit(long matched, Long... thenMatched) {
+        UpdateResult first = UpdateResult.acknowledged(matched, matched, null);
+        UpdateResult[] next = Arrays.stream(thenMatched)
+                .map(count -> UpdateResult.acknowledged(count, count, null))
+                .toArray(UpdateResult[]::new);
+        when(mongoOperations.updateFirst(any(Query.class), any(Update.class), eq(CustodyLedgerWalletState.class)))
+                .thenReturn(first, next);
+    }
+
+    private void stubApply(int modified) {
+        when(mongoOperations.bulkOps(any(BulkOperations.BulkMode.class), eq(CustodyLedgerPosition.class))).thenReturn(positionOps);
+        when(mongoOperations.bulkOps(any(BulkOperations.BulkMode.class), eq(CustodyLedgerWalletState.class))).thenReturn(stateOps);
+        BulkWriteResult written = mock(BulkWriteResult.class);
+        when(written.getModifiedCount()).thenReturn(modified);
+        when(positionOps.execute()).thenReturn(written);
+        when(mongoOperations.remove(any(Query.class), eq(CustodyLedgerPosition.class))).thenReturn(DeleteResult.acknowledged(0));
+    }
+
+    private static CustodyLedgerWalletState state(long revision, Instant lastWriteAt) {
+        CustodyLedgerWalletState state = new CustodyLedgerWalletState();
+        state.setId(WALLET);
+        state.setRevision(revision);
+        state.setLastWriteAt(lastWriteAt);
+        return state;
+    }
+
+    private static UserSession session(String id) {
+        UserSession session = new UserSession();
+        session.setId(id);
+        return session;
+    }
+}
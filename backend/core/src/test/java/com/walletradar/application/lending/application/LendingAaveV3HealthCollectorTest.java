@@ -0,0 +1,130 @@
+package com.walletradar.application.lending.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.walletradar.application.lending.config.LendingMarketRateProperties;
+import com.walletradar.application.lending.spi.LiveLendingPosition;
+import com.walletradar.application.lending.spi.LivePositionRequest;
+import com.walletradar.platform.networks.config.IngestionNetworkProperties;
+import com.walletradar.platform.networks.evm.rpc.EvmRpcClient;
+import com.walletradar.platform.networks.evm.rpc.RpcRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies Aave V3 health reads are grouped per network: one pinned {@code eth_blockNumber} and
+ * batched {@code getUserAccountData} calls at that block, with results matched back by request id.
+ */
+@ExtendWith(MockitoExtension.class)
+class LendingAaveV3HealthCollectorTest {
+
+    private static final String ENDPOINT = "https://arb.example";
+    private static final String POOL = "0x794a61358D6845594F94dc1DB02A252b5b4814aD";
+    private static final String WALLET_A = "0x00000000000000000000000000000000000000aa";
+    private static final String WALLET_B = "0x00000000000000000000000000000000000000bb";
+
+    @Mock
+    private EvmRpcClient evmRpcClient;
+
+    private LendingMarketRateProperties properties;
+    private LendingAaveV3HealthCollector collector;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LendingMarketRateProperties();
+        LendingMarketRateProperties.AaveV3NetworkConfig config = new LendingMarketRateProperties.AaveV3NetworkConfig();
+        config.setPoolAddress(POOL);
+        properties.setAaveV3(Map.of("ARBITRUM", config));
+
+        IngestionNetworkProperties networkProperties = new IngestionNetworkProperties();
+        IngestionNetworkProperties.NetworkIngestionEntry entry = new IngestionNetworkProperties.NetworkIngestionEntry();
+        entry.setUrls(List.of(ENDPOINT));
+        networkProperties.setNetwork(Map.of("ARBITRUM", entry));
+
+        collector = new LendingAaveV3HealthCollector(properties,
+                new LendingEvmBatchRpc(properties, networkProperties, evmRpcClient, new ObjectMapper()));
+    }
+
+    @Test
+    @DisplayName("wallets on one network share a pinned block and a single eth_call batch")
+    void readsNetworkInOneBatchAtPinnedBlock() {
+        when(evmRpcClient.call(ENDPOINT, "eth_blockNumber", List.of()))
+                .thenReturn(Mono.just("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x1f4\"}"));
+        // Out-of-order response: results are matched by id, not position.
+        when(evmRpcClient.batchCall(eq(ENDPOINT), anyList())).thenReturn(Mono.just("["
+                + "{\"jsonrpc\":\"2.0\",\"id\":2,\"result\":\"" + accountData("2000000000000000000") + "\"},"
+                + "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"" + accountData("1500000000000000000") + "\"}"
+                + "]"));
+
+        List<Optional<LiveLendingPosition>> positions = collector.readAll(List.of(
+                new LivePositionRequest("s1", "Aave V3", "ARBITRUM", WALLET_A),
+                new LivePositionRequest("s2", "Aave V3", "arbitrum", WALLET_B)
+        ));
+
+        assertThat(positions).hasSize(2).allMatch(Optional::isPresent);
+        assertThat(positions.get(0).get().healthFactor()).isEqualByComparingTo("1.5");
+        assertThat(positions.get(1).get().healthFactor()).isEqualByComparingTo("2.0");
+        assertThat(positions.get(0).get().blockNumber()).isEqualTo(500L);
+        assertThat(positions.get(1).get().rawRef()).isEqualTo(POOL.toLowerCase() + ":" + WALLET_B);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RpcRequest>> batch = ArgumentCaptor.forClass(List.class);
+        verify(evmRpcClient, times(1)).batchCall(eq(ENDPOINT), batch.capture());
+        assertThat(batch.getValue()).hasSize(2)
+                .allSatisfy(request -> assertThat((List<?>) request.params()).last().isEqualTo("0x1f4"));
+    }
+
+    @Test
+    @DisplayName("calls beyond rpc-batch-size are split and a failed call stays empty")
+    void splitsBatchesAndIsolatesFailures() {
+        properties.setRpcBatchSize(1);
+        when(evmRpcClient.call(ENDPOINT, "eth_blockNumber", List.of()))
+                .thenReturn(Mono.just("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x1f4\"}"));
+        when(evmRpcClient.batchCall(eq(ENDPOINT), anyList()))
+                .thenReturn(Mono.just("[{\"jsonrpc\":\"2.0\",\"id\":1,\"error\":{\"code\":3,\"message\":\"revert\"}}]"))
+                .thenReturn(Mono.just("[{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"" + accountData("1100000000000000000") + "\"}]"));
+
+        List<Optional<LiveLendingPosition>> positions = collector.readAll(List.of(
+                new LivePositionRequest("s1", "Aave V3", "ARBITRUM", WALLET_A),
+                new LivePositionRequest("s1", "Aave V3", "ARBITRUM", WALLET_B)
+        ));
+
+        assertThat(positions.get(0)).isEmpty();
+        assertThat(positions.get(1)).isPresent();
+        assertThat(positions.get(1).get().healthFactor()).isEqualByComparingTo("1.1");
+        verify(evmRpcClient, times(2)).batchCall(eq(ENDPOINT), anyList());
+    }
+
+    /** getUserAccountData: collateral, debt, availableBorrows, liquidationThreshold (bps), ltv (bps), healthFactor. */
+    private static String accountData(String healthFactorWei) {
+        return "0x"
+                + word(BigInteger.valueOf(1_000_000_000L))
+                + word(BigInteger.valueOf(400_000_000L))
+                + word(BigInteger.valueOf(200_000_000L))
+                + word(BigInteger.valueOf(8_250L))
+                + word(BigInteger.valueOf(8_000L))
+                + word(new BigInteger(healthFactorWei));
+    }
+
+    private static String word(BigInteger value) {
+        String hex = value.toString(16);
+        return "0".repeat(64 - hex.length()) + hex;
+    }
+}
@@ -0,0 +1,144 @@
+package com.walletradar.application.lending.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.walletradar.application.lending.config.LendingMarketRateProperties;
+import com.walletradar.application.lending.persistence.LendingMarketRateSnapshot;
+import com.walletradar.platform.networks.config.IngestionNetworkProperties;
+import com.walletradar.platform.networks.evm.rpc.EvmRpcClient;
+import com.walletradar.platform.networks.evm.rpc.RpcRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies Aave V3 rate reads are grouped per network: underlying lookups are batched once and
+ * memoized, and {@code getReserveData} is read once per distinct underlying at the pinned block.
+ */
+@ExtendWith(MockitoExtension.class)
+class LendingAaveV3MarketRateCollectorTest {
+
+    private static final String ENDPOINT = "https://arb.example";
+    private static final String POOL = "0x794a61358D6845594F94dc1DB02A252b5b4814aD";
+    private static final String A_USDC = "0x724dc807b04555b71ed48a6896b6f41593b8c637";
+    private static final String DEBT_USDC = "0xf611aeb5013fd2c0511c9cd55c7dc5c1140741a6";
+    private static final String USDC = "0xaf88d065e77c8cc2239327c5edb3a432268e5831";
+    private static final String WALLET_A = "0x00000000000000000000000000000000000000aa";
+    private static final String WALLET_B = "0x00000000000000000000000000000000000000bb";
+
+    @Mock
+    private EvmRpcClient evmRpcClient;
+
+    private LendingAaveV3MarketRateCollector collector;
+
+    @BeforeEach
+    void setUp() {
+        LendingMarketRateProperties properties = new LendingMarketRateProperties();
+        LendingMarketRateProperties.AaveV3NetworkConfig config = new LendingMarketRateProperties.AaveV3NetworkConfig();
+        config.setPoolAddress(POOL);
+        properties.setAaveV3(Map.of("ARBITRUM", config));
+
+        IngestionNetworkProperties networkProperties = new IngestionNetworkProperties();
+        IngestionNetworkProperties.NetworkIngestionEntry entry = new IngestionNetworkProperties.NetworkIngestionEntry();
+        entry.setUrls(List.of(ENDPOINT));
+        networkProperties.setNetwork(Map.of("ARBITRUM", entry));
+
+        collector = new LendingAaveV3MarketRateCollector(properties,
+                new LendingEvmBatchRpc(properties, networkProperties, evmRpcClient, new ObjectMapper()));
+        when(evmRpcClient.call(ENDPOINT, "eth_blockNumber", List.of()))
+                .thenReturn(Mono.just("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x1f4\"}"));
+    }
+
+    @Test
+    @DisplayName("markets sharing an underlying cost one underlying batch and one reserve read at the pinned block")
+    void collectsNetworkInBatchesAtPinnedBlock() {
+        when(evmRpcClient.batchCall(eq(ENDPOINT), anyList()))
+                .thenReturn(Mono.just("["
+                        + "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x" + address(USDC) + "\"},"
+                        + "{\"jsonrpc\":\"2.0\",\"id\":2,\"result\":\"0x" + address(USDC) + "\"}"
+                        + "]"))
+                .thenReturn(Mono.just("[{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"" + reserveData() + "\"}]"));
+
+        List<Optional<LendingMarketRateSnapshot>> snapshots = collector.collectAll(List.of(
+                market("s1", WALLET_A, "SUPPLY", A_USDC),
+                market("s1", WALLET_A, "BORROW", DEBT_USDC),
+                market("s2", WALLET_B, "SUPPLY", A_USDC)
+        ));
+
+        assertThat(snapshots).hasSize(3).allSatisfy(snapshot -> {
+            assertThat(snapshot).isPresent();
+            assertThat(snapshot.get().getRateStatus()).isEqualTo(LendingMarketRateStatus.PROTOCOL_SNAPSHOT);
+            assertThat(snapshot.get().getBlockNumber()).isEqualTo(500L);
+        });
+        assertThat(snapshots.get(2).get().getWalletAddress()).isEqualTo(WALLET_B);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RpcRequest>> batches = ArgumentCaptor.forClass(List.class);
+        verify(evmRpcClient, times(2)).batchCall(eq(ENDPOINT), batches.capture());
+        assertThat(batches.getAllValues().get(0)).hasSize(2)
+                .allSatisfy(request -> assertThat((List<?>) request.params()).last().isEqualTo("latest"));
+        assertThat(batches.getAllValues().get(1)).hasSize(1)
+                .allSatisfy(request -> assertThat((List<?>) request.params()).last().isEqualTo("0x1f4"));
+        verify(evmRpcClient, times(1)).call(ENDPOINT, "eth_blockNumber", List.of());
+    }
+
+    @Test
+    @DisplayName("memoized underlyings skip the lookup batch on the next round")
+    void memoizesUnderlyingAcrossRounds() {
+        when(evmRpcClient.batchCall(eq(ENDPOINT), anyList()))
+                .thenReturn(Mono.just("[{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x" + address(USDC) + "\"}]"))
+                .thenReturn(Mono.just("[{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"" + reserveData() + "\"}]"));
+        collector.collectAll(List.of(market("s1", WALLET_A, "SUPPLY", A_USDC)));
+
+        Optional<LendingMarketRateSnapshot> next = collector.collect(market("s1", WALLET_A, "SUPPLY", A_USDC));
+
+        assertThat(next).isPresent();
+        assertThat(next.get().getRateStatus()).isEqualTo(LendingMarketRateStatus.PROTOCOL_SNAPSHOT);
+        // Round one: underlying + reserve; round two: reserve only.
+        verify(evmRpcClient, times(3)).batchCall(eq(ENDPOINT), anyList());
+    }
+
+    private static LendingActiveMarketDiscoveryService.ActiveMarket market(
+            String sessionId, String wallet, String side, String receipt) {
+        return new LendingActiveMarketDiscoveryService.ActiveMarket(
+                sessionId, "Aave V3", "ARBITRUM", wallet, "aave-v3:arbitrum:usdc", side, "aUSDC", "USDC", receipt);
+    }
+
+    /** getReserveData words 0..6; liquidityRate at 2, variableBorrowRate at 4, lastUpdateTimestamp at 6. */
+    private static String reserveData() {
+        BigInteger ray = BigInteger.TEN.pow(27);
+        return "0x"
+                + word(BigInteger.ZERO)
+                + word(BigInteger.ZERO)
+                + word(ray.divide(BigInteger.valueOf(25)))
+                + word(BigInteger.ZERO)
+                + word(ray.divide(BigInteger.valueOf(20)))
+                + word(BigInteger.ZERO)
+                + word(BigInteger.valueOf(1_760_000_000L));
+    }
+
+    private static String address(String address) {
+        return "0".repeat(24) + address.substring(2);
+    }
+
+    private static String word(BigInteger value) {
+        String hex = value.toString(16);
+        return "0".repeat(64 - hex.length()) + hex;
+    }
+}
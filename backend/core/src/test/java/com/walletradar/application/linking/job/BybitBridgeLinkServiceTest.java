@@ -25,6 +25,7 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -197,6 +198,7 @@ class BybitBridgeLinkServiceTest {
                 new BybitExtractedEventMapper(),
                 new BybitCanonicalTransactionBuilder(),
                 normalizedTransactionRepository,
+                linkingWriter(normalizedTransactionRepository),
                 rawTransactionRepository,
                 trackedWalletLookupService
         );
@@ -1,5 +1,6 @@
 package com.walletradar.application.linking.job;
 
+import com.walletradar.application.linking.config.LinkingProperties;
 import com.walletradar.application.linking.pipeline.clarification.AcrossBridgePairLinkService;
 import com.walletradar.application.linking.pipeline.clarification.BridgePairContinuityRepairService;
 import com.walletradar.application.linking.pipeline.clarification.BybitTransferContinuityRepairService;
@@ -190,7 +191,8 @@ class LinkingBatchProcessorTest {
                 gmxWithdrawalSettlementLinkService,
                 gmxExecutionFeeRefundBasisNeutralService,
                 etherFiOftBridgeInClassifier,
-                nftMintRetagger
+                nftMintRetagger,
+                new LinkingPassScheduler(new LinkingProperties(), Runnable::run)
         );
 
         AtomicInteger heartbeatCount = new AtomicInteger();
@@ -5,6 +5,10 @@ import com.walletradar.domain.session.UserSession;
 import com.walletradar.domain.session.UserSessionRepository;
 import com.walletradar.application.session.application.AccountingUniverseService;
 import com.walletradar.application.session.application.SessionPipelineActivityService;
+import com.walletradar.platform.telemetry.PipelineCounterKey;
+import com.walletradar.platform.telemetry.PipelineCounterStore;
+import com.walletradar.platform.telemetry.PipelineCounterTotals;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -15,6 +19,7 @@ import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Query;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.time.Instant;
 
@@ -35,6 +40,13 @@ class LinkingDataGateServiceTest {
     private SessionPipelineActivityService sessionPipelineActivityService;
     @Mock
     private MongoOperations mongoOperations;
+    @Mock
+    private PipelineCounterStore pipelineCounterStore;
+
+    @BeforeEach
+    void setUp() {
+        when(pipelineCounterStore.totals(any())).thenReturn(PipelineCounterTotals.empty());
+    }
 
     @Test
     void snapshotBlocksWhileOnChainClarificationStillHasFreshActivity() {
@@ -47,9 +59,6 @@ class LinkingDataGateServiceTest {
                         List.of("0xabc")
                 )
         );
-        when(mongoOperations.count(any(Query.class), eq("raw_transactions"))).thenReturn(0L);
-        when(mongoOperations.count(any(Query.class), eq(com.walletradar.domain.transaction.normalized.NormalizedTransaction.class)))
-                .thenReturn(0L);
         when(mongoOperations.count(any(Query.class), eq(com.walletradar.domain.transaction.bybit.BybitExtractedEvent.class)))
                 .thenReturn(0L);
         when(mongoOperations.count(any(Query.class), eq(com.walletradar.domain.transaction.externalledger.ExternalLedgerRaw.class)))
@@ -78,7 +87,10 @@ class LinkingDataGateServiceTest {
                         List.of("0xabc")
                 )
         );
-        when(mongoOperations.count(any(Query.class), eq("raw_transactions"))).thenReturn(12L);
+        when(pipelineCounterStore.totals(List.of("0xabc"))).thenReturn(new PipelineCounterTotals(Map.of(
+                PipelineCounterKey.raw("PENDING"), 12L
+        )));
+        when(mongoOperations.exists(any(Query.class), eq("raw_transactions"))).thenReturn(true);
         when(sessionPipelineActivityService.hasFreshActivity(eq("session-1"), eq(UserSession.PipelineStage.ON_CHAIN_NORMALIZATION), any()))
                 .thenReturn(false);
         when(sessionPipelineActivityService.hasFreshActivity(eq("session-1"), eq(UserSession.PipelineStage.ON_CHAIN_CLARIFICATION), any()))
@@ -112,9 +124,6 @@ class LinkingDataGateServiceTest {
                         List.of("0xabc")
                 )
         );
-        when(mongoOperations.count(any(Query.class), eq("raw_transactions"))).thenReturn(0L);
-        when(mongoOperations.count(any(Query.class), eq(com.walletradar.domain.transaction.normalized.NormalizedTransaction.class)))
-                .thenReturn(0L);
         when(mongoOperations.count(any(Query.class), eq(com.walletradar.domain.transaction.bybit.BybitExtractedEvent.class)))
                 .thenReturn(0L);
         when(mongoOperations.count(any(Query.class), eq(com.walletradar.domain.transaction.externalledger.ExternalLedgerRaw.class)))
@@ -147,9 +156,6 @@ class LinkingDataGateServiceTest {
                         List.of("0xabc")
                 )
         );
-        when(mongoOperations.count(any(Query.class), eq("raw_transactions"))).thenReturn(0L);
-        when(mongoOperations.count(any(Query.class), eq(com.walletradar.domain.transaction.normalized.NormalizedTransaction.class)))
-                .thenReturn(0L);
         when(mongoOperations.count(any(Query.class), eq(com.walletradar.domain.transaction.bybit.BybitExtractedEvent.class)))
                 .thenReturn(0L);
         when(mongoOperations.count(any(Query.class), eq(com.walletradar.domain.transaction.externalledger.ExternalLedgerRaw.class)))
@@ -180,7 +186,8 @@ class LinkingDataGateServiceTest {
                 userSessionRepository,
                 accountingUniverseService,
                 sessionPipelineActivityService,
-                mongoOperations
+                mongoOperations,
+                pipelineCounterStore
         );
     }
 
@@ -195,9 +202,6 @@ class LinkingDataGateServiceTest {
                         List.of("0xabc")
                 )
         );
-        when(mongoOperations.count(any(Query.class), eq("raw_transactions"))).thenReturn(0L);
-        when(mongoOperations.count(any(Query.class), eq(com.walletradar.domain.transaction.normalized.NormalizedTransaction.class)))
-                .thenReturn(0L);
         when(mongoOperations.count(any(Query.class), eq(com.walletradar.domain.transaction.dzengi.DzengiExtractedEvent.class)))
                 .thenReturn(4L);
         when(sessionPipelineActivityService.hasFreshActivity(eq("session-1"), eq(UserSession.PipelineStage.ON_CHAIN_NORMALIZATION), any()))
@@ -9,11 +9,11 @@ import com.walletradar.application.linking.config.LinkingProperties;
 import com.walletradar.application.session.application.SessionPipelineActivityService;
 import com.walletradar.application.session.application.SessionPipelineStateService;
 import com.walletradar.application.pipeline.config.JobHeartbeatProperties;
+import com.walletradar.application.pipeline.queue.PipelineStageHandoff;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -51,7 +51,7 @@ class LinkingJobTest {
                 .thenReturn(0);
 
         List<Object> events = new ArrayList<>();
-        ApplicationEventPublisher publisher = events::add;
+        PipelineStageHandoff publisher = (handoffSessionId, handoffEvent) -> events.add(handoffEvent);
         LinkingJob job = new LinkingJob(
                 new JobHeartbeatProperties(),
                 properties,
@@ -96,7 +96,7 @@ class LinkingJobTest {
                 .thenReturn(0);
 
         List<Object> events = new ArrayList<>();
-        ApplicationEventPublisher publisher = events::add;
+        PipelineStageHandoff publisher = (handoffSessionId, handoffEvent) -> events.add(handoffEvent);
         LinkingJob job = new LinkingJob(
                 new JobHeartbeatProperties(),
                 properties,
@@ -125,7 +125,7 @@ class LinkingJobTest {
                 .thenReturn(new LinkingDataGateService.LinkingGateSnapshot(false, 0L, 1L, 0L, Map.of(), true));
 
         List<Object> events = new ArrayList<>();
-        ApplicationEventPublisher publisher = events::add;
+        PipelineStageHandoff publisher = (handoffSessionId, handoffEvent) -> events.add(handoffEvent);
         LinkingJob job = new LinkingJob(
                 new JobHeartbeatProperties(),
                 properties,
@@ -161,7 +161,7 @@ class LinkingJobTest {
                 .thenReturn(0);
 
         List<Object> events = new ArrayList<>();
-        ApplicationEventPublisher publisher = events::add;
+        PipelineStageHandoff publisher = (handoffSessionId, handoffEvent) -> events.add(handoffEvent);
         LinkingJob job = new LinkingJob(
                 new JobHeartbeatProperties(),
                 properties,
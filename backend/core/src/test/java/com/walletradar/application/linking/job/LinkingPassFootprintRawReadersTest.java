@@ -0,0 +1,139 @@
+package com.walletradar.application.linking.job;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Source scan: a linking pass whose service touches {@code raw_transactions} must declare that
+ * collection on its footprint, otherwise the scheduler may run it alongside a pass that rewrites raw
+ * rows. The footprint is hand-written, so this keeps it honest against the service it describes.
+ *
+ * <p>Only the service class wired into {@link LinkingBatchProcessor} is scanned; comment lines are
+ * skipped.</p>
+ */
+class LinkingPassFootprintRawReadersTest {
+
+    private static final String RAW_TRANSACTIONS = "raw_transactions";
+
+    private static final Set<String> RAW_ACCESS_LITERALS = Set.of(
+            "RawTransaction.class",
+            "RawTransactionRepository",
+            "\"raw_transactions\""
+    );
+
+    private static final Pattern PASS = Pattern.compile(
+            "new LinkingPass\\(\"([\\w.]+)\",\\s*(\\w+),\\s*(?:\\(\\)\\s*->\\s*)?(\\w+)[.:]");
+    private static final Pattern SERVICE_FIELD = Pattern.compile(
+            "private final ([A-Z]\\w*) ([a-z]\\w*);");
+
+    @Test
+    void passes_backed_by_raw_reading_services_declare_raw_transactions() throws Exception {
+        Path backendMain = resolveBackendMain();
+        String processor = Files.readString(
+                backendMain.resolve("application/linking/job/LinkingBatchProcessor.java"), StandardCharsets.UTF_8);
+        Map<String, String> fieldTypes = new HashMap<>();
+        Matcher fields = SERVICE_FIELD.matcher(processor);
+        while (fields.find()) {
+            fieldTypes.put(fields.group(2), fields.group(1));
+        }
+        Map<String, Path> sources = sourcesByClassName(backendMain);
+
+        List<String> violations = new ArrayList<>();
+        int passes = 0;
+        Matcher pass = PASS.matcher(processor);
+        while (pass.find()) {
+            passes++;
+            String type = fieldTypes.get(pass.group(3));
+            Path source = type == null ? null : sources.get(type);
+            if (source == null || !touchesRawTransactions(source)) {
+                continue;
+            }
+            LinkingPassFootprint footprint = footprint(pass.group(2));
+            if (!collections(footprint, "collectionsRead").contains(RAW_TRANSACTIONS)
+                    && !collections(footprint, "collectionsWritten").contains(RAW_TRANSACTIONS)) {
+                violations.add(pass.group(1) + " (" + pass.group(2) + ") → " + type);
+            }
+        }
+
+        assertThat(passes).as("LinkingPass declarations found in LinkingBatchProcessor")
+                .isEqualTo(countOccurrences(processor, "new LinkingPass("));
+        assertThat(violations)
+                .as("Linking passes whose service reads raw_transactions without declaring it on the footprint. "
+                    + "Add .readsCollections(RAW_TRANSACTIONS) in LinkingPassFootprints.\n"
+                    + String.join("\n", violations))
+                .isEmpty();
+    }
+
+    private static boolean touchesRawTransactions(Path source) throws IOException {
+        for (String line : Files.readAllLines(source, StandardCharsets.UTF_8)) {
+            String trimmed = line.stripLeading();
+            if (trimmed.startsWith("//") || trimmed.startsWith("*") || trimmed.startsWith("import ")) {
+                continue;
+            }
+            if (RAW_ACCESS_LITERALS.stream().anyMatch(line::contains)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Map<String, Path> sourcesByClassName(Path backendMain) throws IOException {
+        Map<String, Path> sources = new HashMap<>();
+        try (Stream<Path> paths = Files.walk(backendMain)) {
+            paths.filter(p -> p.toString().endsWith(".java"))
+                    .forEach(p -> sources.putIfAbsent(p.getFileName().toString().replace(".java", ""), p));
+        }
+        return sources;
+    }
+
+    private static LinkingPassFootprint footprint(String constant) throws ReflectiveOperationException {
+        Field field = LinkingPassFootprints.class.getDeclaredField(constant);
+        field.setAccessible(true);
+        return (LinkingPassFootprint) field.get(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<String> collections(LinkingPassFootprint footprint, String name)
+            throws ReflectiveOperationException {
+        Field field = LinkingPassFootprint.class.getDeclaredField(name);
+        field.setAccessible(true);
+        return (Set<String>) field.get(footprint);
+    }
+
+    private static int countOccurrences(String text, String token) {
+        int count = 0;
+        for (int at = text.indexOf(token); at >= 0; at = text.indexOf(token, at + token.length())) {
+            count++;
+        }
+        return count;
+    }
+
+    private static Path resolveBackendMain() {
+        Path candidate = Paths.get("src/main/java/com/walletradar");
+        if (candidate.toFile().isDirectory()) {
+            return candidate;
+        }
+        candidate = Paths.get("backend/core/src/main/java/com/walletradar");
+        if (candidate.toFile().isDirectory()) {
+            return candidate;
+        }
+        throw new IllegalStateException("Cannot locate backend main sources. "
+                + "Checked src/main/java/com/walletradar and backend/core/src/main/java/com/walletradar");
+    }
+}
@@ -0,0 +1,233 @@
+package com.walletradar.application.linking.job;
+
+import com.walletradar.application.linking.config.LinkingProperties;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static com.walletradar.application.linking.job.LinkingPassFootprint.Access.rows;
+import static com.walletradar.application.linking.job.LinkingPassFootprint.footprint;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionSource.BYBIT;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionSource.ON_CHAIN;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionType.BRIDGE_OUT;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionType.EXTERNAL_TRANSFER_IN;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionType.EXTERNAL_TRANSFER_OUT;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionType.INTERNAL_TRANSFER;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionType.LP_EXIT_REQUEST;
+import static com.walletradar.domain.transaction.normalized.NormalizedTransactionType.LP_EXIT_SETTLEMENT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LinkingPassSchedulerTest {
+
+    @Test
+    @DisplayName("parallel runs leave the same rows and counts as the serial order, run after run")
+    void parallelMatchesSerialOrder() {
+        Map<String, Row> expectedRows = seed();
+        int expectedProcessed = scheduler(false, Runnable::run).run(passes(expectedRows), () -> {
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            for (int attempt = 0; attempt < 50; attempt++) {
+                Map<String, Row> store = seed();
+                List<LinkingPass> passes = passes(store);
+                AtomicInteger heartbeats = new AtomicInteger();
+
+                int processed = scheduler(true, executor).run(passes, heartbeats::incrementAndGet);
+
+                assertThat(processed).isEqualTo(expectedProcessed);
+                assertThat(new TreeMap<>(store)).isEqualTo(new TreeMap<>(expectedRows));
+                assertThat(heartbeats).hasValue(passes.size());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("a saturated executor degrades to the caller running every pass itself")
+    void saturatedExecutorRunsOnCaller() {
+        Map<String, Row> expectedRows = seed();
+        int expectedProcessed = scheduler(false, Runnable::run).run(passes(expectedRows), () -> {
+        });
+        Map<String, Row> store = seed();
+
+        int processed = scheduler(true, command -> {
+            throw new RejectedExecutionException("saturated");
+        }).run(passes(store), () -> {
+        });
+
+        assertThat(processed).isEqualTo(expectedProcessed);
+        assertThat(new TreeMap<>(store)).isEqualTo(new TreeMap<>(expectedRows));
+    }
+
+    @Test
+    @DisplayName("graph orders only conflicting passes; the txHash lookup is independent of every update")
+    void graphKeepsConflictingPassesInOrder() {
+        List<LinkingPass> passes = passes(seed());
+
+        List<List<Integer>> predecessors = LinkingPassScheduler.predecessors(passes);
+
+        assertThat(predecessors.get(0)).isEmpty();
+        assertThat(predecessors.get(1)).isEmpty();
+        assertThat(predecessors.get(2)).containsExactly(0);
+        assertThat(predecessors.get(3)).containsExactly(1);
+        assertThat(predecessors.get(4)).isEmpty();
+        assertThat(predecessors.get(5)).containsExactly(4);
+        assertThat(predecessors.get(6)).containsExactly(3);
+        assertThat(LinkingPassScheduler.longestChain(predecessors)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("declared linking footprints keep the documented must-run-after pairs ordered")
+    void catalogKeepsDocumentedOrdering() {
+        assertThat(LinkingPassFootprints.LI_FI_BRIDGE_PAIR_LINK
+                .conflictsWith(LinkingPassFootprints.LI_FI_FOREIGN_DESTINATION_RECLASSIFICATION)).isTrue();
+        assertThat(LinkingPassFootprints.GMX_V2_REFUND_CLASSIFIER
+                .conflictsWith(LinkingPassFootprints.GMX_WITHDRAWAL_SETTLEMENT_LINK)).isTrue();
+        assertThat(LinkingPassFootprints.GMX_WITHDRAWAL_SETTLEMENT_LINK
+                .conflictsWith(LinkingPassFootprints.GMX_EXECUTION_FEE_REFUND_BASIS_NEUTRAL)).isTrue();
+        assertThat(LinkingPassFootprints.ON_CHAIN_LIFECYCLE_LINK
+                .conflictsWith(LinkingPassFootprints.GMX_EXIT_SETTLEMENT_LINK)).isTrue();
+        assertThat(LinkingPassFootprints.BYBIT_BRIDGE_LINK
+                .conflictsWith(LinkingPassFootprints.LI_FI_BRIDGE_PAIR_LINK)).isTrue();
+
+        assertThat(LinkingPassFootprints.BYBIT_BRIDGE_LINK
+                .conflictsWith(LinkingPassFootprints.ON_CHAIN_LIFECYCLE_LINK)).isFalse();
+        assertThat(LinkingPassFootprints.BYBIT_INTERNAL_TRANSFER_PAIRER
+                .conflictsWith(LinkingPassFootprints.CROSS_NETWORK_BRIDGE_PAIR_FALLBACK)).isFalse();
+        assertThat(LinkingPassFootprints.LENDING_LOOP_OPEN_CLOSE_PAIR_LINK
+                .conflictsWith(LinkingPassFootprints.TURTLE_VAULT_BURN_REPAIR)).isFalse();
+    }
+
+    @Test
+    @DisplayName("a failing pass is rethrown and nothing downstream of it starts")
+    void failureStopsDownstreamPasses() {
+        LinkingPassFootprint onChainBridges = footprint().updates(rows(ON_CHAIN).types(BRIDGE_OUT)).build();
+        AtomicInteger downstream = new AtomicInteger();
+        List<LinkingPass> passes = List.of(
+                new LinkingPass("failing", onChainBridges, () -> {
+                    throw new IllegalStateException("boom");
+                }),
+                new LinkingPass("downstream", onChainBridges, downstream::incrementAndGet)
+        );
+
+        assertThatThrownBy(() -> scheduler(true, Runnable::run).run(passes, () -> {
+        })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+        assertThat(downstream).hasValue(0);
+    }
+
+    private static LinkingPassScheduler scheduler(boolean parallel, java.util.concurrent.Executor executor) {
+        LinkingProperties properties = new LinkingProperties();
+        properties.setParallelPasses(parallel);
+        properties.setMaxParallelPasses(4);
+        return new LinkingPassScheduler(properties, executor);
+    }
+
+    /** Stand-in for a normalized row; passes replace whole rows, like a full-document save. */
+    private record Row(NormalizedTransactionSource source, NormalizedTransactionType type, String tag) {
+    }
+
+    private static Map<String, Row> seed() {
+        Map<String, Row> store = new ConcurrentHashMap<>();
+        for (int i = 0; i < 20; i++) {
+            store.put("oc-out-" + i, new Row(ON_CHAIN, i % 2 == 0 ? EXTERNAL_TRANSFER_OUT : BRIDGE_OUT, ""));
+            store.put("oc-lp-req-" + i, new Row(ON_CHAIN, LP_EXIT_REQUEST, ""));
+            store.put("oc-lp-set-" + i, new Row(ON_CHAIN, LP_EXIT_SETTLEMENT, ""));
+            store.put("bb-int-" + i, new Row(BYBIT, INTERNAL_TRANSFER, i % 3 == 0 ? "orphan" : ""));
+            store.put("bb-out-" + i, new Row(BYBIT, EXTERNAL_TRANSFER_OUT, ""));
+        }
+        return store;
+    }
+
+    /**
+     * Seven passes in serial order: two order-sensitive chains (retype then seal; pair then demote
+     * then stamp), a reader that must follow its writer, and an identity-only lookup.
+     */
+    private static List<LinkingPass> passes(Map<String, Row> store) {
+        return List.of(
+                new LinkingPass("retypeRouterExternals",
+                        footprint().updates(rows(ON_CHAIN).types(EXTERNAL_TRANSFER_OUT, BRIDGE_OUT)).build(),
+                        () -> update(store, row -> row.source() == ON_CHAIN && row.type() == EXTERNAL_TRANSFER_OUT,
+                                row -> new Row(row.source(), BRIDGE_OUT, row.tag() + "retyped;"))),
+                new LinkingPass("bybitPairing",
+                        footprint().updates(rows(BYBIT).types(INTERNAL_TRANSFER)).build(),
+                        () -> update(store, row -> row.source() == BYBIT && row.type() == INTERNAL_TRANSFER,
+                                row -> new Row(row.source(), row.type(), row.tag() + "paired;"))),
+                new LinkingPass("bridgeSeal",
+                        footprint().updates(rows(ON_CHAIN).types(BRIDGE_OUT)).build(),
+                        () -> update(store, row -> row.source() == ON_CHAIN && row.type() == BRIDGE_OUT,
+                                row -> new Row(row.source(), row.type(), row.tag() + "sealed;"))),
+                new LinkingPass("bybitOrphanDemotion",
+                        footprint().updates(rows(BYBIT).types(INTERNAL_TRANSFER, EXTERNAL_TRANSFER_IN)).build(),
+                        () -> update(store, row -> row.type() == INTERNAL_TRANSFER && row.tag().startsWith("orphan"),
+                                row -> new Row(row.source(), EXTERNAL_TRANSFER_IN, row.tag() + "demoted;"))),
+                new LinkingPass("lifecycleLink",
+                        footprint().updates(rows(ON_CHAIN).types(LP_EXIT_REQUEST)).build(),
+                        () -> update(store, row -> row.type() == LP_EXIT_REQUEST,
+                                row -> new Row(row.source(), row.type(), "linked;"))),
+                new LinkingPass("exitSettlementLink",
+                        footprint()
+                                .reads(rows().types(LP_EXIT_REQUEST))
+                                .updates(rows().types(LP_EXIT_SETTLEMENT).fields("correlationId"))
+                                .build(),
+                        () -> {
+                            long linked = count(store, row -> row.type() == LP_EXIT_REQUEST && row.tag().equals("linked;"));
+                            return update(store, row -> row.type() == LP_EXIT_SETTLEMENT,
+                                    row -> new Row(row.source(), row.type(), "requests=" + linked));
+                        }),
+                new LinkingPass("bybitOnChainLookup",
+                        footprint()
+                                .reads(rows(ON_CHAIN).fields("txHash"))
+                                .updates(rows(BYBIT).types(EXTERNAL_TRANSFER_OUT, EXTERNAL_TRANSFER_IN))
+                                .build(),
+                        () -> {
+                            long onChain = count(store, row -> row.source() == ON_CHAIN);
+                            return update(store, row -> row.source() == BYBIT && row.type() != INTERNAL_TRANSFER,
+                                    row -> new Row(row.source(), row.type(), row.tag() + "onChain=" + onChain + ";"));
+                        })
+        );
+    }
+
+    private static int update(
+            Map<String, Row> store,
+            Predicate<Row> candidate,
+            java.util.function.UnaryOperator<Row> change
+    ) {
+        jitter();
+        int changed = 0;
+        for (Map.Entry<String, Row> entry : store.entrySet()) {
+            if (candidate.test(entry.getValue())) {
+                store.put(entry.getKey(), change.apply(entry.getValue()));
+                changed++;
+            }
+        }
+        jitter();
+        return changed;
+    }
+
+    private static long count(Map<String, Row> store, Predicate<Row> candidate) {
+        return store.values().stream().filter(candidate).count();
+    }
+
+    private static void jitter() {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
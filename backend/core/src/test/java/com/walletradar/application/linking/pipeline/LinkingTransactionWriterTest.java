@@ -0,0 +1,125 @@
+package com.walletradar.application.linking.pipeline;
+
+import com.walletradar.application.custody.application.CustodyLedgerDelta;
+import com.walletradar.application.custody.application.CustodyLedgerProjectionStore;
+import com.walletradar.domain.common.NetworkId;
+import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
+import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionStatus;
+import com.walletradar.platform.telemetry.PipelineCounterDelta;
+import com.walletradar.platform.telemetry.PipelineCounterStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LinkingTransactionWriterTest {
+
+    private static final String WALLET = "UQ_WALLET";
+
+    @Mock
+    private NormalizedTransactionRepository normalizedTransactionRepository;
+    @Mock
+    private PipelineCounterStore pipelineCounterStore;
+    @Mock
+    private CustodyLedgerProjectionStore custodyLedgerProjectionStore;
+
+    private LinkingTransactionWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new LinkingTransactionWriter(
+                normalizedTransactionRepository,
+                pipelineCounterStore,
+                custodyLedgerProjectionStore
+        );
+    }
+
+    @Test
+    @DisplayName("a row mutated in place is diffed against its stored copy, fenced before the write and applied after")
+    void mutatedRowIsDiffedAgainstStoredCopy() {
+        NormalizedTransaction loaded = custodyRow("tx-1");
+        loaded.setStatus(NormalizedTransactionStatus.PENDING_CLARIFICATION);
+        when(normalizedTransactionRepository.findAllById(any())).thenReturn(List.of(custodyRow("tx-1")));
+        when(normalizedTransactionRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        writer.saveAll(List.of(loaded));
+
+        ArgumentCaptor<CustodyLedgerDelta> fenced = ArgumentCaptor.forClass(CustodyLedgerDelta.class);
+        ArgumentCaptor<PipelineCounterDelta> counted = ArgumentCaptor.forClass(PipelineCounterDelta.class);
+        InOrder order = inOrder(custodyLedgerProjectionStore, normalizedTransactionRepository, pipelineCounterStore);
+        order.verify(custodyLedgerProjectionStore).beginWrite(fenced.capture());
+        order.verify(normalizedTransactionRepository).saveAll(List.of(loaded));
+        order.verify(pipelineCounterStore).apply(counted.capture());
+        order.verify(custodyLedgerProjectionStore).apply(fenced.getValue());
+        assertThat(fenced.getValue().isEmpty()).isFalse();
+        assertThat(counted.getValue().isEmpty()).isFalse();
+    }
+
+    @Test
+    @DisplayName("a rewrite that keeps the status bucket and custody contribution produces empty deltas")
+    void unchangedContributionProducesEmptyDeltas() {
+        NormalizedTransaction loaded = custodyRow("tx-1");
+        loaded.setProtocolName("retagged");
+        when(normalizedTransactionRepository.findAllById(any())).thenReturn(List.of(custodyRow("tx-1")));
+        when(normalizedTransactionRepository.save(loaded)).thenReturn(loaded);
+
+        writer.save(loaded);
+
+        ArgumentCaptor<PipelineCounterDelta> counted = ArgumentCaptor.forClass(PipelineCounterDelta.class);
+        ArgumentCaptor<CustodyLedgerDelta> applied = ArgumentCaptor.forClass(CustodyLedgerDelta.class);
+        verify(pipelineCounterStore).apply(counted.capture());
+        verify(custodyLedgerProjectionStore).apply(applied.capture());
+        assertThat(counted.getValue().isEmpty()).isTrue();
+        assertThat(applied.getValue().isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("a row without an id is counted as new without reading stored copies")
+    void rowWithoutIdIsNew() {
+        NormalizedTransaction created = custodyRow(null);
+        when(normalizedTransactionRepository.save(created)).thenReturn(created);
+
+        writer.save(created);
+
+        ArgumentCaptor<CustodyLedgerDelta> applied = ArgumentCaptor.forClass(CustodyLedgerDelta.class);
+        verify(custodyLedgerProjectionStore).apply(applied.capture());
+        assertThat(applied.getValue().isEmpty()).isFalse();
+        verify(normalizedTransactionRepository, never()).findAllById(any());
+    }
+
+    private static NormalizedTransaction custodyRow(String id) {
+        NormalizedTransaction t = new NormalizedTransaction();
+        t.setId(id);
+        t.setSource(NormalizedTransactionSource.ON_CHAIN);
+        t.setStatus(NormalizedTransactionStatus.CONFIRMED);
+        t.setNetworkId(NetworkId.TON);
+        t.setWalletAddress(WALLET);
+        t.setCustodialOffChain(true);
+        t.setCounterpartyAddress("UQ_VENUE");
+        NormalizedTransaction.Flow transfer = new NormalizedTransaction.Flow();
+        transfer.setRole(NormalizedLegRole.TRANSFER);
+        transfer.setAssetSymbol("USDT");
+        transfer.setQuantityDelta(new BigDecimal("-100"));
+        t.setFlows(new ArrayList<>(List.of(transfer)));
+        return t;
+    }
+}
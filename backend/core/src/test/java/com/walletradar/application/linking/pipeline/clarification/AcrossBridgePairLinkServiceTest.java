@@ -20,6 +20,7 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -42,7 +43,7 @@ class AcrossBridgePairLinkServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new AcrossBridgePairLinkService(mongoOperations, normalizedTransactionRepository);
+        service = new AcrossBridgePairLinkService(mongoOperations, linkingWriter(normalizedTransactionRepository));
         lenient().when(normalizedTransactionRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
     }
 
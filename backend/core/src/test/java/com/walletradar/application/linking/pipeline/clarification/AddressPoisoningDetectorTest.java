@@ -25,6 +25,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -62,7 +63,7 @@ class AddressPoisoningDetectorTest {
     void setUp() {
         detector = new AddressPoisoningDetector(
                 mongoOperations,
-                normalizedTransactionRepository,
+                linkingWriter(normalizedTransactionRepository),
                 accountingUniverseRepository
         );
         lenient().when(normalizedTransactionRepository.saveAll(any())).thenAnswer(inv -> inv.getArgument(0));
@@ -20,6 +20,7 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -40,7 +41,10 @@ class BridgePairContinuityRepairServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new BridgePairContinuityRepairService(mongoOperations, normalizedTransactionRepository);
+        service = new BridgePairContinuityRepairService(
+                mongoOperations,
+                linkingWriter(normalizedTransactionRepository)
+        );
         lenient().when(normalizedTransactionRepository.saveAll(any())).thenAnswer(inv -> inv.getArgument(0));
     }
 
@@ -19,6 +19,7 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -41,7 +42,7 @@ class BybitInternalTransferOrphanFallbackServiceTest {
 
         BybitInternalTransferOrphanFallbackService service = new BybitInternalTransferOrphanFallbackService(
                 mongoOperations,
-                normalizedTransactionRepository
+                linkingWriter(normalizedTransactionRepository)
         );
         int demoted = service.reconcileOrphanInternals();
 
@@ -62,7 +63,7 @@ class BybitInternalTransferOrphanFallbackServiceTest {
 
         BybitInternalTransferOrphanFallbackService service = new BybitInternalTransferOrphanFallbackService(
                 mongoOperations,
-                normalizedTransactionRepository
+                linkingWriter(normalizedTransactionRepository)
         );
         int demoted = service.reconcileOrphanInternals();
 
@@ -87,7 +88,7 @@ class BybitInternalTransferOrphanFallbackServiceTest {
 
         BybitInternalTransferOrphanFallbackService service = new BybitInternalTransferOrphanFallbackService(
                 mongoOperations,
-                normalizedTransactionRepository
+                linkingWriter(normalizedTransactionRepository)
         );
         int demoted = service.reconcileOrphanInternals();
 
@@ -106,7 +107,7 @@ class BybitInternalTransferOrphanFallbackServiceTest {
 
         BybitInternalTransferOrphanFallbackService service = new BybitInternalTransferOrphanFallbackService(
                 mongoOperations,
-                normalizedTransactionRepository
+                linkingWriter(normalizedTransactionRepository)
         );
 
         assertThat(service.reconcileOrphanInternals()).isZero();
@@ -123,7 +124,7 @@ class BybitInternalTransferOrphanFallbackServiceTest {
 
         BybitInternalTransferOrphanFallbackService service = new BybitInternalTransferOrphanFallbackService(
                 mongoOperations,
-                normalizedTransactionRepository
+                linkingWriter(normalizedTransactionRepository)
         );
         int demoted = service.reconcileOrphanInternals();
 
@@ -149,7 +150,7 @@ class BybitInternalTransferOrphanFallbackServiceTest {
 
         BybitInternalTransferOrphanFallbackService service = new BybitInternalTransferOrphanFallbackService(
                 mongoOperations,
-                normalizedTransactionRepository
+                linkingWriter(normalizedTransactionRepository)
         );
 
         assertThat(service.reconcileOrphanInternals()).isZero();
@@ -19,6 +19,7 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -36,7 +37,7 @@ class BybitOnChainEarnOrphanRepairServiceTest {
     private NormalizedTransactionRepository normalizedTransactionRepository;
 
     private BybitOnChainEarnOrphanRepairService service() {
-        return new BybitOnChainEarnOrphanRepairService(mongoOperations, normalizedTransactionRepository);
+        return new BybitOnChainEarnOrphanRepairService(mongoOperations, linkingWriter(normalizedTransactionRepository));
     }
 
     // ------------------------------------------------------------------
@@ -23,6 +23,7 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -55,6 +56,7 @@ class BybitTransferContinuityRepairServiceTest {
         service = new BybitTransferContinuityRepairService(
                 mongoOperations,
                 normalizedTransactionRepository,
+                linkingWriter(normalizedTransactionRepository),
                 accountingUniverseService
         );
         lenient().when(normalizedTransactionRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
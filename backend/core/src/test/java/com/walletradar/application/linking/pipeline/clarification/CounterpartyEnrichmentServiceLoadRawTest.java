@@ -15,6 +15,7 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -59,7 +60,7 @@ class CounterpartyEnrichmentServiceLoadRawTest {
         return new CounterpartyEnrichmentService(
                 queryService,
                 rawTransactionRepository,
-                normalizedTransactionRepository,
+                linkingWriter(normalizedTransactionRepository),
                 List.of(new AlwaysEnrichResolver())
         );
     }
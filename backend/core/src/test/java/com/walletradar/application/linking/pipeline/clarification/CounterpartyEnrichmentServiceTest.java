@@ -14,6 +14,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.List;
 import java.util.Optional;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -76,7 +77,7 @@ class CounterpartyEnrichmentServiceTest {
                 queryService,
                 resolutionService,
                 rawTransactionRepository,
-                normalizedTransactionRepository
+                linkingWriter(normalizedTransactionRepository)
         );
 
         int updated = service.processNextBatch(50);
@@ -111,7 +112,7 @@ class CounterpartyEnrichmentServiceTest {
                 queryService,
                 resolutionService,
                 rawTransactionRepository,
-                normalizedTransactionRepository
+                linkingWriter(normalizedTransactionRepository)
         );
 
         boolean updated = service.enrichInPlace(transaction, rawTransaction, java.time.Instant.parse("2026-04-08T12:00:00Z"));
@@ -131,7 +132,7 @@ class CounterpartyEnrichmentServiceTest {
                 queryService,
                 resolutionService,
                 rawTransactionRepository,
-                normalizedTransactionRepository
+                linkingWriter(normalizedTransactionRepository)
         );
 
         boolean updated = service.enrich(transaction, null, java.time.Instant.parse("2026-04-08T12:00:00Z"));
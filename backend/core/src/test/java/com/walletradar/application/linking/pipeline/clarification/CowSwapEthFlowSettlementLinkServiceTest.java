@@ -25,6 +25,7 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -49,7 +50,10 @@ class CowSwapEthFlowSettlementLinkServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new CowSwapEthFlowSettlementLinkService(mongoOperations, normalizedTransactionRepository);
+        service = new CowSwapEthFlowSettlementLinkService(
+                mongoOperations,
+                linkingWriter(normalizedTransactionRepository)
+        );
         lenient().when(normalizedTransactionRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
         lenient().when(mongoOperations.exists(any(Query.class), eq(NormalizedTransaction.class))).thenReturn(false);
     }
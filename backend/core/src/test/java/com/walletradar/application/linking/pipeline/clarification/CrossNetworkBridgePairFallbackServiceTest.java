@@ -23,6 +23,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -47,7 +48,10 @@ class CrossNetworkBridgePairFallbackServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new CrossNetworkBridgePairFallbackService(mongoOperations, normalizedTransactionRepository);
+        service = new CrossNetworkBridgePairFallbackService(
+                mongoOperations,
+                linkingWriter(normalizedTransactionRepository)
+        );
         lenient().when(normalizedTransactionRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
     }
 
@@ -25,6 +25,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -45,7 +46,7 @@ class EtherFiOftBridgeInClassifierTest {
     void setUp() {
         ProtocolResourceCatalog catalog = new ProtocolResourceLoader(new ObjectMapper());
         classifier = new EtherFiOftBridgeInClassifier(
-                mongoOperations, normalizedTransactionRepository, catalog);
+                mongoOperations, linkingWriter(normalizedTransactionRepository), catalog);
         lenient().when(normalizedTransactionRepository.saveAll(any())).thenAnswer(inv -> inv.getArgument(0));
     }
 
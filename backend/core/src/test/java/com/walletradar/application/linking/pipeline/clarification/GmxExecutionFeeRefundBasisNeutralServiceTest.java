@@ -23,6 +23,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -54,7 +55,10 @@ class GmxExecutionFeeRefundBasisNeutralServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new GmxExecutionFeeRefundBasisNeutralService(mongoOperations, normalizedTransactionRepository);
+        service = new GmxExecutionFeeRefundBasisNeutralService(
+                mongoOperations,
+                linkingWriter(normalizedTransactionRepository)
+        );
         lenient().when(normalizedTransactionRepository.saveAll(any())).thenAnswer(inv -> inv.getArgument(0));
     }
 
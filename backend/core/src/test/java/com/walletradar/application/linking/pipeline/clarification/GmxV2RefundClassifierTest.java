@@ -26,6 +26,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -48,7 +49,7 @@ class GmxV2RefundClassifierTest {
                 .find("GMX", "v2")
                 .map(ProtocolResourceDefinition::handlerContractAddresses)
                 .orElseThrow()::contains);
-        classifier = new GmxV2RefundClassifier(mongoOperations, normalizedTransactionRepository);
+        classifier = new GmxV2RefundClassifier(mongoOperations, linkingWriter(normalizedTransactionRepository));
         lenient().when(normalizedTransactionRepository.saveAll(any())).thenAnswer(inv -> inv.getArgument(0));
     }
 
@@ -20,6 +20,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -54,7 +55,10 @@ class GmxWithdrawalSettlementLinkServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new GmxWithdrawalSettlementLinkService(mongoOperations, normalizedTransactionRepository);
+        service = new GmxWithdrawalSettlementLinkService(
+                mongoOperations,
+                linkingWriter(normalizedTransactionRepository)
+        );
         lenient().when(normalizedTransactionRepository.saveAll(any())).thenAnswer(inv -> inv.getArgument(0));
         lenient().when(mongoOperations.exists(any(Query.class), eq(NormalizedTransaction.class))).thenReturn(false);
     }
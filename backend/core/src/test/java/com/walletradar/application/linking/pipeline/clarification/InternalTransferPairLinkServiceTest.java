@@ -24,6 +24,7 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -54,6 +55,7 @@ class InternalTransferPairLinkServiceTest {
         service = new InternalTransferPairLinkService(
                 mongoOperations,
                 normalizedTransactionRepository,
+                linkingWriter(normalizedTransactionRepository),
                 accountingUniverseService,
                 sessionWalletAdjacencyService
         );
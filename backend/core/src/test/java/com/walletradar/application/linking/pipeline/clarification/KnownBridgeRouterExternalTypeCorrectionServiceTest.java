@@ -18,6 +18,7 @@ import org.springframework.data.mongodb.core.query.Query;
 import java.math.BigDecimal;
 import java.util.List;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
@@ -40,7 +41,10 @@ class KnownBridgeRouterExternalTypeCorrectionServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new KnownBridgeRouterExternalTypeCorrectionService(mongoOperations, normalizedTransactionRepository);
+        service = new KnownBridgeRouterExternalTypeCorrectionService(
+                mongoOperations,
+                linkingWriter(normalizedTransactionRepository)
+        );
     }
 
     @Test
@@ -20,6 +20,7 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -44,7 +45,10 @@ class LendingLoopOpenClosePairLinkServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new LendingLoopOpenClosePairLinkService(mongoOperations, normalizedTransactionRepository);
+        service = new LendingLoopOpenClosePairLinkService(
+                mongoOperations,
+                linkingWriter(normalizedTransactionRepository)
+        );
         lenient().when(normalizedTransactionRepository.saveAll(any())).thenAnswer(inv -> inv.getArgument(0));
     }
 
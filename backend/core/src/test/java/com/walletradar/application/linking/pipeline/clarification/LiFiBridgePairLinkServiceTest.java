@@ -33,6 +33,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.groups.Tuple.tuple;
 import static org.mockito.ArgumentMatchers.any;
@@ -73,6 +74,7 @@ class LiFiBridgePairLinkServiceTest {
                 new RawTransactionClarificationEnricher(),
                 rawTransactionRepository,
                 normalizedTransactionRepository,
+                linkingWriter(normalizedTransactionRepository),
                 mongoOperations,
                 protocolRegistryService
         );
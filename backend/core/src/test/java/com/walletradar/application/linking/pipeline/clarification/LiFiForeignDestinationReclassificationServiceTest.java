@@ -31,6 +31,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -68,7 +69,7 @@ class LiFiForeignDestinationReclassificationServiceTest {
     void setUp() {
         service = new LiFiForeignDestinationReclassificationService(
                 mongoOperations,
-                normalizedTransactionRepository,
+                linkingWriter(normalizedTransactionRepository),
                 rawTransactionRepository,
                 accountingUniverseService,
                 sessionWalletAdjacencyService,
@@ -25,6 +25,7 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -59,7 +60,8 @@ class MayanCctpBridgePairLinkServiceTest {
                 mayanReceivingTransactionDiscoveryService,
                 new RawTransactionClarificationEnricher(),
                 rawTransactionRepository,
-                normalizedTransactionRepository
+                normalizedTransactionRepository,
+                linkingWriter(normalizedTransactionRepository)
         );
         lenient().when(normalizedTransactionRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
         lenient().when(normalizedTransactionRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
@@ -17,6 +17,7 @@ import org.springframework.data.mongodb.core.query.Query;
 import java.math.BigDecimal;
 import java.util.List;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -45,7 +46,10 @@ class MultiCounterpartyCorrectionServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new MultiCounterpartyCorrectionService(mongoOperations, normalizedTransactionRepository);
+        service = new MultiCounterpartyCorrectionService(
+                mongoOperations,
+                linkingWriter(normalizedTransactionRepository)
+        );
         lenient().when(normalizedTransactionRepository.saveAll(any()))
                 .thenAnswer(inv -> inv.getArgument(0));
     }
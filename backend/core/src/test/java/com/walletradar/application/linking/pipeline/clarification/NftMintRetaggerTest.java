@@ -22,6 +22,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -40,7 +41,7 @@ class NftMintRetaggerTest {
 
     @BeforeEach
     void setUp() {
-        retagger = new NftMintRetagger(mongoOperations, normalizedTransactionRepository);
+        retagger = new NftMintRetagger(mongoOperations, linkingWriter(normalizedTransactionRepository));
         lenient().when(normalizedTransactionRepository.saveAll(any())).thenAnswer(inv -> inv.getArgument(0));
     }
 
@@ -21,6 +21,7 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -54,7 +55,7 @@ class OnChainInternalTransferPairRepairServiceTest {
     void setUp() {
         service = new OnChainInternalTransferPairRepairService(
                 mongoOperations,
-                normalizedTransactionRepository,
+                linkingWriter(normalizedTransactionRepository),
                 accountingUniverseService,
                 sessionWalletAdjacencyService
         );
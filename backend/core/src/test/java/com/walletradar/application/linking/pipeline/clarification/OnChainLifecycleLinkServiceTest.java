@@ -20,6 +20,7 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Set;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -38,7 +39,10 @@ class OnChainLifecycleLinkServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new OnChainLifecycleLinkService(normalizedTransactionRepository);
+        service = new OnChainLifecycleLinkService(
+                normalizedTransactionRepository,
+                linkingWriter(normalizedTransactionRepository)
+        );
     }
 
     @Test
@@ -19,6 +19,7 @@ import org.springframework.data.mongodb.core.query.Query;
 import java.math.BigDecimal;
 import java.util.List;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -50,7 +51,7 @@ class OwnWalletBridgeMistypeCorrectionServiceTest {
     void setUp() {
         service = new OwnWalletBridgeMistypeCorrectionService(
                 mongoOperations,
-                normalizedTransactionRepository,
+                linkingWriter(normalizedTransactionRepository),
                 accountingUniverseService,
                 sessionWalletAdjacencyService
         );
@@ -19,6 +19,7 @@ import org.springframework.data.mongodb.core.query.Query;
 import java.math.BigDecimal;
 import java.util.List;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -51,7 +52,7 @@ class OwnWalletMultiCpCorrectionTest {
     @BeforeEach
     void setUp() {
         service = new OwnWalletBridgeMistypeCorrectionService(
-                mongoOperations, normalizedTransactionRepository,
+                mongoOperations, linkingWriter(normalizedTransactionRepository),
                 accountingUniverseService, sessionWalletAdjacencyService
         );
         lenient().when(normalizedTransactionRepository.saveAll(any()))
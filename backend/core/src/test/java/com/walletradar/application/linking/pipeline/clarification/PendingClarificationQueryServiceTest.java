@@ -8,12 +8,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -37,4 +39,34 @@ class PendingClarificationQueryServiceTest {
         assertThat(queryText).doesNotContain("missingDataReasons");
         assertThat(queryText).doesNotContain("$nin");
     }
+
+    @Test
+    void reselectsWhenAConcurrentWorkerWinsTheWholeClaim() {
+        PendingClarificationQueryService service = new PendingClarificationQueryService(mongoOperations);
+        NormalizedTransaction lost = transaction("tx-lost");
+        NormalizedTransaction next = transaction("tx-next");
+        // Selection, claim read-back (lost), reselection, claim read-back (won).
+        when(mongoOperations.find(any(Query.class), eq(NormalizedTransaction.class)))
+                .thenReturn(List.of(lost), List.of(), List.of(next), List.of(next));
+
+        List<NormalizedTransaction> claimed = service.claimNextBatch(10, 2, 120, "worker-1", 300);
+
+        assertThat(claimed).containsExactly(next);
+        verify(mongoOperations, times(2)).updateMulti(any(Query.class), any(Update.class), eq(NormalizedTransaction.class));
+    }
+
+    @Test
+    void claimReturnsEmptyOnlyWhenNothingIsSelected() {
+        PendingClarificationQueryService service = new PendingClarificationQueryService(mongoOperations);
+        when(mongoOperations.find(any(Query.class), eq(NormalizedTransaction.class))).thenReturn(List.of());
+
+        assertThat(service.claimNextBatch(10, 2, 120, "worker-1", 300)).isEmpty();
+        verify(mongoOperations, times(0)).updateMulti(any(Query.class), any(Update.class), eq(NormalizedTransaction.class));
+    }
+
+    private static NormalizedTransaction transaction(String id) {
+        NormalizedTransaction transaction = new NormalizedTransaction();
+        transaction.setId(id);
+        return transaction;
+    }
 }
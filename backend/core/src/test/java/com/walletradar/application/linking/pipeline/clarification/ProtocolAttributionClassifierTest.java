@@ -22,6 +22,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
@@ -43,7 +44,7 @@ class ProtocolAttributionClassifierTest {
 
     @BeforeEach
     void setUp() {
-        classifier = new ProtocolAttributionClassifier(mongoOperations, normalizedTransactionRepository);
+        classifier = new ProtocolAttributionClassifier(mongoOperations, linkingWriter(normalizedTransactionRepository));
         lenient().when(normalizedTransactionRepository.saveAll(any())).thenAnswer(inv -> inv.getArgument(0));
     }
 
@@ -14,6 +14,7 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -62,7 +63,7 @@ class ProtocolNameEnrichmentServiceTest {
                 resolutionService,
                 protocolNameCanonicalizer,
                 rawTransactionRepository,
-                normalizedTransactionRepository
+                linkingWriter(normalizedTransactionRepository)
         );
 
         int updated = service.processNextBatch(50);
@@ -88,7 +89,7 @@ class ProtocolNameEnrichmentServiceTest {
                 resolutionService,
                 protocolNameCanonicalizer,
                 rawTransactionRepository,
-                normalizedTransactionRepository
+                linkingWriter(normalizedTransactionRepository)
         );
 
         boolean updated = service.enrich(transaction, null, Instant.parse("2026-04-08T12:00:00Z"));
@@ -144,7 +145,7 @@ class ProtocolNameEnrichmentServiceTest {
                 resolutionService,
                 protocolNameCanonicalizer,
                 rawTransactionRepository,
-                normalizedTransactionRepository
+                linkingWriter(normalizedTransactionRepository)
         );
 
         int updated = service.processNextBatch(50);
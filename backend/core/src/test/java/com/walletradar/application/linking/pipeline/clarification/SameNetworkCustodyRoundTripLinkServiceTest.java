@@ -21,6 +21,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -58,7 +59,10 @@ class SameNetworkCustodyRoundTripLinkServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new SameNetworkCustodyRoundTripLinkService(mongoOperations, normalizedTransactionRepository);
+        service = new SameNetworkCustodyRoundTripLinkService(
+                mongoOperations,
+                linkingWriter(normalizedTransactionRepository)
+        );
         lenient().when(normalizedTransactionRepository.saveAll(any())).thenAnswer(inv -> inv.getArgument(0));
     }
 
@@ -21,6 +21,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
@@ -37,7 +38,7 @@ class ScamDisperseClonePhishingTaggerTest {
 
     @BeforeEach
     void setUp() {
-        tagger = new ScamDisperseClonePhishingTagger(mongoOperations, normalizedTransactionRepository);
+        tagger = new ScamDisperseClonePhishingTagger(mongoOperations, linkingWriter(normalizedTransactionRepository));
         lenient().when(normalizedTransactionRepository.saveAll(any())).thenAnswer(inv -> inv.getArgument(0));
     }
 
@@ -23,6 +23,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -57,7 +58,7 @@ class UnmatchedBridgeInboundPricingFallbackServiceTest {
         pricingProperties = new PricingProperties();
         service = new UnmatchedBridgeInboundPricingFallbackService(
                 mongoOperations,
-                normalizedTransactionRepository,
+                linkingWriter(normalizedTransactionRepository),
                 pricingProperties
         );
         lenient().when(normalizedTransactionRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
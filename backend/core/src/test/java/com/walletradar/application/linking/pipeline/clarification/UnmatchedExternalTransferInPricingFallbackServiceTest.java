@@ -22,6 +22,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.walletradar.testsupport.LinkingTransactionWriterTestFixtures.linkingWriter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -52,7 +53,10 @@ class UnmatchedExternalTransferInPricingFallbackServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new UnmatchedExternalTransferInPricingFallbackService(mongoOperations, normalizedTransactionRepository);
+        service = new UnmatchedExternalTransferInPricingFallbackService(
+                mongoOperations,
+                linkingWriter(normalizedTransactionRepository)
+        );
         lenient().when(normalizedTransactionRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
         wireFindStub();
     }
@@ -0,0 +1,91 @@
+package com.walletradar.application.liquiditypools.enrichment;
+
+import com.walletradar.application.liquiditypools.persistence.LpPoolAddressMemoEntry;
+import com.walletradar.application.liquiditypools.persistence.LpPoolAddressMemoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LpPoolAddressMemoTest {
+
+    private static final String NFPM = "0x03A520b32C04BF3bEEf7BEb72E919cf822Ed34f1";
+
+    @Mock
+    private LpPoolAddressMemoRepository repository;
+
+    private LpPoolAddressMemo memo;
+
+    @BeforeEach
+    void setUp() {
+        memo = new LpPoolAddressMemo(repository);
+    }
+
+    @Test
+    void loadedFactoryIsPersistedAndServedFromMemory() {
+        when(repository.findById(anyString())).thenReturn(Optional.empty());
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            Optional<String> factory = memo.factory("base", NFPM, () -> {
+                loads.incrementAndGet();
+                return Optional.of("0x33128A8fC17869897dcE68Ed026d694621f6FDfD");
+            });
+            assertThat(factory).contains("0x33128a8fc17869897dce68ed026d694621f6fdfd");
+        }
+
+        assertThat(loads).hasValue(1);
+        ArgumentCaptor<LpPoolAddressMemoEntry> captor = ArgumentCaptor.forClass(LpPoolAddressMemoEntry.class);
+        verify(repository).save(captor.capture());
+        assertThat(captor.getValue().getMemoKey())
+                .isEqualTo("BASE|FACTORY|0x03a520b32c04bf3beef7beb72e919cf822ed34f1");
+        verify(repository, times(1)).findById(anyString());
+    }
+
+    @Test
+    void storedPoolSkipsTheLoader() {
+        LpPoolAddressMemoEntry stored = new LpPoolAddressMemoEntry();
+        stored.setValue("0xd0b53d9277642d899df5c87a3966a349a798f224");
+        when(repository.findById("BASE|POOL|0xfactory:0xtoken0:0xtoken1:500")).thenReturn(Optional.of(stored));
+
+        Optional<String> pool = memo.pool("BASE", "0xFactory", "0xToken0", "0xToken1", 500, () -> {
+            throw new AssertionError("loader must not run");
+        });
+
+        assertThat(pool).contains("0xd0b53d9277642d899df5c87a3966a349a798f224");
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void failedLookupIsNotMemoized() {
+        when(repository.findById(anyString())).thenReturn(Optional.empty());
+        AtomicInteger loads = new AtomicInteger();
+
+        memo.tickSpacing("BASE", "0xpool", () -> {
+            loads.incrementAndGet();
+            return Optional.of(0);
+        });
+        Optional<Integer> spacing = memo.tickSpacing("BASE", "0xpool", () -> {
+            loads.incrementAndGet();
+            return Optional.of(60);
+        });
+
+        assertThat(spacing).contains(60);
+        assertThat(loads).hasValue(2);
+        verify(repository, times(1)).save(any());
+    }
+}
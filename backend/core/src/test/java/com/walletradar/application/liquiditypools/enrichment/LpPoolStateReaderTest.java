@@ -0,0 +1,86 @@
+package com.walletradar.application.liquiditypools.enrichment;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LpPoolStateReaderTest {
+
+    private static final String POOL = "0x4c36388be6f416a29c8d8eee81c771ce6be14b18";
+    private static final String WORD_ZERO = "0".repeat(64);
+
+    @Mock
+    private LpRpcSupport rpc;
+
+    @Test
+    void positionsInOnePoolShareOneStateReadWithinARound() {
+        stubPoolState();
+        LpPoolStateReader reader = new LpPoolStateReader(rpc);
+
+        List<LpPoolStateSnapshot> snapshots = LpRefreshRound.call(() -> List.of(
+                reader.snapshot("BASE", POOL).orElseThrow(),
+                reader.snapshot("BASE", POOL).orElseThrow(),
+                reader.snapshot("base", POOL.toUpperCase()).orElseThrow()));
+
+        assertThat(snapshots).allSatisfy(snapshot -> assertThat(snapshot).isSameAs(snapshots.get(0)));
+        assertThat(snapshots.get(0).sqrtPriceX96()).isEqualTo(BigInteger.ONE.shiftLeft(96));
+        assertThat(snapshots.get(0).currentTick()).isEqualTo(-5);
+        assertThat(snapshots.get(0).feeGrowthGlobal0()).isEqualTo(BigInteger.valueOf(7));
+        verify(rpc, times(1)).callBatch(eq("BASE"), eq(POOL), anyList());
+    }
+
+    @Test
+    void eachReadGoesToRpcOutsideARound() {
+        stubPoolState();
+        LpPoolStateReader reader = new LpPoolStateReader(rpc);
+
+        reader.snapshot("BASE", POOL);
+        reader.snapshot("BASE", POOL);
+
+        verify(rpc, times(2)).callBatch(eq("BASE"), eq(POOL), anyList());
+    }
+
+    @Test
+    void tickReadsAreBatchedAndReusedOnTheSnapshot() {
+        LpPoolStateReader reader = new LpPoolStateReader(rpc);
+        LpPoolStateSnapshot snapshot = new LpPoolStateSnapshot("BASE", POOL, BigInteger.ONE, 0,
+                BigInteger.ZERO, BigInteger.ZERO, BigInteger.ZERO);
+        when(rpc.callBatch(eq("BASE"), eq(POOL), anyList()))
+                .thenReturn(List.of(Optional.of("0xaa"), Optional.of("0xbb")))
+                .thenReturn(List.of(Optional.of("0xcc")));
+
+        List<Optional<String>> first = reader.ticks(snapshot, List.of(-60, 60));
+        List<Optional<String>> second = reader.ticks(snapshot, List.of(60, 120, -60));
+
+        assertThat(first).containsExactly(Optional.of("0xaa"), Optional.of("0xbb"));
+        assertThat(second).containsExactly(Optional.of("0xbb"), Optional.of("0xcc"), Optional.of("0xaa"));
+        verify(rpc, times(2)).callBatch(eq("BASE"), eq(POOL), anyList());
+    }
+
+    private void stubPoolState() {
+        String slot0 = "0x" + word(BigInteger.ONE.shiftLeft(96)) + word(BigInteger.ONE.shiftLeft(256).subtract(BigInteger.valueOf(5)));
+        when(rpc.callBatch(eq("BASE"), eq(POOL), anyList())).thenReturn(List.of(
+                Optional.of(slot0),
+                Optional.of("0x" + word(BigInteger.valueOf(7))),
+                Optional.of("0x" + word(BigInteger.valueOf(9))),
+                Optional.of("0x" + WORD_ZERO)));
+    }
+
+    private static String word(BigInteger value) {
+        String hex = value.toString(16);
+        return "0".repeat(64 - hex.length()) + hex;
+    }
+}
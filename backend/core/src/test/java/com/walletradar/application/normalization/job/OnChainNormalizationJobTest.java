@@ -6,9 +6,9 @@ import com.walletradar.application.normalization.config.OnChainNormalizationProp
 import com.walletradar.application.session.application.SessionPipelineActivityService;
 import com.walletradar.application.session.application.SessionPipelineStateService;
 import com.walletradar.application.pipeline.config.JobHeartbeatProperties;
+import com.walletradar.application.pipeline.queue.PipelineStageHandoff;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -31,7 +31,7 @@ class OnChainNormalizationJobTest {
         when(normalizationService.processNextBatch(null)).thenReturn(2, 3, 0);
 
         List<Object> events = new ArrayList<>();
-        ApplicationEventPublisher publisher = events::add;
+        PipelineStageHandoff publisher = (handoffSessionId, handoffEvent) -> events.add(handoffEvent);
         SessionPipelineActivityService pipelineActivityService = mock(SessionPipelineActivityService.class);
         SessionPipelineStateService pipelineStateService = mock(SessionPipelineStateService.class);
 
@@ -62,7 +62,7 @@ class OnChainNormalizationJobTest {
         OnChainNormalizationService normalizationService = mock(OnChainNormalizationService.class);
         when(normalizationService.processNextBatch(null)).thenReturn(0);
 
-        ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+        PipelineStageHandoff publisher = mock(PipelineStageHandoff.class);
         SessionPipelineActivityService pipelineActivityService = mock(SessionPipelineActivityService.class);
         SessionPipelineStateService pipelineStateService = mock(SessionPipelineStateService.class);
 
@@ -78,7 +78,7 @@ class OnChainNormalizationJobTest {
         int processed = job.runNormalization();
 
         assertThat(processed).isZero();
-        verify(publisher, never()).publishEvent(org.mockito.ArgumentMatchers.any());
+        verify(publisher, never()).submit(org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any());
     }
 
     @Test
@@ -91,7 +91,7 @@ class OnChainNormalizationJobTest {
         when(normalizationService.processNextBatch("session-1")).thenReturn(0);
 
         List<Object> events = new ArrayList<>();
-        ApplicationEventPublisher publisher = events::add;
+        PipelineStageHandoff publisher = (handoffSessionId, handoffEvent) -> events.add(handoffEvent);
         SessionPipelineActivityService pipelineActivityService = mock(SessionPipelineActivityService.class);
         SessionPipelineStateService pipelineStateService = mock(SessionPipelineStateService.class);
 
@@ -21,6 +21,7 @@ import com.walletradar.application.normalization.pipeline.onchain.repair.Interna
 import com.walletradar.application.normalization.pipeline.onchain.support.ResolvedRawOrderingMetadata;
 import com.walletradar.application.normalization.store.IdempotentNormalizedTransactionStore;
 import com.walletradar.application.session.application.AccountingUniverseService;
+import com.walletradar.platform.telemetry.PipelineCounterStore;
 import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -49,6 +50,8 @@ class OnChainNormalizationServiceTest {
     @Mock
     private RawTransactionRepository rawTransactionRepository;
     @Mock
+    private PipelineCounterStore pipelineCounterStore;
+    @Mock
     private OnChainClassifier onChainClassifier;
     @Mock
     private ExplorerRawOrderingRepairGateway explorerRawOrderingRepairGateway;
@@ -79,6 +82,7 @@ class OnChainNormalizationServiceTest {
                 new OnChainNormalizedTransactionBuilder(),
                 normalizedTransactionStore,
                 rawTransactionRepository,
+                pipelineCounterStore,
                 explorerRawOrderingRepairGateway,
                 internalTransferRawPeerRepairService,
                 protocolNameEnrichmentService,
@@ -8,9 +8,9 @@ import com.walletradar.application.normalization.job.clarification.OnChainClarif
 import com.walletradar.application.session.application.SessionPipelineActivityService;
 import com.walletradar.application.session.application.SessionPipelineStateService;
 import com.walletradar.application.pipeline.config.JobHeartbeatProperties;
+import com.walletradar.application.pipeline.queue.PipelineStageHandoff;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -53,14 +53,14 @@ class OnChainReclassificationJobTest {
         OnChainReclassificationService service = mock(OnChainReclassificationService.class);
         when(service.processNextBatch(org.mockito.ArgumentMatchers.nullable(String.class))).thenReturn(0);
         OnChainClarificationService clarificationService = mock(OnChainClarificationService.class);
-        ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+        PipelineStageHandoff publisher = mock(PipelineStageHandoff.class);
 
         OnChainReclassificationJob job = job(properties, service, clarificationService, publisher);
 
         int processed = job.runReclassification();
 
         assertThat(processed).isZero();
-        verify(publisher, never()).publishEvent(org.mockito.ArgumentMatchers.any());
+        verify(publisher, never()).submit(org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any());
     }
 
     @Test
@@ -135,7 +135,7 @@ class OnChainReclassificationJobTest {
     private static OnChainReclassificationJob job(
             OnChainNormalizationProperties properties,
             OnChainReclassificationService service,
-            ApplicationEventPublisher publisher
+            PipelineStageHandoff publisher
     ) {
         return job(properties, service, mock(OnChainClarificationService.class), publisher);
     }
@@ -144,7 +144,7 @@ class OnChainReclassificationJobTest {
             OnChainNormalizationProperties properties,
             OnChainReclassificationService service,
             OnChainClarificationService clarificationService,
-            ApplicationEventPublisher publisher
+            PipelineStageHandoff publisher
     ) {
         return new OnChainReclassificationJob(
                 new JobHeartbeatProperties(),
@@ -0,0 +1,62 @@
+package com.walletradar.application.normalization.job.clarification;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ClarificationBatchDrainerTest {
+
+    private final ClarificationBatchDrainer drainer = new ClarificationBatchDrainer();
+
+    @Test
+    @DisplayName("concurrent workers drain a shared backlog and stop once their leases come back empty")
+    void drainConcurrently_drainsSharedBacklog() {
+        AtomicInteger backlog = new AtomicInteger(100);
+        AtomicInteger afterBatchCalls = new AtomicInteger();
+
+        int processed = drainer.drainConcurrently("test", 4, () -> leaseBatch(backlog, 7), ignored -> afterBatchCalls.incrementAndGet());
+
+        assertThat(processed).isEqualTo(100);
+        assertThat(backlog).hasValue(0);
+        assertThat(afterBatchCalls.get()).isGreaterThanOrEqualTo(15 + 4);
+    }
+
+    @Test
+    @DisplayName("a single worker keeps the serial drain loop")
+    void drainConcurrently_singleWorkerIsSerial() {
+        AtomicInteger backlog = new AtomicInteger(10);
+
+        int processed = drainer.drainConcurrently("test", 1, () -> leaseBatch(backlog, 3), ignored -> {
+        });
+
+        assertThat(processed).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("a worker failure is rethrown after the other workers stop")
+    void drainConcurrently_rethrowsWorkerFailure() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> drainer.drainConcurrently("test", 3, () -> {
+            if (calls.incrementAndGet() == 2) {
+                throw new IllegalStateException("lease lost");
+            }
+            return 0;
+        }, ignored -> {
+        })).isInstanceOf(IllegalStateException.class).hasMessage("lease lost");
+    }
+
+    private static int leaseBatch(AtomicInteger backlog, int batchSize) {
+        while (true) {
+            int remaining = backlog.get();
+            int leased = Math.min(batchSize, remaining);
+            if (backlog.compareAndSet(remaining, remaining - leased)) {
+                return leased;
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.walletradar.application.normalization.job.clarification;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.walletradar.application.linking.pipeline.clarification.PendingClarificationQueryService;
+import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionStatus;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drains pending clarification rows with several workers against the real claim query, so lost
+ * claim races happen for real. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ClarificationConcurrentClaimIntegrationTest {
+
+    @Container
+    private static final MongoDBContainer MONGO_CONTAINER = new MongoDBContainer("mongo:7");
+
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+
+    @BeforeAll
+    static void connect() {
+        mongoClient = MongoClients.create(MONGO_CONTAINER.getConnectionString());
+        mongoTemplate = new MongoTemplate(mongoClient, "clarification_claim_test");
+    }
+
+    @AfterAll
+    static void disconnect() {
+        mongoClient.close();
+    }
+
+    @BeforeEach
+    void resetCollection() {
+        mongoTemplate.dropCollection(NormalizedTransaction.class);
+    }
+
+    @Test
+    @DisplayName("concurrent workers clarify every row once and only stop when nothing is left to claim")
+    void concurrentWorkers_stopOnlyOnceTheSelectionIsEmpty() {
+        int rowCount = 300;
+        Instant blockTime = Instant.parse("2026-01-01T00:00:00Z");
+        for (int index = 0; index < rowCount; index++) {
+            mongoTemplate.insert(pending("tx-" + index, blockTime.plusSeconds(index)));
+        }
+        PendingClarificationQueryService queryService = new PendingClarificationQueryService(mongoTemplate);
+        Map<String, AtomicInteger> clarifiedById = new ConcurrentHashMap<>();
+        List<Long> claimableWhenEmpty = new CopyOnWriteArrayList<>();
+
+        int processed = new ClarificationBatchDrainer().drainConcurrently("claim-test", 6, () -> {
+            List<NormalizedTransaction> batch = queryService.claimNextBatch(
+                    4, 3, 0L, "metadata-" + UUID.randomUUID(), 300L);
+            if (batch.isEmpty()) {
+                claimableWhenEmpty.add(mongoTemplate.count(claimableQuery(), NormalizedTransaction.class));
+            }
+            for (NormalizedTransaction row : batch) {
+                clarifiedById.computeIfAbsent(row.getId(), ignored -> new AtomicInteger()).incrementAndGet();
+                mongoTemplate.updateFirst(
+                        Query.query(Criteria.where("_id").is(row.getId())),
+                        Update.update("status", NormalizedTransactionStatus.CONFIRMED).unset("clarificationLeaseUntil"),
+                        NormalizedTransaction.class
+                );
+            }
+            return batch.size();
+        }, ignored -> {
+        });
+
+        assertThat(processed).isEqualTo(rowCount);
+        assertThat(clarifiedById).hasSize(rowCount);
+        assertThat(clarifiedById.values()).allSatisfy(count -> assertThat(count.get()).isEqualTo(1));
+        assertThat(claimableWhenEmpty).hasSize(6).containsOnly(0L);
+    }
+
+    private static Query claimableQuery() {
+        return Query.query(new Criteria().andOperator(
+                Criteria.where("status").is(NormalizedTransactionStatus.PENDING_CLARIFICATION),
+                new Criteria().orOperator(
+                        Criteria.where("clarificationLeaseUntil").exists(false),
+                        Criteria.where("clarificationLeaseUntil").lte(Instant.now())
+                )
+        ));
+    }
+
+    private static NormalizedTransaction pending(String id, Instant blockTimestamp) {
+        NormalizedTransaction transaction = new NormalizedTransaction();
+        transaction.setId(id);
+        transaction.setSource(NormalizedTransactionSource.ON_CHAIN);
+        transaction.setStatus(NormalizedTransactionStatus.PENDING_CLARIFICATION);
+        transaction.setBlockTimestamp(blockTimestamp);
+        transaction.setTransactionIndex(0);
+        return transaction;
+    }
+}
@@ -6,9 +6,9 @@ import com.walletradar.application.normalization.config.OnChainClarificationProp
 import com.walletradar.application.session.application.SessionPipelineActivityService;
 import com.walletradar.application.session.application.SessionPipelineStateService;
 import com.walletradar.application.pipeline.config.JobHeartbeatProperties;
+import com.walletradar.application.pipeline.queue.PipelineStageHandoff;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -31,7 +31,7 @@ class OnChainClarificationJobTest {
 
         OnChainClarificationService metadataService = mock(OnChainClarificationService.class);
         when(metadataService.processNextBatch()).thenReturn(2, 0);
-        ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+        PipelineStageHandoff publisher = mock(PipelineStageHandoff.class);
         SessionPipelineActivityService pipelineActivityService = mock(SessionPipelineActivityService.class);
         SessionPipelineStateService pipelineStateService = mock(SessionPipelineStateService.class);
 
@@ -61,7 +61,7 @@ class OnChainClarificationJobTest {
 
         OnChainClarificationService metadataService = mock(OnChainClarificationService.class);
         when(metadataService.processNextBatch()).thenReturn(4, 0);
-        ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+        PipelineStageHandoff publisher = mock(PipelineStageHandoff.class);
         SessionPipelineActivityService pipelineActivityService = mock(SessionPipelineActivityService.class);
         SessionPipelineStateService pipelineStateService = mock(SessionPipelineStateService.class);
 
@@ -92,7 +92,7 @@ class OnChainClarificationJobTest {
         when(metadataService.processNextBatch()).thenReturn(0);
 
         List<Object> events = new ArrayList<>();
-        ApplicationEventPublisher publisher = events::add;
+        PipelineStageHandoff publisher = (handoffSessionId, handoffEvent) -> events.add(handoffEvent);
         SessionPipelineActivityService pipelineActivityService = mock(SessionPipelineActivityService.class);
         SessionPipelineStateService pipelineStateService = mock(SessionPipelineStateService.class);
 
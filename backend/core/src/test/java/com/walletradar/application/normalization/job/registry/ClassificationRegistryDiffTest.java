@@ -0,0 +1,136 @@
+package com.walletradar.application.normalization.job.registry;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.walletradar.domain.pipeline.ClassificationRegistrySnapshot;
+import com.walletradar.domain.transaction.raw.RawTransaction;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClassificationRegistryDiffTest {
+
+    private static final String ROUTER = "0x1111111111111111111111111111111111111111";
+    private static final String POOL = "0x2222222222222222222222222222222222222222";
+    private static final String HINT = "0x3333333333333333333333333333333333333333";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ClassificationRegistrySnapshotReader reader = new ClassificationRegistrySnapshotReader(objectMapper);
+
+    @Test
+    @DisplayName("identical registries produce an empty diff")
+    void identicalRegistriesProduceEmptyDiff() throws Exception {
+        List<ClassificationRegistrySnapshot.Unit> units = units(registry("SWAP"), hints("BRIDGE_ROUTER"));
+
+        ClassificationRegistryDiff diff = ClassificationRegistryDiff.between(units, units(registry("SWAP"), hints("BRIDGE_ROUTER")));
+
+        assertThat(diff.isEmpty()).isTrue();
+        assertThat(diff.touchedKeys()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("a changed contract entry keys only on that entry's addresses")
+    void changedContractEntryKeysOnItsAddresses() throws Exception {
+        ClassificationRegistryDiff diff = ClassificationRegistryDiff.between(
+                units(registry("SWAP"), hints("BRIDGE_ROUTER")),
+                units(registry("LP_ENTRY"), hints("BRIDGE_ROUTER"))
+        );
+
+        assertThat(diff.changedUnits()).containsExactly("protocol-registry:contract:" + ROUTER);
+        assertThat(diff.touchedKeys()).containsExactly(ROUTER);
+    }
+
+    @Test
+    @DisplayName("removed and re-categorised hints key on old and new entries")
+    void changedHintKeysOnOldAndNewEntries() throws Exception {
+        ClassificationRegistryDiff diff = ClassificationRegistryDiff.between(
+                units(registry("SWAP"), hints("BRIDGE_ROUTER")),
+                units(registry("SWAP"), hints("CEX_DEPOSIT"))
+        );
+
+        assertThat(diff.changedUnits()).containsExactlyInAnyOrder(
+                "counterparty-hints:" + HINT + ":BRIDGE_ROUTER",
+                "counterparty-hints:" + HINT + ":CEX_DEPOSIT"
+        );
+        assertThat(diff.touchedKeys()).containsExactly(HINT);
+    }
+
+    @Test
+    @DisplayName("a protocol file change keys on every address and selector it mentions")
+    void protocolFileChangeKeysOnAllMentions() throws Exception {
+        JsonNode before = objectMapper.readTree("""
+                {"key": "demo", "markers": {"methodSelectors": {"deposit": ["0xAABBCCDD"]}},
+                 "pools": ["%s"]}
+                """.formatted(POOL));
+        JsonNode after = objectMapper.readTree("""
+                {"key": "demo", "markers": {"methodSelectors": {"deposit": ["0xaabbccdd", "0x11223344"]}},
+                 "pools": ["%s"]}
+                """.formatted(POOL));
+
+        ClassificationRegistryDiff diff = ClassificationRegistryDiff.between(
+                List.of(reader.protocolResourceUnit("demo.json", before)),
+                List.of(reader.protocolResourceUnit("demo.json", after))
+        );
+
+        assertThat(diff.changedUnits()).containsExactly("protocols:demo.json");
+        assertThat(diff.touchedKeys()).containsExactly(POOL, "0x11223344", "0xaabbccdd");
+    }
+
+    @Test
+    @DisplayName("touched keys cover raw payload, padded log topics, clarification evidence and selector")
+    void touchedKeysCoverRawAndEvidence() {
+        RawTransaction raw = new RawTransaction();
+        raw.setRawData(new Document("to", ROUTER)
+                .append("input", "0xaabbccdd0000")
+                .append("logs", List.of(new Document("topics", List.of(
+                        "0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef",
+                        "0x000000000000000000000000" + POOL.substring(2))))));
+        raw.setClarificationEvidence(new Document("counterparty", HINT));
+
+        assertThat(RawTransactionTouchIndexer.touchedKeys(raw)).containsExactly(ROUTER, POOL, HINT, "0xaabbccdd");
+    }
+
+    @Test
+    @DisplayName("addresses passed as calldata or log-data words are touched keys, amounts are not")
+    void touchedKeysCoverAddressWords() {
+        String amount = "0".repeat(60) + "03e8";
+        RawTransaction raw = new RawTransaction();
+        raw.setRawData(new Document("to", POOL)
+                .append("input", "0x12345678" + word(ROUTER) + amount)
+                .append("logs", List.of(new Document("data", "0x" + amount + word(HINT)))));
+
+        assertThat(RawTransactionTouchIndexer.touchedKeys(raw)).containsExactly(ROUTER, "0x12345678", POOL, HINT);
+    }
+
+    private static String word(String address) {
+        return "0".repeat(24) + address.substring(2);
+    }
+
+    private List<ClassificationRegistrySnapshot.Unit> units(JsonNode registry, JsonNode hints) {
+        List<ClassificationRegistrySnapshot.Unit> units = new ArrayList<>(reader.protocolRegistryUnits(registry));
+        units.addAll(reader.counterpartyHintUnits(hints));
+        return units;
+    }
+
+    private JsonNode registry(String eventType) throws Exception {
+        return objectMapper.readTree("""
+                {"contracts": {
+                   "── EVM ──": {},
+                   "%s": {"name": "Router", "family": "DEX", "event_type": "%s"},
+                   "%s": {"name": "Pool", "family": "DEX", "event_type": "SWAP"}
+                 },
+                 "method_ids": {"description": "selectors", "0xAABBCCDD": "deposit(uint256)"}}
+                """.formatted(ROUTER, eventType, POOL));
+    }
+
+    private JsonNode hints(String category) throws Exception {
+        return objectMapper.readTree("""
+                {"entries": [{"address": "%s", "category": "%s", "protocol": "Demo"}]}
+                """.formatted(HINT, category));
+    }
+}
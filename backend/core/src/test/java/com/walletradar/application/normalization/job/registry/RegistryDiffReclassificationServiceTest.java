@@ -0,0 +1,168 @@
+package com.walletradar.application.normalization.job.registry;
+
+import com.walletradar.application.custody.application.CustodyLedgerProjectionStore;
+import com.walletradar.application.linking.pipeline.clarification.ExternalCustodyDestinationRegistry;
+import com.walletradar.application.normalization.config.RegistryDiffReclassificationProperties;
+import com.walletradar.application.normalization.job.OnChainReclassificationService;
+import com.walletradar.application.session.application.AccountingUniverseService;
+import com.walletradar.domain.pipeline.ClassificationRegistrySnapshot;
+import com.walletradar.domain.session.UserSession;
+import com.walletradar.domain.session.UserSessionRepository;
+import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
+import com.walletradar.domain.transaction.raw.RawTransaction;
+import com.walletradar.platform.telemetry.PipelineCounterStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RegistryDiffReclassificationServiceTest {
+
+    private static final String ROUTER = "0x1111111111111111111111111111111111111111";
+    private static final String WALLET = "0x4444444444444444444444444444444444444444";
+
+    @Mock
+    private ClassificationRegistrySnapshotReader snapshotReader;
+    @Mock
+    private RawTransactionTouchIndexer touchIndexer;
+    @Mock
+    private OnChainReclassificationService onChainReclassificationService;
+    @Mock
+    private MongoOperations mongoOperations;
+    @Mock
+    private PipelineCounterStore pipelineCounterStore;
+    @Mock
+    private CustodyLedgerProjectionStore custodyLedgerProjectionStore;
+    @Mock
+    private UserSessionRepository userSessionRepository;
+    @Mock
+    private AccountingUniverseService accountingUniverseService;
+    @Mock
+    private ExternalCustodyDestinationRegistry externalCustodyDestinationRegistry;
+
+    private RegistryDiffReclassificationService service;
+    private RawTransaction raw;
+    private NormalizedTransaction existing;
+
+    @BeforeEach
+    void setUp() {
+        service = new RegistryDiffReclassificationService(
+                snapshotReader,
+                touchIndexer,
+                onChainReclassificationService,
+                mongoOperations,
+                pipelineCounterStore,
+                custodyLedgerProjectionStore,
+                userSessionRepository,
+                accountingUniverseService,
+                externalCustodyDestinationRegistry,
+                new RegistryDiffReclassificationProperties()
+        );
+        ClassificationRegistrySnapshot stored = new ClassificationRegistrySnapshot();
+        stored.setId(ClassificationRegistrySnapshot.CURRENT_ID);
+        stored.setUnits(new ArrayList<>(List.of(unit("old"))));
+        when(mongoOperations.findById(ClassificationRegistrySnapshot.CURRENT_ID, ClassificationRegistrySnapshot.class))
+                .thenReturn(stored);
+        when(snapshotReader.readBundled()).thenReturn(List.of(unit("new")));
+
+        raw = new RawTransaction();
+        raw.setId("0xabc:BASE:0xwallet");
+        existing = new NormalizedTransaction();
+        existing.setId(raw.getId());
+        existing.setType(NormalizedTransactionType.SWAP);
+        existing.setWalletAddress(WALLET);
+        // Candidate page, raw rows of that page, then an empty next page.
+        when(mongoOperations.find(any(Query.class), eq(RawTransaction.class)))
+                .thenReturn(List.of(raw), List.of(raw), List.of());
+        when(mongoOperations.find(any(Query.class), eq(NormalizedTransaction.class))).thenReturn(List.of(existing));
+    }
+
+    @Test
+    @DisplayName("a failed row keeps the old snapshot so the next run reconsiders it")
+    void failedRowKeepsSnapshot() {
+        ownedBy("s1", null);
+        when(onChainReclassificationService.rebuild(eq(existing), eq(raw), any()))
+                .thenThrow(new IllegalStateException("decoder failure"));
+
+        RegistryDiffReclassificationService.Result result = service.run();
+
+        assertThat(result.candidates()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(1);
+        verify(mongoOperations, never()).save(any(ClassificationRegistrySnapshot.class));
+    }
+
+    @Test
+    @DisplayName("the snapshot advances once every candidate was rebuilt")
+    void fullyRebuiltRunAdvancesSnapshot() {
+        ownedBy("s1", null);
+        when(onChainReclassificationService.rebuild(eq(existing), eq(raw), any())).thenReturn(existing);
+
+        RegistryDiffReclassificationService.Result result = service.run();
+
+        assertThat(result.reclassified()).isEqualTo(1);
+        assertThat(result.failed()).isZero();
+        verify(mongoOperations).save(any(ClassificationRegistrySnapshot.class));
+    }
+
+    @Test
+    @DisplayName("a row is rebuilt under the universe and custody session of the session owning its wallet")
+    void rebuildsUnderOwningUniverse() {
+        ownedBy("s1", "universe-1");
+        when(onChainReclassificationService.rebuild(eq(existing), eq(raw), any())).thenReturn(existing);
+
+        service.run();
+
+        InOrder order = inOrder(accountingUniverseService, externalCustodyDestinationRegistry, onChainReclassificationService);
+        order.verify(accountingUniverseService).bindUniverse("universe-1");
+        order.verify(externalCustodyDestinationRegistry).bindSession("s1");
+        order.verify(onChainReclassificationService).rebuild(eq(existing), eq(raw), any());
+        order.verify(accountingUniverseService).clearUniverseBinding();
+        order.verify(externalCustodyDestinationRegistry).clearSessionBinding();
+    }
+
+    @Test
+    @DisplayName("a row whose wallet belongs to no session is left alone instead of rewritten with registry-only typing")
+    void unownedWalletIsSkipped() {
+        when(userSessionRepository.findAllByWalletsAddress(WALLET)).thenReturn(List.of());
+
+        RegistryDiffReclassificationService.Result result = service.run();
+
+        assertThat(result.reclassified()).isZero();
+        assertThat(result.classificationChanged()).isZero();
+        verify(onChainReclassificationService, never()).rebuild(any(), any(), any());
+    }
+
+    private void ownedBy(String sessionId, String accountingUniverseId) {
+        UserSession session = new UserSession();
+        session.setId(sessionId);
+        session.setAccountingUniverseId(accountingUniverseId);
+        when(userSessionRepository.findAllByWalletsAddress(WALLET)).thenReturn(List.of(session));
+    }
+
+    private static ClassificationRegistrySnapshot.Unit unit(String fingerprint) {
+        return new ClassificationRegistrySnapshot.Unit(
+                "protocol-registry:contract:" + ROUTER,
+                fingerprint,
+                List.of(ROUTER),
+                List.of()
+        );
+    }
+}
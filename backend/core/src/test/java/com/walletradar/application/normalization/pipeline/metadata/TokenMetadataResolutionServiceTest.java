@@ -1,6 +1,8 @@
 package com.walletradar.application.normalization.pipeline.metadata;
 
 import com.walletradar.domain.common.NetworkId;
+import com.walletradar.platform.metadata.TokenMetadata;
+import com.walletradar.platform.metadata.TokenMetadataStore;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -10,6 +12,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -18,7 +21,8 @@ import static org.mockito.Mockito.when;
 
 /**
  * WS-7 resolution-order guarantees for {@link TokenMetadataResolutionService}:
- * descriptor override → persistent cache → live resolver (write-through) → explicit unresolved,
+ * descriptor override → persistent cache → live resolver (write-through) → explicit unresolved
+ * (recorded as a negative cache entry),
  * with the safety rules from the plan's edge cases:
  * <ul>
  *   <li>(b) a live timeout falls back to cache/override, never a wrong default;</li>
@@ -31,11 +35,11 @@ class TokenMetadataResolutionServiceTest {
     private static final String UNKNOWN_MINT = "MemeMint1111111111111111111111111111111111";
     private static final String CACHED_MINT = "CacheMint111111111111111111111111111111111";
 
-    private final TokenMetadataCacheRepository cacheRepository = mock(TokenMetadataCacheRepository.class);
+    private final TokenMetadataStore tokenMetadataStore = mock(TokenMetadataStore.class);
     private final LiveTokenMetadataResolver liveResolver = mock(LiveTokenMetadataResolver.class);
 
     private TokenMetadataResolutionService service() {
-        return new TokenMetadataResolutionService(cacheRepository, List.of(liveResolver));
+        return new TokenMetadataResolutionService(tokenMetadataStore, List.of(liveResolver));
     }
 
     @Test
@@ -49,13 +53,13 @@ class TokenMetadataResolutionServiceTest {
         assertThat(resolved.symbol()).isEqualTo("USDC");
         assertThat(resolved.source()).isEqualTo(ResolvedTokenMetadata.Source.DESCRIPTOR_OVERRIDE);
         verify(liveResolver, never()).resolve(any(), anyString());
-        verify(cacheRepository, never()).save(any());
+        verify(tokenMetadataStore, never()).put(anyString(), anyString(), any(), anyString());
     }
 
     @Test
     @DisplayName("(b) persistent cache is honoured and a live timeout never corrupts a cached decimals")
     void cacheHitServedWithoutLive() {
-        when(cacheRepository.findById(anyString())).thenReturn(Optional.of(cacheEntry("MSOL", 9)));
+        when(tokenMetadataStore.find(anyString(), anyString())).thenReturn(Optional.of(cacheEntry("MSOL", 9)));
         // Live resolver would throw (timeout), but it must not be reached when cache fully satisfies.
         when(liveResolver.supports(any())).thenReturn(true);
         when(liveResolver.resolve(any(), anyString())).thenThrow(new RuntimeException("timeout"));
@@ -71,7 +75,7 @@ class TokenMetadataResolutionServiceTest {
     @Test
     @DisplayName("live resolution is written through to the durable cache (RPC-free replay)")
     void liveResolutionIsWrittenThrough() {
-        when(cacheRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(tokenMetadataStore.find(anyString(), anyString())).thenReturn(Optional.empty());
         when(liveResolver.supports(NetworkId.SOLANA)).thenReturn(true);
         when(liveResolver.resolve(NetworkId.SOLANA, UNKNOWN_MINT)).thenReturn(Optional.of(
                 new ResolvedTokenMetadata("MEME", 4, ResolvedTokenMetadata.Source.LIVE_RESOLVER)));
@@ -81,14 +85,14 @@ class TokenMetadataResolutionServiceTest {
         assertThat(resolved.symbol()).isEqualTo("MEME");
         assertThat(resolved.decimals()).isEqualTo(4);
         assertThat(resolved.source()).isEqualTo(ResolvedTokenMetadata.Source.LIVE_RESOLVER);
-        verify(cacheRepository, times(1)).save(any(TokenMetadataCacheEntry.class));
+        verify(tokenMetadataStore, times(1)).put(anyString(), anyString(), any(TokenMetadata.class), anyString());
     }
 
     @Test
     @DisplayName("a decimals-only cache entry still triggers live symbol resolution and write-through")
     void decimalsOnlyCacheStillResolvesSymbolLive() {
         // Cache holds decimals (load-bearing) but no symbol — a prior LIVE_RESOLVER decimals-only hit.
-        when(cacheRepository.findById(anyString())).thenReturn(Optional.of(cacheEntry(null, 6)));
+        when(tokenMetadataStore.find(anyString(), anyString())).thenReturn(Optional.of(cacheEntry(null, 6)));
         when(liveResolver.supports(NetworkId.SOLANA)).thenReturn(true);
         // The live resolver now upgrades: it returns a symbol (Metaplex fallback) with the same decimals.
         when(liveResolver.resolve(NetworkId.SOLANA, UNKNOWN_MINT)).thenReturn(Optional.of(
@@ -101,13 +105,13 @@ class TokenMetadataResolutionServiceTest {
         assertThat(resolved.source()).isEqualTo(ResolvedTokenMetadata.Source.LIVE_RESOLVER);
         // The upgraded symbol is written through so subsequent replays are RPC-free.
         verify(liveResolver, times(1)).resolve(NetworkId.SOLANA, UNKNOWN_MINT);
-        verify(cacheRepository, times(1)).save(any(TokenMetadataCacheEntry.class));
+        verify(tokenMetadataStore, times(1)).put(anyString(), anyString(), any(TokenMetadata.class), anyString());
     }
 
     @Test
     @DisplayName("a decimals-only cache entry with a symbol-only live upgrade keeps the cached decimals")
     void decimalsOnlyCacheKeepsDecimalsOnSymbolOnlyLive() {
-        when(cacheRepository.findById(anyString())).thenReturn(Optional.of(cacheEntry(null, 6)));
+        when(tokenMetadataStore.find(anyString(), anyString())).thenReturn(Optional.of(cacheEntry(null, 6)));
         when(liveResolver.supports(NetworkId.SOLANA)).thenReturn(true);
         when(liveResolver.resolve(NetworkId.SOLANA, UNKNOWN_MINT)).thenReturn(Optional.of(
                 new ResolvedTokenMetadata("GRAM", null, ResolvedTokenMetadata.Source.LIVE_RESOLVER)));
@@ -121,7 +125,7 @@ class TokenMetadataResolutionServiceTest {
     @Test
     @DisplayName("(c) unknown token → explicit unresolved, never a fabricated default")
     void unknownTokenResolvesToExplicitUnresolved() {
-        when(cacheRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(tokenMetadataStore.find(anyString(), anyString())).thenReturn(Optional.empty());
         when(liveResolver.supports(NetworkId.SOLANA)).thenReturn(true);
         when(liveResolver.resolve(NetworkId.SOLANA, UNKNOWN_MINT)).thenReturn(Optional.empty());
 
@@ -131,7 +135,20 @@ class TokenMetadataResolutionServiceTest {
         assertThat(resolved.decimals()).isNull();
         assertThat(resolved.symbol()).isNull();
         assertThat(resolved.source()).isEqualTo(ResolvedTokenMetadata.Source.UNRESOLVED);
-        verify(cacheRepository, never()).save(any());
+        verify(tokenMetadataStore).put(eq("SOLANA"), eq(UNKNOWN_MINT), eq(TokenMetadata.UNRESOLVED), anyString());
+    }
+
+    @Test
+    @DisplayName("a negative cache entry short-circuits the live resolver until its TTL passes")
+    void negativeCacheEntrySkipsLive() {
+        when(tokenMetadataStore.find(anyString(), anyString())).thenReturn(Optional.of(TokenMetadata.UNRESOLVED));
+        when(liveResolver.supports(NetworkId.SOLANA)).thenReturn(true);
+
+        ResolvedTokenMetadata resolved = service().resolve(NetworkId.SOLANA, UNKNOWN_MINT);
+
+        assertThat(resolved.isResolved()).isFalse();
+        verify(liveResolver, never()).resolve(any(), anyString());
+        verify(tokenMetadataStore, never()).put(anyString(), anyString(), any(), anyString());
     }
 
     @Test
@@ -141,10 +158,7 @@ class TokenMetadataResolutionServiceTest {
         assertThat(service().resolve(null, SPL_USDC).isResolved()).isFalse();
     }
 
-    private static TokenMetadataCacheEntry cacheEntry(String symbol, Integer decimals) {
-        return new TokenMetadataCacheEntry()
-                .setSymbol(symbol)
-                .setDecimals(decimals)
-                .setSource(ResolvedTokenMetadata.Source.LIVE_RESOLVER.name());
+    private static TokenMetadata cacheEntry(String symbol, Integer decimals) {
+        return new TokenMetadata(decimals, symbol, null);
     }
 }
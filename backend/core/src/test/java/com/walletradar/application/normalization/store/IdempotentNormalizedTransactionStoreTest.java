@@ -1,5 +1,6 @@
 package com.walletradar.application.normalization.store;
 
+import com.walletradar.application.custody.application.CustodyLedgerProjectionStore;
 import com.walletradar.domain.common.ConfidenceLevel;
 import com.walletradar.domain.common.NetworkId;
 import com.walletradar.domain.transaction.normalized.ClassificationSource;
@@ -8,6 +9,8 @@ import com.walletradar.domain.transaction.normalized.NormalizedTransactionReposi
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionStatus;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
+import com.walletradar.platform.telemetry.PipelineCounterDelta;
+import com.walletradar.platform.telemetry.PipelineCounterStore;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,6 +19,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
 
 import java.time.Instant;
 import java.util.List;
@@ -23,6 +30,10 @@ import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -31,6 +42,14 @@ class IdempotentNormalizedTransactionStoreTest {
 
     @Mock
     private NormalizedTransactionRepository repository;
+    @Mock
+    private MongoOperations mongoOperations;
+    @Mock
+    private BulkOperations bulkOperations;
+    @Mock
+    private PipelineCounterStore pipelineCounterStore;
+    @Mock
+    private CustodyLedgerProjectionStore custodyLedgerProjectionStore;
 
     @SuppressWarnings("unchecked")
     private static ObjectProvider<NormalizedTransactionPostProcessor> emptyProviders() {
@@ -42,7 +61,7 @@ class IdempotentNormalizedTransactionStoreTest {
     @Test
     @DisplayName("reprocessing existing canonical id preserves original createdAt")
     void reprocessingExistingCanonicalIdPreservesCreatedAt() {
-        IdempotentNormalizedTransactionStore store = new IdempotentNormalizedTransactionStore(repository, emptyProviders());
+        IdempotentNormalizedTransactionStore store = new IdempotentNormalizedTransactionStore(repository, mongoOperations, emptyProviders(), pipelineCounterStore, custodyLedgerProjectionStore);
         Instant originalCreatedAt = Instant.parse("2026-03-19T10:00:00Z");
 
         NormalizedTransaction existing = normalized("raw-id", originalCreatedAt);
@@ -62,7 +81,7 @@ class IdempotentNormalizedTransactionStoreTest {
     @Test
     @DisplayName("confirmed merge preserves higher clarification counters from candidate")
     void confirmedMergePreservesHigherClarificationCountersFromCandidate() {
-        IdempotentNormalizedTransactionStore store = new IdempotentNormalizedTransactionStore(repository, emptyProviders());
+        IdempotentNormalizedTransactionStore store = new IdempotentNormalizedTransactionStore(repository, mongoOperations, emptyProviders(), pipelineCounterStore, custodyLedgerProjectionStore);
         Instant originalCreatedAt = Instant.parse("2026-03-19T10:00:00Z");
 
         NormalizedTransaction existing = normalized("raw-id", originalCreatedAt);
@@ -89,7 +108,7 @@ class IdempotentNormalizedTransactionStoreTest {
     @Test
     @DisplayName("ADR-051: confirmed merge propagates acquisitionFeeUsd from candidate BUY flow")
     void confirmedMergePropagateskAcquisitionFeeUsdOnBuyFlow() {
-        IdempotentNormalizedTransactionStore store = new IdempotentNormalizedTransactionStore(repository, emptyProviders());
+        IdempotentNormalizedTransactionStore store = new IdempotentNormalizedTransactionStore(repository, mongoOperations, emptyProviders(), pipelineCounterStore, custodyLedgerProjectionStore);
 
         NormalizedTransaction existing = normalized("dz-tsla-1", Instant.parse("2026-03-19T10:00:00Z"));
         existing.setStatus(NormalizedTransactionStatus.CONFIRMED);
@@ -125,7 +144,7 @@ class IdempotentNormalizedTransactionStoreTest {
     @Test
     @DisplayName("ADR-081 C1: confirmed merge restores lpReceipt onto an existing CONFIRMED MLP flow")
     void confirmedMergeRestoresLpReceiptFlagOnMlpFlow() {
-        IdempotentNormalizedTransactionStore store = new IdempotentNormalizedTransactionStore(repository, emptyProviders());
+        IdempotentNormalizedTransactionStore store = new IdempotentNormalizedTransactionStore(repository, mongoOperations, emptyProviders(), pipelineCounterStore, custodyLedgerProjectionStore);
 
         // Existing CONFIRMED Solana DAMM row was written before lpReceipt existed / after a copy cycle
         // dropped it: correlation preserved, MLP flow present, but lpReceipt absent (null).
@@ -168,7 +187,7 @@ class IdempotentNormalizedTransactionStoreTest {
     @Test
     @DisplayName("WS-8: confirmed merge propagates capability flags from candidate (survives re-normalization)")
     void confirmedMergePropagatesWs8CapabilityFlagsFromCandidate() {
-        IdempotentNormalizedTransactionStore store = new IdempotentNormalizedTransactionStore(repository, emptyProviders());
+        IdempotentNormalizedTransactionStore store = new IdempotentNormalizedTransactionStore(repository, mongoOperations, emptyProviders(), pipelineCounterStore, custodyLedgerProjectionStore);
 
         // Existing CONFIRMED row was written before the flags were re-derived (both null) — the
         // signature seen in prod for Solana rows: correlation preserved, capability flags absent.
@@ -200,6 +219,32 @@ class IdempotentNormalizedTransactionStoreTest {
                 .isTrue();
     }
 
+    @Test
+    @DisplayName("upsertAll reads existing docs once and writes every merged doc in one bulk")
+    void upsertAllMergesAgainstOneInReadAndWritesOneBulk() {
+        IdempotentNormalizedTransactionStore store = new IdempotentNormalizedTransactionStore(repository, mongoOperations, emptyProviders(), pipelineCounterStore, custodyLedgerProjectionStore);
+        Instant originalCreatedAt = Instant.parse("2026-03-19T10:00:00Z");
+        NormalizedTransaction existing = normalized("raw-1", originalCreatedAt);
+        NormalizedTransaction updated = normalized("raw-1", Instant.parse("2026-03-19T11:00:00Z"));
+        NormalizedTransaction inserted = normalized("raw-2", Instant.parse("2026-03-19T11:00:00Z"));
+
+        when(repository.findAllById(anyList())).thenReturn(List.of(existing));
+        when(mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, NormalizedTransaction.class))
+                .thenReturn(bulkOperations);
+
+        List<NormalizedTransaction> written = store.upsertAll(List.of(updated, inserted));
+
+        assertThat(written).extracting(NormalizedTransaction::getId).containsExactly("raw-1", "raw-2");
+        assertThat(written.get(0).getCreatedAt()).isEqualTo(originalCreatedAt);
+        verify(bulkOperations, times(2)).replaceOne(any(Query.class), any(NormalizedTransaction.class), any(FindAndReplaceOptions.class));
+        verify(bulkOperations).execute();
+        verify(repository, never()).findById(any());
+        verify(repository, never()).save(any());
+        ArgumentCaptor<PipelineCounterDelta> deltaCaptor = ArgumentCaptor.forClass(PipelineCounterDelta.class);
+        verify(pipelineCounterStore).apply(deltaCaptor.capture());
+        assertThat(deltaCaptor.getValue().isEmpty()).isFalse();
+    }
+
     private static NormalizedTransaction normalized(String id, Instant createdAt) {
         NormalizedTransaction normalizedTransaction = new NormalizedTransaction();
         normalizedTransaction.setId(id);
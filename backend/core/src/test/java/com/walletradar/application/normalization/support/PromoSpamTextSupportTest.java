@@ -0,0 +1,285 @@
+package com.walletradar.application.normalization.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Golden-set check: the compiled matcher must give exactly the verdicts of the original
+ * {@code String.contains} chains ({@link ContainsChainReference}).
+ */
+class PromoSpamTextSupportTest {
+
+    /** Token names and symbols used by the classification and scam-filter fixtures. */
+    private static final List<String> FIXTURE_TEXTS = List.of(
+            "$UЅDС (t.ly/cpool) TOKEN DISTRIBUTION",
+            "780 $UЅDС - Redeem: (t.ly/cpool) - #38",
+            "AERO Rewards",
+            "AERO",
+            "AITECH",
+            "ANGLE",
+            "ARB",
+            "AVAX",
+            "AWETH",
+            "Aave Mantle WMNT (wrapped)",
+            "Aave Mantle WMNT",
+            "Aerodrome Reward",
+            "Angle",
+            "Arbitrum",
+            "Base Promo Reward",
+            "CAKE",
+            "COMP",
+            "Cake",
+            "Claim Your Airdrop ( Velodromefi.Store )",
+            "Claim Your Airdrop",
+            "Claimable: unichain-token.com",
+            "Compound",
+            "DAI",
+            "Dai Stablecoin",
+            "Debt token of EVK Vault eUSDt-2",
+            "ETH",
+            "EVK Vault eUSDC-2",
+            "EVK Vault eUSDC-6",
+            "EVK Vault eUSDT0-9",
+            "EVK Vault eWETH-1",
+            "EVK Vault ewstUSR-1",
+            "Ethena USDe",
+            "Ether",
+            "Euler USDC",
+            "GHO",
+            "GLV [WETH-USDC]",
+            "GM: ETH/USD [WETH-USDC]",
+            "Gauntlet USDC CORE Vault",
+            "IN",
+            "INFINIT",
+            "KAT",
+            "L2 Standard Bridged USDT (Base)",
+            "LINEA",
+            "MCUSDC",
+            "MERKL",
+            "MEV Capital USDC Vault",
+            "MNT",
+            "MOLT",
+            "Mantle",
+            "Merkl Reward",
+            "Molt king",
+            "OP",
+            "OracleAI",
+            "PENDLE",
+            "PancakeSwap Token",
+            "RESOLV",
+            "Reward",
+            "SPAM",
+            "SUSHI",
+            "Spam Token",
+            "Swap your Voucher on wr.do/s/ether",
+            "Syrup USDC",
+            "TOK",
+            "TOKEN",
+            "Telegram @TronVanity88_bot",
+            "Tether USD",
+            "TetherToken",
+            "Token",
+            "UNC",
+            "USD Coin",
+            "USD.uni",
+            "USDC",
+            "USDE",
+            "USDT",
+            "USDT0",
+            "USDe",
+            "USDt",
+            "USD₮0",
+            "Uniswap V3",
+            "VELO",
+            "Visit https://eth-tokens.us to claim Airdrop",
+            "Voucher",
+            "WBNB",
+            "WETH",
+            "WMATIC",
+            "WMNT",
+            "Wrapped BNB",
+            "Wrapped Ether",
+            "Wrapped Scam ETH",
+            "Wrapped Staked USR",
+            "Wrapped liquid staked Ether 2.0",
+            "XYZ",
+            "\u200B ETH-Tokens.us",
+            "aArbWETH",
+            "aAvaGHO",
+            "aAvaUSDC",
+            "aManWMNT",
+            "aUSDC",
+            "aZksWETH",
+            "cmETH",
+            "deUSD",
+            "eUSDC",
+            "eUSDC-2",
+            "eUSDC-6",
+            "eUSDT0-9",
+            "eUSDt-2-DEBT",
+            "eWETH-1",
+            "edeUSD-1",
+            "eqbPENDLE-LPT",
+            "ewstUSR-1",
+            "gtUSDCc",
+            "sAVAX",
+            "stRESOLV",
+            "syrupUSDC",
+            "turtleAvalancheUSDC",
+            "variableDebtBasWETH",
+            "variableDebtZksUSDC",
+            "vbUSDC",
+            "weETH",
+            "wsETH Visit www.wseth.vip to claim reward",
+            "wstETH",
+            "wstUSR",
+            "www.baseapp.cfd - claim Base airdrop",
+            "www.baser.cfd - claim Your Base airdrop",
+            "ꓴꓢꓓС"
+    );
+
+    private static final List<String> FRAGMENTS = List.of(
+            "http", "www", "://", "t.me", "@", ".com", ".io", ".us", ".xyz", ".site", ".vip", ".top", ".bot",
+            ".so", ".do", ".cfd", ".store", "claim", "visit", "airdrop", "reward", "free", "mint", "voucher",
+            "telegram", "verify", "redeem", "telegram @", "visit www", "claim reward", "claim your airdrop",
+            "swap your voucher", "voucher on ", "verify:", ".", " ", "USDC", "Wrapped", "ETH", "Ѕ", "\u200B",
+            "CLAIM", "Visit", "-", "x", "0123456789abcdef0123456789"
+    );
+
+    @Test
+    @DisplayName("fixture token texts keep their original verdicts")
+    void fixtureTextsMatchReference() {
+        assertMatchesReference(FIXTURE_TEXTS);
+    }
+
+    @Test
+    @DisplayName("generated marker combinations keep their original verdicts")
+    void generatedTextsMatchReference() {
+        Random random = new Random(36L);
+        List<String> texts = new ArrayList<>();
+        texts.add(null);
+        texts.add("");
+        texts.add("   ");
+        for (int i = 0; i < 5_000; i++) {
+            StringBuilder text = new StringBuilder();
+            int parts = 1 + random.nextInt(5);
+            for (int part = 0; part < parts; part++) {
+                text.append(FRAGMENTS.get(random.nextInt(FRAGMENTS.size())));
+            }
+            texts.add(random.nextBoolean() ? " " + text + " " : text.toString());
+        }
+        assertMatchesReference(texts);
+    }
+
+    @Test
+    @DisplayName("known spam texts are flagged")
+    void knownSpamTextsAreFlagged() {
+        assertThat(PromoSpamTextSupport.isPromotionalSpamText("wsETH Visit www.wseth.vip to claim reward")).isTrue();
+        assertThat(PromoSpamTextSupport.isSuspiciousTokenText("Telegram @TronVanity88_bot")).isTrue();
+        assertThat(PromoSpamTextSupport.isSuspiciousTokenText("Wrapped Ether")).isFalse();
+        assertThat(PromoSpamTextSupport.isPromotionalSpamText("Merkl Reward")).isFalse();
+    }
+
+    private static void assertMatchesReference(List<String> texts) {
+        for (String text : texts) {
+            assertThat(PromoSpamTextSupport.isSuspiciousTokenText(text))
+                    .as("suspicious: %s", text)
+                    .isEqualTo(ContainsChainReference.isSuspiciousTokenText(text));
+            assertThat(PromoSpamTextSupport.isPromotionalSpamText(text))
+                    .as("promotional: %s", text)
+                    .isEqualTo(ContainsChainReference.isPromotionalSpamText(text));
+        }
+    }
+
+    /** The rules as they were written before compilation, kept verbatim as the oracle. */
+    private static final class ContainsChainReference {
+
+        static boolean isSuspiciousTokenText(String value) {
+            String normalized = normalize(value);
+            if (normalized == null) {
+                return false;
+            }
+            if (isPromotionalSpamText(normalized)) {
+                return true;
+            }
+            boolean hasUrlLike = normalized.contains("http")
+                    || normalized.contains("www")
+                    || normalized.contains("://")
+                    || normalized.contains("t.me")
+                    || normalized.contains("@")
+                    || normalized.contains(".com")
+                    || normalized.contains(".io")
+                    || normalized.contains(".us")
+                    || normalized.contains(".xyz")
+                    || normalized.contains(".site")
+                    || normalized.contains(".vip")
+                    || normalized.contains(".top")
+                    || normalized.contains(".bot")
+                    || normalized.contains(".so")
+                    || normalized.contains(".do")
+                    || normalized.contains(".cfd")
+                    || normalized.contains(".store");
+            if (hasUrlLike) {
+                return true;
+            }
+            boolean hasBaitWords = normalized.contains("claim")
+                    || normalized.contains("visit")
+                    || normalized.contains("airdrop")
+                    || normalized.contains("reward")
+                    || normalized.contains("free")
+                    || normalized.contains("mint")
+                    || normalized.contains("voucher")
+                    || normalized.contains("telegram")
+                    || normalized.contains("verify")
+                    || normalized.contains("redeem");
+            return hasBaitWords && (normalized.contains(".") || normalized.length() >= 40);
+        }
+
+        static boolean isPromotionalSpamText(String value) {
+            String normalized = normalize(value);
+            if (normalized == null) {
+                return false;
+            }
+            if (normalized.contains("telegram @")
+                    || normalized.contains("visit www")
+                    || normalized.contains("claim reward")
+                    || normalized.contains("claim your airdrop")
+                    || normalized.contains("swap your voucher")
+                    || normalized.contains("voucher on ")
+                    || normalized.contains("verify:")) {
+                return true;
+            }
+            boolean hasPromotionalWord = normalized.contains("claim")
+                    || normalized.contains("airdrop")
+                    || normalized.contains("reward")
+                    || normalized.contains("voucher")
+                    || normalized.contains("visit")
+                    || normalized.contains("verify")
+                    || normalized.contains("redeem");
+            boolean hasDomainMarker = normalized.contains(".vip")
+                    || normalized.contains(".top")
+                    || normalized.contains(".bot")
+                    || normalized.contains(".cfd")
+                    || normalized.contains(".store")
+                    || normalized.contains(".site")
+                    || normalized.contains(".xyz")
+                    || normalized.contains(".so")
+                    || normalized.contains(".do");
+            return hasPromotionalWord && hasDomainMarker;
+        }
+
+        private static String normalize(String value) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            return value.trim().toLowerCase(Locale.ROOT);
+        }
+    }
+}
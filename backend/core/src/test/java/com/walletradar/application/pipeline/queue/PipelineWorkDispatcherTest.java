@@ -0,0 +1,126 @@
+package com.walletradar.application.pipeline.queue;
+
+import com.walletradar.application.pipeline.config.PipelineWorkQueueProperties;
+import com.walletradar.domain.event.LinkingRequestedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.event.EventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class PipelineWorkDispatcherTest {
+
+    private static final List<String> CALLS = new CopyOnWriteArrayList<>();
+
+    private final PipelineWorkQueue queue = mock(PipelineWorkQueue.class);
+    private final PipelineWorkQueueProperties properties = new PipelineWorkQueueProperties();
+    private final List<Runnable> tasks = new ArrayList<>();
+    private AnnotationConfigApplicationContext context;
+    private PipelineWorkDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        CALLS.clear();
+        context = new AnnotationConfigApplicationContext(FirstStage.class, FailingStage.class, UnrelatedStage.class, ProgressSignals.class);
+        dispatcher = new PipelineWorkDispatcher(
+                queue,
+                properties,
+                context,
+                new PipelineStageListeners(context),
+                tasks::add
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void enqueuesOneItemPerListener() {
+        LinkingRequestedEvent event = new LinkingRequestedEvent("s1", "test");
+
+        dispatcher.submit("s1", event);
+
+        verify(queue, times(2)).enqueue(eq("s1"), eq(event), anyString());
+        verify(queue, never()).enqueue(any(), any());
+        assertThat(tasks).isEmpty();
+    }
+
+    @Test
+    void progressListenerRunsOnTheSubmittingNode() {
+        Thread submitter = Thread.currentThread();
+
+        dispatcher.submit("s1", new LinkingRequestedEvent("s1", "test"));
+
+        assertThat(CALLS).containsExactly("progress:s1");
+        assertThat(ProgressSignals.thread).isSameAs(submitter);
+        verify(queue, never()).enqueue(any(), any(), eq(listenerId(ProgressSignals.class)));
+        verify(queue).enqueue(any(), any(), eq(listenerId(FirstStage.class)));
+    }
+
+    @Test
+    void inProcessDispatchRunsEachListenerAsItsOwnTask() {
+        properties.setEnabled(false);
+
+        dispatcher.submit("s1", new LinkingRequestedEvent("s1", "test"));
+
+        assertThat(tasks).hasSize(2);
+        assertThat(CALLS).containsExactly("progress:s1");
+        tasks.forEach(Runnable::run);
+        assertThat(CALLS).containsExactlyInAnyOrder("progress:s1", "first:s1", "failing:s1");
+        verify(queue, never()).enqueue(any(), any(), any());
+    }
+
+    private static String listenerId(Class<?> type) {
+        return type.getName() + ".on(" + LinkingRequestedEvent.class.getName() + ")";
+    }
+
+    @PipelineStageJob
+    static class FirstStage {
+        @EventListener
+        public void on(LinkingRequestedEvent event) {
+            CALLS.add("first:" + event.sessionId());
+        }
+    }
+
+    @PipelineStageJob
+    static class FailingStage {
+        @EventListener
+        public void on(LinkingRequestedEvent event) {
+            CALLS.add("failing:" + event.sessionId());
+            throw new IllegalStateException("boom");
+        }
+    }
+
+    static class ProgressSignals {
+        static volatile Thread thread;
+
+        @EventListener
+        public void on(LinkingRequestedEvent event) {
+            thread = Thread.currentThread();
+            CALLS.add("progress:" + event.sessionId());
+        }
+    }
+
+    @PipelineStageJob
+    static class UnrelatedStage {
+        @EventListener
+        public void on(String event) {
+            CALLS.add("unrelated");
+        }
+    }
+}
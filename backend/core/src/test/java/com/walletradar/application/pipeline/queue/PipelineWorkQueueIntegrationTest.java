@@ -0,0 +1,166 @@
+package com.walletradar.application.pipeline.queue;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.walletradar.application.pipeline.config.PipelineWorkQueueProperties;
+import com.walletradar.domain.event.LinkingRequestedEvent;
+import com.walletradar.domain.event.PricingRequestedEvent;
+import com.walletradar.domain.pipeline.PipelineWorkItem;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs {@link PipelineWorkQueue} against a real Mongo with several queue instances standing in for
+ * separate backend nodes. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class PipelineWorkQueueIntegrationTest {
+
+    @Container
+    private static final MongoDBContainer MONGO_CONTAINER = new MongoDBContainer("mongo:7");
+
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+
+    private final PipelineWorkQueueProperties properties = new PipelineWorkQueueProperties();
+
+    @BeforeAll
+    static void connect() {
+        mongoClient = MongoClients.create(MONGO_CONTAINER.getConnectionString());
+        mongoTemplate = new MongoTemplate(mongoClient, "pipeline_work_queue_test");
+    }
+
+    @AfterAll
+    static void disconnect() {
+        mongoClient.close();
+    }
+
+    @BeforeEach
+    void resetCollection() {
+        mongoTemplate.dropCollection(PipelineWorkItem.class);
+        new PipelineWorkQueue(mongoTemplate, properties).ensureIndexes();
+    }
+
+    @Test
+    @DisplayName("Concurrent workers on two nodes process every item exactly once")
+    void concurrentWorkers_neverProcessTheSameItemTwice() throws Exception {
+        PipelineWorkQueue producer = new PipelineWorkQueue(mongoTemplate, properties);
+        int itemCount = 200;
+        for (int index = 0; index < itemCount; index++) {
+            producer.enqueue("session-" + index, new LinkingRequestedEvent("session-" + index, "test"));
+        }
+        List<PipelineWorkQueue> nodes = List.of(
+                new PipelineWorkQueue(mongoTemplate, properties),
+                new PipelineWorkQueue(mongoTemplate, properties)
+        );
+        Map<String, AtomicInteger> processedBySession = new ConcurrentHashMap<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService workers = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int worker = 0; worker < 8; worker++) {
+            PipelineWorkQueue queue = nodes.get(worker % nodes.size());
+            String owner = "node-" + (worker % nodes.size()) + ":worker-" + worker;
+            futures.add(workers.submit(() -> {
+                start.await();
+                Optional<PipelineWorkQueue.ClaimedWork> claimed;
+                while ((claimed = queue.claim(owner)).isPresent()) {
+                    LinkingRequestedEvent event = (LinkingRequestedEvent) claimed.get().event();
+                    processedBySession.computeIfAbsent(event.sessionId(), ignored -> new AtomicInteger())
+                            .incrementAndGet();
+                    assertThat(queue.complete(claimed.get().item(), owner)).isTrue();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        workers.shutdown();
+
+        assertThat(processedBySession).hasSize(itemCount);
+        assertThat(processedBySession.values()).allSatisfy(count -> assertThat(count.get()).isEqualTo(1));
+        assertThat(mongoTemplate.count(new Query(), PipelineWorkItem.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("Duplicate triggers coalesce while PENDING and queue behind a running item")
+    void enqueue_coalescesPendingTriggersPerSessionAndEventType() {
+        PipelineWorkQueue queue = new PipelineWorkQueue(mongoTemplate, properties);
+        queue.enqueue("s1", new PricingRequestedEvent("s1", "first"));
+        queue.enqueue("s1", new PricingRequestedEvent("s1", "second"));
+        queue.enqueue("s1", new LinkingRequestedEvent("s1", "other-stage"));
+
+        assertThat(mongoTemplate.count(new Query(), PipelineWorkItem.class)).isEqualTo(2);
+        PipelineWorkItem pricing = mongoTemplate.findOne(
+                Query.query(Criteria.where("eventType").is(PricingRequestedEvent.class.getName())),
+                PipelineWorkItem.class
+        );
+        assertThat(pricing.getTriggerCount()).isEqualTo(2);
+
+        PipelineWorkQueue.ClaimedWork running = claimUntil(queue, PricingRequestedEvent.class);
+        assertThat(((PricingRequestedEvent) running.event()).trigger()).isEqualTo("second");
+        queue.enqueue("s1", new PricingRequestedEvent("s1", "while-running"));
+
+        assertThat(mongoTemplate.count(
+                Query.query(Criteria.where("eventType").is(PricingRequestedEvent.class.getName())),
+                PipelineWorkItem.class
+        )).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Reaper returns an expired lease to PENDING so another node can claim it")
+    void reapExpiredLeases_makesCrashedOwnersWorkClaimable() {
+        PipelineWorkQueue crashedNode = new PipelineWorkQueue(mongoTemplate, properties);
+        PipelineWorkQueue survivor = new PipelineWorkQueue(mongoTemplate, properties);
+        crashedNode.enqueue("s1", new LinkingRequestedEvent("s1", "test"));
+        PipelineWorkItem leased = crashedNode.claim("crashed").orElseThrow().item();
+        assertThat(survivor.claim("survivor")).isEmpty();
+
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(leased.getId())),
+                new Update().set("leaseExpiresAt", Instant.now().minusSeconds(1)),
+                PipelineWorkItem.class
+        );
+        assertThat(survivor.reapExpiredLeases()).isEqualTo(1);
+
+        PipelineWorkQueue.ClaimedWork reclaimed = survivor.claim("survivor").orElseThrow();
+        assertThat(reclaimed.item().getId()).isEqualTo(leased.getId());
+        assertThat(reclaimed.item().getAttempts()).isEqualTo(2);
+        assertThat(crashedNode.complete(leased, "crashed")).isFalse();
+        assertThat(survivor.complete(reclaimed.item(), "survivor")).isTrue();
+    }
+
+    private static PipelineWorkQueue.ClaimedWork claimUntil(PipelineWorkQueue queue, Class<?> eventType) {
+        PipelineWorkQueue.ClaimedWork claimed;
+        do {
+            claimed = queue.claim("worker").orElseThrow();
+        } while (!eventType.isInstance(claimed.event()));
+        return claimed;
+    }
+}
@@ -2,6 +2,8 @@ package com.walletradar.application.portfolio.application;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.walletradar.platform.common.RetryPolicy;
+import com.walletradar.platform.common.concurrent.BoundedExecutor;
+import com.walletradar.platform.common.concurrent.WorkerPools;
 import com.walletradar.application.costbasis.application.balance.NonEvmOnChainBalanceLoader;
 import com.walletradar.application.costbasis.application.balance.OnChainBalanceProvider;
 import com.walletradar.application.costbasis.application.OnChainBalanceRefreshQueryService;
@@ -42,6 +44,8 @@ import static org.mockito.Mockito.times;
 class OnChainBalanceRefreshServiceTest {
 
     private static final String ENDPOINT = "https://base.rpc";
+    private static final BoundedExecutor BALANCE_REFRESH_EXECUTOR =
+            new WorkerPools(0L).executor("balance-refresh", 8, 256);
 
     @BeforeAll
     static void bindNetworkNativeAssets() {
@@ -147,7 +151,8 @@ class OnChainBalanceRefreshServiceTest {
                 ankrAccountBalanceProvider,
                 etherscanExplorerProvider,
                 blockScoutExplorerProvider,
-                new NonEvmOnChainBalanceLoader(List.of(), List.of())
+                new NonEvmOnChainBalanceLoader(List.of(), List.of()),
+                BALANCE_REFRESH_EXECUTOR
         );
 
         int refreshed = service.refreshCurrentBalances(Instant.parse("2026-04-03T18:00:00Z"));
@@ -240,7 +245,8 @@ class OnChainBalanceRefreshServiceTest {
                 ankrAccountBalanceProvider,
                 etherscanExplorerProvider,
                 blockScoutExplorerProvider,
-                new NonEvmOnChainBalanceLoader(List.of(), List.of())
+                new NonEvmOnChainBalanceLoader(List.of(), List.of()),
+                BALANCE_REFRESH_EXECUTOR
         );
 
         int refreshed = service.refreshCurrentBalances(Instant.parse("2026-04-03T18:00:00Z"));
@@ -285,7 +291,8 @@ class OnChainBalanceRefreshServiceTest {
                 ankrAccountBalanceProvider,
                 etherscanExplorerProvider,
                 blockScoutExplorerProvider,
-                new NonEvmOnChainBalanceLoader(List.of(), List.of())
+                new NonEvmOnChainBalanceLoader(List.of(), List.of()),
+                BALANCE_REFRESH_EXECUTOR
         );
 
         int refreshed = service.refreshCurrentBalances(Instant.parse("2026-04-03T18:00:00Z"));
@@ -337,7 +344,8 @@ class OnChainBalanceRefreshServiceTest {
                 ankrAccountBalanceProvider,
                 etherscanExplorerProvider,
                 blockScoutExplorerProvider,
-                new NonEvmOnChainBalanceLoader(List.of(), List.of())
+                new NonEvmOnChainBalanceLoader(List.of(), List.of()),
+                BALANCE_REFRESH_EXECUTOR
         );
 
         int refreshed = service.refreshCurrentBalances(Instant.parse("2026-04-03T18:00:00Z"));
@@ -381,7 +389,8 @@ class OnChainBalanceRefreshServiceTest {
                 ankrAccountBalanceProvider,
                 etherscanExplorerProvider,
                 blockScoutExplorerProvider,
-                new NonEvmOnChainBalanceLoader(List.of(), List.of())
+                new NonEvmOnChainBalanceLoader(List.of(), List.of()),
+                BALANCE_REFRESH_EXECUTOR
         );
 
         int refreshed = service.refreshCurrentBalances(Instant.parse("2026-04-03T18:00:00Z"));
@@ -436,7 +445,8 @@ class OnChainBalanceRefreshServiceTest {
                 ankrAccountBalanceProvider,
                 etherscanExplorerProvider,
                 blockScoutExplorerProvider,
-                new NonEvmOnChainBalanceLoader(List.of(provider), List.of())
+                new NonEvmOnChainBalanceLoader(List.of(provider), List.of()),
+                BALANCE_REFRESH_EXECUTOR
         );
 
         int refreshed = service.refreshCurrentBalances(Instant.parse("2026-04-03T18:00:00Z"));
@@ -623,7 +633,8 @@ class OnChainBalanceRefreshServiceTest {
                 ankrAccountBalanceProvider,
                 etherscanExplorerProvider,
                 blockScoutExplorerProvider,
-                new NonEvmOnChainBalanceLoader(List.of(), List.of())
+                new NonEvmOnChainBalanceLoader(List.of(), List.of()),
+                BALANCE_REFRESH_EXECUTOR
         );
     }
 }
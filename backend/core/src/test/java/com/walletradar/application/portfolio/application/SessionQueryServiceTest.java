@@ -10,6 +10,9 @@ import com.walletradar.domain.sync.SyncStatusRepository;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
 import com.walletradar.application.linking.query.LinkingPendingStatusQuery;
 import com.walletradar.application.session.application.AccountingUniverseService;
+import com.walletradar.platform.telemetry.PipelineCounterKey;
+import com.walletradar.platform.telemetry.PipelineCounterStore;
+import com.walletradar.platform.telemetry.PipelineCounterTotals;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,6 +24,7 @@ import org.springframework.data.mongodb.core.query.Query;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -43,6 +47,8 @@ class SessionQueryServiceTest {
     private LinkingPendingStatusQuery linkingPendingStatusQuery;
     @Mock
     private MongoOperations mongoOperations;
+    @Mock
+    private PipelineCounterStore pipelineCounterStore;
 
     @InjectMocks
     private SessionQueryService sessionQueryService;
@@ -293,7 +299,11 @@ class SessionQueryServiceTest {
         completeEth.setProgressPct(100);
         completeEth.setBackfillComplete(true);
         when(syncStatusRepository.findByWalletAddressIn(List.of("0xabc"))).thenReturn(List.of(completeEth));
-        when(mongoOperations.count(any(Query.class), eq(NormalizedTransaction.class))).thenReturn(4L, 1L);
+        when(pipelineCounterStore.totals(List.of("0xabc"))).thenReturn(new PipelineCounterTotals(Map.of(
+                PipelineCounterKey.normalized("ON_CHAIN", "CONFIRMED", false), 4L,
+                PipelineCounterKey.normalized("ON_CHAIN", "CONFIRMED", true), 2L
+        )));
+        when(mongoOperations.count(any(Query.class), eq(NormalizedTransaction.class))).thenReturn(1L);
         when(mongoOperations.findDistinct(
                 any(Query.class),
                 eq("normalizedTransactionId"),
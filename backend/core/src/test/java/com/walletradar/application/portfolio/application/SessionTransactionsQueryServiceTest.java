@@ -9,7 +9,9 @@ import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionStatus;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
+import com.walletradar.application.costbasis.support.AccountingAssetFamilySupport;
 import com.walletradar.application.session.application.AccountingUniverseService;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,17 +19,22 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
 import org.springframework.data.mongodb.core.query.Query;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -499,6 +506,88 @@ class SessionTransactionsQueryServiceTest {
         verify(accountingUniverseService).resolveScope(session);
     }
 
+    @Test
+    void streamsExportOldestFirstThroughCursorAndFiltersFamilyInQuery() {
+        UserSession session = new UserSession();
+        session.setId("session-1");
+
+        NormalizedTransaction ethSwap = new NormalizedTransaction();
+        ethSwap.setId("tx-eth");
+        ethSwap.setSource(NormalizedTransactionSource.ON_CHAIN);
+        ethSwap.setWalletAddress("0x1");
+        ethSwap.setNetworkId(NetworkId.BASE);
+        ethSwap.setTxHash("0xeth");
+        ethSwap.setBlockTimestamp(Instant.parse("2026-04-05T10:00:00Z"));
+        ethSwap.setType(NormalizedTransactionType.SWAP);
+        ethSwap.setStatus(NormalizedTransactionStatus.CONFIRMED);
+        ethSwap.setFlows(List.of(
+                flow(NormalizedLegRole.SELL, "ETH", new BigDecimal("-1"), new BigDecimal("2000"), new BigDecimal("-2000"), PriceSource.COINGECKO, null),
+                flow(NormalizedLegRole.BUY, "USDC", new BigDecimal("2000"), BigDecimal.ONE, new BigDecimal("2000"), PriceSource.COINGECKO, null)
+        ));
+
+        when(userSessionRepository.findById("session-1")).thenReturn(Optional.of(session));
+        when(accountingUniverseService.resolveScope(session)).thenReturn(new AccountingUniverseService.AccountingUniverseScope(
+                "ACCOUNTING_UNIVERSE:session-1",
+                List.of("0x1"),
+                List.of("0x1")
+        ));
+        stubExportAssets("ETH", "USDC", "ARB");
+        when(mongoOperations.stream(any(Query.class), eq(NormalizedTransaction.class)))
+                .thenReturn(Stream.of(ethSwap));
+
+        String ethFamily = AccountingAssetFamilySupport.continuityIdentity("ETH", null);
+        List<SessionTransactionsQueryService.ItemView> exported;
+        try (Stream<SessionTransactionsQueryService.ItemView> rows = sessionTransactionsQueryService
+                .streamSessionTransactions("session-1", SessionTransactionsQueryService.normalizeExportQuery(
+                        Instant.parse("2026-04-01T00:00:00Z"),
+                        Instant.parse("2026-05-01T00:00:00Z"),
+                        " " + ethFamily + " ",
+                        List.of(NetworkId.BASE, NetworkId.BASE)
+                ))
+                .orElseThrow()) {
+            exported = rows.toList();
+        }
+
+        assertThat(exported).extracting(SessionTransactionsQueryService.ItemView::id).containsExactly("tx-eth");
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoOperations).stream(queryCaptor.capture(), eq(NormalizedTransaction.class));
+        assertThat(queryCaptor.getValue().getSortObject().keySet()).containsExactly("blockTimestamp", "transactionIndex");
+        assertThat(queryCaptor.getValue().getHint()).isEqualTo("normalized_wallet_block_tx_id_idx");
+        assertThat(queryCaptor.getValue().toString()).contains("$gte", "$lt", "$elemMatch", "ETH").doesNotContain("ARB", "USDC");
+    }
+
+    @Test
+    void exportOfFamilyMissingFromScopeOpensNoCursor() {
+        UserSession session = new UserSession();
+        session.setId("session-1");
+        when(userSessionRepository.findById("session-1")).thenReturn(Optional.of(session));
+        when(accountingUniverseService.resolveScope(session)).thenReturn(new AccountingUniverseService.AccountingUniverseScope(
+                "ACCOUNTING_UNIVERSE:session-1",
+                List.of("0x1"),
+                List.of("0x1")
+        ));
+        stubExportAssets("USDC");
+
+        List<SessionTransactionsQueryService.ItemView> exported;
+        try (Stream<SessionTransactionsQueryService.ItemView> rows = sessionTransactionsQueryService
+                .streamSessionTransactions("session-1", SessionTransactionsQueryService.normalizeExportQuery(
+                        null, null, AccountingAssetFamilySupport.continuityIdentity("ETH", null), null))
+                .orElseThrow()) {
+            exported = rows.toList();
+        }
+
+        assertThat(exported).isEmpty();
+        verify(mongoOperations, never()).stream(any(Query.class), eq(NormalizedTransaction.class));
+    }
+
+    @Test
+    void rejectsInvertedExportPeriod() {
+        Instant at = Instant.parse("2026-04-05T10:00:00Z");
+        assertThatThrownBy(() -> SessionTransactionsQueryService.normalizeExportQuery(at, at, null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("from must be before to");
+    }
+
     @Test
     void rejectsOutOfRangeLimit() {
         assertThatThrownBy(() -> SessionTransactionsQueryService.validateLimitOrThrow(0))
@@ -513,6 +602,14 @@ class SessionTransactionsQueryServiceTest {
                 .hasMessageContaining("greater than or equal to 0");
     }
 
+    private void stubExportAssets(String... symbols) {
+        List<Document> assets = Arrays.stream(symbols)
+                .map(symbol -> new Document("assetSymbol", symbol))
+                .toList();
+        when(mongoOperations.aggregate(any(Aggregation.class), eq(NormalizedTransaction.class), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(assets, new Document()));
+    }
+
     private NormalizedTransaction.Flow flow(
             NormalizedLegRole role,
             String symbol,
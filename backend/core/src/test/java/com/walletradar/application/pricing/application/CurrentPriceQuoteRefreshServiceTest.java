@@ -3,6 +3,7 @@ package com.walletradar.application.pricing.application;
 import com.walletradar.domain.common.NetworkId;
 import com.walletradar.domain.common.PriceSource;
 import com.walletradar.application.pricing.domain.PriceQuote;
+import com.walletradar.application.pricing.latest.CurrentPriceSnapshotStore;
 import com.walletradar.application.pricing.persistence.CurrentPriceQuoteDocument;
 import org.bson.Document;
 import org.bson.types.Decimal128;
@@ -23,6 +24,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +36,8 @@ class CurrentPriceQuoteRefreshServiceTest {
     private GmxProtocolSnapshotValuationService gmxProtocolSnapshotValuationService;
     @Mock
     private com.walletradar.domain.session.UserSessionRepository userSessionRepository;
+    @Mock
+    private CurrentPriceSnapshotStore snapshotStore;
 
     @Test
     void refreshesProtocolPositionSymbolsWithGmxSnapshotNotMarketProviders() {
@@ -60,13 +64,15 @@ class CurrentPriceQuoteRefreshServiceTest {
         CurrentPriceQuoteRefreshService service = new CurrentPriceQuoteRefreshService(
                 mongoOperations,
                 gmxProtocolSnapshotValuationService,
-                userSessionRepository
+                userSessionRepository,
+                snapshotStore
         );
 
         int refreshed = service.refreshForSessionBalances("session-1", requestedAt);
 
         assertThat(refreshed).isEqualTo(1);
         verify(mongoOperations).upsert(any(Query.class), any(Update.class), eq(CurrentPriceQuoteDocument.class));
+        verify(snapshotStore).reload();
     }
 
     @Test
@@ -83,11 +89,13 @@ class CurrentPriceQuoteRefreshServiceTest {
         CurrentPriceQuoteRefreshService service = new CurrentPriceQuoteRefreshService(
                 mongoOperations,
                 gmxProtocolSnapshotValuationService,
-                userSessionRepository
+                userSessionRepository,
+                snapshotStore
         );
 
         int refreshed = service.refreshForSessionBalances("session-1", Instant.parse("2026-04-26T00:00:00Z"));
 
         assertThat(refreshed).isZero();
+        verifyNoInteractions(snapshotStore);
     }
 }
@@ -1,14 +1,24 @@
 package com.walletradar.application.pricing.application;
 
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
+import com.walletradar.platform.telemetry.PipelineCounterKey;
+import com.walletradar.platform.telemetry.PipelineCounterStore;
+import com.walletradar.platform.telemetry.PipelineCounterTotals;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -16,15 +26,19 @@ class PricingDataGateServiceTest {
 
     @Mock
     private MongoOperations mongoOperations;
+    @Mock
+    private PipelineCounterStore pipelineCounterStore;
 
     @Test
     void snapshotMarksAvcoReadyWhenNoBlockingStatusesRemain() {
-        when(mongoOperations.count(
-                any(org.springframework.data.mongodb.core.query.Query.class),
-                org.mockito.ArgumentMatchers.eq(NormalizedTransaction.class)
-        )).thenReturn(0L, 0L, 0L, 0L, 3L, 12L);
+        when(mongoOperations.exists(any(Query.class), eq(NormalizedTransaction.class))).thenReturn(false);
+        when(pipelineCounterStore.totals()).thenReturn(new PipelineCounterTotals(Map.of(
+                PipelineCounterKey.normalized("ON_CHAIN", "NEEDS_REVIEW", true), 3L,
+                PipelineCounterKey.normalized("ON_CHAIN", "CONFIRMED", false), 40L,
+                PipelineCounterKey.reason("ON_CHAIN", PriceableFlowPolicy.PRICE_UNRESOLVABLE_REASON), 12L
+        )));
 
-        PricingDataGateSnapshot snapshot = new PricingDataGateService(mongoOperations).snapshot();
+        PricingDataGateSnapshot snapshot = service().snapshot();
 
         assertThat(snapshot.avcoReady()).isTrue();
         assertThat(snapshot.excludedNeedsReviewCount()).isEqualTo(3L);
@@ -33,14 +47,48 @@ class PricingDataGateServiceTest {
 
     @Test
     void snapshotBlocksAvcoWhenPendingPriceStillExists() {
-        when(mongoOperations.count(
-                any(org.springframework.data.mongodb.core.query.Query.class),
-                org.mockito.ArgumentMatchers.eq(NormalizedTransaction.class)
-        )).thenReturn(5L, 0L, 0L, 0L, 0L, 0L);
+        when(mongoOperations.exists(any(Query.class), eq(NormalizedTransaction.class))).thenReturn(true);
+        when(pipelineCounterStore.totals()).thenReturn(new PipelineCounterTotals(Map.of(
+                PipelineCounterKey.normalized("ON_CHAIN", "PENDING_PRICE", false), 5L
+        )));
 
-        PricingDataGateSnapshot snapshot = new PricingDataGateService(mongoOperations).snapshot();
+        PricingDataGateSnapshot snapshot = service().snapshot();
 
         assertThat(snapshot.avcoReady()).isFalse();
         assertThat(snapshot.pendingPriceCount()).isEqualTo(5L);
     }
+
+    @Test
+    void scopedSnapshotReconcilesWhenCountersDisagreeWithLiveRows() {
+        List<String> memberRefs = List.of("0xabc");
+        when(mongoOperations.exists(any(Query.class), eq(NormalizedTransaction.class))).thenReturn(true);
+        when(pipelineCounterStore.totals(memberRefs)).thenReturn(PipelineCounterTotals.empty());
+        when(pipelineCounterStore.reconcile(memberRefs)).thenReturn(new PipelineCounterTotals(Map.of(
+                PipelineCounterKey.normalized("BYBIT", "PENDING_CLARIFICATION", false), 2L
+        )));
+
+        PricingDataGateSnapshot snapshot = service().snapshot(memberRefs);
+
+        assertThat(snapshot.avcoReady()).isFalse();
+        assertThat(snapshot.pendingClarificationCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void scopedSnapshotTrustsCountersWhenTheyAgreeWithLiveRows() {
+        List<String> memberRefs = List.of("0xabc");
+        when(mongoOperations.exists(any(Query.class), eq(NormalizedTransaction.class))).thenReturn(true);
+        when(pipelineCounterStore.totals(memberRefs)).thenReturn(new PipelineCounterTotals(Map.of(
+                PipelineCounterKey.normalized("ON_CHAIN", "NEEDS_REVIEW", false), 1L
+        )));
+
+        PricingDataGateSnapshot snapshot = service().snapshot(memberRefs);
+
+        assertThat(snapshot.avcoReady()).isFalse();
+        assertThat(snapshot.needsReviewCount()).isEqualTo(1L);
+        verify(pipelineCounterStore, never()).reconcile(any());
+    }
+
+    private PricingDataGateService service() {
+        return new PricingDataGateService(mongoOperations, pipelineCounterStore);
+    }
 }
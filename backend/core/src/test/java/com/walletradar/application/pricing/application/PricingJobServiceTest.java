@@ -1,5 +1,6 @@
 package com.walletradar.application.pricing.application;
 
+import com.walletradar.application.custody.application.CustodyLedgerProjectionStore;
 import com.walletradar.domain.common.NetworkId;
 import com.walletradar.domain.common.PriceSource;
 import com.walletradar.domain.transaction.normalized.NormalizedLegRole;
@@ -8,6 +9,7 @@ import com.walletradar.domain.transaction.normalized.NormalizedTransactionReposi
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionStatus;
 import com.walletradar.domain.transaction.normalized.NormalizedTransactionType;
+import com.walletradar.platform.telemetry.PipelineCounterStore;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -36,6 +38,10 @@ class PricingJobServiceTest {
     private PriceResolutionService priceResolutionService;
     @Mock
     private BatchPriceQuoteResolver batchPriceQuoteResolver;
+    @Mock
+    private PipelineCounterStore pipelineCounterStore;
+    @Mock
+    private CustodyLedgerProjectionStore custodyLedgerProjectionStore;
 
     @Test
     void processNextBatchSavesConfirmedPricedRows() {
@@ -66,7 +72,9 @@ class PricingJobServiceTest {
                 new PricingResultMapper(),
                 batchPriceQuoteResolver,
                 properties,
-                directExecutor()
+                directExecutor(),
+                pipelineCounterStore,
+                custodyLedgerProjectionStore
         );
 
         int processed = service.processNextBatch();
@@ -100,7 +108,9 @@ class PricingJobServiceTest {
                 new PricingResultMapper(),
                 batchPriceQuoteResolver,
                 properties,
-                directExecutor()
+                directExecutor(),
+                pipelineCounterStore,
+                custodyLedgerProjectionStore
         );
 
         service.processNextBatch();
@@ -148,7 +158,9 @@ class PricingJobServiceTest {
                 new PricingResultMapper(),
                 batchPriceQuoteResolver,
                 properties,
-                directExecutor()
+                directExecutor(),
+                pipelineCounterStore,
+                custodyLedgerProjectionStore
         );
 
         int processed = service.processNextBatch();
@@ -8,11 +8,11 @@ import com.walletradar.application.session.application.SessionPipelineStateServi
 import com.walletradar.application.pipeline.config.JobHeartbeatProperties;
 import com.walletradar.platform.telemetry.PipelineTelemetrySnapshot;
 import com.walletradar.platform.telemetry.PipelineTelemetrySnapshotService;
+import com.walletradar.application.pipeline.queue.PipelineStageHandoff;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -59,7 +59,7 @@ class PricingJobTest {
         ));
 
         when(stalePriceUnresolvedRepairService.repairNextBatch(properties.getBatchSize())).thenReturn(0);
-        ApplicationEventPublisher publisher = org.mockito.Mockito.mock(ApplicationEventPublisher.class);
+        PipelineStageHandoff publisher = org.mockito.Mockito.mock(PipelineStageHandoff.class);
         SessionPipelineActivityService pipelineActivityService = org.mockito.Mockito.mock(SessionPipelineActivityService.class);
         SessionPipelineStateService pipelineStateService = org.mockito.Mockito.mock(SessionPipelineStateService.class);
         PricingJob job = new PricingJob(
@@ -105,7 +105,7 @@ class PricingJobTest {
         ));
 
         when(stalePriceUnresolvedRepairService.repairNextBatch(properties.getBatchSize())).thenReturn(0, 0);
-        ApplicationEventPublisher publisher = org.mockito.Mockito.mock(ApplicationEventPublisher.class);
+        PipelineStageHandoff publisher = org.mockito.Mockito.mock(PipelineStageHandoff.class);
         SessionPipelineActivityService pipelineActivityService = org.mockito.Mockito.mock(SessionPipelineActivityService.class);
         SessionPipelineStateService pipelineStateService = org.mockito.Mockito.mock(SessionPipelineStateService.class);
         PricingJob job = new PricingJob(
@@ -153,7 +153,7 @@ class PricingJobTest {
         ));
 
         List<Object> events = new ArrayList<>();
-        ApplicationEventPublisher publisher = events::add;
+        PipelineStageHandoff publisher = (handoffSessionId, handoffEvent) -> events.add(handoffEvent);
         SessionPipelineActivityService pipelineActivityService = org.mockito.Mockito.mock(SessionPipelineActivityService.class);
         SessionPipelineStateService pipelineStateService = org.mockito.Mockito.mock(SessionPipelineStateService.class);
         when(stalePriceUnresolvedRepairService.repairNextBatch(properties.getBatchSize())).thenReturn(0);
@@ -204,7 +204,7 @@ class PricingJobTest {
         ));
 
         List<Object> events = new ArrayList<>();
-        ApplicationEventPublisher publisher = events::add;
+        PipelineStageHandoff publisher = (handoffSessionId, handoffEvent) -> events.add(handoffEvent);
         SessionPipelineActivityService pipelineActivityService = org.mockito.Mockito.mock(SessionPipelineActivityService.class);
         SessionPipelineStateService pipelineStateService = org.mockito.Mockito.mock(SessionPipelineStateService.class);
         when(stalePriceUnresolvedRepairService.repairNextBatch(properties.getBatchSize())).thenReturn(0);
@@ -0,0 +1,155 @@
+package com.walletradar.application.pricing.latest;
+
+import com.walletradar.application.pricing.persistence.CurrentPriceQuoteDocument;
+import com.walletradar.domain.common.PriceSource;
+import com.walletradar.platform.common.concurrent.WorkerPools;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LatestPriceRefreshServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-05-01T00:00:00Z");
+
+    private final WorkerPools workerPools = new WorkerPools(1_000L);
+
+    @Mock
+    private MongoOperations mongoOperations;
+    @Mock
+    private BulkOperations bulkOperations;
+    @Mock
+    private CurrentPriceSnapshotStore snapshotStore;
+
+    @AfterEach
+    void tearDown() {
+        workerPools.close();
+    }
+
+    @Test
+    @DisplayName("providers run concurrently and their quotes land in one bulk write before the snapshot is republished")
+    void fetchesProvidersConcurrentlyAndWritesOnce() {
+        stubTrackedSymbols();
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        LatestPriceProvider bybit = provider(PriceSource.BYBIT, () -> {
+            bothStarted.countDown();
+            awaitQuietly(bothStarted, 5_000L);
+            return Map.of("ETH", quote("ETH", PriceSource.BYBIT), "BTC", quote("BTC", PriceSource.BYBIT));
+        });
+        LatestPriceProvider dzengi = provider(PriceSource.DZENGI, () -> {
+            bothStarted.countDown();
+            awaitQuietly(bothStarted, 5_000L);
+            return Map.of("ETH", quote("ETH", PriceSource.DZENGI));
+        });
+
+        LatestPriceRefreshResult result = service(List.of(bybit, dzengi), 5_000L).refresh();
+
+        assertThat(bothStarted.getCount()).isZero();
+        assertThat(result.bybitOk()).isTrue();
+        assertThat(result.dzengiOk()).isTrue();
+        verify(bulkOperations, times(3)).upsert(any(Query.class), any(Update.class));
+        verify(bulkOperations, times(1)).execute();
+        verify(snapshotStore).reload();
+    }
+
+    @Test
+    @DisplayName("a provider that misses the deadline is counted failed while the others are still persisted")
+    void slowProviderTimesOut() {
+        stubTrackedSymbols();
+        CountDownLatch release = new CountDownLatch(1);
+        LatestPriceProvider bybit = provider(PriceSource.BYBIT,
+                () -> Map.of("ETH", quote("ETH", PriceSource.BYBIT)));
+        LatestPriceProvider dzengi = provider(PriceSource.DZENGI, () -> {
+            awaitQuietly(release, 5_000L);
+            return Map.of("ETH", quote("ETH", PriceSource.DZENGI));
+        });
+
+        try {
+            LatestPriceRefreshResult result = service(List.of(bybit, dzengi), 100L).refresh();
+
+            assertThat(result.bybitOk()).isTrue();
+            assertThat(result.dzengiOk()).isFalse();
+            verify(bulkOperations, times(1)).upsert(any(Query.class), any(Update.class));
+            verify(bulkOperations, times(1)).execute();
+            verify(snapshotStore).reload();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private LatestPriceRefreshService service(List<LatestPriceProvider> providers, long timeoutMs) {
+        LatestPriceProperties properties = new LatestPriceProperties();
+        properties.setProviderTimeoutMs(timeoutMs);
+        return new LatestPriceRefreshService(mongoOperations, providers, properties, snapshotStore,
+                workerPools.executor("pricing", 4, 16));
+    }
+
+    private void stubTrackedSymbols() {
+        when(mongoOperations.find(any(Query.class), eq(TrackedPriceAssetDocument.class)))
+                .thenReturn(List.of(tracked("ETH"), tracked("BTC")));
+        when(mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, CurrentPriceQuoteDocument.class))
+                .thenReturn(bulkOperations);
+        when(snapshotStore.reload()).thenReturn(new CurrentPriceSnapshot(1L, NOW, List.of()));
+    }
+
+    private static TrackedPriceAssetDocument tracked(String symbol) {
+        TrackedPriceAssetDocument document = new TrackedPriceAssetDocument();
+        document.setId(symbol);
+        document.setSymbol(symbol);
+        document.setKind(TrackedPriceAssetDocument.Kind.CRYPTO);
+        return document;
+    }
+
+    private static NormalizedLatestQuote quote(String symbol, PriceSource source) {
+        return new NormalizedLatestQuote(symbol, new BigDecimal("100"), "USDT", source, symbol + "USDT", NOW);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch, long timeoutMs) {
+        try {
+            latch.await(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static LatestPriceProvider provider(PriceSource source, Supplier<Map<String, NormalizedLatestQuote>> fetch) {
+        return new LatestPriceProvider() {
+            @Override
+            public PriceSource source() {
+                return source;
+            }
+
+            @Override
+            public int priority() {
+                return source.ordinal();
+            }
+
+            @Override
+            public Map<String, NormalizedLatestQuote> fetchAll(Map<String, TrackedPriceAssetDocument.Kind> wantedSymbolsWithKind) {
+                return fetch.get();
+            }
+        };
+    }
+}
@@ -18,6 +18,7 @@ import com.walletradar.domain.transaction.dzengi.DzengiExtractedEvent;
 import com.walletradar.domain.transaction.externalledger.ExternalLedgerRaw;
 import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
 import com.walletradar.domain.transaction.raw.RawTransaction;
+import com.walletradar.application.pipeline.queue.PipelineStageHandoff;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,7 +27,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Query;
 
@@ -69,7 +69,7 @@ class SessionPipelineResumeSchedulerTest {
     @Mock
     private MongoOperations mongoOperations;
     @Mock
-    private ApplicationEventPublisher applicationEventPublisher;
+    private PipelineStageHandoff pipelineStageHandoff;
     @Mock
     private SessionPipelineStateService sessionPipelineStateService;
     @Mock
@@ -151,7 +151,7 @@ class SessionPipelineResumeSchedulerTest {
 
         scheduler().resumeReadySessions();
 
-        verify(applicationEventPublisher, never()).publishEvent(any());
+        verify(pipelineStageHandoff, never()).submit(any(), any());
     }
 
     @Test
@@ -288,7 +288,7 @@ class SessionPipelineResumeSchedulerTest {
 
         scheduler().resumeReadySessions();
 
-        verify(applicationEventPublisher, never()).publishEvent(any());
+        verify(pipelineStageHandoff, never()).submit(any(), any());
     }
 
     @Test
@@ -350,7 +350,7 @@ class SessionPipelineResumeSchedulerTest {
 
         scheduler().resumeReadySessions();
 
-        verify(applicationEventPublisher, never()).publishEvent(any());
+        verify(pipelineStageHandoff, never()).submit(any(), any());
     }
 
     @Test
@@ -372,7 +372,7 @@ class SessionPipelineResumeSchedulerTest {
 
         scheduler().resumeReadySessions();
 
-        verify(applicationEventPublisher).publishEvent(any(OnChainNormalizationCompletedEvent.class));
+        verify(pipelineStageHandoff).submit(any(), any(OnChainNormalizationCompletedEvent.class));
     }
 
     @Test
@@ -394,7 +394,7 @@ class SessionPipelineResumeSchedulerTest {
         when(mongoOperations.exists(any(Query.class), eq("asset_ledger_points"))).thenReturn(true);
         scheduler().resumeReadySessions();
 
-        verify(applicationEventPublisher, never()).publishEvent(any());
+        verify(pipelineStageHandoff, never()).submit(any(), any());
         verify(sessionPipelineStateService).markStageComplete(
                 "session-1",
                 UserSession.PipelineStage.ACCOUNTING_REPLAY,
@@ -474,7 +474,7 @@ class SessionPipelineResumeSchedulerTest {
                 eq(UserSession.PipelineStage.ACCOUNTING_REPLAY),
                 any()
         );
-        verify(applicationEventPublisher, never()).publishEvent(any());
+        verify(pipelineStageHandoff, never()).submit(any(), any());
     }
 
     private SessionPipelineResumeScheduler scheduler() {
@@ -504,7 +504,7 @@ class SessionPipelineResumeSchedulerTest {
                 accountingUniverseService,
                 linkingDataGateService,
                 mongoOperations,
-                applicationEventPublisher,
+                pipelineStageHandoff,
                 sessionPipelineStateService,
                 sessionPipelineActivityService
         );
@@ -512,7 +512,7 @@ class SessionPipelineResumeSchedulerTest {
 
     private <T> void assertPublishedEvent(Class<T> eventType, java.util.function.Consumer<T> assertion) {
         ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
-        verify(applicationEventPublisher).publishEvent(captor.capture());
+        verify(pipelineStageHandoff).submit(any(), captor.capture());
         assertThat(captor.getValue()).isInstanceOfSatisfying(eventType, assertion);
     }
 
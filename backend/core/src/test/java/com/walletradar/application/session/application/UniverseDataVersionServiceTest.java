@@ -0,0 +1,86 @@
+package com.walletradar.application.session.application;
+
+import com.walletradar.domain.event.AccountingReplayCompletedEvent;
+import com.walletradar.domain.session.UniverseDataVersion;
+import com.walletradar.domain.session.UserSession;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UniverseDataVersionServiceTest {
+
+    @Mock
+    private MongoOperations mongoOperations;
+
+    private static UserSession session(String accountingUniverseId) {
+        UserSession session = new UserSession();
+        session.setId("session-1");
+        session.setAccountingUniverseId(accountingUniverseId);
+        session.setUpdatedAt(Instant.parse("2026-05-01T00:00:00Z"));
+        return session;
+    }
+
+    private static UniverseDataVersion version(String id, long value) {
+        UniverseDataVersion version = new UniverseDataVersion();
+        version.setId(id);
+        version.setVersion(value);
+        return version;
+    }
+
+    @Test
+    @DisplayName("current combines the universe counter and the global counter")
+    void currentReadsUniverseAndGlobalVersions() {
+        when(mongoOperations.findOne(any(Query.class), eq(UserSession.class))).thenReturn(session("universe-1"));
+        when(mongoOperations.find(any(Query.class), eq(UniverseDataVersion.class))).thenReturn(List.of(
+                version(UniverseDataVersion.GLOBAL_ID, 4L),
+                version("universe-1", 11L)
+        ));
+
+        UniverseDataVersionService.SessionDataVersion current =
+                new UniverseDataVersionService(mongoOperations).current("session-1").orElseThrow();
+
+        assertThat(current.universeId()).isEqualTo("universe-1");
+        assertThat(current.universeVersion()).isEqualTo(11L);
+        assertThat(current.globalVersion()).isEqualTo(4L);
+        assertThat(current.sessionUpdatedAt()).isEqualTo(Instant.parse("2026-05-01T00:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("a session without an accounting universe is versioned under its own id")
+    void replayBumpsSessionUniverseFallback() {
+        when(mongoOperations.findOne(any(Query.class), eq(UserSession.class))).thenReturn(session(null));
+
+        new UniverseDataVersionService(mongoOperations)
+                .onAccountingReplayCompleted(new AccountingReplayCompletedEvent("session-1", 3, "pricing-completed"));
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoOperations).upsert(query.capture(), update.capture(), eq(UniverseDataVersion.class));
+        assertThat(query.getValue().getQueryObject().get("_id")).isEqualTo("session-1");
+        assertThat(update.getValue().getUpdateObject().toString()).contains("$inc").contains("version");
+    }
+
+    @Test
+    @DisplayName("an unknown session has no data version")
+    void unknownSessionHasNoVersion() {
+        when(mongoOperations.findOne(any(Query.class), eq(UserSession.class))).thenReturn(null);
+
+        assertThat(new UniverseDataVersionService(mongoOperations).current("missing")).isEmpty();
+    }
+}
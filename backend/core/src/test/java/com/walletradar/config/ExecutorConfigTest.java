@@ -1,11 +1,12 @@
 package com.walletradar.platform.common.config;
 
+import com.walletradar.platform.common.concurrent.BoundedExecutor;
+import com.walletradar.platform.common.concurrent.WorkerPools;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 import java.util.concurrent.Executor;
@@ -35,27 +36,27 @@ class ExecutorConfigTest {
     @Qualifier(SchedulerConfig.SCHEDULER_POOL)
     ThreadPoolTaskScheduler schedulerPool;
 
-    @Test
-    @DisplayName("backfill async executors are created with expected pool sizes")
-    void executorsCreated() {
-        assertThat(backfillCoordinatorExecutor).isNotNull();
-        assertThat(backfillExecutor).isNotNull();
-        assertThat(universeSyncPlanExecutor).isNotNull();
+    @Autowired
+    @Qualifier(AsyncConfig.BALANCE_REFRESH_EXECUTOR)
+    BoundedExecutor balanceRefreshExecutor;
 
-        if (backfillCoordinatorExecutor instanceof ThreadPoolTaskExecutor coordinator) {
-            assertThat(coordinator.getCorePoolSize()).isEqualTo(1);
-            assertThat(coordinator.getMaxPoolSize()).isEqualTo(1);
-        }
+    @Autowired
+    WorkerPools workerPools;
 
-        if (backfillExecutor instanceof ThreadPoolTaskExecutor worker) {
-            assertThat(worker.getCorePoolSize()).isEqualTo(4);
-            assertThat(worker.getMaxPoolSize()).isEqualTo(18);
-        }
+    @Test
+    @DisplayName("async executors are bounded slices of the shared worker pools")
+    void executorsCreated() {
+        assertThat(backfillCoordinatorExecutor).isInstanceOf(BoundedExecutor.class);
+        assertThat(backfillExecutor).isInstanceOf(BoundedExecutor.class);
+        assertThat(universeSyncPlanExecutor).isInstanceOf(BoundedExecutor.class);
 
-        if (universeSyncPlanExecutor instanceof ThreadPoolTaskExecutor universe) {
-            assertThat(universe.getCorePoolSize()).isEqualTo(2);
-            assertThat(universe.getMaxPoolSize()).isEqualTo(4);
-        }
+        assertThat(((BoundedExecutor) backfillCoordinatorExecutor).maxConcurrency()).isEqualTo(1);
+        assertThat(((BoundedExecutor) backfillExecutor).maxConcurrency()).isEqualTo(4);
+        assertThat(((BoundedExecutor) universeSyncPlanExecutor).maxConcurrency()).isEqualTo(2);
+        assertThat(balanceRefreshExecutor.maxConcurrency()).isEqualTo(8);
+        assertThat(workerPools.stats())
+                .extracting(BoundedExecutor.Stats::name)
+                .contains("backfill", "backfill-coord", "balance-refresh", "lp-refresh", "pipeline-stage");
     }
 
     @Test
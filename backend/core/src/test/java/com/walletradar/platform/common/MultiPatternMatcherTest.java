@@ -0,0 +1,40 @@
+package com.walletradar.platform.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MultiPatternMatcherTest {
+
+    private final MultiPatternMatcher matcher = MultiPatternMatcher.compile(List.of("he", "she", "his", "hers", "."));
+
+    @Test
+    @DisplayName("reports overlapping and suffix matches in one pass")
+    void reportsOverlappingMatches() {
+        assertThat(matcher.scan("ushers")).isEqualTo(matcher.mask(List.of("he", "she", "hers")));
+        assertThat(matcher.scan("this.")).isEqualTo(matcher.mask(List.of("his", ".")));
+    }
+
+    @Test
+    @DisplayName("non-ASCII characters break matches instead of failing")
+    void nonAsciiBreaksMatches() {
+        assertThat(matcher.scan("sЅhe")).isEqualTo(matcher.mask(List.of("he")));
+        assertThat(matcher.scan("ꓴꓢꓓС")).isZero();
+        assertThat(matcher.scan(null)).isZero();
+    }
+
+    @Test
+    @DisplayName("rejects pattern sets it cannot encode")
+    void rejectsUnsupportedPatterns() {
+        assertThatThrownBy(() -> MultiPatternMatcher.compile(List.of("")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MultiPatternMatcher.compile(List.of("Ѕ")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> matcher.mask(List.of("missing")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
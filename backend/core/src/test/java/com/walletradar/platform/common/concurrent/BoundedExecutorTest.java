@@ -0,0 +1,148 @@
+package com.walletradar.platform.common.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedExecutorTest {
+
+    private final WorkerPools workerPools = new WorkerPools(1_000L);
+
+    @AfterEach
+    void tearDown() {
+        workerPools.close();
+    }
+
+    @Test
+    @DisplayName("no more than maxConcurrency tasks run at once across all submitters")
+    void concurrencyIsBounded() throws Exception {
+        BoundedExecutor executor = workerPools.executor("bounded", 3, 100);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            int task = i;
+            futures.add(executor.submit(() -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(2);
+                running.decrementAndGet();
+                return task;
+            }));
+        }
+        for (int i = 0; i < futures.size(); i++) {
+            assertThat(futures.get(i).get(5, TimeUnit.SECONDS)).isEqualTo(i);
+        }
+
+        assertThat(peak.get()).isBetween(1, 3);
+        assertThat(executor.stats().completed()).isEqualTo(40);
+        assertThat(executor.stats().active()).isZero();
+        assertThat(executor.stats().queued()).isZero();
+    }
+
+    @Test
+    @DisplayName("submissions beyond running + queued capacity are rejected and counted")
+    void overflowIsRejected() throws Exception {
+        BoundedExecutor executor = workerPools.executor("tiny", 1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> running = executor.submit(() -> {
+            started.countDown();
+            release.await();
+            return "first";
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> queued = executor.submit(() -> "second");
+
+        assertThatThrownBy(() -> executor.submit(() -> "third")).isInstanceOf(TaskRejectedException.class);
+        assertThat(executor.stats().rejected()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+        assertThat(executor.submit(() -> "fourth").get(5, TimeUnit.SECONDS)).isEqualTo("fourth");
+    }
+
+    @Test
+    @DisplayName("invokeAll keeps task order, caps lanes and reports task failures per future")
+    void invokeAllRunsEveryTaskInOrder() throws Exception {
+        BoundedExecutor executor = workerPools.executor("lanes", 8, 8);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            int task = i;
+            tasks.add(() -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    if (task == 7) {
+                        throw new IllegalStateException("task 7");
+                    }
+                    Thread.sleep(1);
+                    return task * 10;
+                } finally {
+                    running.decrementAndGet();
+                }
+            });
+        }
+
+        List<Future<Integer>> futures = executor.invokeAll(tasks, 2);
+
+        assertThat(futures).hasSize(25).allMatch(Future::isDone);
+        assertThat(peak.get()).isBetween(1, 2);
+        for (int i = 0; i < futures.size(); i++) {
+            if (i == 7) {
+                Future<Integer> failed = futures.get(i);
+                assertThatThrownBy(failed::get).isInstanceOf(ExecutionException.class)
+                        .hasRootCauseMessage("task 7");
+            } else {
+                assertThat(futures.get(i).get()).isEqualTo(i * 10);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("invokeAll waits for the surviving lanes before rethrowing a lane failure")
+    void invokeAllAwaitsAllLanesBeforeRethrowing() {
+        BoundedExecutor executor = workerPools.executor("dying-lane", 2, 2);
+        AtomicInteger finished = new AtomicInteger();
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        tasks.add(() -> {
+            throw new OutOfMemoryError("lane 0");
+        });
+        for (int i = 1; i < 10; i++) {
+            int task = i;
+            tasks.add(() -> {
+                Thread.sleep(5);
+                finished.incrementAndGet();
+                return task;
+            });
+        }
+
+        assertThatThrownBy(() -> executor.invokeAll(tasks, 2)).isInstanceOf(OutOfMemoryError.class)
+                .hasMessage("lane 0");
+        assertThat(finished.get()).isEqualTo(9);
+        assertThat(executor.stats().active()).isZero();
+    }
+
+    @Test
+    @DisplayName("closing the pools rejects new work")
+    void closedPoolsRejectSubmissions() {
+        BoundedExecutor executor = workerPools.executor("closing", 2, 2);
+        workerPools.close();
+
+        assertThatThrownBy(() -> executor.execute(() -> { })).isInstanceOf(TaskRejectedException.class);
+    }
+}
@@ -0,0 +1,130 @@
+package com.walletradar.platform.metadata;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenMetadataStoreTest {
+
+    private static final String CONTRACT = "0x55d398326f99059ff775485246999027b3197955";
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+
+    @Test
+    @DisplayName("resolved metadata is loaded once and then served from memory")
+    void resolvedMetadataLoadedOnce() {
+        TokenMetadataStore store = store(new TokenMetadataStoreProperties());
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            TokenMetadata metadata = store.resolve("BSC", CONTRACT, "EVM_RPC", () -> {
+                loads.incrementAndGet();
+                return new TokenMetadata(18, "USDT", "Tether USD");
+            });
+            assertThat(metadata).isEqualTo(new TokenMetadata(18, "USDT", "Tether USD"));
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(store.find("BSC", CONTRACT)).contains(new TokenMetadata(18, "USDT", "Tether USD"));
+    }
+
+    @Test
+    @DisplayName("a failed lookup is negative until its TTL passes, then retried")
+    void negativeEntryExpiresAfterTtl() {
+        TokenMetadataStoreProperties properties = new TokenMetadataStoreProperties();
+        properties.setNegativeTtlMinutes(30);
+        TokenMetadataStore store = store(properties);
+        AtomicInteger loads = new AtomicInteger();
+
+        store.resolve("BSC", CONTRACT, "EVM_RPC", () -> {
+            loads.incrementAndGet();
+            return new TokenMetadata(null, "USDT", null);
+        });
+        clock.advance(Duration.ofMinutes(29));
+        TokenMetadata cached = store.resolve("BSC", CONTRACT, "EVM_RPC", () -> {
+            loads.incrementAndGet();
+            return new TokenMetadata(18, "USDT", null);
+        });
+
+        assertThat(cached.isResolved()).isFalse();
+        assertThat(cached.symbol()).isEqualTo("USDT");
+        assertThat(loads).hasValue(1);
+
+        clock.advance(Duration.ofMinutes(2));
+        assertThat(store.find("BSC", CONTRACT)).isEmpty();
+        TokenMetadata retried = store.resolve("BSC", CONTRACT, "EVM_RPC", () -> {
+            loads.incrementAndGet();
+            return new TokenMetadata(18, null, null);
+        });
+
+        assertThat(retried).isEqualTo(new TokenMetadata(18, "USDT", null));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("put keeps stored fields the new metadata leaves null")
+    void putMergesOverStoredFields() {
+        TokenMetadataStore store = store(new TokenMetadataStoreProperties());
+
+        store.put("SOLANA", "MintA", new TokenMetadata(6, null, null), "LIVE_RESOLVER");
+        TokenMetadata merged = store.put("SOLANA", "MintA", new TokenMetadata(null, "GRAM", null), "LIVE_RESOLVER");
+
+        assertThat(merged).isEqualTo(new TokenMetadata(6, "GRAM", null));
+        assertThat(store.find("SOLANA", "MintA")).contains(merged);
+    }
+
+    @Test
+    @DisplayName("the in-memory tier stays within its weight bound")
+    void memoryTierIsWeightBounded() {
+        TokenMetadataStoreProperties properties = new TokenMetadataStoreProperties();
+        properties.setMaxWeightBytes(16 * 1024);
+        TokenMetadataStore store = store(properties);
+
+        for (int i = 0; i < 2_000; i++) {
+            store.put("ETHEREUM", "0x%040x".formatted(i), new TokenMetadata(18, "TKN" + i, "Token " + i), "EVM_RPC");
+        }
+
+        assertThat(store.estimatedSize()).isLessThan(2_000L);
+        assertThat(store.estimatedSize()).isGreaterThan(0L);
+    }
+
+    private TokenMetadataStore store(TokenMetadataStoreProperties properties) {
+        return new TokenMetadataStore(null, properties, clock);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
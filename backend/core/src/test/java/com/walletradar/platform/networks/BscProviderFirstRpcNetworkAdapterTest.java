@@ -15,6 +15,7 @@ import com.walletradar.platform.networks.evm.rpc.provider.ProviderBackedRawTrans
 import com.walletradar.platform.networks.evm.rpc.support.RpcTokenTransferResolver;
 import com.walletradar.platform.networks.config.IngestionEvmRpcProperties;
 import com.walletradar.platform.networks.config.IngestionNetworkProperties;
+import com.walletradar.testsupport.TokenMetadataTestFixtures;
 import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.ratelimiter.RateLimiterConfig;
 import org.bson.Document;
@@ -277,7 +278,8 @@ class BscProviderFirstRpcNetworkAdapterTest {
                 fastLimiter(),
                 evmRpcProps(),
                 new ObjectMapper(),
-                new EvmBatchBlockSizeResolver(networkProperties(true))
+                new EvmBatchBlockSizeResolver(networkProperties(true)),
+                TokenMetadataTestFixtures.inMemoryStore()
         );
 
         List<NetworkAdapter> adapters = new ArrayList<>(List.of(nativeAdapter, bscAdapter));
@@ -297,7 +299,8 @@ class BscProviderFirstRpcNetworkAdapterTest {
                 rpcClient,
                 fastLimiter(),
                 evmRpcProps(),
-                objectMapper
+                objectMapper,
+                TokenMetadataTestFixtures.inMemoryStore()
         );
         return new BscProviderFirstRpcNetworkAdapter(
                 new AnkrTransactionsByAddressProvider(rpcClient, objectMapper, networkProperties),
@@ -0,0 +1,181 @@
+package com.walletradar.platform.networks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.walletradar.domain.common.NetworkId;
+import com.walletradar.domain.transaction.raw.RawTransaction;
+import com.walletradar.platform.common.RetryPolicy;
+import com.walletradar.platform.networks.config.IngestionEvmRpcProperties;
+import com.walletradar.platform.networks.config.IngestionNetworkProperties;
+import com.walletradar.platform.networks.evm.rpc.EvmBatchBlockSizeResolver;
+import com.walletradar.platform.networks.evm.rpc.EvmNetworkAdapter;
+import com.walletradar.platform.networks.evm.rpc.EvmRpcClient;
+import com.walletradar.platform.networks.evm.rpc.RpcRequest;
+import com.walletradar.testsupport.TokenMetadataTestFixtures;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Dense-block receipt fetching of {@link EvmNetworkAdapter}: one {@code eth_getBlockReceipts} call
+ * replaces per-hash receipts, endpoints that reject the method fall back and are remembered, and any
+ * other failure falls back for that call only.
+ */
+class EvmNetworkAdapterBlockReceiptsTest {
+
+    private static final String METHOD_NOT_FOUND = "{\"code\":-32601,\"message\":\"method not found\"}";
+    private static final String BLOCK_TOO_LARGE = "{\"code\":-32000,\"message\":\"response size exceeded\"}";
+
+    private RpcEndpointRotator rotator;
+
+    @BeforeEach
+    void setUp() {
+        rotator = new RpcEndpointRotator(List.of("https://test.rpc"), RetryPolicy.defaultPolicy());
+    }
+
+    @Test
+    void fetchTransactions_denseBlock_usesBlockReceiptsAndSkipsPerHashReceipts() {
+        String wallet = "0x1234";
+        List<String> methods = Collections.synchronizedList(new ArrayList<>());
+        EvmRpcClient rpc = denseBlockRpc(methods, null);
+        EvmNetworkAdapter denseAdapter = new EvmNetworkAdapter(
+                rpc, Map.of("ETHEREUM", rotator), rotator, fastLimiter(), evmRpcProps(), new ObjectMapper(),
+                new EvmBatchBlockSizeResolver(new IngestionNetworkProperties()), TokenMetadataTestFixtures.inMemoryStore());
+
+        List<RawTransaction> result = denseAdapter.fetchTransactions(wallet, NetworkId.ETHEREUM, 100L, 100L);
+
+        assertThat(result).extracting(RawTransaction::getTxHash).containsExactly("0xa1", "0xa2", "0xa3");
+        assertThat(result).allSatisfy(tx -> assertThat(tx.getRawData().getList("logs", Document.class)).isNotNull());
+        assertThat(methods).containsOnlyOnce("eth_getBlockReceipts");
+        assertThat(methods).doesNotContain("eth_getTransactionReceipt", "batch:eth_getTransactionReceipt");
+    }
+
+    @Test
+    void fetchTransactions_blockReceiptsUnsupported_fallsBackAndRemembersEndpoint() {
+        String wallet = "0x1234";
+        List<String> methods = Collections.synchronizedList(new ArrayList<>());
+        EvmRpcClient rpc = denseBlockRpc(methods, METHOD_NOT_FOUND);
+        EvmNetworkAdapter denseAdapter = new EvmNetworkAdapter(
+                rpc, Map.of("ETHEREUM", rotator), rotator, fastLimiter(), evmRpcProps(), new ObjectMapper(),
+                new EvmBatchBlockSizeResolver(new IngestionNetworkProperties()), TokenMetadataTestFixtures.inMemoryStore());
+
+        List<RawTransaction> first = denseAdapter.fetchTransactions(wallet, NetworkId.ETHEREUM, 100L, 100L);
+        List<RawTransaction> second = denseAdapter.fetchTransactions(wallet, NetworkId.ETHEREUM, 100L, 100L);
+
+        assertThat(first).hasSize(3);
+        assertThat(second).hasSize(3);
+        assertThat(methods).containsOnlyOnce("eth_getBlockReceipts");
+        assertThat(methods).contains("batch:eth_getTransactionReceipt");
+    }
+
+    @Test
+    void fetchTransactions_blockReceiptsCallFails_fallsBackForThatCallOnly() {
+        String wallet = "0x1234";
+        List<String> methods = Collections.synchronizedList(new ArrayList<>());
+        EvmRpcClient rpc = denseBlockRpc(methods, BLOCK_TOO_LARGE);
+        EvmNetworkAdapter denseAdapter = new EvmNetworkAdapter(
+                rpc, Map.of("ETHEREUM", rotator), rotator, fastLimiter(), evmRpcProps(), new ObjectMapper(),
+                new EvmBatchBlockSizeResolver(new IngestionNetworkProperties()), TokenMetadataTestFixtures.inMemoryStore());
+
+        List<RawTransaction> first = denseAdapter.fetchTransactions(wallet, NetworkId.ETHEREUM, 100L, 100L);
+        List<RawTransaction> second = denseAdapter.fetchTransactions(wallet, NetworkId.ETHEREUM, 100L, 100L);
+
+        assertThat(first).hasSize(3);
+        assertThat(second).hasSize(3);
+        assertThat(methods).filteredOn("eth_getBlockReceipts"::equals).hasSize(2);
+        assertThat(methods).contains("batch:eth_getTransactionReceipt");
+    }
+
+    private static EvmRpcClient denseBlockRpc(List<String> methods, String blockReceiptsError) {
+        String walletTopic = topicAddress("0x1234");
+        String counterpartyTopic = "0x0000000000000000000000000000000000000000000000000000000000005678";
+        List<String> hashes = List.of("0xa1", "0xa2", "0xa3");
+        StringBuilder logs = new StringBuilder();
+        StringBuilder blockReceipts = new StringBuilder();
+        for (String hash : hashes) {
+            String log = """
+                    {"transactionHash":"%s","blockNumber":"0x64","address":"0x00000000000000000000000000000000000000aa","topics":["0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef","%s","%s"],"data":"0x1","logIndex":"0x0"}
+                    """.formatted(hash, walletTopic, counterpartyTopic).trim();
+            String receipt = """
+                    {"transactionHash":"%s","blockNumber":"0x64","status":"0x1","logs":[%s]}
+                    """.formatted(hash, log).trim();
+            if (!logs.isEmpty()) {
+                logs.append(',');
+                blockReceipts.append(',');
+            }
+            logs.append(log);
+            blockReceipts.append(receipt);
+        }
+        blockReceipts.append(",{\"transactionHash\":\"0xother\",\"blockNumber\":\"0x64\",\"logs\":[]}");
+        String logsArray = "[" + logs + "]";
+        String receiptsArray = "[" + blockReceipts + "]";
+        return new EvmRpcClient() {
+            @Override
+            public Mono<String> call(String endpointUrl, String method, Object params) {
+                methods.add(method);
+                if ("eth_getBlockReceipts".equals(method)) {
+                    return Mono.just(blockReceiptsError != null
+                            ? "{\"jsonrpc\":\"2.0\",\"id\":1,\"error\":" + blockReceiptsError + "}"
+                            : "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":" + receiptsArray + "}");
+                }
+                return Mono.just("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":null}");
+            }
+
+            @Override
+            public Mono<String> batchCall(String endpointUrl, List<RpcRequest> requests) {
+                if (requests.isEmpty()) {
+                    return Mono.just("[]");
+                }
+                String method = requests.get(0).method();
+                methods.add("batch:" + method);
+                StringBuilder sb = new StringBuilder("[");
+                for (int i = 0; i < requests.size(); i++) {
+                    if (i > 0) {
+                        sb.append(',');
+                    }
+                    String result = switch (method) {
+                        case "eth_getLogs" -> i == 0 ? logsArray : "[]";
+                        case "eth_getTransactionReceipt" -> """
+                                {"transactionHash":"%s","blockNumber":"0x64","status":"0x1","logs":[]}
+                                """.formatted(((List<?>) requests.get(i).params()).get(0)).trim();
+                        case "eth_getBlockByNumber" -> "{\"timestamp\":\"0x5f5e100\"}";
+                        default -> "null";
+                    };
+                    sb.append("{\"jsonrpc\":\"2.0\",\"id\":").append(i + 1).append(",\"result\":").append(result).append('}');
+                }
+                return Mono.just(sb.append(']').toString());
+            }
+        };
+    }
+
+    private static String topicAddress(String address) {
+        String normalized = address.substring(2).toLowerCase();
+        return "0x" + "0".repeat(24) + normalized;
+    }
+
+    private static RateLimiter fastLimiter() {
+        RateLimiterConfig config = RateLimiterConfig.custom()
+                .limitRefreshPeriod(Duration.ofSeconds(1))
+                .limitForPeriod(1_000_000)
+                .timeoutDuration(Duration.ofMillis(1))
+                .build();
+        return RateLimiter.of("test-evm-fast-limiter", config);
+    }
+
+    private static IngestionEvmRpcProperties evmRpcProps() {
+        IngestionEvmRpcProperties props = new IngestionEvmRpcProperties();
+        props.setMaxRequestsPerSecond(100_000);
+        props.setEndpointCooldownMs(1_000);
+        return props;
+    }
+}
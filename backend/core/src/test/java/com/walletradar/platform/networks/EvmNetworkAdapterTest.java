@@ -10,6 +10,7 @@ import com.walletradar.platform.networks.evm.rpc.EvmBatchBlockSizeResolver;
 import com.walletradar.platform.networks.evm.rpc.EvmNetworkAdapter;
 import com.walletradar.platform.networks.evm.rpc.EvmRpcClient;
 import com.walletradar.platform.networks.evm.rpc.RpcRequest;
+import com.walletradar.testsupport.TokenMetadataTestFixtures;
 import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.ratelimiter.RateLimiterConfig;
 import org.bson.Document;
@@ -46,7 +47,7 @@ class EvmNetworkAdapterTest {
         EvmBatchBlockSizeResolver resolver = new EvmBatchBlockSizeResolver(properties);
         Map<String, RpcEndpointRotator> rotatorsByNetwork = Map.of("ETHEREUM", rotator, "ARBITRUM", rotator, "BSC", rotator);
         evmRpcProperties = evmRpcProps();
-        adapter = new EvmNetworkAdapter(mockRpc, rotatorsByNetwork, rotator, fastLimiter(), evmRpcProperties, new ObjectMapper(), resolver);
+        adapter = new EvmNetworkAdapter(mockRpc, rotatorsByNetwork, rotator, fastLimiter(), evmRpcProperties, new ObjectMapper(), resolver, TokenMetadataTestFixtures.inMemoryStore());
     }
 
     @Test
@@ -115,7 +116,7 @@ class EvmNetworkAdapterTest {
         properties.setNetwork(Map.of("ARBITRUM", entry(500)));
         EvmBatchBlockSizeResolver resolver = new EvmBatchBlockSizeResolver(properties);
         RpcEndpointRotator r = new RpcEndpointRotator(List.of("https://test.rpc"), RetryPolicy.defaultPolicy());
-        EvmNetworkAdapter adapterWithResolver = new EvmNetworkAdapter(mockRpc, Map.of("ARBITRUM", r), r, fastLimiter(), evmRpcProps(), new ObjectMapper(), resolver);
+        EvmNetworkAdapter adapterWithResolver = new EvmNetworkAdapter(mockRpc, Map.of("ARBITRUM", r), r, fastLimiter(), evmRpcProps(), new ObjectMapper(), resolver, TokenMetadataTestFixtures.inMemoryStore());
 
         List<RawTransaction> result = adapterWithResolver.fetchTransactions("0x1234", NetworkId.POLYGON, 1L, 10L);
         assertThat(result).isEmpty();
@@ -178,7 +179,7 @@ class EvmNetworkAdapterTest {
         RetryPolicy policy = new RetryPolicy(0, 0.0, 3);
         RpcEndpointRotator r = new RpcEndpointRotator(List.of("https://test.rpc"), policy);
         EvmBatchBlockSizeResolver resolver = new EvmBatchBlockSizeResolver(new IngestionNetworkProperties());
-        EvmNetworkAdapter splittingAdapter = new EvmNetworkAdapter(splittingRpc, Map.of("ETHEREUM", r), r, fastLimiter(), evmRpcProps(), new ObjectMapper(), resolver);
+        EvmNetworkAdapter splittingAdapter = new EvmNetworkAdapter(splittingRpc, Map.of("ETHEREUM", r), r, fastLimiter(), evmRpcProps(), new ObjectMapper(), resolver, TokenMetadataTestFixtures.inMemoryStore());
 
         // Range of 200 blocks — large enough to split (> MIN_CHUNK_SIZE=50)
         List<RawTransaction> result = splittingAdapter.fetchTransactions("0x1234", NetworkId.ETHEREUM, 1L, 200L);
@@ -197,7 +198,7 @@ class EvmNetworkAdapterTest {
         RetryPolicy policy = new RetryPolicy(0, 0.0, 3);
         RpcEndpointRotator r = new RpcEndpointRotator(List.of("https://test.rpc"), policy);
         EvmBatchBlockSizeResolver resolver = new EvmBatchBlockSizeResolver(new IngestionNetworkProperties());
-        EvmNetworkAdapter smallRangeAdapter = new EvmNetworkAdapter(errorRpc, Map.of("ETHEREUM", r), r, fastLimiter(), evmRpcProps(), new ObjectMapper(), resolver);
+        EvmNetworkAdapter smallRangeAdapter = new EvmNetworkAdapter(errorRpc, Map.of("ETHEREUM", r), r, fastLimiter(), evmRpcProps(), new ObjectMapper(), resolver, TokenMetadataTestFixtures.inMemoryStore());
 
         // Range of 10 blocks — too small to split (< MIN_CHUNK_SIZE=50), should propagate error
         assertThatThrownBy(() -> smallRangeAdapter.fetchTransactions("0x1234", NetworkId.ETHEREUM, 1L, 10L))
@@ -227,7 +228,7 @@ class EvmNetworkAdapterTest {
 
         RpcEndpointRotator r = new RpcEndpointRotator(List.of("https://test.rpc"), RetryPolicy.defaultPolicy());
         EvmBatchBlockSizeResolver resolver = new EvmBatchBlockSizeResolver(new IngestionNetworkProperties());
-        EvmNetworkAdapter batchAdapter = new EvmNetworkAdapter(trackingRpc, Map.of("ETHEREUM", r), r, fastLimiter(), evmRpcProps(), new ObjectMapper(), resolver);
+        EvmNetworkAdapter batchAdapter = new EvmNetworkAdapter(trackingRpc, Map.of("ETHEREUM", r), r, fastLimiter(), evmRpcProps(), new ObjectMapper(), resolver, TokenMetadataTestFixtures.inMemoryStore());
 
         batchAdapter.fetchTransactions("0x1234", NetworkId.ETHEREUM, 1L, 1L);
 
@@ -254,7 +255,7 @@ class EvmNetworkAdapterTest {
 
         RpcEndpointRotator r = new RpcEndpointRotator(List.of("https://test.rpc"), RetryPolicy.defaultPolicy());
         EvmBatchBlockSizeResolver resolver = new EvmBatchBlockSizeResolver(new IngestionNetworkProperties());
-        EvmNetworkAdapter fallbackAdapter = new EvmNetworkAdapter(failBatchRpc, Map.of("ETHEREUM", r), r, fastLimiter(), evmRpcProps(), new ObjectMapper(), resolver);
+        EvmNetworkAdapter fallbackAdapter = new EvmNetworkAdapter(failBatchRpc, Map.of("ETHEREUM", r), r, fastLimiter(), evmRpcProps(), new ObjectMapper(), resolver, TokenMetadataTestFixtures.inMemoryStore());
 
         List<RawTransaction> result = fallbackAdapter.fetchTransactions("0x1234", NetworkId.ETHEREUM, 1L, 1L);
 
@@ -304,7 +305,7 @@ class EvmNetworkAdapterTest {
 
         RpcEndpointRotator r = new RpcEndpointRotator(List.of("https://test.rpc"), RetryPolicy.defaultPolicy());
         EvmBatchBlockSizeResolver resolver = new EvmBatchBlockSizeResolver(new IngestionNetworkProperties());
-        EvmNetworkAdapter batchAdapter = new EvmNetworkAdapter(batchRpc, Map.of("ETHEREUM", r), r, fastLimiter(), evmRpcProps(), new ObjectMapper(), resolver);
+        EvmNetworkAdapter batchAdapter = new EvmNetworkAdapter(batchRpc, Map.of("ETHEREUM", r), r, fastLimiter(), evmRpcProps(), new ObjectMapper(), resolver, TokenMetadataTestFixtures.inMemoryStore());
 
         List<RawTransaction> result = batchAdapter.fetchTransactions("0x1234", NetworkId.ETHEREUM, 1L, 1L);
 
@@ -354,7 +355,7 @@ class EvmNetworkAdapterTest {
 
         RpcEndpointRotator r = new RpcEndpointRotator(List.of("https://test.rpc"), RetryPolicy.defaultPolicy());
         EvmBatchBlockSizeResolver resolver = new EvmBatchBlockSizeResolver(new IngestionNetworkProperties());
-        EvmNetworkAdapter mixedAdapter = new EvmNetworkAdapter(mixedRpc, Map.of("ETHEREUM", r), r, fastLimiter(), evmRpcProps(), new ObjectMapper(), resolver);
+        EvmNetworkAdapter mixedAdapter = new EvmNetworkAdapter(mixedRpc, Map.of("ETHEREUM", r), r, fastLimiter(), evmRpcProps(), new ObjectMapper(), resolver, TokenMetadataTestFixtures.inMemoryStore());
 
         List<RawTransaction> result = mixedAdapter.fetchTransactions("0x1234", NetworkId.ETHEREUM, 1L, 1L);
 
@@ -396,7 +397,8 @@ class EvmNetworkAdapterTest {
                 fastLimiter(),
                 evmRpcProps(),
                 new ObjectMapper(),
-                resolver
+                resolver,
+                TokenMetadataTestFixtures.inMemoryStore()
         );
 
         List<RawTransaction> result = adapter.fetchTransactions("0x1234", NetworkId.ETHEREUM, 1L, 1L);
@@ -444,7 +446,7 @@ class EvmNetworkAdapterTest {
         RpcEndpointRotator r = new RpcEndpointRotator(List.of("https://test.rpc"), policy);
         EvmBatchBlockSizeResolver resolver = new EvmBatchBlockSizeResolver(new IngestionNetworkProperties());
         EvmNetworkAdapter unknownBlockAdapter = new EvmNetworkAdapter(
-                unknownBlockRpc, Map.of("ETHEREUM", r), r, fastLimiter(), evmRpcProps(), new ObjectMapper(), resolver);
+                unknownBlockRpc, Map.of("ETHEREUM", r), r, fastLimiter(), evmRpcProps(), new ObjectMapper(), resolver, TokenMetadataTestFixtures.inMemoryStore());
 
         List<RawTransaction> result = unknownBlockAdapter.fetchTransactions("0x1234", NetworkId.ETHEREUM, 1L, 20L);
 
@@ -534,7 +536,8 @@ class EvmNetworkAdapterTest {
                 fastLimiter(),
                 evmRpcProps(),
                 new ObjectMapper(),
-                resolver
+                resolver,
+                TokenMetadataTestFixtures.inMemoryStore()
         );
 
         List<RawTransaction> result = bscAdapter.fetchTransactions(wallet, NetworkId.BSC, 2L, 2L);
@@ -640,7 +643,8 @@ class EvmNetworkAdapterTest {
                 fastLimiter(),
                 evmRpcProps(),
                 new ObjectMapper(),
-                resolver
+                resolver,
+                TokenMetadataTestFixtures.inMemoryStore()
         );
 
         List<RawTransaction> result = bscAdapter.fetchTransactions(wallet, NetworkId.BSC, 2L, 2L);
@@ -744,7 +748,8 @@ class EvmNetworkAdapterTest {
                 fastLimiter(),
                 evmRpcProps(),
                 new ObjectMapper(),
-                resolver
+                resolver,
+                TokenMetadataTestFixtures.inMemoryStore()
         );
 
         List<RawTransaction> result = enrichingAdapter.fetchTransactions(wallet, NetworkId.ETHEREUM, 100L, 100L);
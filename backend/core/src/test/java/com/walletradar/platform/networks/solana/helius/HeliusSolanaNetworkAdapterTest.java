@@ -5,9 +5,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.walletradar.domain.common.NetworkId;
 import com.walletradar.domain.transaction.raw.RawTransaction;
 import com.walletradar.platform.common.RetryPolicy;
+import com.walletradar.platform.common.concurrent.WorkerPools;
 import com.walletradar.platform.networks.RpcEndpointRotator;
 import com.walletradar.platform.networks.RpcException;
 import com.walletradar.platform.networks.solana.SolanaRpcClient;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,6 +22,7 @@ import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -33,6 +36,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
  *   <li>No-complete-on-partial-fetch: a mid-stream {@link RpcException} (after a full first page)
  *       is rethrown so the segment fails and retries; empty/short pages end cleanly (Fix 3).</li>
  *   <li>Token-account resolution failure falls back to owner-history-only without failing.</li>
+ *   <li>Per-ATA signature marks: ATAs are paged {@code until} the persisted mark, and new marks are
+ *       saved only after the fetch is persisted and only for uncapped walks.</li>
  * </ul>
  */
 class HeliusSolanaNetworkAdapterTest {
@@ -44,6 +49,8 @@ class HeliusSolanaNetworkAdapterTest {
             "48NMkoPb4Y7i8BQqgqSFA9jmnT4odXr5pjSjhd5kNo4xpfv1eYwLx8tQ13fW21SaHWYJ5XNyTBd1EkEAfFhNMao5";
 
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final WorkerPools workerPools = new WorkerPools(0L);
+    private final InMemoryAtaCursorStore cursorStore = new InMemoryAtaCursorStore();
     private HeliusSolanaProperties properties;
     private RpcEndpointRotator rotator;
     private long now;
@@ -56,10 +63,16 @@ class HeliusSolanaNetworkAdapterTest {
         now = Instant.now().getEpochSecond();
     }
 
+    @AfterEach
+    void tearDown() {
+        workerPools.close();
+    }
+
     private HeliusSolanaNetworkAdapter adapter(StubHeliusClient helius, SolanaRpcClient rpc) {
         return new HeliusSolanaNetworkAdapter(
                 helius, properties, objectMapper, rpc,
-                Map.of(NetworkId.SOLANA.name(), rotator), rotator, new HeliusRequestThrottle(0L));
+                Map.of(NetworkId.SOLANA.name(), rotator), rotator, new HeliusRequestThrottle(0L),
+                cursorStore, workerPools.executor("solana-ata-test", 4, 16));
     }
 
     private JsonNode node(String json) {
@@ -145,6 +158,78 @@ class HeliusSolanaNetworkAdapterTest {
         assertThat(result.get(0).getTxHash()).isEqualTo(OWNER_SIG);
     }
 
+    @Test
+    @DisplayName("ATAs are paged concurrently until their persisted mark; marks advance only after persist")
+    void fetchTransactions_pagesAtasUntilMark_andAdvancesMarkAfterPersist() {
+        String otherAta = "4Nd1mBQtrMJVYVfKf2PJy9NZUZdTAsp7D4xWLs4gDB4T";
+        String newSig = "newAtaSig111111111111111111111111111111111";
+        String otherSig = "otherAtaSig11111111111111111111111111111111";
+        cursorStore.saved.put(WALLET + "|" + ATA, INBOUND_SIG);
+        StubHeliusClient helius = new StubHeliusClient();
+        helius.setParse(newSig, node("{\"signature\":\"" + newSig + "\",\"slot\":300,\"timestamp\":" + now + "}"));
+        helius.setParse(otherSig, node("{\"signature\":\"" + otherSig + "\",\"slot\":250,\"timestamp\":" + now + "}"));
+        StubSolanaRpcClient rpc = new StubSolanaRpcClient();
+        rpc.setTokenAccounts(HeliusSolanaNetworkAdapter.TOKEN_PROGRAM_ID,
+                "[{\"pubkey\":\"" + ATA + "\"},{\"pubkey\":\"" + otherAta + "\"}]");
+        rpc.setSignatures(ATA, "[{\"signature\":\"" + newSig + "\",\"blockTime\":" + now + ",\"err\":null}]");
+        rpc.setSignatures(otherAta, "[{\"signature\":\"" + otherSig + "\",\"blockTime\":" + now + ",\"err\":null}]");
+        HeliusSolanaNetworkAdapter adapter = adapter(helius, rpc);
+
+        List<RawTransaction> result = adapter.fetchTransactions(WALLET, NetworkId.SOLANA, 0L, 0L);
+
+        assertThat(result).extracting(RawTransaction::getTxHash).containsExactlyInAnyOrder(newSig, otherSig);
+        assertThat(rpc.signatureConfigs.get(ATA)).containsEntry("until", INBOUND_SIG);
+        assertThat(rpc.signatureConfigs.get(otherAta)).doesNotContainKey("until");
+        assertThat(cursorStore.saved).containsEntry(WALLET + "|" + ATA, INBOUND_SIG);
+
+        adapter.onFetchPersisted(WALLET, NetworkId.SOLANA, List.of());
+
+        assertThat(cursorStore.saved)
+                .containsEntry(WALLET + "|" + ATA, newSig)
+                .containsEntry(WALLET + "|" + otherAta, otherSig);
+    }
+
+    @Test
+    @DisplayName("A capped walk does not advance the ATA marks")
+    void fetchTransactions_cappedWalk_doesNotStageAtaMarks() {
+        StubHeliusClient helius = new StubHeliusClient();
+        helius.addHistoryPage(List.of(node(
+                "{\"signature\":\"" + OWNER_SIG + "\",\"slot\":100,\"timestamp\":" + now + "}")));
+        helius.setParse(INBOUND_SIG, node(
+                "{\"signature\":\"" + INBOUND_SIG + "\",\"slot\":200,\"timestamp\":" + now + "}"));
+        StubSolanaRpcClient rpc = new StubSolanaRpcClient();
+        rpc.setTokenAccounts(HeliusSolanaNetworkAdapter.TOKEN_PROGRAM_ID, "[{\"pubkey\":\"" + ATA + "\"}]");
+        rpc.setSignatures(ATA, "[{\"signature\":\"" + INBOUND_SIG + "\",\"blockTime\":" + now + ",\"err\":null}]");
+        HeliusSolanaNetworkAdapter adapter = adapter(helius, rpc);
+
+        List<RawTransaction> result = adapter.fetchTransactions(WALLET, NetworkId.SOLANA, 1L, 2L);
+        adapter.onFetchPersisted(WALLET, NetworkId.SOLANA, List.of());
+
+        assertThat(result).hasSize(2);
+        assertThat(cursorStore.saved).isEmpty();
+    }
+
+    /** In-memory ATA mark store keyed {@code wallet|ata}. */
+    private static final class InMemoryAtaCursorStore implements SolanaAtaCursorStore {
+        private final Map<String, String> saved = new HashMap<>();
+
+        @Override
+        public Map<String, String> load(String walletAddress) {
+            Map<String, String> cursors = new HashMap<>();
+            saved.forEach((key, signature) -> {
+                if (key.startsWith(walletAddress + "|")) {
+                    cursors.put(key.substring(walletAddress.length() + 1), signature);
+                }
+            });
+            return cursors;
+        }
+
+        @Override
+        public void save(String walletAddress, Map<String, String> newestSignatureByTokenAccount) {
+            newestSignatureByTokenAccount.forEach((ata, signature) -> saved.put(walletAddress + "|" + ata, signature));
+        }
+    }
+
     /** Stub Helius client with queued history pages/errors and a signature→parsed-node map. */
     private static final class StubHeliusClient implements HeliusSolanaClient {
         private final Deque<Object> historyQueue = new ArrayDeque<>();
@@ -194,6 +279,7 @@ class HeliusSolanaNetworkAdapterTest {
     private static final class StubSolanaRpcClient implements SolanaRpcClient {
         private final Map<String, String> tokenAccountsByProgram = new HashMap<>();
         private final Map<String, String> signaturesByAta = new HashMap<>();
+        private final Map<String, Map<String, Object>> signatureConfigs = new ConcurrentHashMap<>();
         private boolean failTokenAccounts = false;
 
         void setTokenAccounts(String programId, String valueArrayJson) {
@@ -205,6 +291,7 @@ class HeliusSolanaNetworkAdapterTest {
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         public Mono<String> call(String endpointUrl, String method, Object params) {
             List<?> paramList = (List<?>) params;
             if ("getTokenAccountsByOwner".equals(method)) {
@@ -217,6 +304,7 @@ class HeliusSolanaNetworkAdapterTest {
             }
             if ("getSignaturesForAddress".equals(method)) {
                 String ata = String.valueOf(paramList.get(0));
+                signatureConfigs.put(ata, (Map<String, Object>) paramList.get(1));
                 String array = signaturesByAta.getOrDefault(ata, "[]");
                 return Mono.just("{\"result\":" + array + "}");
             }
@@ -0,0 +1,224 @@
+package com.walletradar.platform.networks.ton;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.walletradar.domain.common.NetworkId;
+import com.walletradar.domain.transaction.raw.RawTransaction;
+import com.walletradar.platform.networks.RpcException;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Logical-time cursor coverage for {@link TonNetworkAdapter}: lt-based paging, the persisted
+ * (lt, hash) high-water mark and per-window jetton joins by {@code trace_id}.
+ */
+class TonNetworkAdapterCursorTest {
+
+    private static final String OWNER = "UQAe4Uho4bZdfmCEqiyyuUH8ujmrsGJOwE2124OBDMVbS1Ms";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static TonNetworkProperties properties(int pageSize) {
+        TonNetworkProperties props = new TonNetworkProperties();
+        props.setPageSize(pageSize);
+        props.setJettonFetchMaxAttempts(1);
+        props.setJettonFetchBackoffMillis(0L);
+        props.setJettonWindowSlackSeconds(10L);
+        return props;
+    }
+
+    @Test
+    @DisplayName("Pages by end_lt and saves the newest tx as mark only after the fetch is persisted")
+    void fetchTransactions_pagesByLtAndPersistsMarkAfterAck() {
+        StubTonRpcClient rpc = new StubTonRpcClient(List.of(tx(500, "h5", 1_000), tx(400, "h4", 990),
+                tx(300, "h3", 980)));
+        InMemoryCursorStore store = new InMemoryCursorStore();
+        TonNetworkAdapter adapter = new TonNetworkAdapter(rpc, properties(2), objectMapper, store);
+
+        List<RawTransaction> result = adapter.fetchTransactions(OWNER, NetworkId.TON, 0L, 0L);
+
+        assertThat(result).extracting(RawTransaction::getTxHash).containsExactly("h5", "h4", "h3");
+        assertThat(rpc.transactionCalls).hasSize(2);
+        assertThat(rpc.transactionCalls.get(0)).doesNotContainKeys("end_lt", "offset", "start_lt");
+        assertThat(rpc.transactionCalls.get(1)).containsEntry("end_lt", "399");
+        assertThat(store.saved).isEmpty();
+
+        adapter.onFetchPersisted(OWNER, NetworkId.TON, result);
+
+        assertThat(store.saved).containsEntry(OWNER, new TonLtCursor(500, "h5"));
+    }
+
+    @Test
+    @DisplayName("Incremental refresh starts at the mark, skips the marked tx and advances the mark")
+    void fetchTransactions_withMark_fetchesOnlyNewerTransactions() {
+        StubTonRpcClient rpc = new StubTonRpcClient(List.of(tx(700, "h7", 1_200), tx(600, "h6", 1_100),
+                tx(500, "h5", 1_000), tx(400, "h4", 990)));
+        InMemoryCursorStore store = new InMemoryCursorStore();
+        store.saved.put(OWNER, new TonLtCursor(500, "h5"));
+        TonNetworkAdapter adapter = new TonNetworkAdapter(rpc, properties(100), objectMapper, store);
+
+        List<RawTransaction> result = adapter.fetchTransactions(OWNER, NetworkId.TON, 0L, 0L);
+        adapter.onFetchPersisted(OWNER, NetworkId.TON, result);
+
+        assertThat(result).extracting(RawTransaction::getTxHash).containsExactly("h7", "h6");
+        assertThat(rpc.transactionCalls.get(0)).containsEntry("start_lt", "500");
+        assertThat(store.saved).containsEntry(OWNER, new TonLtCursor(700, "h7"));
+    }
+
+    @Test
+    @DisplayName("A scam-dropped head tx is not used as mark; the newest persisted tx is")
+    void onFetchPersisted_headDroppedBeforePersistence_marksNewestPersistedTx() {
+        StubTonRpcClient rpc = new StubTonRpcClient(List.of(tx(700, "spam7", 1_200), tx(600, "h6", 1_100),
+                tx(500, "h5", 1_000)));
+        InMemoryCursorStore store = new InMemoryCursorStore();
+        store.saved.put(OWNER, new TonLtCursor(500, "h5"));
+        TonNetworkAdapter adapter = new TonNetworkAdapter(rpc, properties(100), objectMapper, store);
+
+        List<RawTransaction> result = adapter.fetchTransactions(OWNER, NetworkId.TON, 0L, 0L);
+        List<RawTransaction> persisted = result.stream().filter(tx -> !"spam7".equals(tx.getTxHash())).toList();
+        adapter.onFetchPersisted(OWNER, NetworkId.TON, persisted);
+
+        assertThat(result).extracting(RawTransaction::getTxHash).containsExactly("spam7", "h6");
+        assertThat(store.saved).containsEntry(OWNER, new TonLtCursor(600, "h6"));
+    }
+
+    @Test
+    @DisplayName("When every new tx is dropped the existing mark is kept")
+    void onFetchPersisted_allNewTxsDropped_keepsExistingMark() {
+        StubTonRpcClient rpc = new StubTonRpcClient(List.of(tx(700, "spam7", 1_200), tx(500, "h5", 1_000)));
+        InMemoryCursorStore store = new InMemoryCursorStore();
+        store.saved.put(OWNER, new TonLtCursor(500, "h5"));
+        TonNetworkAdapter adapter = new TonNetworkAdapter(rpc, properties(100), objectMapper, store);
+
+        List<RawTransaction> result = adapter.fetchTransactions(OWNER, NetworkId.TON, 0L, 0L);
+        adapter.onFetchPersisted(OWNER, NetworkId.TON, List.of());
+
+        assertThat(result).extracting(RawTransaction::getTxHash).containsExactly("spam7");
+        assertThat(store.saved).containsEntry(OWNER, new TonLtCursor(500, "h5"));
+    }
+
+    @Test
+    @DisplayName("A capped walk does not advance the mark")
+    void fetchTransactions_cappedWalk_doesNotStageMark() {
+        StubTonRpcClient rpc = new StubTonRpcClient(List.of(tx(500, "h5", 1_000), tx(400, "h4", 990),
+                tx(300, "h3", 980)));
+        InMemoryCursorStore store = new InMemoryCursorStore();
+        TonNetworkAdapter adapter = new TonNetworkAdapter(rpc, properties(2), objectMapper, store);
+
+        List<RawTransaction> result = adapter.fetchTransactions(OWNER, NetworkId.TON, 1L, 2L);
+        adapter.onFetchPersisted(OWNER, NetworkId.TON, result);
+
+        assertThat(result).hasSize(2);
+        assertThat(store.saved).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Jetton transfers are fetched once per contiguous time window and joined by trace_id")
+    void fetchTransactions_joinsJettonTransfersFromTimeWindows() {
+        StubTonRpcClient rpc = new StubTonRpcClient(List.of(tx(500, "h5", 1_000), tx(400, "h4", 990),
+                tx(300, "h3", 980)));
+        rpc.jettonTransfers.add(jetton("trace-h3", 975));
+        rpc.jettonTransfers.add(jetton("trace-h5", 1_003));
+        TonNetworkAdapter adapter = new TonNetworkAdapter(rpc, properties(2), objectMapper, new InMemoryCursorStore());
+
+        List<RawTransaction> result = adapter.fetchTransactions(OWNER, NetworkId.TON, 0L, 0L);
+
+        assertThat(rpc.jettonCalls).hasSize(2);
+        assertThat(rpc.jettonCalls.get(0)).containsEntry("start_utime", "980").containsEntry("end_utime", "1010");
+        assertThat(rpc.jettonCalls.get(1)).containsEntry("start_utime", "970").containsEntry("end_utime", "979");
+        assertThat(jettonsOf(result, "h5")).hasSize(1);
+        assertThat(jettonsOf(result, "h4")).isEmpty();
+        assertThat(jettonsOf(result, "h3")).hasSize(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Document> jettonsOf(List<RawTransaction> result, String hash) {
+        return result.stream()
+                .filter(tx -> hash.equals(tx.getTxHash()))
+                .findFirst()
+                .map(tx -> (List<Document>) tx.getRawData().get("jettonTransfers"))
+                .orElseThrow();
+    }
+
+    private static Map<String, Object> tx(long lt, String hash, long now) {
+        return Map.of("lt", String.valueOf(lt), "hash", hash, "now", now, "trace_id", "trace-" + hash);
+    }
+
+    private static Map<String, Object> jetton(String traceId, long utime) {
+        return Map.of("trace_id", traceId, "transaction_hash", "jw-" + traceId, "transaction_now", utime);
+    }
+
+    private static final class InMemoryCursorStore implements TonSyncCursorStore {
+        private final Map<String, TonLtCursor> saved = new HashMap<>();
+
+        @Override
+        public Optional<TonLtCursor> load(String walletAddress) {
+            return Optional.ofNullable(saved.get(walletAddress));
+        }
+
+        @Override
+        public void save(String walletAddress, TonLtCursor cursor) {
+            saved.put(walletAddress, cursor);
+        }
+    }
+
+    /** Serves a newest-first account history honouring start_lt / end_lt / limit and utime windows. */
+    private final class StubTonRpcClient implements TonRpcClient {
+        private final List<Map<String, Object>> history;
+        private final List<Map<String, Object>> jettonTransfers = new ArrayList<>();
+        private final List<Map<String, String>> transactionCalls = new ArrayList<>();
+        private final List<Map<String, String>> jettonCalls = new ArrayList<>();
+
+        StubTonRpcClient(List<Map<String, Object>> history) {
+            this.history = history;
+        }
+
+        @Override
+        public String get(String relativePath, Map<String, String> queryParams) {
+            try {
+                if ("transactions".equals(relativePath)) {
+                    transactionCalls.add(Map.copyOf(queryParams));
+                    long startLt = Long.parseLong(queryParams.getOrDefault("start_lt", "0"));
+                    long endLt = Long.parseLong(queryParams.getOrDefault("end_lt", String.valueOf(Long.MAX_VALUE)));
+                    int limit = Integer.parseInt(queryParams.get("limit"));
+                    List<Map<String, Object>> page = history.stream()
+                            .filter(tx -> {
+                                long lt = Long.parseLong((String) tx.get("lt"));
+                                return lt >= startLt && lt <= endLt;
+                            })
+                            .limit(limit)
+                            .toList();
+                    return objectMapper.writeValueAsString(Map.of("transactions", page));
+                }
+                if ("jetton/transfers".equals(relativePath)) {
+                    jettonCalls.add(Map.copyOf(queryParams));
+                    long start = Long.parseLong(queryParams.get("start_utime"));
+                    long end = Long.parseLong(queryParams.get("end_utime"));
+                    List<Map<String, Object>> window = jettonTransfers.stream()
+                            .filter(jt -> {
+                                long utime = ((Number) jt.get("transaction_now")).longValue();
+                                return utime >= start && utime <= end;
+                            })
+                            .toList();
+                    return objectMapper.writeValueAsString(Map.of("jetton_transfers", window));
+                }
+            } catch (Exception e) {
+                throw new RpcException("stub failure", e);
+            }
+            throw new RpcException("no stub for " + relativePath);
+        }
+
+        @Override
+        public long getMasterchainSeqno() {
+            return 0L;
+        }
+    }
+}
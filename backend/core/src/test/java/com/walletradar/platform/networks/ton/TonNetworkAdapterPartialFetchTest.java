@@ -11,6 +11,7 @@ import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -37,6 +38,19 @@ class TonNetworkAdapterPartialFetchTest {
         return props;
     }
 
+    private static TonSyncCursorStore noCursorStore() {
+        return new TonSyncCursorStore() {
+            @Override
+            public Optional<TonLtCursor> load(String walletAddress) {
+                return Optional.empty();
+            }
+
+            @Override
+            public void save(String walletAddress, TonLtCursor cursor) {
+            }
+        };
+    }
+
     private static String fullTransactionsPage(int count) {
         StringBuilder sb = new StringBuilder("{\"transactions\":[");
         for (int i = 0; i < count; i++) {
@@ -56,7 +70,7 @@ class TonNetworkAdapterPartialFetchTest {
         StubTonRpcClient rpc = new StubTonRpcClient();
         rpc.addTransactionsPage(fullTransactionsPage(100));
         rpc.addTransactionsError(new RpcException("TON Center HTTP 429: rate limit"));
-        TonNetworkAdapter adapter = new TonNetworkAdapter(rpc, properties(), objectMapper);
+        TonNetworkAdapter adapter = new TonNetworkAdapter(rpc, properties(), objectMapper, noCursorStore());
 
         assertThatThrownBy(() -> adapter.fetchTransactions(OWNER, NetworkId.TON, 0L, 0L))
                 .isInstanceOf(RpcException.class)
@@ -68,7 +82,7 @@ class TonNetworkAdapterPartialFetchTest {
     void fetchTransactions_shortPage_endsCleanly() {
         StubTonRpcClient rpc = new StubTonRpcClient();
         rpc.addTransactionsPage(fullTransactionsPage(1));
-        TonNetworkAdapter adapter = new TonNetworkAdapter(rpc, properties(), objectMapper);
+        TonNetworkAdapter adapter = new TonNetworkAdapter(rpc, properties(), objectMapper, noCursorStore());
 
         List<RawTransaction> result = adapter.fetchTransactions(OWNER, NetworkId.TON, 0L, 0L);
 
@@ -0,0 +1,168 @@
+package com.walletradar.platform.persistence.diagnostics;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.walletradar.application.linking.pipeline.clarification.CounterpartyEnrichmentQueryService;
+import com.walletradar.application.linking.pipeline.clarification.PendingClarificationQueryService;
+import com.walletradar.application.linking.pipeline.clarification.PendingLiFiBridgeSourceQueryService;
+import com.walletradar.application.portfolio.application.SessionTransactionsQueryService;
+import com.walletradar.application.pricing.application.PendingPricingQueryService;
+import com.walletradar.application.session.application.AccountingUniverseService;
+import com.walletradar.domain.session.UserSession;
+import com.walletradar.domain.session.UserSessionRepository;
+import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Index coverage regression suite: runs the hot query paths against a real Mongo with the
+ * annotation-declared indexes, captures every command through {@link MongoQueryShapeRecorder} and
+ * fails when the winning plan of a captured shape is a collection scan. A query that stops matching
+ * its index (a renamed field, a dropped {@code @CompoundIndex}, a new leading {@code $or}) shows up
+ * here instead of as a slow page in production. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MongoIndexCoverageIntegrationTest {
+
+    private static final String WALLET = "0x1a87f12ac07e9746e9b053b8d7ef1d45270d693f";
+
+    @Container
+    private static final MongoDBContainer MONGO_CONTAINER = new MongoDBContainer("mongo:7");
+
+    private static final List<Runnable> PENDING_EXPLAINS = new ArrayList<>();
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+    private static MongoQueryShapeRecorder recorder;
+
+    @BeforeAll
+    static void connect() {
+        MongoQueryDiagnosticsProperties properties = new MongoQueryDiagnosticsProperties();
+        properties.setExplainSampleRate(1.0d);
+        // Explains are queued and run after the query under test, outside the driver callback.
+        recorder = new MongoQueryShapeRecorder(
+                properties,
+                (database, command) -> mongoClient.getDatabase(database).runCommand(command, BsonDocument.class),
+                PENDING_EXPLAINS::add
+        );
+        mongoClient = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(MONGO_CONTAINER.getConnectionString()))
+                .addCommandListener(recorder)
+                .build());
+        mongoTemplate = new MongoTemplate(mongoClient, "index_coverage_test");
+        ensureAnnotatedIndexes(NormalizedTransaction.class);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        mongoClient.close();
+    }
+
+    @Test
+    @DisplayName("pipeline batch finders and the session transactions page are index-backed")
+    void criticalQueryShapesUseIndexes() {
+        new PendingPricingQueryService(mongoTemplate).loadNextBatch(100, 300L);
+        PendingClarificationQueryService clarification = new PendingClarificationQueryService(mongoTemplate);
+        clarification.loadNextBatch(100, 5, 300L);
+        PendingLiFiBridgeSourceQueryService lifi = new PendingLiFiBridgeSourceQueryService(mongoTemplate);
+        lifi.loadNextBatch(100);
+        lifi.loadAnchoredWithoutInboundBatch(100);
+        CounterpartyEnrichmentQueryService counterparty = new CounterpartyEnrichmentQueryService(mongoTemplate);
+        counterparty.loadBatchAfterId(null, 100);
+        counterparty.loadBatchAfterId("tx-1", 100);
+        sessionTransactions().findSessionTransactions("session-1", SessionTransactionsQueryService.normalizeQuery(
+                50, 0, "eth", null, null, null));
+
+        List<MongoQueryShapeRecorder.ShapeStats> explained = explainCapturedShapes();
+
+        assertThat(explained).hasSizeGreaterThanOrEqualTo(6);
+        assertThat(explained).allSatisfy(shape -> assertThat(shape.lastPlan().indexBacked())
+                .as("winning plan %s for %s", shape.lastPlan().stages(), shape.shape())
+                .isTrue());
+        // Sorted hot finders must read in index order, not SORT a whole batch in memory.
+        assertThat(explained).filteredOn(MongoIndexCoverageIntegrationTest::isSortedHotFinder)
+                .hasSize(2)
+                .allSatisfy(shape -> assertThat(shape.lastPlan().blockingSort())
+                        .as("winning plan %s for %s", shape.lastPlan().stages(), shape.shape())
+                        .isFalse());
+    }
+
+    @Test
+    @DisplayName("a filter on an unindexed field is reported as a collection scan")
+    void unindexedFilterIsDetected() {
+        mongoTemplate.find(Query.query(Criteria.where("indexCoverageProbe").is("x")), Document.class,
+                "normalized_transactions");
+
+        List<MongoQueryShapeRecorder.ShapeStats> explained = explainCapturedShapes().stream()
+                .filter(shape -> shape.shape().contains("indexCoverageProbe"))
+                .toList();
+
+        assertThat(explained).singleElement().satisfies(shape -> {
+            assertThat(shape.shape()).isEqualTo(
+                    "find normalized_transactions {\"filter\": {\"indexCoverageProbe\": \"?\"}}");
+            assertThat(shape.lastPlan().collectionScan()).isTrue();
+            assertThat(shape.lastPlan().indexBacked()).isFalse();
+        });
+    }
+
+    /** The pending pricing batch and the session transactions page. */
+    private static boolean isSortedHotFinder(MongoQueryShapeRecorder.ShapeStats shape) {
+        String value = shape.shape();
+        return value.startsWith("find normalized_transactions ")
+                && (value.contains("\"pricingAttempts\"") || value.contains("{\"sort\": {\"blockTimestamp\": -1"));
+    }
+
+    /** Runs the queued explains and returns the shapes they covered; the recorder is shared by all tests. */
+    private static List<MongoQueryShapeRecorder.ShapeStats> explainCapturedShapes() {
+        Map<String, Long> explainedBefore = recorder.snapshot().stream()
+                .collect(Collectors.toMap(MongoQueryShapeRecorder.ShapeStats::shape,
+                        MongoQueryShapeRecorder.ShapeStats::explained));
+        List<Runnable> explains = new ArrayList<>(PENDING_EXPLAINS);
+        PENDING_EXPLAINS.clear();
+        explains.forEach(Runnable::run);
+        return recorder.snapshot().stream()
+                .filter(shape -> shape.explained() > explainedBefore.getOrDefault(shape.shape(), 0L))
+                .toList();
+    }
+
+    private static SessionTransactionsQueryService sessionTransactions() {
+        UserSession session = new UserSession();
+        session.setId("session-1");
+        UserSessionRepository sessions = mock(UserSessionRepository.class);
+        AccountingUniverseService universes = mock(AccountingUniverseService.class);
+        when(sessions.findById("session-1")).thenReturn(Optional.of(session));
+        when(universes.resolveScope(session)).thenReturn(new AccountingUniverseService.AccountingUniverseScope(
+                "session-1", List.of(WALLET, "BYBIT:33625378"), List.of(WALLET)));
+        return new SessionTransactionsQueryService(sessions, universes, mongoTemplate);
+    }
+
+    private static void ensureAnnotatedIndexes(Class<?> documentType) {
+        MongoMappingContext mappingContext = (MongoMappingContext) mongoTemplate.getConverter().getMappingContext();
+        IndexOperations indexOperations = mongoTemplate.indexOps(documentType);
+        IndexResolver.create(mappingContext).resolveIndexFor(documentType).forEach(indexOperations::ensureIndex);
+    }
+}
@@ -0,0 +1,100 @@
+package com.walletradar.platform.persistence.diagnostics;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MongoQueryShapesTest {
+
+    @Test
+    @DisplayName("finds that differ only in literal values share one shape")
+    void literalsAreNormalized() {
+        String first = MongoQueryShapes.shapeOf("find", BsonDocument.parse("""
+                {"find": "normalized_transactions",
+                 "filter": {"walletAddress": {"$in": ["0xa", "0xb"]}, "status": "CONFIRMED",
+                            "$or": [{"pricingAttempts": {"$exists": false}}, {"updatedAt": {"$lte": {"$date": "2026-01-01T00:00:00Z"}}}]},
+                 "sort": {"blockTimestamp": 1}, "limit": 100, "$db": "walletradar", "lsid": {"id": 1}}
+                """));
+        String second = MongoQueryShapes.shapeOf("find", BsonDocument.parse("""
+                {"find": "normalized_transactions",
+                 "filter": {"walletAddress": {"$in": ["0xc"]}, "status": "PENDING_PRICE",
+                            "$or": [{"pricingAttempts": {"$exists": false}}, {"updatedAt": {"$lte": {"$date": "2026-02-01T00:00:00Z"}}}]},
+                 "sort": {"blockTimestamp": 1}, "limit": 10}
+                """));
+
+        assertThat(first).isEqualTo(second);
+        assertThat(first).isEqualTo("find normalized_transactions "
+                + "{\"filter\": {\"walletAddress\": {\"$in\": \"?\"}, \"status\": \"?\", "
+                + "\"$or\": [{\"pricingAttempts\": {\"$exists\": false}}, {\"updatedAt\": {\"$lte\": \"?\"}}]}} "
+                + "{\"sort\": {\"blockTimestamp\": 1}}");
+    }
+
+    @Test
+    @DisplayName("aggregate shapes keep stage structure and normalize $match")
+    void aggregatePipelineIsNormalized() {
+        String shape = MongoQueryShapes.shapeOf("aggregate", BsonDocument.parse("""
+                {"aggregate": "normalized_transactions",
+                 "pipeline": [{"$match": {"walletAddress": {"$in": ["0xa"]}}},
+                              {"$group": {"_id": 1, "n": {"$sum": 1}}},
+                              {"$limit": 5}],
+                 "cursor": {}}
+                """));
+
+        assertThat(shape).isEqualTo("aggregate normalized_transactions {\"pipeline\": ["
+                + "{\"$match\": {\"walletAddress\": {\"$in\": \"?\"}}}, "
+                + "{\"$group\": {\"_id\": 1, \"n\": {\"$sum\": 1}}}, "
+                + "{\"$limit\": \"?\"}]}");
+    }
+
+    @Test
+    @DisplayName("housekeeping commands have no shape and explain copies drop session fields")
+    void housekeepingIsIgnored() {
+        assertThat(MongoQueryShapes.shapeOf("hello", BsonDocument.parse("{\"hello\": 1}"))).isNull();
+        assertThat(MongoQueryShapes.shapeOf("getMore", BsonDocument.parse(
+                "{\"getMore\": {\"$numberLong\": \"7\"}, \"collection\": \"raw_transactions\"}")))
+                .isEqualTo("getMore raw_transactions");
+
+        BsonDocument explainable = MongoQueryShapes.explainable(BsonDocument.parse("""
+                {"find": "raw_transactions", "filter": {"walletAddress": "0xa"},
+                 "$db": "walletradar", "lsid": {"id": 1}, "$clusterTime": {"t": 1}, "txnNumber": 3}
+                """));
+
+        assertThat(explainable.keySet()).containsExactly("find", "filter");
+    }
+
+    @Test
+    @DisplayName("plan summary reads index use and examined counts from find and aggregate explains")
+    void planSummaryParsesExplainOutput() {
+        MongoPlanSummary indexed = MongoPlanSummary.from(BsonDocument.parse("""
+                {"queryPlanner": {"winningPlan": {"stage": "LIMIT", "inputStage": {"stage": "FETCH",
+                    "inputStage": {"stage": "IXSCAN", "indexName": "normalized_source_status_pricing_idx"}}}},
+                 "executionStats": {"nReturned": 10, "totalKeysExamined": 12, "totalDocsExamined": 10}}
+                """));
+        MongoPlanSummary scanned = MongoPlanSummary.from(BsonDocument.parse("""
+                {"queryPlanner": {"winningPlan": {"queryPlan": {"stage": "SORT",
+                    "inputStage": {"stage": "COLLSCAN"}}}},
+                 "executionStats": {"nReturned": 2, "totalKeysExamined": 0, "totalDocsExamined": 400}}
+                """));
+        MongoPlanSummary pipeline = MongoPlanSummary.from(BsonDocument.parse("""
+                {"stages": [{"$cursor": {"queryPlanner": {"winningPlan": {"stage": "PROJECTION_SIMPLE",
+                    "inputStage": {"stage": "OR", "inputStages": [
+                        {"stage": "IXSCAN", "indexName": "a_idx"}, {"stage": "IXSCAN", "indexName": "b_idx"}]}}}}},
+                            {"$sort": {"sortKey": {"blockTimestamp": -1}}}]}
+                """));
+
+        assertThat(indexed.indexBacked()).isTrue();
+        assertThat(indexed.blockingSort()).isFalse();
+        assertThat(indexed.indexes()).containsExactly("normalized_source_status_pricing_idx");
+        assertThat(indexed.docsExaminedPerReturned()).isEqualTo(1.0d);
+
+        assertThat(scanned.collectionScan()).isTrue();
+        assertThat(scanned.blockingSort()).isTrue();
+        assertThat(scanned.docsExaminedPerReturned()).isEqualTo(200.0d);
+
+        assertThat(pipeline.indexBacked()).isTrue();
+        assertThat(pipeline.indexes()).containsExactly("a_idx", "b_idx");
+        assertThat(pipeline.blockingSort()).isTrue();
+    }
+}
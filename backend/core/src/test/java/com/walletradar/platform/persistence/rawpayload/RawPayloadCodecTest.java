@@ -0,0 +1,95 @@
+package com.walletradar.platform.persistence.rawpayload;
+
+import com.walletradar.domain.transaction.raw.RawTransaction;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RawPayloadCodecTest {
+
+    private static final List<String> HOT_PATHS = List.of("hash", "timeStamp", "explorer.tokenTransfers", "jettonTransfers");
+
+    @Test
+    @DisplayName("hot paths stay inline, nested ones keep their parent, and merge restores the payload")
+    void splitAndMergeRoundTrip() {
+        Document rawData = evmPayload(7);
+
+        RawPayloadCodec.Split split = RawPayloadCodec.split(rawData, HOT_PATHS);
+
+        assertThat(split.inline().keySet()).containsExactly("hash", "timeStamp", "explorer");
+        assertThat(split.inline().get("explorer", Document.class).keySet()).containsExactly("tokenTransfers");
+        assertThat(split.remainder().keySet()).containsExactly("input", "logs", "explorer");
+        assertThat(split.remainder().get("explorer", Document.class).keySet()).containsExactly("internalTransfers");
+        assertThat(RawPayloadCodec.merge(split.inline(), split.remainder())).isEqualTo(rawData);
+        assertThat(rawData).isEqualTo(evmPayload(7));
+    }
+
+    @Test
+    @DisplayName("deflated remainder inflates back with the dictionary it was packed with")
+    void deflateWithTrainedDictionary() {
+        List<Document> samples = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            samples.add(RawPayloadCodec.split(evmPayload(i), HOT_PATHS).remainder());
+        }
+        byte[] dictionary = RawPayloadDictionaryTrainer.train(samples, 4_096);
+        Document remainder = RawPayloadCodec.split(evmPayload(99), HOT_PATHS).remainder();
+
+        byte[] plain = RawPayloadCodec.deflate(remainder, null, 6);
+        byte[] withDictionary = RawPayloadCodec.deflate(remainder, dictionary, 6);
+
+        assertThat(dictionary).isNotEmpty().hasSizeLessThanOrEqualTo(4_096);
+        assertThat(withDictionary.length).isLessThan(plain.length);
+        assertThat(RawPayloadCodec.inflate(plain, null)).isEqualTo(remainder);
+        assertThat(RawPayloadCodec.inflate(withDictionary, dictionary)).isEqualTo(remainder);
+        assertThatThrownBy(() -> RawPayloadCodec.inflate(withDictionary, null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("dictionary");
+    }
+
+    @Test
+    @DisplayName("a packed row inflates once, on first read of rawData")
+    void rawTransactionInflatesLazily() {
+        Document rawData = evmPayload(3);
+        RawPayloadCodec.Split split = RawPayloadCodec.split(rawData, HOT_PATHS);
+        RawTransaction row = new RawTransaction();
+        row.setRawData(split.inline());
+        row.setRawDataPacked(new Binary(RawPayloadCodec.deflate(split.remainder(), null, 6)));
+        AtomicInteger inflations = new AtomicInteger();
+        row.attachRawDataInflater(raw -> {
+            inflations.incrementAndGet();
+            return RawPayloadCodec.merge(raw.getRawDataInline(),
+                    RawPayloadCodec.inflate(raw.getRawDataPacked().getData(), null));
+        });
+
+        assertThat(row.getRawDataInline()).isEqualTo(split.inline());
+        assertThat(inflations).hasValue(0);
+        assertThat(row.getRawData()).isEqualTo(rawData);
+        assertThat(row.getRawData()).isEqualTo(rawData);
+        assertThat(inflations).hasValue(1);
+        assertThat(row.getRawDataPacked()).isNull();
+    }
+
+    private static Document evmPayload(int index) {
+        String wallet = "0x1111111111111111111111111111111111111111";
+        String token = "0x833589fcd6edb6e08f4c7c32d4f71b54bda02913";
+        return new Document("hash", "0x" + String.format("%064x", index))
+                .append("timeStamp", Long.toString(1_700_000_000L + index))
+                .append("input", "0xa9059cbb000000000000000000000000" + wallet.substring(2) + String.format("%064x", index * 1_000L))
+                .append("logs", List.of(new Document("address", token)
+                        .append("topics", List.of(
+                                "0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef",
+                                "0x000000000000000000000000" + wallet.substring(2)))
+                        .append("data", String.format("0x%064x", index * 1_000L))))
+                .append("explorer", new Document("tokenTransfers", List.of(new Document("contractAddress", token)
+                        .append("from", wallet).append("value", Integer.toString(index * 1_000)).append("tokenSymbol", "USDC")))
+                        .append("internalTransfers", List.of()));
+    }
+}
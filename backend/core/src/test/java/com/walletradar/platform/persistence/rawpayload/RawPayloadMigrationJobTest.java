@@ -0,0 +1,117 @@
+package com.walletradar.platform.persistence.rawpayload;
+
+import com.mongodb.bulk.BulkWriteResult;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RawPayloadMigrationJobTest {
+
+    private static final String RAW_COLLECTION = "raw_transactions";
+
+    @Mock
+    private RawPayloadStore rawPayloadStore;
+    @Mock
+    private MongoOperations mongoOperations;
+    @Mock
+    private BulkOperations bulkOperations;
+
+    private RawPayloadMigrationJob job;
+
+    @BeforeEach
+    void setUp() {
+        RawPayloadStorageProperties properties = new RawPayloadStorageProperties();
+        properties.setEnabled(true);
+        job = new RawPayloadMigrationJob(properties, rawPayloadStore, mongoOperations);
+    }
+
+    @Test
+    @DisplayName("each row is updated only while its rawData is still the payload that was packed")
+    void updatesAreConditionalOnTheReadPayload() {
+        Document first = new Document("hash", "0x01").append("input", "0xaa");
+        Document second = new Document("hash", "0x02").append("input", "0xbb");
+        stubNetwork("BASE");
+        when(mongoOperations.find(any(Query.class), eq(Document.class), eq(RAW_COLLECTION)))
+                .thenReturn(List.of(row("r1", first), row("r2", second)))
+                .thenReturn(List.of());
+        when(rawPayloadStore.pack(eq("BASE"), any(Document.class))).thenAnswer(invocation -> packed(invocation.getArgument(1)));
+        BulkWriteResult written = modified(2);
+        when(bulkOperations.execute()).thenReturn(written);
+
+        int packed = job.migrate();
+
+        assertThat(packed).isEqualTo(2);
+        ArgumentCaptor<Query> filters = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations, times(2)).updateOne(filters.capture(), updates.capture());
+        Document filter = filters.getAllValues().get(0).getQueryObject();
+        assertThat(filter.get("_id")).isEqualTo("r1");
+        assertThat(filter.get("rawData")).isEqualTo(first);
+        assertThat(filter.containsKey("rawDataPacked")).isTrue();
+        assertThat(filter.get("rawDataPacked")).isNull();
+        Document set = updates.getAllValues().get(0).getUpdateObject().get("$set", Document.class);
+        assertThat(set.get("rawData")).isEqualTo(new Document("hash", "0x01"));
+        assertThat(set.get("rawDataPacked")).isInstanceOf(Binary.class);
+    }
+
+    @Test
+    @DisplayName("a batch whose rows all changed concurrently is left to the next run")
+    void concurrentlyChangedRowsAreSkipped() {
+        stubNetwork("BASE");
+        when(mongoOperations.find(any(Query.class), eq(Document.class), eq(RAW_COLLECTION)))
+                .thenReturn(List.of(row("r1", new Document("hash", "0x01").append("input", "0xaa"))));
+        when(rawPayloadStore.pack(eq("BASE"), any(Document.class))).thenAnswer(invocation -> packed(invocation.getArgument(1)));
+        BulkWriteResult written = modified(0);
+        when(bulkOperations.execute()).thenReturn(written);
+
+        int packed = job.migrate();
+
+        assertThat(packed).isZero();
+        verify(bulkOperations).execute();
+        verify(mongoOperations, times(1)).find(any(Query.class), eq(Document.class), eq(RAW_COLLECTION));
+    }
+
+    private void stubNetwork(String networkId) {
+        when(mongoOperations.findDistinct(any(Query.class), eq("networkId"), eq(RAW_COLLECTION), eq(String.class)))
+                .thenReturn(List.of(networkId));
+        when(rawPayloadStore.currentDictionaryId(networkId)).thenReturn(Optional.of(networkId + ":1"));
+        when(mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, RAW_COLLECTION)).thenReturn(bulkOperations);
+    }
+
+    private static Document row(String id, Document rawData) {
+        return new Document("_id", id).append("rawData", rawData);
+    }
+
+    private static RawPayloadStore.Packed packed(Document rawData) {
+        RawPayloadCodec.Split split = RawPayloadCodec.split(rawData, List.of("hash"));
+        return new RawPayloadStore.Packed(split.inline(), new Binary(RawPayloadCodec.deflate(split.remainder(), null, 6)), null);
+    }
+
+    private static BulkWriteResult modified(int count) {
+        BulkWriteResult result = mock(BulkWriteResult.class);
+        when(result.getModifiedCount()).thenReturn(count);
+        return result;
+    }
+}
@@ -0,0 +1,122 @@
+package com.walletradar.platform.persistence.rawpayload;
+
+import com.walletradar.domain.transaction.raw.RawPayloadDictionaryRepository;
+import com.walletradar.domain.transaction.raw.RawTransaction;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RawTransactionPayloadCallbacksTest {
+
+    private static final String COLLECTION = "raw_transactions";
+
+    @Mock
+    private RawPayloadDictionaryRepository dictionaryRepository;
+    @Mock
+    private ObjectProvider<RawPayloadStore> storeProvider;
+
+    private RawPayloadStorageProperties properties;
+    private RawPayloadStore store;
+    private RawTransactionPayloadCallbacks callbacks;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RawPayloadStorageProperties();
+        store = new RawPayloadStore(properties, dictionaryRepository);
+        callbacks = new RawTransactionPayloadCallbacks(properties, storeProvider);
+    }
+
+    @Test
+    @DisplayName("enabled: a full payload is written packed while the entity keeps the full payload")
+    void packsFullPayloadOnSave() {
+        properties.setEnabled(true);
+        when(storeProvider.getObject()).thenReturn(store);
+        when(dictionaryRepository.findFirstByNetworkIdOrderByVersionDesc("BASE")).thenReturn(Optional.empty());
+        RawTransaction entity = row(payload());
+        Document document = new Document("_id", entity.getId()).append("rawData", payload());
+
+        callbacks.onBeforeSave(entity, document, COLLECTION);
+
+        RawPayloadCodec.Split split = RawPayloadCodec.split(payload(), properties.getHotPaths());
+        assertThat(document.get("rawData", Document.class)).isEqualTo(split.inline());
+        assertThat(document.get("rawDataPacked")).isInstanceOf(Binary.class);
+        assertThat(RawPayloadCodec.inflate(document.get("rawDataPacked", Binary.class).getData(), null))
+                .isEqualTo(split.remainder());
+        assertThat(document.get("rawDataDictionaryId")).isNull();
+        assertThat(entity.getRawData()).isEqualTo(payload());
+    }
+
+    @Test
+    @DisplayName("a packed row saved without reading rawData keeps the packed form it was loaded with")
+    void packedRowSavedUnreadStaysPacked() {
+        properties.setEnabled(true);
+        RawPayloadCodec.Split split = RawPayloadCodec.split(payload(), properties.getHotPaths());
+        Binary packed = new Binary(RawPayloadCodec.deflate(split.remainder(), null, 6));
+        RawTransaction entity = row(split.inline());
+        entity.setRawDataPacked(packed);
+        Document document = new Document("_id", entity.getId())
+                .append("rawData", split.inline())
+                .append("rawDataPacked", packed);
+        Document written = new Document(document);
+
+        callbacks.onBeforeSave(entity, document, COLLECTION);
+
+        assertThat(document).isEqualTo(written);
+        verifyNoInteractions(storeProvider);
+    }
+
+    @Test
+    @DisplayName("disabled: the row is written unpacked")
+    void disabledWritesUnpacked() {
+        RawTransaction entity = row(payload());
+        Document document = new Document("_id", entity.getId()).append("rawData", payload());
+
+        callbacks.onBeforeSave(entity, document, COLLECTION);
+
+        assertThat(document).isEqualTo(new Document("_id", entity.getId()).append("rawData", payload()));
+        verifyNoInteractions(storeProvider);
+    }
+
+    @Test
+    @DisplayName("a loaded packed row inflates through the store on first read")
+    void loadedPackedRowInflatesThroughStore() {
+        when(storeProvider.getObject()).thenReturn(store);
+        RawPayloadCodec.Split split = RawPayloadCodec.split(payload(), properties.getHotPaths());
+        RawTransaction entity = row(split.inline());
+        entity.setRawDataPacked(new Binary(RawPayloadCodec.deflate(split.remainder(), null, 6)));
+
+        callbacks.onAfterConvert(entity, new Document(), COLLECTION);
+
+        assertThat(entity.getRawData()).isEqualTo(payload());
+    }
+
+    private static RawTransaction row(Document rawData) {
+        RawTransaction row = new RawTransaction();
+        row.setId("0xabc:BASE");
+        row.setNetworkId("BASE");
+        row.setRawData(rawData);
+        return row;
+    }
+
+    private static Document payload() {
+        return new Document("hash", "0xabc")
+                .append("blockNumber", "123")
+                .append("input", "0xa9059cbb" + "0".repeat(128))
+                .append("logs", List.of(new Document("address", "0x833589fcd6edb6e08f4c7c32d4f71b54bda02913")
+                        .append("data", "0x" + "0".repeat(63) + "1")));
+    }
+}
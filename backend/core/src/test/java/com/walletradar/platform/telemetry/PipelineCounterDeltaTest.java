@@ -0,0 +1,71 @@
+package com.walletradar.platform.telemetry;
+
+import com.walletradar.domain.transaction.normalized.MissingDataReasons;
+import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionStatus;
+import com.walletradar.domain.transaction.raw.NormalizationStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PipelineCounterDeltaTest {
+
+    @Test
+    void statusTransitionMovesOneRowBetweenBuckets() {
+        NormalizedTransaction transaction = transaction(NormalizedTransactionStatus.PENDING_PRICE);
+        PipelineCounterDelta.Snapshot before = PipelineCounterDelta.snapshot(transaction);
+        transaction.setStatus(NormalizedTransactionStatus.PENDING_STAT);
+        transaction.setMissingDataReasons(List.of(MissingDataReasons.PRICE_UNRESOLVABLE));
+
+        PipelineCounterDelta delta = new PipelineCounterDelta().normalized(before, transaction);
+
+        assertThat(delta.byMemberRef()).containsOnlyKeys("0xwallet");
+        assertThat(delta.byMemberRef().get("0xwallet")).containsExactlyInAnyOrderEntriesOf(Map.of(
+                PipelineCounterKey.normalized("ON_CHAIN", "PENDING_PRICE", false), -1L,
+                PipelineCounterKey.normalized("ON_CHAIN", "PENDING_STAT", false), 1L,
+                PipelineCounterKey.reason("ON_CHAIN", MissingDataReasons.PRICE_UNRESOLVABLE), 1L
+        ));
+    }
+
+    @Test
+    void unchangedRowsAndOffsettingMovesCancelOut() {
+        NormalizedTransaction transaction = transaction(NormalizedTransactionStatus.CONFIRMED);
+        PipelineCounterDelta delta = new PipelineCounterDelta()
+                .normalized(PipelineCounterDelta.snapshot(transaction), transaction)
+                .raw("0xwallet", NormalizationStatus.PENDING, NormalizationStatus.COMPLETE)
+                .raw("0xwallet", NormalizationStatus.COMPLETE, NormalizationStatus.PENDING);
+
+        assertThat(delta.isEmpty()).isTrue();
+    }
+
+    @Test
+    void totalsFilterBySourceAccountingAndStatus() {
+        PipelineCounterTotals totals = new PipelineCounterTotals(Map.of(
+                PipelineCounterKey.normalized("ON_CHAIN", "NEEDS_REVIEW", false), 2L,
+                PipelineCounterKey.normalized("ON_CHAIN", "NEEDS_REVIEW", true), 3L,
+                PipelineCounterKey.normalized("BYBIT", "CONFIRMED", false), 5L,
+                PipelineCounterKey.raw("PENDING"), 7L
+        ));
+
+        assertThat(totals.normalized(null, PipelineCounterTotals.Accounting.ANY)).isEqualTo(10L);
+        assertThat(totals.normalized(NormalizedTransactionSource.ON_CHAIN, PipelineCounterTotals.Accounting.EXCLUDED))
+                .isEqualTo(3L);
+        assertThat(totals.normalized(null, PipelineCounterTotals.Accounting.ACTIVE, NormalizedTransactionStatus.NEEDS_REVIEW))
+                .isEqualTo(2L);
+        assertThat(totals.raw(NormalizationStatus.PENDING)).isEqualTo(7L);
+        assertThat(totals.raw(NormalizationStatus.COMPLETE)).isZero();
+    }
+
+    private static NormalizedTransaction transaction(NormalizedTransactionStatus status) {
+        NormalizedTransaction transaction = new NormalizedTransaction();
+        transaction.setId("tx-1");
+        transaction.setWalletAddress("0xwallet");
+        transaction.setSource(NormalizedTransactionSource.ON_CHAIN);
+        transaction.setStatus(status);
+        return transaction;
+    }
+}
@@ -0,0 +1,162 @@
+package com.walletradar.platform.telemetry;
+
+import com.walletradar.domain.pipeline.PipelineCounter;
+import com.walletradar.domain.transaction.normalized.MissingDataReasons;
+import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionStatus;
+import com.walletradar.domain.transaction.raw.NormalizationStatus;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PipelineCounterStoreTest {
+
+    @Mock
+    private MongoOperations mongoOperations;
+    @Mock
+    private BulkOperations bulkOperations;
+
+    private PipelineCounterStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new PipelineCounterStore(mongoOperations);
+    }
+
+    @Test
+    void applyIncrementsEveryMovedBucket() {
+        stubBulkOps();
+        NormalizedTransaction transaction = new NormalizedTransaction();
+        transaction.setWalletAddress("0xwallet");
+        transaction.setSource(NormalizedTransactionSource.ON_CHAIN);
+        transaction.setStatus(NormalizedTransactionStatus.PENDING_PRICE);
+        PipelineCounterDelta.Snapshot before = PipelineCounterDelta.snapshot(transaction);
+        transaction.setStatus(NormalizedTransactionStatus.CONFIRMED);
+        PipelineCounterDelta delta = new PipelineCounterDelta()
+                .normalized(before, transaction)
+                .raw("0xwallet", NormalizationStatus.PENDING, NormalizationStatus.COMPLETE);
+
+        store.apply(delta);
+
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations, times(4)).upsert(queries.capture(), updates.capture());
+        verify(bulkOperations).execute();
+        Map<String, Object> incById = new LinkedHashMap<>();
+        for (int i = 0; i < queries.getAllValues().size(); i++) {
+            Document inc = updates.getAllValues().get(i).getUpdateObject().get("$inc", Document.class);
+            incById.put(queries.getAllValues().get(i).getQueryObject().getString("_id"), inc.get("count"));
+        }
+        assertThat(incById).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "0xwallet|NORMALIZED|ON_CHAIN|PENDING_PRICE|active|", -1L,
+                "0xwallet|NORMALIZED|ON_CHAIN|CONFIRMED|active|", 1L,
+                "0xwallet|RAW||PENDING|active|", -1L,
+                "0xwallet|RAW||COMPLETE|active|", 1L
+        ));
+        Document setOnInsert = updates.getAllValues().get(0).getUpdateObject().get("$setOnInsert", Document.class);
+        assertThat(setOnInsert).containsEntry("memberRef", "0xwallet");
+    }
+
+    @Test
+    void failedApplyIsLeftToReconciliation() {
+        stubBulkOps();
+        when(bulkOperations.execute()).thenThrow(new IllegalStateException("write concern"));
+
+        store.apply(new PipelineCounterDelta().raw("0xwallet", null, NormalizationStatus.PENDING));
+
+        verify(bulkOperations).execute();
+    }
+
+    @Test
+    void reconcileOverwritesDriftedCountersAndDropsEmptiedBuckets() {
+        stubBulkOps();
+        when(mongoOperations.aggregate(any(Aggregation.class), eq(NormalizedTransaction.class), eq(Document.class)))
+                .thenReturn(results(
+                        row(new Document("walletAddress", "0xwallet").append("source", "ON_CHAIN")
+                                .append("status", "PENDING_PRICE").append("excludedFromAccounting", null), 3),
+                        row(new Document("walletAddress", null).append("source", "BYBIT")
+                                .append("status", "CONFIRMED").append("excludedFromAccounting", true), 2)
+                ))
+                .thenReturn(results(
+                        row(new Document("walletAddress", "0xwallet").append("source", "ON_CHAIN")
+                                .append("missingDataReasons", MissingDataReasons.PRICE_UNRESOLVABLE), 1)
+                ));
+        when(mongoOperations.aggregate(any(Aggregation.class), eq("raw_transactions"), eq(Document.class)))
+                .thenReturn(results(
+                        row(new Document("walletAddress", "0xwallet").append("normalizationStatus", "PENDING"), 4)
+                ));
+
+        PipelineCounterTotals totals = store.reconcile(List.of("0xwallet", "0xstale"));
+
+        assertThat(totals.normalized(null, PipelineCounterTotals.Accounting.ANY, NormalizedTransactionStatus.PENDING_PRICE))
+                .isEqualTo(3L);
+        assertThat(totals.normalized(NormalizedTransactionSource.BYBIT, PipelineCounterTotals.Accounting.EXCLUDED))
+                .isEqualTo(2L);
+        assertThat(totals.reason(null, MissingDataReasons.PRICE_UNRESOLVABLE)).isEqualTo(1L);
+        assertThat(totals.raw(NormalizationStatus.PENDING)).isEqualTo(4L);
+
+        ArgumentCaptor<Object> replacements = ArgumentCaptor.forClass(Object.class);
+        verify(bulkOperations, times(4)).replaceOne(any(Query.class), replacements.capture(), any(FindAndReplaceOptions.class));
+        Map<String, Long> countById = replacements.getAllValues().stream()
+                .map(PipelineCounter.class::cast)
+                .collect(Collectors.toMap(PipelineCounter::getId, PipelineCounter::getCount));
+        assertThat(countById).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "0xwallet|NORMALIZED|ON_CHAIN|PENDING_PRICE|active|", 3L,
+                "-|NORMALIZED|BYBIT|CONFIRMED|excluded|", 2L,
+                "0xwallet|NORMALIZED_REASON|ON_CHAIN||active|" + MissingDataReasons.PRICE_UNRESOLVABLE, 1L,
+                "0xwallet|RAW||PENDING|active|", 4L
+        ));
+        verify(bulkOperations).execute();
+
+        // Counters of the member set that were not recounted (drifted buckets now at zero) are removed.
+        ArgumentCaptor<Query> removal = ArgumentCaptor.forClass(Query.class);
+        verify(mongoOperations).remove(removal.capture(), eq(PipelineCounter.class));
+        Document filter = removal.getValue().getQueryObject();
+        assertThat(filter.get("memberRef", Document.class).getList("$in", String.class))
+                .containsExactly("0xwallet", "0xstale");
+        assertThat(filter.get("_id", Document.class).getList("$nin", String.class))
+                .containsExactlyInAnyOrderElementsOf(countById.keySet());
+    }
+
+    @Test
+    void reconcileWithoutMembersTouchesNothing() {
+        assertThat(store.reconcile(List.of()).counts()).isEmpty();
+    }
+
+    private void stubBulkOps() {
+        when(mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, PipelineCounter.class)).thenReturn(bulkOperations);
+    }
+
+    private static AggregationResults<Document> results(Document... rows) {
+        return new AggregationResults<>(List.of(rows), new Document());
+    }
+
+    private static Document row(Document id, long count) {
+        return new Document("_id", id).append("count", count);
+    }
+}
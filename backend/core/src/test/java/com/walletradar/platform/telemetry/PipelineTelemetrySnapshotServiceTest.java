@@ -2,13 +2,15 @@ package com.walletradar.platform.telemetry;
 
 import com.walletradar.domain.transaction.bybit.BybitExtractedEvent;
 import com.walletradar.domain.transaction.externalledger.ExternalLedgerRaw;
-import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
+import com.walletradar.domain.transaction.normalized.MissingDataReasons;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.mongodb.core.MongoOperations;
 
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -19,17 +21,27 @@ class PipelineTelemetrySnapshotServiceTest {
 
     @Mock
     private MongoOperations mongoOperations;
+    @Mock
+    private PipelineCounterStore pipelineCounterStore;
 
     @Test
-    void snapshotAggregatesOperationalCountersAcrossCollections() {
-        when(mongoOperations.count(any(org.springframework.data.mongodb.core.query.Query.class), eq(NormalizedTransaction.class)))
-                .thenReturn(10L, 2L, 1L, 3L, 4L, 6L, 2L);
+    void snapshotReadsPipelineCountersAndStagingCollections() {
+        when(pipelineCounterStore.totals()).thenReturn(new PipelineCounterTotals(Map.of(
+                PipelineCounterKey.normalized("ON_CHAIN", "CONFIRMED", false), 2L,
+                PipelineCounterKey.normalized("ON_CHAIN", "NEEDS_REVIEW", false), 6L,
+                PipelineCounterKey.normalized("ON_CHAIN", "NEEDS_REVIEW", true), 2L,
+                PipelineCounterKey.normalized("BYBIT", "PENDING_STAT", false), 1L,
+                PipelineCounterKey.normalized("BYBIT", "CONFIRMED", false), 1L,
+                PipelineCounterKey.reason("BYBIT", PipelineCounterKey.ORPHAN_UTA_REASON), 3L,
+                PipelineCounterKey.reason("ON_CHAIN", MissingDataReasons.PRICE_UNRESOLVABLE), 4L,
+                PipelineCounterKey.raw("PENDING"), 9L
+        )));
         when(mongoOperations.count(any(org.springframework.data.mongodb.core.query.Query.class), eq(ExternalLedgerRaw.class)))
                 .thenReturn(5L);
         when(mongoOperations.count(any(org.springframework.data.mongodb.core.query.Query.class), eq(BybitExtractedEvent.class)))
                 .thenReturn(7L);
 
-        PipelineTelemetrySnapshot snapshot = new PipelineTelemetrySnapshotService(mongoOperations).snapshot();
+        PipelineTelemetrySnapshot snapshot = new PipelineTelemetrySnapshotService(mongoOperations, pipelineCounterStore).snapshot();
 
         assertThat(snapshot.onChainNormalizedCount()).isEqualTo(10L);
         assertThat(snapshot.bybitNormalizedCount()).isEqualTo(2L);
@@ -0,0 +1,26 @@
+package com.walletradar.testsupport;
+
+import com.walletradar.application.custody.application.CustodyLedgerProjectionStore;
+import com.walletradar.application.linking.pipeline.LinkingTransactionWriter;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionRepository;
+import com.walletradar.platform.telemetry.PipelineCounterStore;
+import org.mockito.Mockito;
+
+/**
+ * Builds a {@link LinkingTransactionWriter} over a test's repository mock, so linking service tests
+ * keep stubbing and verifying {@code save}/{@code saveAll} on the repository itself. The counter and
+ * projection stores are plain mocks.
+ */
+public final class LinkingTransactionWriterTestFixtures {
+
+    private LinkingTransactionWriterTestFixtures() {
+    }
+
+    public static LinkingTransactionWriter linkingWriter(NormalizedTransactionRepository repository) {
+        return new LinkingTransactionWriter(
+                repository,
+                Mockito.mock(PipelineCounterStore.class),
+                Mockito.mock(CustodyLedgerProjectionStore.class)
+        );
+    }
+}
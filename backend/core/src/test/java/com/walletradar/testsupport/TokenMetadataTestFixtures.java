@@ -0,0 +1,17 @@
+package com.walletradar.testsupport;
+
+import com.walletradar.platform.metadata.TokenMetadataStore;
+import com.walletradar.platform.metadata.TokenMetadataStoreProperties;
+
+/**
+ * {@link TokenMetadataStore} without the Mongo tier, for adapters constructed outside the Spring context.
+ */
+public final class TokenMetadataTestFixtures {
+
+    private TokenMetadataTestFixtures() {
+    }
+
+    public static TokenMetadataStore inMemoryStore() {
+        return new TokenMetadataStore(null, new TokenMetadataStoreProperties());
+    }
+}
@@ -0,0 +1,171 @@
+package com.walletradar.testsupport.load;
+
+import com.walletradar.testsupport.load.LoadStandInServer.Request;
+import com.walletradar.testsupport.load.LoadStandInServer.Response;
+import com.walletradar.testsupport.load.SyntheticActivity.Kind;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+import static com.walletradar.testsupport.load.LoadStandInServer.obj;
+
+/**
+ * Bybit v5 stand-in mounted at {@code /bybit}. Serves the private endpoints {@code BybitApiClient}
+ * calls (signatures are not checked): credential validation, sub-members, live balances, and the
+ * history streams, of which {@code /v5/account/transaction-log} carries the synthetic activity and
+ * every other stream pages empty. Also serves the public {@code /v5/market/kline} and
+ * {@code /v5/market/tickers} the pricing resolvers use, with a deterministic minute-level price path
+ * per symbol.
+ *
+ * <p>Ledger row {@code i} is {@value #SECONDS_PER_TX}s after its predecessor and the last one is at
+ * {@code anchorEpochSecond}. Swaps produce a BTC/USDT trade pair; transfers move USDT or BTC.</p>
+ */
+public final class BybitStandIn implements LoadStandInServer.StandIn {
+
+    public static final String PREFIX = "/bybit";
+    public static final int SECONDS_PER_TX = 30;
+    static final String USER_ID = "900001";
+    private static final Map<String, BigDecimal> BASE_PRICES = Map.of(
+            "BTCUSDT", new BigDecimal("60000"),
+            "ETHUSDT", new BigDecimal("3000"),
+            "SOLUSDT", new BigDecimal("150"),
+            "BNBUSDT", new BigDecimal("600"),
+            "TONUSDT", new BigDecimal("5"),
+            "USDCUSDT", BigDecimal.ONE
+    );
+
+    static final ToIntFunction<Kind> LEDGER_ROWS = kind -> kind == Kind.SWAP ? 2 : 1;
+
+    private final long anchorEpochSecond;
+    private final SyntheticActivity activity;
+
+    /** {@code activity} may be {@code null} when only the market endpoints are needed. */
+    public BybitStandIn(long anchorEpochSecond, SyntheticActivity activity) {
+        this.anchorEpochSecond = anchorEpochSecond;
+        this.activity = activity;
+    }
+
+    public static String baseUrl(LoadStandInServer server) {
+        return server.url(PREFIX);
+    }
+
+    @Override
+    public Response handle(Request request) {
+        if (!"GET".equals(request.method()) || !request.path().startsWith(PREFIX + "/v5/")) {
+            return null;
+        }
+        String path = request.path().substring(PREFIX.length());
+        String route = "bybit " + path;
+        return switch (path) {
+            case "/v5/market/kline" -> kline(route, request);
+            case "/v5/market/tickers" -> Response.ok(route, envelope(obj("category", "spot", "list", tickers())));
+            case "/v5/user/query-api" -> Response.ok(route, envelope(obj("id", "1", "apiKey", "load", "readOnly", 1,
+                    "permissions", obj("Wallet", List.of("AccountTransfer")), "type", 1, "userID", USER_ID, "uta", 1)));
+            case "/v5/user/query-sub-members" -> Response.ok(route, envelope(obj("subMembers", List.of(), "nextCursor", "")));
+            case "/v5/account/wallet-balance" -> Response.ok(route, envelope(obj("list",
+                    List.of(obj("accountType", "UNIFIED", "coin", List.of())))));
+            case "/v5/asset/transfer/query-account-coins-balance" -> Response.ok(route,
+                    envelope(obj("accountType", "FUND", "memberId", USER_ID, "balance", List.of())));
+            case "/v5/account/transaction-log" -> Response.ok(route, envelope(transactionLog(request)));
+            default -> Response.ok(route, envelope(obj("list", List.of(), "nextPageCursor", "")));
+        };
+    }
+
+    private Map<String, Object> transactionLog(Request request) {
+        if (activity == null || activity.size() == 0) {
+            return obj("list", List.of(), "nextPageCursor", "");
+        }
+        long size = activity.size();
+        long anchorMs = anchorEpochSecond * 1_000L;
+        long stepMs = SECONDS_PER_TX * 1_000L;
+        long start = request.longParam("startTime", 0L);
+        long end = request.longParam("endTime", anchorMs);
+        long lo = Math.max(0L, size - 1 - Math.floorDiv(anchorMs - start, stepMs));
+        long hiEnd = Math.min(size, Math.max(0L, size + Math.floorDiv(-(anchorMs - end), stepMs)));
+        long firstRow = activity.rowsBefore(lo, LEDGER_ROWS);
+        long endRow = activity.rowsBefore(hiEnd, LEDGER_ROWS);
+        long offset = Math.max(0L, request.longParam("cursor", 0L));
+        long limit = Math.max(1L, request.longParam("limit", 50L));
+        List<Object> rows = new ArrayList<>();
+        long row = endRow - 1 - offset;
+        for (; row >= firstRow && rows.size() < limit; row--) {
+            long index = activity.indexOfRow(row, LEDGER_ROWS);
+            rows.add(ledgerRow(index, (int) (row - activity.rowsBefore(index, LEDGER_ROWS)), anchorMs - (size - 1 - index) * stepMs));
+        }
+        String next = row >= firstRow ? Long.toString(offset + rows.size()) : "";
+        return obj("list", rows, "nextPageCursor", next);
+    }
+
+    private Map<String, Object> ledgerRow(long index, int leg, long timeMs) {
+        Kind kind = activity.kind(index);
+        String currency = kind == Kind.SWAP ? (leg == 0 ? "BTC" : "USDT") : (index % 2 == 0 ? "USDT" : "BTC");
+        BigDecimal qty;
+        String type;
+        BigDecimal price = price("BTCUSDT", timeMs);
+        switch (kind) {
+            case NATIVE_IN, TOKEN_IN -> {
+                type = "TRANSFER_IN";
+                qty = amount(currency, activity.amount(index, 0, 500_000L));
+            }
+            case NATIVE_OUT, TOKEN_OUT -> {
+                type = "TRANSFER_OUT";
+                qty = amount(currency, activity.amount(index, 0, 200_000L)).negate();
+            }
+            default -> {
+                type = "TRADE";
+                BigDecimal btc = amount("BTC", activity.amount(index, 0, 100_000L));
+                qty = leg == 0 ? btc : btc.multiply(price).setScale(4, RoundingMode.HALF_UP).negate();
+            }
+        }
+        boolean trade = kind == Kind.SWAP;
+        return obj("id", index + "-" + leg, "symbol", trade ? "BTCUSDT" : "", "category", trade ? "spot" : "",
+                "side", trade ? "Buy" : "None", "transactionTime", Long.toString(timeMs), "type", type,
+                "qty", trade ? qty.abs().toPlainString() : "", "size", "0", "currency", currency,
+                "tradePrice", trade ? price.toPlainString() : "", "funding", "", "fee", "0", "cashFlow", qty.toPlainString(),
+                "change", qty.toPlainString(), "cashBalance", "0", "feeRate", "", "bonusChange", "",
+                "tradeId", trade ? "t-" + index : "", "orderId", trade ? "o-" + index : "", "orderLinkId", "");
+    }
+
+    /** USDT in cents, BTC in 1e-6 units. */
+    private static BigDecimal amount(String currency, long units) {
+        return "BTC".equals(currency) ? BigDecimal.valueOf(units, 6) : BigDecimal.valueOf(units, 2);
+    }
+
+    private Response kline(String route, Request request) {
+        String symbol = String.valueOf(request.param("symbol")).toUpperCase(Locale.ROOT);
+        if (!BASE_PRICES.containsKey(symbol)) {
+            return Response.ok(route, obj("retCode", 10001, "retMsg", "Not supported symbols", "result", obj(), "time", anchorEpochSecond * 1_000L));
+        }
+        long startMs = request.longParam("start", anchorEpochSecond * 1_000L);
+        long minute = Math.floorDiv(startMs, 60_000L) * 60_000L;
+        String close = price(symbol, minute).toPlainString();
+        List<String> candle = List.of(Long.toString(minute), close, close, close, close, "1", close);
+        return Response.ok(route, envelope(obj("category", "spot", "symbol", symbol, "list", List.of(candle))));
+    }
+
+    private List<Object> tickers() {
+        List<Object> out = new ArrayList<>();
+        BASE_PRICES.keySet().stream().sorted().forEach(symbol ->
+                out.add(obj("symbol", symbol, "lastPrice", price(symbol, anchorEpochSecond * 1_000L).toPlainString())));
+        return out;
+    }
+
+    /** Base price moved by at most ±5% along a deterministic per-minute walk. */
+    static BigDecimal price(String symbol, long timeMs) {
+        BigDecimal base = BASE_PRICES.getOrDefault(symbol, BigDecimal.ONE);
+        if (base.compareTo(BigDecimal.ONE) == 0) {
+            return base;
+        }
+        long bucket = Long.remainderUnsigned(SyntheticActivity.mix(symbol.hashCode(), Math.floorDiv(timeMs, 60_000L), 0x9c), 101L);
+        return base.multiply(BigDecimal.valueOf(1_000L + bucket - 50L, 3)).setScale(4, RoundingMode.HALF_UP);
+    }
+
+    private Map<String, Object> envelope(Map<String, Object> result) {
+        return obj("retCode", 0, "retMsg", "OK", "result", result, "retExtInfo", obj(), "time", anchorEpochSecond * 1_000L);
+    }
+}
@@ -0,0 +1,530 @@
+package com.walletradar.testsupport.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.walletradar.testsupport.load.LoadStandInServer.Request;
+import com.walletradar.testsupport.load.LoadStandInServer.Response;
+import com.walletradar.testsupport.load.SyntheticActivity.Kind;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.ToIntFunction;
+
+import static com.walletradar.testsupport.load.LoadStandInServer.obj;
+
+/**
+ * EVM chain stand-in mounted at {@code /evm}: per network it serves JSON-RPC (single and batched;
+ * {@code eth_getLogs}, receipts, blocks, transactions, {@code eth_call} metadata) at
+ * {@code /evm/{NET}/rpc} and {@code /evm/{NET}/api/eth-rpc}, and the Etherscan-compatible account
+ * API that BlockScout and Etherscan expose ({@code module=account|proxy|block}) at
+ * {@code /evm/{NET}/api}.
+ *
+ * <p>Wallet {@code w} on a network places transaction {@code i} in block
+ * {@code FIRST_BLOCK + i * BLOCK_SPACING + slot(w)}; every block is {@value #BLOCK_SECONDS}s apart
+ * and the head is stamped {@code anchorEpochSecond}. Transaction hashes carry the wallet tag and the
+ * index (see {@link SyntheticActivity#taggedHash}), so receipts and transactions are regenerated on
+ * demand instead of being stored. Every kind is balanced so that inflows dominate outflows and
+ * replay does not run negative.</p>
+ */
+public final class EvmChainStandIn implements LoadStandInServer.StandIn {
+
+    public static final long FIRST_BLOCK = 10_000_000L;
+    public static final int BLOCK_SPACING = 16;
+    public static final int BLOCK_SECONDS = 2;
+    static final String TRANSFER_TOPIC = "0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef";
+    static final String ROUTER = "0x2626664c2603336e57b271c5c0b26f421741e481";
+    static final String POOL = "0xd0b53d9277642d899df5c87a3966a349a798f224";
+
+    static final ToIntFunction<Kind> TXLIST_ROWS = kind -> kind == Kind.TOKEN_IN ? 0 : 1;
+    static final ToIntFunction<Kind> TOKENTX_ROWS = kind -> switch (kind) {
+        case NATIVE_IN, NATIVE_OUT -> 0;
+        case TOKEN_IN, TOKEN_OUT -> 1;
+        case SWAP -> 2;
+    };
+
+    public record Token(String address, String symbol, String name, int decimals) {
+    }
+
+    private record Wallet(int tag, String network, String address, int slot, SyntheticActivity activity) {
+
+        long block(long index) {
+            return FIRST_BLOCK + index * BLOCK_SPACING + slot;
+        }
+
+        /** First index whose block is {@code >= block}. */
+        long firstIndexFrom(long block) {
+            long offset = block - FIRST_BLOCK - slot;
+            return offset <= 0 ? 0L : Math.min(activity.size(), (offset + BLOCK_SPACING - 1) / BLOCK_SPACING);
+        }
+
+        /** One past the last index whose block is {@code <= block}. */
+        long indexEndAt(long block) {
+            long offset = block - FIRST_BLOCK - slot;
+            return offset < 0 ? 0L : Math.min(activity.size(), offset / BLOCK_SPACING + 1);
+        }
+    }
+
+    private record Leg(Token token, String from, String to, BigInteger amount) {
+    }
+
+    private final long anchorEpochSecond;
+    private final Map<String, List<Wallet>> walletsByNetwork = new ConcurrentHashMap<>();
+    private final List<Wallet> walletsByTag = new CopyOnWriteArrayList<>();
+    private final Map<String, Token[]> tokensByNetwork = new ConcurrentHashMap<>();
+    private volatile long head = FIRST_BLOCK + 1_000L;
+
+    public EvmChainStandIn(long anchorEpochSecond) {
+        this.anchorEpochSecond = anchorEpochSecond;
+        tokensByNetwork.put("BASE", new Token[]{
+                new Token("0x833589fcd6edb6e08f4c7c32d4f71b54bda02913", "USDC", "USD Coin", 6),
+                new Token("0x4200000000000000000000000000000000000006", "WETH", "Wrapped Ether", 18)
+        });
+        tokensByNetwork.put("BSC", new Token[]{
+                new Token("0x8ac76a51cc950d9822d68b83fe1ad97b32cd580d", "USDC", "USD Coin", 18),
+                new Token("0xbb4cdb9cbd36b01bd1cbaebf2de08c9173bc095c", "WBNB", "Wrapped BNB", 18)
+        });
+    }
+
+    /** Registers {@code activity} for {@code address} on {@code network}; call before the pipeline starts. */
+    public synchronized EvmChainStandIn addWallet(String network, String address, SyntheticActivity activity) {
+        List<Wallet> wallets = walletsByNetwork.computeIfAbsent(network, ignored -> new CopyOnWriteArrayList<>());
+        if (wallets.size() >= BLOCK_SPACING) {
+            throw new IllegalStateException("At most " + BLOCK_SPACING + " wallets per network");
+        }
+        Wallet wallet = new Wallet(walletsByTag.size() + 1, network, address.toLowerCase(Locale.ROOT), wallets.size(), activity);
+        wallets.add(wallet);
+        walletsByTag.add(wallet);
+        head = Math.max(head, wallet.block(activity.size()) + 64L);
+        return this;
+    }
+
+    public long headBlock() {
+        return head;
+    }
+
+    /** Backfill window that covers every registered wallet's history. */
+    public long windowBlocks() {
+        return head - FIRST_BLOCK + 1_000L;
+    }
+
+    @Override
+    public Response handle(Request request) throws IOException {
+        String[] segments = request.path().split("/");
+        // "", "evm", NET, rest...
+        if (segments.length < 4) {
+            return null;
+        }
+        String network = segments[2].toUpperCase(Locale.ROOT);
+        String rest = request.path().substring(("/evm/" + segments[2]).length());
+        if ("POST".equals(request.method()) && (rest.equals("/rpc") || rest.startsWith("/api/eth-rpc"))) {
+            return rpc(network, request.json());
+        }
+        if ("GET".equals(request.method()) && (rest.equals("/api") || rest.endsWith("/api"))) {
+            return accountApi(network, request);
+        }
+        return null;
+    }
+
+    // ---- JSON-RPC ----
+
+    private Response rpc(String network, JsonNode body) {
+        if (body.isArray()) {
+            List<Object> out = new ArrayList<>(body.size());
+            for (JsonNode call : body) {
+                out.add(rpcEnvelope(network, call));
+            }
+            String first = body.isEmpty() ? "empty" : body.get(0).path("method").asText();
+            return Response.ok("evm rpc batch " + first, out);
+        }
+        return Response.ok("evm rpc " + body.path("method").asText(), rpcEnvelope(network, body));
+    }
+
+    private Map<String, Object> rpcEnvelope(String network, JsonNode call) {
+        return obj("jsonrpc", "2.0", "id", call.path("id").isMissingNode() ? 1 : call.get("id"),
+                "result", rpcResult(network, call.path("method").asText(), call.path("params")));
+    }
+
+    private Object rpcResult(String network, String method, JsonNode params) {
+        return switch (method) {
+            case "eth_blockNumber" -> hex(head);
+            case "eth_chainId" -> switch (network) {
+                case "BASE" -> "0x2105";
+                case "BSC" -> "0x38";
+                default -> "0x1";
+            };
+            case "eth_getBalance", "eth_getTransactionCount" -> "0x0";
+            case "eth_call" -> ethCall(network, params.path(0).path("to").asText(""), params.path(0));
+            case "eth_getLogs" -> logs(network, params.path(0));
+            case "eth_getBlockByNumber" -> block(network, parseBlock(params.path(0).asText("latest")), params.path(1).asBoolean(false));
+            case "eth_getBlockReceipts" -> blockReceipts(network, parseBlock(params.path(0).asText("latest")));
+            case "eth_getTransactionByHash" -> transaction(params.path(0).asText(null));
+            case "eth_getTransactionReceipt" -> receipt(params.path(0).asText(null));
+            default -> null;
+        };
+    }
+
+    private Object ethCall(String network, String to, JsonNode call) {
+        String data = call.path("data").asText(call.path("input").asText(""));
+        Token token = token(network, to);
+        String selector = data.length() >= 10 ? data.substring(0, 10) : data;
+        return switch (selector) {
+            case "0x313ce567" -> word(BigInteger.valueOf(token == null ? 18 : token.decimals()));
+            case "0x95d89b41" -> abiString(token == null ? "SYN" : token.symbol());
+            case "0x06fdde03" -> abiString(token == null ? "Synthetic" : token.name());
+            default -> "0x" + "0".repeat(64);
+        };
+    }
+
+    private List<Object> logs(String network, JsonNode filter) {
+        long fromBlock = parseBlock(filter.path("fromBlock").asText("0x0"));
+        long toBlock = Math.min(head, parseBlock(filter.path("toBlock").asText("latest")));
+        JsonNode topics = filter.path("topics");
+        String fromTopic = topics.path(1).isTextual() ? topics.path(1).asText() : null;
+        String toTopic = topics.path(2).isTextual() ? topics.path(2).asText() : null;
+        List<Object> out = new ArrayList<>();
+        for (Wallet wallet : walletsByNetwork.getOrDefault(network, List.of())) {
+            boolean asSender = fromTopic != null && topicAddress(fromTopic).equals(wallet.address());
+            boolean asRecipient = toTopic != null && topicAddress(toTopic).equals(wallet.address());
+            if (!asSender && !asRecipient) {
+                continue;
+            }
+            long end = wallet.indexEndAt(toBlock);
+            for (long i = wallet.firstIndexFrom(fromBlock); i < end; i++) {
+                List<Leg> legs = legs(wallet, i);
+                for (int leg = 0; leg < legs.size(); leg++) {
+                    Leg l = legs.get(leg);
+                    if ((asSender && l.from().equals(wallet.address())) || (asRecipient && l.to().equals(wallet.address()))) {
+                        out.add(log(wallet, i, leg, l));
+                    }
+                }
+            }
+        }
+        return out;
+    }
+
+    private Object block(String network, long number, boolean full) {
+        if (number > head) {
+            return null;
+        }
+        List<Object> transactions = new ArrayList<>();
+        for (Wallet wallet : atBlock(network, number)) {
+            long index = (number - FIRST_BLOCK - wallet.slot()) / BLOCK_SPACING;
+            transactions.add(full ? transaction(wallet, index) : txHash(wallet, index));
+        }
+        return obj("number", hex(number), "hash", blockHash(network, number), "parentHash", blockHash(network, number - 1),
+                "timestamp", hex(timestamp(number)), "transactions", transactions, "baseFeePerGas", "0x3b9aca00");
+    }
+
+    private List<Object> blockReceipts(String network, long number) {
+        List<Object> out = new ArrayList<>();
+        for (Wallet wallet : atBlock(network, number)) {
+            out.add(receipt(wallet, (number - FIRST_BLOCK - wallet.slot()) / BLOCK_SPACING));
+        }
+        return out;
+    }
+
+    private List<Wallet> atBlock(String network, long number) {
+        List<Wallet> out = new ArrayList<>();
+        for (Wallet wallet : walletsByNetwork.getOrDefault(network, List.of())) {
+            long offset = number - FIRST_BLOCK - wallet.slot();
+            if (offset >= 0 && offset % BLOCK_SPACING == 0 && offset / BLOCK_SPACING < wallet.activity().size()) {
+                out.add(wallet);
+            }
+        }
+        return out;
+    }
+
+    private Object transaction(String hash) {
+        Wallet wallet = walletOf(hash);
+        return wallet == null ? null : transaction(wallet, SyntheticActivity.untag(hash)[1]);
+    }
+
+    private Object receipt(String hash) {
+        Wallet wallet = walletOf(hash);
+        return wallet == null ? null : receipt(wallet, SyntheticActivity.untag(hash)[1]);
+    }
+
+    private Map<String, Object> transaction(Wallet wallet, long index) {
+        long block = wallet.block(index);
+        return obj("hash", txHash(wallet, index), "blockNumber", hex(block), "blockHash", blockHash(wallet.network(), block),
+                "transactionIndex", "0x" + Integer.toHexString(wallet.slot()), "from", sender(wallet, index),
+                "to", recipient(wallet, index), "value", hex(nativeValue(wallet, index)), "input", input(wallet, index),
+                "nonce", hex(index), "gas", "0x30d40", "gasPrice", "0x3b9aca00", "type", "0x2");
+    }
+
+    private Map<String, Object> receipt(Wallet wallet, long index) {
+        long block = wallet.block(index);
+        List<Object> logs = new ArrayList<>();
+        List<Leg> legs = legs(wallet, index);
+        for (int leg = 0; leg < legs.size(); leg++) {
+            logs.add(log(wallet, index, leg, legs.get(leg)));
+        }
+        return obj("transactionHash", txHash(wallet, index), "blockNumber", hex(block),
+                "blockHash", blockHash(wallet.network(), block), "transactionIndex", "0x" + Integer.toHexString(wallet.slot()),
+                "from", sender(wallet, index), "to", recipient(wallet, index), "status", "0x1", "gasUsed", "0x186a0",
+                "cumulativeGasUsed", "0x186a0", "effectiveGasPrice", "0x3b9aca00", "contractAddress", null,
+                "type", "0x2", "logs", logs);
+    }
+
+    private Map<String, Object> log(Wallet wallet, long index, int leg, Leg l) {
+        long block = wallet.block(index);
+        return obj("address", l.token().address(),
+                "topics", List.of(TRANSFER_TOPIC, topic(l.from()), topic(l.to())),
+                "data", word(l.amount()), "blockNumber", hex(block), "blockHash", blockHash(wallet.network(), block),
+                "transactionHash", txHash(wallet, index), "transactionIndex", "0x" + Integer.toHexString(wallet.slot()),
+                "logIndex", hex(leg), "removed", false);
+    }
+
+    // ---- Etherscan-compatible account API ----
+
+    private Response accountApi(String network, Request request) {
+        String module = String.valueOf(request.param("module"));
+        String action = String.valueOf(request.param("action"));
+        String route = "evm api " + module + "." + action;
+        if ("proxy".equals(module)) {
+            Object result = switch (action) {
+                case "eth_blockNumber" -> hex(head);
+                case "eth_getTransactionByHash" -> transaction(request.param("txhash"));
+                case "eth_getTransactionReceipt" -> receipt(request.param("txhash"));
+                case "eth_getBlockByNumber" -> block(network, parseBlock(String.valueOf(request.param("tag"))),
+                        Boolean.parseBoolean(request.param("boolean")));
+                default -> null;
+            };
+            return Response.ok(route, obj("jsonrpc", "2.0", "id", 1, "result", result));
+        }
+        if ("block".equals(module) && "getblocknobytime".equals(action)) {
+            long ts = request.longParam("timestamp", anchorEpochSecond);
+            long block = Math.max(0L, Math.min(head, head - (anchorEpochSecond - ts) / BLOCK_SECONDS));
+            return Response.ok(route, obj("status", "1", "message", "OK", "result", Long.toString(block)));
+        }
+        if (!"account".equals(module)) {
+            return null;
+        }
+        Wallet wallet = wallet(network, request.param("address"));
+        return switch (action) {
+            case "txlist" -> Response.ok(route, page(wallet, request, TXLIST_ROWS, (i, leg) -> txlistRow(wallet, i)));
+            case "tokentx" -> Response.ok(route, page(wallet, request, TOKENTX_ROWS, (i, leg) -> tokentxRow(wallet, i, leg)));
+            case "txlistinternal" -> Response.ok(route, listEnvelope(List.of()));
+            case "balance", "tokenbalance" -> Response.ok(route, obj("status", "1", "message", "OK", "result", "0"));
+            default -> null;
+        };
+    }
+
+    @FunctionalInterface
+    private interface RowMapper {
+        Map<String, Object> row(long index, int leg);
+    }
+
+    private Map<String, Object> page(Wallet wallet, Request request, ToIntFunction<Kind> rows, RowMapper mapper) {
+        if (wallet == null) {
+            return listEnvelope(List.of());
+        }
+        SyntheticActivity activity = wallet.activity();
+        long startIndex = wallet.firstIndexFrom(request.longParam("startblock", 0L));
+        long endIndex = wallet.indexEndAt(request.longParam("endblock", head));
+        long firstRow = activity.rowsBefore(startIndex, rows);
+        long endRow = activity.rowsBefore(endIndex, rows);
+        long pageSize = Math.max(1L, request.longParam("offset", 500L));
+        long page = Math.max(1L, request.longParam("page", 1L));
+        long from = firstRow + (page - 1) * pageSize;
+        long to = Math.min(endRow, from + pageSize);
+        List<Object> out = new ArrayList<>();
+        for (long row = from; row < to; row++) {
+            long index = activity.indexOfRow(row, rows);
+            out.add(mapper.row(index, (int) (row - activity.rowsBefore(index, rows))));
+        }
+        return listEnvelope(out);
+    }
+
+    private static Map<String, Object> listEnvelope(List<Object> rows) {
+        return rows.isEmpty()
+                ? obj("status", "0", "message", "No transactions found", "result", rows)
+                : obj("status", "1", "message", "OK", "result", rows);
+    }
+
+    private Map<String, Object> txlistRow(Wallet wallet, long index) {
+        long block = wallet.block(index);
+        String input = input(wallet, index);
+        return obj("blockNumber", Long.toString(block), "timeStamp", Long.toString(timestamp(block)),
+                "hash", txHash(wallet, index), "nonce", Long.toString(index), "blockHash", blockHash(wallet.network(), block),
+                "transactionIndex", Integer.toString(wallet.slot()), "from", sender(wallet, index),
+                "to", recipient(wallet, index), "value", nativeValue(wallet, index).toString(), "gas", "200000",
+                "gasPrice", "1000000000", "isError", "0", "txreceipt_status", "1", "input", input,
+                "contractAddress", "", "cumulativeGasUsed", "100000", "gasUsed", "100000", "confirmations", Long.toString(head - block),
+                "methodId", input.length() >= 10 ? input.substring(0, 10) : "0x", "functionName", "");
+    }
+
+    private Map<String, Object> tokentxRow(Wallet wallet, long index, int leg) {
+        long block = wallet.block(index);
+        Leg l = legs(wallet, index).get(leg);
+        return obj("blockNumber", Long.toString(block), "timeStamp", Long.toString(timestamp(block)),
+                "hash", txHash(wallet, index), "nonce", Long.toString(index), "blockHash", blockHash(wallet.network(), block),
+                "from", l.from(), "contractAddress", l.token().address(), "to", l.to(), "value", l.amount().toString(),
+                "tokenName", l.token().name(), "tokenSymbol", l.token().symbol(), "tokenDecimal", Integer.toString(l.token().decimals()),
+                "transactionIndex", Integer.toString(wallet.slot()), "gas", "200000", "gasPrice", "1000000000",
+                "gasUsed", "100000", "cumulativeGasUsed", "100000", "input", "deprecated",
+                "confirmations", Long.toString(head - block), "logIndex", Integer.toString(leg));
+    }
+
+    // ---- synthetic content ----
+
+    private List<Leg> legs(Wallet wallet, long index) {
+        SyntheticActivity activity = wallet.activity();
+        Token[] tokens = tokens(wallet.network());
+        Token token = tokens[(int) (index % 2)];
+        String counterparty = counterparty(wallet, index);
+        return switch (activity.kind(index)) {
+            case NATIVE_IN, NATIVE_OUT -> List.of();
+            case TOKEN_IN -> List.of(new Leg(token, counterparty, wallet.address(), tokenAmount(activity, index, 0, token, 500_000L)));
+            case TOKEN_OUT -> List.of(new Leg(token, wallet.address(), counterparty, tokenAmount(activity, index, 0, token, 200_000L)));
+            case SWAP -> List.of(
+                    new Leg(tokens[0], wallet.address(), POOL, tokenAmount(activity, index, 0, tokens[0], 100_000L)),
+                    new Leg(tokens[1], POOL, wallet.address(), tokenAmount(activity, index, 1, tokens[1], 100_000L)));
+        };
+    }
+
+    /** Up to {@code maxCents / 100} whole tokens, at cent precision. */
+    private static BigInteger tokenAmount(SyntheticActivity activity, long index, int leg, Token token, long maxCents) {
+        return BigInteger.valueOf(activity.amount(index, leg, maxCents)).multiply(BigInteger.TEN.pow(Math.max(0, token.decimals() - 2)));
+    }
+
+    private BigInteger nativeValue(Wallet wallet, long index) {
+        return switch (wallet.activity().kind(index)) {
+            case NATIVE_IN -> BigInteger.valueOf(wallet.activity().amount(index, 0, 50_000L)).multiply(BigInteger.TEN.pow(13));
+            case NATIVE_OUT -> BigInteger.valueOf(wallet.activity().amount(index, 0, 20_000L)).multiply(BigInteger.TEN.pow(13));
+            default -> BigInteger.ZERO;
+        };
+    }
+
+    private String sender(Wallet wallet, long index) {
+        Kind kind = wallet.activity().kind(index);
+        return kind == Kind.NATIVE_IN || kind == Kind.TOKEN_IN ? counterparty(wallet, index) : wallet.address();
+    }
+
+    private String recipient(Wallet wallet, long index) {
+        return switch (wallet.activity().kind(index)) {
+            case NATIVE_IN -> wallet.address();
+            case NATIVE_OUT -> counterparty(wallet, index);
+            case TOKEN_IN, TOKEN_OUT -> tokens(wallet.network())[(int) (index % 2)].address();
+            case SWAP -> ROUTER;
+        };
+    }
+
+    private String input(Wallet wallet, long index) {
+        return switch (wallet.activity().kind(index)) {
+            case NATIVE_IN, NATIVE_OUT -> "0x";
+            case TOKEN_IN, TOKEN_OUT -> {
+                Leg leg = legs(wallet, index).get(0);
+                yield "0xa9059cbb" + topic(leg.to()).substring(2) + word(leg.amount()).substring(2);
+            }
+            case SWAP -> "0x04e45aaf" + wallet.activity().hex(index, 5, 32);
+        };
+    }
+
+    private static String counterparty(Wallet wallet, long index) {
+        return "0x" + wallet.activity().hex(index % 4_096, 3, 20);
+    }
+
+    private static String txHash(Wallet wallet, long index) {
+        return "0x" + wallet.activity().taggedHash(wallet.tag(), index);
+    }
+
+    private Wallet walletOf(String hash) {
+        long[] tag = SyntheticActivity.untag(hash);
+        if (tag == null || tag[0] < 1 || tag[0] > walletsByTag.size()) {
+            return null;
+        }
+        Wallet wallet = walletsByTag.get((int) tag[0] - 1);
+        return tag[1] < wallet.activity().size() && hash.equalsIgnoreCase(txHash(wallet, tag[1])) ? wallet : null;
+    }
+
+    private Wallet wallet(String network, String address) {
+        if (address == null) {
+            return null;
+        }
+        for (Wallet wallet : walletsByNetwork.getOrDefault(network, List.of())) {
+            if (wallet.address().equalsIgnoreCase(address.trim())) {
+                return wallet;
+            }
+        }
+        return null;
+    }
+
+    private Token[] tokens(String network) {
+        return tokensByNetwork.computeIfAbsent(network, net -> new Token[]{
+                new Token("0x" + syntheticHex(net, 1, 20), "USDC", "USD Coin", 6),
+                new Token("0x" + syntheticHex(net, 2, 20), "WETH", "Wrapped Ether", 18)
+        });
+    }
+
+    private Token token(String network, String address) {
+        for (Token token : tokens(network)) {
+            if (token.address().equalsIgnoreCase(address)) {
+                return token;
+            }
+        }
+        return null;
+    }
+
+    private long timestamp(long block) {
+        return anchorEpochSecond - (head - block) * BLOCK_SECONDS;
+    }
+
+    private long parseBlock(String tag) {
+        if (tag == null || "latest".equals(tag) || "pending".equals(tag) || "safe".equals(tag) || "finalized".equals(tag)) {
+            return head;
+        }
+        if ("earliest".equals(tag)) {
+            return 0L;
+        }
+        return tag.startsWith("0x") ? Long.parseLong(tag.substring(2), 16) : Long.parseLong(tag);
+    }
+
+    private static String blockHash(String network, long block) {
+        return "0x" + syntheticHex(network, block, 32);
+    }
+
+    private static String syntheticHex(String key, long index, int bytes) {
+        StringBuilder out = new StringBuilder(bytes * 2 + 16);
+        for (int word = 0; out.length() < bytes * 2; word++) {
+            out.append(String.format("%016x", SyntheticActivity.mix(key.hashCode(), index, 11L * 131 + word)));
+        }
+        return out.substring(0, bytes * 2);
+    }
+
+    private static String topicAddress(String topic) {
+        String hex = topic.startsWith("0x") ? topic.substring(2) : topic;
+        return "0x" + hex.substring(Math.max(0, hex.length() - 40)).toLowerCase(Locale.ROOT);
+    }
+
+    private static String topic(String address) {
+        return "0x" + "0".repeat(24) + address.substring(2).toLowerCase(Locale.ROOT);
+    }
+
+    private static String hex(long value) {
+        return "0x" + Long.toHexString(value);
+    }
+
+    private static String hex(BigInteger value) {
+        return "0x" + value.toString(16);
+    }
+
+    private static String word(BigInteger value) {
+        String hex = value.toString(16);
+        return "0x" + "0".repeat(Math.max(0, 64 - hex.length())) + hex;
+    }
+
+    private static String abiString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        String data = HexFormat.of().formatHex(bytes);
+        return word(BigInteger.valueOf(32)) + word(BigInteger.valueOf(bytes.length)).substring(2)
+                + data + "0".repeat((64 - data.length() % 64) % 64);
+    }
+}
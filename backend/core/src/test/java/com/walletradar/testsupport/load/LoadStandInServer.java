@@ -0,0 +1,231 @@
+package com.walletradar.testsupport.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Embedded HTTP server hosting the load stand-ins on {@code 127.0.0.1} (ephemeral port). Each
+ * stand-in is mounted under a path prefix and labels every request it answers, so the report can
+ * show per-route call counts and server-side latency next to the pipeline stage timings.
+ *
+ * <p>Requests no stand-in understands are answered 404 and counted under {@code unhandled}, which
+ * is the signal that the pipeline reached an endpoint the harness does not emulate yet.</p>
+ */
+public final class LoadStandInServer implements AutoCloseable {
+
+    /** One mounted stand-in. Implementations must be thread-safe; requests arrive concurrently. */
+    @FunctionalInterface
+    public interface StandIn {
+        Response handle(Request request) throws IOException;
+    }
+
+    public record Request(String method, String path, Map<String, String> query, byte[] body) {
+
+        public String param(String name) {
+            return query.get(name);
+        }
+
+        public long longParam(String name, long fallback) {
+            String value = query.get(name);
+            if (value == null || value.isBlank()) {
+                return fallback;
+            }
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException ignored) {
+                return fallback;
+            }
+        }
+
+        public JsonNode json() throws IOException {
+            return MAPPER.readTree(body);
+        }
+    }
+
+    /** {@code body} is any Jackson-serialisable value; {@code route} is the metrics label. */
+    public record Response(int status, String route, Object body) {
+
+        public static Response ok(String route, Object body) {
+            return new Response(200, route, body);
+        }
+
+        public static Response notFound(String route) {
+            return new Response(404, route, Map.of("error", "not found"));
+        }
+    }
+
+    public record RouteStats(String route, long count, long totalMicros, long maxMicros, long bytes) {
+
+        public double meanMillis() {
+            return count == 0 ? 0.0 : totalMicros / 1_000.0 / count;
+        }
+    }
+
+    static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String UNHANDLED = "unhandled";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, StandIn> mounts = new ConcurrentHashMap<>();
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    private LoadStandInServer(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    public static LoadStandInServer start() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+            LoadStandInServer standIns = new LoadStandInServer(server, executor);
+            server.createContext("/", standIns::dispatch);
+            server.setExecutor(executor);
+            server.start();
+            return standIns;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to start load stand-in server", e);
+        }
+    }
+
+    /** Mounts {@code standIn} under {@code prefix} (e.g. {@code /evm}); the longest prefix wins. */
+    public LoadStandInServer mount(String prefix, StandIn standIn) {
+        mounts.put(prefix, standIn);
+        return this;
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public String url(String path) {
+        return baseUrl() + path;
+    }
+
+    public List<RouteStats> stats() {
+        List<RouteStats> out = new ArrayList<>();
+        counters.forEach((route, c) -> out.add(new RouteStats(
+                route, c.count.sum(), c.micros.sum(), c.maxMicros.get(), c.bytes.sum())));
+        out.sort(Comparator.comparingLong(RouteStats::count).reversed().thenComparing(RouteStats::route));
+        return out;
+    }
+
+    public long unhandledCount() {
+        return stats().stream().filter(s -> s.route().startsWith(UNHANDLED)).mapToLong(RouteStats::count).sum();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void dispatch(HttpExchange exchange) throws IOException {
+        long started = System.nanoTime();
+        String path = exchange.getRequestURI().getRawPath();
+        Response response;
+        try {
+            Request request = new Request(
+                    exchange.getRequestMethod().toUpperCase(Locale.ROOT),
+                    path,
+                    parseQuery(exchange.getRequestURI().getRawQuery()),
+                    exchange.getRequestBody().readAllBytes()
+            );
+            StandIn standIn = resolve(path);
+            response = standIn == null ? null : standIn.handle(request);
+            if (response == null) {
+                response = Response.notFound(UNHANDLED + " " + request.method() + " " + routeShape(path));
+            }
+        } catch (RuntimeException | IOException e) {
+            response = new Response(500, "error " + routeShape(path), Map.of("error", String.valueOf(e.getMessage())));
+        }
+        byte[] bytes = MAPPER.writeValueAsBytes(response.body());
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(response.status(), bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+        counters.computeIfAbsent(response.route(), ignored -> new Counters())
+                .record((System.nanoTime() - started) / 1_000L, bytes.length);
+    }
+
+    private StandIn resolve(String path) {
+        String best = null;
+        for (String prefix : mounts.keySet()) {
+            if (path.startsWith(prefix) && (best == null || prefix.length() > best.length())) {
+                best = prefix;
+            }
+        }
+        return best == null ? null : mounts.get(best);
+    }
+
+    /** Path with long identifiers (hashes, addresses) collapsed so unhandled routes aggregate. */
+    private static String routeShape(String path) {
+        StringBuilder out = new StringBuilder();
+        for (String segment : path.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            out.append('/').append(segment.length() > 24 ? "{id}" : segment);
+        }
+        return out.isEmpty() ? "/" : out.toString();
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new LinkedHashMap<>();
+        if (rawQuery == null || rawQuery.isBlank()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            query.putIfAbsent(key, value);
+        }
+        return query;
+    }
+
+    /** Insertion-ordered JSON object from alternating keys and values. */
+    static Map<String, Object> obj(Object... keyValues) {
+        Map<String, Object> out = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < keyValues.length; i += 2) {
+            out.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return out;
+    }
+
+    private static final class Counters {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder micros = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final AtomicLong maxMicros = new AtomicLong();
+
+        void record(long elapsedMicros, long responseBytes) {
+            count.increment();
+            micros.add(elapsedMicros);
+            bytes.add(responseBytes);
+            maxMicros.accumulateAndGet(elapsedMicros, Math::max);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.walletradar.testsupport.load;
+
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+
+import java.lang.reflect.RecordComponent;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Records the pipeline's domain events ({@code com.walletradar.domain.event}) as they are published
+ * and turns them into per-stage timings: first and last completion relative to {@link #start()},
+ * completions, summed {@code processed}, throughput and — for stages that have a
+ * {@code *RequestedEvent} — request-to-completion latency percentiles.
+ *
+ * <p>Not a component: the load driver registers it as a bean of its own test context.</p>
+ */
+public final class PipelineStageTimeline implements ApplicationListener<PayloadApplicationEvent<?>> {
+
+    private static final String EVENT_PACKAGE = "com.walletradar.domain.event";
+
+    private final Map<String, Stage> stages = new LinkedHashMap<>();
+    private volatile long startedNanos = System.nanoTime();
+    private volatile long lastEventNanos = System.nanoTime();
+
+    public synchronized void start() {
+        stages.clear();
+        startedNanos = System.nanoTime();
+        lastEventNanos = startedNanos;
+    }
+
+    @Override
+    public void onApplicationEvent(PayloadApplicationEvent<?> event) {
+        Object payload = event.getPayload();
+        if (payload == null || !EVENT_PACKAGE.equals(payload.getClass().getPackageName())) {
+            return;
+        }
+        String name = payload.getClass().getSimpleName().replaceFirst("Event$", "");
+        long now = System.nanoTime();
+        synchronized (this) {
+            lastEventNanos = now;
+            if (name.endsWith("Requested")) {
+                stage(name.substring(0, name.length() - "Requested".length())).requested(now);
+            } else {
+                String stageName = name.endsWith("Completed") ? name.substring(0, name.length() - "Completed".length()) : name;
+                stage(stageName).completed(now, processed(payload));
+            }
+        }
+    }
+
+    /** Completions of {@code eventType} (a {@code *CompletedEvent}) since {@link #start()}. */
+    public synchronized long completions(Class<?> eventType) {
+        Stage stage = stages.get(eventType.getSimpleName().replaceFirst("Event$", "").replaceFirst("Completed$", ""));
+        return stage == null ? 0L : stage.completions;
+    }
+
+    public Duration sinceLastEvent() {
+        return Duration.ofNanos(System.nanoTime() - lastEventNanos);
+    }
+
+    public Duration elapsed() {
+        return Duration.ofNanos(System.nanoTime() - startedNanos);
+    }
+
+    public synchronized List<String> report() {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(Locale.ROOT, "%-32s %10s %10s %8s %12s %12s %10s %10s %10s",
+                "stage", "first(s)", "last(s)", "done", "processed", "items/s", "p50(ms)", "p95(ms)", "max(ms)"));
+        for (Map.Entry<String, Stage> entry : stages.entrySet()) {
+            Stage stage = entry.getValue();
+            if (stage.completions == 0) {
+                lines.add(String.format(Locale.ROOT, "%-32s %10s %10s %8d (requested %d, never completed)",
+                        entry.getKey(), "-", "-", 0, stage.requests));
+                continue;
+            }
+            double first = seconds(stage.firstCompletedNanos - startedNanos);
+            double last = seconds(stage.lastCompletedNanos - startedNanos);
+            // Stages without a request event are timed from the start of the run.
+            long began = stage.requests > 0 ? stage.firstRequestedNanos : startedNanos;
+            double active = seconds(stage.lastCompletedNanos - began);
+            double rate = active <= 0.0 ? stage.processed : stage.processed / active;
+            List<Long> latencies = new ArrayList<>(stage.latenciesMillis);
+            latencies.sort(Long::compare);
+            lines.add(String.format(Locale.ROOT, "%-32s %10.1f %10.1f %8d %12d %12.1f %10s %10s %10s",
+                    entry.getKey(), first, last, stage.completions, stage.processed, rate,
+                    quantile(latencies, 0.50), quantile(latencies, 0.95),
+                    latencies.isEmpty() ? "-" : Long.toString(latencies.get(latencies.size() - 1))));
+        }
+        return lines;
+    }
+
+    private Stage stage(String name) {
+        return stages.computeIfAbsent(name, ignored -> new Stage());
+    }
+
+    private static long processed(Object payload) {
+        if (payload instanceof Record) {
+            for (RecordComponent component : payload.getClass().getRecordComponents()) {
+                if ("processed".equals(component.getName())) {
+                    try {
+                        Object value = component.getAccessor().invoke(payload);
+                        return value instanceof Number number ? number.longValue() : 0L;
+                    } catch (ReflectiveOperationException ignored) {
+                        return 0L;
+                    }
+                }
+            }
+        }
+        // Events without a processed count (e.g. per wallet x network backfill) count as one item.
+        return 1L;
+    }
+
+    private static String quantile(List<Long> sorted, double q) {
+        if (sorted.isEmpty()) {
+            return "-";
+        }
+        int index = (int) Math.min(sorted.size() - 1, Math.ceil(q * sorted.size()) - 1);
+        return Long.toString(sorted.get(Math.max(0, index)));
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / 1_000_000_000.0;
+    }
+
+    private static final class Stage {
+        private final Deque<Long> pendingRequests = new ArrayDeque<>();
+        private final List<Long> latenciesMillis = new ArrayList<>();
+        private long firstRequestedNanos;
+        private long firstCompletedNanos;
+        private long lastCompletedNanos;
+        private long requests;
+        private long completions;
+        private long processed;
+
+        void requested(long now) {
+            if (requests == 0) {
+                firstRequestedNanos = now;
+            }
+            requests++;
+            pendingRequests.addLast(now);
+        }
+
+        void completed(long now, long items) {
+            if (completions == 0) {
+                firstCompletedNanos = now;
+            }
+            completions++;
+            processed += items;
+            lastCompletedNanos = now;
+            Long requestedAt = pendingRequests.pollFirst();
+            if (requestedAt != null) {
+                latenciesMillis.add((now - requestedAt) / 1_000_000L);
+            }
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.walletradar.testsupport.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.walletradar.testsupport.load.LoadStandInServer.Request;
+import com.walletradar.testsupport.load.LoadStandInServer.Response;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.walletradar.testsupport.load.LoadStandInServer.obj;
+
+/**
+ * Solana stand-in mounted at {@code /solana}: Helius enhanced history
+ * ({@code GET /solana/helius/v0/addresses/{address}/transactions}, newest first, {@code before}
+ * cursor), Helius parse ({@code POST /solana/helius/v0/transactions}) and the handful of Solana
+ * JSON-RPC methods the adapter calls at {@code /solana/rpc}. Token accounts are reported empty, so
+ * the whole synthetic history comes through owner history.
+ *
+ * <p>Transaction {@code i} sits at slot {@code FIRST_SLOT + i * SLOT_SPACING} and
+ * {@value #SECONDS_PER_TX}s apart, ending at {@code anchorEpochSecond}; 10^6 transactions stay
+ * inside the adapter's two-year horizon. Signatures are 64 bytes carrying the wallet tag and index.</p>
+ */
+public final class SolanaStandIn implements LoadStandInServer.StandIn {
+
+    public static final long FIRST_SLOT = 200_000_000L;
+    public static final int SLOT_SPACING = 75;
+    public static final int SECONDS_PER_TX = 30;
+    static final String SYSTEM_PROGRAM = "11111111111111111111111111111111";
+    static final String TOKEN_PROGRAM = "TokenkegQfeZyiNwAJbNbGKPFXCWuBvf9Ss623VQ5DA";
+    static final String JUPITER_PROGRAM = "JUP6LkbZbjS1jKKwapdHNy74zcZ3tLUZoi5QNyVTaV4";
+    static final String USDC_MINT = "EPjFWdd5AufqSSqeM2qN1xzybapC8G4wEGGkZwyTDt1v";
+    static final String WSOL_MINT = "So11111111111111111111111111111111111111112";
+    private static final String HISTORY_PREFIX = "/solana/helius/v0/addresses/";
+
+    private record Wallet(int tag, String address, SyntheticActivity activity) {
+    }
+
+    private final long anchorEpochSecond;
+    private final Map<String, Wallet> wallets = new ConcurrentHashMap<>();
+    private final List<Wallet> walletsByTag = new CopyOnWriteArrayList<>();
+    private volatile long headSlot = FIRST_SLOT + 1_000L;
+
+    public SolanaStandIn(long anchorEpochSecond) {
+        this.anchorEpochSecond = anchorEpochSecond;
+    }
+
+    /** Deterministic base58 pubkey for a synthetic owner. */
+    public static String address(long seed) {
+        StringBuilder hex = new StringBuilder(64);
+        for (int word = 0; word < 4; word++) {
+            hex.append(String.format("%016x", SyntheticActivity.mix(seed, 0L, 0x50L * 131 + word)));
+        }
+        return SyntheticActivity.base58(SyntheticActivity.bytes(hex.toString()));
+    }
+
+    public synchronized SolanaStandIn addWallet(String address, SyntheticActivity activity) {
+        Wallet wallet = new Wallet(walletsByTag.size() + 1, address, activity);
+        wallets.put(address, wallet);
+        walletsByTag.add(wallet);
+        headSlot = Math.max(headSlot, FIRST_SLOT + activity.size() * SLOT_SPACING + 1_000L);
+        return this;
+    }
+
+    /** Helius history URL template ({@code {address}} placeholder) for {@code parse-transactions-history-url}. */
+    public static String historyUrlTemplate(LoadStandInServer server) {
+        return server.url(HISTORY_PREFIX + "{address}/transactions");
+    }
+
+    public static String parseUrl(LoadStandInServer server) {
+        return server.url("/solana/helius/v0/transactions");
+    }
+
+    public static String rpcUrl(LoadStandInServer server) {
+        return server.url("/solana/rpc");
+    }
+
+    @Override
+    public Response handle(Request request) throws IOException {
+        String path = request.path();
+        if ("GET".equals(request.method()) && path.startsWith(HISTORY_PREFIX) && path.endsWith("/transactions")) {
+            String address = path.substring(HISTORY_PREFIX.length(), path.length() - "/transactions".length());
+            return Response.ok("helius history", history(address, request.param("before"), (int) request.longParam("limit", 100L)));
+        }
+        if ("POST".equals(request.method()) && path.equals("/solana/helius/v0/transactions")) {
+            List<Object> out = new ArrayList<>();
+            for (JsonNode signature : request.json().path("transactions")) {
+                Object parsed = parsed(signature.asText());
+                if (parsed != null) {
+                    out.add(parsed);
+                }
+            }
+            return Response.ok("helius parse", out);
+        }
+        if ("POST".equals(request.method()) && path.equals("/solana/rpc")) {
+            JsonNode body = request.json();
+            if (body.isArray()) {
+                List<Object> out = new ArrayList<>();
+                body.forEach(call -> out.add(rpcEnvelope(call)));
+                return Response.ok("solana rpc batch", out);
+            }
+            return Response.ok("solana rpc " + body.path("method").asText(), rpcEnvelope(body));
+        }
+        return null;
+    }
+
+    private List<Object> history(String address, String before, int limit) {
+        Wallet wallet = wallets.get(address);
+        if (wallet == null) {
+            return List.of();
+        }
+        long end = wallet.activity().size();
+        if (before != null && !before.isBlank()) {
+            Wallet owner = walletOf(before);
+            if (owner != wallet) {
+                return List.of();
+            }
+            end = index(before);
+        }
+        List<Object> out = new ArrayList<>();
+        for (long i = end - 1; i >= 0 && out.size() < Math.max(1, Math.min(limit, 100)); i--) {
+            out.add(parsed(wallet, i));
+        }
+        return out;
+    }
+
+    private Map<String, Object> rpcEnvelope(JsonNode call) {
+        JsonNode params = call.path("params");
+        Map<String, Object> context = obj("slot", headSlot);
+        Object result = switch (call.path("method").asText()) {
+            case "getSlot", "getBlockHeight" -> headSlot;
+            case "getBlockTime" -> slotTime(params.path(0).asLong(headSlot));
+            case "getTokenAccountsByOwner", "getProgramAccounts" -> obj("context", context, "value", List.of());
+            case "getBalance" -> obj("context", context, "value", 0L);
+            case "getAccountInfo" -> obj("context", context, "value", null);
+            case "getSignaturesForAddress" -> List.of();
+            default -> null;
+        };
+        return obj("jsonrpc", "2.0", "id", call.path("id").isMissingNode() ? 1 : call.get("id"), "result", result);
+    }
+
+    private Object parsed(String signature) {
+        Wallet wallet = walletOf(signature);
+        return wallet == null ? null : parsed(wallet, index(signature));
+    }
+
+    private Map<String, Object> parsed(Wallet wallet, long index) {
+        SyntheticActivity activity = wallet.activity();
+        String owner = wallet.address();
+        String counterparty = counterparty(wallet, index);
+        List<Object> nativeTransfers = new ArrayList<>();
+        List<Object> tokenTransfers = new ArrayList<>();
+        String type = "TRANSFER";
+        String source = "SYSTEM_PROGRAM";
+        String program = SYSTEM_PROGRAM;
+        String feePayer = owner;
+        switch (activity.kind(index)) {
+            case NATIVE_IN -> {
+                feePayer = counterparty;
+                nativeTransfers.add(nativeTransfer(counterparty, owner, activity.amount(index, 0, 5_000L) * 1_000_000L));
+            }
+            case NATIVE_OUT -> nativeTransfers.add(nativeTransfer(owner, counterparty, activity.amount(index, 0, 2_000L) * 1_000_000L));
+            case TOKEN_IN -> {
+                feePayer = counterparty;
+                program = TOKEN_PROGRAM;
+                tokenTransfers.add(tokenTransfer(counterparty, owner, USDC_MINT, activity.amount(index, 0, 500_000L) / 100.0));
+            }
+            case TOKEN_OUT -> {
+                program = TOKEN_PROGRAM;
+                tokenTransfers.add(tokenTransfer(owner, counterparty, USDC_MINT, activity.amount(index, 0, 200_000L) / 100.0));
+            }
+            case SWAP -> {
+                type = "SWAP";
+                source = "JUPITER";
+                program = JUPITER_PROGRAM;
+                tokenTransfers.add(tokenTransfer(owner, counterparty, USDC_MINT, activity.amount(index, 0, 100_000L) / 100.0));
+                tokenTransfers.add(tokenTransfer(counterparty, owner, WSOL_MINT, activity.amount(index, 1, 1_000_000L) / 1_000_000.0));
+            }
+        }
+        return obj("description", "", "type", type, "source", source, "fee", 5_000L, "feePayer", feePayer,
+                "signature", signature(wallet, index), "slot", FIRST_SLOT + index * SLOT_SPACING,
+                "timestamp", time(wallet, index), "nativeTransfers", nativeTransfers, "tokenTransfers", tokenTransfers,
+                "accountData", List.of(obj("account", owner, "nativeBalanceChange", 0L, "tokenBalanceChanges", List.of())),
+                "transactionError", null,
+                "instructions", List.of(obj("programId", program, "accounts", List.of(owner, counterparty), "data", "",
+                        "innerInstructions", List.of())),
+                "events", obj());
+    }
+
+    private static Map<String, Object> nativeTransfer(String from, String to, long lamports) {
+        return obj("fromUserAccount", from, "toUserAccount", to, "amount", lamports);
+    }
+
+    private static Map<String, Object> tokenTransfer(String from, String to, String mint, double amount) {
+        return obj("fromTokenAccount", tokenAccount(from, mint), "toTokenAccount", tokenAccount(to, mint),
+                "fromUserAccount", from, "toUserAccount", to, "tokenAmount", amount, "mint", mint,
+                "tokenStandard", "Fungible");
+    }
+
+    private static String tokenAccount(String owner, String mint) {
+        return address((owner + "|" + mint).hashCode());
+    }
+
+    private static String counterparty(Wallet wallet, long index) {
+        return address(wallet.activity().seed() * 31 + index % 4_096);
+    }
+
+    private long time(Wallet wallet, long index) {
+        return anchorEpochSecond - (wallet.activity().size() - 1 - index) * SECONDS_PER_TX;
+    }
+
+    private long slotTime(long slot) {
+        return anchorEpochSecond - Math.max(0L, headSlot - slot) * SECONDS_PER_TX / SLOT_SPACING;
+    }
+
+    private static String signature(Wallet wallet, long index) {
+        String hex = wallet.activity().taggedHash(wallet.tag(), index) + wallet.activity().hex(index, 9, 32);
+        return SyntheticActivity.base58(SyntheticActivity.bytes(hex));
+    }
+
+    private static long index(String signature) {
+        return SyntheticActivity.untag(HexFormat.of().formatHex(SyntheticActivity.unbase58(signature, 64)))[1];
+    }
+
+    private Wallet walletOf(String signature) {
+        long[] tag;
+        try {
+            tag = SyntheticActivity.untag(HexFormat.of().formatHex(SyntheticActivity.unbase58(signature, 64)));
+        } catch (IllegalArgumentException ignored) {
+            return null;
+        }
+        if (tag == null || tag[0] < 1 || tag[0] > walletsByTag.size()) {
+            return null;
+        }
+        Wallet wallet = walletsByTag.get((int) tag[0] - 1);
+        return tag[1] < wallet.activity().size() && signature.equals(signature(wallet, tag[1])) ? wallet : null;
+    }
+}
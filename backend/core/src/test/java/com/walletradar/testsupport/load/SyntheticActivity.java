@@ -0,0 +1,192 @@
+package com.walletradar.testsupport.load;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.function.ToIntFunction;
+
+/**
+ * Deterministic synthetic activity of one account: {@code size} transactions addressed by index
+ * {@code 0..size-1} (oldest first). Nothing is materialised — every field is a pure function of
+ * {@code (seed, index)}, so a 10^6-transaction wallet costs no memory and any page can be served in
+ * O(page) time.
+ *
+ * <p>Transaction kinds repeat with a fixed, seed-shuffled period. That keeps "rows before index i"
+ * for any per-kind row count (token transfers, explorer txlist entries, CEX ledger legs) an O(1)
+ * computation, which is what the stand-ins need to page by block, lt or time window.</p>
+ */
+public final class SyntheticActivity {
+
+    public enum Kind {
+        NATIVE_IN,
+        NATIVE_OUT,
+        TOKEN_IN,
+        TOKEN_OUT,
+        SWAP
+    }
+
+    static final int PERIOD = 64;
+    private static final String BASE58 = "123456789ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz";
+
+    private final long seed;
+    private final long size;
+    private final Kind[] pattern = new Kind[PERIOD];
+
+    public SyntheticActivity(long seed, long size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size must be >= 0");
+        }
+        this.seed = seed;
+        this.size = size;
+        // Fixed mix (transfers dominate, ~1 in 6 is a swap), shuffled per seed.
+        Kind[] weights = {
+                Kind.NATIVE_IN, Kind.NATIVE_OUT, Kind.TOKEN_IN, Kind.TOKEN_IN,
+                Kind.TOKEN_OUT, Kind.TOKEN_OUT, Kind.SWAP, Kind.NATIVE_IN
+        };
+        for (int i = 0; i < PERIOD; i++) {
+            pattern[i] = weights[i % weights.length];
+        }
+        for (int i = PERIOD - 1; i > 0; i--) {
+            int j = (int) Long.remainderUnsigned(mix(seed, i, 0x5eed), i + 1L);
+            Kind swap = pattern[i];
+            pattern[i] = pattern[j];
+            pattern[j] = swap;
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    public Kind kind(long index) {
+        return pattern[(int) (index % PERIOD)];
+    }
+
+    /** Rows contributed by transactions {@code [0, index)} under {@code rowsPerKind}. */
+    public long rowsBefore(long index, ToIntFunction<Kind> rowsPerKind) {
+        long clamped = Math.max(0L, Math.min(index, size));
+        int perPeriod = 0;
+        int partial = 0;
+        int remainder = (int) (clamped % PERIOD);
+        for (int i = 0; i < PERIOD; i++) {
+            int rows = rowsPerKind.applyAsInt(pattern[i]);
+            perPeriod += rows;
+            if (i < remainder) {
+                partial += rows;
+            }
+        }
+        return (clamped / PERIOD) * perPeriod + partial;
+    }
+
+    /** Transaction index holding {@code row} under {@code rowsPerKind}; inverse of {@link #rowsBefore}. */
+    public long indexOfRow(long row, ToIntFunction<Kind> rowsPerKind) {
+        int[] prefix = new int[PERIOD + 1];
+        for (int i = 0; i < PERIOD; i++) {
+            prefix[i + 1] = prefix[i] + rowsPerKind.applyAsInt(pattern[i]);
+        }
+        int perPeriod = prefix[PERIOD];
+        if (perPeriod == 0) {
+            throw new IllegalArgumentException("rowsPerKind yields no rows");
+        }
+        long period = row / perPeriod;
+        int within = (int) (row % perPeriod);
+        int slot = Arrays.binarySearch(prefix, within);
+        if (slot < 0) {
+            slot = -slot - 2;
+        } else {
+            // Skip zero-row slots sharing the same prefix value.
+            while (slot < PERIOD && prefix[slot + 1] == within) {
+                slot++;
+            }
+        }
+        return period * PERIOD + slot;
+    }
+
+    /** Positive amount in the smallest unit, between 1 and {@code maxUnits}. */
+    public long amount(long index, int leg, long maxUnits) {
+        return 1L + Long.remainderUnsigned(mix(seed, index, 0xa11 + leg), Math.max(1L, maxUnits));
+    }
+
+    /** {@code bytes} deterministic bytes as lower-case hex (no prefix). */
+    public String hex(long index, int salt, int bytes) {
+        StringBuilder out = new StringBuilder(bytes * 2);
+        for (int word = 0; out.length() < bytes * 2; word++) {
+            out.append(String.format("%016x", mix(seed, index, salt * 131 + word)));
+        }
+        return out.substring(0, bytes * 2);
+    }
+
+    /**
+     * 32-byte hash that carries {@code (tag, index)} in its first 16 bytes so a stand-in can map a
+     * hash it issued back to the account and transaction.
+     */
+    public String taggedHash(int tag, long index) {
+        return String.format("%016x%016x", (long) tag, index) + hex(index, 0x7a9, 16);
+    }
+
+    /** Reverses {@link #taggedHash}: {@code [tag, index]}, or {@code null} for foreign hashes. */
+    public static long[] untag(String hash) {
+        String hex = hash == null ? "" : hash.startsWith("0x") ? hash.substring(2) : hash;
+        if (hex.length() < 32) {
+            return null;
+        }
+        try {
+            return new long[]{Long.parseUnsignedLong(hex.substring(0, 16), 16), Long.parseUnsignedLong(hex.substring(16, 32), 16)};
+        } catch (NumberFormatException ignored) {
+            return null;
+        }
+    }
+
+    public static String base58(byte[] bytes) {
+        BigInteger value = new BigInteger(1, bytes);
+        StringBuilder out = new StringBuilder();
+        BigInteger radix = BigInteger.valueOf(58);
+        while (value.signum() > 0) {
+            BigInteger[] division = value.divideAndRemainder(radix);
+            out.append(BASE58.charAt(division[1].intValue()));
+            value = division[0];
+        }
+        for (byte b : bytes) {
+            if (b != 0) {
+                break;
+            }
+            out.append('1');
+        }
+        return out.reverse().toString();
+    }
+
+    public static byte[] unbase58(String text, int length) {
+        BigInteger value = BigInteger.ZERO;
+        BigInteger radix = BigInteger.valueOf(58);
+        for (char c : text.toCharArray()) {
+            int digit = BASE58.indexOf(c);
+            if (digit < 0) {
+                throw new IllegalArgumentException("not base58: " + text);
+            }
+            value = value.multiply(radix).add(BigInteger.valueOf(digit));
+        }
+        byte[] raw = value.toByteArray();
+        byte[] out = new byte[length];
+        int copy = Math.min(raw.length, length);
+        System.arraycopy(raw, raw.length - copy, out, length - copy, copy);
+        return out;
+    }
+
+    static byte[] bytes(String hex) {
+        byte[] out = new byte[hex.length() / 2];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = (byte) Integer.parseInt(hex.substring(i * 2, i * 2 + 2), 16);
+        }
+        return out;
+    }
+
+    static long mix(long seed, long index, long salt) {
+        long z = seed * 0x9E3779B97F4A7C15L + index * 0xBF58476D1CE4E5B9L + salt * 0x94D049BB133111EBL;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,68 @@
+package com.walletradar.testsupport.load;
+
+import com.walletradar.testsupport.load.SyntheticActivity.Kind;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.ToIntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SyntheticActivityTest {
+
+    private static final ToIntFunction<Kind> TOKEN_ROWS = kind -> switch (kind) {
+        case NATIVE_IN, NATIVE_OUT -> 0;
+        case TOKEN_IN, TOKEN_OUT -> 1;
+        case SWAP -> 2;
+    };
+
+    @Test
+    void sameSeedProducesSameActivity() {
+        SyntheticActivity first = new SyntheticActivity(42L, 1_000L);
+        SyntheticActivity second = new SyntheticActivity(42L, 1_000L);
+
+        for (long i = 0; i < 1_000L; i += 37) {
+            assertThat(second.kind(i)).isEqualTo(first.kind(i));
+            assertThat(second.amount(i, 0, 1_000L)).isEqualTo(first.amount(i, 0, 1_000L)).isBetween(1L, 1_000L);
+            assertThat(second.hex(i, 3, 20)).isEqualTo(first.hex(i, 3, 20)).hasSize(40);
+        }
+        assertThat(new SyntheticActivity(43L, 1_000L).hex(0, 3, 20)).isNotEqualTo(first.hex(0, 3, 20));
+    }
+
+    @Test
+    void indexOfRowInvertsRowsBefore() {
+        SyntheticActivity activity = new SyntheticActivity(7L, 500L);
+        long rows = activity.rowsBefore(activity.size(), TOKEN_ROWS);
+
+        long expected = 0;
+        for (long index = 0; index < activity.size(); index++) {
+            expected += TOKEN_ROWS.applyAsInt(activity.kind(index));
+        }
+        assertThat(rows).isEqualTo(expected);
+        for (long row = 0; row < rows; row++) {
+            long index = activity.indexOfRow(row, TOKEN_ROWS);
+            assertThat(activity.rowsBefore(index, TOKEN_ROWS)).isLessThanOrEqualTo(row);
+            assertThat(activity.rowsBefore(index + 1, TOKEN_ROWS)).isGreaterThan(row);
+        }
+    }
+
+    @Test
+    void taggedHashRoundTripsThroughUntag() {
+        SyntheticActivity activity = new SyntheticActivity(11L, 10L);
+        String hash = activity.taggedHash(5, 9_999_999L);
+
+        assertThat(hash).hasSize(64);
+        assertThat(SyntheticActivity.untag("0x" + hash)).containsExactly(5L, 9_999_999L);
+        assertThat(SyntheticActivity.untag("0xabc")).isNull();
+    }
+
+    @Test
+    void base58RoundTripsFixedLengthValues() {
+        SyntheticActivity activity = new SyntheticActivity(3L, 10L);
+        byte[] raw = SyntheticActivity.bytes("0000" + activity.hex(1, 1, 62));
+
+        String encoded = SyntheticActivity.base58(raw);
+
+        assertThat(encoded).startsWith("11");
+        assertThat(SyntheticActivity.unbase58(encoded, 64)).isEqualTo(raw);
+    }
+}
@@ -0,0 +1,282 @@
+package com.walletradar.testsupport.load;
+
+import com.walletradar.WalletRadarApplication;
+import com.walletradar.application.session.application.SessionCommandService;
+import com.walletradar.application.session.application.SessionCommandService.SessionWalletPayload;
+import com.walletradar.application.session.application.SessionIntegrationCommandService;
+import com.walletradar.application.session.application.SessionSecretCryptoService;
+import com.walletradar.domain.common.NetworkId;
+import com.walletradar.domain.common.ton.TonAddressCanonicalizer;
+import com.walletradar.domain.event.AccountingReplayCompletedEvent;
+import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
+import com.walletradar.domain.transaction.raw.RawTransaction;
+import com.walletradar.platform.persistence.diagnostics.MongoQueryShapeRecorder;
+import com.walletradar.platform.persistence.diagnostics.MongoQueryShapeRecorder.ShapeStats;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Synthetic load run of the whole pipeline (backfill &rarr; normalization &rarr; pricing &rarr;
+ * linking &rarr; replay) against local stand-ins instead of live RPC, explorer, Helius, TON Center
+ * and Bybit endpoints. Every venue serves a seeded {@link SyntheticActivity}, so two runs with the
+ * same properties see byte-identical upstream data and their timings are comparable.
+ *
+ * <p>The run ends once accounting replay has completed and no pipeline event has been published for
+ * the quiet period. The report (logged at INFO) lists per-stage completion times, throughput and
+ * request-to-completion latency, per-route stand-in traffic, the heaviest Mongo query shapes, and
+ * raw/normalized row counts. Routes no stand-in emulates show up as {@code unhandled} rather than
+ * failing the run.</p>
+ *
+ * <p><b>Skipped by default.</b> Docker is required (Mongo runs in Testcontainers). To run:</p>
+ * <pre>
+ * ./gradlew :backend:core:test --tests "*SyntheticLoadPipelineIntegrationTest*" \
+ *     -Dwr.test.load.enabled=true -Dwr.test.load.transactions=100000 -Dwr.test.load.venues=evm,solana
+ * </pre>
+ *
+ * <p>Properties: {@code wr.test.load.transactions} per wallet (default 100000),
+ * {@code wr.test.load.venues} from {@code evm} (BASE via BlockScout), {@code evm-rpc} (BSC via
+ * {@code eth_getLogs}), {@code solana}, {@code ton}, {@code bybit} (default {@code evm}),
+ * {@code wr.test.load.seed}, {@code wr.test.load.anchorEpochSecond} (default: today 00:00 UTC),
+ * {@code wr.test.load.quietSeconds} (default 150) and {@code wr.test.load.timeoutMinutes}
+ * (default 120).</p>
+ */
+@Testcontainers
+@SpringBootTest(classes = WalletRadarApplication.class)
+@EnabledIfSystemProperty(named = "wr.test.load.enabled", matches = "true")
+class SyntheticLoadPipelineIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticLoadPipelineIntegrationTest.class);
+    private static final String SESSION_ID = "load-session";
+    private static final long TRANSACTIONS = Long.getLong("wr.test.load.transactions", 100_000L);
+    private static final long SEED = Long.getLong("wr.test.load.seed", 46L);
+    private static final Set<String> VENUES = Arrays.stream(System.getProperty("wr.test.load.venues", "evm").split(","))
+            .map(venue -> venue.trim().toLowerCase(Locale.ROOT))
+            .filter(venue -> !venue.isEmpty())
+            .collect(Collectors.toSet());
+    private static final long ANCHOR_EPOCH_SECOND = Long.getLong("wr.test.load.anchorEpochSecond",
+            Instant.now().truncatedTo(ChronoUnit.DAYS).getEpochSecond());
+    private static final Duration QUIET = Duration.ofSeconds(Long.getLong("wr.test.load.quietSeconds", 150L));
+    private static final Duration TIMEOUT = Duration.ofMinutes(Long.getLong("wr.test.load.timeoutMinutes", 120L));
+
+    private static final String BASE_WALLET = "0x" + new SyntheticActivity(SEED, 0L).hex(0L, 0x77, 20);
+    private static final String BSC_WALLET = "0x" + new SyntheticActivity(SEED + 1, 0L).hex(0L, 0x77, 20);
+    private static final String SOLANA_WALLET = SolanaStandIn.address(SEED + 2);
+    private static final String TON_WALLET = TonAddressCanonicalizer.preferredMemberRef(TonCenterStandIn.rawAddress(SEED + 3));
+
+    @Container
+    private static final MongoDBContainer MONGO_CONTAINER = new MongoDBContainer("mongo:7");
+
+    private static volatile LoadStandInServer standIns;
+
+    @TestConfiguration
+    static class TimelineConfig {
+
+        @Bean
+        PipelineStageTimeline pipelineStageTimeline() {
+            return new PipelineStageTimeline();
+        }
+    }
+
+    @DynamicPropertySource
+    static void loadProperties(DynamicPropertyRegistry registry) {
+        LoadStandInServer server = startStandIns();
+        registry.add("spring.data.mongodb.uri", () -> MONGO_CONTAINER.getReplicaSetUrl("walletradar"));
+        String secretsKeyFile = writeSecretsKey();
+        registry.add("walletradar.session.secrets.key-file", () -> secretsKeyFile);
+
+        // Window counted back from the stand-in head: the synthetic history plus a small margin.
+        long evmWindow = TRANSACTIONS * EvmChainStandIn.BLOCK_SPACING + 2_000L;
+        registry.add("walletradar.ingestion.explorer.max-attempts", () -> "1");
+        registry.add("walletradar.ingestion.explorer.base-delay-ms", () -> "100");
+        for (NetworkId networkId : NetworkId.values()) {
+            if (networkId == NetworkId.SOLANA || networkId == NetworkId.TON) {
+                continue;
+            }
+            String prefix = "walletradar.ingestion.network." + networkId.name();
+            registry.add(prefix + ".urls[0]", () -> server.url("/evm/" + networkId.name() + "/rpc"));
+            registry.add(prefix + ".provider.enabled", () -> "false");
+            registry.add(prefix + ".window-blocks", () -> Long.toString(evmWindow));
+        }
+        registry.add("walletradar.ingestion.network.BASE.explorer.blockscout.base-url", () -> server.url("/evm/BASE"));
+
+        registry.add("walletradar.ingestion.network.SOLANA.urls[0]", () -> SolanaStandIn.rpcUrl(server));
+        registry.add("walletradar.ingestion.solana.helius.parse-transactions-history-url", () -> SolanaStandIn.historyUrlTemplate(server));
+        registry.add("walletradar.ingestion.solana.helius.parse-transactions-url", () -> SolanaStandIn.parseUrl(server));
+        registry.add("walletradar.ingestion.solana.helius.min-request-interval-millis", () -> "0");
+
+        registry.add("walletradar.ingestion.ton.base-url", () -> TonCenterStandIn.baseUrl(server));
+        registry.add("walletradar.ingestion.ton.jetton-fetch-backoff-millis", () -> "0");
+        registry.add("walletradar.ingestion.ton.metadata.base-url", () -> server.url("/ton-metadata"));
+        registry.add("walletradar.ingestion.ton.metadata.min-request-interval-ms", () -> "0");
+
+        registry.add("walletradar.integration.bybit.base-url", () -> BybitStandIn.baseUrl(server));
+        registry.add("walletradar.pricing.external.bybit.base-url", () -> BybitStandIn.baseUrl(server));
+        registry.add("walletradar.pricing.external.binance.base-url", () -> server.url("/binance"));
+        registry.add("walletradar.pricing.external.coin-gecko.base-url", () -> server.url("/coingecko"));
+        registry.add("walletradar.pricing.external.ecb.base-url", () -> server.url("/ecb"));
+        registry.add("walletradar.pricing.endpoints.defi-llama-base-url", () -> server.url("/defillama"));
+        registry.add("walletradar.pricing.jupiter.price-url", () -> server.url("/jupiter/price"));
+        registry.add("walletradar.pricing.jupiter.token-url", () -> server.url("/jupiter/tokens/{mint}"));
+        registry.add("walletradar.pricing.ton.base-url", () -> server.url("/ston"));
+        registry.add("walletradar.normalization.clarification.li-fi-status.base-url", () -> server.url("/lifi"));
+        registry.add("walletradar.normalization.clarification.mayan-status.base-url", () -> server.url("/mayan"));
+
+        // Position refreshes poll live protocol APIs on their own schedule and are not part of the run.
+        registry.add("walletradar.liquidity-pools.enabled", () -> "false");
+        registry.add("walletradar.lending.market-rates.startup-refresh-enabled", () -> "false");
+    }
+
+    @AfterAll
+    static void stopStandIns() {
+        if (standIns != null) {
+            standIns.close();
+        }
+    }
+
+    @Autowired
+    private SessionCommandService sessionCommandService;
+    @Autowired
+    private SessionIntegrationCommandService sessionIntegrationCommandService;
+    @Autowired
+    private PipelineStageTimeline timeline;
+    @Autowired
+    private MongoQueryShapeRecorder mongoQueryShapeRecorder;
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Test
+    void runsFullPipelineAgainstSyntheticHistory() throws InterruptedException {
+        List<SessionWalletPayload> wallets = new ArrayList<>();
+        if (VENUES.contains("evm")) {
+            wallets.add(new SessionWalletPayload(BASE_WALLET, "load-base", null, List.of(NetworkId.BASE)));
+        }
+        if (VENUES.contains("evm-rpc")) {
+            wallets.add(new SessionWalletPayload(BSC_WALLET, "load-bsc", null, List.of(NetworkId.BSC)));
+        }
+        if (VENUES.contains("solana")) {
+            wallets.add(new SessionWalletPayload(SOLANA_WALLET, "load-solana", null, List.of(NetworkId.SOLANA)));
+        }
+        if (VENUES.contains("ton")) {
+            wallets.add(new SessionWalletPayload(TON_WALLET, "load-ton", null, List.of(NetworkId.TON)));
+        }
+
+        timeline.start();
+        sessionCommandService.addSession(SESSION_ID, wallets);
+        if (VENUES.contains("bybit")) {
+            assertThat(sessionIntegrationCommandService.upsertBybit(SESSION_ID, "load-bybit", "load-key", "load-secret"))
+                    .isPresent();
+        }
+
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline
+                && (timeline.completions(AccountingReplayCompletedEvent.class) == 0 || timeline.sinceLastEvent().compareTo(QUIET) < 0)) {
+            Thread.sleep(1_000L);
+        }
+
+        long raw = mongoTemplate.count(new Query(), RawTransaction.class);
+        long normalized = mongoTemplate.count(new Query(), NormalizedTransaction.class);
+        logReport(raw, normalized);
+
+        assertThat(timeline.completions(AccountingReplayCompletedEvent.class))
+                .as("accounting replay completed within %s", TIMEOUT)
+                .isPositive();
+        assertThat(raw).isPositive();
+    }
+
+    private void logReport(long raw, long normalized) {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(Locale.ROOT, "Synthetic load: venues=%s transactions/wallet=%d seed=%d anchor=%d elapsed=%ds",
+                VENUES, TRANSACTIONS, SEED, ANCHOR_EPOCH_SECOND, timeline.elapsed().toSeconds()));
+        lines.add(String.format(Locale.ROOT, "Rows: raw=%d normalized=%d", raw, normalized));
+        lines.add("-- pipeline stages --");
+        lines.addAll(timeline.report());
+        lines.add("-- stand-in routes (unhandled=" + standIns.unhandledCount() + ") --");
+        for (LoadStandInServer.RouteStats route : standIns.stats()) {
+            lines.add(String.format(Locale.ROOT, "%-60s %10d calls %10.2f ms avg %8d ms max %12d bytes",
+                    route.route(), route.count(), route.meanMillis(), route.maxMicros() / 1_000L, route.bytes()));
+        }
+        lines.add("-- top Mongo shapes by total time --");
+        mongoQueryShapeRecorder.snapshot().stream()
+                .sorted((left, right) -> Long.compare(right.totalMs(), left.totalMs()))
+                .limit(15)
+                .forEach(shape -> lines.add(shapeLine(shape)));
+        log.info("\n{}", String.join("\n", lines));
+    }
+
+    private static String shapeLine(ShapeStats shape) {
+        return String.format(Locale.ROOT, "%8d x %8d ms total p50=%d p95=%d max=%d  %s",
+                shape.count(), shape.totalMs(), shape.p50Ms(), shape.p95Ms(), shape.maxMs(), shape.shape());
+    }
+
+    private static synchronized LoadStandInServer startStandIns() {
+        if (standIns != null) {
+            return standIns;
+        }
+        EvmChainStandIn evm = new EvmChainStandIn(ANCHOR_EPOCH_SECOND);
+        SolanaStandIn solana = new SolanaStandIn(ANCHOR_EPOCH_SECOND);
+        TonCenterStandIn ton = new TonCenterStandIn(ANCHOR_EPOCH_SECOND);
+        SyntheticActivity bybitActivity = null;
+        if (VENUES.contains("evm")) {
+            evm.addWallet("BASE", BASE_WALLET, new SyntheticActivity(SEED, TRANSACTIONS));
+        }
+        if (VENUES.contains("evm-rpc")) {
+            evm.addWallet("BSC", BSC_WALLET, new SyntheticActivity(SEED + 1, TRANSACTIONS));
+        }
+        if (VENUES.contains("solana")) {
+            solana.addWallet(SOLANA_WALLET, new SyntheticActivity(SEED + 2, TRANSACTIONS));
+        }
+        if (VENUES.contains("ton")) {
+            ton.addWallet(TON_WALLET, new SyntheticActivity(SEED + 3, TRANSACTIONS));
+        }
+        if (VENUES.contains("bybit")) {
+            bybitActivity = new SyntheticActivity(SEED + 4, TRANSACTIONS);
+        }
+        standIns = LoadStandInServer.start()
+                .mount("/evm/", evm)
+                .mount("/solana/", solana)
+                .mount(TonCenterStandIn.PREFIX, ton)
+                .mount(BybitStandIn.PREFIX + "/", new BybitStandIn(ANCHOR_EPOCH_SECOND, bybitActivity));
+        return standIns;
+    }
+
+    private static String writeSecretsKey() {
+        try {
+            Path keyFile = Files.createTempFile("walletradar-load-", ".key");
+            keyFile.toFile().deleteOnExit();
+            Files.writeString(keyFile, SessionSecretCryptoService.generateBase64Key());
+            return keyFile.toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write session secrets key", e);
+        }
+    }
+}
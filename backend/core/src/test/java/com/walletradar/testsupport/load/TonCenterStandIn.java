@@ -0,0 +1,242 @@
+package com.walletradar.testsupport.load;
+
+import com.walletradar.domain.common.ton.TonAddressCanonicalizer;
+import com.walletradar.testsupport.load.LoadStandInServer.Request;
+import com.walletradar.testsupport.load.LoadStandInServer.Response;
+import com.walletradar.testsupport.load.SyntheticActivity.Kind;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+
+import static com.walletradar.testsupport.load.LoadStandInServer.obj;
+
+/**
+ * TON Center v3 stand-in mounted at {@code /ton/api/v3}: {@code transactions} (lt-descending with
+ * {@code start_lt}/{@code end_lt}/{@code offset}), {@code jetton/transfers} (owner, utime window,
+ * offset paging) and {@code masterchainInfo}. Jetton transfers share the owning transaction's
+ * {@code trace_id}, which is how the adapter joins them.
+ *
+ * <p>Transaction {@code i} has {@code lt = FIRST_LT + i * LT_STEP} and is {@value #SECONDS_PER_TX}s
+ * after its predecessor, ending at {@code anchorEpochSecond}.</p>
+ */
+public final class TonCenterStandIn implements LoadStandInServer.StandIn {
+
+    public static final String PREFIX = "/ton/api/v3/";
+    public static final long FIRST_LT = 40_000_000_000_000L;
+    public static final long LT_STEP = 1_000_000L;
+    public static final int SECONDS_PER_TX = 30;
+    static final String USDT_MASTER = "0:B113A994B5024A16719F69139328EB759596C38A25F59028B146FECDC3621DFE";
+    static final String SECOND_MASTER = "0:3690254DC15B2297610CDA60744A45F2B710AA4234B89ADB630E99D79B01BD4F";
+    static final String DEX_VAULT = "0:779DCC815138D9500E449C5291E7F12738C23D575B5310000F6A253BD607384E";
+
+    static final ToIntFunction<Kind> JETTON_ROWS = kind -> switch (kind) {
+        case NATIVE_IN, NATIVE_OUT -> 0;
+        case TOKEN_IN, TOKEN_OUT -> 1;
+        case SWAP -> 2;
+    };
+
+    private record Wallet(String raw, SyntheticActivity activity) {
+    }
+
+    private final long anchorEpochSecond;
+    private final Map<String, Wallet> walletsByAlias = new ConcurrentHashMap<>();
+    private volatile long seqno = 40_000_000L;
+
+    public TonCenterStandIn(long anchorEpochSecond) {
+        this.anchorEpochSecond = anchorEpochSecond;
+    }
+
+    /** Deterministic raw {@code 0:HEX} address for a synthetic account. */
+    public static String rawAddress(long seed) {
+        StringBuilder hex = new StringBuilder(64);
+        for (int word = 0; word < 4; word++) {
+            hex.append(String.format("%016X", SyntheticActivity.mix(seed, 0L, 0x70L * 131 + word)));
+        }
+        return "0:" + hex;
+    }
+
+    /** Registers {@code activity} under every lookup form (raw and friendly) of {@code address}. */
+    public synchronized TonCenterStandIn addWallet(String address, SyntheticActivity activity) {
+        List<String> keys = TonAddressCanonicalizer.lookupKeys(address);
+        String raw = keys.stream().filter(key -> key.contains(":")).findFirst().orElse(address).toUpperCase(Locale.ROOT);
+        Wallet wallet = new Wallet(raw, activity);
+        for (String key : keys) {
+            walletsByAlias.put(key, wallet);
+        }
+        seqno = Math.max(seqno, 40_000_000L + activity.size());
+        return this;
+    }
+
+    public static String baseUrl(LoadStandInServer server) {
+        return server.url("/ton/api/v3");
+    }
+
+    @Override
+    public Response handle(Request request) {
+        if (!"GET".equals(request.method()) || !request.path().startsWith(PREFIX)) {
+            return null;
+        }
+        return switch (request.path().substring(PREFIX.length())) {
+            case "masterchainInfo" -> Response.ok("toncenter masterchainInfo",
+                    obj("last", obj("workchain", -1, "shard", "8000000000000000", "seqno", seqno),
+                            "first", obj("workchain", -1, "shard", "8000000000000000", "seqno", 1)));
+            case "transactions" -> Response.ok("toncenter transactions", obj("transactions", transactions(request), "address_book", obj()));
+            case "jetton/transfers" -> Response.ok("toncenter jetton/transfers",
+                    obj("jetton_transfers", jettonTransfers(request), "address_book", obj()));
+            default -> null;
+        };
+    }
+
+    private List<Object> transactions(Request request) {
+        Wallet wallet = wallet(request.param("account"));
+        if (wallet == null) {
+            return List.of();
+        }
+        long size = wallet.activity().size();
+        long startLt = request.longParam("start_lt", FIRST_LT);
+        long endLt = request.longParam("end_lt", Long.MAX_VALUE);
+        long lo = Math.max(0L, ceilDiv(startLt - FIRST_LT, LT_STEP));
+        long hi = endLt < FIRST_LT ? -1L : Math.min(size - 1, (endLt - FIRST_LT) / LT_STEP);
+        long offset = Math.max(0L, request.longParam("offset", 0L));
+        long limit = Math.max(1L, request.longParam("limit", 100L));
+        List<Object> out = new ArrayList<>();
+        for (long i = hi - offset; i >= lo && out.size() < limit; i--) {
+            out.add(transaction(wallet, i));
+        }
+        return out;
+    }
+
+    private List<Object> jettonTransfers(Request request) {
+        Wallet wallet = wallet(request.param("owner_address"));
+        if (wallet == null) {
+            return List.of();
+        }
+        SyntheticActivity activity = wallet.activity();
+        long size = activity.size();
+        long start = request.longParam("start_utime", 0L);
+        long end = request.longParam("end_utime", anchorEpochSecond);
+        long lo = Math.max(0L, size - 1 - Math.floorDiv(anchorEpochSecond - start, SECONDS_PER_TX));
+        long hiEnd = Math.min(size, Math.max(0L, size - ceilDiv(anchorEpochSecond - end, SECONDS_PER_TX)));
+        long firstRow = activity.rowsBefore(lo, JETTON_ROWS);
+        long endRow = activity.rowsBefore(hiEnd, JETTON_ROWS);
+        long offset = Math.max(0L, request.longParam("offset", 0L));
+        long limit = Math.max(1L, request.longParam("limit", 100L));
+        List<Object> out = new ArrayList<>();
+        for (long row = endRow - 1 - offset; row >= firstRow && out.size() < limit; row--) {
+            long index = activity.indexOfRow(row, JETTON_ROWS);
+            out.add(jettonTransfer(wallet, index, (int) (row - activity.rowsBefore(index, JETTON_ROWS))));
+        }
+        return out;
+    }
+
+    private Map<String, Object> transaction(Wallet wallet, long index) {
+        SyntheticActivity activity = wallet.activity();
+        String counterparty = counterparty(wallet, index);
+        Map<String, Object> inMsg;
+        List<Object> outMsgs = new ArrayList<>();
+        switch (activity.kind(index)) {
+            case NATIVE_IN -> inMsg = message(counterparty, wallet.raw(), Long.toString(activity.amount(index, 0, 50_000L) * 1_000_000L), null);
+            case TOKEN_IN -> inMsg = message(jettonWallet(wallet.raw(), USDT_MASTER), wallet.raw(), "1", "0x7362d09c");
+            case NATIVE_OUT -> {
+                inMsg = message(null, wallet.raw(), null, null);
+                outMsgs.add(message(wallet.raw(), counterparty, Long.toString(activity.amount(index, 0, 20_000L) * 1_000_000L), null));
+            }
+            default -> {
+                inMsg = message(null, wallet.raw(), null, null);
+                outMsgs.add(message(wallet.raw(), jettonWallet(wallet.raw(), USDT_MASTER), "50000000", "0x0f8a7ea5"));
+            }
+        }
+        return obj("account", wallet.raw(), "hash", hash(wallet, index), "lt", Long.toString(lt(index)),
+                "now", time(wallet, index), "orig_status", "active", "end_status", "active", "total_fees", "2500000",
+                "trace_id", traceId(wallet, index),
+                "description", obj("type", "ord", "aborted", false, "destroyed", false,
+                        "compute_ph", obj("skipped", false, "success", true, "exit_code", 0),
+                        "action", obj("success", true, "result_code", 0)),
+                "in_msg", inMsg, "out_msgs", outMsgs);
+    }
+
+    private Map<String, Object> jettonTransfer(Wallet wallet, long index, int leg) {
+        SyntheticActivity activity = wallet.activity();
+        String counterparty = counterparty(wallet, index);
+        String source;
+        String destination;
+        String master;
+        long amount;
+        switch (activity.kind(index)) {
+            case TOKEN_IN -> {
+                source = counterparty;
+                destination = wallet.raw();
+                master = USDT_MASTER;
+                amount = activity.amount(index, 0, 500_000L) * 10_000L;
+            }
+            case TOKEN_OUT -> {
+                source = wallet.raw();
+                destination = counterparty;
+                master = USDT_MASTER;
+                amount = activity.amount(index, 0, 200_000L) * 10_000L;
+            }
+            default -> {
+                source = leg == 0 ? wallet.raw() : DEX_VAULT;
+                destination = leg == 0 ? DEX_VAULT : wallet.raw();
+                master = leg == 0 ? USDT_MASTER : SECOND_MASTER;
+                amount = activity.amount(index, leg, 100_000L) * 10_000L;
+            }
+        }
+        return obj("query_id", Long.toString(index), "source", source, "destination", destination,
+                "amount", Long.toString(amount), "source_wallet", jettonWallet(source, master), "jetton_master", master,
+                "transaction_hash", hash(wallet, index), "transaction_lt", Long.toString(lt(index)),
+                "transaction_now", time(wallet, index), "transaction_aborted", false, "response_destination", source,
+                "custom_payload", null, "forward_ton_amount", "1", "forward_payload", null, "trace_id", traceId(wallet, index));
+    }
+
+    private static Map<String, Object> message(String source, String destination, String value, String opcode) {
+        return obj("source", source, "destination", destination, "value", value, "opcode", opcode,
+                "bounce", false, "bounced", false, "message_content", obj("decoded", null));
+    }
+
+    private Wallet wallet(String address) {
+        if (address == null) {
+            return null;
+        }
+        for (String key : TonAddressCanonicalizer.lookupKeys(address)) {
+            Wallet wallet = walletsByAlias.get(key);
+            if (wallet != null) {
+                return wallet;
+            }
+        }
+        return null;
+    }
+
+    private static long lt(long index) {
+        return FIRST_LT + index * LT_STEP;
+    }
+
+    private long time(Wallet wallet, long index) {
+        return anchorEpochSecond - (wallet.activity().size() - 1 - index) * SECONDS_PER_TX;
+    }
+
+    private static String hash(Wallet wallet, long index) {
+        return Base64.getEncoder().encodeToString(SyntheticActivity.bytes(wallet.activity().taggedHash(1, index)));
+    }
+
+    private static String traceId(Wallet wallet, long index) {
+        return Base64.getEncoder().encodeToString(SyntheticActivity.bytes(wallet.activity().hex(index, 13, 32)));
+    }
+
+    private static String counterparty(Wallet wallet, long index) {
+        return rawAddress(wallet.activity().seed() * 31 + index % 4_096);
+    }
+
+    private static String jettonWallet(String owner, String master) {
+        return rawAddress((owner + "|" + master).hashCode());
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return -Math.floorDiv(-value, divisor);
+    }
+}
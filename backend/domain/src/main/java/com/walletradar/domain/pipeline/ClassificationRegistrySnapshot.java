@@ -0,0 +1,52 @@
+package com.walletradar.domain.pipeline;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Classification registries ({@code protocol-registry.json}, {@code counterparty-hints.json},
+ * {@code protocols/*.json}) as last applied to stored classifications, one fingerprinted unit per
+ * contract entry, hint or protocol file. The registry-diff reclassification compares the bundled
+ * registries against it to find what changed.
+ */
+@Document(collection = "classification_registry_snapshots")
+@NoArgsConstructor
+@Getter
+@Setter
+public class ClassificationRegistrySnapshot {
+
+    public static final String CURRENT_ID = "current";
+
+    @Id
+    private String id;
+    private List<Unit> units = new ArrayList<>();
+    private Instant capturedAt;
+
+    /**
+     * Fingerprint of one registry unit and the addresses / selectors it keys on. Units are stored
+     * as a list because their keys (file names, registry keys) are not safe Mongo field names.
+     */
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    public static class Unit {
+        private String key;
+        private String fingerprint;
+        private List<String> addresses = List.of();
+        private List<String> selectors = List.of();
+
+        public Unit(String key, String fingerprint, List<String> addresses, List<String> selectors) {
+            this.key = key;
+            this.fingerprint = fingerprint;
+            this.addresses = addresses;
+            this.selectors = selectors;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.walletradar.domain.pipeline;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Row count of one status bucket for one universe member ref ({@code walletAddress} of the rows).
+ * Stores adjust {@code count} with {@code $inc} as rows change bucket; the reconciliation job
+ * rewrites the counters of a member set from the source collections to repair drift.
+ *
+ * <p>Buckets: {@link Kind#NORMALIZED} by {@code source × status × excluded},
+ * {@link Kind#NORMALIZED_REASON} by {@code source × tracked missing-data reason} and
+ * {@link Kind#RAW} by raw {@code normalizationStatus}.</p>
+ */
+@Document(collection = "pipeline_counters")
+@CompoundIndex(name = "member_ref_idx", def = "{'memberRef': 1}")
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class PipelineCounter {
+
+    @Id
+    @EqualsAndHashCode.Include
+    private String id;
+
+    private String memberRef;
+    private Kind kind;
+    private String source;
+    private String status;
+    private boolean excluded;
+    private String reason;
+    private long count;
+
+    private Instant updatedAt;
+    private Instant reconciledAt;
+
+    public enum Kind {
+        NORMALIZED,
+        NORMALIZED_REASON,
+        RAW
+    }
+}
@@ -0,0 +1,59 @@
+package com.walletradar.domain.pipeline;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * One durable pipeline stage trigger (a {@code domain.event} record) waiting for, or leased by, a
+ * worker node, addressed to one listener of that event. Triggers for the same session, event type and
+ * listener coalesce into a single PENDING item ({@code coalesceKey}); a LEASED item belongs to {@code leaseOwner} until {@code leaseExpiresAt}.
+ * Completed items are deleted.
+ */
+@Document(collection = "pipeline_work_items")
+@CompoundIndex(name = "status_available_idx", def = "{'status': 1, 'availableAt': 1}")
+@CompoundIndex(name = "status_lease_expiry_idx", def = "{'status': 1, 'leaseExpiresAt': 1}")
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class PipelineWorkItem {
+
+    @Id
+    @EqualsAndHashCode.Include
+    private String id;
+
+    /** {@code sessionId:eventType#listenerId}; unique among PENDING items. */
+    private String coalesceKey;
+    private String sessionId;
+    /** Fully qualified class name of the event record stored in {@link #payload}. */
+    private String eventType;
+    /**
+     * Listener the item is addressed to ({@code ApplicationListenerMethodAdapter} id). Null on items
+     * written before per-listener dispatch; those are published to every listener.
+     */
+    private String listenerId;
+    private org.bson.Document payload;
+
+    private Status status;
+    private int attempts;
+    /** Number of triggers merged into this item while it was PENDING. */
+    private int triggerCount;
+    private String leaseOwner;
+    private Instant leaseExpiresAt;
+    private Instant availableAt;
+
+    private Instant createdAt;
+    private Instant updatedAt;
+
+    public enum Status {
+        PENDING,
+        LEASED
+    }
+}
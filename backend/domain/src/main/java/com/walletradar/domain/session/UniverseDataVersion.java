@@ -0,0 +1,34 @@
+package com.walletradar.domain.session;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Monotonic data version of one accounting universe ({@code _id} = universe id, or the session id
+ * of a session without one). Stages that commit data a session read model depends on bump it with
+ * {@code $inc}; the document with {@code _id = "*"} is bumped by refreshes shared by every universe
+ * (current prices, lending market rates). Session read endpoints derive their ETags from both.
+ */
+@Document(collection = "universe_data_versions")
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class UniverseDataVersion {
+
+    public static final String GLOBAL_ID = "*";
+
+    @Id
+    @EqualsAndHashCode.Include
+    private String id;
+
+    private long version;
+    private String lastReason;
+    private Instant updatedAt;
+}
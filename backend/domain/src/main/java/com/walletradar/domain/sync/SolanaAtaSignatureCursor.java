@@ -0,0 +1,38 @@
+package com.walletradar.domain.sync;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Persisted Solana ingestion high-water mark per (wallet, token account): the newest
+ * {@code getSignaturesForAddress} signature of the ATA whose history was fully fetched and persisted.
+ * Incremental refreshes page the ATA only {@code until} this signature. Keyed by
+ * {@code walletAddress|tokenAccount}.
+ */
+@Document(collection = "solana_ata_signature_cursors")
+@CompoundIndex(name = "solana_ata_cursor_wallet_idx", def = "{'walletAddress': 1}")
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class SolanaAtaSignatureCursor {
+
+    @Id
+    @EqualsAndHashCode.Include
+    private String id;
+    private String walletAddress;
+    private String tokenAccount;
+    private String lastSignature;
+    private Instant updatedAt;
+
+    public static String key(String walletAddress, String tokenAccount) {
+        return walletAddress + "|" + tokenAccount;
+    }
+}
@@ -0,0 +1,31 @@
+package com.walletradar.domain.sync;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Persisted TON ingestion high-water mark per wallet: the logical time (lt) and hash of the newest
+ * account transaction whose raw rows were fully fetched and persisted. Incremental refreshes only
+ * fetch transactions with {@code lt >= lastLt}. Keyed by the wallet address as tracked.
+ */
+@Document(collection = "ton_sync_cursors")
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class TonSyncCursor {
+
+    @Id
+    @EqualsAndHashCode.Include
+    private String id;
+    private String walletAddress;
+    private Long lastLt;
+    private String lastHash;
+    private Instant updatedAt;
+}
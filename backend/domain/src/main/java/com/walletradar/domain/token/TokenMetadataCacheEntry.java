@@ -1,4 +1,4 @@
-package com.walletradar.application.normalization.pipeline.metadata;
+package com.walletradar.domain.token;
 
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -21,6 +21,11 @@ import java.time.Instant;
  * <p>The document {@code id} is the deterministic {@code networkId|contract} key (contract kept in
  * its network-native casing: EVM lowercased by the caller, Solana base58 / TON master as emitted),
  * so writes are idempotent upserts.</p>
+ *
+ * <p>Shared by every token-metadata source through {@code TokenMetadataStore}: EVM {@code eth_call}
+ * decimals/symbol/name as well as the Jupiter / TON Center live resolvers. A contract whose lookup
+ * failed is kept as a negative entry until {@link #unresolvedUntil}, so a cold backfill does not
+ * re-issue the calls for it on every node restart.</p>
  */
 @Document(collection = "token_metadata_cache")
 @CompoundIndex(name = "token_metadata_cache_network_contract_idx", def = "{'networkId': 1, 'contract': 1}", unique = true)
@@ -39,7 +44,10 @@ public class TokenMetadataCacheEntry {
     private String contract;
     private String symbol;
     private Integer decimals;
+    private String name;
     private String source;
     private Instant firstSeenAt;
     private Instant updatedAt;
+    /** Set on negative entries: the lookup failed and is not retried before this instant. */
+    private Instant unresolvedUntil;
 }
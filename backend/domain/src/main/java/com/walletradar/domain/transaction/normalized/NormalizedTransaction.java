@@ -37,6 +37,17 @@ import java.util.List;
                 name = "normalized_wallet_status_block_tx_idx",
                 def = "{'walletAddress': 1, 'status': 1, 'blockTimestamp': 1, 'transactionIndex': 1}"
         ),
+        // Sort-providing indexes: the pending pricing batch (status equality, due predicates
+        // filtered on fetch) and the session transactions page (one range per wallet, merged)
+        // read rows in {blockTimestamp, transactionIndex, _id} order without an in-memory SORT.
+        @CompoundIndex(
+                name = "normalized_status_block_tx_id_idx",
+                def = "{'status': 1, 'blockTimestamp': 1, 'transactionIndex': 1, '_id': 1}"
+        ),
+        @CompoundIndex(
+                name = "normalized_wallet_block_tx_id_idx",
+                def = "{'walletAddress': 1, 'blockTimestamp': 1, 'transactionIndex': 1, '_id': 1}"
+        ),
         @CompoundIndex(
                 name = "normalized_source_status_clarification_idx",
                 def = "{'source': 1, 'status': 1, 'clarificationAttempts': 1, 'updatedAt': 1, 'blockTimestamp': 1, 'transactionIndex': 1}"
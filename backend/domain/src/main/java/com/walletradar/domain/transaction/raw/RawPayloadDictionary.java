@@ -0,0 +1,36 @@
+package com.walletradar.domain.transaction.raw;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Preset compression dictionary trained from one network's raw payloads. Packed
+ * {@link RawTransaction} rows reference it by {@link #getId()}, so a dictionary is never rewritten
+ * once rows use it; retraining stores a new version instead.
+ */
+@Document(collection = "raw_payload_dictionaries")
+@CompoundIndex(name = "network_version", def = "{'networkId': 1, 'version': -1}", unique = true)
+@NoArgsConstructor
+@Getter
+@Setter
+public class RawPayloadDictionary {
+
+    /** {@code <networkId>:v<version>}. */
+    @Id
+    private String id;
+    private String networkId;
+    private int version;
+    private byte[] dictionary;
+    private int sampleCount;
+    private Instant trainedAt;
+
+    public static String id(String networkId, int version) {
+        return networkId + ":v" + version;
+    }
+}
@@ -0,0 +1,13 @@
+package com.walletradar.domain.transaction.raw;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.Optional;
+
+/**
+ * Persistence for per-network raw payload compression dictionaries.
+ */
+public interface RawPayloadDictionaryRepository extends MongoRepository<RawPayloadDictionary, String> {
+
+    Optional<RawPayloadDictionary> findFirstByNetworkIdOrderByVersionDesc(String networkId);
+}
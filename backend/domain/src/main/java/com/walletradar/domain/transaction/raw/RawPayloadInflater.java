@@ -0,0 +1,13 @@
+package com.walletradar.domain.transaction.raw;
+
+import org.bson.Document;
+
+/**
+ * Restores the full {@link RawTransaction#getRawData()} of a row stored in the packed format: the
+ * hot paths kept in {@code rawData} merged with the compressed remainder in {@code rawDataPacked}.
+ */
+@FunctionalInterface
+public interface RawPayloadInflater {
+
+    Document inflate(RawTransaction rawTransaction);
+}
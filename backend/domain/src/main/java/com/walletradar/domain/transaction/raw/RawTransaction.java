@@ -1,18 +1,26 @@
 package com.walletradar.domain.transaction.raw;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.bson.types.Binary;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
+import java.util.List;
 
 /**
  * Immutable on-chain transaction data as fetched from chain source.
  * Schema varies per network; rawData holds the full native payload (BSON Document).
+ *
+ * <p>Rows may be stored packed: {@code rawData} then keeps only the hot paths that queries and
+ * indexes read, and the rest of the payload sits compressed in {@link #getRawDataPacked()}.
+ * {@link #getRawData()} inflates it on first access, so readers always see the full payload.</p>
  */
 @Document(collection = "raw_transactions")
 @CompoundIndex(name = "txHash_networkId_wallet", def = "{'txHash': 1, 'networkId': 1, 'walletAddress': 1}", unique = true)
@@ -22,6 +30,7 @@ import java.time.Instant;
 @CompoundIndex(name = "normalization_status_retry_idx", def = "{'normalizationStatus': 1, 'nextRetryAt': 1}")
 @CompoundIndex(name = "raw_network_explorer_token_contract_idx", def = "{'networkId': 1, 'rawData.explorer.tokenTransfers.contractAddress': 1}")
 @CompoundIndex(name = "raw_network_clarification_token_contract_idx", def = "{'networkId': 1, 'clarificationEvidence.transfers.tokenTransfers.contractAddress': 1}")
+@CompoundIndex(name = "raw_touched_keys_idx", def = "{'touchedKeys': 1}")
 @NoArgsConstructor
 @Getter
 @Setter
@@ -47,7 +56,17 @@ public class RawTransaction {
     private Instant nextRetryAt;
     private Instant createdAt;
     /** Full source payload: EVM = tx details/receipt/explorer payload, Solana = full tx + sigInfo. */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
     private org.bson.Document rawData;
+    /** Deflated BSON of the {@link #rawData} paths not kept inline; {@code null} for unpacked rows. */
+    private Binary rawDataPacked;
+    /** {@code RawPayloadDictionary} the packed remainder was deflated with; {@code null} for none. */
+    private String rawDataDictionaryId;
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient RawPayloadInflater rawDataInflater;
     /** Canonical clarification evidence persisted from post-fetch enrichment. */
     private org.bson.Document clarificationEvidence;
     /**
@@ -60,4 +79,43 @@ public class RawTransaction {
      * computed by {@link com.walletradar.application.normalization.pipeline.classification.support.LpPositionCorrelationSupport#contractKeyedCorrelationId}.
      */
     private String manualCorrelationOverride;
+    /**
+     * Lower-cased EVM addresses and method selector found anywhere in {@link #rawData} and
+     * {@link #clarificationEvidence}; lets a registry change find the rows it can reclassify.
+     * {@code null} until indexed, and reset to {@code null} whenever evidence is merged.
+     */
+    private List<String> touchedKeys;
+    /** Indexing rules {@link #touchedKeys} was built with; rows built under older rules are re-indexed. */
+    private Integer touchedKeysVersion;
+
+    /** Full payload; a packed row is inflated on first access and stays unpacked in memory. */
+    public org.bson.Document getRawData() {
+        if (rawDataPacked != null) {
+            if (rawDataInflater == null) {
+                throw new IllegalStateException("Packed rawData without an inflater: id=" + id);
+            }
+            rawData = rawDataInflater.inflate(this);
+            rawDataPacked = null;
+            rawDataDictionaryId = null;
+            rawDataInflater = null;
+        }
+        return rawData;
+    }
+
+    /** Replaces the payload; any packed remainder is dropped. */
+    public void setRawData(org.bson.Document rawData) {
+        this.rawData = rawData;
+        this.rawDataPacked = null;
+        this.rawDataDictionaryId = null;
+        this.rawDataInflater = null;
+    }
+
+    /** Inline part of a packed row ({@link #getRawData()} otherwise), without inflating. */
+    public org.bson.Document getRawDataInline() {
+        return rawData;
+    }
+
+    public void attachRawDataInflater(RawPayloadInflater inflater) {
+        this.rawDataInflater = inflater;
+    }
 }
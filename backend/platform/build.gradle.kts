@@ -23,6 +23,7 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-oauth2-client")
     implementation("org.springframework.boot:spring-boot-starter-oauth2-resource-server")
     implementation("io.github.resilience4j:resilience4j-ratelimiter:2.2.0")
+    implementation("com.github.ben-manes.caffeine:caffeine")
     implementation("org.bouncycastle:bcprov-jdk18on:1.80")
 
     testImplementation("org.junit.jupiter:junit-jupiter")
@@ -0,0 +1,119 @@
+package com.walletradar.platform.common;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Aho-Corasick automaton over a fixed set of up to 64 ASCII patterns, compiled once. A single pass
+ * over the text reports which patterns occur anywhere in it as a bit mask (bit {@code i} is pattern
+ * {@code i}), so a chain of {@code String.contains} checks becomes one scan plus mask tests.
+ * Matching is exact and case-sensitive; normalize the text the way the patterns are written.
+ */
+public final class MultiPatternMatcher {
+
+    private static final int ALPHABET = 128;
+
+    private final List<String> patterns;
+    private final int[][] transitions;
+    private final long[] outputs;
+
+    private MultiPatternMatcher(List<String> patterns, int[][] transitions, long[] outputs) {
+        this.patterns = patterns;
+        this.transitions = transitions;
+        this.outputs = outputs;
+    }
+
+    public static MultiPatternMatcher compile(List<String> patterns) {
+        List<String> compiled = List.copyOf(patterns);
+        if (compiled.size() > Long.SIZE) {
+            throw new IllegalArgumentException("At most " + Long.SIZE + " patterns are supported");
+        }
+        int maxStates = 1 + compiled.stream().mapToInt(String::length).sum();
+        int[][] trie = new int[maxStates][];
+        long[] outputs = new long[maxStates];
+        trie[0] = newState();
+        int states = 1;
+        for (int index = 0; index < compiled.size(); index++) {
+            String pattern = compiled.get(index);
+            if (pattern.isEmpty()) {
+                throw new IllegalArgumentException("Empty pattern at index " + index);
+            }
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (c >= ALPHABET) {
+                    throw new IllegalArgumentException("Non-ASCII pattern: " + pattern);
+                }
+                if (trie[state][c] < 0) {
+                    trie[states] = newState();
+                    trie[state][c] = states++;
+                }
+                state = trie[state][c];
+            }
+            outputs[state] |= 1L << index;
+        }
+
+        // Breadth-first failure links, folded straight into a full transition table.
+        int[] failure = new int[states];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < ALPHABET; c++) {
+            int next = trie[0][c];
+            if (next < 0) {
+                trie[0][c] = 0;
+            } else {
+                failure[next] = 0;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            outputs[state] |= outputs[failure[state]];
+            for (int c = 0; c < ALPHABET; c++) {
+                int next = trie[state][c];
+                if (next < 0) {
+                    trie[state][c] = trie[failure[state]][c];
+                } else {
+                    failure[next] = trie[failure[state]][c];
+                    queue.add(next);
+                }
+            }
+        }
+        return new MultiPatternMatcher(compiled, Arrays.copyOf(trie, states), Arrays.copyOf(outputs, states));
+    }
+
+    /** Bits of every pattern occurring in {@code text}; 0 for {@code null}. */
+    public long scan(CharSequence text) {
+        if (text == null) {
+            return 0L;
+        }
+        long matched = 0L;
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            state = c < ALPHABET ? transitions[state][c] : 0;
+            matched |= outputs[state];
+        }
+        return matched;
+    }
+
+    /** Mask with the bit of each given pattern set; every pattern must have been compiled. */
+    public long mask(List<String> group) {
+        long mask = 0L;
+        for (String pattern : group) {
+            int index = patterns.indexOf(pattern);
+            if (index < 0) {
+                throw new IllegalArgumentException("Pattern not compiled: " + pattern);
+            }
+            mask |= 1L << index;
+        }
+        return mask;
+    }
+
+    private static int[] newState() {
+        int[] state = new int[ALPHABET];
+        Arrays.fill(state, -1);
+        return state;
+    }
+}
@@ -0,0 +1,247 @@
+package com.walletradar.platform.common.concurrent;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One subsystem's share of the worker budget. Every task gets its own virtual thread, but at most
+ * {@code maxConcurrency} run at once and at most {@code queueCapacity} more wait (FIFO) for a slot;
+ * anything beyond that is rejected with {@link TaskRejectedException}. Created and shut down by
+ * {@link WorkerPools}.
+ */
+@Slf4j
+public final class BoundedExecutor implements Executor {
+
+    private final String name;
+    private final int maxConcurrency;
+    private final int queueCapacity;
+    private final ExecutorService threads;
+    private final Semaphore admission;
+    private final Semaphore slots;
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private volatile boolean shutdown;
+
+    BoundedExecutor(String name, int maxConcurrency, int queueCapacity) {
+        this.name = name;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.queueCapacity = Math.max(0, queueCapacity);
+        this.threads = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+        this.admission = new Semaphore((int) Math.min(Integer.MAX_VALUE, (long) this.maxConcurrency + this.queueCapacity));
+        this.slots = new Semaphore(this.maxConcurrency, true);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /** Uncaught task failures reach the thread's uncaught-exception handler, as with a thread pool. */
+    @Override
+    public void execute(Runnable command) {
+        admit();
+        try {
+            threads.execute(() -> runAdmitted(command));
+        } catch (RejectedExecutionException error) {
+            admission.release();
+            throw reject(error);
+        }
+    }
+
+    public <T> Future<T> submit(Callable<T> task) {
+        admit();
+        try {
+            return threads.submit(() -> callAdmitted(task));
+        } catch (RejectedExecutionException error) {
+            admission.release();
+            throw reject(error);
+        }
+    }
+
+    /**
+     * Runs {@code tasks} with at most {@code parallelism} of them in flight, each lane holding one
+     * slot of this executor, and waits for all of them. Futures are returned in task order and are
+     * all done. Rejected only when not even one lane can be admitted. A lane only dies on an
+     * {@link Error}; the other lanes are still awaited, then the first lane failure is rethrown.
+     */
+    public <T> List<Future<T>> invokeAll(List<? extends Callable<T>> tasks, int parallelism)
+            throws InterruptedException {
+        if (tasks == null || tasks.isEmpty()) {
+            return List.of();
+        }
+        List<CompletableFuture<T>> results = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            results.add(new CompletableFuture<>());
+        }
+        AtomicInteger next = new AtomicInteger();
+        int lanes = Math.min(Math.max(1, parallelism), tasks.size());
+        List<Future<?>> laneFutures = new ArrayList<>(lanes);
+        for (int lane = 0; lane < lanes; lane++) {
+            try {
+                laneFutures.add(submit(() -> {
+                    drainLane(tasks, results, next);
+                    return null;
+                }));
+            } catch (RejectedExecutionException error) {
+                if (laneFutures.isEmpty()) {
+                    throw error;
+                }
+                break;
+            }
+        }
+        ExecutionException laneFailure = null;
+        for (Future<?> laneFuture : laneFutures) {
+            try {
+                laneFuture.get();
+            } catch (InterruptedException error) {
+                laneFutures.forEach(future -> future.cancel(true));
+                results.forEach(result -> result.cancel(false));
+                throw error;
+            } catch (ExecutionException error) {
+                log.warn("Bounded executor lane failed: executor={}, error={}", name, error.getCause().toString());
+                if (laneFailure == null) {
+                    laneFailure = error;
+                }
+            }
+        }
+        // Tasks no lane reached (every lane that could have run them died) are not run.
+        for (CompletableFuture<T> result : results) {
+            result.completeExceptionally(new CancellationException("Task not run: executor=" + name));
+        }
+        if (laneFailure != null) {
+            throw rethrow(laneFailure.getCause());
+        }
+        return List.copyOf(results);
+    }
+
+    public Stats stats() {
+        return new Stats(name, maxConcurrency, queueCapacity, active.get(), queued.get(),
+                completed.get(), failed.get(), rejected.get());
+    }
+
+    void shutdown() {
+        shutdown = true;
+        threads.shutdown();
+    }
+
+    boolean awaitTermination(long timeoutMs) throws InterruptedException {
+        return threads.awaitTermination(Math.max(0L, timeoutMs), TimeUnit.MILLISECONDS);
+    }
+
+    void shutdownNow() {
+        threads.shutdownNow();
+    }
+
+    private void admit() {
+        if (shutdown) {
+            throw reject(null);
+        }
+        if (!admission.tryAcquire()) {
+            throw reject(null);
+        }
+    }
+
+    private TaskRejectedException reject(Throwable cause) {
+        long total = rejected.incrementAndGet();
+        log.warn("Bounded executor rejected task: executor={}, active={}, queued={}, maxConcurrency={}, queueCapacity={}, rejectedTotal={}",
+                name, active.get(), queued.get(), maxConcurrency, queueCapacity, total);
+        return new TaskRejectedException("Executor " + name + (shutdown ? " is shut down" : " is saturated"), cause);
+    }
+
+    private void runAdmitted(Runnable command) {
+        try {
+            callAdmitted(Executors.callable(command));
+        } catch (RuntimeException error) {
+            throw error;
+        } catch (Exception error) {
+            throw new IllegalStateException(error);
+        }
+    }
+
+    private <T> T callAdmitted(Callable<T> task) throws Exception {
+        queued.incrementAndGet();
+        try {
+            slots.acquire();
+        } catch (InterruptedException error) {
+            queued.decrementAndGet();
+            admission.release();
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while queued: executor=" + name);
+        }
+        queued.decrementAndGet();
+        active.incrementAndGet();
+        try {
+            T result = task.call();
+            completed.incrementAndGet();
+            return result;
+        } catch (Exception | Error error) {
+            failed.incrementAndGet();
+            throw error;
+        } finally {
+            active.decrementAndGet();
+            slots.release();
+            admission.release();
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private static <T> void drainLane(List<? extends Callable<T>> tasks,
+                                      List<CompletableFuture<T>> results,
+                                      AtomicInteger next) {
+        int index;
+        while ((index = next.getAndIncrement()) < tasks.size()) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            try {
+                results.get(index).complete(tasks.get(index).call());
+            } catch (Exception error) {
+                results.get(index).completeExceptionally(error);
+            }
+        }
+    }
+
+    /** Point-in-time accounting of one executor; counters are totals since start. */
+    public record Stats(
+            String name,
+            int maxConcurrency,
+            int queueCapacity,
+            int active,
+            int queued,
+            long completed,
+            long failed,
+            long rejected
+    ) {
+    }
+}
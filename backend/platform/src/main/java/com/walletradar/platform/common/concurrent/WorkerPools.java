@@ -0,0 +1,55 @@
+package com.walletradar.platform.common.concurrent;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the process-wide {@link BoundedExecutor}s, one per subsystem. Callers share a named
+ * executor instead of creating a pool per call, so the concurrency of a subsystem is bounded across
+ * all sessions and refreshes. {@link #close} stops admission everywhere, lets running tasks finish
+ * within the grace period and interrupts whatever is left.
+ */
+@Slf4j
+public final class WorkerPools implements AutoCloseable {
+
+    private final Map<String, BoundedExecutor> executors = new ConcurrentHashMap<>();
+    private final long shutdownGraceMs;
+
+    public WorkerPools(long shutdownGraceMs) {
+        this.shutdownGraceMs = Math.max(0L, shutdownGraceMs);
+    }
+
+    /** The executor registered as {@code name}, created with the given bounds on first use. */
+    public BoundedExecutor executor(String name, int maxConcurrency, int queueCapacity) {
+        return executors.computeIfAbsent(name, key -> new BoundedExecutor(key, maxConcurrency, queueCapacity));
+    }
+
+    public List<BoundedExecutor.Stats> stats() {
+        return executors.values().stream()
+                .map(BoundedExecutor::stats)
+                .sorted(Comparator.comparing(BoundedExecutor.Stats::name))
+                .toList();
+    }
+
+    @Override
+    public void close() {
+        executors.values().forEach(BoundedExecutor::shutdown);
+        long deadline = System.currentTimeMillis() + shutdownGraceMs;
+        try {
+            for (BoundedExecutor executor : executors.values()) {
+                if (!executor.awaitTermination(deadline - System.currentTimeMillis())) {
+                    log.warn("Worker pool did not drain within grace period, interrupting: {}", executor.stats());
+                    executor.shutdownNow();
+                }
+            }
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+            executors.values().forEach(BoundedExecutor::shutdownNow);
+        }
+        stats().forEach(stats -> log.info("Worker pool stopped: {}", stats));
+    }
+}
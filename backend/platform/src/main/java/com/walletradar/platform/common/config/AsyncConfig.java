@@ -1,15 +1,17 @@
 package com.walletradar.platform.common.config;
 
+import com.walletradar.platform.common.concurrent.BoundedExecutor;
+import com.walletradar.platform.common.concurrent.WorkerPools;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
 
 /**
- * Executors used by the remaining backfill runtime.
+ * Shared worker pools. Every executor is a bounded slice of {@link WorkerPools}; callers inject the
+ * named executor instead of creating their own pool.
  */
 @Configuration
 @EnableAsync
@@ -18,48 +20,78 @@ public class AsyncConfig {
 
     public static final String BACKFILL_COORDINATOR_EXECUTOR = "backfill-coordinator-executor";
     public static final String BACKFILL_EXECUTOR = "backfill-executor";
+    public static final String BACKFILL_SEGMENT_EXECUTOR = "backfill-segment-executor";
+    public static final String BALANCE_REFRESH_EXECUTOR = "balance-refresh-executor";
+    public static final String LP_REFRESH_EXECUTOR = "lp-refresh-executor";
+    public static final String MONGO_EXPLAIN_EXECUTOR = "mongo-explain-executor";
     public static final String PIPELINE_STAGE_EXECUTOR = "pipeline-stage-executor";
     public static final String PRICING_EXECUTOR = "pricing-executor";
+    public static final String SOLANA_ATA_EXECUTOR = "solana-ata-executor";
     public static final String UNIVERSE_SYNC_PLAN_EXECUTOR = "universe-sync-plan-executor";
 
     private final AsyncExecutorProperties asyncExecutorProperties;
 
-    /** Single-thread executor for backfill coordinator so it does not consume a slot in the worker pool. */
+    @Bean(destroyMethod = "close")
+    public WorkerPools workerPools() {
+        return new WorkerPools(asyncExecutorProperties.getShutdownGraceMs());
+    }
+
+    /** Single slot for the backfill coordinator so it does not consume a slot in the worker pool. */
     @Bean(name = BACKFILL_COORDINATOR_EXECUTOR)
-    public Executor backfillCoordinatorExecutor() {
-        return executor("backfill-coord-", asyncExecutorProperties.getBackfillCoordinator());
+    public Executor backfillCoordinatorExecutor(WorkerPools workerPools) {
+        return executor(workerPools, "backfill-coord", asyncExecutorProperties.getBackfillCoordinator());
     }
 
     @Bean(name = BACKFILL_EXECUTOR)
-    public Executor backfillExecutor() {
-        return executor("backfill-", asyncExecutorProperties.getBackfill());
+    public Executor backfillExecutor(WorkerPools workerPools) {
+        return executor(workerPools, "backfill", asyncExecutorProperties.getBackfill());
+    }
+
+    @Bean(name = BACKFILL_SEGMENT_EXECUTOR)
+    public BoundedExecutor backfillSegmentExecutor(WorkerPools workerPools) {
+        return executor(workerPools, "backfill-segment", asyncExecutorProperties.getBackfillSegment());
+    }
+
+    @Bean(name = BALANCE_REFRESH_EXECUTOR)
+    public BoundedExecutor balanceRefreshExecutor(WorkerPools workerPools) {
+        return executor(workerPools, "balance-refresh", asyncExecutorProperties.getBalanceRefresh());
+    }
+
+    @Bean(name = LP_REFRESH_EXECUTOR)
+    public BoundedExecutor lpRefreshExecutor(WorkerPools workerPools) {
+        return executor(workerPools, "lp-refresh", asyncExecutorProperties.getLpRefresh());
+    }
+
+    /** Sampled {@code explain} runs of the Mongo query-shape recorder; saturation drops samples. */
+    @Bean(name = MONGO_EXPLAIN_EXECUTOR)
+    public Executor mongoExplainExecutor(WorkerPools workerPools) {
+        return executor(workerPools, "mongo-explain", asyncExecutorProperties.getMongoExplain());
     }
 
     @Bean(name = PIPELINE_STAGE_EXECUTOR)
-    public Executor pipelineStageExecutor() {
-        return executor("pipeline-stage-", asyncExecutorProperties.getPipelineStage());
+    public Executor pipelineStageExecutor(WorkerPools workerPools) {
+        return executor(workerPools, "pipeline-stage", asyncExecutorProperties.getPipelineStage());
     }
 
     @Bean(name = PRICING_EXECUTOR)
-    public Executor pricingExecutor() {
-        return executor("pricing-", asyncExecutorProperties.getPricing());
+    public Executor pricingExecutor(WorkerPools workerPools) {
+        return executor(workerPools, "pricing", asyncExecutorProperties.getPricing());
+    }
+
+    @Bean(name = SOLANA_ATA_EXECUTOR)
+    public BoundedExecutor solanaAtaExecutor(WorkerPools workerPools) {
+        return executor(workerPools, "solana-ata", asyncExecutorProperties.getSolanaAta());
     }
 
     /** Runs {@link com.walletradar.application.session.application.AccountUniverseSyncPlannerService} off HTTP threads (RPC / explorer head). */
     @Bean(name = UNIVERSE_SYNC_PLAN_EXECUTOR)
-    public Executor universeSyncPlanExecutor() {
-        return executor("universe-plan-", asyncExecutorProperties.getUniverseSyncPlan());
+    public Executor universeSyncPlanExecutor(WorkerPools workerPools) {
+        return executor(workerPools, "universe-plan", asyncExecutorProperties.getUniverseSyncPlan());
     }
 
-    private static Executor executor(String threadPrefix, AsyncExecutorProperties.Pool pool) {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(pool.getCoreSize());
-        executor.setMaxPoolSize(pool.getMaxSize());
-        if (pool.getQueueCapacity() > 0) {
-            executor.setQueueCapacity(pool.getQueueCapacity());
-        }
-        executor.setThreadNamePrefix(threadPrefix);
-        executor.initialize();
-        return executor;
+    /** {@code queue-capacity: 0} keeps its thread-pool meaning: an unbounded queue. */
+    private static BoundedExecutor executor(WorkerPools workerPools, String name, AsyncExecutorProperties.Pool pool) {
+        int queueCapacity = pool.getQueueCapacity() > 0 ? pool.getQueueCapacity() : Integer.MAX_VALUE;
+        return workerPools.executor(name, pool.getMaxSize(), queueCapacity);
     }
 }
@@ -5,21 +5,39 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+/**
+ * Per-subsystem bounds of the shared worker pools (see {@link AsyncConfig}). Tasks run on virtual
+ * threads; {@code max-size} caps how many run at once and {@code queue-capacity} how many more may
+ * wait before submissions are rejected ({@code 0}: unbounded, as with the former thread pools).
+ */
 @ConfigurationProperties(prefix = "walletradar.async")
 @NoArgsConstructor
 @Getter
 @Setter
 public class AsyncExecutorProperties {
 
-    private Pool backfillCoordinator = pool(1, 1, 0);
-    private Pool backfill = pool(4, 18, 0);
-    private Pool pipelineStage = pool(4, 4, 16);
-    private Pool pricing = pool(16, 16, 64);
-    private Pool universeSyncPlan = pool(2, 4, 256);
+    private Pool backfillCoordinator = pool(1, 0);
+    /** The former thread pool never grew past its 4 core threads behind an unbounded queue. */
+    private Pool backfill = pool(4, 0);
+    private Pool pipelineStage = pool(4, 16);
+    private Pool pricing = pool(16, 64);
+    private Pool universeSyncPlan = pool(2, 256);
+    /** Segment workers of all wallet-network backfill runs together. */
+    private Pool backfillSegment = pool(16, 512);
+    /** Explorer / provider balance lookups of all on-chain balance refreshes together. */
+    private Pool balanceRefresh = pool(8, 256);
+    /** On-demand LP position enrichments. */
+    private Pool lpRefresh = pool(4, 64);
+    /** Concurrent token-account signature paging of all Solana syncs (Helius-throttled). */
+    private Pool solanaAta = pool(4, 64);
+    /** Sampled explain runs of the Mongo query-shape recorder. */
+    private Pool mongoExplain = pool(1, 16);
 
-    private static Pool pool(int core, int max, int queue) {
+    /** How long shutdown waits for running tasks before interrupting them. */
+    private long shutdownGraceMs = 30_000L;
+
+    private static Pool pool(int max, int queue) {
         Pool p = new Pool();
-        p.setCoreSize(core);
         p.setMaxSize(max);
         p.setQueueCapacity(queue);
         return p;
@@ -29,7 +47,6 @@ public class AsyncExecutorProperties {
     @Getter
     @Setter
     public static class Pool {
-        private int coreSize = 4;
         private int maxSize = 4;
         private int queueCapacity = 0;
     }
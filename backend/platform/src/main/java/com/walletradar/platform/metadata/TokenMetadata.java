@@ -0,0 +1,26 @@
+package com.walletradar.platform.metadata;
+
+/**
+ * Token identity held by {@link TokenMetadataStore}. {@code decimals} is the load-bearing field:
+ * metadata without it is an unresolved (negative) entry.
+ */
+public record TokenMetadata(Integer decimals, String symbol, String name) {
+
+    public static final TokenMetadata UNRESOLVED = new TokenMetadata(null, null, null);
+
+    public boolean isResolved() {
+        return decimals != null;
+    }
+
+    /** This metadata with its missing fields taken from {@code base}. */
+    TokenMetadata over(TokenMetadata base) {
+        if (base == null) {
+            return this;
+        }
+        return new TokenMetadata(
+                decimals != null ? decimals : base.decimals(),
+                symbol != null ? symbol : base.symbol(),
+                name != null ? name : base.name()
+        );
+    }
+}
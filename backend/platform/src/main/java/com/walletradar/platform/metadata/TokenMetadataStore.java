@@ -0,0 +1,282 @@
+package com.walletradar.platform.metadata;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.walletradar.domain.token.TokenMetadataCacheEntry;
+import com.walletradar.platform.common.SingleFlight;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Token metadata shared by every resolver (WS-7): a weight-bounded in-memory tier over the durable
+ * {@code token_metadata_cache} collection.
+ *
+ * <p>Entries are keyed {@code networkId|contract}; callers pass the contract in its network-native
+ * casing (EVM lower-cased). Metadata without decimals is a negative entry: it is served as
+ * unresolved until {@code negative-ttl-minutes} have passed, then looked up again. Both tiers keep
+ * negative entries, so a restarted node neither repeats the calls that failed nor the ones that
+ * succeeded. Mongo is a best-effort tier: read and write failures are logged and the in-memory tier
+ * carries on.</p>
+ */
+@Service
+@Slf4j
+public class TokenMetadataStore {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final MongoOperations mongoOperations;
+    private final Duration negativeTtl;
+    private final Clock clock;
+    private final Cache<String, Slot> memory;
+    private final SingleFlight<String, TokenMetadata> loads = new SingleFlight<>();
+
+    @Autowired
+    public TokenMetadataStore(MongoOperations mongoOperations, TokenMetadataStoreProperties properties) {
+        this(mongoOperations, properties, Clock.systemUTC());
+    }
+
+    TokenMetadataStore(MongoOperations mongoOperations, TokenMetadataStoreProperties properties, Clock clock) {
+        this.mongoOperations = mongoOperations;
+        this.negativeTtl = Duration.ofMinutes(Math.max(1L, properties.getNegativeTtlMinutes()));
+        this.clock = clock;
+        this.memory = Caffeine.newBuilder()
+                .maximumWeight(Math.max(1L, properties.getMaxWeightBytes()))
+                .weigher(TokenMetadataStore::weigh)
+                .expireAfter(new NegativeEntryExpiry(clock))
+                .build();
+    }
+
+    /**
+     * Cached metadata of {@code contract}; unresolved (no decimals) while a negative entry is live,
+     * empty when nothing is known or the negative entry has expired.
+     */
+    public Optional<TokenMetadata> find(String networkId, String contract) {
+        Slot slot = slot(id(networkId, contract));
+        return slot == null ? Optional.empty() : Optional.of(slot.metadata());
+    }
+
+    /**
+     * Cached metadata of {@code contract}, or the result of {@code loader} recorded under
+     * {@code source}. Concurrent misses of one contract share a single load.
+     */
+    public TokenMetadata resolve(String networkId, String contract, String source, Supplier<TokenMetadata> loader) {
+        String id = id(networkId, contract);
+        Slot cached = slot(id);
+        if (cached != null) {
+            return cached.metadata();
+        }
+        return loads.load(id, () -> {
+            Slot raced = live(memory.getIfPresent(id));
+            if (raced != null) {
+                return raced.metadata();
+            }
+            TokenMetadata loaded = loader.get();
+            return put(networkId, contract, loaded == null ? TokenMetadata.UNRESOLVED : loaded, source);
+        });
+    }
+
+    /**
+     * Records {@code metadata} over what is already known of {@code contract} (fields it leaves null
+     * keep their stored value) and returns the merged metadata. Without decimals the merged entry is
+     * negative until the TTL passes.
+     */
+    public TokenMetadata put(String networkId, String contract, TokenMetadata metadata, String source) {
+        String id = id(networkId, contract);
+        Slot existing = memory.getIfPresent(id);
+        if (existing == null) {
+            existing = read(id);
+        }
+        TokenMetadata merged = metadata.over(existing == null ? null : existing.metadata());
+        Instant now = clock.instant();
+        Instant unresolvedUntil = merged.isResolved() ? null : now.plus(negativeTtl);
+        memory.put(id, new Slot(merged, unresolvedUntil));
+        persist(id, networkId, contract, merged, source, unresolvedUntil, now);
+        return merged;
+    }
+
+    /**
+     * Loads the stored entries of {@code ids} ({@code networkId|contract}) into the in-memory tier
+     * in batches of {@code batchSize}; returns the number of entries loaded.
+     */
+    public int warmUp(Collection<String> ids, int batchSize) {
+        if (mongoOperations == null || ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        int size = Math.max(1, batchSize);
+        List<String> batch = new ArrayList<>(size);
+        int loaded = 0;
+        for (String id : ids) {
+            batch.add(id);
+            if (batch.size() == size) {
+                loaded += warmBatch(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            loaded += warmBatch(batch);
+        }
+        return loaded;
+    }
+
+    public static String id(String networkId, String contract) {
+        return networkId + "|" + contract;
+    }
+
+    long estimatedSize() {
+        memory.cleanUp();
+        return memory.estimatedSize();
+    }
+
+    private int warmBatch(List<String> ids) {
+        try {
+            List<TokenMetadataCacheEntry> entries = mongoOperations.find(
+                    Query.query(Criteria.where("_id").in(ids)), TokenMetadataCacheEntry.class);
+            int loaded = 0;
+            for (TokenMetadataCacheEntry entry : entries) {
+                Slot slot = live(toSlot(entry));
+                if (slot != null) {
+                    memory.put(entry.getId(), slot);
+                    loaded++;
+                }
+            }
+            return loaded;
+        } catch (RuntimeException error) {
+            log.debug("token_metadata_cache warm-up read failed: ids={}, error={}", ids.size(), error.getMessage());
+            return 0;
+        }
+    }
+
+    private Slot slot(String id) {
+        Slot cached = live(memory.getIfPresent(id));
+        if (cached != null) {
+            return cached;
+        }
+        // An expired negative entry is left in memory for put() to merge over; another node may
+        // have resolved the contract since, so Mongo is read again.
+        Slot stored = live(read(id));
+        if (stored != null) {
+            memory.put(id, stored);
+        }
+        return stored;
+    }
+
+    private Slot live(Slot slot) {
+        if (slot == null || slot.unresolvedUntil() == null || clock.instant().isBefore(slot.unresolvedUntil())) {
+            return slot;
+        }
+        return null;
+    }
+
+    private Slot read(String id) {
+        if (mongoOperations == null) {
+            return null;
+        }
+        try {
+            return toSlot(mongoOperations.findById(id, TokenMetadataCacheEntry.class));
+        } catch (RuntimeException error) {
+            log.debug("token_metadata_cache read failed for {}: {}", id, error.getMessage());
+            return null;
+        }
+    }
+
+    private void persist(String id,
+                         String networkId,
+                         String contract,
+                         TokenMetadata metadata,
+                         String source,
+                         Instant unresolvedUntil,
+                         Instant now) {
+        if (mongoOperations == null) {
+            return;
+        }
+        try {
+            Update update = new Update()
+                    .setOnInsert("networkId", networkId)
+                    .setOnInsert("contract", contract)
+                    .setOnInsert("firstSeenAt", now)
+                    .set("updatedAt", now);
+            if (source != null) {
+                update.set("source", source);
+            }
+            if (metadata.decimals() != null) {
+                update.set("decimals", metadata.decimals());
+            }
+            if (metadata.symbol() != null) {
+                update.set("symbol", metadata.symbol());
+            }
+            if (metadata.name() != null) {
+                update.set("name", metadata.name());
+            }
+            if (unresolvedUntil != null) {
+                update.set("unresolvedUntil", unresolvedUntil);
+            } else {
+                update.unset("unresolvedUntil");
+            }
+            mongoOperations.upsert(Query.query(Criteria.where("_id").is(id)), update, TokenMetadataCacheEntry.class);
+        } catch (RuntimeException error) {
+            // Best-effort tier: the in-memory entry still serves this node.
+            log.debug("token_metadata_cache write failed for {}: {}", id, error.getMessage());
+        }
+    }
+
+    private static Slot toSlot(TokenMetadataCacheEntry entry) {
+        if (entry == null) {
+            return null;
+        }
+        TokenMetadata metadata = new TokenMetadata(entry.getDecimals(), entry.getSymbol(), entry.getName());
+        Instant unresolvedUntil = metadata.isResolved()
+                ? null
+                : entry.getUnresolvedUntil() != null ? entry.getUnresolvedUntil() : Instant.EPOCH;
+        return new Slot(metadata, unresolvedUntil);
+    }
+
+    private static int weigh(String id, Slot slot) {
+        TokenMetadata metadata = slot.metadata();
+        int chars = id.length() + length(metadata.symbol()) + length(metadata.name());
+        return ENTRY_OVERHEAD_BYTES + 2 * chars;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private record Slot(TokenMetadata metadata, Instant unresolvedUntil) {
+    }
+
+    /** Keeps resolved entries until evicted and drops negative ones at {@code unresolvedUntil}. */
+    private record NegativeEntryExpiry(Clock clock) implements Expiry<String, Slot> {
+
+        @Override
+        public long expireAfterCreate(String id, Slot slot, long currentTime) {
+            if (slot.unresolvedUntil() == null) {
+                return Long.MAX_VALUE;
+            }
+            return Math.max(0L, Duration.between(clock.instant(), slot.unresolvedUntil()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String id, Slot slot, long currentTime, long currentDuration) {
+            return expireAfterCreate(id, slot, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String id, Slot slot, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
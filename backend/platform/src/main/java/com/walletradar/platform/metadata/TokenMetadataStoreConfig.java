@@ -0,0 +1,12 @@
+package com.walletradar.platform.metadata;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables {@link TokenMetadataStoreProperties}.
+ */
+@Configuration
+@EnableConfigurationProperties(TokenMetadataStoreProperties.class)
+public class TokenMetadataStoreConfig {
+}
@@ -0,0 +1,31 @@
+package com.walletradar.platform.metadata;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * {@link TokenMetadataStore} tuning. Bound from {@code walletradar.token-metadata-store.*}.
+ */
+@ConfigurationProperties(prefix = "walletradar.token-metadata-store")
+@NoArgsConstructor
+@Getter
+@Setter
+public class TokenMetadataStoreProperties {
+
+    /** Upper bound of the in-memory tier, in estimated bytes of cached keys and strings. */
+    private long maxWeightBytes = 32L * 1024 * 1024;
+
+    /** How long a contract whose metadata calls failed is served as unresolved before it is retried. */
+    private long negativeTtlMinutes = 360L;
+
+    /** Preload the in-memory tier from Mongo with the contracts already seen in {@code raw_transactions}. */
+    private boolean warmupEnabled = true;
+
+    /** Document ids per {@code token_metadata_cache} read during warm-up. */
+    private int warmupBatchSize = 1_000;
+
+    /** Maximum contracts preloaded per node start. */
+    private int warmupMaxEntries = 50_000;
+}
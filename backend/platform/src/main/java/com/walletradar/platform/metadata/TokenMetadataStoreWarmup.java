@@ -0,0 +1,93 @@
+package com.walletradar.platform.metadata;
+
+import com.walletradar.platform.common.job.StageExecutionLogSupport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+/**
+ * Preloads {@link TokenMetadataStore} on node start with the token contracts already present in
+ * {@code raw_transactions}, so a backfill after a restart reads metadata from memory instead of one
+ * {@code token_metadata_cache} lookup per contract. Contracts come from index-backed distincts of the
+ * explorer and clarification token-transfer addresses, per network.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TokenMetadataStoreWarmup {
+
+    static final String STAGE_NAME = "token-metadata-warmup";
+
+    private static final String RAW_COLLECTION = "raw_transactions";
+    private static final List<String> CONTRACT_FIELDS = List.of(
+            "rawData.explorer.tokenTransfers.contractAddress",
+            "clarificationEvidence.transfers.tokenTransfers.contractAddress"
+    );
+
+    private final TokenMetadataStore tokenMetadataStore;
+    private final TokenMetadataStoreProperties properties;
+    private final MongoOperations mongoOperations;
+    @Qualifier(com.walletradar.platform.common.config.AsyncConfig.PIPELINE_STAGE_EXECUTOR)
+    private final Executor pipelineStageExecutor;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (properties.isWarmupEnabled()) {
+            pipelineStageExecutor.execute(() -> {
+                try {
+                    warmUp();
+                } catch (RuntimeException error) {
+                    log.warn("Token metadata warm-up failed: error={}", error.getMessage(), error);
+                }
+            });
+        }
+    }
+
+    /** Returns the number of entries loaded into the in-memory tier. */
+    public int warmUp() {
+        int loaded = 0;
+        long startedAtNanos = StageExecutionLogSupport.logStart(log, STAGE_NAME, "startup");
+        try {
+            Set<String> ids = contractIds(Math.max(0, properties.getWarmupMaxEntries()));
+            loaded = tokenMetadataStore.warmUp(ids, properties.getWarmupBatchSize());
+            return loaded;
+        } finally {
+            StageExecutionLogSupport.logFinish(log, STAGE_NAME, "startup", loaded, startedAtNanos);
+        }
+    }
+
+    private Set<String> contractIds(int limit) {
+        Set<String> ids = new LinkedHashSet<>();
+        List<String> networkIds = mongoOperations.findDistinct(new Query(), "networkId", RAW_COLLECTION, String.class);
+        for (String networkId : networkIds) {
+            if (networkId == null) {
+                continue;
+            }
+            for (String field : CONTRACT_FIELDS) {
+                List<String> contracts = mongoOperations.findDistinct(
+                        Query.query(Criteria.where("networkId").is(networkId)), field, RAW_COLLECTION, String.class);
+                for (String contract : contracts) {
+                    if (ids.size() >= limit) {
+                        return ids;
+                    }
+                    if (contract != null && !contract.isBlank()) {
+                        ids.add(TokenMetadataStore.id(networkId, contract.trim().toLowerCase(Locale.ROOT)));
+                    }
+                }
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * Shared token-metadata store (WS-7): bounded in-memory tier over the durable
+ * {@code token_metadata_cache} collection, used by the EVM, Solana and TON resolvers.
+ */
+package com.walletradar.platform.metadata;
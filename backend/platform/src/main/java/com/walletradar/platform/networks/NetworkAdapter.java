@@ -34,4 +34,13 @@ public interface NetworkAdapter {
     default boolean supportsBlockCheckpointing() {
         return true;
     }
+
+    /**
+     * Called after the rows returned by the last {@link #fetchTransactions} call for this wallet×network were
+     * persisted, with the rows actually written; rows dropped before persistence (e.g. by the scam filter) are
+     * absent. Adapters with incremental cursors advance them here so a failed write never skips history, and
+     * cursors must only point at persisted rows.
+     */
+    default void onFetchPersisted(String walletAddress, NetworkId networkId, List<RawTransaction> persisted) {
+    }
 }
@@ -26,6 +26,15 @@ public class IngestionEvmRpcProperties {
     /** Time to disable JSON-RPC batch mode for an endpoint after non-transient batch errors. */
     private long batchUnsupportedCooldownMs = 300_000;
 
+    /**
+     * Minimum number of wanted tx hashes in one block before receipts are fetched with a single
+     * {@code eth_getBlockReceipts} call and filtered locally. Values below 1 disable the fast path.
+     */
+    private int blockReceiptsMinTxPerBlock = 3;
+
+    /** Time to disable {@code eth_getBlockReceipts} for an endpoint after the method is rejected. */
+    private long blockReceiptsUnsupportedCooldownMs = 3_600_000;
+
     /** Max response bytes buffered by the shared EVM RPC WebClient. */
     private int maxResponseBytes = 16 * 1024 * 1024;
 
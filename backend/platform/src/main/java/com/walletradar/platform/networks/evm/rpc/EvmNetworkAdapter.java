@@ -7,6 +7,8 @@ import com.walletradar.domain.transaction.raw.RawSyncMethod;
 import com.walletradar.domain.common.NetworkId;
 import com.walletradar.domain.transaction.raw.NormalizationStatus;
 import com.walletradar.domain.transaction.raw.RawTransaction;
+import com.walletradar.platform.metadata.TokenMetadata;
+import com.walletradar.platform.metadata.TokenMetadataStore;
 import com.walletradar.platform.networks.NetworkAdapter;
 import com.walletradar.platform.networks.RpcEndpointRotator;
 import com.walletradar.platform.networks.RpcException;
@@ -39,12 +41,13 @@ public class EvmNetworkAdapter implements NetworkAdapter {
     private static final String ERC20_DECIMALS_SELECTOR = "0x313ce567";
     private static final String ERC20_SYMBOL_SELECTOR = "0x95d89b41";
     private static final String ERC20_NAME_SELECTOR = "0x06fdde03";
+    private static final String TOKEN_METADATA_SOURCE = "EVM_RPC";
     static final int MIN_CHUNK_SIZE = 50;
     static final int MAX_BATCH_SIZE = 50;
 
     private final Map<String, Long> batchUnsupportedUntilMs = new ConcurrentHashMap<>();
+    private final Map<String, Long> blockReceiptsUnsupportedUntilMs = new ConcurrentHashMap<>();
     private final Map<String, Long> endpointCooldownUntilMs = new ConcurrentHashMap<>();
-    private final Map<String, TokenMetadata> tokenMetadataCache = new ConcurrentHashMap<>();
 
     private final EvmRpcClient rpcClient;
     @Qualifier("evmRotatorsByNetwork")
@@ -56,6 +59,7 @@ public class EvmNetworkAdapter implements NetworkAdapter {
     private final IngestionEvmRpcProperties evmRpcProperties;
     private final ObjectMapper objectMapper;
     private final EvmBatchBlockSizeResolver batchBlockSizeResolver;
+    private final TokenMetadataStore tokenMetadataStore;
     private final DirectWalletRpcDiscovery directWalletRpcDiscovery;
 
     public EvmNetworkAdapter(
@@ -65,7 +69,8 @@ public class EvmNetworkAdapter implements NetworkAdapter {
             @Qualifier("evmRpcRateLimiter") RateLimiter evmRpcRateLimiter,
             IngestionEvmRpcProperties evmRpcProperties,
             ObjectMapper objectMapper,
-            EvmBatchBlockSizeResolver batchBlockSizeResolver
+            EvmBatchBlockSizeResolver batchBlockSizeResolver,
+            TokenMetadataStore tokenMetadataStore
     ) {
         this.rpcClient = rpcClient;
         this.rotatorsByNetwork = rotatorsByNetwork;
@@ -74,6 +79,7 @@ public class EvmNetworkAdapter implements NetworkAdapter {
         this.evmRpcProperties = evmRpcProperties;
         this.objectMapper = objectMapper;
         this.batchBlockSizeResolver = batchBlockSizeResolver;
+        this.tokenMetadataStore = tokenMetadataStore;
         this.directWalletRpcDiscovery = new DirectWalletRpcDiscovery(objectMapper);
     }
 
@@ -150,18 +156,9 @@ public class EvmNetworkAdapter implements NetworkAdapter {
                     toLogs = ethGetLogs(endpoint, fromBlock, toBlock, Arrays.asList(TRANSFER_TOPIC, null, fromTopic), null);
                 }
                 Set<String> txHashes = new LinkedHashSet<>();
-                for (JsonNode log : fromLogs) {
-                    String txHash = log.path("transactionHash").asText();
-                    if (!txHash.isBlank()) {
-                        txHashes.add(txHash.toLowerCase(Locale.ROOT));
-                    }
-                }
-                for (JsonNode log : toLogs) {
-                    String txHash = log.path("transactionHash").asText();
-                    if (!txHash.isBlank()) {
-                        txHashes.add(txHash.toLowerCase(Locale.ROOT));
-                    }
-                }
+                Map<String, Long> blockByTx = new HashMap<>();
+                collectLogTxHashes(fromLogs, txHashes, blockByTx);
+                collectLogTxHashes(toLogs, txHashes, blockByTx);
 
                 Map<String, DirectWalletRpcDiscovery.DiscoveredTransaction> directTransactions = supportsDirectWalletDiscovery(networkIdStr)
                         ? directWalletRpcDiscovery.discover(
@@ -183,18 +180,23 @@ public class EvmNetworkAdapter implements NetworkAdapter {
                 )
                         : Map.of();
                 txHashes.addAll(directTransactions.keySet());
+                directTransactions.forEach((txHash, discovered) -> blockByTx.putIfAbsent(txHash, discovered.blockNumber()));
 
                 if (txHashes.isEmpty()) {
                     return List.of();
                 }
 
                 Map<String, JsonNode> receiptsByTx = new HashMap<>();
+                Set<String> perHashReceiptTxHashes = fetchDenseBlockReceipts(endpoint, txHashes, blockByTx, receiptsByTx);
                 boolean receiptsBatchSupported = batchSupported && isBatchSupported(endpoint);
-                if (receiptsBatchSupported) {
+                if (perHashReceiptTxHashes.isEmpty()) {
+                    log.debug("All {} receipts for [{}-{}] resolved via eth_getBlockReceipts on {}",
+                            txHashes.size(), fromBlock, toBlock, endpoint);
+                } else if (receiptsBatchSupported) {
                     try {
-                        Map<String, JsonNode> batchReceipts = batchGetTransactionReceipts(endpoint, txHashes);
+                        Map<String, JsonNode> batchReceipts = batchGetTransactionReceipts(endpoint, perHashReceiptTxHashes);
                         receiptsByTx.putAll(batchReceipts);
-                        for (String txHash : txHashes) {
+                        for (String txHash : perHashReceiptTxHashes) {
                             if (!receiptsByTx.containsKey(txHash)) {
                                 JsonNode fullReceipt = getFullTransactionReceipt(endpoint, txHash);
                                 if (fullReceipt != null) {
@@ -209,7 +211,7 @@ public class EvmNetworkAdapter implements NetworkAdapter {
                             throw batchEx;
                         }
                         markBatchUnsupported(endpoint, "eth_getTransactionReceipt(batch)", batchEx);
-                        for (String txHash : txHashes) {
+                        for (String txHash : perHashReceiptTxHashes) {
                             JsonNode fullReceipt = getFullTransactionReceipt(endpoint, txHash);
                             if (fullReceipt != null) {
                                 receiptsByTx.put(txHash, fullReceipt);
@@ -217,7 +219,7 @@ public class EvmNetworkAdapter implements NetworkAdapter {
                         }
                     }
                 } else {
-                    for (String txHash : txHashes) {
+                    for (String txHash : perHashReceiptTxHashes) {
                         JsonNode fullReceipt = getFullTransactionReceipt(endpoint, txHash);
                         if (fullReceipt != null) {
                             receiptsByTx.put(txHash, fullReceipt);
@@ -315,6 +317,13 @@ public class EvmNetworkAdapter implements NetworkAdapter {
                 || msg.contains("-32005");
     }
 
+    /** True if the endpoint rejected the method itself (JSON-RPC {@code -32601} or "method not found"). */
+    static boolean isMethodNotSupported(Exception e) {
+        if (e == null || e.getMessage() == null) return false;
+        String msg = e.getMessage().toLowerCase();
+        return msg.contains("-32601") || msg.contains("method not found");
+    }
+
     static boolean isRateLimited(Exception e) {
         if (e == null || e.getMessage() == null) return false;
         String msg = e.getMessage().toLowerCase();
@@ -408,6 +417,21 @@ public class EvmNetworkAdapter implements NetworkAdapter {
         return filter;
     }
 
+    private static void collectLogTxHashes(List<JsonNode> logs, Set<String> txHashes, Map<String, Long> blockByTx) {
+        for (JsonNode log : logs) {
+            String txHash = log.path("transactionHash").asText();
+            if (txHash.isBlank()) {
+                continue;
+            }
+            String normalized = txHash.toLowerCase(Locale.ROOT);
+            txHashes.add(normalized);
+            Long blockNumber = parseHexLong(log.path("blockNumber").asText(null));
+            if (blockNumber != null && blockNumber > 0L) {
+                blockByTx.putIfAbsent(normalized, blockNumber);
+            }
+        }
+    }
+
     private boolean supportsDirectWalletDiscovery(String networkIdStr) {
         return "BSC".equalsIgnoreCase(networkIdStr);
     }
@@ -433,6 +457,87 @@ public class EvmNetworkAdapter implements NetworkAdapter {
         return result;
     }
 
+    /**
+     * Resolves receipts for blocks that hold at least {@code blockReceiptsMinTxPerBlock} wanted tx hashes with one
+     * {@code eth_getBlockReceipts} call per block, filtering the block's receipts locally. Endpoints rejecting the
+     * method itself are remembered like batch-unsupported endpoints; any other failure only sends that block's
+     * hashes to per-hash receipts. Returns the tx hashes still needing per-hash receipts.
+     */
+    private Set<String> fetchDenseBlockReceipts(
+            String endpoint,
+            Set<String> txHashes,
+            Map<String, Long> blockByTx,
+            Map<String, JsonNode> receiptsByTx
+    ) {
+        int minTxPerBlock = evmRpcProperties.getBlockReceiptsMinTxPerBlock();
+        if (minTxPerBlock < 1 || txHashes.size() < minTxPerBlock || !isBlockReceiptsSupported(endpoint)) {
+            return txHashes;
+        }
+        Map<Long, Set<String>> wantedByBlock = new LinkedHashMap<>();
+        for (String txHash : txHashes) {
+            Long blockNumber = blockByTx.get(txHash);
+            if (blockNumber != null && blockNumber > 0L) {
+                wantedByBlock.computeIfAbsent(blockNumber, ignored -> new HashSet<>()).add(txHash);
+            }
+        }
+        Set<String> remaining = new LinkedHashSet<>(txHashes);
+        for (Map.Entry<Long, Set<String>> entry : wantedByBlock.entrySet()) {
+            Set<String> wanted = entry.getValue();
+            if (wanted.size() < minTxPerBlock) {
+                continue;
+            }
+            List<JsonNode> blockReceipts;
+            try {
+                blockReceipts = getBlockReceipts(endpoint, entry.getKey());
+            } catch (RuntimeException ex) {
+                if (isRateLimitOrTransient(ex)) {
+                    log.debug("eth_getBlockReceipts transient/rate-limit on {}. Will retry with next endpoint. cause={}",
+                            endpoint, messageOf(ex));
+                    throw ex;
+                }
+                if (isMethodNotSupported(ex)) {
+                    markBlockReceiptsUnsupported(endpoint, ex);
+                    break;
+                }
+                log.debug("eth_getBlockReceipts failed for block {} on {}; falling back to per-hash receipts. cause={}",
+                        entry.getKey(), endpoint, messageOf(ex));
+                continue;
+            }
+            for (JsonNode receipt : blockReceipts) {
+                String txHash = receipt.path("transactionHash").asText("").toLowerCase(Locale.ROOT);
+                if (wanted.contains(txHash) && receipt.has("logs")) {
+                    receiptsByTx.put(txHash, receipt);
+                    remaining.remove(txHash);
+                }
+            }
+        }
+        return remaining;
+    }
+
+    private List<JsonNode> getBlockReceipts(String endpoint, long blockNumber) {
+        String json = callRpc(endpoint, "eth_getBlockReceipts", Collections.singletonList("0x" + Long.toHexString(blockNumber)));
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new RpcException("Failed to parse eth_getBlockReceipts response", e);
+        }
+        JsonNode error = root.path("error");
+        if (!error.isMissingNode()) {
+            throw new RpcException("eth_getBlockReceipts error: " + error);
+        }
+        JsonNode result = root.path("result");
+        if (result.isMissingNode() || result.isNull()) {
+            return List.of();
+        }
+        if (!result.isArray()) {
+            throw new RpcException("eth_getBlockReceipts: expected array result, got " + result.getNodeType());
+        }
+        List<JsonNode> receipts = new ArrayList<>(result.size());
+        result.forEach(receipts::add);
+        return receipts;
+    }
+
     private void parseBatchReceiptResponse(String json, List<String> txHashes, Map<String, JsonNode> result) {
         JsonNode root;
         try {
@@ -813,8 +918,8 @@ public class EvmNetworkAdapter implements NetworkAdapter {
     }
 
     private TokenMetadata resolveTokenMetadata(String endpoint, String networkId, String contractAddress) {
-        String cacheKey = networkId + "|" + contractAddress.toLowerCase(Locale.ROOT);
-        return tokenMetadataCache.computeIfAbsent(cacheKey, key -> loadTokenMetadata(endpoint, contractAddress));
+        return tokenMetadataStore.resolve(networkId, contractAddress.toLowerCase(Locale.ROOT), TOKEN_METADATA_SOURCE,
+                () -> loadTokenMetadata(endpoint, contractAddress));
     }
 
     private TokenMetadata loadTokenMetadata(String endpoint, String contractAddress) {
@@ -1116,9 +1221,6 @@ public class EvmNetworkAdapter implements NetworkAdapter {
         return "0x" + "0".repeat(24) + hex;
     }
 
-    private record TokenMetadata(Integer decimals, String symbol, String name) {
-    }
-
     private String callRpc(String endpoint, String method, Object params) {
         long acquireStart = System.nanoTime();
         boolean permitted = evmRpcRateLimiter.acquirePermission();
@@ -1204,6 +1306,29 @@ public class EvmNetworkAdapter implements NetworkAdapter {
         return until == null || until <= System.currentTimeMillis();
     }
 
+    private void markBlockReceiptsUnsupported(String endpoint, Exception cause) {
+        long cooldownMs = Math.max(30_000L, evmRpcProperties.getBlockReceiptsUnsupportedCooldownMs());
+        long nowMs = System.currentTimeMillis();
+        long until = nowMs + cooldownMs;
+        AtomicBoolean firstMark = new AtomicBoolean(false);
+        blockReceiptsUnsupportedUntilMs.compute(endpoint, (ep, prevUntil) -> {
+            if (prevUntil == null || prevUntil <= nowMs) {
+                firstMark.set(true);
+                return until;
+            }
+            return prevUntil;
+        });
+        if (firstMark.get()) {
+            log.info("eth_getBlockReceipts disabled on {} for {} ms (fallback to per-hash receipts). cause={}",
+                    endpoint, cooldownMs, messageOf(cause));
+        }
+    }
+
+    private boolean isBlockReceiptsSupported(String endpoint) {
+        Long until = blockReceiptsUnsupportedUntilMs.get(endpoint);
+        return until == null || until <= System.currentTimeMillis();
+    }
+
     private static String messageOf(Exception e) {
         if (e == null || e.getMessage() == null || e.getMessage().isBlank()) {
             return "unknown";
@@ -2,6 +2,8 @@ package com.walletradar.platform.networks.evm.rpc.support;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.walletradar.platform.metadata.TokenMetadata;
+import com.walletradar.platform.metadata.TokenMetadataStore;
 import com.walletradar.platform.networks.RpcException;
 import com.walletradar.platform.networks.evm.rpc.EvmRpcClient;
 import com.walletradar.platform.networks.config.IngestionEvmRpcProperties;
@@ -18,7 +20,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 @Slf4j
@@ -28,24 +29,26 @@ public class RpcTokenTransferResolver {
     private static final String ERC20_DECIMALS_SELECTOR = "0x313ce567";
     private static final String ERC20_SYMBOL_SELECTOR = "0x95d89b41";
     private static final String ERC20_NAME_SELECTOR = "0x06fdde03";
-
-    private final Map<String, TokenMetadata> tokenMetadataCache = new ConcurrentHashMap<>();
+    private static final String TOKEN_METADATA_SOURCE = "EVM_RPC";
 
     private final EvmRpcClient rpcClient;
     private final RateLimiter evmRpcRateLimiter;
     private final IngestionEvmRpcProperties evmRpcProperties;
     private final ObjectMapper objectMapper;
+    private final TokenMetadataStore tokenMetadataStore;
 
     public RpcTokenTransferResolver(
             EvmRpcClient rpcClient,
             RateLimiter evmRpcRateLimiter,
             IngestionEvmRpcProperties evmRpcProperties,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            TokenMetadataStore tokenMetadataStore
     ) {
         this.rpcClient = rpcClient;
         this.evmRpcRateLimiter = evmRpcRateLimiter;
         this.evmRpcProperties = evmRpcProperties;
         this.objectMapper = objectMapper;
+        this.tokenMetadataStore = tokenMetadataStore;
     }
 
     public List<Document> buildTokenTransfers(String endpoint, String networkId, JsonNode logs) {
@@ -96,8 +99,8 @@ public class RpcTokenTransferResolver {
     }
 
     private TokenMetadata resolveTokenMetadata(String endpoint, String networkId, String contractAddress) {
-        String cacheKey = networkId + "|" + contractAddress.toLowerCase(Locale.ROOT);
-        return tokenMetadataCache.computeIfAbsent(cacheKey, key -> loadTokenMetadata(endpoint, contractAddress));
+        return tokenMetadataStore.resolve(networkId, contractAddress.toLowerCase(Locale.ROOT), TOKEN_METADATA_SOURCE,
+                () -> loadTokenMetadata(endpoint, contractAddress));
     }
 
     private TokenMetadata loadTokenMetadata(String endpoint, String contractAddress) {
@@ -294,7 +297,4 @@ public class RpcTokenTransferResolver {
         String string = value.toString().trim();
         return string.isEmpty() ? null : string;
     }
-
-    private record TokenMetadata(Integer decimals, String symbol, String name) {
-    }
 }
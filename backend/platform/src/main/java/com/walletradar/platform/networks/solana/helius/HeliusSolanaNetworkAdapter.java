@@ -6,6 +6,8 @@ import com.walletradar.domain.common.NetworkId;
 import com.walletradar.domain.transaction.raw.NormalizationStatus;
 import com.walletradar.domain.transaction.raw.RawSyncMethod;
 import com.walletradar.domain.transaction.raw.RawTransaction;
+import com.walletradar.platform.common.concurrent.BoundedExecutor;
+import com.walletradar.platform.common.config.AsyncConfig;
 import com.walletradar.platform.networks.NetworkAdapter;
 import com.walletradar.platform.networks.RpcEndpointRotator;
 import com.walletradar.platform.networks.RpcException;
@@ -19,10 +21,20 @@ import org.springframework.stereotype.Component;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Solana {@link NetworkAdapter} backed by the Helius Enhanced Transactions REST API.
@@ -37,6 +49,11 @@ import java.util.Set;
  *
  * <p>Block range params (fromBlock / toBlock) are reinterpreted as max transaction count,
  * consistent with the base {@code SolanaNetworkAdapter} signature-paging model.</p>
+ *
+ * <p>Token-account history is incremental: each ATA is paged only {@code until} the newest signature
+ * held for it by {@link SolanaAtaCursorStore}. A walk that is not capped stages the newest signature
+ * of every ATA; the marks are persisted only from {@link #onFetchPersisted} so a failed raw write
+ * never skips history.</p>
  */
 @Component
 @Order(1)
@@ -64,6 +81,9 @@ public class HeliusSolanaNetworkAdapter implements NetworkAdapter {
     private final Map<String, RpcEndpointRotator> rotatorsByNetwork;
     private final RpcEndpointRotator defaultRotator;
     private final HeliusRequestThrottle throttle;
+    private final SolanaAtaCursorStore cursorStore;
+    private final BoundedExecutor ataExecutor;
+    private final Map<String, Map<String, String>> stagedAtaCursors = new ConcurrentHashMap<>();
 
     public HeliusSolanaNetworkAdapter(HeliusSolanaClient heliusClient,
                                       HeliusSolanaProperties properties,
@@ -71,7 +91,9 @@ public class HeliusSolanaNetworkAdapter implements NetworkAdapter {
                                       SolanaRpcClient rpcClient,
                                       @Qualifier("solanaRotatorsByNetwork") Map<String, RpcEndpointRotator> rotatorsByNetwork,
                                       @Qualifier("solanaDefaultRpcEndpointRotator") RpcEndpointRotator defaultRotator,
-                                      HeliusRequestThrottle throttle) {
+                                      HeliusRequestThrottle throttle,
+                                      SolanaAtaCursorStore cursorStore,
+                                      @Qualifier(AsyncConfig.SOLANA_ATA_EXECUTOR) BoundedExecutor ataExecutor) {
         this.heliusClient = heliusClient;
         this.properties = properties;
         this.objectMapper = objectMapper;
@@ -79,6 +101,8 @@ public class HeliusSolanaNetworkAdapter implements NetworkAdapter {
         this.rotatorsByNetwork = rotatorsByNetwork;
         this.defaultRotator = defaultRotator;
         this.throttle = throttle;
+        this.cursorStore = cursorStore;
+        this.ataExecutor = ataExecutor;
     }
 
     @Override
@@ -102,6 +126,7 @@ public class HeliusSolanaNetworkAdapter implements NetworkAdapter {
         if (networkId != NetworkId.SOLANA) {
             return List.of();
         }
+        stagedAtaCursors.remove(walletAddress);
         long maxTxs = (toBlock > 0 && fromBlock >= 0) ? (toBlock - fromBlock + 1) : Long.MAX_VALUE;
         List<RawTransaction> all = new ArrayList<>();
         // Signatures already captured, so ATA-derived history is deduped against owner history.
@@ -113,6 +138,17 @@ public class HeliusSolanaNetworkAdapter implements NetworkAdapter {
         return all;
     }
 
+    @Override
+    public void onFetchPersisted(String walletAddress, NetworkId networkId, List<RawTransaction> persisted) {
+        if (networkId != NetworkId.SOLANA) {
+            return;
+        }
+        Map<String, String> staged = stagedAtaCursors.remove(walletAddress);
+        if (staged != null) {
+            cursorStore.save(walletAddress, staged);
+        }
+    }
+
     /**
      * Pages the owner's parsed history via Helius {@code /addresses/{owner}/transactions}
      * (owner {@code getSignaturesForAddress}). This misses SPL transfers where the owner is only
@@ -161,9 +197,13 @@ public class HeliusSolanaNetworkAdapter implements NetworkAdapter {
     /**
      * Captures inbound SPL transfers addressed to the wallet's token accounts (ATAs), which owner
      * history never returns. Resolves the wallet's SPL / Token-2022 token accounts, pages each ATA's
-     * signatures back to the 2-year horizon, dedups against already-seen signatures, then re-enriches
-     * the new signatures through the same Helius parse endpoint so the {@code rawData} shape matches
-     * owner history.
+     * signatures back to its persisted mark (or the 2-year horizon), dedups against already-seen
+     * signatures, then re-enriches the new signatures through the same Helius parse endpoint so the
+     * {@code rawData} shape matches owner history.
+     *
+     * <p>ATAs are paged concurrently on the shared {@code solana-ata} executor (every call still goes
+     * through the Helius throttle) while this thread parses the signatures of the ATAs that are done
+     * in batches of {@value #PARSE_BATCH_SIZE}, so parsing overlaps paging.</p>
      *
      * <p><b>Guard:</b> if token-account resolution fails, log a warning and fall back to
      * owner-history-only (do not fail the whole fetch). Per-ATA signature paging and batch parsing,
@@ -187,29 +227,102 @@ public class HeliusSolanaNetworkAdapter implements NetworkAdapter {
             return;
         }
 
+        Map<String, String> cursors = properties.isAtaCursorEnabled() ? cursorStore.load(walletAddress) : Map.of();
         long horizon = Instant.now().getEpochSecond() - BACKFILL_HORIZON_SECONDS;
-        Set<String> newSignatures = new LinkedHashSet<>();
-        for (String ata : tokenAccounts) {
-            collectAtaSignatures(rotator, ata, horizon, newSignatures, seenSignatures);
+        Map<String, String> newestByAta = new HashMap<>();
+        Set<String> queued = new HashSet<>();
+        List<String> batch = new ArrayList<>(PARSE_BATCH_SIZE);
+        AtomicBoolean aborted = new AtomicBoolean();
+        BlockingQueue<AtaSignatures> completed = startAtaPaging(rotator, tokenAccounts, cursors, horizon, aborted);
+        try {
+            for (int done = 0; done < tokenAccounts.size(); done++) {
+                AtaSignatures ata = takeCompleted(completed);
+                if (ata.newest() != null) {
+                    newestByAta.put(ata.tokenAccount(), ata.newest());
+                }
+                for (String signature : ata.signatures()) {
+                    if (seenSignatures.contains(signature) || !queued.add(signature)) {
+                        continue;
+                    }
+                    batch.add(signature);
+                    if (batch.size() >= PARSE_BATCH_SIZE) {
+                        enrichAndCollect(batch, walletAddress, maxTxs, all, seenSignatures);
+                        batch.clear();
+                        if (all.size() >= maxTxs) {
+                            return;
+                        }
+                    }
+                }
+            }
+        } finally {
+            aborted.set(true);
         }
-        if (newSignatures.isEmpty()) {
-            return;
+        if (!batch.isEmpty()) {
+            enrichAndCollect(batch, walletAddress, maxTxs, all, seenSignatures);
+            if (all.size() >= maxTxs) {
+                return;
+            }
         }
+        if (properties.isAtaCursorEnabled() && !newestByAta.isEmpty()) {
+            stagedAtaCursors.put(walletAddress, newestByAta);
+        }
+        log.debug("Helius ATA fetch for {}: tokenAccounts={}, resumedFromCursor={}, newSignatures={}",
+                walletAddress, tokenAccounts.size(), cursors.size(), queued.size());
+    }
 
-        List<String> batch = new ArrayList<>(PARSE_BATCH_SIZE);
-        for (String signature : newSignatures) {
-            batch.add(signature);
-            if (batch.size() >= PARSE_BATCH_SIZE) {
-                enrichAndCollect(batch, walletAddress, maxTxs, all, seenSignatures);
-                batch.clear();
-                if (all.size() >= maxTxs) {
+    /**
+     * Starts up to {@code solana-ata} max-concurrency lanes that page the token accounts one at a
+     * time and publish each finished ATA (or its failure) to the returned queue. When no lane can be
+     * admitted the ATAs are paged on the calling thread instead. Lanes stop taking new ATAs once
+     * {@code aborted} is set.
+     */
+    private BlockingQueue<AtaSignatures> startAtaPaging(RpcEndpointRotator rotator, List<String> tokenAccounts,
+                                                       Map<String, String> cursors, long horizon,
+                                                       AtomicBoolean aborted) {
+        BlockingQueue<AtaSignatures> completed = new LinkedBlockingQueue<>();
+        Queue<String> pending = new ConcurrentLinkedQueue<>(tokenAccounts);
+        Runnable lane = () -> {
+            String ata;
+            while (!aborted.get() && (ata = pending.poll()) != null) {
+                try {
+                    completed.add(collectAtaSignatures(rotator, ata, cursors.get(ata), horizon));
+                } catch (RuntimeException | Error e) {
+                    completed.add(AtaSignatures.failed(ata, e));
                     return;
                 }
             }
+        };
+        int lanes = Math.min(ataExecutor.maxConcurrency(), tokenAccounts.size());
+        int started = 0;
+        for (int i = 0; i < lanes; i++) {
+            try {
+                ataExecutor.execute(lane);
+                started++;
+            } catch (RejectedExecutionException e) {
+                break;
+            }
         }
-        if (!batch.isEmpty()) {
-            enrichAndCollect(batch, walletAddress, maxTxs, all, seenSignatures);
+        if (started == 0) {
+            lane.run();
         }
+        return completed;
+    }
+
+    private static AtaSignatures takeCompleted(BlockingQueue<AtaSignatures> completed) {
+        AtaSignatures ata;
+        try {
+            ata = completed.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RpcException("Interrupted while paging Solana token accounts", e);
+        }
+        if (ata.failure() instanceof RpcException rpc) {
+            throw rpc;
+        }
+        if (ata.failure() != null) {
+            throw new RpcException("Solana token account paging failed for " + ata.tokenAccount(), ata.failure());
+        }
+        return ata;
     }
 
     /**
@@ -237,19 +350,26 @@ public class HeliusSolanaNetworkAdapter implements NetworkAdapter {
 
     /**
      * Pages one token account's signatures (newest first) via {@code getSignaturesForAddress},
-     * following the {@code before} cursor until the account is exhausted or a signature older than
-     * the 2-year horizon is reached. Adds not-yet-seen, non-errored signatures to {@code target}.
+     * following the {@code before} cursor until the account is exhausted, the persisted mark
+     * ({@code until}, exclusive) is reached or a signature older than the 2-year horizon is reached.
+     * Returns the non-errored signatures plus the newest signature seen (the ATA's next mark).
      */
-    private void collectAtaSignatures(RpcEndpointRotator rotator, String ata, long horizon,
-                                      Set<String> target, Set<String> seenSignatures) {
+    private AtaSignatures collectAtaSignatures(RpcEndpointRotator rotator, String ata, String until, long horizon) {
+        List<String> signatures = new ArrayList<>();
+        String newest = null;
         String before = null;
         while (true) {
-            Map<String, Object> config = before == null
-                    ? Map.of("limit", SIGNATURES_PAGE_LIMIT)
-                    : Map.of("limit", SIGNATURES_PAGE_LIMIT, "before", before);
+            Map<String, Object> config = new LinkedHashMap<>();
+            config.put("limit", SIGNATURES_PAGE_LIMIT);
+            if (before != null) {
+                config.put("before", before);
+            }
+            if (until != null) {
+                config.put("until", until);
+            }
             JsonNode result = callWithRetry(rotator, "getSignaturesForAddress", List.of(ata, config));
             if (!result.isArray() || result.isEmpty()) {
-                return;
+                return new AtaSignatures(ata, signatures, newest, null);
             }
             boolean horizonReached = false;
             for (JsonNode sigInfo : result) {
@@ -262,18 +382,21 @@ public class HeliusSolanaNetworkAdapter implements NetworkAdapter {
                 if (signature == null || signature.isBlank()) {
                     continue;
                 }
+                if (newest == null) {
+                    newest = signature;
+                }
                 boolean failed = !sigInfo.path("err").isNull() && !sigInfo.path("err").isMissingNode();
-                if (!failed && !seenSignatures.contains(signature)) {
-                    target.add(signature);
+                if (!failed) {
+                    signatures.add(signature);
                 }
             }
             if (horizonReached || result.size() < SIGNATURES_PAGE_LIMIT) {
-                return;
+                return new AtaSignatures(ata, signatures, newest, null);
             }
             JsonNode last = result.get(result.size() - 1);
             before = last.path("signature").asText(null);
             if (before == null || before.isBlank()) {
-                return;
+                return new AtaSignatures(ata, signatures, newest, null);
             }
         }
     }
@@ -397,4 +520,12 @@ public class HeliusSolanaNetworkAdapter implements NetworkAdapter {
         }
         return null;
     }
+
+    /** One token account's paging outcome: new signatures newest first, its next mark, or the failure. */
+    private record AtaSignatures(String tokenAccount, List<String> signatures, String newest, Throwable failure) {
+
+        static AtaSignatures failed(String tokenAccount, Throwable failure) {
+            return new AtaSignatures(tokenAccount, List.of(), null, failure);
+        }
+    }
 }
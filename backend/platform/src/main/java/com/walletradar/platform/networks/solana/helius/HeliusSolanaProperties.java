@@ -38,6 +38,13 @@ public class HeliusSolanaProperties {
      */
     private long minRequestIntervalMillis = 250L;
 
+    /**
+     * When true, token-account (ATA) signature paging resumes from the persisted newest signature per
+     * (wallet, ATA) and only fetches newer signatures; when false every fetch walks each ATA back to
+     * the 2-year horizon.
+     */
+    private boolean ataCursorEnabled = true;
+
     /**
      * Helius batch parse endpoint: {@code POST https://api-mainnet.helius-rpc.com/v0/transactions?api-key=…}.
      * Accepts a JSON body of {@code {"transactions": [sig1, sig2, …]}}.
@@ -0,0 +1,76 @@
+package com.walletradar.platform.networks.solana.helius;
+
+import com.walletradar.domain.common.NetworkId;
+import com.walletradar.domain.sync.SolanaAtaSignatureCursor;
+import com.walletradar.domain.transaction.raw.RawTransaction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link SolanaAtaCursorStore} backed by the {@code solana_ata_signature_cursors} collection.
+ *
+ * <p>Stored marks are only honoured while the wallet still has Solana raw rows, so a wiped or
+ * re-imported {@code raw_transactions} collection falls back to a full ATA walk instead of silently
+ * skipping history.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MongoSolanaAtaCursorStore implements SolanaAtaCursorStore {
+
+    private final MongoOperations mongoOperations;
+
+    @Override
+    public Map<String, String> load(String walletAddress) {
+        if (walletAddress == null || walletAddress.isBlank()) {
+            return Map.of();
+        }
+        Map<String, String> cursors = new HashMap<>();
+        for (SolanaAtaSignatureCursor stored : mongoOperations.find(
+                Query.query(Criteria.where("walletAddress").is(walletAddress)), SolanaAtaSignatureCursor.class)) {
+            if (stored.getTokenAccount() != null && stored.getLastSignature() != null) {
+                cursors.put(stored.getTokenAccount(), stored.getLastSignature());
+            }
+        }
+        if (cursors.isEmpty()) {
+            return Map.of();
+        }
+        boolean hasRawRows = mongoOperations.exists(
+                Query.query(Criteria.where("walletAddress").is(walletAddress)
+                        .and("networkId").is(NetworkId.SOLANA.name())),
+                RawTransaction.class);
+        if (!hasRawRows) {
+            log.info("Solana ATA cursors for {} ignored: no raw rows left; walking full ATA history", walletAddress);
+            return Map.of();
+        }
+        return cursors;
+    }
+
+    @Override
+    public void save(String walletAddress, Map<String, String> newestSignatureByTokenAccount) {
+        if (walletAddress == null || walletAddress.isBlank()
+                || newestSignatureByTokenAccount == null || newestSignatureByTokenAccount.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        BulkOperations bulk = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, SolanaAtaSignatureCursor.class);
+        newestSignatureByTokenAccount.forEach((tokenAccount, signature) -> bulk.upsert(
+                Query.query(Criteria.where("_id").is(SolanaAtaSignatureCursor.key(walletAddress, tokenAccount))),
+                new Update()
+                        .set("walletAddress", walletAddress)
+                        .set("tokenAccount", tokenAccount)
+                        .set("lastSignature", signature)
+                        .set("updatedAt", now)));
+        bulk.execute();
+    }
+}
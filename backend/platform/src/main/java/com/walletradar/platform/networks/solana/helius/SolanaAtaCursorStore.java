@@ -0,0 +1,18 @@
+package com.walletradar.platform.networks.solana.helius;
+
+import java.util.Map;
+
+/**
+ * Persistence port for per-(wallet, token account) Solana signature high-water marks (see
+ * {@link HeliusSolanaNetworkAdapter}).
+ */
+public interface SolanaAtaCursorStore {
+
+    /**
+     * @return token account → newest fully persisted signature for the wallet; empty when every ATA
+     *         must be walked back to the backfill horizon
+     */
+    Map<String, String> load(String walletAddress);
+
+    void save(String walletAddress, Map<String, String> newestSignatureByTokenAccount);
+}
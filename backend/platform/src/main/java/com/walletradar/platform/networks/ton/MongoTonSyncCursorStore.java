@@ -0,0 +1,63 @@
+package com.walletradar.platform.networks.ton;
+
+import com.walletradar.domain.common.NetworkId;
+import com.walletradar.domain.sync.TonSyncCursor;
+import com.walletradar.domain.transaction.raw.RawTransaction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * {@link TonSyncCursorStore} backed by the {@code ton_sync_cursors} collection.
+ *
+ * <p>A stored mark is only honoured while the raw row it points at still exists, so a wiped or
+ * re-imported {@code raw_transactions} collection falls back to a full walk instead of silently
+ * skipping history.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MongoTonSyncCursorStore implements TonSyncCursorStore {
+
+    private final MongoOperations mongoOperations;
+
+    @Override
+    public Optional<TonLtCursor> load(String walletAddress) {
+        if (walletAddress == null || walletAddress.isBlank()) {
+            return Optional.empty();
+        }
+        TonSyncCursor stored = mongoOperations.findById(walletAddress, TonSyncCursor.class);
+        if (stored == null || stored.getLastLt() == null || stored.getLastHash() == null) {
+            return Optional.empty();
+        }
+        String rawId = stored.getLastHash() + ":" + NetworkId.TON.name() + ":" + walletAddress;
+        if (!mongoOperations.exists(Query.query(Criteria.where("_id").is(rawId)), RawTransaction.class)) {
+            log.info("TON cursor for {} ignored: marked raw row {} is missing; walking full history", walletAddress, rawId);
+            return Optional.empty();
+        }
+        return Optional.of(new TonLtCursor(stored.getLastLt(), stored.getLastHash()));
+    }
+
+    @Override
+    public void save(String walletAddress, TonLtCursor cursor) {
+        if (walletAddress == null || walletAddress.isBlank() || cursor == null) {
+            return;
+        }
+        mongoOperations.upsert(
+                Query.query(Criteria.where("_id").is(walletAddress)),
+                new Update()
+                        .set("walletAddress", walletAddress)
+                        .set("lastLt", cursor.lt())
+                        .set("lastHash", cursor.hash())
+                        .set("updatedAt", Instant.now()),
+                TonSyncCursor.class
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.walletradar.platform.networks.ton;
+
+/**
+ * Position of one TON account transaction: logical time (unique per account) plus its hash.
+ */
+public record TonLtCursor(long lt, String hash) {
+
+    /** True when {@code lt}/{@code hash} name the transaction this cursor points at. */
+    public boolean matches(long otherLt, String otherHash) {
+        return lt == otherLt && hash != null && hash.equals(otherHash);
+    }
+}
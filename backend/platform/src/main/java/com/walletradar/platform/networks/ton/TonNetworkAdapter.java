@@ -19,17 +19,27 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * TON {@link NetworkAdapter} backed by the TON Center v3 REST API.
  *
- * <p>Fetches TON transactions (native + jetton) for a wallet address using offset-based
- * pagination. For each transaction the full TON Center JSON is stored in
- * {@code rawData.transaction}; associated jetton transfers are stored in
+ * <p>Fetches TON transactions (native + jetton) for a wallet address newest→oldest, paging with a
+ * logical-time cursor ({@code end_lt} = previous page's lowest lt − 1) so pages stay stable while new
+ * transactions arrive and deep backfills cost the same per page. For each transaction the full TON
+ * Center JSON is stored in {@code rawData.transaction}; associated jetton transfers are stored in
  * {@code rawData.jettonTransfers}.</p>
  *
+ * <p>Incremental refreshes start from the per-wallet (lt, hash) high-water mark held by
+ * {@link TonSyncCursorStore} and stop once they reach it. A walk that reaches the mark (or the end of
+ * history) is staged; once its rows are written, {@link #onFetchPersisted} saves the newest
+ * <em>persisted</em> transaction as the next mark, so neither a failed raw write nor a scam-dropped
+ * head transaction leaves the mark on a row that does not exist.</p>
+ *
  * <p>Block range parameters (fromBlock / toBlock) are used to cap the maximum number of
- * transactions fetched per segment invocation, consistent with the Solana offset model.</p>
+ * transactions fetched per segment invocation, consistent with the Solana offset model. A capped
+ * walk does not advance the mark.</p>
  *
  * <p>Registered with {@link Order}(1) to take precedence over any generic adapter.</p>
  */
@@ -42,6 +52,8 @@ public class TonNetworkAdapter implements NetworkAdapter {
     private final TonRpcClient rpcClient;
     private final TonNetworkProperties properties;
     private final ObjectMapper objectMapper;
+    private final TonSyncCursorStore cursorStore;
+    private final Set<String> completedWalks = ConcurrentHashMap.newKeySet();
 
     @Override
     public boolean supports(NetworkId networkId) {
@@ -55,7 +67,7 @@ public class TonNetworkAdapter implements NetworkAdapter {
 
     @Override
     public boolean supportsBlockCheckpointing() {
-        // TON uses offset-based pagination, not block ranges
+        // TON uses logical-time cursor pagination, not block ranges
         return false;
     }
 
@@ -67,15 +79,28 @@ public class TonNetworkAdapter implements NetworkAdapter {
         if (networkId != NetworkId.TON) {
             return List.of();
         }
+        completedWalks.remove(walletAddress);
         long maxTxs = (toBlock > 0 && fromBlock >= 0) ? (toBlock - fromBlock + 1) : Long.MAX_VALUE;
+        TonLtCursor highWaterMark = properties.isIncrementalCursorEnabled()
+                ? cursorStore.load(walletAddress).orElse(null)
+                : null;
         List<RawTransaction> all = new ArrayList<>();
         int pageSize = Math.min(properties.getPageSize(), 100);
+        long slackSeconds = Math.max(0L, properties.getJettonWindowSlackSeconds());
+        // Jetton transfers are fetched once per page time window and accumulated across pages, keyed by
+        // trace_id (primary) and transaction_hash (fallback). A jetton transfer's transaction_hash points at
+        // a *different* transaction in the trace than the owner-account transaction row, so the shared
+        // trace_id is the correct correlation key. Windows are contiguous and non-overlapping.
+        JettonTransferIndex jettonIndex = new JettonTransferIndex();
+        Long jettonWindowEnd = null;
+        Long endLt = null;
         int offset = 0;
+        boolean complete = false;
 
         while (all.size() < maxTxs) {
             List<JsonNode> page;
             try {
-                page = fetchTransactionPage(walletAddress, pageSize, offset);
+                page = fetchTransactionPage(walletAddress, pageSize, highWaterMark, endLt, offset);
             } catch (RpcException e) {
                 // No-complete-on-partial-fetch: a mid-stream failure that is not a natural end
                 // (empty/short page) must fail the segment so BackfillNetworkExecutor marks it FAILED
@@ -87,36 +112,90 @@ public class TonNetworkAdapter implements NetworkAdapter {
                 throw e;
             }
             if (page.isEmpty()) {
+                complete = true;
                 break;
             }
-            // Fetch jetton transfers once per page for this address, keyed by trace_id (primary)
-            // and transaction_hash (fallback). A jetton transfer's transaction_hash points at a
-            // *different* transaction in the trace than the owner-account transaction row, so the
-            // shared trace_id is the correct correlation key.
-            JettonTransferIndex jettonIndex = fetchJettonTransfers(walletAddress, pageSize, offset);
+            PageBounds bounds = PageBounds.of(page);
+            if (bounds.minNow() > 0L) {
+                long windowStart = Math.max(0L, bounds.minNow() - slackSeconds);
+                long windowEnd = jettonWindowEnd == null ? bounds.maxNow() + slackSeconds : jettonWindowEnd;
+                if (windowStart <= windowEnd) {
+                    fetchJettonTransfers(walletAddress, windowStart, windowEnd, pageSize, jettonIndex);
+                    jettonWindowEnd = windowStart - 1;
+                }
+            }
 
             for (JsonNode txNode : page) {
                 if (all.size() >= maxTxs) {
                     break;
                 }
+                if (highWaterMark != null && highWaterMark.matches(ltOf(txNode), txNode.path("hash").asText(null))) {
+                    continue;
+                }
                 RawTransaction raw = buildRaw(txNode, walletAddress, jettonIndex);
                 if (raw != null) {
                     all.add(raw);
                 }
             }
             if (page.size() < pageSize) {
+                complete = true;
                 break;
             }
-            offset += pageSize;
+            if (bounds.minLt() > 0L) {
+                endLt = bounds.minLt() - 1;
+                offset = 0;
+            } else {
+                // Responses without lt cannot drive the cursor; keep paging by offset.
+                offset += pageSize;
+            }
+        }
+        if (complete && properties.isIncrementalCursorEnabled()) {
+            completedWalks.add(walletAddress);
+        }
+        if (highWaterMark != null) {
+            log.debug("TON incremental fetch for {} from lt {}: {} new txs (complete={})",
+                    walletAddress, highWaterMark.lt(), all.size(), complete);
         }
         return all;
     }
 
-    private List<JsonNode> fetchTransactionPage(String address, int limit, int offset) {
+    @Override
+    public void onFetchPersisted(String walletAddress, NetworkId networkId, List<RawTransaction> persisted) {
+        if (networkId != NetworkId.TON || !completedWalks.remove(walletAddress)) {
+            return;
+        }
+        TonLtCursor newest = null;
+        for (RawTransaction raw : persisted) {
+            if (!walletAddress.equals(raw.getWalletAddress()) || raw.getTxHash() == null) {
+                continue;
+            }
+            long lt = ltOf(raw);
+            if (lt > 0L && (newest == null || lt > newest.lt())) {
+                newest = new TonLtCursor(lt, raw.getTxHash());
+            }
+        }
+        // Nothing new was written (or every new row was dropped): the current mark still names a stored row.
+        if (newest != null) {
+            cursorStore.save(walletAddress, newest);
+        }
+    }
+
+    private List<JsonNode> fetchTransactionPage(String address, int limit, TonLtCursor highWaterMark,
+                                                Long endLt, int offset) {
         Map<String, String> params = new LinkedHashMap<>();
         params.put("account", address);
         params.put("limit", String.valueOf(limit));
-        params.put("offset", String.valueOf(offset));
+        params.put("sort", "desc");
+        if (highWaterMark != null) {
+            // Inclusive: the mark itself is returned (and skipped), proving the cursor is still on-chain.
+            params.put("start_lt", String.valueOf(highWaterMark.lt()));
+        }
+        if (endLt != null) {
+            params.put("end_lt", String.valueOf(endLt));
+        }
+        if (offset > 0) {
+            params.put("offset", String.valueOf(offset));
+        }
         String body = rpcClient.get("transactions", params);
         try {
             JsonNode root = objectMapper.readTree(body);
@@ -134,38 +213,58 @@ public class TonNetworkAdapter implements NetworkAdapter {
     }
 
     /**
-     * Fetches owner-addressed jetton transfers for a page and indexes them by {@code trace_id}
-     * (primary correlation key) and {@code transaction_hash} (fallback). The owner address is
-     * passed in friendly form (raw {@code 0:hex} causes the endpoint to time out) and no direction
-     * filter is used, so both incoming and outgoing jetton transfers are captured.
+     * Fetches owner-addressed jetton transfers whose {@code utime} falls inside
+     * {@code [startUtime, endUtime]} into the shared index. The owner address is passed in friendly
+     * form (raw {@code 0:hex} causes the endpoint to time out) and no direction filter is used, so both
+     * incoming and outgoing jetton transfers are captured. A closed window is stable under new
+     * activity, so offset paging inside it does not drift.
      *
      * <p>The {@code /jetton/transfers} endpoint is flaky on the free tier (spurious {@code count=0}
-     * / timeouts on consecutive identical calls), so it is retried on timeout / 5xx / empty. A
-     * persistent failure is logged (WARN) rather than silently swallowed, and never aborts the page.</p>
+     * / timeouts on consecutive identical calls), so each request is retried on timeout / 5xx and the
+     * first request of a window also on empty. A persistent failure is logged (WARN) rather than
+     * silently swallowed, and never aborts the page.</p>
      */
-    private JettonTransferIndex fetchJettonTransfers(String address, int limit, int offset) {
+    private void fetchJettonTransfers(String address, long startUtime, long endUtime, int limit,
+                                      JettonTransferIndex index) {
+        int offset = 0;
+        while (true) {
+            int received = fetchJettonTransferPage(address, startUtime, endUtime, limit, offset, index);
+            if (received < limit) {
+                return;
+            }
+            offset += limit;
+        }
+    }
+
+    private int fetchJettonTransferPage(String address, long startUtime, long endUtime, int limit, int offset,
+                                        JettonTransferIndex index) {
         int maxAttempts = Math.max(1, properties.getJettonFetchMaxAttempts());
         RpcException lastError = null;
         for (int attempt = 1; attempt <= maxAttempts; attempt++) {
             try {
                 Map<String, String> params = new LinkedHashMap<>();
                 params.put("owner_address", address);
+                params.put("start_utime", String.valueOf(startUtime));
+                params.put("end_utime", String.valueOf(endUtime));
+                params.put("sort", "desc");
                 params.put("limit", String.valueOf(limit));
                 params.put("offset", String.valueOf(offset));
                 String body = rpcClient.get("jetton/transfers", params);
                 JsonNode root = objectMapper.readTree(body);
                 JsonNode transfers = root.path("jetton_transfers");
-                JettonTransferIndex index = new JettonTransferIndex();
-                if (transfers.isArray()) {
+                int received = transfers.isArray() ? transfers.size() : 0;
+                if (received > 0) {
                     transfers.forEach(jt -> index.add(jsonNodeToDocument(jt),
                             jt.path("trace_id").asText(null),
                             jt.path("transaction_hash").asText(null)));
+                    return received;
                 }
-                if (!index.isEmpty()) {
-                    return index;
+                if (offset > 0) {
+                    return 0;
                 }
-                // Empty result: may be a spurious free-tier count=0. Retry; if consistently empty
-                // (no error) it is treated as a genuinely jetton-free page and returned empty.
+                // Empty first page: may be a spurious free-tier count=0. Retry; if consistently empty
+                // (no error) it is treated as a genuinely jetton-free window.
+                lastError = null;
             } catch (RpcException e) {
                 lastError = e;
             } catch (Exception e) {
@@ -174,10 +273,68 @@ public class TonNetworkAdapter implements NetworkAdapter {
             backoffBeforeRetry(attempt, maxAttempts);
         }
         if (lastError != null) {
-            log.warn("TON jetton transfers unresolved after {} attempts for {} (offset {}): {}",
-                    maxAttempts, address, offset, lastError.getMessage());
+            log.warn("TON jetton transfers unresolved after {} attempts for {} (window {}-{}, offset {}): {}",
+                    maxAttempts, address, startUtime, endUtime, offset, lastError.getMessage());
+        }
+        return 0;
+    }
+
+    private static long ltOf(JsonNode txNode) {
+        JsonNode lt = txNode.path("lt");
+        if (lt.isIntegralNumber()) {
+            return lt.asLong();
+        }
+        String text = lt.asText(null);
+        if (text == null || text.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(text.trim());
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private static long ltOf(RawTransaction raw) {
+        Object transaction = raw.getRawData() == null ? null : raw.getRawData().get("transaction");
+        Object lt = transaction instanceof Document document ? document.get("lt") : null;
+        if (lt instanceof Number number) {
+            return number.longValue();
+        }
+        if (lt instanceof String text && !text.isBlank()) {
+            try {
+                return Long.parseLong(text.trim());
+            } catch (NumberFormatException e) {
+                return 0L;
+            }
+        }
+        return 0L;
+    }
+
+    /** lt / {@code now} bounds of one transaction page. */
+    private record PageBounds(long minLt, long minNow, long maxNow) {
+
+        static PageBounds of(List<JsonNode> page) {
+            long minLt = Long.MAX_VALUE;
+            long minNow = Long.MAX_VALUE;
+            long maxNow = 0L;
+            for (JsonNode txNode : page) {
+                long lt = ltOf(txNode);
+                if (lt > 0L) {
+                    minLt = Math.min(minLt, lt);
+                }
+                long now = txNode.path("now").asLong(0L);
+                if (now > 0L) {
+                    minNow = Math.min(minNow, now);
+                    maxNow = Math.max(maxNow, now);
+                }
+            }
+            return new PageBounds(
+                    minLt == Long.MAX_VALUE ? 0L : minLt,
+                    minNow == Long.MAX_VALUE ? 0L : minNow,
+                    maxNow
+            );
         }
-        return new JettonTransferIndex();
     }
 
     private void backoffBeforeRetry(int attempt, int maxAttempts) {
@@ -231,7 +388,7 @@ public class TonNetworkAdapter implements NetworkAdapter {
     }
 
     /**
-     * Per-page jetton-transfer index. A jetton transfer is correlated to an owner-account
+     * Jetton-transfer index shared by all time windows of one fetch. A jetton transfer is correlated to an owner-account
      * transaction by its shared {@code trace_id} (primary); {@code transaction_hash} is retained as
      * a fallback even though it usually names a different transaction in the trace.
      */
@@ -266,10 +423,6 @@ public class TonNetworkAdapter implements NetworkAdapter {
             }
             return List.of();
         }
-
-        boolean isEmpty() {
-            return byTrace.isEmpty() && byHash.isEmpty();
-        }
     }
 
     private Document jsonNodeToDocument(JsonNode node) {
@@ -34,6 +34,18 @@ public class TonNetworkProperties {
     /** Base backoff (ms) between {@code /jetton/transfers} retry attempts (multiplied by attempt). */
     private long jettonFetchBackoffMillis = 300L;
 
+    /**
+     * When true, refreshes resume from the persisted per-wallet (lt, hash) high-water mark and only fetch
+     * newer transactions; when false every fetch walks the full history from the head.
+     */
+    private boolean incrementalCursorEnabled = true;
+
+    /**
+     * Seconds added on both sides of each page's {@code now} range when fetching the matching
+     * {@code /jetton/transfers} window, covering trace members settled a few blocks apart from the owner tx.
+     */
+    private long jettonWindowSlackSeconds = 120L;
+
     /** @return true when an API key is configured. */
     public boolean hasApiKey() {
         return apiKey != null && !apiKey.isBlank();
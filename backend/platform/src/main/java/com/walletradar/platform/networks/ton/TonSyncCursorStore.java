@@ -0,0 +1,17 @@
+package com.walletradar.platform.networks.ton;
+
+import java.util.Optional;
+
+/**
+ * Persistence port for per-wallet TON ingestion high-water marks (see {@link TonNetworkAdapter}).
+ */
+public interface TonSyncCursorStore {
+
+    /**
+     * @return the last fully persisted (lt, hash) mark for the wallet, or empty when the wallet must
+     *         be walked from the head of its history
+     */
+    Optional<TonLtCursor> load(String walletAddress);
+
+    void save(String walletAddress, TonLtCursor cursor);
+}
@@ -0,0 +1,114 @@
+package com.walletradar.platform.persistence.diagnostics;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The parts of an {@code explain} result that tell whether a query is index-backed: the stages of
+ * the winning plan, the indexes it scans and, for {@code executionStats} explains, how many keys
+ * and documents were examined per document returned. Works for find, count, distinct, update,
+ * delete and aggregate explains (the latter nest the planner output under {@code $cursor}).
+ */
+public record MongoPlanSummary(
+        List<String> stages,
+        List<String> indexes,
+        boolean collectionScan,
+        boolean blockingSort,
+        long keysExamined,
+        long docsExamined,
+        long returned
+) {
+
+    /** True unless the winning plan reads the whole collection. */
+    public boolean indexBacked() {
+        return !collectionScan;
+    }
+
+    /** Documents examined per document returned; {@code 0} when nothing was examined. */
+    public double docsExaminedPerReturned() {
+        return docsExamined == 0 ? 0d : (double) docsExamined / Math.max(1L, returned);
+    }
+
+    public static MongoPlanSummary from(BsonDocument explain) {
+        List<String> stages = new ArrayList<>();
+        List<String> indexes = new ArrayList<>();
+        BsonDocument queryPlanner = find(explain, "queryPlanner");
+        if (queryPlanner != null && queryPlanner.get("winningPlan") instanceof BsonDocument winningPlan) {
+            // Slot-based execution wraps the stage tree in queryPlan.
+            BsonValue sbePlan = winningPlan.get("queryPlan");
+            walk(sbePlan instanceof BsonDocument plan ? plan : winningPlan, stages, indexes);
+        }
+        boolean pipelineSort = false;
+        if (explain.get("stages") instanceof BsonArray pipeline) {
+            for (BsonValue stage : pipeline) {
+                if (stage.isDocument() && stage.asDocument().containsKey("$sort")) {
+                    pipelineSort = true;
+                }
+            }
+        }
+        BsonDocument executionStats = find(explain, "executionStats");
+        return new MongoPlanSummary(
+                List.copyOf(stages),
+                List.copyOf(indexes),
+                stages.contains("COLLSCAN"),
+                pipelineSort || stages.contains("SORT"),
+                number(executionStats, "totalKeysExamined"),
+                number(executionStats, "totalDocsExamined"),
+                number(executionStats, "nReturned")
+        );
+    }
+
+    private static void walk(BsonDocument stage, List<String> stages, List<String> indexes) {
+        if (stage.get("stage") instanceof BsonString name) {
+            stages.add(name.getValue());
+        }
+        if (stage.get("indexName") instanceof BsonString indexName && !indexes.contains(indexName.getValue())) {
+            indexes.add(indexName.getValue());
+        }
+        for (String child : List.of("inputStage", "outerStage", "innerStage", "thenStage", "elseStage")) {
+            if (stage.get(child) instanceof BsonDocument childStage) {
+                walk(childStage, stages, indexes);
+            }
+        }
+        if (stage.get("inputStages") instanceof BsonArray children) {
+            for (BsonValue child : children) {
+                if (child.isDocument()) {
+                    walk(child.asDocument(), stages, indexes);
+                }
+            }
+        }
+    }
+
+    /** Depth-first search for the first sub-document named {@code key}. */
+    private static BsonDocument find(BsonValue value, String key) {
+        if (value instanceof BsonDocument document) {
+            if (document.get(key) instanceof BsonDocument hit) {
+                return hit;
+            }
+            for (BsonValue child : document.values()) {
+                BsonDocument nested = find(child, key);
+                if (nested != null) {
+                    return nested;
+                }
+            }
+        } else if (value instanceof BsonArray array) {
+            for (BsonValue child : array) {
+                BsonDocument nested = find(child, key);
+                if (nested != null) {
+                    return nested;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static long number(BsonDocument document, String key) {
+        BsonValue value = document == null ? null : document.get(key);
+        return value != null && value.isNumber() ? value.asNumber().longValue() : 0L;
+    }
+}
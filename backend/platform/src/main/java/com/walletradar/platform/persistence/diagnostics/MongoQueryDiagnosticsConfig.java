@@ -0,0 +1,48 @@
+package com.walletradar.platform.persistence.diagnostics;
+
+import com.mongodb.client.MongoClient;
+import com.walletradar.platform.common.config.AsyncConfig;
+import org.bson.BsonDocument;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Registers {@link MongoQueryShapeRecorder} on the Mongo client when
+ * {@code walletradar.mongo-diagnostics.enabled} is set. Explain samples go through the same client,
+ * resolved lazily because the client is built from this customizer.
+ */
+@Configuration
+@EnableConfigurationProperties(MongoQueryDiagnosticsProperties.class)
+public class MongoQueryDiagnosticsConfig {
+
+    @Bean
+    public MongoQueryShapeRecorder mongoQueryShapeRecorder(
+            MongoQueryDiagnosticsProperties properties,
+            ObjectProvider<MongoClient> mongoClient,
+            @Qualifier(AsyncConfig.MONGO_EXPLAIN_EXECUTOR) Executor explainExecutor
+    ) {
+        return new MongoQueryShapeRecorder(
+                properties,
+                (database, command) -> mongoClient.getObject().getDatabase(database).runCommand(command, BsonDocument.class),
+                explainExecutor
+        );
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoQueryShapeRecorderCustomizer(
+            MongoQueryDiagnosticsProperties properties,
+            MongoQueryShapeRecorder recorder
+    ) {
+        return builder -> {
+            if (properties.isEnabled()) {
+                builder.addCommandListener(recorder);
+            }
+        };
+    }
+}
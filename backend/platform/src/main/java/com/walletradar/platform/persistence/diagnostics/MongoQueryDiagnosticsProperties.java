@@ -0,0 +1,34 @@
+package com.walletradar.platform.persistence.diagnostics;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * {@link MongoQueryShapeRecorder} tuning. Bound from {@code walletradar.mongo-diagnostics.*}.
+ */
+@ConfigurationProperties(prefix = "walletradar.mongo-diagnostics")
+@NoArgsConstructor
+@Getter
+@Setter
+public class MongoQueryDiagnosticsProperties {
+
+    /** Register the command listener on the Mongo client. */
+    private boolean enabled = true;
+
+    /** Commands at or above this latency are logged with their shape. */
+    private long slowQueryMs = 500L;
+
+    /** Fraction of find/aggregate/count/update/delete commands re-run through {@code explain}; 0 disables it. */
+    private double explainSampleRate = 0.0d;
+
+    /** Distinct shapes tracked; commands beyond it are counted under one overflow shape. */
+    private int maxShapes = 2_000;
+
+    /** How often the busiest shapes are logged. */
+    private long summaryIntervalMs = 900_000L;
+
+    /** Shapes per summary, ordered by total time spent; 0 disables the summary. */
+    private int summaryTopShapes = 20;
+}
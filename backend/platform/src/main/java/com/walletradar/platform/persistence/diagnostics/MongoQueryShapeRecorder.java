@@ -0,0 +1,284 @@
+package com.walletradar.platform.persistence.diagnostics;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Driver-level listener that sees every command {@code MongoTemplate} sends and aggregates it by
+ * {@linkplain MongoQueryShapes query shape}: executions, failures, a latency histogram and documents
+ * returned. A configurable sample of commands is re-run through {@code explain} (executionStats)
+ * on a separate executor, which adds documents examined per document returned and flags shapes
+ * whose winning plan is a collection scan or an in-memory sort. Explain commands themselves are
+ * not recorded.
+ */
+@Slf4j
+public class MongoQueryShapeRecorder implements CommandListener {
+
+    static final String OVERFLOW_SHAPE = "(other shapes)";
+
+    /** Upper bounds of the latency buckets, in milliseconds; the last bucket is unbounded. */
+    private static final long[] BUCKET_UPPER_MS = {1, 2, 5, 10, 25, 50, 100, 250, 500, 1_000, 2_500, 10_000};
+
+    private final MongoQueryDiagnosticsProperties properties;
+    private final Explainer explainer;
+    private final Executor explainExecutor;
+    private final Map<String, ShapeCounters> shapes = new ConcurrentHashMap<>();
+    private final Map<Integer, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public MongoQueryShapeRecorder(MongoQueryDiagnosticsProperties properties,
+                                   Explainer explainer,
+                                   Executor explainExecutor) {
+        this.properties = properties;
+        this.explainer = explainer;
+        this.explainExecutor = explainExecutor;
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        String commandName = event.getCommandName();
+        String shape = MongoQueryShapes.shapeOf(commandName, event.getCommand());
+        if (shape == null) {
+            return;
+        }
+        // The event's command is only valid during the callback; keep a detached copy when sampled.
+        BsonDocument sample = sampled(commandName) ? MongoQueryShapes.explainable(event.getCommand()).clone() : null;
+        inFlight.put(event.getRequestId(), new InFlight(shape, event.getDatabaseName(), sample));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        InFlight command = inFlight.remove(event.getRequestId());
+        if (command == null) {
+            return;
+        }
+        long elapsedNanos = event.getElapsedTime(TimeUnit.NANOSECONDS);
+        ShapeCounters counters = counters(command.shape());
+        counters.record(elapsedNanos, returned(event.getCommandName(), event.getResponse()), false);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (elapsedMs >= properties.getSlowQueryMs()) {
+            log.warn("Slow Mongo command: elapsedMs={}, shape={}", elapsedMs, command.shape());
+        }
+        if (command.sample() != null) {
+            submitExplain(command, counters);
+        }
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        InFlight command = inFlight.remove(event.getRequestId());
+        if (command != null) {
+            counters(command.shape()).record(event.getElapsedTime(TimeUnit.NANOSECONDS), 0L, true);
+        }
+    }
+
+    /** Per-shape statistics since start, busiest (by total time) first. */
+    public List<ShapeStats> snapshot() {
+        return shapes.entrySet().stream()
+                .map(entry -> entry.getValue().stats(entry.getKey()))
+                .sorted(Comparator.comparingLong(ShapeStats::totalMs).reversed())
+                .toList();
+    }
+
+    @Scheduled(
+            initialDelayString = "${walletradar.mongo-diagnostics.summary-interval-ms:900000}",
+            fixedDelayString = "${walletradar.mongo-diagnostics.summary-interval-ms:900000}"
+    )
+    public void logSummary() {
+        int top = properties.getSummaryTopShapes();
+        if (top <= 0 || shapes.isEmpty()) {
+            return;
+        }
+        List<ShapeStats> stats = snapshot();
+        log.info("Mongo query shapes: tracked={}, showing={}", stats.size(), Math.min(top, stats.size()));
+        stats.stream().limit(top).forEach(shape -> log.info(
+                "Mongo query shape: count={}, failures={}, totalMs={}, p50Ms<={}, p95Ms<={}, maxMs={}, returned={}, explained={}, docsExaminedPerReturned={}, plan={}, shape={}",
+                shape.count(), shape.failures(), shape.totalMs(), shape.p50Ms(), shape.p95Ms(), shape.maxMs(),
+                shape.returned(), shape.explained(), String.format("%.1f", shape.docsExaminedPerReturned()),
+                shape.lastPlan() == null ? "-" : shape.lastPlan().stages(), shape.shape()));
+    }
+
+    private boolean sampled(String commandName) {
+        double rate = properties.getExplainSampleRate();
+        return rate > 0d
+                && MongoQueryShapes.EXPLAINABLE_COMMANDS.contains(commandName)
+                && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    private ShapeCounters counters(String shape) {
+        ShapeCounters counters = shapes.get(shape);
+        if (counters != null) {
+            return counters;
+        }
+        String key = shapes.size() < Math.max(1, properties.getMaxShapes()) ? shape : OVERFLOW_SHAPE;
+        return shapes.computeIfAbsent(key, ignored -> new ShapeCounters());
+    }
+
+    private void submitExplain(InFlight command, ShapeCounters counters) {
+        try {
+            explainExecutor.execute(() -> explain(command, counters));
+        } catch (RejectedExecutionException rejected) {
+            // Sampling is best effort; a saturated explain executor just skips this sample.
+        }
+    }
+
+    private void explain(InFlight command, ShapeCounters counters) {
+        try {
+            BsonDocument explainCommand = new BsonDocument("explain", command.sample())
+                    .append("verbosity", new BsonString("executionStats"));
+            MongoPlanSummary plan = MongoPlanSummary.from(explainer.explain(command.database(), explainCommand));
+            counters.recordPlan(plan);
+            if ((!plan.indexBacked() || plan.blockingSort()) && counters.markPlanWarned()) {
+                log.warn("Mongo query shape is not index-backed: stages={}, indexes={}, docsExamined={}, returned={}, shape={}",
+                        plan.stages(), plan.indexes(), plan.docsExamined(), plan.returned(), command.shape());
+            }
+        } catch (RuntimeException error) {
+            log.debug("Mongo explain sample failed: shape={}, error={}", command.shape(), error.toString());
+        }
+    }
+
+    private static long returned(String commandName, BsonDocument response) {
+        if (response == null) {
+            return 0L;
+        }
+        if (response.get("cursor") instanceof BsonDocument cursor) {
+            BsonValue batch = cursor.containsKey("firstBatch") ? cursor.get("firstBatch") : cursor.get("nextBatch");
+            return batch != null && batch.isArray() ? batch.asArray().size() : 0L;
+        }
+        if ("findAndModify".equals(commandName)) {
+            BsonValue value = response.get("value");
+            return value != null && value.isDocument() ? 1L : 0L;
+        }
+        if ("distinct".equals(commandName)) {
+            BsonValue values = response.get("values");
+            return values != null && values.isArray() ? values.asArray().size() : 0L;
+        }
+        BsonValue n = response.get("n");
+        return n != null && n.isNumber() ? n.asNumber().longValue() : 0L;
+    }
+
+    private static long upperBoundMs(AtomicLongArray buckets, long total, double quantile, long maxMs) {
+        if (total == 0) {
+            return 0L;
+        }
+        long threshold = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_UPPER_MS.length; i++) {
+            seen += buckets.get(i);
+            if (seen >= threshold) {
+                return BUCKET_UPPER_MS[i];
+            }
+        }
+        return maxMs;
+    }
+
+    /** Runs an {@code explain} command against {@code database}. */
+    @FunctionalInterface
+    public interface Explainer {
+        BsonDocument explain(String database, BsonDocument explainCommand);
+    }
+
+    /** Aggregated statistics of one shape; latency quantiles are histogram bucket upper bounds. */
+    public record ShapeStats(
+            String shape,
+            long count,
+            long failures,
+            long totalMs,
+            long p50Ms,
+            long p95Ms,
+            long maxMs,
+            long returned,
+            long explained,
+            double docsExaminedPerReturned,
+            MongoPlanSummary lastPlan
+    ) {
+    }
+
+    private record InFlight(String shape, String database, BsonDocument sample) {
+    }
+
+    private static final class ShapeCounters {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_UPPER_MS.length + 1);
+        private final LongAdder returned = new LongAdder();
+        private final LongAdder explained = new LongAdder();
+        private final LongAdder sampledDocsExamined = new LongAdder();
+        private final LongAdder sampledReturned = new LongAdder();
+        private final AtomicBoolean planWarned = new AtomicBoolean();
+        private volatile MongoPlanSummary lastPlan;
+
+        void record(long elapsedNanos, long documentsReturned, boolean failed) {
+            count.increment();
+            if (failed) {
+                failures.increment();
+            }
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+            buckets.incrementAndGet(bucket(TimeUnit.NANOSECONDS.toMillis(elapsedNanos)));
+            returned.add(documentsReturned);
+        }
+
+        void recordPlan(MongoPlanSummary plan) {
+            explained.increment();
+            sampledDocsExamined.add(plan.docsExamined());
+            sampledReturned.add(plan.returned());
+            lastPlan = plan;
+        }
+
+        /** True only for the first caller, so each shape's plan warning is logged once. */
+        boolean markPlanWarned() {
+            return planWarned.compareAndSet(false, true);
+        }
+
+        ShapeStats stats(String shape) {
+            long total = count.sum();
+            long maxMs = TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+            long examined = sampledDocsExamined.sum();
+            return new ShapeStats(
+                    shape,
+                    total,
+                    failures.sum(),
+                    TimeUnit.NANOSECONDS.toMillis(totalNanos.sum()),
+                    upperBoundMs(buckets, total, 0.50d, maxMs),
+                    upperBoundMs(buckets, total, 0.95d, maxMs),
+                    maxMs,
+                    returned.sum(),
+                    explained.sum(),
+                    examined == 0 ? 0d : (double) examined / Math.max(1L, sampledReturned.sum()),
+                    lastPlan
+            );
+        }
+
+        private static int bucket(long elapsedMs) {
+            for (int i = 0; i < BUCKET_UPPER_MS.length; i++) {
+                if (elapsedMs <= BUCKET_UPPER_MS[i]) {
+                    return i;
+                }
+            }
+            return BUCKET_UPPER_MS.length;
+        }
+    }
+}
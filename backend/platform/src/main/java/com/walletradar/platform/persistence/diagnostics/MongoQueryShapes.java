@@ -0,0 +1,165 @@
+package com.walletradar.platform.persistence.diagnostics;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+
+import java.util.Set;
+
+/**
+ * Normalizes Mongo commands into query shapes: the collection, the filter with every literal
+ * replaced by {@code "?"}, and the sort/projection as sent. Two finds that differ only in their
+ * values share one shape, so {@code walletAddress $in [a, b]} and {@code $in [c]} are the same
+ * shape. Commands that carry no query (handshakes, index builds) have no shape.
+ */
+public final class MongoQueryShapes {
+
+    /** Commands recorded per shape; everything else is driver housekeeping. */
+    static final Set<String> RECORDED_COMMANDS = Set.of(
+            "find", "aggregate", "count", "distinct", "update", "delete", "findAndModify", "insert", "getMore"
+    );
+
+    /** Commands whose shape can be handed to {@code explain}. */
+    static final Set<String> EXPLAINABLE_COMMANDS = Set.of(
+            "find", "aggregate", "count", "distinct", "update", "delete", "findAndModify"
+    );
+
+    /** Driver-added fields that {@code explain} rejects or that tie the command to one session. */
+    private static final Set<String> SESSION_FIELDS = Set.of(
+            "$db", "lsid", "$clusterTime", "txnNumber", "autocommit", "startTransaction",
+            "$readPreference", "readConcern", "writeConcern", "apiVersion", "apiStrict", "apiDeprecationErrors"
+    );
+
+    private static final BsonString PLACEHOLDER = new BsonString("?");
+
+    private MongoQueryShapes() {
+    }
+
+    /** The normalized shape of {@code command}, or {@code null} when it is not a recorded command. */
+    public static String shapeOf(String commandName, BsonDocument command) {
+        if (commandName == null || !RECORDED_COMMANDS.contains(commandName) || command == null) {
+            return null;
+        }
+        String collection = collectionOf(commandName, command);
+        StringBuilder shape = new StringBuilder(commandName).append(' ').append(collection);
+        switch (commandName) {
+            case "find" -> {
+                append(shape, "filter", normalizeFilter(command.get("filter")));
+                append(shape, "sort", command.get("sort"));
+                append(shape, "projection", command.get("projection"));
+            }
+            case "aggregate" -> append(shape, "pipeline", normalizePipeline(command.get("pipeline")));
+            case "count", "findAndModify" -> {
+                append(shape, "query", normalizeFilter(command.get("query")));
+                append(shape, "sort", command.get("sort"));
+            }
+            case "distinct" -> {
+                append(shape, "key", command.get("key"));
+                append(shape, "query", normalizeFilter(command.get("query")));
+            }
+            case "update" -> appendFirstStatement(shape, command.get("updates"));
+            case "delete" -> appendFirstStatement(shape, command.get("deletes"));
+            default -> {
+                // insert and getMore: the collection is the whole shape.
+            }
+        }
+        return shape.toString();
+    }
+
+    /** The target collection; {@code getMore} names it in {@code collection}, the rest in the command key. */
+    public static String collectionOf(String commandName, BsonDocument command) {
+        BsonValue target = "getMore".equals(commandName) ? command.get("collection") : command.get(commandName);
+        return target != null && target.isString() ? target.asString().getValue() : "?";
+    }
+
+    /**
+     * A copy of {@code command} that can be wrapped in {@code explain}: session and transaction
+     * fields are dropped, everything that shapes the plan is kept.
+     */
+    public static BsonDocument explainable(BsonDocument command) {
+        BsonDocument copy = new BsonDocument();
+        for (String key : command.keySet()) {
+            if (!SESSION_FIELDS.contains(key)) {
+                copy.put(key, command.get(key));
+            }
+        }
+        return copy;
+    }
+
+    static BsonValue normalizeFilter(BsonValue filter) {
+        if (filter == null) {
+            return null;
+        }
+        if (filter.isDocument()) {
+            BsonDocument normalized = new BsonDocument();
+            for (String key : filter.asDocument().keySet()) {
+                BsonValue value = filter.asDocument().get(key);
+                normalized.put(key, normalizeOperand(key, value));
+            }
+            return normalized;
+        }
+        return PLACEHOLDER;
+    }
+
+    private static BsonValue normalizeOperand(String key, BsonValue value) {
+        if ("$and".equals(key) || "$or".equals(key) || "$nor".equals(key)) {
+            BsonArray branches = new BsonArray();
+            if (value.isArray()) {
+                value.asArray().forEach(branch -> branches.add(normalizeFilter(branch)));
+            }
+            return branches;
+        }
+        if ("$exists".equals(key) || "$type".equals(key) || "$options".equals(key)) {
+            return value;
+        }
+        if ("$elemMatch".equals(key) || "$not".equals(key)) {
+            return normalizeFilter(value);
+        }
+        if (value.isDocument() && !value.asDocument().isEmpty()
+                && value.asDocument().getFirstKey().startsWith("$")) {
+            return normalizeFilter(value);
+        }
+        return PLACEHOLDER;
+    }
+
+    private static BsonValue normalizePipeline(BsonValue pipeline) {
+        BsonArray stages = new BsonArray();
+        if (pipeline == null || !pipeline.isArray()) {
+            return stages;
+        }
+        for (BsonValue stage : pipeline.asArray()) {
+            if (!stage.isDocument() || stage.asDocument().isEmpty()) {
+                continue;
+            }
+            String operator = stage.asDocument().getFirstKey();
+            BsonValue body = stage.asDocument().get(operator);
+            BsonValue normalized = switch (operator) {
+                case "$match" -> normalizeFilter(body);
+                case "$sort", "$project", "$group" -> body;
+                default -> PLACEHOLDER;
+            };
+            stages.add(new BsonDocument(operator, normalized));
+        }
+        return stages;
+    }
+
+    private static void appendFirstStatement(StringBuilder shape, BsonValue statements) {
+        if (statements == null || !statements.isArray() || statements.asArray().isEmpty()
+                || !statements.asArray().get(0).isDocument()) {
+            return;
+        }
+        BsonDocument statement = statements.asArray().get(0).asDocument();
+        append(shape, "q", normalizeFilter(statement.get("q")));
+        if (statement.containsKey("multi")) {
+            append(shape, "multi", statement.get("multi"));
+        }
+    }
+
+    private static void append(StringBuilder shape, String label, BsonValue value) {
+        if (value == null) {
+            return;
+        }
+        shape.append(' ').append(new BsonDocument(label, value).toJson());
+    }
+}
@@ -0,0 +1,154 @@
+package com.walletradar.platform.persistence.rawpayload;
+
+import com.mongodb.MongoClientSettings;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Splits a {@code rawData} document into the inline hot paths and the remainder, and deflates the
+ * remainder's BSON with an optional preset dictionary. {@link #merge} and {@link #inflate} reverse
+ * it; field order inside merged sub-documents may differ from the original.
+ */
+public final class RawPayloadCodec {
+
+    private static final DocumentCodec DOCUMENT_CODEC = new DocumentCodec(MongoClientSettings.getDefaultCodecRegistry());
+    private static final int BUFFER_BYTES = 8_192;
+
+    private RawPayloadCodec() {
+    }
+
+    /** {@code inline} holds the hot paths, {@code remainder} everything else; either may be empty. */
+    public record Split(Document inline, Document remainder) {
+    }
+
+    /**
+     * Splits without modifying {@code rawData}. A hot path that runs through a non-document value
+     * keeps that whole value inline.
+     */
+    public static Split split(Document rawData, List<String> hotPaths) {
+        Document inline = new Document();
+        Document remainder = new Document();
+        for (Map.Entry<String, Object> entry : rawData.entrySet()) {
+            String key = entry.getKey();
+            Object value = entry.getValue();
+            if (hotPaths.contains(key)) {
+                inline.put(key, value);
+                continue;
+            }
+            List<String> nested = nestedPaths(key, hotPaths);
+            if (nested.isEmpty()) {
+                remainder.put(key, value);
+            } else if (value instanceof Document child) {
+                Split childSplit = split(child, nested);
+                if (!childSplit.inline().isEmpty()) {
+                    inline.put(key, childSplit.inline());
+                }
+                if (!childSplit.remainder().isEmpty()) {
+                    remainder.put(key, childSplit.remainder());
+                }
+            } else {
+                inline.put(key, value);
+            }
+        }
+        return new Split(inline, remainder);
+    }
+
+    /** Deep merge of a {@link #split}; inline values win on conflicts. */
+    public static Document merge(Document inline, Document remainder) {
+        Document merged = new Document(remainder == null ? Map.of() : remainder);
+        if (inline == null) {
+            return merged;
+        }
+        for (Map.Entry<String, Object> entry : inline.entrySet()) {
+            Object existing = merged.get(entry.getKey());
+            if (existing instanceof Document existingChild && entry.getValue() instanceof Document inlineChild) {
+                merged.put(entry.getKey(), merge(inlineChild, existingChild));
+            } else {
+                merged.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return merged;
+    }
+
+    public static byte[] deflate(Document remainder, byte[] dictionary, int level) {
+        return deflate(encode(remainder), dictionary, level);
+    }
+
+    public static byte[] deflate(byte[] input, byte[] dictionary, int level) {
+        Deflater deflater = new Deflater(Math.max(Deflater.BEST_SPEED, Math.min(Deflater.BEST_COMPRESSION, level)));
+        try {
+            if (dictionary != null && dictionary.length > 0) {
+                deflater.setDictionary(dictionary);
+            }
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, input.length / 4));
+            byte[] buffer = new byte[BUFFER_BYTES];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * @param dictionary the dictionary the payload was deflated with, or {@code null}
+     * @throws IllegalStateException when the payload is corrupt or needs a dictionary that was not given
+     */
+    public static Document inflate(byte[] packed, byte[] dictionary) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(packed);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(BUFFER_BYTES, packed.length * 4));
+            byte[] buffer = new byte[BUFFER_BYTES];
+            while (!inflater.finished()) {
+                int read = inflater.inflate(buffer);
+                if (read > 0) {
+                    out.write(buffer, 0, read);
+                } else if (inflater.needsDictionary()) {
+                    if (dictionary == null) {
+                        throw new IllegalStateException("Packed rawData needs a dictionary that is not available");
+                    }
+                    inflater.setDictionary(dictionary);
+                } else if (inflater.needsInput()) {
+                    throw new IllegalStateException("Packed rawData is truncated");
+                }
+            }
+            return decode(out.toByteArray());
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Packed rawData is corrupt: " + e.getMessage(), e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    public static byte[] encode(Document document) {
+        ByteBuffer buffer = new RawBsonDocument(document, DOCUMENT_CODEC).getByteBuffer().asNIO();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    static Document decode(byte[] bytes) {
+        return new RawBsonDocument(bytes).decode(DOCUMENT_CODEC);
+    }
+
+    private static List<String> nestedPaths(String key, List<String> hotPaths) {
+        String prefix = key + ".";
+        return hotPaths.stream()
+                .filter(path -> path.startsWith(prefix))
+                .map(path -> path.substring(prefix.length()))
+                .toList();
+    }
+}
@@ -0,0 +1,91 @@
+package com.walletradar.platform.persistence.rawpayload;
+
+import org.bson.Document;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds a Deflate preset dictionary from sample payloads of one network. Field names and string
+ * values that recur across samples (method names, log topics, router and token addresses, program
+ * ids) are scored by document frequency times length; the best ones are concatenated with the
+ * highest score last, since Deflate encodes nearer matches more cheaply.
+ */
+public final class RawPayloadDictionaryTrainer {
+
+    private static final int MIN_TOKEN_BYTES = 4;
+    private static final int MAX_TOKEN_BYTES = 512;
+
+    private RawPayloadDictionaryTrainer() {
+    }
+
+    /** Empty when no token recurs in at least two samples. */
+    public static byte[] train(List<Document> samples, int maxBytes) {
+        Map<String, Integer> documentFrequency = new HashMap<>();
+        for (Document sample : samples) {
+            Set<String> tokens = new HashSet<>();
+            collect(sample, tokens);
+            for (String token : tokens) {
+                documentFrequency.merge(token, 1, Integer::sum);
+            }
+        }
+        List<Map.Entry<String, Integer>> ranked = documentFrequency.entrySet().stream()
+                .filter(entry -> entry.getValue() >= 2)
+                .sorted(Comparator.comparingLong(RawPayloadDictionaryTrainer::score).reversed()
+                        .thenComparing(Map.Entry::getKey))
+                .toList();
+        int budget = Math.max(0, maxBytes);
+        int used = 0;
+        int selected = 0;
+        for (Map.Entry<String, Integer> entry : ranked) {
+            int length = bytes(entry.getKey()).length;
+            if (used + length > budget) {
+                break;
+            }
+            used += length;
+            selected++;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(used);
+        for (int i = selected - 1; i >= 0; i--) {
+            out.writeBytes(bytes(ranked.get(i).getKey()));
+        }
+        return out.toByteArray();
+    }
+
+    private static long score(Map.Entry<String, Integer> entry) {
+        return (long) entry.getValue() * bytes(entry.getKey()).length;
+    }
+
+    /** BSON stores keys and strings as UTF-8 followed by a NUL, so the terminator is kept in the token. */
+    private static byte[] bytes(String token) {
+        return (token + '\0').getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void collect(Object value, Set<String> tokens) {
+        if (value instanceof Document document) {
+            for (Map.Entry<String, Object> entry : document.entrySet()) {
+                add(entry.getKey(), tokens);
+                collect(entry.getValue(), tokens);
+            }
+        } else if (value instanceof Collection<?> children) {
+            for (Object child : children) {
+                collect(child, tokens);
+            }
+        } else if (value instanceof String text) {
+            add(text, tokens);
+        }
+    }
+
+    private static void add(String token, Set<String> tokens) {
+        if (token.length() >= MIN_TOKEN_BYTES && token.length() <= MAX_TOKEN_BYTES) {
+            tokens.add(token);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.walletradar.platform.persistence.rawpayload;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.walletradar.platform.common.job.StageExecutionLogSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.schema.JsonSchemaObject;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Converts unpacked {@code raw_transactions} rows to the packed {@code rawData} format in the
+ * background, network by network, training the network's dictionary from its first unpacked rows.
+ * Each row is updated only while its {@code rawData} still equals what was read, so a concurrent
+ * save always wins and the row is picked up again on a later run.
+ */
+@Component
+@Slf4j
+public class RawPayloadMigrationJob {
+
+    static final String STAGE_NAME = "raw-payload-migration";
+
+    private static final String RAW_COLLECTION = "raw_transactions";
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    private final RawPayloadStorageProperties properties;
+    private final RawPayloadStore rawPayloadStore;
+    private final MongoOperations mongoOperations;
+
+    public RawPayloadMigrationJob(
+            RawPayloadStorageProperties properties,
+            RawPayloadStore rawPayloadStore,
+            MongoOperations mongoOperations
+    ) {
+        this.properties = properties;
+        this.rawPayloadStore = rawPayloadStore;
+        this.mongoOperations = mongoOperations;
+    }
+
+    @Scheduled(
+            initialDelayString = "${walletradar.raw-payload-storage.migration-initial-delay-ms:300000}",
+            fixedDelayString = "${walletradar.raw-payload-storage.migration-interval-ms:900000}"
+    )
+    public void migrateScheduled() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            migrate();
+        } catch (RuntimeException error) {
+            log.warn("Raw payload migration failed: error={}", error.getMessage(), error);
+        }
+    }
+
+    /** Returns the number of rows packed; 0 when a run is already in progress. */
+    public int migrate() {
+        if (!running.compareAndSet(false, true)) {
+            return 0;
+        }
+        int packed = 0;
+        long startedAtNanos = StageExecutionLogSupport.logStart(log, STAGE_NAME, "scheduled");
+        try {
+            int budget = Math.max(1, properties.getMigrationMaxRowsPerRun());
+            List<String> networkIds = mongoOperations.findDistinct(
+                    Query.query(unpacked()), "networkId", RAW_COLLECTION, String.class);
+            for (String networkId : networkIds) {
+                if (networkId == null || packed >= budget) {
+                    continue;
+                }
+                trainDictionary(networkId);
+                packed += migrateNetwork(networkId, budget - packed);
+            }
+            return packed;
+        } finally {
+            StageExecutionLogSupport.logFinish(log, STAGE_NAME, "scheduled", packed, startedAtNanos);
+            running.set(false);
+        }
+    }
+
+    private void trainDictionary(String networkId) {
+        if (rawPayloadStore.currentDictionaryId(networkId).isPresent()) {
+            return;
+        }
+        List<Document> samples = rawData(networkId, Math.max(1, properties.getDictionarySamples()));
+        if (samples.size() >= Math.max(2, properties.getDictionaryMinSamples())) {
+            rawPayloadStore.trainIfMissing(networkId, samples);
+        }
+    }
+
+    private int migrateNetwork(String networkId, int budget) {
+        int packed = 0;
+        int batchSize = Math.max(1, properties.getMigrationBatchSize());
+        while (packed < budget) {
+            Query query = Query.query(Criteria.where("networkId").is(networkId).andOperator(unpacked()))
+                    .limit(Math.min(batchSize, budget - packed));
+            query.fields().include("_id").include("rawData");
+            List<Document> rows = mongoOperations.find(query, Document.class, RAW_COLLECTION);
+            if (rows.isEmpty()) {
+                break;
+            }
+            BulkOperations ops = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, RAW_COLLECTION);
+            for (Document row : rows) {
+                Document rawData = row.get("rawData", Document.class);
+                RawPayloadStore.Packed result = rawPayloadStore.pack(networkId, rawData);
+                ops.updateOne(
+                        Query.query(Criteria.where("_id").is(row.get("_id")).and("rawData").is(rawData)
+                                .and("rawDataPacked").is(null)),
+                        new Update()
+                                .set("rawData", result.inline())
+                                .set("rawDataPacked", result.packed())
+                                .set("rawDataDictionaryId", result.dictionaryId())
+                );
+            }
+            BulkWriteResult written = ops.execute();
+            if (written.getModifiedCount() == 0) {
+                // Every row in the batch changed under us; leave them to the next run.
+                break;
+            }
+            packed += written.getModifiedCount();
+        }
+        return packed;
+    }
+
+    private List<Document> rawData(String networkId, int limit) {
+        Query query = Query.query(Criteria.where("networkId").is(networkId).andOperator(unpacked())).limit(limit);
+        query.fields().include("rawData");
+        return mongoOperations.find(query, Document.class, RAW_COLLECTION).stream()
+                .map(row -> row.get("rawData", Document.class))
+                .toList();
+    }
+
+    private static Criteria unpacked() {
+        return Criteria.where("rawDataPacked").is(null).and("rawData").type(JsonSchemaObject.Type.OBJECT);
+    }
+}
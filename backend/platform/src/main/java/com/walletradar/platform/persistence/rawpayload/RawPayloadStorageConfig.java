@@ -0,0 +1,12 @@
+package com.walletradar.platform.persistence.rawpayload;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables {@link RawPayloadStorageProperties}.
+ */
+@Configuration
+@EnableConfigurationProperties(RawPayloadStorageProperties.class)
+public class RawPayloadStorageConfig {
+}
@@ -0,0 +1,58 @@
+package com.walletradar.platform.persistence.rawpayload;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Packed {@code raw_transactions.rawData} storage. Bound from {@code walletradar.raw-payload-storage.*}.
+ * Reading packed rows works regardless of {@link #isEnabled()}; the flag only controls whether saves
+ * and the migrator write them.
+ */
+@ConfigurationProperties(prefix = "walletradar.raw-payload-storage")
+@NoArgsConstructor
+@Getter
+@Setter
+public class RawPayloadStorageProperties {
+
+    /** Pack rows on save and let the migrator convert existing rows. */
+    private boolean enabled = false;
+
+    /**
+     * Dotted {@code rawData} paths kept inline: everything a Mongo filter, sort, index or projection
+     * reads on {@code raw_transactions}, plus the small ordering fields.
+     */
+    private List<String> hotPaths = new ArrayList<>(List.of(
+            "hash",
+            "blockNumber",
+            "timeStamp",
+            "transactionIndex",
+            "from",
+            "to",
+            "source",
+            "explorer.tokenTransfers",
+            "jettonTransfers"
+    ));
+
+    /** Deflate level (1 fastest .. 9 smallest). */
+    private int compressionLevel = 6;
+
+    /** Rows sampled per network to train its dictionary. */
+    private int dictionarySamples = 400;
+
+    /** Fewer unpacked rows than this on a network: pack without a dictionary. */
+    private int dictionaryMinSamples = 50;
+
+    /** Preset dictionary size; Deflate only uses the last 32 KiB. */
+    private int dictionaryMaxBytes = 32_768;
+
+    /** Rows converted per migrator round trip. */
+    private int migrationBatchSize = 200;
+
+    /** Upper bound of rows converted per migrator run; the next run continues. */
+    private int migrationMaxRowsPerRun = 50_000;
+}
@@ -0,0 +1,123 @@
+package com.walletradar.platform.persistence.rawpayload;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.walletradar.domain.transaction.raw.RawPayloadDictionary;
+import com.walletradar.domain.transaction.raw.RawPayloadDictionaryRepository;
+import com.walletradar.domain.transaction.raw.RawPayloadInflater;
+import com.walletradar.domain.transaction.raw.RawTransaction;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Packs and inflates {@code raw_transactions.rawData} with the per-network dictionaries in
+ * {@code raw_payload_dictionaries}. Dictionaries are immutable once stored and cached by id; the
+ * current dictionary of a network is re-read every few minutes so rows packed on another node can
+ * pick up a newly trained one.
+ */
+@Component
+@Slf4j
+public class RawPayloadStore implements RawPayloadInflater {
+
+    private static final Duration CURRENT_DICTIONARY_TTL = Duration.ofMinutes(5);
+
+    /** Inline part, deflated remainder and the dictionary it needs ({@code null} for none). */
+    public record Packed(Document inline, Binary packed, String dictionaryId) {
+    }
+
+    private final RawPayloadStorageProperties properties;
+    private final RawPayloadDictionaryRepository dictionaryRepository;
+    private final Map<String, byte[]> dictionariesById = new ConcurrentHashMap<>();
+    private final Cache<String, Optional<String>> currentDictionaryByNetwork = Caffeine.newBuilder()
+            .expireAfterWrite(CURRENT_DICTIONARY_TTL)
+            .build();
+
+    public RawPayloadStore(RawPayloadStorageProperties properties, RawPayloadDictionaryRepository dictionaryRepository) {
+        this.properties = properties;
+        this.dictionaryRepository = dictionaryRepository;
+    }
+
+    public Packed pack(String networkId, Document rawData) {
+        RawPayloadCodec.Split split = RawPayloadCodec.split(rawData, properties.getHotPaths());
+        String dictionaryId = networkId == null ? null : currentDictionaryId(networkId).orElse(null);
+        byte[] dictionary = dictionaryId == null ? null : dictionary(dictionaryId);
+        byte[] packed = RawPayloadCodec.deflate(split.remainder(), dictionary, properties.getCompressionLevel());
+        return new Packed(split.inline(), new Binary(packed), dictionary == null ? null : dictionaryId);
+    }
+
+    @Override
+    public Document inflate(RawTransaction rawTransaction) {
+        String dictionaryId = rawTransaction.getRawDataDictionaryId();
+        Document remainder = RawPayloadCodec.inflate(
+                rawTransaction.getRawDataPacked().getData(),
+                dictionaryId == null ? null : dictionary(dictionaryId)
+        );
+        return RawPayloadCodec.merge(rawTransaction.getRawDataInline(), remainder);
+    }
+
+    public Optional<String> currentDictionaryId(String networkId) {
+        return currentDictionaryByNetwork.get(networkId, key -> dictionaryRepository.findFirstByNetworkIdOrderByVersionDesc(key)
+                .map(this::remember));
+    }
+
+    /**
+     * Trains and stores the network's first dictionary from {@code samples} (full {@code rawData}
+     * documents); only their remainders are used, since hot paths are never deflated. No-op when the
+     * network already has one or the samples share nothing.
+     */
+    public Optional<String> trainIfMissing(String networkId, List<Document> samples) {
+        Optional<String> current = currentDictionaryId(networkId);
+        if (current.isPresent() || samples.isEmpty()) {
+            return current;
+        }
+        List<Document> remainders = samples.stream()
+                .map(sample -> RawPayloadCodec.split(sample, properties.getHotPaths()).remainder())
+                .toList();
+        byte[] trained = RawPayloadDictionaryTrainer.train(remainders, properties.getDictionaryMaxBytes());
+        if (trained.length == 0) {
+            return Optional.empty();
+        }
+        RawPayloadDictionary dictionary = new RawPayloadDictionary();
+        dictionary.setId(RawPayloadDictionary.id(networkId, 1));
+        dictionary.setNetworkId(networkId);
+        dictionary.setVersion(1);
+        dictionary.setDictionary(trained);
+        dictionary.setSampleCount(samples.size());
+        dictionary.setTrainedAt(Instant.now());
+        try {
+            dictionaryRepository.insert(dictionary);
+            log.info("Raw payload dictionary trained: networkId={}, samples={}, bytes={}",
+                    networkId, samples.size(), trained.length);
+        } catch (DuplicateKeyException raced) {
+            log.debug("Raw payload dictionary already trained by another node: networkId={}", networkId);
+        }
+        currentDictionaryByNetwork.invalidate(networkId);
+        return currentDictionaryId(networkId);
+    }
+
+    private byte[] dictionary(String dictionaryId) {
+        byte[] cached = dictionariesById.get(dictionaryId);
+        if (cached != null) {
+            return cached;
+        }
+        RawPayloadDictionary dictionary = dictionaryRepository.findById(dictionaryId)
+                .orElseThrow(() -> new IllegalStateException("Raw payload dictionary not found: " + dictionaryId));
+        remember(dictionary);
+        return dictionary.getDictionary();
+    }
+
+    private String remember(RawPayloadDictionary dictionary) {
+        dictionariesById.putIfAbsent(dictionary.getId(), dictionary.getDictionary());
+        return dictionary.getId();
+    }
+}
@@ -0,0 +1,60 @@
+package com.walletradar.platform.persistence.rawpayload;
+
+import com.walletradar.domain.transaction.raw.RawTransaction;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.core.mapping.event.AfterConvertCallback;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * Makes the packed {@code rawData} format transparent to repository and template callers. Loaded
+ * rows get the store as their inflater, so the payload is only decompressed when something reads
+ * it. Saved rows with a full payload are packed when the format is enabled; rows saved without ever
+ * reading their payload keep the packed form they were loaded with. Only the written document is
+ * packed, never the entity, so the caller keeps working with the full payload.
+ *
+ * <p>Update operations ({@code $set}/{@code $setOnInsert} on {@code rawData}) bypass callbacks and
+ * store unpacked rows; the migrator packs them later.</p>
+ */
+@Component
+@Slf4j
+public class RawTransactionPayloadCallbacks implements BeforeSaveCallback<RawTransaction>, AfterConvertCallback<RawTransaction> {
+
+    private final RawPayloadStorageProperties properties;
+    private final ObjectProvider<RawPayloadStore> store;
+
+    public RawTransactionPayloadCallbacks(RawPayloadStorageProperties properties, ObjectProvider<RawPayloadStore> store) {
+        this.properties = properties;
+        this.store = store;
+    }
+
+    @Override
+    public RawTransaction onBeforeSave(RawTransaction entity, Document document, String collection) {
+        if (!properties.isEnabled() || document.get("rawDataPacked") != null) {
+            return entity;
+        }
+        Object rawData = document.get("rawData");
+        if (!(rawData instanceof Document payload)) {
+            return entity;
+        }
+        try {
+            RawPayloadStore.Packed packed = store.getObject().pack(entity.getNetworkId(), payload);
+            document.put("rawData", packed.inline());
+            document.put("rawDataPacked", packed.packed());
+            document.put("rawDataDictionaryId", packed.dictionaryId());
+        } catch (RuntimeException error) {
+            log.warn("Raw payload not packed, saving unpacked: id={}, error={}", entity.getId(), error.getMessage());
+        }
+        return entity;
+    }
+
+    @Override
+    public RawTransaction onAfterConvert(RawTransaction entity, Document document, String collection) {
+        if (entity.getRawDataPacked() != null) {
+            entity.attachRawDataInflater(store.getObject());
+        }
+        return entity;
+    }
+}
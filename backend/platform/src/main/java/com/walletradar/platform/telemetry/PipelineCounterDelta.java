@@ -0,0 +1,85 @@
+package com.walletradar.platform.telemetry;
+
+import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
+import com.walletradar.domain.transaction.raw.NormalizationStatus;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Net counter changes collected by a store over one write batch and applied with
+ * {@link PipelineCounterStore#apply}. Take a {@link Snapshot} of a row before mutating it, then
+ * record it together with the row as written; unchanged buckets cancel out.
+ */
+public final class PipelineCounterDelta {
+
+    static final String NO_MEMBER_REF = "-";
+
+    private final Map<String, Map<PipelineCounterKey, Long>> byMemberRef = new LinkedHashMap<>();
+
+    /** Member ref and buckets of a row as it was read. */
+    public record Snapshot(String memberRef, Set<PipelineCounterKey> keys) {
+    }
+
+    /** {@code null} for a row that does not exist yet. */
+    public static Snapshot snapshot(NormalizedTransaction transaction) {
+        if (transaction == null) {
+            return null;
+        }
+        return new Snapshot(memberRef(transaction.getWalletAddress()), PipelineCounterKey.of(transaction));
+    }
+
+    /** Moves a normalized row from its {@code before} buckets (none when new) to those of {@code after}. */
+    public PipelineCounterDelta normalized(Snapshot before, NormalizedTransaction after) {
+        if (before != null) {
+            before.keys().forEach(key -> add(before.memberRef(), key, -1L));
+        }
+        if (after != null) {
+            String memberRef = memberRef(after.getWalletAddress());
+            PipelineCounterKey.of(after).forEach(key -> add(memberRef, key, 1L));
+        }
+        return this;
+    }
+
+    /** Moves a raw row between normalization statuses; {@code from == null} means a new row. */
+    public PipelineCounterDelta raw(String walletAddress, NormalizationStatus from, NormalizationStatus to) {
+        if (Objects.equals(from, to)) {
+            return this;
+        }
+        String memberRef = memberRef(walletAddress);
+        if (from != null) {
+            add(memberRef, PipelineCounterKey.raw(from.name()), -1L);
+        }
+        if (to != null) {
+            add(memberRef, PipelineCounterKey.raw(to.name()), 1L);
+        }
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return byMemberRef.isEmpty();
+    }
+
+    Map<String, Map<PipelineCounterKey, Long>> byMemberRef() {
+        return byMemberRef;
+    }
+
+    private void add(String memberRef, PipelineCounterKey key, long amount) {
+        Map<PipelineCounterKey, Long> counters = byMemberRef.computeIfAbsent(memberRef, ignored -> new LinkedHashMap<>());
+        long next = counters.getOrDefault(key, 0L) + amount;
+        if (next == 0L) {
+            counters.remove(key);
+            if (counters.isEmpty()) {
+                byMemberRef.remove(memberRef);
+            }
+        } else {
+            counters.put(key, next);
+        }
+    }
+
+    static String memberRef(String walletAddress) {
+        return walletAddress == null || walletAddress.isBlank() ? NO_MEMBER_REF : walletAddress;
+    }
+}
@@ -0,0 +1,70 @@
+package com.walletradar.platform.telemetry;
+
+import com.walletradar.domain.pipeline.PipelineCounter;
+import com.walletradar.domain.transaction.normalized.MissingDataReasons;
+import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Bucket of a {@link PipelineCounter}, independent of the member ref it is counted for.
+ */
+public record PipelineCounterKey(
+        PipelineCounter.Kind kind,
+        String source,
+        String status,
+        boolean excluded,
+        String reason
+) {
+
+    public static final String ORPHAN_UTA_REASON = "UTA_TRADE_PAIR_NOT_FOUND";
+
+    /** Missing-data reasons that get their own bucket; others are not counted. */
+    static final List<String> TRACKED_REASONS = List.of(MissingDataReasons.PRICE_UNRESOLVABLE, ORPHAN_UTA_REASON);
+
+    public static PipelineCounterKey normalized(String source, String status, boolean excluded) {
+        return new PipelineCounterKey(PipelineCounter.Kind.NORMALIZED, source, status, excluded, null);
+    }
+
+    public static PipelineCounterKey reason(String source, String reason) {
+        return new PipelineCounterKey(PipelineCounter.Kind.NORMALIZED_REASON, source, null, false, reason);
+    }
+
+    public static PipelineCounterKey raw(String normalizationStatus) {
+        return new PipelineCounterKey(PipelineCounter.Kind.RAW, null, normalizationStatus, false, null);
+    }
+
+    /** Buckets {@code transaction} is counted in; empty for {@code null}. */
+    public static Set<PipelineCounterKey> of(NormalizedTransaction transaction) {
+        if (transaction == null) {
+            return Set.of();
+        }
+        String source = transaction.getSource() == null ? null : transaction.getSource().name();
+        String status = transaction.getStatus() == null ? null : transaction.getStatus().name();
+        Set<PipelineCounterKey> keys = new LinkedHashSet<>();
+        keys.add(normalized(source, status, Boolean.TRUE.equals(transaction.getExcludedFromAccounting())));
+        List<String> reasons = transaction.getMissingDataReasons();
+        if (reasons != null) {
+            for (String reason : TRACKED_REASONS) {
+                if (reasons.contains(reason)) {
+                    keys.add(reason(source, reason));
+                }
+            }
+        }
+        return keys;
+    }
+
+    /** {@code _id} of the counter document for {@code memberRef}. */
+    String id(String memberRef) {
+        return String.join("|",
+                memberRef,
+                kind.name(),
+                source == null ? "" : source,
+                status == null ? "" : status,
+                excluded ? "excluded" : "active",
+                reason == null ? "" : reason
+        );
+    }
+}
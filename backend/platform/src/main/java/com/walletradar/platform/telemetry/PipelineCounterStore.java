@@ -0,0 +1,202 @@
+package com.walletradar.platform.telemetry;
+
+import com.walletradar.domain.pipeline.PipelineCounter;
+import com.walletradar.domain.transaction.normalized.NormalizedTransaction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.GroupOperation;
+import org.springframework.data.mongodb.core.aggregation.MatchOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads and maintains {@code pipeline_counters}.
+ *
+ * <p>Stores call {@link #apply} with the bucket moves of the rows they wrote; a failed update is
+ * logged and left to {@link #reconcile}, which recounts a member set from
+ * {@code normalized_transactions} and {@code raw_transactions} with three grouped aggregations and
+ * overwrites its counters. Increments that land while a reconcile is between its read and its write
+ * are lost until the next reconcile, so readers that make decisions (the stage gates) confirm a
+ * counter-based verdict with an index-backed {@code exists} probe.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PipelineCounterStore {
+
+    private static final String RAW_COLLECTION = "raw_transactions";
+
+    private final MongoOperations mongoOperations;
+
+    public void apply(PipelineCounterDelta delta) {
+        if (delta == null || delta.isEmpty()) {
+            return;
+        }
+        try {
+            Instant now = Instant.now();
+            BulkOperations ops = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, PipelineCounter.class);
+            delta.byMemberRef().forEach((memberRef, counters) -> counters.forEach((key, amount) -> ops.upsert(
+                    Query.query(Criteria.where("_id").is(key.id(memberRef))),
+                    new Update()
+                            .inc("count", amount)
+                            .set("updatedAt", now)
+                            .setOnInsert("memberRef", memberRef)
+                            .setOnInsert("kind", key.kind())
+                            .setOnInsert("source", key.source())
+                            .setOnInsert("status", key.status())
+                            .setOnInsert("excluded", key.excluded())
+                            .setOnInsert("reason", key.reason())
+            )));
+            ops.execute();
+        } catch (RuntimeException error) {
+            log.warn("Pipeline counter update failed, left to reconciliation: memberRefs={}, error={}",
+                    delta.byMemberRef().keySet(), error.getMessage());
+        }
+    }
+
+    /** Counters summed over {@code memberRefs}. */
+    public PipelineCounterTotals totals(Collection<String> memberRefs) {
+        if (memberRefs == null || memberRefs.isEmpty()) {
+            return PipelineCounterTotals.empty();
+        }
+        return sumCounters(Aggregation.match(Criteria.where("memberRef").in(memberRefs)));
+    }
+
+    /** Counters summed over every member ref. */
+    public PipelineCounterTotals totals() {
+        return sumCounters(null);
+    }
+
+    /**
+     * Recounts {@code memberRefs} from the source collections, overwrites their counters and
+     * returns the fresh totals.
+     */
+    public PipelineCounterTotals reconcile(Collection<String> memberRefs) {
+        if (memberRefs == null || memberRefs.isEmpty()) {
+            return PipelineCounterTotals.empty();
+        }
+        Map<String, Map<PipelineCounterKey, Long>> recounted = new LinkedHashMap<>();
+        Criteria members = Criteria.where("walletAddress").in(memberRefs);
+        for (Document row : aggregate(NormalizedTransaction.class, Aggregation.newAggregation(
+                Aggregation.match(members),
+                Aggregation.group("walletAddress", "source", "status", "excludedFromAccounting").count().as("count")
+        ))) {
+            Document id = row.get("_id", Document.class);
+            add(recounted, id.getString("walletAddress"), PipelineCounterKey.normalized(
+                    id.getString("source"),
+                    id.getString("status"),
+                    Boolean.TRUE.equals(id.getBoolean("excludedFromAccounting"))
+            ), row);
+        }
+        for (Document row : aggregate(NormalizedTransaction.class, Aggregation.newAggregation(
+                Aggregation.match(new Criteria().andOperator(
+                        members,
+                        Criteria.where("missingDataReasons").in(PipelineCounterKey.TRACKED_REASONS)
+                )),
+                Aggregation.unwind("missingDataReasons"),
+                Aggregation.match(Criteria.where("missingDataReasons").in(PipelineCounterKey.TRACKED_REASONS)),
+                Aggregation.group("walletAddress", "source", "missingDataReasons").count().as("count")
+        ))) {
+            Document id = row.get("_id", Document.class);
+            add(recounted, id.getString("walletAddress"),
+                    PipelineCounterKey.reason(id.getString("source"), id.getString("missingDataReasons")), row);
+        }
+        for (Document row : mongoOperations.aggregate(Aggregation.newAggregation(
+                Aggregation.match(members),
+                Aggregation.group("walletAddress", "normalizationStatus").count().as("count")
+        ), RAW_COLLECTION, Document.class).getMappedResults()) {
+            Document id = row.get("_id", Document.class);
+            add(recounted, id.getString("walletAddress"), PipelineCounterKey.raw(id.getString("normalizationStatus")), row);
+        }
+        write(memberRefs, recounted);
+
+        Map<PipelineCounterKey, Long> totals = new LinkedHashMap<>();
+        recounted.values().forEach(counters -> counters.forEach((key, count) -> totals.merge(key, count, Long::sum)));
+        log.debug("Pipeline counters reconciled: memberRefs={}, buckets={}", memberRefs.size(), totals.size());
+        return new PipelineCounterTotals(totals);
+    }
+
+    private void write(Collection<String> memberRefs, Map<String, Map<PipelineCounterKey, Long>> recounted) {
+        Instant now = Instant.now();
+        List<String> keptIds = new ArrayList<>();
+        BulkOperations ops = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, PipelineCounter.class);
+        recounted.forEach((memberRef, counters) -> counters.forEach((key, count) -> {
+            PipelineCounter counter = new PipelineCounter();
+            counter.setId(key.id(memberRef));
+            counter.setMemberRef(memberRef);
+            counter.setKind(key.kind());
+            counter.setSource(key.source());
+            counter.setStatus(key.status());
+            counter.setExcluded(key.excluded());
+            counter.setReason(key.reason());
+            counter.setCount(count);
+            counter.setUpdatedAt(now);
+            counter.setReconciledAt(now);
+            keptIds.add(counter.getId());
+            ops.replaceOne(Query.query(Criteria.where("_id").is(counter.getId())), counter, FindAndReplaceOptions.options().upsert());
+        }));
+        if (!keptIds.isEmpty()) {
+            ops.execute();
+        }
+        mongoOperations.remove(
+                Query.query(Criteria.where("memberRef").in(memberRefs).and("_id").nin(keptIds)),
+                PipelineCounter.class
+        );
+    }
+
+    private PipelineCounterTotals sumCounters(MatchOperation match) {
+        Aggregation aggregation = match == null
+                ? Aggregation.newAggregation(groupByKey())
+                : Aggregation.newAggregation(match, groupByKey());
+        Map<PipelineCounterKey, Long> totals = new LinkedHashMap<>();
+        for (Document row : aggregate(PipelineCounter.class, aggregation)) {
+            Document id = row.get("_id", Document.class);
+            String kind = id.getString("kind");
+            if (kind == null) {
+                continue;
+            }
+            PipelineCounterKey key = new PipelineCounterKey(
+                    PipelineCounter.Kind.valueOf(kind),
+                    id.getString("source"),
+                    id.getString("status"),
+                    Boolean.TRUE.equals(id.getBoolean("excluded")),
+                    id.getString("reason")
+            );
+            totals.merge(key, ((Number) row.get("count")).longValue(), Long::sum);
+        }
+        return new PipelineCounterTotals(totals);
+    }
+
+    private static GroupOperation groupByKey() {
+        return Aggregation.group("kind", "source", "status", "excluded", "reason").sum("count").as("count");
+    }
+
+    private List<Document> aggregate(Class<?> inputType, Aggregation aggregation) {
+        return mongoOperations.aggregate(aggregation, inputType, Document.class).getMappedResults();
+    }
+
+    private static void add(
+            Map<String, Map<PipelineCounterKey, Long>> recounted,
+            String walletAddress,
+            PipelineCounterKey key,
+            Document row
+    ) {
+        long count = ((Number) row.get("count")).longValue();
+        recounted.computeIfAbsent(PipelineCounterDelta.memberRef(walletAddress), ignored -> new LinkedHashMap<>())
+                .merge(key, count, Long::sum);
+    }
+}
@@ -0,0 +1,68 @@
+package com.walletradar.platform.telemetry;
+
+import com.walletradar.domain.pipeline.PipelineCounter;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionSource;
+import com.walletradar.domain.transaction.normalized.NormalizedTransactionStatus;
+import com.walletradar.domain.transaction.raw.NormalizationStatus;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Counter values summed over a member set (or over all members), queried by bucket.
+ */
+public record PipelineCounterTotals(Map<PipelineCounterKey, Long> counts) {
+
+    public enum Accounting {
+        ANY,
+        ACTIVE,
+        EXCLUDED
+    }
+
+    public static PipelineCounterTotals empty() {
+        return new PipelineCounterTotals(Map.of());
+    }
+
+    /**
+     * Normalized rows of {@code source} ({@code null} = any) in one of {@code statuses}
+     * (none = any) with the given accounting flag.
+     */
+    public long normalized(
+            NormalizedTransactionSource source,
+            Accounting accounting,
+            NormalizedTransactionStatus... statuses
+    ) {
+        Set<String> statusNames = Stream.of(statuses).map(Enum::name).collect(Collectors.toSet());
+        return sum(key -> key.kind() == PipelineCounter.Kind.NORMALIZED
+                && (source == null || source.name().equals(key.source()))
+                && (statusNames.isEmpty() || statusNames.contains(key.status()))
+                && switch (accounting) {
+                    case ANY -> true;
+                    case ACTIVE -> !key.excluded();
+                    case EXCLUDED -> key.excluded();
+                });
+    }
+
+    /** Normalized rows of {@code source} ({@code null} = any) carrying the tracked {@code reason}. */
+    public long reason(NormalizedTransactionSource source, String reason) {
+        return sum(key -> key.kind() == PipelineCounter.Kind.NORMALIZED_REASON
+                && (source == null || source.name().equals(key.source()))
+                && reason.equals(key.reason()));
+    }
+
+    /** Raw rows in {@code status} ({@code null} = any). */
+    public long raw(NormalizationStatus status) {
+        return sum(key -> key.kind() == PipelineCounter.Kind.RAW
+                && (status == null || status.name().equals(key.status())));
+    }
+
+    private long sum(Predicate<PipelineCounterKey> filter) {
+        return counts.entrySet().stream()
+                .filter(entry -> filter.test(entry.getKey()))
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+    }
+}
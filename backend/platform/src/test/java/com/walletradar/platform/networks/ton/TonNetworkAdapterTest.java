@@ -12,6 +12,7 @@ import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -44,6 +45,19 @@ class TonNetworkAdapterTest {
         return props;
     }
 
+    private static TonSyncCursorStore noCursorStore() {
+        return new TonSyncCursorStore() {
+            @Override
+            public Optional<TonLtCursor> load(String walletAddress) {
+                return Optional.empty();
+            }
+
+            @Override
+            public void save(String walletAddress, TonLtCursor cursor) {
+            }
+        };
+    }
+
     private static String txResponse() {
         return "{\"transactions\":[{"
                 + "\"hash\":\"" + OWNER_TX_HASH + "\","
@@ -75,7 +89,7 @@ class TonNetworkAdapterTest {
                 .withTransactions(txResponse())
                 .withJetton(jettonResponse(JETTON_TX_HASH, TRACE_ID))
                 .build();
-        TonNetworkAdapter adapter = new TonNetworkAdapter(rpc, properties(), objectMapper);
+        TonNetworkAdapter adapter = new TonNetworkAdapter(rpc, properties(), objectMapper, noCursorStore());
 
         List<RawTransaction> raws = adapter.fetchTransactions(OWNER, NetworkId.TON, 0, 0);
 
@@ -94,7 +108,7 @@ class TonNetworkAdapterTest {
                 // trace_id blank → only the (matching) transaction_hash can correlate
                 .withJetton(jettonResponse(OWNER_TX_HASH, ""))
                 .build();
-        TonNetworkAdapter adapter = new TonNetworkAdapter(rpc, properties(), objectMapper);
+        TonNetworkAdapter adapter = new TonNetworkAdapter(rpc, properties(), objectMapper, noCursorStore());
 
         List<RawTransaction> raws = adapter.fetchTransactions(OWNER, NetworkId.TON, 0, 0);
 
@@ -111,7 +125,7 @@ class TonNetworkAdapterTest {
                 .withJettonError(new RpcException("TON Center HTTP 500"))
                 .withJetton(jettonResponse(JETTON_TX_HASH, TRACE_ID))
                 .build();
-        TonNetworkAdapter adapter = new TonNetworkAdapter(rpc, properties(), objectMapper);
+        TonNetworkAdapter adapter = new TonNetworkAdapter(rpc, properties(), objectMapper, noCursorStore());
 
         List<RawTransaction> raws = adapter.fetchTransactions(OWNER, NetworkId.TON, 0, 0);
 
@@ -129,7 +143,7 @@ class TonNetworkAdapterTest {
                 .withJettonError(new RpcException("timeout: context deadline exceeded"))
                 .withJettonError(new RpcException("timeout: context deadline exceeded"))
                 .build();
-        TonNetworkAdapter adapter = new TonNetworkAdapter(rpc, properties(), objectMapper);
+        TonNetworkAdapter adapter = new TonNetworkAdapter(rpc, properties(), objectMapper, noCursorStore());
 
         List<RawTransaction> raws = adapter.fetchTransactions(OWNER, NetworkId.TON, 0, 0);
 
@@ -147,7 +161,7 @@ class TonNetworkAdapterTest {
                 .withJetton(emptyJettonResponse())
                 .withJetton(emptyJettonResponse())
                 .build();
-        TonNetworkAdapter adapter = new TonNetworkAdapter(rpc, properties(), objectMapper);
+        TonNetworkAdapter adapter = new TonNetworkAdapter(rpc, properties(), objectMapper, noCursorStore());
 
         List<RawTransaction> raws = adapter.fetchTransactions(OWNER, NetworkId.TON, 0, 0);
 
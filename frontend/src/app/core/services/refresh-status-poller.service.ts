@@ -1,7 +1,7 @@
 import { DestroyRef, Injectable } from '@angular/core';
 import { takeUntilDestroyed } from '@angular/core/rxjs-interop';
 import { EMPTY, Observable, Subscription, expand, switchMap, timer } from 'rxjs';
-import { catchError } from 'rxjs/operators';
+import { catchError, ignoreElements, tap } from 'rxjs/operators';
 
 import { RefreshStatusResponse } from '../models/wallet-api.models';
 
@@ -15,12 +15,21 @@ export interface RefreshStatusPollCallbacks {
 
 @Injectable({ providedIn: 'root' })
 export class RefreshStatusPollerService {
+  /**
+   * Polls `fetchStatus` every 3s while work is active and every 25s otherwise. With a
+   * `stream`, pushed statuses are used instead and polling only starts if the stream errors.
+   */
   startAdaptivePolling(
     fetchStatus: () => Observable<RefreshStatusResponse>,
     callbacks: RefreshStatusPollCallbacks,
-    destroyRef: DestroyRef
+    destroyRef: DestroyRef,
+    stream?: Observable<RefreshStatusResponse>
   ): Subscription {
     let previous: RefreshStatusResponse | null = null;
+    const apply = (status: RefreshStatusResponse): void => {
+      callbacks.onStatus(status, previous);
+      previous = status;
+    };
 
     const pollOnce = (): Observable<RefreshStatusResponse> =>
       fetchStatus().pipe(
@@ -33,14 +42,21 @@ export class RefreshStatusPollerService {
         })
       );
 
-    return pollOnce().pipe(
+    const polling$ = pollOnce().pipe(
       expand((status) => {
-        callbacks.onStatus(status, previous);
-        previous = status;
+        apply(status);
         const delayMs = status.anyActive ? ACTIVE_POLL_MS : KEEPALIVE_POLL_MS;
         return timer(delayMs).pipe(switchMap(() => pollOnce()));
-      }),
-      takeUntilDestroyed(destroyRef)
-    ).subscribe();
+      })
+    );
+    const source$ = stream === undefined
+      ? polling$
+      : stream.pipe(
+        tap(apply),
+        ignoreElements(),
+        catchError(() => polling$)
+      );
+
+    return source$.pipe(takeUntilDestroyed(destroyRef)).subscribe();
   }
 }
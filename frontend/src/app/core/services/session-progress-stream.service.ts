@@ -0,0 +1,77 @@
+import { Injectable } from '@angular/core';
+import { Observable, share, throwError } from 'rxjs';
+import { filter, map } from 'rxjs/operators';
+
+import { environment } from '../../../environments/environment';
+import { RefreshStatusResponse, SessionBackfillStatusResponse } from '../models/wallet-api.models';
+
+interface SessionProgressEventPayloads {
+  'backfill-status': SessionBackfillStatusResponse;
+  'lp-refresh-status': RefreshStatusResponse;
+  'lending-refresh-status': RefreshStatusResponse;
+}
+
+export type SessionProgressEventName = keyof SessionProgressEventPayloads;
+
+interface SessionProgressMessage {
+  readonly event: SessionProgressEventName;
+  readonly data: unknown;
+}
+
+const EVENT_NAMES: ReadonlyArray<SessionProgressEventName> = [
+  'backfill-status',
+  'lp-refresh-status',
+  'lending-refresh-status',
+];
+
+/**
+ * Server-sent session progress. One EventSource per session is shared by every subscriber in the
+ * tab and closed with the last one. The stream errors when the connection drops, so callers can
+ * switch to polling instead of waiting on the browser's reconnect loop.
+ */
+@Injectable({ providedIn: 'root' })
+export class SessionProgressStreamService {
+  private readonly sessionsEndpoint = `${environment.apiBaseUrl}/sessions`;
+  private readonly streams = new Map<string, Observable<SessionProgressMessage>>();
+
+  events<E extends SessionProgressEventName>(
+    sessionId: string,
+    event: E
+  ): Observable<SessionProgressEventPayloads[E]> {
+    return this.streamFor(sessionId).pipe(
+      filter((message) => message.event === event),
+      map((message) => message.data as SessionProgressEventPayloads[E])
+    );
+  }
+
+  private streamFor(sessionId: string): Observable<SessionProgressMessage> {
+    const existing = this.streams.get(sessionId);
+    if (existing !== undefined) {
+      return existing;
+    }
+    const stream = this.open(sessionId).pipe(share());
+    this.streams.set(sessionId, stream);
+    return stream;
+  }
+
+  private open(sessionId: string): Observable<SessionProgressMessage> {
+    if (typeof EventSource === 'undefined') {
+      return throwError(() => new Error('EventSource is not supported'));
+    }
+    const url = `${this.sessionsEndpoint}/${encodeURIComponent(sessionId)}/progress-stream`;
+    return new Observable<SessionProgressMessage>((subscriber) => {
+      const source = new EventSource(url, { withCredentials: true });
+      for (const event of EVENT_NAMES) {
+        source.addEventListener(event, (message: MessageEvent<string>) => {
+          try {
+            subscriber.next({ event, data: JSON.parse(message.data) });
+          } catch (error) {
+            subscriber.error(error);
+          }
+        });
+      }
+      source.onerror = () => subscriber.error(new Error('Session progress stream dropped'));
+      return () => source.close();
+    });
+  }
+}
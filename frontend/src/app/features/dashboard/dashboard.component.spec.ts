@@ -5,6 +5,7 @@ import { of, throwError } from 'rxjs';
 
 import { EMPTY_DASHBOARD_DATA } from '../../core/data/dashboard.constants';
 import { DashboardDataService } from '../../core/services/dashboard-data.service';
+import { SessionProgressStreamService } from '../../core/services/session-progress-stream.service';
 import { WalletApiService } from '../../core/services/wallet-api.service';
 import { SessionStorageService } from '../../core/services/session-storage.service';
 import { SessionBackfillStatusResponse, SessionRefreshResponse, SessionTransactionsResponse } from '../../core/models/wallet-api.models';
@@ -189,6 +190,13 @@ describe('DashboardComponent (wallet submit flow)', () => {
           provide: SessionStorageService,
           useValue: sessionStorageServiceSpy,
         },
+        {
+          // No server-sent stream in unit tests: the dashboard falls back to polling.
+          provide: SessionProgressStreamService,
+          useValue: {
+            events: () => throwError(() => new Error('stream unavailable')),
+          },
+        },
       ],
     }).compileComponents();
   });
@@ -52,6 +52,7 @@ import {
   SUPPORTED_EVM_NETWORKS,
 } from '../../core/models/wallet-api.models';
 import { isCexAddress, isOnChainAddress, parseSubAccount, parseVenueId } from '../../core/utils/wallet-ref.util';
+import { SessionProgressStreamService } from '../../core/services/session-progress-stream.service';
 import { WalletApiService } from '../../core/services/wallet-api.service';
 import { SessionStorageService } from '../../core/services/session-storage.service';
 import {
@@ -247,6 +248,7 @@ const BRIDGE_STATUSES = new Set<SessionBridgeStatus>(['BRIDGE_OUT', 'BRIDGE_IN',
 export class DashboardComponent {
   private readonly dashboardDataService = inject(DashboardDataService);
   private readonly walletApiService = inject(WalletApiService);
+  private readonly sessionProgressStream = inject(SessionProgressStreamService);
   private readonly sessionStorageService = inject(SessionStorageService);
   private readonly destroyRef = inject(DestroyRef);
   private readonly router = inject(Router);
@@ -1529,20 +1531,25 @@ export class DashboardComponent {
 
   private startBackfillPolling(sessionId: string): void {
     this.stopBackfillPolling();
-    this.backfillPollingSubscription = timer(0, 3000)
-      .pipe(
-        takeUntilDestroyed(this.destroyRef),
-        switchMap(() =>
-          this.walletApiService.getSessionBackfillStatus(sessionId).pipe(
-            catchError((error: HttpErrorResponse) => {
-              if (error.status === 404) {
-                this.clearSessionTracking(true);
-              }
-              return EMPTY;
-            })
-          )
+    const polling$ = timer(0, 3000).pipe(
+      switchMap(() =>
+        this.walletApiService.getSessionBackfillStatus(sessionId).pipe(
+          catchError((error: HttpErrorResponse) => {
+            if (error.status === 404) {
+              this.clearSessionTracking(true);
+            }
+            return EMPTY;
+          })
         )
       )
+    );
+    // Pushed updates first; poll only once the stream has dropped.
+    this.backfillPollingSubscription = this.sessionProgressStream
+      .events(sessionId, 'backfill-status')
+      .pipe(
+        catchError(() => polling$),
+        takeUntilDestroyed(this.destroyRef)
+      )
       .subscribe((status) => {
         this.sessionBackfillStatus.set(status);
         const pipelineRunning = this.isPipelineRunning(status);
@@ -22,6 +22,7 @@ import {
 import { EvmNetworkId, RefreshStateItemResponse, RefreshStatusResponse } from '../../core/models/wallet-api.models';
 import { LendingDataService } from '../../core/services/lending-data.service';
 import { RefreshStatusPollerService } from '../../core/services/refresh-status-poller.service';
+import { SessionProgressStreamService } from '../../core/services/session-progress-stream.service';
 import { WalletApiService } from '../../core/services/wallet-api.service';
 
 interface LendingCycleSection {
@@ -54,6 +55,7 @@ export class LendingPageComponent implements OnChanges, OnDestroy {
   private readonly lendingDataService = inject(LendingDataService);
   private readonly walletApiService = inject(WalletApiService);
   private readonly refreshStatusPoller = inject(RefreshStatusPollerService);
+  private readonly sessionProgressStream = inject(SessionProgressStreamService);
   private readonly destroyRef = inject(DestroyRef);
 
   @Input() sessionId: string | null = null;
@@ -102,7 +104,8 @@ export class LendingPageComponent implements OnChanges, OnDestroy {
       {
         onStatus: (status, previous) => this.applyRefreshStatus(status, previous),
       },
-      this.destroyRef
+      this.destroyRef,
+      this.sessionProgressStream.events(sessionId, 'lending-refresh-status')
     );
   }
 
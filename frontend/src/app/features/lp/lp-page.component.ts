@@ -25,6 +25,7 @@ import {
 import { OnChainWalletNetworkId, RefreshStateItemResponse, RefreshStatusResponse } from '../../core/models/wallet-api.models';
 import { LpDataService } from '../../core/services/lp-data.service';
 import { RefreshStatusPollerService } from '../../core/services/refresh-status-poller.service';
+import { SessionProgressStreamService } from '../../core/services/session-progress-stream.service';
 import { WalletApiService } from '../../core/services/wallet-api.service';
 import { CopyHashComponent } from '../../core/components/copy-hash/copy-hash.component';
 import { FilterSidebarComponent } from '../../core/components/filter-sidebar/filter-sidebar.component';
@@ -89,6 +90,7 @@ export class LpPageComponent implements OnChanges {
   private readonly lpDataService = inject(LpDataService);
   private readonly walletApiService = inject(WalletApiService);
   private readonly refreshStatusPoller = inject(RefreshStatusPollerService);
+  private readonly sessionProgressStream = inject(SessionProgressStreamService);
   private readonly destroyRef = inject(DestroyRef);
 
   @Input() sessionId: string | null = null;
@@ -132,7 +134,8 @@ export class LpPageComponent implements OnChanges {
       {
         onStatus: (status, previous) => this.applyRefreshStatus(status, previous),
       },
-      this.destroyRef
+      this.destroyRef,
+      this.sessionProgressStream.events(sessionId, 'lp-refresh-status')
     );
   }
 